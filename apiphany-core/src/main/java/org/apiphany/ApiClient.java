@@ -14,6 +14,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -28,6 +29,8 @@ import org.apiphany.logging.Slf4jLoggerAdapter;
 import org.apiphany.meters.BasicMeters;
 import org.apiphany.meters.MeterFactory;
 import org.apiphany.security.AuthenticationType;
+import org.apiphany.tracing.Span;
+import org.apiphany.tracing.Tracer;
 import org.morphix.lang.JavaArrays;
 import org.morphix.lang.JavaObjects;
 import org.morphix.lang.Messages;
@@ -64,6 +67,19 @@ public class ApiClient implements AutoCloseable {
 	 */
 	public static final String EMPTY_BASE_URL = "";
 
+	/**
+	 * Marks the classes for which the type objects were initialized. The type objects are static so the class hierarchy
+	 * only needs to be scanned once per class and not on every {@link ApiClient} construction.
+	 */
+	private static final ClassValue<Boolean> TYPE_OBJECTS_INITIALIZED = new ClassValue<>() {
+
+		@Override
+		protected Boolean computeValue(final Class<?> cls) {
+			initializeTypeObjects(cls);
+			return Boolean.TRUE;
+		}
+	};
+
 	/**
 	 * The URL as string as the base path. This is an optional field and is only used when it is not defined in the exchange
 	 * clients {@link ClientProperties#getBaseUrl()}, in which case the API client will use the base URL defined here.
@@ -90,6 +106,12 @@ public class ApiClient implements AutoCloseable {
 	 */
 	private Retry retry = Retry.NO_RETRY;
 
+	/**
+	 * Tracer for API calls. By default, the no-op tracer is used which starts no new traces, but exchanges are still
+	 * traced as child spans when a span is already current on the calling thread.
+	 */
+	private Tracer tracer = Tracer.NOOP;
+
 	/**
 	 * Metrics enable/disable flag.
 	 */
@@ -141,7 +163,7 @@ public class ApiClient implements AutoCloseable {
 		this.baseUrl = baseUrl;
 		this.exchangeClientsMap.putAll(exchangeClientsMap);
 
-		initializeTypeObjects(this);
+		TYPE_OBJECTS_INITIALIZED.get(getClass());
 	}
 
 	/**
@@ -393,11 +415,11 @@ public class ApiClient implements AutoCloseable {
 	/**
 	 * Initializes the defined type objects in derived classes and initialized with {@link #typeObject()}.
 	 *
-	 * @param apiClient API Client
+	 * @param apiClientClass API client class
 	 */
-	private static void initializeTypeObjects(final ApiClient apiClient) {
+	private static void initializeTypeObjects(final Class<?> apiClientClass) {
 		Predicate<Field> predicate = MemberPredicates.withAllModifiers(Modifier::isStatic, Modifier::isFinal);
-		Fields.getAllDeclaredInHierarchy(apiClient.getClass(), predicate)
+		Fields.getAllDeclaredInHierarchy(apiClientClass, predicate)
 				.stream()
 				.filter(field -> Objects.equals(field.getType(), GenericClass.class))
 				.forEach(ApiClient::initializeTypeObject);
@@ -602,18 +624,140 @@ public class ApiClient implements AutoCloseable {
 		Retry activeRetry = getActiveRetry(apiRequest);
 		DurationAccumulator durationAccumulator = DurationAccumulator.of();
 
-		ApiResponse<T> apiResponse = activeRetry.until(
-				() -> exchange(apiRequest, exchangeClient, activeMeters),
-				ApiResponse::isSuccessful,
-				(response, duration) -> logExchange(getClass(), exchangeClient, apiRequest, response, duration),
-				e -> activeMeters.retries().increment(),
-				durationAccumulator);
+		Tracer activeTracer = getTracer();
+		Span exchangeSpan = activeTracer.isEnabled() || null != Tracer.currentSpan()
+				? activeTracer.startSpan(() -> spanName(apiRequest))
+				: Span.NOOP;
+		if (exchangeSpan.isRecording()) {
+			exchangeSpan.tag(Span.Tag.METHOD, Nullables.apply(apiRequest.getMethod(), RequestMethod::value))
+					.tag(Span.Tag.URL_TEMPLATE, apiRequest.getUrlTemplate());
+		}
+		ApiResponse<T> apiResponse = null;
+		try (Tracer.Scope scope = exchangeSpan.makeCurrent()) {
+			AtomicInteger attempt = new AtomicInteger();
+			apiResponse = activeRetry.until(
+					() -> exchange(apiRequest, exchangeClient, activeMeters, attempt.incrementAndGet()),
+					ApiResponse::isSuccessful,
+					(response, duration) -> logExchange(getClass(), exchangeClient, apiRequest, response, duration),
+					e -> activeMeters.retries().increment(),
+					durationAccumulator);
+		} catch (RuntimeException | Error e) {
+			exchangeSpan.error(e);
+			throw e;
+		} finally {
+			endSpan(exchangeSpan, apiResponse);
+		}
 
 		return isBleedExceptions() && apiResponse.hasException()
 				? Unchecked.reThrow(apiResponse.getException())
 				: apiResponse;
 	}
 
+	/**
+	 * Retrieves the response for the given API request and closes the client if it is ephemeral, the same way
+	 * {@link ApiClientFluentAdapter#retrieve()} does but without building an adapter. If the request has no authentication
+	 * type, the default authentication type of this client is used.
+	 *
+	 * @param <T> response type
+	 *
+	 * @param apiRequest API request object
+	 * @return API response object
+	 * @see ApiRequestTemplate
+	 */
+	@SuppressWarnings("resource")
+	public <T> ApiResponse<T> retrieve(final ApiRequest<T> apiRequest) {
+		if (null == apiRequest.getAuthenticationType()) {
+			apiRequest.authenticationType = computeAuthenticationType();
+		}
+		ExchangeClient exchangeClient = getExchangeClient(apiRequest.getAuthenticationType());
+		ApiResponse<T> response = validateResponse(exchange(apiRequest), apiRequest, exchangeClient);
+		closeIfEphemeral();
+		return response;
+	}
+
+	/**
+	 * Retrieves the response for a request created from the given template bound to the given URI variables.
+	 *
+	 * @param <T> response type
+	 *
+	 * @param template API request template
+	 * @param uriVariables the values for the URL template variables in the order they appear in the template
+	 * @return API response object
+	 * @see ApiRequestTemplate#bind(Object...)
+	 */
+	public <T> ApiResponse<T> retrieve(final ApiRequestTemplate<T> template, final Object... uriVariables) {
+		return retrieve(template.bind(uriVariables));
+	}
+
+	/**
+	 * Sets the URL template of the given template builder by appending the given path template to the resolved base URL,
+	 * see {@link #resolveBaseUrl()}. When no base URL is defined the path template is used as the full URL template. This
+	 * method is used by the API clients generated from {@link org.apiphany.client.annotation.ApiInterface} interfaces to
+	 * build their request templates once per client.
+	 *
+	 * @param <T> response type
+	 *
+	 * @param builder the template builder
+	 * @param pathTemplate the path template, example: {@code /users/{id}}
+	 * @return the given template builder
+	 */
+	protected <T> ApiRequestTemplate.Builder<T> requestTemplate(final ApiRequestTemplate.Builder<T> builder, final String pathTemplate) {
+		String resolvedBaseUrl = resolveBaseUrl();
+		return Strings.isEmpty(resolvedBaseUrl)
+				? builder.urlTemplate(pathTemplate)
+				: builder.pathTemplate(resolvedBaseUrl, pathTemplate);
+	}
+
+	/**
+	 * Resolves the base URL the same way as the fluent syntax does: the {@code baseUrl} from the {@link ClientProperties}
+	 * of the exchange client if this API client has only one exchange client and it is set, otherwise
+	 * {@link #getBaseUrl()}.
+	 *
+	 * @return the resolved base URL
+	 */
+	@SuppressWarnings("resource")
+	protected String resolveBaseUrl() {
+		if (1 == exchangeClientsMap.size()) {
+			ExchangeClient exchangeClient = exchangeClientsMap.values().iterator().next().unwrap();
+			ClientProperties properties = Nullables.apply(exchangeClient, ExchangeClient::getClientProperties);
+			String clientBaseUrl = Nullables.apply(properties, ClientProperties::getBaseUrl);
+			if (Strings.isNotEmpty(clientBaseUrl)) {
+				return clientBaseUrl;
+			}
+		}
+		return baseUrl;
+	}
+
+	/**
+	 * Validates the API response. This method checks if the response is null or if the response body is not of the expected
+	 * type and in both cases it builds an error response using the {@link #buildErrorResponse} method.
+	 *
+	 * @param <T> response type
+	 *
+	 * @param response the API response to validate
+	 * @param apiRequest the API request object
+	 * @param exchangeClient the exchange client that did the request
+	 * @return the given response if it is valid or an error response if the given response is invalid
+	 */
+	protected <T> ApiResponse<T> validateResponse(final ApiResponse<T> response, final ApiRequest<T> apiRequest,
+			final ExchangeClient exchangeClient) {
+		if (null == response) {
+			var exception = new IllegalStateException("Received null response from exchange client. Exchange client: "
+					+ exchangeClient.getClass().getName() + " must return a non-null response even in case of errors.");
+			return buildErrorResponse(exception, apiRequest, exchangeClient);
+		}
+		T body = response.getBody();
+		if (null == body) {
+			return response;
+		}
+		if (apiRequest.hasClassType() && !apiRequest.getClassResponseType().isInstance(body)) {
+			var exception = new IllegalStateException("Received response body of type: " + body.getClass()
+					+ " but expected type was: " + apiRequest.getClassResponseType());
+			return buildErrorResponse(exception, apiRequest, exchangeClient);
+		}
+		return response;
+	}
+
 	/**
 	 * Asynchronous API call for resource.
 	 * <p>
@@ -625,26 +769,117 @@ public class ApiClient implements AutoCloseable {
 	 * @return API response object
 	 */
 	public <T> CompletableFuture<ApiResponse<T>> asyncExchange(final ApiRequest<T> apiRequest) {
-		return CompletableFuture.supplyAsync(() -> exchange(apiRequest));
+		Span parentSpan = Tracer.currentSpan();
+		return CompletableFuture.supplyAsync(() -> {
+			try (Tracer.Scope scope = Tracer.scope(parentSpan)) {
+				return exchange(apiRequest);
+			}
+		});
 	}
 
 	/**
 	 * API call for resource with meters on the given exchange client. This method never returns null, it always returns an
 	 * API response object, even in case of exceptions during the exchange, then the API response object contains the
-	 * exception details.
+	 * exception details. When the meters are published, the payload sizes measured by the exchange client are also
+	 * recorded with the same tags as the exchange timer.
+	 * <p>
+	 * When the current exchange span is recording, each attempt gets its own child span, so that retries are visible in
+	 * the trace and the downstream service sees the attempt span as its parent. Unsampled exchanges skip the attempt spans
+	 * and propagate the exchange span instead.
 	 *
 	 * @param <T> request body type
 	 *
 	 * @param apiRequest API request object
 	 * @param exchangeClient the exchange client doing the request
 	 * @param activeMeters the metrics for the exchange
+	 * @param attempt the attempt number, starting with 1
 	 * @return API response object
 	 */
-	private <T> ApiResponse<T> exchange(final ApiRequest<T> apiRequest, final ExchangeClient exchangeClient, final BasicMeters activeMeters) {
-		return activeMeters.wrap(
-				() -> exchangeClient.exchange(apiRequest),
-				ApiResponse::safeIsSuccessful,
-				exception -> buildErrorResponse(exception, apiRequest, exchangeClient));
+	private <T> ApiResponse<T> exchange(final ApiRequest<T> apiRequest, final ExchangeClient exchangeClient, final BasicMeters activeMeters,
+			final int attempt) {
+		Span exchangeSpan = Tracer.currentSpan();
+		Span attemptSpan = null != exchangeSpan && exchangeSpan.isRecording()
+				? getTracer().startSpan(exchangeSpan.getName()).tag(Span.Tag.ATTEMPT, attempt)
+				: Span.NOOP;
+		ApiResponse<T> apiResponse = null;
+		try (Tracer.Scope scope = attemptSpan.makeCurrent()) {
+			apiResponse = activeMeters.wrap(
+					() -> exchangeClient.exchange(apiRequest),
+					ApiResponse::safeIsSuccessful,
+					exception -> buildErrorResponse(exception, apiRequest, exchangeClient),
+					response -> exchangeTags(apiRequest, response));
+		} catch (RuntimeException | Error e) {
+			attemptSpan.error(e);
+			throw e;
+		} finally {
+			endSpan(attemptSpan, apiResponse);
+		}
+		if (activeMeters.isPublished() && null != apiResponse) {
+			activeMeters.record(apiResponse.getPayloadSize(), exchangeTags(apiRequest, apiResponse));
+		}
+		return apiResponse;
+	}
+
+	/**
+	 * Returns the name of the exchange span for the given request. The default name is the request method followed by the
+	 * URL template when the request was built from one, the actual URL is never used because span names must have a
+	 * bounded cardinality. This method is only called for sampled exchanges.
+	 *
+	 * @param <T> response body type
+	 *
+	 * @param apiRequest the API request object
+	 * @return the span name
+	 */
+	protected <T> String spanName(final ApiRequest<T> apiRequest) {
+		RequestMethod method = apiRequest.getMethod();
+		String methodName = null != method ? method.value() : BasicMeters.Tag.UNKNOWN;
+		String urlTemplate = apiRequest.getUrlTemplate();
+		return null != urlTemplate ? methodName + " " + urlTemplate : methodName;
+	}
+
+	/**
+	 * Tags the given span with the outcome of the exchange and ends it, it is called in a {@code finally} block so the span
+	 * is also ended when the exchange throws, in which case the response is {@code null} and the span was already marked
+	 * as failed with the thrown exception.
+	 *
+	 * @param <T> response body type
+	 *
+	 * @param span the span to end
+	 * @param apiResponse the API response object, can be {@code null}
+	 */
+	private static <T> void endSpan(final Span span, final ApiResponse<T> apiResponse) {
+		if (span.isRecording() && null != apiResponse) {
+			span.tag(Span.Tag.STATUS_CODE, apiResponse.getStatusCode());
+			if (apiResponse.hasException()) {
+				span.error(apiResponse.getException());
+			}
+		}
+		span.end();
+	}
+
+	/**
+	 * Returns the tags recorded on the exchange timer for the given request and response. The default tags are the URL
+	 * template, the request method and the response status class (see {@link BasicMeters.Tag}). The actual URL is never
+	 * used as a tag value because it usually contains identifiers which would create a new time series for every request,
+	 * so when the request was not built from a URL template the {@link BasicMeters.Tag#UNKNOWN} value is used instead.
+	 * <p>
+	 * Implementing clients can override this method to add more tags, but all tag values must have a bounded cardinality.
+	 *
+	 * @param <T> response body type
+	 *
+	 * @param apiRequest the API request object
+	 * @param apiResponse the API response object, can be {@code null}
+	 * @return the exchange tags as key/value pairs
+	 */
+	protected <T> List<String> exchangeTags(final ApiRequest<T> apiRequest, final ApiResponse<T> apiResponse) {
+		String uri = Nullables.nonNullOrDefault(apiRequest.getUrlTemplate(), BasicMeters.Tag.UNKNOWN);
+		RequestMethod method = apiRequest.getMethod();
+		String methodName = null != method ? method.value() : BasicMeters.Tag.UNKNOWN;
+		int statusCode = null != apiResponse ? apiResponse.getStatusCode() : Status.UNKNOWN;
+		return List.of(
+				BasicMeters.Tag.URI, uri,
+				BasicMeters.Tag.METHOD, methodName,
+				BasicMeters.Tag.STATUS, BasicMeters.Tag.statusClass(statusCode));
 	}
 
 	/**
@@ -764,6 +999,24 @@ public class ApiClient implements AutoCloseable {
 		this.retry = retry;
 	}
 
+	/**
+	 * Returns the tracer.
+	 *
+	 * @return the tracer
+	 */
+	public Tracer getTracer() {
+		return tracer;
+	}
+
+	/**
+	 * Sets the tracer for all requests.
+	 *
+	 * @param tracer tracer
+	 */
+	public void setTracer(final Tracer tracer) {
+		this.tracer = Nullables.nonNullOrDefault(tracer, Tracer.NOOP);
+	}
+
 	/**
 	 * Returns the metrics enabled flag.
 	 *
@@ -16,6 +16,7 @@ import org.apiphany.header.Header;
 import org.apiphany.header.HeaderFunction;
 import org.apiphany.header.Headers;
 import org.apiphany.http.URIEncoder;
+import org.apiphany.http.URITemplate;
 import org.apiphany.io.OneShotInputStreamSupplier;
 import org.apiphany.lang.Strings;
 import org.apiphany.lang.annotation.Ignored;
@@ -117,8 +118,8 @@ public class ApiClientFluentAdapter extends ApiRequest<Object> {
 	}
 
 	/**
-	 * Validates the API response. This method checks if the response is null or if the response body is not of the expected
-	 * type and in both cases it builds an error response using the {@link ApiClient#buildErrorResponse} method.
+	 * Validates the API response using the underlying API client, see
+	 * {@link ApiClient#validateResponse(ApiResponse, ApiRequest, ExchangeClient)}.
 	 *
 	 * @param <T> response type
 	 *
@@ -126,21 +127,7 @@ public class ApiClientFluentAdapter extends ApiRequest<Object> {
 	 * @return the given response if it is valid or an error response if the given response is invalid
 	 */
 	protected <T> ApiResponse<T> validateResponse(final ApiResponse<T> response) {
-		if (null == response) {
-			var exception = new IllegalStateException("Received null response from exchange client. Exchange client: "
-					+ exchangeClient.getClass().getName() + " must return a non-null response even in case of errors.");
-			return buildErrorResponse(exception);
-		}
-		T body = response.getBody();
-		if (null == body) {
-			return response;
-		}
-		if (hasClassType() && !getClassResponseType().isInstance(body)) {
-			var exception = new IllegalStateException("Received response body of type: " + body.getClass()
-					+ " but expected type was: " + getClassResponseType());
-			return buildErrorResponse(exception);
-		}
-		return response;
+		return apiClient.validateResponse(response, JavaObjects.cast(this), exchangeClient);
 	}
 
 	/**
@@ -211,6 +198,28 @@ public class ApiClientFluentAdapter extends ApiRequest<Object> {
 			throw new IllegalArgumentException("url cannot be null or empty");
 		}
 		this.url = url;
+		this.urlTemplate = null;
+		return this;
+	}
+
+	/**
+	 * Sets the URL by expanding the given URL template with the given URI variables, the template is also kept on the
+	 * request to be used as a low cardinality meter tag. The URI variables will be encoded if {@link #isUrlEncoded()} is
+	 * true otherwise they will be used as they are.
+	 * <p>
+	 * Example: {@code urlTemplate("http://localhost/api/users/{id}", id)}.
+	 *
+	 * @param urlTemplate the URL template
+	 * @param uriVariables the values for the template variables in the order they appear in the template
+	 * @return this
+	 * @see URITemplate#expand(String, Charset, Object...)
+	 */
+	public ApiClientFluentAdapter urlTemplate(final String urlTemplate, final Object... uriVariables) {
+		if (Strings.isEmpty(urlTemplate)) {
+			throw new IllegalArgumentException("urlTemplate cannot be null or empty");
+		}
+		url(URITemplate.expand(urlTemplate, isUrlEncoded() ? charset : null, uriVariables));
+		this.urlTemplate = urlTemplate;
 		return this;
 	}
 
@@ -232,8 +241,12 @@ public class ApiClientFluentAdapter extends ApiRequest<Object> {
 			if (Strings.isEmpty(sanitized)) {
 				continue;
 			}
-			String segment = isUrlEncoded() ? URIEncoder.encodePath(sanitized, charset) : sanitized;
-			sb.append('/').append(segment);
+			sb.append('/');
+			if (isUrlEncoded()) {
+				URIEncoder.encodePath(sb, sanitized, charset);
+			} else {
+				sb.append(sanitized);
+			}
 		}
 		return url(sb.toString());
 	}
@@ -279,6 +292,38 @@ public class ApiClientFluentAdapter extends ApiRequest<Object> {
 	 * @return this
 	 */
 	public ApiClientFluentAdapter path(final String... pathSegments) {
+		return url(resolveBaseUrl(), pathSegments);
+	}
+
+	/**
+	 * Sets the URL by concatenating the base URL resolved the same way as in {@link #path(String...)} with the given path
+	 * template expanded with the given URI variables. The resulting URL template is kept on the request to be used as a low
+	 * cardinality meter tag instead of the expanded URL.
+	 * <p>
+	 * Example: {@code pathTemplate("/users/{id}", id)}.
+	 *
+	 * @param pathTemplate the path template
+	 * @param uriVariables the values for the template variables in the order they appear in the template
+	 * @return this
+	 * @see #urlTemplate(String, Object...)
+	 */
+	public ApiClientFluentAdapter pathTemplate(final String pathTemplate, final Object... uriVariables) {
+		String baseUrl = resolveBaseUrl();
+		if (Strings.isEmpty(baseUrl)) {
+			throw new IllegalArgumentException("url cannot be null or empty");
+		}
+		String path = Strings.stripCharacter(pathTemplate, '/');
+		String base = Strings.stripCharacter(baseUrl, '/');
+		return urlTemplate(Strings.isEmpty(path) ? base : base + '/' + path, uriVariables);
+	}
+
+	/**
+	 * Resolves the base URL: {@link #getUrl()} if set, otherwise the {@code baseUrl} from the {@link ClientProperties}
+	 * configured on the underlying {@link ExchangeClient} if set, otherwise {@link ApiClient#getBaseUrl()}.
+	 *
+	 * @return the base URL
+	 */
+	private String resolveBaseUrl() {
 		String baseUrl = url;
 		if (Strings.isEmpty(url)) {
 			ClientProperties properties = Nullables.apply(exchangeClient, ExchangeClient::getClientProperties);
@@ -287,7 +332,7 @@ public class ApiClientFluentAdapter extends ApiRequest<Object> {
 		if (Strings.isEmpty(baseUrl)) {
 			baseUrl = apiClient.getBaseUrl();
 		}
-		return url(baseUrl, pathSegments);
+		return baseUrl;
 	}
 
 	/**
@@ -763,7 +808,7 @@ public class ApiClientFluentAdapter extends ApiRequest<Object> {
 	 * @return this
 	 */
 	public <T> ApiClientFluentAdapter apiRequest(final ApiRequest<T> apiRequest) {
-		return url(apiRequest.getUrl())
+		url(apiRequest.getUrl())
 				.method(apiRequest.getMethod())
 				.headers(apiRequest.getHeaders())
 				.params(apiRequest.getParams())
@@ -773,6 +818,8 @@ public class ApiClientFluentAdapter extends ApiRequest<Object> {
 				.stream(apiRequest.isStream())
 				.meters(apiRequest.getMeters())
 				.retry(apiRequest.getRetry());
+		this.urlTemplate = apiRequest.getUrlTemplate();
+		return this;
 	}
 
 	/**
@@ -1,11 +1,12 @@
 package org.apiphany;
 
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import org.apiphany.header.HeaderMap;
 import org.apiphany.header.Headers;
+import org.apiphany.io.BodyFingerprint;
 import org.apiphany.json.JsonBuilder;
 import org.apiphany.lang.annotation.FieldName;
 import org.apiphany.lang.annotation.Ignored;
@@ -31,6 +32,11 @@ public class ApiMessage<T> implements BodyAware<T> {
 	 */
 	protected final Map<String, List<String>> headers;
 
+	/**
+	 * The fingerprint of the body computed while the body was sent or received, {@code null} when not computed.
+	 */
+	protected BodyFingerprint bodyFingerprint;
+
 	/**
 	 * Constructs an API message object with the given body and headers. The headers must not be {@code null}.
 	 *
@@ -43,10 +49,10 @@ public class ApiMessage<T> implements BodyAware<T> {
 	}
 
 	/**
-	 * Constructs an API message without a body and empty headers.
+	 * Constructs an API message without a body and empty case-insensitive headers, see {@link HeaderMap}.
 	 */
 	protected ApiMessage() {
-		this(null, new LinkedHashMap<>());
+		this(null, new HeaderMap());
 	}
 
 	/**
@@ -108,6 +114,27 @@ public class ApiMessage<T> implements BodyAware<T> {
 		return !hasBody();
 	}
 
+	/**
+	 * Returns the fingerprint (length and hash) of the body computed by the exchange client while the body was sent or
+	 * received, {@code null} when no fingerprint was computed.
+	 *
+	 * @return the body fingerprint
+	 */
+	@Ignored
+	public BodyFingerprint getBodyFingerprint() {
+		return bodyFingerprint;
+	}
+
+	/**
+	 * Sets the body fingerprint. This is set by the exchange clients when body fingerprinting is needed (see
+	 * {@link org.apiphany.logging.Logging.Mode#METADATA}).
+	 *
+	 * @param bodyFingerprint the body fingerprint
+	 */
+	public void setBodyFingerprint(final BodyFingerprint bodyFingerprint) {
+		this.bodyFingerprint = bodyFingerprint;
+	}
+
 	/**
 	 * Returns true if the headers contain the given header with the given value, false otherwise.
 	 *
@@ -6,6 +6,7 @@ import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Map;
 
+import org.apiphany.http.URIBuilder;
 import org.apiphany.lang.Strings;
 import org.apiphany.lang.annotation.FieldName;
 import org.apiphany.lang.annotation.Ignored;
@@ -41,6 +42,13 @@ public class ApiRequest<T> extends ApiMessage<T> {
 	 */
 	protected String url;
 
+	/**
+	 * The URL template from which {@link #url} was expanded (e.g. {@code http://localhost/api/users/{id}}), or
+	 * {@code null} if the URL was not built from a template. Unlike the URL, the template has a low cardinality which
+	 * makes it suitable for meter tags.
+	 */
+	protected String urlTemplate;
+
 	/**
 	 * Indicates whether the request parameters should be URL-encoded.
 	 */
@@ -114,7 +122,26 @@ public class ApiRequest<T> extends ApiMessage<T> {
 	}
 
 	/**
-	 * Constructs and returns the full URI for the request, including query parameters.
+	 * Returns the URL template from which the URL was expanded, or {@code null} if the URL was not built from a template.
+	 *
+	 * @return the URL template
+	 */
+	public String getUrlTemplate() {
+		return urlTemplate;
+	}
+
+	/**
+	 * Returns true if the URL was built from a template, false otherwise.
+	 *
+	 * @return true if the URL was built from a template, false otherwise
+	 */
+	public boolean hasUrlTemplate() {
+		return null != urlTemplate;
+	}
+
+	/**
+	 * Constructs and returns the full URI for the request, including query parameters. The URI is assembled in a single
+	 * pass with {@link URIBuilder} and the query parameters are appended as they are.
 	 *
 	 * @return the full URI
 	 */
@@ -123,7 +150,9 @@ public class ApiRequest<T> extends ApiMessage<T> {
 		if (Strings.isEmpty(baseUrl)) {
 			return null;
 		}
-		return URI.create(getUrl() + RequestParameters.asUrlSuffix(getParams()));
+		return URIBuilder.of(baseUrl)
+				.params(getParams())
+				.build();
 	}
 
 	/**
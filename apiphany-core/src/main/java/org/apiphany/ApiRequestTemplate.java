@@ -0,0 +1,489 @@
+package org.apiphany;
+
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apiphany.header.HeaderMap;
+import org.apiphany.header.Headers;
+import org.apiphany.http.CompiledURITemplate;
+import org.apiphany.lang.Strings;
+import org.apiphany.meters.BasicMeters;
+import org.apiphany.security.AuthenticationType;
+import org.morphix.lang.JavaObjects;
+import org.morphix.lang.Nullables;
+import org.morphix.lang.retry.Retry;
+import org.morphix.reflection.GenericClass;
+
+/**
+ * Immutable and thread-safe template for {@link ApiRequest} objects. Everything that is the same for all the calls to
+ * an endpoint (method, URL template, static headers, response type, retry, meters, authentication type) is resolved
+ * once when the template is built, usually in a constant, and each call only binds the variable parts: the URI
+ * variables, the query parameters and the body. This avoids the builder work done by {@link ApiClientFluentAdapter} on
+ * every call and is meant for high throughput endpoints, the fluent syntax remains the way to go for everything else.
+ * <p>
+ * Example:
+ *
+ * <pre>{@code
+ * private static final ApiRequestTemplate<User> GET_USER = ApiRequestTemplate.builder(User.class)
+ * 		.method(HttpMethod.GET)
+ * 		.urlTemplate("http://localhost/api/users/{id}")
+ * 		.header(HttpHeader.ACCEPT, ContentType.APPLICATION_JSON)
+ * 		.build();
+ *
+ * public User getUser(final String id) {
+ * 	return apiClient.retrieve(GET_USER, id).orNull();
+ * }
+ * }</pre>
+ *
+ * @param <T> response type
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public final class ApiRequestTemplate<T> {
+
+	/**
+	 * The request method.
+	 */
+	private final RequestMethod method;
+
+	/**
+	 * The compiled URL template.
+	 */
+	private final CompiledURITemplate urlTemplate;
+
+	/**
+	 * The static headers, read only and with unmodifiable value lists.
+	 */
+	private final HeaderMap headers;
+
+	/**
+	 * The response type as class.
+	 */
+	private final Class<T> classResponseType;
+
+	/**
+	 * The response type as generic class.
+	 */
+	private final GenericClass<T> genericResponseType;
+
+	/**
+	 * The character set.
+	 */
+	private final Charset charset;
+
+	/**
+	 * Flag indicating that the URI variables and request parameters are encoded.
+	 */
+	private final boolean urlEncoded;
+
+	/**
+	 * Flag indicating that the response is streamed.
+	 */
+	private final boolean stream;
+
+	/**
+	 * The retry.
+	 */
+	private final Retry retry;
+
+	/**
+	 * The meters.
+	 */
+	private final BasicMeters meters;
+
+	/**
+	 * The authentication type.
+	 */
+	private final AuthenticationType authenticationType;
+
+	/**
+	 * Constructs a template from the given builder.
+	 *
+	 * @param builder the builder
+	 */
+	private ApiRequestTemplate(final Builder<T> builder) {
+		this.method = builder.method;
+		this.urlTemplate = CompiledURITemplate.of(builder.urlTemplate);
+		this.headers = copyOf(builder.headers);
+		this.classResponseType = builder.classResponseType;
+		this.genericResponseType = builder.genericResponseType;
+		this.charset = builder.charset;
+		this.urlEncoded = builder.urlEncoded;
+		this.stream = builder.stream;
+		this.retry = builder.retry;
+		this.meters = builder.meters;
+		this.authenticationType = builder.authenticationType;
+	}
+
+	/**
+	 * Returns a read only copy of the given headers with unmodifiable value lists.
+	 *
+	 * @param headers the headers to copy
+	 * @return a read only copy of the headers
+	 */
+	private static HeaderMap copyOf(final HeaderMap headers) {
+		return new HeaderMap(headers).readOnly();
+	}
+
+	/**
+	 * Returns a new builder for a template with the given response type.
+	 *
+	 * @param <T> response type
+	 *
+	 * @param responseType the response type class
+	 * @return a new builder
+	 */
+	public static <T> Builder<T> builder(final Class<T> responseType) {
+		Builder<T> builder = new Builder<>();
+		builder.classResponseType = Objects.requireNonNull(responseType, "responseType cannot be null");
+		return builder;
+	}
+
+	/**
+	 * Returns a new builder for a template with the given generic response type.
+	 *
+	 * @param <T> response type
+	 *
+	 * @param responseType the response type generic class
+	 * @return a new builder
+	 */
+	public static <T> Builder<T> builder(final GenericClass<T> responseType) {
+		Builder<T> builder = new Builder<>();
+		builder.genericResponseType = Objects.requireNonNull(responseType, "responseType cannot be null");
+		return builder;
+	}
+
+	/**
+	 * Returns a new request bound to the given URI variables, without request parameters and without a body.
+	 *
+	 * @param uriVariables the values for the URL template variables in the order they appear in the template
+	 * @return a new API request
+	 */
+	public ApiRequest<T> bind(final Object... uriVariables) {
+		return newRequest(null, null, uriVariables);
+	}
+
+	/**
+	 * Returns a new request bound to the given request parameters and URI variables, without a body.
+	 *
+	 * @param params the request parameters, can be {@code null}
+	 * @param uriVariables the values for the URL template variables in the order they appear in the template
+	 * @return a new API request
+	 */
+	public ApiRequest<T> bindParams(final Map<String, List<String>> params, final Object... uriVariables) {
+		return newRequest(null, params, uriVariables);
+	}
+
+	/**
+	 * Returns a new request bound to the given body, request parameters and URI variables. The URI variables and the
+	 * request parameters are encoded with the template character set when the template is URL encoded. The returned
+	 * request has its own copy of the static headers so that the exchange clients can add headers to it.
+	 *
+	 * @param <B> body type
+	 *
+	 * @param body the request body, can be {@code null}
+	 * @param params the request parameters, can be {@code null}
+	 * @param uriVariables the values for the URL template variables in the order they appear in the template
+	 * @return a new API request
+	 */
+	public <B> ApiRequest<T> newRequest(final B body, final Map<String, List<String>> params, final Object... uriVariables) {
+		ApiRequest<T> request = new ApiRequest<>();
+		request.method = method;
+		request.url = urlTemplate.expand(urlEncoded ? charset : null, uriVariables);
+		request.urlTemplate = urlTemplate.getTemplate();
+		request.urlEncoded = urlEncoded;
+		request.classResponseType = classResponseType;
+		request.genericResponseType = genericResponseType;
+		request.charset = charset;
+		request.stream = stream;
+		request.retry = retry;
+		request.meters = meters;
+		request.authenticationType = authenticationType;
+		request.params = urlEncoded && null != params ? RequestParameters.encode(params, charset) : params;
+		request.body = JavaObjects.cast(body);
+		request.addHeaders(headers);
+		return request;
+	}
+
+	/**
+	 * Returns the request method.
+	 *
+	 * @param <R> request method type
+	 *
+	 * @return the request method
+	 */
+	public <R extends RequestMethod> R getMethod() {
+		return JavaObjects.cast(method);
+	}
+
+	/**
+	 * Returns the URL template.
+	 *
+	 * @return the URL template
+	 */
+	public String getUrlTemplate() {
+		return urlTemplate.getTemplate();
+	}
+
+	/**
+	 * Returns the static headers, the returned map is read only.
+	 *
+	 * @return the static headers
+	 */
+	public Map<String, List<String>> getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * Returns the authentication type, {@code null} means the default authentication type of the API client.
+	 *
+	 * @return the authentication type
+	 */
+	public AuthenticationType getAuthenticationType() {
+		return authenticationType;
+	}
+
+	/**
+	 * Returns the retry, {@code null} means the retry of the API client.
+	 *
+	 * @return the retry
+	 */
+	public Retry getRetry() {
+		return retry;
+	}
+
+	/**
+	 * Returns the meters, {@code null} means the meters of the API client.
+	 *
+	 * @return the meters
+	 */
+	public BasicMeters getMeters() {
+		return meters;
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return Nullables.apply(method, RequestMethod::value, () -> "") + " " + urlTemplate;
+	}
+
+	/**
+	 * Builder for {@link ApiRequestTemplate}. The builder is not thread-safe, it is meant to be used once to build a
+	 * template.
+	 *
+	 * @param <T> response type
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public static final class Builder<T> {
+
+		/**
+		 * The request method.
+		 */
+		private RequestMethod method;
+
+		/**
+		 * The URL template.
+		 */
+		private String urlTemplate;
+
+		/**
+		 * The static headers.
+		 */
+		private final HeaderMap headers = new HeaderMap();
+
+		/**
+		 * The response type as class.
+		 */
+		private Class<T> classResponseType;
+
+		/**
+		 * The response type as generic class.
+		 */
+		private GenericClass<T> genericResponseType;
+
+		/**
+		 * The character set.
+		 */
+		private Charset charset = Strings.DEFAULT_CHARSET;
+
+		/**
+		 * Flag indicating that the URI variables and request parameters are encoded.
+		 */
+		private boolean urlEncoded;
+
+		/**
+		 * Flag indicating that the response is streamed.
+		 */
+		private boolean stream;
+
+		/**
+		 * The retry.
+		 */
+		private Retry retry;
+
+		/**
+		 * The meters.
+		 */
+		private BasicMeters meters;
+
+		/**
+		 * The authentication type.
+		 */
+		private AuthenticationType authenticationType;
+
+		/**
+		 * Private constructor to enforce the usage of the factory methods.
+		 */
+		private Builder() {
+			// empty
+		}
+
+		/**
+		 * Sets the request method.
+		 *
+		 * @param method the request method
+		 * @return this builder
+		 */
+		public Builder<T> method(final RequestMethod method) {
+			this.method = method;
+			return this;
+		}
+
+		/**
+		 * Sets the URL template, example: {@code http://localhost/api/users/{id}}.
+		 *
+		 * @param urlTemplate the URL template
+		 * @return this builder
+		 */
+		public Builder<T> urlTemplate(final String urlTemplate) {
+			this.urlTemplate = urlTemplate;
+			return this;
+		}
+
+		/**
+		 * Sets the URL template by concatenating the given base URL with the given path template the same way as
+		 * {@link ApiClientFluentAdapter#pathTemplate(String, Object...)}.
+		 *
+		 * @param baseUrl the base URL
+		 * @param pathTemplate the path template, example: {@code /users/{id}}
+		 * @return this builder
+		 */
+		public Builder<T> pathTemplate(final String baseUrl, final String pathTemplate) {
+			if (Strings.isEmpty(baseUrl)) {
+				throw new IllegalArgumentException("baseUrl cannot be null or empty");
+			}
+			String path = Strings.stripCharacter(pathTemplate, '/');
+			String base = Strings.stripCharacter(baseUrl, '/');
+			return urlTemplate(Strings.isEmpty(path) ? base : base + '/' + path);
+		}
+
+		/**
+		 * Adds a static header.
+		 *
+		 * @param <N> header name type
+		 * @param <H> header value type
+		 *
+		 * @param headerName header name
+		 * @param headerValue header value
+		 * @return this builder
+		 */
+		public <N, H> Builder<T> header(final N headerName, final H headerValue) {
+			Headers.addTo(headers, headerName, headerValue);
+			return this;
+		}
+
+		/**
+		 * Adds the given static headers.
+		 *
+		 * @param <N> header name type
+		 * @param <H> header value type
+		 *
+		 * @param headers the headers to add
+		 * @return this builder
+		 */
+		public <N, H> Builder<T> headers(final Map<N, H> headers) {
+			Headers.addTo(this.headers, headers);
+			return this;
+		}
+
+		/**
+		 * Sets the character set.
+		 *
+		 * @param charset the character set
+		 * @return this builder
+		 */
+		public Builder<T> charset(final Charset charset) {
+			this.charset = Objects.requireNonNull(charset, "charset cannot be null");
+			return this;
+		}
+
+		/**
+		 * Marks the template as URL encoded, the URI variables and the request parameters will be encoded.
+		 *
+		 * @return this builder
+		 */
+		public Builder<T> urlEncoded() {
+			this.urlEncoded = true;
+			return this;
+		}
+
+		/**
+		 * Marks the response as streamed.
+		 *
+		 * @return this builder
+		 */
+		public Builder<T> stream() {
+			this.stream = true;
+			return this;
+		}
+
+		/**
+		 * Sets the retry.
+		 *
+		 * @param retry the retry
+		 * @return this builder
+		 */
+		public Builder<T> retry(final Retry retry) {
+			this.retry = retry;
+			return this;
+		}
+
+		/**
+		 * Sets the meters, the meters should be created once for the template for example with
+		 * {@link BasicMeters#of(String)}.
+		 *
+		 * @param meters the meters
+		 * @return this builder
+		 */
+		public Builder<T> meters(final BasicMeters meters) {
+			this.meters = meters;
+			return this;
+		}
+
+		/**
+		 * Sets the authentication type.
+		 *
+		 * @param authenticationType the authentication type
+		 * @return this builder
+		 */
+		public Builder<T> authenticationType(final AuthenticationType authenticationType) {
+			this.authenticationType = authenticationType;
+			return this;
+		}
+
+		/**
+		 * Builds the template.
+		 *
+		 * @return a new template
+		 * @throws IllegalArgumentException if the URL template is empty or malformed
+		 */
+		public ApiRequestTemplate<T> build() {
+			return new ApiRequestTemplate<>(this);
+		}
+	}
+}
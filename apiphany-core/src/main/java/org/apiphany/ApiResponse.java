@@ -11,6 +11,7 @@ import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 import org.apiphany.client.ExchangeClient;
+import org.apiphany.io.PayloadSize;
 import org.apiphany.lang.Strings;
 import org.morphix.lang.JavaObjects;
 import org.morphix.lang.Nullables;
@@ -53,6 +54,11 @@ public class ApiResponse<T> extends ApiMessage<T> {
 	 */
 	private final ExchangeClient exchangeClient;
 
+	/**
+	 * The payload sizes measured by the exchange client.
+	 */
+	private final PayloadSize payloadSize;
+
 	/**
 	 * Constructs a response based on the give builder.
 	 *
@@ -66,6 +72,7 @@ public class ApiResponse<T> extends ApiMessage<T> {
 				msg -> Nullables.nonNullOrDefault(builder.errorMessagePrefix, "") + msg);
 		this.exception = builder.exception;
 		this.exchangeClient = builder.exchangeClient;
+		this.payloadSize = Nullables.nonNullOrDefault(builder.payloadSize, PayloadSize.NONE);
 	}
 
 	/**
@@ -406,6 +413,16 @@ public class ApiResponse<T> extends ApiMessage<T> {
 		return exchangeClient;
 	}
 
+	/**
+	 * Returns the payload sizes measured by the exchange client, when the exchange client does not measure them all the
+	 * sizes are {@link PayloadSize#UNKNOWN}.
+	 *
+	 * @return the payload sizes
+	 */
+	public PayloadSize getPayloadSize() {
+		return payloadSize;
+	}
+
 	/**
 	 * Returns the API response builder.
 	 *
@@ -476,6 +493,11 @@ public class ApiResponse<T> extends ApiMessage<T> {
 		 */
 		private ExchangeClient exchangeClient;
 
+		/**
+		 * The payload sizes measured by the exchange client.
+		 */
+		private PayloadSize payloadSize;
+
 		/**
 		 * Private constructor to enforce builder pattern usage.
 		 */
@@ -623,6 +645,17 @@ public class ApiResponse<T> extends ApiMessage<T> {
 			return this;
 		}
 
+		/**
+		 * Sets the payload sizes measured by the exchange client.
+		 *
+		 * @param payloadSize the payload sizes
+		 * @return this builder instance
+		 */
+		public Builder<T> payloadSize(final PayloadSize payloadSize) {
+			this.payloadSize = payloadSize;
+			return this;
+		}
+
 		/**
 		 * Builds the API response using the configured values.
 		 *
@@ -91,11 +91,9 @@ public record RequestParameter(String name, List<String> values, Charset encodin
 			if (!stringBuilder.isEmpty()) {
 				stringBuilder.append(RequestParameters.SEPARATOR);
 			}
-			String encodedName = URIEncoder.encodeParamName(name, encoding);
-			String encodedValue = URIEncoder.encodeParamValue(value, encoding);
-			stringBuilder.append(encodedName);
+			URIEncoder.encodeParamName(stringBuilder, name, encoding);
 			stringBuilder.append(NAME_VALUE_SEPARATOR);
-			stringBuilder.append(encodedValue);
+			URIEncoder.encodeParamValue(stringBuilder, value, encoding);
 		}
 		return stringBuilder.toString();
 	}
@@ -0,0 +1,202 @@
+package org.apiphany;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apiphany.openapi.MultiValueStrategy;
+import org.apiphany.openapi.QueryParam;
+import org.morphix.convert.function.SimpleConverter;
+import org.morphix.lang.Unchecked;
+import org.morphix.lang.collections.Lists;
+import org.morphix.reflection.Fields;
+import org.morphix.reflection.predicates.MemberPredicates;
+
+/**
+ * Compiled plan for converting objects of one class into request parameters. The non-static fields of the class are
+ * resolved only once per class into {@link MethodHandle} accessors together with their names and their
+ * {@link MultiValueStrategy}, so converting an object becomes a loop over the pre-computed properties instead of
+ * walking the class hierarchy with reflection on every call.
+ * <p>
+ * The plans are cached per class with a {@link ClassValue} so they don't prevent the classes from being unloaded.
+ * Instances are immutable and thread-safe.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+final class RequestParameterMapper {
+
+	/**
+	 * The compiled plans cache.
+	 */
+	private static final ClassValue<RequestParameterMapper> MAPPERS = new ClassValue<>() {
+
+		@Override
+		protected RequestParameterMapper computeValue(final Class<?> cls) {
+			return new RequestParameterMapper(cls);
+		}
+	};
+
+	/**
+	 * The generic getter method type.
+	 */
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	/**
+	 * The getter method name prefixes.
+	 */
+	private static final String[] GETTER_PREFIXES = { "get", "is" };
+
+	/**
+	 * The compiled properties.
+	 */
+	private final Property[] properties;
+
+	/**
+	 * Compiles the plan for the given class.
+	 *
+	 * @param cls the class
+	 */
+	private RequestParameterMapper(final Class<?> cls) {
+		List<Field> fields = Fields.getAllDeclaredInHierarchy(cls, MemberPredicates.isNotStatic());
+		List<Property> propertyList = new ArrayList<>(fields.size());
+		for (Field field : fields) {
+			if (!field.isSynthetic()) {
+				propertyList.add(new Property(field.getName(), getter(field), strategy(field)));
+			}
+		}
+		this.properties = propertyList.toArray(Property[]::new);
+	}
+
+	/**
+	 * Returns the compiled plan for the given class, the plan is compiled on the first call for every class.
+	 *
+	 * @param cls the class
+	 * @return the compiled plan
+	 */
+	static RequestParameterMapper of(final Class<?> cls) {
+		return MAPPERS.get(cls);
+	}
+
+	/**
+	 * Converts the given object into request parameters. Properties with {@code null} or empty values are not included in
+	 * the resulting map.
+	 *
+	 * @param object the object to convert
+	 * @param nameConverter a converter to transform property names into parameter names
+	 * @return the request parameters map
+	 */
+	Map<String, List<String>> map(final Object object, final SimpleConverter<String, String> nameConverter) {
+		Map<String, List<String>> paramMap = LinkedHashMap.newLinkedHashMap(properties.length);
+		for (Property property : properties) {
+			Object value = property.get(object);
+			if (null == value) {
+				continue;
+			}
+			List<String> paramValues = RequestParameter.toValues(value);
+			if (Lists.isEmpty(paramValues)) {
+				continue;
+			}
+			property.strategy().insertInto(paramMap, nameConverter.convert(property.name()), paramValues);
+		}
+		return paramMap;
+	}
+
+	/**
+	 * Returns the number of compiled properties.
+	 *
+	 * @return the number of properties
+	 */
+	int size() {
+		return properties.length;
+	}
+
+	/**
+	 * Returns a generic getter method handle for the given field.
+	 *
+	 * @param field the field
+	 * @return the getter method handle
+	 */
+	private static MethodHandle getter(final Field field) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+			return lookup.unreflectGetter(field).asType(GETTER_TYPE);
+		} catch (IllegalAccessException e) {
+			field.trySetAccessible();
+			try {
+				return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+			} catch (IllegalAccessException ex) {
+				return Unchecked.reThrow(ex);
+			}
+		}
+	}
+
+	/**
+	 * Returns the multi-value strategy for the given field, the {@link QueryParam} annotation is searched on the field
+	 * first and then on its getter method.
+	 *
+	 * @param field the field
+	 * @return the multi-value strategy
+	 */
+	private static MultiValueStrategy strategy(final Field field) {
+		QueryParam queryParam = field.getAnnotation(QueryParam.class);
+		if (null == queryParam) {
+			queryParam = getterAnnotation(field);
+		}
+		return MultiValueStrategy.from(queryParam);
+	}
+
+	/**
+	 * Returns the {@link QueryParam} annotation on the getter method of the given field if any.
+	 *
+	 * @param field the field
+	 * @return the annotation or {@code null} if the getter doesn't exist or is not annotated
+	 */
+	private static QueryParam getterAnnotation(final Field field) {
+		String name = field.getName();
+		String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+		for (String prefix : GETTER_PREFIXES) {
+			try {
+				Method method = field.getDeclaringClass().getDeclaredMethod(prefix + capitalized);
+				if (!Modifier.isStatic(method.getModifiers())) {
+					return method.getAnnotation(QueryParam.class);
+				}
+			} catch (NoSuchMethodException e) {
+				// try the next prefix
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * A compiled property.
+	 *
+	 * @param name the property name
+	 * @param getter the generic getter method handle
+	 * @param strategy the multi-value strategy
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record Property(String name, MethodHandle getter, MultiValueStrategy strategy) {
+
+		/**
+		 * Returns the property value from the given object.
+		 *
+		 * @param object the object
+		 * @return the property value
+		 */
+		Object get(final Object object) {
+			try {
+				return getter.invokeExact(object);
+			} catch (Throwable t) {
+				return Unchecked.reThrow(t);
+			}
+		}
+	}
+}
@@ -11,17 +11,12 @@ import java.util.Set;
 import org.apiphany.http.URIEncoder;
 import org.apiphany.lang.Require;
 import org.apiphany.lang.Strings;
-import org.apiphany.openapi.MultiValueStrategy;
-import org.apiphany.openapi.QueryParam;
 import org.morphix.convert.MapConversions;
 import org.morphix.convert.function.SimpleConverter;
 import org.morphix.lang.JavaArrays;
-import org.morphix.lang.collections.Lists;
 import org.morphix.lang.collections.Maps;
 import org.morphix.lang.function.PutFunction;
 import org.morphix.reflection.Constructors;
-import org.morphix.reflection.ExtendedField;
-import org.morphix.reflection.ExtendedFields;
 
 /**
  * Utility class for building and manipulating request parameters. This class provides methods for creating parameter
@@ -65,11 +60,7 @@ public class RequestParameters {
 	 * @return a URL-friendly string representation of the parameters
 	 */
 	public static String asUrlSuffix(final Map<String, List<String>> params) {
-		String result = asString(params);
-		if (Strings.isNotEmpty(result)) {
-			result = "?" + result;
-		}
-		return result;
+		return asString(params, "?");
 	}
 
 	/**
@@ -80,16 +71,32 @@ public class RequestParameters {
 	 * @return a string representation of the parameters
 	 */
 	public static String asString(final Map<String, List<String>> params) {
+		return asString(params, "");
+	}
+
+	/**
+	 * Transforms the request parameters map into a string in a single pass, the string starts with the given prefix if at
+	 * least one parameter was added. If the map is empty, an empty string is returned.
+	 *
+	 * @param params the request parameters map
+	 * @param prefix the prefix of the result
+	 * @return a string representation of the parameters
+	 */
+	private static String asString(final Map<String, List<String>> params, final String prefix) {
 		if (Maps.isEmpty(params)) {
 			return "";
 		}
-		List<String> paramList = new ArrayList<>();
-		params.forEach((key, values) -> {
-			for (String value : values) {
-				paramList.add(String.join(RequestParameter.NAME_VALUE_SEPARATOR, key, value));
+		StringBuilder sb = new StringBuilder(prefix);
+		for (Map.Entry<String, List<String>> param : params.entrySet()) {
+			String key = param.getKey();
+			for (String value : param.getValue()) {
+				if (sb.length() > prefix.length()) {
+					sb.append(SEPARATOR);
+				}
+				sb.append(key).append(RequestParameter.NAME_VALUE_SEPARATOR).append(value);
 			}
-		});
-		return String.join(SEPARATOR, paramList);
+		}
+		return sb.length() > prefix.length() ? sb.toString() : "";
 	}
 
 	/**
@@ -231,8 +238,8 @@ public class RequestParameters {
 
 	/**
 	 * Converts an object's fields into a map of request parameters. Each field of the object is treated as a parameter,
-	 * with the field name as the key and the field value as the value. This method uses reflection to access the fields of
-	 * the object.
+	 * with the field name as the key and the field value as the value. The fields of each class are resolved only once
+	 * into a compiled {@link RequestParameterMapper} and the values are read through method handles.
 	 * <p>
 	 * Field values that are {@code null} are not included in the resulting map.
 	 *
@@ -241,26 +248,7 @@ public class RequestParameters {
 	 * @return a map representation of the object's fields
 	 */
 	protected static Map<String, List<String>> fromObject(final Object queryParams, final SimpleConverter<String, String> nameConverter) {
-		List<ExtendedField> extendedFields = ExtendedFields.findAllNonStatic(queryParams,
-				extendedField -> null != extendedField.getFieldValue());
-
-		Map<String, List<String>> paramMap = LinkedHashMap.newLinkedHashMap(extendedFields.size());
-		if (Lists.isEmpty(extendedFields)) {
-			return paramMap;
-		}
-		for (ExtendedField extendedField : extendedFields) {
-			List<String> paramValues = RequestParameter.toValues(extendedField.getFieldValue());
-			if (Lists.isEmpty(paramValues)) {
-				continue;
-			}
-			String paramName = nameConverter.convert(extendedField.getName());
-
-			QueryParam annotation = extendedField.getAnnotation(QueryParam.class);
-			MultiValueStrategy strategy = MultiValueStrategy.from(annotation);
-			ParameterFunction parameter = strategy.apply(paramName, paramValues);
-			parameter.putInto(paramMap);
-		}
-		return paramMap;
+		return RequestParameterMapper.of(queryParams.getClass()).map(queryParams, nameConverter);
 	}
 
 	/**
@@ -53,6 +53,17 @@ public interface ContentConverter<T> {
 	 */
 	<U, H> boolean isConvertible(ApiMessage<U> message, ApiMimeType contentType, H headers, HeaderValues chain);
 
+	/**
+	 * Returns true if the result of {@link #isConvertible(ApiMessage, ApiMimeType, Object, HeaderValues)} depends only on
+	 * the content type and not on the message or the headers. This allows a {@link ContentConverterRegistry} to cache the
+	 * converter found for a content type. The default implementation returns {@code false}.
+	 *
+	 * @return true if the conversion decision depends only on the content type
+	 */
+	default boolean isContentTypeBased() {
+		return false;
+	}
+
 	/**
 	 * Retrieves the values of a specific header from the provided headers object.
 	 *
@@ -0,0 +1,27 @@
+package org.apiphany.client;
+
+/**
+ * Interface for providing content converters to be registered in a {@link ContentConverterRegistry}. The providers are
+ * discovered with {@link java.util.ServiceLoader} by {@link ContentConverterRegistry#discover()}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public interface ContentConverterProvider {
+
+	/**
+	 * Returns a new content converter to be registered in a {@link ContentConverterRegistry}.
+	 *
+	 * @return the content converter
+	 */
+	ContentConverter<?> getContentConverter(); // NOSONAR the converters can have any generic type
+
+	/**
+	 * Returns the priority with which the content converter is registered, converters with a higher priority are tried
+	 * first.
+	 *
+	 * @return the priority of the content converter
+	 */
+	default int getPriority() {
+		return ContentConverterRegistry.DEFAULT_PRIORITY;
+	}
+}
@@ -0,0 +1,297 @@
+package org.apiphany.client;
+
+import java.lang.ref.SoftReference;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apiphany.ApiMessage;
+import org.apiphany.ApiMimeType;
+import org.apiphany.header.HeaderValues;
+import org.apiphany.io.ContentType;
+import org.morphix.lang.JavaObjects;
+
+/**
+ * Registry of content converters ordered by priority. Converters with a higher priority are tried first and converters
+ * with the same priority are tried in registration order.
+ * <p>
+ * Finding a converter scans the registered converters with {@link ContentConverter#isConvertible(ApiMessage, ApiMimeType,
+ * Object, HeaderValues)} only on a cache miss. When every converter checked during the scan decides only based on the
+ * content type (see {@link ContentConverter#isContentTypeBased()}) the result is cached in a table indexed by
+ * {@link ContentType} so the next lookups for the same content type don't call any converter. Registering a converter
+ * discards the cached decisions.
+ * <p>
+ * Lookups are lock free, registrations are synchronized.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class ContentConverterRegistry {
+
+	/**
+	 * The default converter priority.
+	 */
+	public static final int DEFAULT_PRIORITY = 0;
+
+	/**
+	 * Marker for the cached decisions where no converter was found.
+	 */
+	private static final Object NO_CONVERTER = new Object();
+
+	/**
+	 * The index in the cache for a {@code null} content type.
+	 */
+	private static final int NO_CONTENT_TYPE_INDEX = ContentType.values().length;
+
+	/**
+	 * Comparator for the registrations, higher priority first then registration order.
+	 */
+	private static final Comparator<Registration> REGISTRATION_ORDER = Comparator
+			.comparingInt(Registration::priority).reversed()
+			.thenComparingLong(Registration::order);
+
+	/**
+	 * The content converter providers found with {@link ServiceLoader} for each class loader, guarded by the map itself.
+	 * The providers are softly referenced so that they don't keep their class loader alive.
+	 */
+	private static final Map<ClassLoader, SoftReference<List<ContentConverterProvider>>> DISCOVERED_PROVIDERS =
+			new WeakHashMap<>();
+
+	/**
+	 * The registrations, guarded by {@code this}.
+	 */
+	private final List<Registration> registrations = new ArrayList<>();
+
+	/**
+	 * The registered converters in lookup order.
+	 */
+	private volatile ContentConverter<?>[] converters = new ContentConverter<?>[0];
+
+	/**
+	 * The cached decisions indexed by content type ordinal, the last index is for the {@code null} content type.
+	 */
+	private volatile AtomicReferenceArray<Object> cache = newCache();
+
+	/**
+	 * The registration counter, guarded by {@code this}.
+	 */
+	private long registrationCount;
+
+	/**
+	 * Constructs an empty registry.
+	 */
+	public ContentConverterRegistry() {
+		// empty
+	}
+
+	/**
+	 * Registers the given converter with the {@link #DEFAULT_PRIORITY}.
+	 *
+	 * @param converter the converter to register
+	 * @return this
+	 */
+	public ContentConverterRegistry register(final ContentConverter<?> converter) {
+		return register(converter, DEFAULT_PRIORITY);
+	}
+
+	/**
+	 * Registers the given converter with the given priority, converters with a higher priority are tried first.
+	 *
+	 * @param converter the converter to register
+	 * @param priority the converter priority
+	 * @return this
+	 */
+	public synchronized ContentConverterRegistry register(final ContentConverter<?> converter, final int priority) {
+		if (null == converter) {
+			throw new IllegalArgumentException("converter cannot be null");
+		}
+		registrations.add(new Registration(converter, priority, registrationCount++));
+		registrations.sort(REGISTRATION_ORDER);
+		converters = registrations.stream()
+				.map(Registration::converter)
+				.toArray(ContentConverter<?>[]::new);
+		cache = newCache();
+		return this;
+	}
+
+	/**
+	 * Registers the converters from the given providers.
+	 *
+	 * @param providers the content converter providers
+	 * @return this
+	 */
+	public ContentConverterRegistry registerAll(final Iterable<? extends ContentConverterProvider> providers) {
+		for (ContentConverterProvider provider : providers) {
+			register(provider.getContentConverter(), provider.getPriority());
+		}
+		return this;
+	}
+
+	/**
+	 * Registers the converters from the {@link ContentConverterProvider} implementations found with
+	 * {@link ServiceLoader} using the current thread context class loader. The providers are looked up only once for each
+	 * class loader, see {@link #discoverProviders(ClassLoader)}.
+	 *
+	 * @return this
+	 */
+	public ContentConverterRegistry discover() {
+		return registerAll(discoverProviders(Thread.currentThread().getContextClassLoader()));
+	}
+
+	/**
+	 * Returns the {@link ContentConverterProvider} implementations found with {@link ServiceLoader} using the given class
+	 * loader. The providers are looked up on the first call for a class loader and reused by the next calls.
+	 *
+	 * @param classLoader the class loader, {@code null} for the system class loader
+	 * @return an unmodifiable list with the content converter providers
+	 */
+	static List<ContentConverterProvider> discoverProviders(final ClassLoader classLoader) {
+		synchronized (DISCOVERED_PROVIDERS) {
+			SoftReference<List<ContentConverterProvider>> reference = DISCOVERED_PROVIDERS.get(classLoader);
+			List<ContentConverterProvider> providers = null != reference ? reference.get() : null;
+			if (null == providers) {
+				providers = ServiceLoader.load(ContentConverterProvider.class, classLoader).stream()
+						.map(ServiceLoader.Provider::get)
+						.toList();
+				DISCOVERED_PROVIDERS.put(classLoader, new SoftReference<>(providers));
+			}
+			return providers;
+		}
+	}
+
+	/**
+	 * Finds the converter for the given message content.
+	 *
+	 * @param <T> the converter target type
+	 * @param <U> the type of the message body
+	 * @param <H> the type of the headers
+	 *
+	 * @param message the message containing the content to convert
+	 * @param mimeType the content type, can be {@code null}
+	 * @param headers the headers
+	 * @param chain chain of header values extractor
+	 * @return the converter or {@code null} if no registered converter can convert the content
+	 */
+	public <T, U, H> ContentConverter<T> find(final ApiMessage<U> message, final ApiMimeType mimeType, final H headers,
+			final HeaderValues chain) {
+		ContentType contentType = null != mimeType ? mimeType.contentType() : null;
+		int index = null != contentType ? contentType.ordinal() : NO_CONTENT_TYPE_INDEX;
+		AtomicReferenceArray<Object> decisions = this.cache;
+		Object decision = decisions.get(index);
+		if (null != decision) {
+			return NO_CONVERTER == decision ? null : JavaObjects.cast(decision);
+		}
+		boolean cacheable = true;
+		for (ContentConverter<?> converter : converters) {
+			cacheable &= converter.isContentTypeBased();
+			if (converter.isConvertible(message, mimeType, headers, chain)) {
+				if (cacheable) {
+					decisions.compareAndSet(index, null, converter);
+				}
+				return JavaObjects.cast(converter);
+			}
+		}
+		if (cacheable) {
+			decisions.compareAndSet(index, null, NO_CONVERTER);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the registered converters in lookup order.
+	 *
+	 * @return an unmodifiable list with the registered converters
+	 */
+	public List<ContentConverter<?>> getContentConverters() { // NOSONAR the converters can have any generic type
+		return List.of(converters);
+	}
+
+	/**
+	 * Returns a live view of the registered converters in lookup order. Adding a converter to the view registers it with
+	 * the {@link #DEFAULT_PRIORITY}, the other modifications are not supported.
+	 *
+	 * @return a live view of the registered converters
+	 */
+	public List<ContentConverter<?>> asList() { // NOSONAR the converters can have any generic type
+		return new ConverterList();
+	}
+
+	/**
+	 * Returns true if no converter is registered.
+	 *
+	 * @return true if no converter is registered
+	 */
+	public boolean isEmpty() {
+		return 0 == converters.length;
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return Arrays.toString(converters);
+	}
+
+	/**
+	 * Returns a new empty decisions cache.
+	 *
+	 * @return a new empty decisions cache
+	 */
+	private static AtomicReferenceArray<Object> newCache() {
+		return new AtomicReferenceArray<>(NO_CONTENT_TYPE_INDEX + 1);
+	}
+
+	/**
+	 * Live list view of the registered converters, see {@link ContentConverterRegistry#asList()}.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private class ConverterList extends AbstractList<ContentConverter<?>> {
+
+		/**
+		 * @see AbstractList#get(int)
+		 */
+		@Override
+		public ContentConverter<?> get(final int index) {
+			return converters[index];
+		}
+
+		/**
+		 * @see AbstractList#size()
+		 */
+		@Override
+		public int size() {
+			return converters.length;
+		}
+
+		/**
+		 * Registers the given converter with the {@link ContentConverterRegistry#DEFAULT_PRIORITY}.
+		 *
+		 * @see AbstractList#add(Object)
+		 */
+		@Override
+		public boolean add(final ContentConverter<?> converter) {
+			register(converter);
+			return true;
+		}
+	}
+
+	/**
+	 * A converter registration.
+	 *
+	 * @param converter the converter
+	 * @param priority the converter priority
+	 * @param order the registration order
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record Registration(ContentConverter<?> converter, int priority, long order) {
+		// empty
+	}
+}
@@ -0,0 +1,45 @@
+package org.apiphany.client.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an interface as an API definition for which the {@code apiphany-processor} annotation processor generates an
+ * {@link org.apiphany.ApiClient} implementation at compile time. Every abstract method of the interface must be
+ * annotated with {@link ApiOperation} and every method parameter with one of {@link PathVariable}, {@link RequestParam}
+ * or {@link Body}.
+ * <p>
+ * The generated client is placed in the same package as the interface and resolves everything at compile time: the
+ * response types are emitted as {@link org.morphix.reflection.GenericClass} constants and each operation gets its own
+ * {@link org.apiphany.ApiRequestTemplate} built once per client, so no reflection is used when the client is created
+ * and no builders are used when a call is made.
+ * <p>
+ * Example:
+ *
+ * <pre>{@code
+ * @ApiInterface
+ * public interface UserApi {
+ *
+ * 	@ApiOperation(method = HttpMethod.GET, path = "/users/{id}", headers = "Accept: application/json")
+ * 	User getUser(@PathVariable("id") String id);
+ * }
+ *
+ * UserApi userApi = new UserApiClient("http://localhost/api", exchangeClient);
+ * }</pre>
+ *
+ * @author Radu Sebastian LAZIN
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface ApiInterface {
+
+	/**
+	 * Returns the simple name of the generated client class. When empty the name of the interface suffixed with
+	 * {@code Client} is used, for nested interfaces the enclosing type names are prepended separated by {@code _}.
+	 *
+	 * @return the simple name of the generated client class
+	 */
+	String name() default "";
+}
@@ -0,0 +1,53 @@
+package org.apiphany.client.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiphany.http.HttpMethod;
+
+/**
+ * Describes the HTTP request made by a method of an {@link ApiInterface} interface. The supported return types are:
+ * <ul>
+ * <li>{@link org.apiphany.ApiResponse} - the full response is returned</li>
+ * <li>{@code void} - the response body is discarded</li>
+ * <li>any other non primitive type - the response body is returned or {@code null} when the call fails</li>
+ * </ul>
+ *
+ * @author Radu Sebastian LAZIN
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface ApiOperation {
+
+	/**
+	 * Returns the HTTP method.
+	 *
+	 * @return the HTTP method
+	 */
+	HttpMethod method() default HttpMethod.GET;
+
+	/**
+	 * Returns the path template relative to the base URL of the client, example: {@code /users/{id}}. When the client
+	 * has no base URL this must be the full URL template. The variables are bound to the {@link PathVariable} parameters
+	 * with the same name.
+	 *
+	 * @return the path template
+	 */
+	String path() default "";
+
+	/**
+	 * Returns the static headers sent with every request in the {@code Name: value} format.
+	 *
+	 * @return the static headers
+	 */
+	String[] headers() default {};
+
+	/**
+	 * Returns the prefix of the meters for this operation. When empty the meters of the client are used.
+	 *
+	 * @return the meters prefix
+	 */
+	String meters() default "";
+}
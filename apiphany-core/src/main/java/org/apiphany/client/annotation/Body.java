@@ -0,0 +1,19 @@
+package org.apiphany.client.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a method parameter of an {@link ApiInterface} interface to the request body. A method can have at most one body
+ * parameter.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.PARAMETER)
+public @interface Body {
+
+	// marker annotation, no fields needed
+}
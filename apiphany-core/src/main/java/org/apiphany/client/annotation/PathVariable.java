@@ -0,0 +1,24 @@
+package org.apiphany.client.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a method parameter of an {@link ApiInterface} interface to a variable of the {@link ApiOperation#path()}
+ * template.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.PARAMETER)
+public @interface PathVariable {
+
+	/**
+	 * Returns the name of the path template variable. When empty the name of the parameter is used.
+	 *
+	 * @return the name of the path template variable
+	 */
+	String value() default "";
+}
@@ -0,0 +1,24 @@
+package org.apiphany.client.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a method parameter of an {@link ApiInterface} interface to a request parameter. The {@code null} values are
+ * not sent and the collection and array values are sent as multiple values with the same name.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.PARAMETER)
+public @interface RequestParam {
+
+	/**
+	 * Returns the name of the request parameter. When empty the name of the parameter is used.
+	 *
+	 * @return the name of the request parameter
+	 */
+	String value() default "";
+}
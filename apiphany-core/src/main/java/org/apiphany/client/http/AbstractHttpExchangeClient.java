@@ -1,6 +1,6 @@
 package org.apiphany.client.http;
 
-import java.util.LinkedList;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -14,6 +14,7 @@ import org.apiphany.ApiRequest;
 import org.apiphany.ApiResponse;
 import org.apiphany.client.ClientProperties;
 import org.apiphany.client.ContentConverter;
+import org.apiphany.client.ContentConverterRegistry;
 import org.apiphany.client.ExchangeClient;
 import org.apiphany.header.HeaderValues;
 import org.apiphany.header.MapHeaderValues;
@@ -23,7 +24,12 @@ import org.apiphany.http.HttpHeader;
 import org.apiphany.http.HttpHeaderValues;
 import org.apiphany.http.HttpStatus;
 import org.apiphany.io.ContentType;
+import org.apiphany.io.FingerprintingInputStream;
+import org.apiphany.io.PayloadSize;
+import org.apiphany.json.jackson2.Jackson2DataFormat;
 import org.apiphany.lang.Strings;
+import org.apiphany.logging.ExchangeLogger;
+import org.apiphany.logging.Logging;
 import org.apiphany.logging.Slf4jLoggerAdapter;
 import org.apiphany.security.ssl.SSLContexts;
 import org.apiphany.security.ssl.SSLProperties;
@@ -32,6 +38,7 @@ import org.morphix.lang.Nullables;
 import org.morphix.lang.Pair;
 import org.morphix.lang.collections.Lists;
 import org.morphix.lang.function.LoggerAdapter;
+import org.morphix.lang.function.LoggerAdapter.LoggingLevel;
 
 /**
  * Abstract HTTP exchange client which holds all the common information needed to build an HTTP exchange client.
@@ -53,7 +60,7 @@ public abstract class AbstractHttpExchangeClient implements HttpExchangeClient {
 	/**
 	 * Content converters.
 	 */
-	private final List<ContentConverter<?>> contentConverters = new LinkedList<>();
+	private final ContentConverterRegistry contentConverterRegistry = new ContentConverterRegistry();
 
 	/**
 	 * Header values chain.
@@ -71,7 +78,8 @@ public abstract class AbstractHttpExchangeClient implements HttpExchangeClient {
 	private final int maxDecodedResponseBodySize;
 
 	/**
-	 * The SSL context for HTTPS if configured in client properties via {@link SSLProperties}.
+	 * The SSL context for HTTPS if configured in client properties via {@link SSLProperties}, shared by default with the
+	 * other clients having the same SSL properties, see {@link SSLContexts#shared(SSLProperties)}.
 	 */
 	private final SSLContext sslContext;
 
@@ -87,9 +95,9 @@ public abstract class AbstractHttpExchangeClient implements HttpExchangeClient {
 		this.maxDecodedResponseBodySize = ClientProperties.Response.getMaxDecodedBodySize(clientProperties);
 
 		SSLProperties sslProperties = getCustomProperties(SSLProperties.class);
-		this.sslContext = Nullables.apply(sslProperties, SSLContexts::create);
+		this.sslContext = Nullables.apply(sslProperties, SSLContexts::shared);
 
-		addDefaultContentConverters(contentConverters);
+		addDefaultContentConverters(contentConverterRegistry);
 		this.headerValuesChain = addDefaultHeaderValues(new HeaderValues());
 	}
 
@@ -99,15 +107,33 @@ public abstract class AbstractHttpExchangeClient implements HttpExchangeClient {
 	 * @param contentConverters list of content converters to
 	 */
 	public static void addDefaultContentConverters(final List<ContentConverter<?>> contentConverters) {
-		contentConverters.add(new StringHttpContentConverter());
+		contentConverters.addAll(addDefaultContentConverters(new ContentConverterRegistry()).getContentConverters());
+	}
 
-		// TODO: abstract away the converter registration and discovery
+	/**
+	 * Registers the default content converters in the given registry with the
+	 * {@link ContentConverterRegistry#DEFAULT_PRIORITY}: the {@link StringHttpContentConverter}, the first JSON converter
+	 * from {@link HttpContentConverter#JSON_CONVERTERS} whose library is present, the converters for the
+	 * {@link Jackson2DataFormat}s whose libraries are present and the converters discovered with
+	 * {@link ContentConverterRegistry#discover()}.
+	 *
+	 * @param registry the content converter registry
+	 * @return the given registry
+	 */
+	public static ContentConverterRegistry addDefaultContentConverters(final ContentConverterRegistry registry) {
+		registry.register(new StringHttpContentConverter());
 		for (Pair<BooleanSupplier, Supplier<HttpContentConverter<?>>> converter : HttpContentConverter.JSON_CONVERTERS) {
 			if (converter.left().getAsBoolean()) {
-				contentConverters.add(converter.right().get());
+				registry.register(converter.right().get());
 				break;
 			}
 		}
+		for (Jackson2DataFormat dataFormat : Jackson2DataFormat.values()) {
+			if (dataFormat.isPresent()) {
+				registry.register(dataFormat.getContentConverter());
+			}
+		}
+		return registry.discover();
 	}
 
 	/**
@@ -165,7 +191,7 @@ public abstract class AbstractHttpExchangeClient implements HttpExchangeClient {
 	 * <li>Checks if the body is null or empty and returns null if so</li>
 	 * <li>Checks if the body is already of the desired type and returns it if so</li>
 	 * <li>Checks if the target type is String and uses the {@link StringHttpContentConverter} if so</li>
-	 * <li>Iterates through registered content converters to find a compatible one</li>
+	 * <li>Finds a compatible content converter in the {@link ContentConverterRegistry}</li>
 	 * <li>Throws an exception if no suitable converter is found</li>
 	 * </ul>
 	 *
@@ -196,11 +222,9 @@ public abstract class AbstractHttpExchangeClient implements HttpExchangeClient {
 		if (Objects.equals(classResponseType, String.class)) {
 			return JavaObjects.cast(StringHttpContentConverter.instance().from(body, mimeType, String.class));
 		}
-		for (ContentConverter<?> contentConverter : getContentConverters()) {
-			if (contentConverter.isConvertible(apiRequest, mimeType, headers, getHeaderValuesChain())) {
-				ContentConverter<U> typeConverter = JavaObjects.cast(contentConverter);
-				return ContentConverter.convertBody(typeConverter, apiRequest, mimeType, body);
-			}
+		ContentConverter<U> typeConverter = contentConverterRegistry.find(apiRequest, mimeType, headers, getHeaderValuesChain());
+		if (null != typeConverter) {
+			return ContentConverter.convertBody(typeConverter, apiRequest, mimeType, body);
 		}
 		if (body instanceof byte[] bytes && bytes.length == 0) {
 			return null;
@@ -232,12 +256,23 @@ public abstract class AbstractHttpExchangeClient implements HttpExchangeClient {
 	}
 
 	/**
-	 * Returns the content converters.
+	 * Returns a live view of the content converters in lookup order, adding a converter registers it in the content
+	 * converter registry with the {@link ContentConverterRegistry#DEFAULT_PRIORITY}. To register content converters with
+	 * another priority use {@link #getContentConverterRegistry()}.
 	 *
-	 * @return the content converters
+	 * @return a live view of the content converters
 	 */
 	public List<ContentConverter<?>> getContentConverters() { // NOSONAR the converters can have any generic type
-		return contentConverters;
+		return contentConverterRegistry.asList();
+	}
+
+	/**
+	 * Returns the content converter registry used to find the converter for the response bodies.
+	 *
+	 * @return the content converter registry
+	 */
+	public ContentConverterRegistry getContentConverterRegistry() {
+		return contentConverterRegistry;
 	}
 
 	/**
@@ -285,6 +320,86 @@ public abstract class AbstractHttpExchangeClient implements HttpExchangeClient {
 		return apiRequest.containsHeader(HttpHeader.CONTENT_TYPE, ContentType.APPLICATION_JSON);
 	}
 
+	/**
+	 * Returns the {@link Jackson2DataFormat} matching the "Content-Type" header of the API request, null if the content
+	 * type is not one of the binary data formats.
+	 *
+	 * @param <T> the type of the original request body
+	 *
+	 * @param apiRequest the API request to check for a binary data format content type
+	 * @return the data format matching the "Content-Type" header of the API request or null
+	 */
+	protected static <T> Jackson2DataFormat getContentDataFormat(final ApiRequest<T> apiRequest) {
+		for (Jackson2DataFormat dataFormat : Jackson2DataFormat.values()) {
+			if (apiRequest.containsHeader(HttpHeader.CONTENT_TYPE, dataFormat.getContentType())) {
+				return dataFormat;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns true if the API request contains the "Content-Type" header with the value of one of the
+	 * {@link Jackson2DataFormat}s (CBOR, Smile or MessagePack), false otherwise.
+	 *
+	 * @param <T> the type of the original request body
+	 *
+	 * @param apiRequest the API request to check for a binary data format content type
+	 * @return true if the API request content type is one of the binary data formats
+	 */
+	protected static <T> boolean isContentDataFormat(final ApiRequest<T> apiRequest) {
+		return null != getContentDataFormat(apiRequest);
+	}
+
+	/**
+	 * Serializes the given body in the {@link Jackson2DataFormat} matching the "Content-Type" header of the API request.
+	 *
+	 * @param <T> the type of the original request body
+	 *
+	 * @param apiRequest the API request with a binary data format content type
+	 * @param body the body to serialize
+	 * @return the serialized body
+	 * @throws IllegalStateException if the data format library is not present or the body cannot be serialized
+	 */
+	protected static <T> byte[] toDataFormatBytes(final ApiRequest<T> apiRequest, final Object body) {
+		Jackson2DataFormat dataFormat = Objects.requireNonNull(getContentDataFormat(apiRequest), "No data format content type");
+		return dataFormat.getContentConverter().toBytes(body);
+	}
+
+	/**
+	 * Returns true if the bodies sent and received by this client should be fingerprinted (length and hash computed
+	 * incrementally while the bodies are streamed), which is the case when the body logging mode is
+	 * {@link Logging.Mode#METADATA}.
+	 *
+	 * @return true if body fingerprinting is enabled
+	 */
+	protected boolean isBodyFingerprintEnabled() {
+		ClientProperties clientProperties = getClientProperties();
+		ClientProperties.Logging loggingProperties = Nullables.apply(clientProperties, ClientProperties::getLogging);
+		Logging.Mode bodyLoggingMode = Nullables.apply(loggingProperties, props -> props.getBody().getMode());
+		return Logging.Mode.METADATA == bodyLoggingMode;
+	}
+
+	/**
+	 * Wraps the given streamed response body in a {@link FingerprintingInputStream} which logs the body length and hash
+	 * when the stream is consumed or closed, the log message is only built when debug logging is enabled. Streamed bodies are consumed by the caller after the exchange is logged, so
+	 * this is the only moment their fingerprint is available.
+	 *
+	 * @param <T> request body type
+	 *
+	 * @param apiRequest the API request object
+	 * @param inputStream the streamed response body
+	 * @return the fingerprinting input stream
+	 */
+	protected <T> FingerprintingInputStream toFingerprintingInputStream(final ApiRequest<T> apiRequest, final InputStream inputStream) {
+		Class<?> exchangeClientClass = getClass();
+		return FingerprintingInputStream.of(inputStream, fingerprint -> {
+			if (LOGGER.isEnabled(LoggingLevel.DEBUG)) {
+				ExchangeLogger.logStreamedBody(LOGGER::debug, exchangeClientClass, apiRequest, inputStream, fingerprint);
+			}
+		});
+	}
+
 	/**
 	 * Returns the maximum allowed raw response body size in bytes.
 	 *
@@ -378,11 +493,35 @@ public abstract class AbstractHttpExchangeClient implements HttpExchangeClient {
 	 */
 	protected <T, U, R> ApiResponse<U> buildResponse(final ApiRequest<T> apiRequest, final HttpStatus httpStatus,
 			final Map<String, List<String>> headers, final HttpContentType contentType, final R rawBody) {
+		return buildResponse(apiRequest, httpStatus, headers, contentType, rawBody, PayloadSize.NONE);
+	}
+
+	/**
+	 * Builds an API response based on the given parameters. If the HTTP status indicates an error, it creates an
+	 * HttpException with the error response body and includes it in the {@link ApiResponse}. Otherwise, it converts the
+	 * response body to the desired type and includes it in the {@link ApiResponse}. The given payload sizes are set on the
+	 * response so that they can be recorded by the caller.
+	 *
+	 * @param <T> the type of the original request body
+	 * @param <U> the target type for the response body
+	 * @param <R> the type of the original response body
+	 *
+	 * @param apiRequest the API request associated with this response
+	 * @param httpStatus the HTTP status of the response
+	 * @param headers the headers of the response
+	 * @param contentType the content type of the response body
+	 * @param rawBody the raw response body to be converted and included in the ApiResponse
+	 * @param payloadSize the payload sizes measured during the exchange
+	 * @return an ApiResponse object containing either the converted response body or an exception if an error occurred
+	 */
+	protected <T, U, R> ApiResponse<U> buildResponse(final ApiRequest<T> apiRequest, final HttpStatus httpStatus,
+			final Map<String, List<String>> headers, final HttpContentType contentType, final R rawBody, final PayloadSize payloadSize) {
 		ApiResponse.Builder<U> responseBuilder = ApiResponse.<U>builder()
 				.status(httpStatus)
 				.headers(headers)
 				.request(apiRequest)
-				.exchangeClient(this);
+				.exchangeClient(this)
+				.payloadSize(payloadSize);
 		U body;
 		if (httpStatus.isError()) {
 			String errorResponseBody = StringHttpContentConverter.from(rawBody, contentType);
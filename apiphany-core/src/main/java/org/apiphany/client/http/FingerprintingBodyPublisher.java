@@ -0,0 +1,110 @@
+package org.apiphany.client.http;
+
+import java.net.http.HttpRequest.BodyPublisher;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+import org.apiphany.io.BodyFingerprint;
+
+/**
+ * Tee-style {@link BodyPublisher} wrapper which feeds all the buffers published by the underlying publisher into a
+ * {@link BodyFingerprint} while the request body is sent. The fingerprint completes when the publisher completes, so the
+ * length and hash of streamed request bodies are available after the exchange without a second pass over the data.
+ * <p>
+ * A body publisher can be subscribed more than once (for example on redirects or retries done by the Java HTTP client),
+ * in which case the fingerprint restarts with every new subscription until one of them completes.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class FingerprintingBodyPublisher implements BodyPublisher {
+
+	/**
+	 * The underlying body publisher.
+	 */
+	private final BodyPublisher delegate;
+
+	/**
+	 * The fingerprint fed with the published buffers.
+	 */
+	private final BodyFingerprint fingerprint;
+
+	/**
+	 * Constructs a new fingerprinting body publisher.
+	 *
+	 * @param delegate the underlying body publisher
+	 * @param fingerprint the fingerprint to feed
+	 */
+	public FingerprintingBodyPublisher(final BodyPublisher delegate, final BodyFingerprint fingerprint) {
+		this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+		this.fingerprint = Objects.requireNonNull(fingerprint, "fingerprint cannot be null");
+	}
+
+	/**
+	 * Creates a new fingerprinting body publisher with a new SHA-256 fingerprint.
+	 *
+	 * @param delegate the underlying body publisher
+	 * @return a new fingerprinting body publisher
+	 */
+	public static FingerprintingBodyPublisher of(final BodyPublisher delegate) {
+		return new FingerprintingBodyPublisher(delegate, BodyFingerprint.sha256());
+	}
+
+	/**
+	 * @see BodyPublisher#contentLength()
+	 */
+	@Override
+	public long contentLength() {
+		return delegate.contentLength();
+	}
+
+	/**
+	 * @see BodyPublisher#subscribe(Flow.Subscriber)
+	 */
+	@Override
+	public void subscribe(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+		delegate.subscribe(new Flow.Subscriber<ByteBuffer>() {
+
+			@Override
+			public void onSubscribe(final Flow.Subscription subscription) {
+				fingerprint.reset();
+				subscriber.onSubscribe(subscription);
+			}
+
+			@Override
+			public void onNext(final ByteBuffer item) {
+				fingerprint.update(item);
+				subscriber.onNext(item);
+			}
+
+			@Override
+			public void onError(final Throwable throwable) {
+				subscriber.onError(throwable);
+			}
+
+			@Override
+			public void onComplete() {
+				fingerprint.complete();
+				subscriber.onComplete();
+			}
+		});
+	}
+
+	/**
+	 * Returns the fingerprint fed by this publisher.
+	 *
+	 * @return the fingerprint
+	 */
+	public BodyFingerprint getFingerprint() {
+		return fingerprint;
+	}
+
+	/**
+	 * Returns the underlying body publisher.
+	 *
+	 * @return the underlying body publisher
+	 */
+	public BodyPublisher getDelegate() {
+		return delegate;
+	}
+}
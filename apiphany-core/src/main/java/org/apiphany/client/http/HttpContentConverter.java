@@ -9,6 +9,7 @@ import java.util.function.Supplier;
 import org.apiphany.client.ContentConverter;
 import org.apiphany.header.HeaderValues;
 import org.apiphany.http.HttpHeader;
+import org.apiphany.json.builtin.BuiltInJsonHttpContentConverter;
 import org.apiphany.json.jackson2.Jackson2JsonHttpContentConverter;
 import org.apiphany.json.jackson2.Jackson2Library;
 import org.apiphany.json.jackson3.Jackson3JsonHttpContentConverter;
@@ -26,11 +27,12 @@ public interface HttpContentConverter<T> extends ContentConverter<T> {
 
 	/**
 	 * Default content converters with their presence checks. The converters are registered in order of preference, with the
-	 * most preferred converter first.
+	 * most preferred converter first. The built-in converter is always present so it is used when no JSON library is present.
 	 */
 	static final List<Pair<BooleanSupplier, Supplier<HttpContentConverter<?>>>> JSON_CONVERTERS = List.of(
 			Pair.of(Jackson3Library::isPresent, Jackson3JsonHttpContentConverter::new),
-			Pair.of(Jackson2Library::isPresent, Jackson2JsonHttpContentConverter::new));
+			Pair.of(Jackson2Library::isPresent, Jackson2JsonHttpContentConverter::new),
+			Pair.of(() -> true, BuiltInJsonHttpContentConverter::new));
 
 	/**
 	 * Retrieves the values of the {@code Content-Type} header from the provided headers object. This method delegates to
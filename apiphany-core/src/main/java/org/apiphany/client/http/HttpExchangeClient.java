@@ -15,6 +15,8 @@ import org.apiphany.http.TracingHeader;
 import org.apiphany.lang.Strings;
 import org.apiphany.security.http.DefaultHttpSensitivity;
 import org.apiphany.security.ssl.SSLContextAware;
+import org.apiphany.tracing.Span;
+import org.apiphany.tracing.Tracer;
 import org.morphix.lang.Nullables;
 import org.slf4j.MDC;
 
@@ -137,17 +139,21 @@ public interface HttpExchangeClient extends ExchangeClient, SSLContextAware {
 	}
 
 	/**
-	 * Returns the tracing headers for the current request.
-	 * <p>
-	 * TODO: make this more generic to support other tracing systems than B3
+	 * Returns the tracing headers for the current request. When there is a current {@link Span} (see
+	 * {@link Tracer#currentSpan()}), its trace context is propagated in the format configured on its {@link Tracer}.
+	 * Otherwise, the B3 trace and span identifiers found in the logging MDC are passed through as they are.
 	 *
 	 * @return the tracing headers
 	 */
 	@Override
 	default Map<String, List<String>> getTracingHeaders() {
-		String traceId = MDC.get("traceId");
+		Span span = Tracer.currentSpan();
+		if (null != span) {
+			return span.getTracer().headers(span);
+		}
+		String traceId = MDC.get(Tracer.MDC_TRACE_ID);
 		if (Strings.isNotEmpty(traceId)) {
-			String spanId = MDC.get("spanId");
+			String spanId = MDC.get(Tracer.MDC_SPAN_ID);
 			return Headers.of(
 					Header.of(TracingHeader.B3_TRACE_ID, traceId),
 					Header.of(TracingHeader.B3_SPAN_ID, spanId));
@@ -0,0 +1,215 @@
+package org.apiphany.client.http;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Exchange statistics for a {@link JavaNetHttpExchangeClient}.
+ * <p>
+ * The Java {@link HttpClient} does not expose its connection pool, so the closest observable data is tracked instead,
+ * per route (the target {@code scheme://host:port}):
+ * <ul>
+ * <li>the number of active exchanges, which for HTTP/1.1 is the number of connections in use for the route</li>
+ * <li>the number of responses received per negotiated HTTP version, which shows how many exchanges were multiplexed as
+ * HTTP/2 streams</li>
+ * <li>the number of failed exchanges (no response received)</li>
+ * </ul>
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class JavaNetHttpClientStats {
+
+	/**
+	 * Statistics for a single route.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public static class RouteStats {
+
+		/**
+		 * The route.
+		 */
+		private final String route;
+
+		/**
+		 * The number of active exchanges.
+		 */
+		private final AtomicInteger active = new AtomicInteger();
+
+		/**
+		 * The number of responses per HTTP version, the map is fully populated on construction and never modified after.
+		 */
+		private final Map<HttpClient.Version, LongAdder> responses = new EnumMap<>(HttpClient.Version.class);
+
+		/**
+		 * The number of failed exchanges.
+		 */
+		private final LongAdder failures = new LongAdder();
+
+		/**
+		 * Constructs the statistics for the given route.
+		 *
+		 * @param route the route
+		 */
+		protected RouteStats(final String route) {
+			this.route = route;
+			for (HttpClient.Version version : HttpClient.Version.values()) {
+				responses.put(version, new LongAdder());
+			}
+		}
+
+		/**
+		 * Marks the start of an exchange.
+		 */
+		public void started() {
+			active.incrementAndGet();
+		}
+
+		/**
+		 * Marks the end of an exchange.
+		 *
+		 * @param version the HTTP version of the received response, {@code null} if the exchange failed
+		 */
+		public void finished(final HttpClient.Version version) {
+			active.decrementAndGet();
+			if (null == version) {
+				failures.increment();
+			} else {
+				responses.get(version).increment();
+			}
+		}
+
+		/**
+		 * Returns the route.
+		 *
+		 * @return the route
+		 */
+		public String getRoute() {
+			return route;
+		}
+
+		/**
+		 * Returns the number of active exchanges.
+		 *
+		 * @return the number of active exchanges
+		 */
+		public int getActive() {
+			return active.get();
+		}
+
+		/**
+		 * Returns the number of responses received with the given HTTP version.
+		 *
+		 * @param version the HTTP version
+		 * @return the number of responses
+		 */
+		public long getResponses(final HttpClient.Version version) {
+			return responses.get(version).sum();
+		}
+
+		/**
+		 * Returns the number of failed exchanges.
+		 *
+		 * @return the number of failed exchanges
+		 */
+		public long getFailures() {
+			return failures.sum();
+		}
+	}
+
+	/**
+	 * The statistics per route.
+	 */
+	private final ConcurrentMap<String, RouteStats> routes = new ConcurrentHashMap<>();
+
+	/**
+	 * The listeners notified when a new route is seen.
+	 */
+	private final List<Consumer<RouteStats>> routeListeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Default constructor.
+	 */
+	public JavaNetHttpClientStats() {
+		// empty
+	}
+
+	/**
+	 * Returns the statistics for the route of the given URI, creating them if this is the first exchange for the route.
+	 *
+	 * @param uri the request URI
+	 * @return the route statistics
+	 */
+	public RouteStats route(final URI uri) {
+		String route = routeOf(uri);
+		RouteStats routeStats = routes.get(route);
+		if (null != routeStats) {
+			return routeStats;
+		}
+		RouteStats newRouteStats = new RouteStats(route);
+		routeStats = routes.putIfAbsent(route, newRouteStats);
+		if (null != routeStats) {
+			return routeStats;
+		}
+		routeListeners.forEach(listener -> listener.accept(newRouteStats));
+		return newRouteStats;
+	}
+
+	/**
+	 * Adds a listener which is called every time a new route is seen.
+	 *
+	 * @param listener the new route listener
+	 */
+	public void onNewRoute(final Consumer<RouteStats> listener) {
+		routeListeners.add(listener);
+	}
+
+	/**
+	 * Returns the statistics for all the routes seen so far.
+	 *
+	 * @return the statistics for all the routes
+	 */
+	public Collection<RouteStats> getRoutes() {
+		return Collections.unmodifiableCollection(routes.values());
+	}
+
+	/**
+	 * Returns the number of active exchanges for all routes.
+	 *
+	 * @return the number of active exchanges
+	 */
+	public int getActive() {
+		int active = 0;
+		for (RouteStats routeStats : routes.values()) {
+			active += routeStats.getActive();
+		}
+		return active;
+	}
+
+	/**
+	 * Returns the route for the given URI as {@code scheme://host:port}, the port being the default port of the scheme when
+	 * it is not present in the URI.
+	 *
+	 * @param uri the URI
+	 * @return the route
+	 */
+	public static String routeOf(final URI uri) {
+		String scheme = uri.getScheme();
+		int port = uri.getPort();
+		if (-1 == port) {
+			port = "https".equalsIgnoreCase(scheme) ? 443 : 80;
+		}
+		return scheme + "://" + uri.getHost() + ":" + port;
+	}
+}
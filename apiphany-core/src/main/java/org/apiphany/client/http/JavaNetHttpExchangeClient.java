@@ -23,6 +23,7 @@ import org.apiphany.RequestMethod;
 import org.apiphany.client.ClientCustomization;
 import org.apiphany.client.ClientProperties;
 import org.apiphany.client.ClientProperties.Timeout;
+import org.apiphany.header.HeaderMap;
 import org.apiphany.http.ContentEncoding;
 import org.apiphany.http.HttpContentType;
 import org.apiphany.http.HttpException;
@@ -30,8 +31,11 @@ import org.apiphany.http.HttpHeader;
 import org.apiphany.http.HttpMethod;
 import org.apiphany.http.HttpStatus;
 import org.apiphany.http.JavaNetHttpClients;
+import org.apiphany.io.BodyFingerprint;
+import org.apiphany.io.FingerprintingInputStream;
 import org.apiphany.io.IOStreams;
 import org.apiphany.io.InputStreamSupplier;
+import org.apiphany.io.PayloadSize;
 import org.apiphany.json.JsonBuilder;
 import org.apiphany.lang.Strings;
 import org.morphix.lang.JavaObjects;
@@ -51,6 +55,11 @@ public class JavaNetHttpExchangeClient extends AbstractHttpExchangeClient {
 	 */
 	private final HttpClient httpClient;
 
+	/**
+	 * Exchange statistics per route.
+	 */
+	private final JavaNetHttpClientStats stats = new JavaNetHttpClientStats();
+
 	/**
 	 * Default constructor will initialize the client with default client properties. See the {@link ClientProperties} class
 	 * to see the defaults.
@@ -155,7 +164,8 @@ public class JavaNetHttpExchangeClient extends AbstractHttpExchangeClient {
 	}
 
 	/**
-	 * Sends the given HTTP request and returns the HTTP response.
+	 * Sends the given HTTP request and returns the HTTP response. The exchange is tracked in the client statistics (see
+	 * {@link #getStats()}).
 	 *
 	 * @param <T> request body type
 	 * @param <R> HTTP response body type
@@ -165,7 +175,26 @@ public class JavaNetHttpExchangeClient extends AbstractHttpExchangeClient {
 	 * @return HTTP response
 	 */
 	protected <T, R> HttpResponse<R> sendRequest(final ApiRequest<T> apiRequest, final HttpRequest httpRequest) {
-		return HttpException.ifThrows(() -> httpClient.send(httpRequest, getResponseBodyHandler(apiRequest)));
+		JavaNetHttpClientStats.RouteStats routeStats = stats.route(httpRequest.uri());
+		routeStats.started();
+		HttpClient.Version version = null;
+		try {
+			HttpResponse<R> httpResponse = HttpException.ifThrows(() -> httpClient.send(httpRequest, getResponseBodyHandler(apiRequest)));
+			version = Nullables.nonNullOrDefault(Nullables.apply(httpResponse, HttpResponse::version), HttpClient.Version.HTTP_1_1);
+			return httpResponse;
+		} finally {
+			routeStats.finished(version);
+		}
+	}
+
+	/**
+	 * Returns the exchange statistics per route. The Java HTTP client does not expose its connection pool so these
+	 * statistics are the closest observable data.
+	 *
+	 * @return the exchange statistics
+	 */
+	public JavaNetHttpClientStats getStats() {
+		return stats;
 	}
 
 	/**
@@ -190,11 +219,11 @@ public class JavaNetHttpExchangeClient extends AbstractHttpExchangeClient {
 		}
 		switch (httpMethod) {
 			case GET -> httpRequestBuilder.GET();
-			case PUT -> httpRequestBuilder.PUT(toBodyPublisher(apiRequest));
-			case POST -> httpRequestBuilder.POST(toBodyPublisher(apiRequest));
+			case PUT -> httpRequestBuilder.PUT(toFingerprintingBodyPublisher(apiRequest));
+			case POST -> httpRequestBuilder.POST(toFingerprintingBodyPublisher(apiRequest));
 			case DELETE -> httpRequestBuilder.DELETE();
 			case HEAD -> httpRequestBuilder.HEAD();
-			case PATCH -> httpRequestBuilder.method(httpMethod.value(), toBodyPublisher(apiRequest));
+			case PATCH -> httpRequestBuilder.method(httpMethod.value(), toFingerprintingBodyPublisher(apiRequest));
 			case OPTIONS, TRACE -> httpRequestBuilder.method(httpMethod.value(), BodyPublishers.noBody());
 			default -> throw new UnsupportedOperationException("HTTP method " + httpMethod + " is not supported!");
 		}
@@ -216,12 +245,18 @@ public class JavaNetHttpExchangeClient extends AbstractHttpExchangeClient {
 	 */
 	protected <T, U, R> ApiResponse<U> buildResponse(final ApiRequest<T> apiRequest, final HttpResponse<R> httpResponse) {
 		HttpStatus httpStatus = HttpStatus.fromCode(httpResponse.statusCode());
-		Map<String, List<String>> headers = Nullables.apply(httpResponse.headers(), HttpHeaders::map);
+		Map<String, List<String>> headers = Nullables.apply(httpResponse.headers(), JavaNetHttpExchangeClient::toHeaderMap);
 
 		int maxBodySize = getMaxResponseBodySize();
 		ensureContentLengthWithinLimit(headers, maxBodySize);
 
 		R responseBody = httpResponse.body();
+		BodyFingerprint bodyFingerprint = null;
+		if (apiRequest.isStream() && responseBody instanceof InputStream inputStream && isBodyFingerprintEnabled()) {
+			FingerprintingInputStream fingerprintingInputStream = toFingerprintingInputStream(apiRequest, inputStream);
+			bodyFingerprint = fingerprintingInputStream.getFingerprint();
+			responseBody = JavaObjects.cast(fingerprintingInputStream);
+		}
 		if (!apiRequest.isStream() && responseBody instanceof InputStream inputStream) {
 			Object checkedBody = toByteArray(inputStream, maxBodySize);
 			responseBody = JavaObjects.cast(checkedBody);
@@ -234,7 +269,58 @@ public class JavaNetHttpExchangeClient extends AbstractHttpExchangeClient {
 		List<String> contentTypes = getHeaderValues(HttpHeader.CONTENT_TYPE, headers);
 		HttpContentType contentType = HttpContentType.parse(contentTypes);
 
-		return buildResponse(apiRequest, httpStatus, headers, contentType, decodedBody);
+		PayloadSize payloadSize = PayloadSize.of(getRequestBodySize(httpResponse.request()), responseBody, decodedBody);
+		ApiResponse<U> apiResponse = buildResponse(apiRequest, httpStatus, headers, contentType, decodedBody, payloadSize);
+		Nullables.whenNotNull(bodyFingerprint, apiResponse::setBodyFingerprint);
+		return apiResponse;
+	}
+
+	/**
+	 * Creates a {@link BodyPublisher} from the given API request (see {@link #toBodyPublisher(ApiRequest)}). When body
+	 * fingerprinting is enabled and the request body is streamed, the publisher is wrapped in a
+	 * {@link FingerprintingBodyPublisher} and its fingerprint is set on the API request so that the body can be described
+	 * without being read twice. Materialized bodies (strings, byte arrays, objects) are not wrapped since they can be
+	 * described directly.
+	 *
+	 * @param <T> body type
+	 *
+	 * @param apiRequest the API request object
+	 * @return a body publisher needed in building the HTTP request
+	 */
+	protected <T> BodyPublisher toFingerprintingBodyPublisher(final ApiRequest<T> apiRequest) {
+		BodyPublisher bodyPublisher = toBodyPublisher(apiRequest);
+		if (!isBodyFingerprintEnabled() || !isStreamedBody(apiRequest.getBody())) {
+			return bodyPublisher;
+		}
+		FingerprintingBodyPublisher fingerprintingBodyPublisher = new FingerprintingBodyPublisher(bodyPublisher, BodyFingerprint.sha256());
+		apiRequest.setBodyFingerprint(fingerprintingBodyPublisher.getFingerprint());
+		return fingerprintingBodyPublisher;
+	}
+
+	/**
+	 * Returns true if the given body is streamed, meaning it cannot be described without reading it.
+	 *
+	 * @param body the request body
+	 * @return true if the body is streamed
+	 */
+	private static boolean isStreamedBody(final Object body) {
+		return body instanceof InputStream || body instanceof InputStreamSupplier || body instanceof Path;
+	}
+
+	/**
+	 * Returns the request body size in bytes as reported by the request body publisher, {@code 0} when the request has no
+	 * body and {@link PayloadSize#UNKNOWN} when the size is not known in advance (for example for input streams).
+	 *
+	 * @param httpRequest HTTP request object
+	 * @return the request body size in bytes
+	 */
+	protected static long getRequestBodySize(final HttpRequest httpRequest) {
+		if (null == httpRequest) {
+			return PayloadSize.UNKNOWN;
+		}
+		return httpRequest.bodyPublisher()
+				.map(BodyPublisher::contentLength)
+				.orElse(0L);
 	}
 
 	/**
@@ -293,6 +379,7 @@ public class JavaNetHttpExchangeClient extends AbstractHttpExchangeClient {
 			case Supplier<?> supplier -> toBodyPublisher(apiRequest, JavaObjects.cast(supplier.get()));
 			case Path path -> HttpException.ifThrows(() -> BodyPublishers.ofFile(path), HttpStatus.BAD_REQUEST);
 			case Object obj when isContentJson(apiRequest) -> BodyPublishers.ofString(JsonBuilder.toJson(obj), charset);
+			case Object obj when isContentDataFormat(apiRequest) -> BodyPublishers.ofByteArray(toDataFormatBytes(apiRequest, obj));
 			default -> BodyPublishers.ofString(Strings.safeToString(body), charset);
 		};
 	}
@@ -322,4 +409,14 @@ public class JavaNetHttpExchangeClient extends AbstractHttpExchangeClient {
 				.forEach((headerName, headerValues) -> Lists.safe(headerValues)
 						.forEach(headerValue -> httpRequestBuilder.header(headerName, headerValue)));
 	}
+
+	/**
+	 * Transforms the given {@link HttpHeaders} to a read only case-insensitive map of headers, see {@link HeaderMap}.
+	 *
+	 * @param httpHeaders source headers
+	 * @return HTTP headers
+	 */
+	public static Map<String, List<String>> toHeaderMap(final HttpHeaders httpHeaders) {
+		return new HeaderMap(httpHeaders.map()).readOnly();
+	}
 }
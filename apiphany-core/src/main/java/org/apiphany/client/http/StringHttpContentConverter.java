@@ -64,6 +64,14 @@ public class StringHttpContentConverter implements HttpContentConverter<String>
 		return false;
 	}
 
+	/**
+	 * @see ContentConverter#isContentTypeBased()
+	 */
+	@Override
+	public boolean isContentTypeBased() {
+		return true;
+	}
+
 	/**
 	 * Converts the object to {@link String}.
 	 *
@@ -0,0 +1,537 @@
+package org.apiphany.header;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apiphany.http.HttpHeader;
+import org.apiphany.lang.Strings;
+
+/**
+ * Case-insensitive header container which is also a {@code Map<String, List<String>>} so it can be used everywhere
+ * headers are handled as a map.
+ * <p>
+ * The header names are hashed case-insensitively, the well-known {@link HttpHeader} names are resolved to a shared
+ * lower case key without any allocation, other names are lower cased only when they contain upper case characters. The
+ * map keeps the header names as they were first added and iterates them in insertion order. The header values are always
+ * copied in a list owned by the map which stores a single value without any backing array, since most headers have only
+ * one value.
+ * <p>
+ * {@link Headers#get(Object, Map)} and {@link Headers#contains(Object, Map)} use the case-insensitive lookup directly
+ * when given a header map instead of scanning all the headers ignoring the case.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class HeaderMap extends AbstractMap<String, List<String>> {
+
+	/**
+	 * The lower case keys of the well-known header names, mapped both from the header name and from the lower case header
+	 * name.
+	 */
+	private static final Map<String, String> WELL_KNOWN_KEYS = wellKnownKeys();
+
+	/**
+	 * The headers keyed by the lower case header name.
+	 */
+	private final Map<String, Entry> entries;
+
+	/**
+	 * Flag indicating that the map cannot be modified anymore, see {@link #readOnly()}.
+	 */
+	private boolean readOnly;
+
+	/**
+	 * The entry set view.
+	 */
+	private Set<Map.Entry<String, List<String>>> entrySet;
+
+	/**
+	 * Constructs an empty header map.
+	 */
+	public HeaderMap() {
+		this.entries = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Constructs a header map with the given headers, the values of the headers with the same name ignoring the case are
+	 * merged.
+	 *
+	 * @param headers the headers to copy
+	 */
+	public HeaderMap(final Map<String, List<String>> headers) {
+		this.entries = new LinkedHashMap<>(Math.max(16, (int) (headers.size() / 0.75f) + 1));
+		for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+			List<String> values = getOrCreate(header.getKey());
+			values.addAll(header.getValue());
+		}
+	}
+
+	/**
+	 * Returns the lower case keys of the well-known header names.
+	 *
+	 * @return the well-known header keys
+	 */
+	private static Map<String, String> wellKnownKeys() {
+		HttpHeader[] httpHeaders = HttpHeader.values();
+		Map<String, String> keys = HashMap.newHashMap(httpHeaders.length * 2);
+		for (HttpHeader httpHeader : httpHeaders) {
+			String key = httpHeader.value().toLowerCase(Locale.ROOT);
+			keys.put(httpHeader.value(), key);
+			keys.put(key, key);
+		}
+		return Collections.unmodifiableMap(keys);
+	}
+
+	/**
+	 * Returns the case-insensitive key for the given header name.
+	 *
+	 * @param headerName the header name
+	 * @return the lower case key
+	 */
+	private static String key(final Object headerName) {
+		String name = headerName instanceof String string ? string : Strings.safeToString(headerName);
+		if (null == name) {
+			return null;
+		}
+		String key = WELL_KNOWN_KEYS.get(name);
+		return null != key ? key : name.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Makes this map and all its value lists unmodifiable and returns it.
+	 *
+	 * @return this header map
+	 */
+	public HeaderMap readOnly() {
+		this.readOnly = true;
+		for (Entry entry : entries.values()) {
+			entry.values.readOnly = true;
+		}
+		return this;
+	}
+
+	/**
+	 * Throws an {@link UnsupportedOperationException} if this map is read only.
+	 */
+	private void checkModifiable() {
+		if (readOnly) {
+			throw new UnsupportedOperationException("Header map is read only");
+		}
+	}
+
+	/**
+	 * Adds the given value to the given header, creating the header if it doesn't exist.
+	 *
+	 * @param <N> header name type
+	 *
+	 * @param headerName the header name
+	 * @param headerValue the header value
+	 */
+	public <N> void add(final N headerName, final String headerValue) {
+		getOrCreate(headerName).add(headerValue);
+	}
+
+	/**
+	 * Returns the values of the given header, creating the header with an empty value list if it doesn't exist.
+	 *
+	 * @param <N> header name type
+	 *
+	 * @param headerName the header name
+	 * @return the header values
+	 */
+	public <N> List<String> getOrCreate(final N headerName) {
+		String name = Objects.requireNonNull(Strings.safeToString(headerName), "headerName cannot be null");
+		String key = key(name);
+		Entry entry = entries.get(key);
+		if (null == entry) {
+			checkModifiable();
+			entry = new Entry(name, new Values());
+			entries.put(key, entry);
+		}
+		return entry.values;
+	}
+
+	/**
+	 * @see Map#size()
+	 */
+	@Override
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @see Map#containsKey(Object)
+	 */
+	@Override
+	public boolean containsKey(final Object headerName) {
+		String key = key(headerName);
+		return null != key && entries.containsKey(key);
+	}
+
+	/**
+	 * @see Map#get(Object)
+	 */
+	@Override
+	public List<String> get(final Object headerName) {
+		String key = key(headerName);
+		Entry entry = null != key ? entries.get(key) : null;
+		return null != entry ? entry.values : null;
+	}
+
+	/**
+	 * @see Map#getOrDefault(Object, Object)
+	 */
+	@Override
+	public List<String> getOrDefault(final Object headerName, final List<String> defaultValue) {
+		List<String> values = get(headerName);
+		return null != values ? values : defaultValue;
+	}
+
+	/**
+	 * Puts a copy of the given values for the given header, a {@code null} values list is stored as an empty list.
+	 *
+	 * @see Map#put(Object, Object)
+	 */
+	@Override
+	public List<String> put(final String headerName, final List<String> headerValues) {
+		checkModifiable();
+		Objects.requireNonNull(headerName, "headerName cannot be null");
+		String key = key(headerName);
+		Entry entry = entries.get(key);
+		if (null == entry) {
+			entries.put(key, new Entry(headerName, Values.copyOf(headerValues)));
+			return null;
+		}
+		List<String> oldValues = entry.values;
+		entry.values = Values.copyOf(headerValues);
+		return oldValues;
+	}
+
+	/**
+	 * Returns the values list owned by this map, when the header is missing a copy of the computed values is put in the
+	 * map, see {@link #put(String, List)}.
+	 *
+	 * @see Map#computeIfAbsent(Object, Function)
+	 */
+	@Override
+	public List<String> computeIfAbsent(final String headerName, final Function<? super String, ? extends List<String>> mappingFunction) {
+		List<String> values = get(headerName);
+		if (null != values) {
+			return values;
+		}
+		List<String> newValues = mappingFunction.apply(headerName);
+		if (null == newValues) {
+			return null;
+		}
+		put(headerName, newValues);
+		return get(headerName);
+	}
+
+	/**
+	 * @see Map#remove(Object)
+	 */
+	@Override
+	public List<String> remove(final Object headerName) {
+		checkModifiable();
+		String key = key(headerName);
+		Entry entry = null != key ? entries.remove(key) : null;
+		return null != entry ? entry.values : null;
+	}
+
+	/**
+	 * @see Map#clear()
+	 */
+	@Override
+	public void clear() {
+		checkModifiable();
+		entries.clear();
+	}
+
+	/**
+	 * @see Map#entrySet()
+	 */
+	@Override
+	public Set<Map.Entry<String, List<String>>> entrySet() {
+		Set<Map.Entry<String, List<String>>> result = entrySet;
+		if (null == result) {
+			result = new EntrySet();
+			entrySet = result;
+		}
+		return result;
+	}
+
+	/**
+	 * The entry set view of a {@link HeaderMap}.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private final class EntrySet extends AbstractSet<Map.Entry<String, List<String>>> {
+
+		/**
+		 * @see Set#iterator()
+		 */
+		@Override
+		public Iterator<Map.Entry<String, List<String>>> iterator() {
+			Iterator<Entry> iterator = entries.values().iterator();
+			return new Iterator<>() {
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public Map.Entry<String, List<String>> next() {
+					return iterator.next();
+				}
+
+				@Override
+				public void remove() {
+					checkModifiable();
+					iterator.remove();
+				}
+			};
+		}
+
+		/**
+		 * @see Set#size()
+		 */
+		@Override
+		public int size() {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * A header keeping the name as it was first added.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private final class Entry implements Map.Entry<String, List<String>> {
+
+		/**
+		 * The header name.
+		 */
+		private final String name;
+
+		/**
+		 * The header values.
+		 */
+		private Values values;
+
+		/**
+		 * Constructs a new entry.
+		 *
+		 * @param name the header name
+		 * @param values the header values
+		 */
+		Entry(final String name, final Values values) {
+			this.name = name;
+			this.values = values;
+		}
+
+		/**
+		 * @see Map.Entry#getKey()
+		 */
+		@Override
+		public String getKey() {
+			return name;
+		}
+
+		/**
+		 * @see Map.Entry#getValue()
+		 */
+		@Override
+		public List<String> getValue() {
+			return values;
+		}
+
+		/**
+		 * Sets a copy of the given values, see {@link HeaderMap#put(String, List)}.
+		 *
+		 * @see Map.Entry#setValue(Object)
+		 */
+		@Override
+		public List<String> setValue(final List<String> newValues) {
+			checkModifiable();
+			List<String> oldValues = values;
+			values = Values.copyOf(newValues);
+			return oldValues;
+		}
+
+		/**
+		 * @see Object#equals(Object)
+		 */
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof Map.Entry<?, ?> that
+					&& Objects.equals(name, that.getKey())
+					&& Objects.equals(values, that.getValue());
+		}
+
+		/**
+		 * @see Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(name) ^ Objects.hashCode(values);
+		}
+
+		/**
+		 * @see Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return name + "=" + values;
+		}
+	}
+
+	/**
+	 * Header values list which stores a single value in a field and only allocates an array for multiple values. The list
+	 * becomes unmodifiable when its map is made read only.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private static final class Values extends AbstractList<String> implements RandomAccess {
+
+		/**
+		 * The initial capacity of the array used for multiple values.
+		 */
+		private static final int INITIAL_CAPACITY = 4;
+
+		/**
+		 * The value when the list has a single value and no array was allocated yet.
+		 */
+		private String single;
+
+		/**
+		 * The values once the list had more than one value.
+		 */
+		private String[] array;
+
+		/**
+		 * The number of values.
+		 */
+		private int size;
+
+		/**
+		 * Flag indicating that the values cannot be modified anymore, see {@link HeaderMap#readOnly()}.
+		 */
+		private boolean readOnly;
+
+		/**
+		 * Returns a new values list with the given values.
+		 *
+		 * @param values the values to copy, can be {@code null}
+		 * @return a new values list
+		 */
+		private static Values copyOf(final List<String> values) {
+			Values copy = new Values();
+			if (null != values) {
+				copy.addAll(values);
+			}
+			return copy;
+		}
+
+		/**
+		 * Throws an {@link UnsupportedOperationException} if the values are read only.
+		 */
+		private void checkModifiable() {
+			if (readOnly) {
+				throw new UnsupportedOperationException("Header values are read only");
+			}
+		}
+
+		/**
+		 * @see List#get(int)
+		 */
+		@Override
+		public String get(final int index) {
+			Objects.checkIndex(index, size);
+			return null != array ? array[index] : single;
+		}
+
+		/**
+		 * @see List#size()
+		 */
+		@Override
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * @see List#set(int, Object)
+		 */
+		@Override
+		public String set(final int index, final String value) {
+			checkModifiable();
+			Objects.checkIndex(index, size);
+			String old;
+			if (null != array) {
+				old = array[index];
+				array[index] = value;
+			} else {
+				old = single;
+				single = value;
+			}
+			return old;
+		}
+
+		/**
+		 * @see List#add(int, Object)
+		 */
+		@Override
+		public void add(final int index, final String value) {
+			checkModifiable();
+			Objects.checkIndex(index, size + 1);
+			if (0 == size && null == array) {
+				single = value;
+			} else {
+				if (null == array) {
+					array = new String[INITIAL_CAPACITY];
+					array[0] = single;
+					single = null;
+				} else if (size == array.length) {
+					array = Arrays.copyOf(array, size * 2);
+				}
+				System.arraycopy(array, index, array, index + 1, size - index);
+				array[index] = value;
+			}
+			++size;
+			++modCount;
+		}
+
+		/**
+		 * @see List#remove(int)
+		 */
+		@Override
+		public String remove(final int index) {
+			checkModifiable();
+			Objects.checkIndex(index, size);
+			String old;
+			if (null != array) {
+				old = array[index];
+				System.arraycopy(array, index + 1, array, index, size - index - 1);
+				array[size - 1] = null;
+			} else {
+				old = single;
+				single = null;
+			}
+			--size;
+			++modCount;
+			return old;
+		}
+	}
+}
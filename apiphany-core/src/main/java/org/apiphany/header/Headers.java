@@ -3,9 +3,9 @@ package org.apiphany.header;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SortedMap;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 
@@ -22,13 +22,16 @@ import org.morphix.lang.collections.Maps;
  * It includes methods to add headers, check for the presence of headers and their values, and retrieve header values
  * from the map. The methods are designed to handle various types of header values, including nulls, strings, iterables,
  * and arrays, while ensuring that all header values are preserved without overwriting duplicates.
+ * <p>
+ * The header lookups are case-insensitive, they are done directly on case-insensitive maps like {@link HeaderMap} and
+ * fall back to scanning all the headers ignoring the case for other maps.
  *
  * @author Radu Sebastian LAZIN
  */
 public interface Headers {
 
 	/**
-	 * Creates a new immutable map and populates it with the given external header functions.
+	 * Creates a new immutable {@link HeaderMap} and populates it with the given external header functions.
 	 *
 	 * @param headerFunctions the {@link HeaderFunction}s to execute
 	 * @return a new map containing the inserted headers
@@ -37,11 +40,11 @@ public interface Headers {
 		if (null == headerFunctions || 0 == headerFunctions.length) {
 			return Collections.emptyMap();
 		}
-		var map = new HashMap<String, List<String>>();
+		var map = new HeaderMap();
 		for (HeaderFunction headerFunction : headerFunctions) {
 			headerFunction.addTo(map);
 		}
-		return Collections.unmodifiableMap(map);
+		return map.readOnly();
 	}
 
 	/**
@@ -83,7 +86,9 @@ public interface Headers {
 			case Object[] array -> Arrays.asList(array);
 			default -> Collections.singletonList(headerValue);
 		};
-		List<String> existing = existingHeaders.computeIfAbsent(headerName.toString(), k -> new ArrayList<>());
+		List<String> existing = existingHeaders instanceof HeaderMap headerMap
+				? headerMap.getOrCreate(headerName)
+				: existingHeaders.computeIfAbsent(headerName.toString(), k -> new ArrayList<>());
 		headerValues.forEach(hv -> {
 			String stringValue = Strings.safeToString(hv);
 			if (Strings.isNotEmpty(stringValue)) {
@@ -184,6 +189,9 @@ public interface Headers {
 		if (headers.containsKey(headerKey)) {
 			return true;
 		}
+		if (isCaseInsensitive(headers)) {
+			return false;
+		}
 		for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
 			if (entry.getKey().equalsIgnoreCase(headerKey)) {
 				return true;
@@ -210,6 +218,9 @@ public interface Headers {
 		if (null != values) {
 			return values;
 		}
+		if (isCaseInsensitive(headers)) {
+			return Collections.emptyList();
+		}
 		for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
 			if (entry.getKey().equalsIgnoreCase(headerKey)) {
 				return entry.getValue();
@@ -217,4 +228,16 @@ public interface Headers {
 		}
 		return Collections.emptyList();
 	}
+
+	/**
+	 * Returns true if the given headers map looks up the header names ignoring the case, in which case a missing header
+	 * does not need to be searched by scanning all the headers.
+	 *
+	 * @param headers the headers map
+	 * @return true if the headers map is case-insensitive
+	 */
+	static boolean isCaseInsensitive(final Map<String, List<String>> headers) {
+		return headers instanceof HeaderMap
+				|| headers instanceof SortedMap<String, List<String>> sortedMap && String.CASE_INSENSITIVE_ORDER == sortedMap.comparator();
+	}
 }
@@ -0,0 +1,163 @@
+package org.apiphany.http;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apiphany.lang.Strings;
+
+/**
+ * A URI template parsed once into its literal parts so that it can be expanded many times without parsing it again. The
+ * expansion follows the same rules as {@link URITemplate#expand(String, Charset, Object...)}. Instances are immutable
+ * and thread-safe.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public final class CompiledURITemplate {
+
+	/**
+	 * The estimated length of an expanded variable value.
+	 */
+	private static final int ESTIMATED_VALUE_LENGTH = 16;
+
+	/**
+	 * The URI template.
+	 */
+	private final String template;
+
+	/**
+	 * The literal parts of the template, one more than the variables, the variables go between consecutive literals.
+	 */
+	private final String[] literals;
+
+	/**
+	 * The variables as they appear in the template including the curly braces, used for error messages.
+	 */
+	private final String[] variables;
+
+	/**
+	 * The total length of the literal parts.
+	 */
+	private final int literalsLength;
+
+	/**
+	 * Constructs a compiled URI template.
+	 *
+	 * @param template the URI template
+	 * @throws IllegalArgumentException if the template is empty or malformed
+	 */
+	private CompiledURITemplate(final String template) {
+		if (Strings.isEmpty(template)) {
+			throw new IllegalArgumentException("URI template cannot be null or empty");
+		}
+		List<String> literalList = new ArrayList<>();
+		List<String> variableList = new ArrayList<>();
+		int start = 0;
+		int length = template.length();
+		while (true) {
+			int open = template.indexOf(URITemplate.VARIABLE_START, start);
+			if (-1 == open) {
+				literalList.add(template.substring(start, length));
+				break;
+			}
+			int close = template.indexOf(URITemplate.VARIABLE_END, open + 1);
+			if (-1 == close) {
+				throw new IllegalArgumentException("Unclosed variable at index " + open + " in URI template: " + template);
+			}
+			literalList.add(template.substring(start, open));
+			variableList.add(template.substring(open, close + 1));
+			start = close + 1;
+		}
+		this.template = template;
+		this.literals = literalList.toArray(String[]::new);
+		this.variables = variableList.toArray(String[]::new);
+		this.literalsLength = literalList.stream().mapToInt(String::length).sum();
+	}
+
+	/**
+	 * Compiles the given URI template.
+	 *
+	 * @param template the URI template
+	 * @return a compiled URI template
+	 * @throws IllegalArgumentException if the template is empty or malformed
+	 */
+	public static CompiledURITemplate of(final String template) {
+		return new CompiledURITemplate(template);
+	}
+
+	/**
+	 * Expands this template by replacing the template variables, in order, with the given values without encoding them.
+	 *
+	 * @param uriVariables the values for the template variables
+	 * @return the expanded URI as string
+	 * @throws IllegalArgumentException if the number of values does not match the number of template variables or if any
+	 *     value is {@code null}
+	 */
+	public String expand(final Object... uriVariables) {
+		return expand(null, uriVariables);
+	}
+
+	/**
+	 * Expands this template by replacing the template variables, in order, with the given values. If the given character
+	 * set is not {@code null} the values are encoded with {@link URIEncoder#encodePath(String, Charset)}.
+	 *
+	 * @param charset the character set used to encode the values, {@code null} for no encoding
+	 * @param uriVariables the values for the template variables
+	 * @return the expanded URI as string
+	 * @throws IllegalArgumentException if the number of values does not match the number of template variables or if any
+	 *     value is {@code null}
+	 */
+	public String expand(final Charset charset, final Object... uriVariables) {
+		int variableCount = null != uriVariables ? uriVariables.length : 0;
+		if (variableCount < variables.length) {
+			throw new IllegalArgumentException("Not enough values to expand URI template: " + template);
+		}
+		if (variableCount > variables.length) {
+			throw new IllegalArgumentException("Too many values (" + variableCount + ") to expand URI template: " + template);
+		}
+		if (0 == variableCount) {
+			return template;
+		}
+		StringBuilder sb = new StringBuilder(literalsLength + ESTIMATED_VALUE_LENGTH * variableCount);
+		for (int i = 0; i < variableCount; ++i) {
+			Object uriVariable = uriVariables[i];
+			if (null == uriVariable) {
+				throw new IllegalArgumentException("Value for variable " + variables[i] + " cannot be null");
+			}
+			String value = uriVariable.toString();
+			sb.append(literals[i]);
+			if (null != charset) {
+				URIEncoder.encodePath(sb, value, charset);
+			} else {
+				sb.append(value);
+			}
+		}
+		return sb.append(literals[variableCount]).toString();
+	}
+
+	/**
+	 * Returns the URI template.
+	 *
+	 * @return the URI template
+	 */
+	public String getTemplate() {
+		return template;
+	}
+
+	/**
+	 * Returns the number of variables in the template.
+	 *
+	 * @return the number of variables
+	 */
+	public int getVariableCount() {
+		return variables.length;
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return template;
+	}
+}
@@ -219,6 +219,11 @@ public enum ContentEncoding {
 	 */
 	private static final Map<String, ContentEncoding> NAME_MAP = Enums.buildNameMap(values(), ToStringFunction.toLowerCase());
 
+	/**
+	 * Cache for the parsed header values.
+	 */
+	private static final HeaderValueCache<List<ContentEncoding>> PARSED_VALUES = new HeaderValueCache<>();
+
 	/**
 	 * Content encoding value.
 	 */
@@ -410,12 +415,9 @@ public enum ContentEncoding {
 			return null;
 		}
 		for (String value : values) {
-			String[] encodingParts = value.split(",");
-			for (String encodingPart : encodingParts) {
-				ContentEncoding encoding = fromString(encodingPart.trim(), Nullables.supplyNull());
-				if (null != encoding) {
-					return encoding;
-				}
+			List<ContentEncoding> encodings = parse(value);
+			if (!encodings.isEmpty()) {
+				return encodings.getFirst();
 			}
 		}
 		return null;
@@ -426,23 +428,61 @@ public enum ContentEncoding {
 	 * match, an empty list is returned.
 	 *
 	 * @param values the list of strings to parse
-	 * @return a list of matching content encoding enums, or an empty list if none match
+	 * @return an unmodifiable list of matching content encoding enums, or an empty list if none match
 	 */
 	public static List<ContentEncoding> parseAll(final List<String> values) {
 		if (Lists.isEmpty(values)) {
 			return Collections.emptyList();
 		}
+		if (values.size() == 1) {
+			return parse(values.getFirst());
+		}
 		List<ContentEncoding> encodings = new ArrayList<>(values.size());
 		for (String value : values) {
-			String[] encodingParts = value.split(",");
-			for (String encodingPart : encodingParts) {
-				ContentEncoding encoding = fromString(encodingPart.trim(), Nullables.supplyNull());
-				if (null != encoding) {
-					encodings.add(encoding);
-				}
+			encodings.addAll(parse(value));
+		}
+		return Collections.unmodifiableList(encodings);
+	}
+
+	/**
+	 * Parses the given comma separated header value and returns the list of matching {@link ContentEncoding} enums. The
+	 * parsed values are cached by the raw header value since servers usually send the same few values.
+	 *
+	 * @param value the header value to parse
+	 * @return an unmodifiable list of matching content encoding enums, or an empty list if none match
+	 */
+	private static List<ContentEncoding> parse(final String value) {
+		return PARSED_VALUES.get(value, ContentEncoding::parseValue);
+	}
+
+	/**
+	 * Parses the given comma separated header value by scanning it once for the separators without splitting it.
+	 *
+	 * @param value the header value to parse
+	 * @return an unmodifiable list of matching content encoding enums, or an empty list if none match
+	 */
+	private static List<ContentEncoding> parseValue(final String value) {
+		List<ContentEncoding> encodings = new ArrayList<>(1);
+		int length = value.length();
+		for (int start = 0, end; start <= length; start = end + 1) {
+			end = value.indexOf(',', start);
+			if (end < 0) {
+				end = length;
+			}
+			int from = start;
+			int to = end;
+			while (from < to && value.charAt(from) <= ' ') {
+				++from;
+			}
+			while (to > from && value.charAt(to - 1) <= ' ') {
+				--to;
+			}
+			ContentEncoding encoding = fromString(value.substring(from, to), Nullables.supplyNull());
+			if (null != encoding) {
+				encodings.add(encoding);
 			}
 		}
-		return encodings;
+		return List.copyOf(encodings);
 	}
 
 	/**
@@ -0,0 +1,104 @@
+package org.apiphany.http;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bounded thread-safe cache from raw header values to their parsed representation. Servers usually send the same few
+ * values for headers like {@code Content-Type} or {@code Content-Encoding} so parsing them on every response is wasted
+ * work.
+ * <p>
+ * When the cache is full it is cleared before adding a new value which keeps the lookups lock free. Header values longer
+ * than {@link #MAX_KEY_LENGTH}, values which cannot be parsed ({@code null} results) and parsed values rejected by the
+ * cacheable predicate (for example values with per-message parameters) are not cached.
+ *
+ * @param <V> the parsed value type, must be immutable
+ *
+ * @author Radu Sebastian LAZIN
+ */
+final class HeaderValueCache<V> {
+
+	/**
+	 * The default maximum number of cached values.
+	 */
+	static final int DEFAULT_MAX_SIZE = 256;
+
+	/**
+	 * The maximum length of a cached header value.
+	 */
+	static final int MAX_KEY_LENGTH = 256;
+
+	/**
+	 * The cached values.
+	 */
+	private final Map<String, V> values = new ConcurrentHashMap<>();
+
+	/**
+	 * The maximum number of cached values.
+	 */
+	private final int maxSize;
+
+	/**
+	 * The predicate deciding which parsed values are cached.
+	 */
+	private final Predicate<? super V> cacheable;
+
+	/**
+	 * Constructs a header value cache with the given maximum size.
+	 *
+	 * @param maxSize the maximum number of cached values
+	 * @param cacheable the predicate deciding which parsed values are cached
+	 */
+	HeaderValueCache(final int maxSize, final Predicate<? super V> cacheable) {
+		this.maxSize = maxSize;
+		this.cacheable = cacheable;
+	}
+
+	/**
+	 * Constructs a header value cache with the {@link #DEFAULT_MAX_SIZE} which caches all parsed values.
+	 */
+	HeaderValueCache() {
+		this(DEFAULT_MAX_SIZE, value -> true);
+	}
+
+	/**
+	 * Returns the parsed value for the given header value, parsing and caching it with the given parser if it is not
+	 * cached.
+	 *
+	 * @param headerValue the raw header value
+	 * @param parser the header value parser
+	 * @return the parsed value, can be {@code null} if the parser returns {@code null}
+	 */
+	V get(final String headerValue, final Function<String, V> parser) {
+		V value = values.get(headerValue);
+		if (null != value) {
+			return value;
+		}
+		value = parser.apply(headerValue);
+		if (null != value && headerValue.length() <= MAX_KEY_LENGTH && cacheable.test(value)) {
+			if (values.size() >= maxSize) {
+				values.clear();
+			}
+			values.putIfAbsent(headerValue, value);
+		}
+		return value;
+	}
+
+	/**
+	 * Removes all the cached values.
+	 */
+	void clear() {
+		values.clear();
+	}
+
+	/**
+	 * Returns the number of cached values.
+	 *
+	 * @return the number of cached values
+	 */
+	int size() {
+		return values.size();
+	}
+}
@@ -48,6 +48,13 @@ public class HttpContentType implements ApiMimeType {
 		}
 	}
 
+	/**
+	 * Cache for the parsed header values, values with a boundary are not cached since the boundary is usually unique for
+	 * every message.
+	 */
+	private static final HeaderValueCache<HttpContentType> PARSED_VALUES =
+			new HeaderValueCache<>(HeaderValueCache.DEFAULT_MAX_SIZE, contentType -> null == contentType.getBoundary());
+
 	/**
 	 * The content type.
 	 */
@@ -268,6 +275,8 @@ public class HttpContentType implements ApiMimeType {
 	 * <li>TODO: add proper handling of multiple header values in a single string</li>
 	 * <li>TODO: add strict parsing mode which throws exceptions on invalid header values instead of returning null</li>
 	 * </ul>
+	 * Since servers usually send the same few values, the parsed values are cached by the raw header value except for the
+	 * values containing a boundary.
 	 *
 	 * @param headerValue the header value
 	 * @return an HTTP content type from the given header value
@@ -276,31 +285,104 @@ public class HttpContentType implements ApiMimeType {
 		if (Strings.isEmpty(headerValue)) {
 			return null;
 		}
-		String[] parts = headerValue.split(";");
-		String mimeType = parts[0].trim().toLowerCase();
+		return PARSED_VALUES.get(headerValue, HttpContentType::parseValue);
+	}
+
+	/**
+	 * Parses the given non-empty header value by scanning it once for the parameter separators without splitting it.
+	 *
+	 * @param headerValue the header value
+	 * @return an HTTP content type from the given header value or null if the content type is not known
+	 */
+	private static HttpContentType parseValue(final String headerValue) {
+		int length = headerValue.length();
+		int end = indexOf(headerValue, ';', 0, length);
+		String mimeType = trimmedSubstring(headerValue, 0, end).toLowerCase();
 
 		ContentType type = ContentType.fromString(mimeType, Nullables.supplyNull());
 		if (null == type) {
 			return null;
 		}
-		if (parts.length == 1) {
-			return HttpContentType.of(type);
-		}
 		Charset charset = null;
 		String boundary = null;
-		for (int index = 1; index < parts.length; index++) {
-			String[] param = parts[index].trim().split("=", 2);
-			if (param.length == 2) {
-				if (null == charset && Param.CHARSET.equalsIgnoreCase(param[0])) {
-					charset = ApiMimeType.parseCharset(param[1].trim());
-				} else if (null == boundary && Param.BOUNDARY.equalsIgnoreCase(param[0])) {
-					boundary = param[1].trim();
-				}
+		for (int start = end + 1; start < length; start = end + 1) {
+			end = indexOf(headerValue, ';', start, length);
+			int nameStart = skipWhitespace(headerValue, start, end);
+			int equals = indexOf(headerValue, '=', nameStart, end);
+			if (equals == end) {
+				continue;
+			}
+			if (null == charset && isParam(headerValue, nameStart, equals, Param.CHARSET)) {
+				charset = ApiMimeType.parseCharset(trimmedSubstring(headerValue, equals + 1, end));
+			} else if (null == boundary && isParam(headerValue, nameStart, equals, Param.BOUNDARY)) {
+				boundary = trimmedSubstring(headerValue, equals + 1, end);
 			}
 		}
 		return HttpContentType.of(type, charset, boundary);
 	}
 
+	/**
+	 * Returns the index of the given character in the given region of the string or the region end if not found.
+	 *
+	 * @param value the string
+	 * @param ch the character to find
+	 * @param start the region start (inclusive)
+	 * @param end the region end (exclusive)
+	 * @return the index of the character or the region end if not found
+	 */
+	private static int indexOf(final String value, final char ch, final int start, final int end) {
+		int index = value.indexOf(ch, start, end);
+		return index < 0 ? end : index;
+	}
+
+	/**
+	 * Returns the index of the first non whitespace character in the given region of the string or the region end if the
+	 * region contains only whitespace. Whitespace has the same meaning as in {@link String#trim()}.
+	 *
+	 * @param value the string
+	 * @param start the region start (inclusive)
+	 * @param end the region end (exclusive)
+	 * @return the index of the first non whitespace character
+	 */
+	private static int skipWhitespace(final String value, final int start, final int end) {
+		int index = start;
+		while (index < end && value.charAt(index) <= ' ') {
+			++index;
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the given region of the string without leading and trailing whitespace.
+	 *
+	 * @param value the string
+	 * @param start the region start (inclusive)
+	 * @param end the region end (exclusive)
+	 * @return the trimmed region
+	 */
+	private static String trimmedSubstring(final String value, final int start, final int end) {
+		int from = skipWhitespace(value, start, end);
+		int to = end;
+		while (to > from && value.charAt(to - 1) <= ' ') {
+			--to;
+		}
+		return value.substring(from, to);
+	}
+
+	/**
+	 * Returns true if the given region of the string is the given parameter name ignoring the case.
+	 *
+	 * @param value the string
+	 * @param start the region start (inclusive)
+	 * @param end the region end (exclusive)
+	 * @param paramName the parameter name
+	 * @return true if the region is the given parameter name
+	 */
+	private static boolean isParam(final String value, final int start, final int end, final String paramName) {
+		int length = end - start;
+		return length == paramName.length() && value.regionMatches(true, start, paramName, 0, length);
+	}
+
 	/**
 	 * Returns a new HTTP content type given the content type and the encoding. If the content type is null or blank, it
 	 * defaults to {@code application/octet-stream}. If the encoding is null or blank, the character set is not set and will
@@ -0,0 +1,205 @@
+package org.apiphany.http;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.morphix.reflection.Constructors;
+
+/**
+ * Table driven RFC 3986 percent-encoder. Only the unreserved characters ({@code ALPHA / DIGIT / "-" / "." / "_" / "~"})
+ * are kept as they are, every other character is encoded as {@code %XX} with upper case hexadecimal digits using the
+ * bytes of the given character set. The strings that don't need encoding are returned as they are without any
+ * allocation.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+final class PercentEncoder {
+
+	/**
+	 * Upper case hexadecimal characters.
+	 */
+	private static final char[] HEX_CHARS = "0123456789ABCDEF".toCharArray();
+
+	/**
+	 * The ASCII characters which are not encoded, indexed by character.
+	 */
+	private static final boolean[] UNRESERVED = unreserved();
+
+	/**
+	 * The estimated number of characters added by encoding a string.
+	 */
+	private static final int ESTIMATED_EXTRA_LENGTH = 16;
+
+	/**
+	 * Hide constructor.
+	 */
+	private PercentEncoder() {
+		throw Constructors.unsupportedOperationException();
+	}
+
+	/**
+	 * Returns the table of unreserved ASCII characters.
+	 *
+	 * @return the unreserved characters table
+	 */
+	private static boolean[] unreserved() {
+		boolean[] table = new boolean[128];
+		for (char ch = 'a'; ch <= 'z'; ++ch) {
+			table[ch] = true;
+		}
+		for (char ch = 'A'; ch <= 'Z'; ++ch) {
+			table[ch] = true;
+		}
+		for (char ch = '0'; ch <= '9'; ++ch) {
+			table[ch] = true;
+		}
+		table['-'] = true;
+		table['.'] = true;
+		table['_'] = true;
+		table['~'] = true;
+		return table;
+	}
+
+	/**
+	 * Returns true if the given character is unreserved.
+	 *
+	 * @param ch the character
+	 * @return true if the character is unreserved
+	 */
+	private static boolean isUnreserved(final char ch) {
+		return ch < UNRESERVED.length && UNRESERVED[ch];
+	}
+
+	/**
+	 * Encodes the given string.
+	 *
+	 * @param string the string to encode
+	 * @param charset the character set used to encode the characters which are not unreserved
+	 * @param spaceAsPlus if true spaces are encoded as {@code +} ({@code application/x-www-form-urlencoded}) instead of
+	 *     {@code %20}
+	 * @return the encoded string or the given string if it didn't need encoding
+	 */
+	static String encode(final String string, final Charset charset, final boolean spaceAsPlus) {
+		int first = firstToEncode(string);
+		if (-1 == first) {
+			return string;
+		}
+		StringBuilder sb = new StringBuilder(string.length() + ESTIMATED_EXTRA_LENGTH);
+		sb.append(string, 0, first);
+		return appendEncoded(sb, string, first, charset, spaceAsPlus).toString();
+	}
+
+	/**
+	 * Appends the given string encoded to the given string builder.
+	 *
+	 * @param sb the string builder
+	 * @param string the string to encode
+	 * @param charset the character set used to encode the characters which are not unreserved
+	 * @param spaceAsPlus if true spaces are encoded as {@code +} ({@code application/x-www-form-urlencoded}) instead of
+	 *     {@code %20}
+	 * @return the given string builder
+	 */
+	static StringBuilder append(final StringBuilder sb, final String string, final Charset charset, final boolean spaceAsPlus) {
+		int first = firstToEncode(string);
+		if (-1 == first) {
+			return sb.append(string);
+		}
+		sb.append(string, 0, first);
+		return appendEncoded(sb, string, first, charset, spaceAsPlus);
+	}
+
+	/**
+	 * Returns the index of the first character that needs encoding or -1 if the string doesn't need encoding.
+	 *
+	 * @param string the string
+	 * @return the index of the first character that needs encoding
+	 */
+	private static int firstToEncode(final String string) {
+		for (int i = 0, length = string.length(); i < length; ++i) {
+			if (!isUnreserved(string.charAt(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Appends the given string encoded starting from the given index. Spaces and, when the character set is ASCII
+	 * compatible, the ASCII characters are encoded directly, the other characters are encoded in runs through the
+	 * character set so that surrogate pairs are kept together.
+	 *
+	 * @param sb the string builder
+	 * @param string the string to encode
+	 * @param from the index to start from
+	 * @param charset the character set
+	 * @param spaceAsPlus if true spaces are encoded as {@code +}
+	 * @return the given string builder
+	 */
+	private static StringBuilder appendEncoded(final StringBuilder sb, final String string, final int from, final Charset charset,
+			final boolean spaceAsPlus) {
+		boolean asciiCompatible = isAsciiCompatible(charset);
+		int length = string.length();
+		int i = from;
+		while (i < length) {
+			char ch = string.charAt(i);
+			if (isUnreserved(ch)) {
+				sb.append(ch);
+				++i;
+			} else if (' ' == ch) {
+				sb.append(spaceAsPlus ? "+" : "%20");
+				++i;
+			} else if (asciiCompatible && ch < UNRESERVED.length) {
+				appendByte(sb, ch);
+				++i;
+			} else {
+				int end = i + 1;
+				while (end < length && needsCharset(string.charAt(end), asciiCompatible)) {
+					++end;
+				}
+				for (byte b : string.substring(i, end).getBytes(charset)) {
+					appendByte(sb, b);
+				}
+				i = end;
+			}
+		}
+		return sb;
+	}
+
+	/**
+	 * Returns true if the given character must be encoded through the character set.
+	 *
+	 * @param ch the character
+	 * @param asciiCompatible true if the character set is ASCII compatible
+	 * @return true if the character must be encoded through the character set
+	 */
+	private static boolean needsCharset(final char ch, final boolean asciiCompatible) {
+		if (ch >= UNRESERVED.length) {
+			return true;
+		}
+		return !asciiCompatible && !UNRESERVED[ch] && ' ' != ch;
+	}
+
+	/**
+	 * Returns true if the given character set encodes the ASCII characters as single bytes with the same value.
+	 *
+	 * @param charset the character set
+	 * @return true if the character set is ASCII compatible
+	 */
+	private static boolean isAsciiCompatible(final Charset charset) {
+		return StandardCharsets.UTF_8.equals(charset)
+				|| StandardCharsets.ISO_8859_1.equals(charset)
+				|| StandardCharsets.US_ASCII.equals(charset);
+	}
+
+	/**
+	 * Appends the given byte as {@code %XX}.
+	 *
+	 * @param sb the string builder
+	 * @param b the byte
+	 */
+	private static void appendByte(final StringBuilder sb, final int b) {
+		sb.append('%')
+				.append(HEX_CHARS[(b >> 4) & 0x0F])
+				.append(HEX_CHARS[b & 0x0F]);
+	}
+}
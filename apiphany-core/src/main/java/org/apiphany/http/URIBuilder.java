@@ -0,0 +1,233 @@
+package org.apiphany.http;
+
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+
+import org.apiphany.lang.Strings;
+
+/**
+ * Single pass URI assembler. The URL, the path segments and the query parameters are appended to one
+ * {@link StringBuilder} and the result is parsed only once when the {@link URI} is built, instead of concatenating
+ * intermediate strings. The path segments and the query parameters can be appended as they are, when they are already
+ * encoded, or encoded on the fly with {@link URIEncoder}.
+ * <p>
+ * Example:
+ *
+ * <pre>{@code
+ * URI uri = URIBuilder.of("http://localhost/api")
+ * 		.path("users", StandardCharsets.UTF_8)
+ * 		.param("name", "John Doe", StandardCharsets.UTF_8)
+ * 		.build();
+ * }</pre>
+ *
+ * This class is not thread-safe.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public final class URIBuilder {
+
+	/**
+	 * The query start character.
+	 */
+	public static final char QUERY_START = '?';
+
+	/**
+	 * The query parameters separator.
+	 */
+	public static final char PARAM_SEPARATOR = '&';
+
+	/**
+	 * The query parameter name and value separator.
+	 */
+	public static final char NAME_VALUE_SEPARATOR = '=';
+
+	/**
+	 * The path separator.
+	 */
+	public static final char PATH_SEPARATOR = '/';
+
+	/**
+	 * The extra capacity reserved for the path segments and query parameters.
+	 */
+	private static final int DEFAULT_EXTRA_CAPACITY = 64;
+
+	/**
+	 * The URI being built.
+	 */
+	private final StringBuilder sb;
+
+	/**
+	 * Flag indicating that the URI already has a query.
+	 */
+	private boolean hasQuery;
+
+	/**
+	 * Constructs a URI builder starting from the given URL.
+	 *
+	 * @param url the URL
+	 */
+	private URIBuilder(final String url) {
+		if (Strings.isEmpty(url)) {
+			throw new IllegalArgumentException("url cannot be null or empty");
+		}
+		this.sb = new StringBuilder(url.length() + DEFAULT_EXTRA_CAPACITY).append(url);
+		this.hasQuery = url.indexOf(QUERY_START) >= 0;
+	}
+
+	/**
+	 * Returns a new URI builder starting from the given URL.
+	 *
+	 * @param url the URL
+	 * @return a new URI builder
+	 */
+	public static URIBuilder of(final String url) {
+		return new URIBuilder(url);
+	}
+
+	/**
+	 * Appends a path segment preceded by a path separator, the segment is appended as it is.
+	 *
+	 * @param segment the path segment
+	 * @return this
+	 */
+	public URIBuilder path(final String segment) {
+		return path(segment, null);
+	}
+
+	/**
+	 * Appends a path segment preceded by a path separator, the segment is encoded with
+	 * {@link URIEncoder#encodePath(StringBuilder, String, Charset)} if the given character set is not {@code null}.
+	 *
+	 * @param segment the path segment
+	 * @param charset the character set used to encode the segment, {@code null} for no encoding
+	 * @return this
+	 */
+	public URIBuilder path(final String segment, final Charset charset) {
+		if (hasQuery) {
+			throw new IllegalStateException("Path segments cannot be added after the query");
+		}
+		if (PATH_SEPARATOR != sb.charAt(sb.length() - 1)) {
+			sb.append(PATH_SEPARATOR);
+		}
+		append(segment, charset, false);
+		return this;
+	}
+
+	/**
+	 * Appends a query parameter, the name and value are appended as they are.
+	 *
+	 * @param name the parameter name
+	 * @param value the parameter value
+	 * @return this
+	 */
+	public URIBuilder param(final String name, final String value) {
+		return param(name, value, null);
+	}
+
+	/**
+	 * Appends a query parameter, the name and value are encoded with
+	 * {@link URIEncoder#encodeParamName(StringBuilder, String, Charset)} and
+	 * {@link URIEncoder#encodeParamValue(StringBuilder, String, Charset)} if the given character set is not {@code null}.
+	 *
+	 * @param name the parameter name
+	 * @param value the parameter value
+	 * @param charset the character set used to encode the parameter, {@code null} for no encoding
+	 * @return this
+	 */
+	public URIBuilder param(final String name, final String value, final Charset charset) {
+		sb.append(hasQuery ? PARAM_SEPARATOR : QUERY_START);
+		hasQuery = true;
+		append(name, charset, false);
+		sb.append(NAME_VALUE_SEPARATOR);
+		append(value, charset, true);
+		return this;
+	}
+
+	/**
+	 * Appends the given query parameters as they are, one parameter for each value in the iteration order of the map.
+	 *
+	 * @param params the query parameters, can be {@code null}
+	 * @return this
+	 */
+	public URIBuilder params(final Map<String, List<String>> params) {
+		return params(params, null);
+	}
+
+	/**
+	 * Appends the given query parameters, one parameter for each value in the iteration order of the map, encoded if the
+	 * given character set is not {@code null}.
+	 *
+	 * @param params the query parameters, can be {@code null}
+	 * @param charset the character set used to encode the parameters, {@code null} for no encoding
+	 * @return this
+	 */
+	public URIBuilder params(final Map<String, List<String>> params, final Charset charset) {
+		if (null == params || params.isEmpty()) {
+			return this;
+		}
+		sb.ensureCapacity(sb.length() + estimatedLength(params));
+		for (Map.Entry<String, List<String>> param : params.entrySet()) {
+			String name = param.getKey();
+			for (String value : param.getValue()) {
+				param(name, value, charset);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Appends the given string encoded if the given character set is not {@code null}.
+	 *
+	 * @param string the string to append
+	 * @param charset the character set, {@code null} for no encoding
+	 * @param paramValue true if the string is a parameter value
+	 */
+	private void append(final String string, final Charset charset, final boolean paramValue) {
+		if (null == charset) {
+			sb.append(string);
+		} else if (paramValue) {
+			URIEncoder.encodeParamValue(sb, string, charset);
+		} else {
+			URIEncoder.encodePath(sb, string, charset);
+		}
+	}
+
+	/**
+	 * Returns the length of the given query parameters when appended as they are.
+	 *
+	 * @param params the query parameters
+	 * @return the estimated length
+	 */
+	private static int estimatedLength(final Map<String, List<String>> params) {
+		int length = 0;
+		for (Map.Entry<String, List<String>> param : params.entrySet()) {
+			int nameLength = param.getKey().length() + 2;
+			for (String value : param.getValue()) {
+				length += nameLength + (null != value ? value.length() : 0);
+			}
+		}
+		return length;
+	}
+
+	/**
+	 * Builds the URI, the assembled string is parsed only once here.
+	 *
+	 * @return the URI
+	 * @throws IllegalArgumentException if the assembled string is not a valid URI
+	 */
+	public URI build() {
+		return URI.create(sb.toString());
+	}
+
+	/**
+	 * Returns the assembled URI as string.
+	 *
+	 * @return the URI as string
+	 */
+	@Override
+	public String toString() {
+		return sb.toString();
+	}
+}
@@ -1,10 +1,14 @@
 package org.apiphany.http;
 
-import java.net.URLEncoder;
 import java.nio.charset.Charset;
 
 /**
  * Name space for URI encoding utilities.
+ * <p>
+ * The encoding follows RFC 3986: only the unreserved characters ({@code ALPHA / DIGIT / "-" / "." / "_" / "~"}) are
+ * kept, every other character is percent-encoded with the bytes of the given character set. Strings which don't need
+ * encoding are returned as they are. The {@link StringBuilder} variants append the encoded string directly to avoid
+ * creating intermediate strings when building URIs.
  *
  * @author Radu Sebastian LAZIN
  */
@@ -20,7 +24,19 @@ public interface URIEncoder {
 	 * @return the encoded string
 	 */
 	static String encodePath(final String string, final Charset charset) {
-		return URLEncoder.encode(string, charset).replace("+", "%20");
+		return PercentEncoder.encode(string, charset, false);
+	}
+
+	/**
+	 * Appends the given string encoded as in {@link #encodePath(String, Charset)} to the given string builder.
+	 *
+	 * @param sb the string builder
+	 * @param string the string to encode
+	 * @param charset the character set to use for encoding
+	 * @return the given string builder
+	 */
+	static StringBuilder encodePath(final StringBuilder sb, final String string, final Charset charset) {
+		return PercentEncoder.append(sb, string, charset, false);
 	}
 
 	/**
@@ -36,6 +52,18 @@ public interface URIEncoder {
 		return encodePath(string, charset);
 	}
 
+	/**
+	 * Appends the given string encoded as in {@link #encodeParamName(String, Charset)} to the given string builder.
+	 *
+	 * @param sb the string builder
+	 * @param string the string to encode
+	 * @param charset the character set to use for encoding
+	 * @return the given string builder
+	 */
+	static StringBuilder encodeParamName(final StringBuilder sb, final String string, final Charset charset) {
+		return encodePath(sb, string, charset);
+	}
+
 	/**
 	 * Encodes the given string for safe inclusion as a parameter value in a URI.
 	 * <p>
@@ -46,6 +74,18 @@ public interface URIEncoder {
 	 * @return the encoded string
 	 */
 	static String encodeParamValue(final String string, final Charset charset) {
-		return URLEncoder.encode(string, charset);
+		return PercentEncoder.encode(string, charset, true);
+	}
+
+	/**
+	 * Appends the given string encoded as in {@link #encodeParamValue(String, Charset)} to the given string builder.
+	 *
+	 * @param sb the string builder
+	 * @param string the string to encode
+	 * @param charset the character set to use for encoding
+	 * @return the given string builder
+	 */
+	static StringBuilder encodeParamValue(final StringBuilder sb, final String string, final Charset charset) {
+		return PercentEncoder.append(sb, string, charset, true);
 	}
 }
@@ -0,0 +1,108 @@
+package org.apiphany.http;
+
+import java.nio.charset.Charset;
+
+import org.apiphany.lang.Strings;
+
+/**
+ * Name space for URI template utilities.
+ * <p>
+ * A URI template is a URI in which variable parts are marked with curly braces, for example:
+ * {@code /users/{id}/orders/{orderId}}. The template itself has a low cardinality (it is the same for all requests to
+ * the same endpoint) which makes it suitable for tagging meters, while the expanded URI is the one actually used for
+ * the request.
+ * <p>
+ * Only simple positional expansion is supported: each variable is replaced, in order, with the string representation of
+ * the corresponding value.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public interface URITemplate {
+
+	/**
+	 * The character marking the start of a template variable.
+	 */
+	char VARIABLE_START = '{';
+
+	/**
+	 * The character marking the end of a template variable.
+	 */
+	char VARIABLE_END = '}';
+
+	/**
+	 * Compiles the given template so that it can be expanded many times without parsing it again.
+	 *
+	 * @param template the URI template
+	 * @return the compiled URI template
+	 * @throws IllegalArgumentException if the template is empty or malformed
+	 */
+	static CompiledURITemplate compile(final String template) {
+		return CompiledURITemplate.of(template);
+	}
+
+	/**
+	 * Expands the given template by replacing the template variables, in order, with the given values without encoding
+	 * them.
+	 *
+	 * @param template the URI template
+	 * @param uriVariables the values for the template variables
+	 * @return the expanded URI as string
+	 * @throws IllegalArgumentException if the number of values does not match the number of template variables, if any
+	 *     value is {@code null} or if the template is malformed
+	 */
+	static String expand(final String template, final Object... uriVariables) {
+		return expand(template, null, uriVariables);
+	}
+
+	/**
+	 * Expands the given template by replacing the template variables, in order, with the given values. If the given
+	 * character set is not {@code null} the values are encoded with {@link URIEncoder#encodePath(String, Charset)}.
+	 *
+	 * @param template the URI template
+	 * @param charset the character set used to encode the values, {@code null} for no encoding
+	 * @param uriVariables the values for the template variables
+	 * @return the expanded URI as string
+	 * @throws IllegalArgumentException if the number of values does not match the number of template variables, if any
+	 *     value is {@code null} or if the template is malformed
+	 */
+	static String expand(final String template, final Charset charset, final Object... uriVariables) {
+		if (Strings.isEmpty(template)) {
+			throw new IllegalArgumentException("URI template cannot be null or empty");
+		}
+		int variableCount = null != uriVariables ? uriVariables.length : 0;
+		StringBuilder sb = new StringBuilder(template.length() + 16 * variableCount);
+		int index = 0;
+		int start = 0;
+		int length = template.length();
+		while (start < length) {
+			int open = template.indexOf(VARIABLE_START, start);
+			if (-1 == open) {
+				sb.append(template, start, length);
+				break;
+			}
+			int close = template.indexOf(VARIABLE_END, open + 1);
+			if (-1 == close) {
+				throw new IllegalArgumentException("Unclosed variable at index " + open + " in URI template: " + template);
+			}
+			if (index >= variableCount) {
+				throw new IllegalArgumentException("Not enough values to expand URI template: " + template);
+			}
+			Object uriVariable = uriVariables[index++];
+			if (null == uriVariable) {
+				throw new IllegalArgumentException("Value for variable " + template.substring(open, close + 1) + " cannot be null");
+			}
+			String value = uriVariable.toString();
+			sb.append(template, start, open);
+			if (null != charset) {
+				URIEncoder.encodePath(sb, value, charset);
+			} else {
+				sb.append(value);
+			}
+			start = close + 1;
+		}
+		if (index != variableCount) {
+			throw new IllegalArgumentException("Too many values (" + variableCount + ") to expand URI template: " + template);
+		}
+		return sb.toString();
+	}
+}
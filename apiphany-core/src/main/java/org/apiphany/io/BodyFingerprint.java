@@ -0,0 +1,162 @@
+package org.apiphany.io;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Objects;
+
+import org.apiphany.security.MessageDigestAlgorithm;
+
+/**
+ * Incrementally computed fingerprint (length and hash) of a message body. The fingerprint is fed with the body bytes
+ * while the body is sent or received (see {@link FingerprintingInputStream}), so that streamed and very large bodies
+ * can be described without materializing them and without an extra pass over the data.
+ * <p>
+ * The length and hash are only meaningful once the fingerprint is {@link #isComplete() complete}, meaning the whole body
+ * went through it.
+ * <p>
+ * <b>Thread-safety:</b> the updates must not be concurrent, which is the case for streams read by a single thread and
+ * for reactive stream subscribers which are signaled serially. Completion is published safely to other threads.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class BodyFingerprint {
+
+	/**
+	 * The message digest fed with the body bytes.
+	 */
+	private final MessageDigest messageDigest;
+
+	/**
+	 * The number of bytes seen so far.
+	 */
+	private long length;
+
+	/**
+	 * The full digest, computed once when the fingerprint completes.
+	 */
+	private volatile byte[] digest;
+
+	/**
+	 * Constructs a fingerprint using the given message digest algorithm.
+	 *
+	 * @param algorithm the message digest algorithm
+	 */
+	protected BodyFingerprint(final MessageDigestAlgorithm algorithm) {
+		this.messageDigest = Objects.requireNonNull(algorithm, "algorithm cannot be null").newMessageDigest();
+	}
+
+	/**
+	 * Creates a new fingerprint using the given message digest algorithm.
+	 *
+	 * @param algorithm the message digest algorithm
+	 * @return a new fingerprint
+	 */
+	public static BodyFingerprint of(final MessageDigestAlgorithm algorithm) {
+		return new BodyFingerprint(algorithm);
+	}
+
+	/**
+	 * Creates a new SHA-256 fingerprint.
+	 *
+	 * @return a new fingerprint
+	 */
+	public static BodyFingerprint sha256() {
+		return of(MessageDigestAlgorithm.SHA256);
+	}
+
+	/**
+	 * Updates the fingerprint with the given byte.
+	 *
+	 * @param b the byte
+	 */
+	public void update(final int b) {
+		if (isComplete()) {
+			return;
+		}
+		messageDigest.update((byte) b);
+		++length;
+	}
+
+	/**
+	 * Updates the fingerprint with the given bytes.
+	 *
+	 * @param bytes the byte array
+	 * @param offset the offset of the first byte in the array
+	 * @param count the number of bytes
+	 */
+	public void update(final byte[] bytes, final int offset, final int count) {
+		if (isComplete() || count <= 0) {
+			return;
+		}
+		messageDigest.update(bytes, offset, count);
+		length += count;
+	}
+
+	/**
+	 * Updates the fingerprint with the remaining bytes of the given buffer without changing the buffer position.
+	 *
+	 * @param buffer the byte buffer
+	 */
+	public void update(final ByteBuffer buffer) {
+		if (isComplete() || !buffer.hasRemaining()) {
+			return;
+		}
+		length += buffer.remaining();
+		messageDigest.update(buffer.duplicate());
+	}
+
+	/**
+	 * Discards all the bytes seen so far, used when the body is sent or received again from the start. Has no effect once
+	 * the fingerprint is complete.
+	 */
+	public void reset() {
+		if (isComplete()) {
+			return;
+		}
+		messageDigest.reset();
+		length = 0;
+	}
+
+	/**
+	 * Marks the fingerprint as complete, no more updates are taken into account after this call.
+	 */
+	public void complete() {
+		if (isComplete()) {
+			return;
+		}
+		digest = messageDigest.digest();
+	}
+
+	/**
+	 * Returns true if the whole body went through the fingerprint.
+	 *
+	 * @return true if the fingerprint is complete
+	 */
+	public boolean isComplete() {
+		return null != digest;
+	}
+
+	/**
+	 * Returns the number of bytes seen so far, which is the body length once the fingerprint is complete.
+	 *
+	 * @return the number of bytes seen so far
+	 */
+	public long length() {
+		return length;
+	}
+
+	/**
+	 * Returns the first bytes of the body hash as a hexadecimal string, same as
+	 * {@link MessageDigestAlgorithm#hash(byte[], int)}.
+	 *
+	 * @param digestBytes the number of hash bytes to include
+	 * @return the truncated hash, or {@code null} if the fingerprint is not complete
+	 */
+	public String hash(final int digestBytes) {
+		byte[] fullDigest = digest;
+		if (null == fullDigest) {
+			return null;
+		}
+		return MessageDigestAlgorithm.hashString(fullDigest, digestBytes);
+	}
+}
@@ -82,6 +82,21 @@ public enum ContentType implements ApiMimeType {
 	 */
 	APPLICATION_RSS_XML(Value.APPLICATION_RSS_XML, StandardCharsets.UTF_8),
 
+	/**
+	 * CBOR (Concise Binary Object Representation) content type.
+	 */
+	APPLICATION_CBOR(Value.APPLICATION_CBOR),
+
+	/**
+	 * MessagePack content type.
+	 */
+	APPLICATION_MSGPACK(Value.APPLICATION_MSGPACK),
+
+	/**
+	 * Smile (binary JSON) content type.
+	 */
+	APPLICATION_X_JACKSON_SMILE(Value.APPLICATION_X_JACKSON_SMILE),
+
 	/**
 	 * BMP image content type.
 	 */
@@ -243,6 +258,21 @@ public enum ContentType implements ApiMimeType {
 		 */
 		public static final String APPLICATION_RSS_XML = "application/rss+xml";
 
+		/**
+		 * CBOR (Concise Binary Object Representation) content type.
+		 */
+		public static final String APPLICATION_CBOR = "application/cbor";
+
+		/**
+		 * MessagePack content type.
+		 */
+		public static final String APPLICATION_MSGPACK = "application/msgpack";
+
+		/**
+		 * Smile (binary JSON) content type.
+		 */
+		public static final String APPLICATION_X_JACKSON_SMILE = "application/x-jackson-smile";
+
 		/**
 		 * BMP image content type.
 		 */
@@ -0,0 +1,208 @@
+package org.apiphany.io;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Tee-style {@link InputStream} wrapper which feeds all the bytes read from the underlying stream into a
+ * {@link BodyFingerprint}. The fingerprint completes when the end of the stream is reached, so the length and hash of
+ * a body are computed while the body is consumed, without buffering it and without a second pass over the data.
+ * <p>
+ * An optional end callback is called once with the fingerprint when the end of the stream is reached or when the stream
+ * is closed, whichever comes first, this way streamed bodies can be described after they were consumed. When the stream
+ * is closed before its end, the fingerprint given to the callback is not complete.
+ * <p>
+ * Skipped bytes are read through the fingerprint, and mark/reset is not supported since re-read bytes would be
+ * fingerprinted twice.
+ * <p>
+ * <b>Thread-safety:</b> this class is not thread-safe, like most {@link InputStream} implementations.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class FingerprintingInputStream extends FilterInputStream {
+
+	/**
+	 * The buffer size used when skipping bytes.
+	 */
+	private static final int SKIP_BUFFER_SIZE = 8192;
+
+	/**
+	 * The fingerprint fed with the bytes read.
+	 */
+	private final BodyFingerprint fingerprint;
+
+	/**
+	 * The callback called once when the end of the stream is reached or when the stream is closed, can be {@code null}.
+	 */
+	private final Consumer<BodyFingerprint> onEnd;
+
+	/**
+	 * Flag indicating that the end callback was called.
+	 */
+	private boolean ended;
+
+	/**
+	 * Constructs a new fingerprinting input stream.
+	 *
+	 * @param inputStream the underlying input stream
+	 * @param fingerprint the fingerprint to feed
+	 */
+	public FingerprintingInputStream(final InputStream inputStream, final BodyFingerprint fingerprint) {
+		this(inputStream, fingerprint, null);
+	}
+
+	/**
+	 * Constructs a new fingerprinting input stream with an end callback.
+	 *
+	 * @param inputStream the underlying input stream
+	 * @param fingerprint the fingerprint to feed
+	 * @param onEnd the callback called once when the end of the stream is reached or when the stream is closed
+	 */
+	public FingerprintingInputStream(final InputStream inputStream, final BodyFingerprint fingerprint, final Consumer<BodyFingerprint> onEnd) {
+		super(Objects.requireNonNull(inputStream, "inputStream cannot be null"));
+		this.fingerprint = Objects.requireNonNull(fingerprint, "fingerprint cannot be null");
+		this.onEnd = onEnd;
+	}
+
+	/**
+	 * Creates a new fingerprinting input stream with a new SHA-256 fingerprint.
+	 *
+	 * @param inputStream the underlying input stream
+	 * @return a new fingerprinting input stream
+	 */
+	public static FingerprintingInputStream of(final InputStream inputStream) {
+		return new FingerprintingInputStream(inputStream, BodyFingerprint.sha256());
+	}
+
+	/**
+	 * Creates a new fingerprinting input stream with a new SHA-256 fingerprint and an end callback.
+	 *
+	 * @param inputStream the underlying input stream
+	 * @param onEnd the callback called once when the end of the stream is reached or when the stream is closed
+	 * @return a new fingerprinting input stream
+	 */
+	public static FingerprintingInputStream of(final InputStream inputStream, final Consumer<BodyFingerprint> onEnd) {
+		return new FingerprintingInputStream(inputStream, BodyFingerprint.sha256(), onEnd);
+	}
+
+	/**
+	 * @see FilterInputStream#read()
+	 */
+	@Override
+	public int read() throws IOException {
+		int b = in.read();
+		if (-1 == b) {
+			fingerprint.complete();
+			end();
+		} else {
+			fingerprint.update(b);
+		}
+		return b;
+	}
+
+	/**
+	 * @see FilterInputStream#read(byte[], int, int)
+	 */
+	@Override
+	public int read(final byte[] b, final int off, final int len) throws IOException {
+		int count = in.read(b, off, len);
+		if (-1 == count) {
+			fingerprint.complete();
+			end();
+		} else {
+			fingerprint.update(b, off, count);
+		}
+		return count;
+	}
+
+	/**
+	 * Skips bytes by reading them so that they are fingerprinted too.
+	 *
+	 * @see FilterInputStream#skip(long)
+	 */
+	@Override
+	public long skip(final long n) throws IOException {
+		if (n <= 0) {
+			return 0;
+		}
+		byte[] buffer = new byte[(int) Math.min(SKIP_BUFFER_SIZE, n)];
+		long remaining = n;
+		while (remaining > 0) {
+			int count = read(buffer, 0, (int) Math.min(buffer.length, remaining));
+			if (-1 == count) {
+				break;
+			}
+			remaining -= count;
+		}
+		return n - remaining;
+	}
+
+	/**
+	 * Closes the underlying stream and calls the end callback if it wasn't already called.
+	 *
+	 * @see FilterInputStream#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			super.close();
+		} finally {
+			end();
+		}
+	}
+
+	/**
+	 * Calls the end callback only the first time this method is called.
+	 */
+	private void end() {
+		if (ended) {
+			return;
+		}
+		ended = true;
+		if (null != onEnd) {
+			onEnd.accept(fingerprint);
+		}
+	}
+
+	/**
+	 * Mark/reset is not supported.
+	 *
+	 * @see FilterInputStream#markSupported()
+	 */
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	/**
+	 * Mark/reset is not supported, this method does nothing.
+	 *
+	 * @see FilterInputStream#mark(int)
+	 */
+	@Override
+	public synchronized void mark(final int readLimit) {
+		// empty
+	}
+
+	/**
+	 * Mark/reset is not supported.
+	 *
+	 * @see FilterInputStream#reset()
+	 */
+	@Override
+	public synchronized void reset() throws IOException {
+		throw new IOException("mark/reset not supported");
+	}
+
+	/**
+	 * Returns the fingerprint fed by this stream.
+	 *
+	 * @return the fingerprint
+	 */
+	public BodyFingerprint getFingerprint() {
+		return fingerprint;
+	}
+}
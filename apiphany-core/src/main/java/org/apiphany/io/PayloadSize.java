@@ -0,0 +1,69 @@
+package org.apiphany.io;
+
+/**
+ * Holds the payload sizes measured by an exchange client during an exchange: the request body size, the raw response
+ * body size as it was received on the wire and the response body size after the content encoding was decoded. Comparing
+ * the raw and the decoded response sizes shows whether compression is used for an endpoint.
+ * <p>
+ * Sizes which could not be measured (for example streamed bodies) are {@link #UNKNOWN}.
+ *
+ * @param request the request body size in bytes
+ * @param response the raw response body size in bytes
+ * @param decodedResponse the decoded response body size in bytes
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public record PayloadSize(
+		long request,
+		long response,
+		long decodedResponse) {
+
+	/**
+	 * The value used for sizes that are not known.
+	 */
+	public static final long UNKNOWN = -1L;
+
+	/**
+	 * Payload size with all sizes unknown.
+	 */
+	public static final PayloadSize NONE = new PayloadSize(UNKNOWN, UNKNOWN, UNKNOWN);
+
+	/**
+	 * Returns a new payload size object with the given request size and the sizes of the given raw and decoded response
+	 * bodies (see {@link #sizeOf(Object)}).
+	 *
+	 * @param request the request body size in bytes
+	 * @param rawBody the raw response body
+	 * @param decodedBody the decoded response body
+	 * @return a new payload size object
+	 */
+	public static PayloadSize of(final long request, final Object rawBody, final Object decodedBody) {
+		return new PayloadSize(request, sizeOf(rawBody), sizeOf(decodedBody));
+	}
+
+	/**
+	 * Returns the size in bytes of the given buffered body, {@code 0} for a {@code null} body and {@link #UNKNOWN} for any
+	 * body that is not buffered in memory as a byte array (for example input streams) since measuring it would mean
+	 * consuming it.
+	 *
+	 * @param body the body to get the size for
+	 * @return the size of the body in bytes
+	 */
+	public static long sizeOf(final Object body) {
+		return switch (body) {
+			case null -> 0L;
+			case byte[] bytes -> bytes.length;
+			default -> UNKNOWN;
+		};
+	}
+
+	/**
+	 * Returns true if the given size is known, false otherwise.
+	 *
+	 * @param size the size to check
+	 * @return true if the given size is known
+	 */
+	public static boolean isKnown(final long size) {
+		return size >= 0;
+	}
+}
@@ -10,6 +10,7 @@ import java.util.function.Supplier;
 
 import org.apiphany.io.function.IOFunction;
 import org.apiphany.io.function.IOSupplier;
+import org.apiphany.json.builtin.BuiltInJsonBuilder;
 import org.apiphany.json.jackson2.Jackson2Library;
 import org.apiphany.json.jackson3.Jackson3Library;
 import org.apiphany.lang.Strings;
@@ -27,8 +28,7 @@ import org.morphix.runtime.OptionalLibrary;
 /**
  * This will serialize/de-serialize any JSON serializable/deserializable object to {@link String}/{@link Object}. This
  * class is used to uniformly serialize/de-serialize objects across the entire project. If no JSON library was found in
- * the classpath a warning will be issued and the {@link JsonBuilder#toJson(Object)} method will use the objects
- * {@link #toString()} method.
+ * the classpath a warning will be issued and the built-in JSON codec ({@link BuiltInJsonBuilder}) will be used.
  * <p>
  * For serialization to {@link String} use {@link #toJson(Object)}.<br/>
  * For de-serialization {@link Object} use {@link #fromJson(Object, Class)} or {@link #fromJson(Object, GenericClass)}.
@@ -146,7 +146,8 @@ public class JsonBuilder { // NOSONAR singleton implementation
 	}
 
 	/**
-	 * Returns an instance based on the available JSON libraries.
+	 * Returns an instance based on the available JSON libraries, if none of the libraries is present the
+	 * {@link BuiltInJsonBuilder} is returned.
 	 *
 	 * @param libraryDescriptors the library descriptors
 	 * @return a JSON builder
@@ -154,7 +155,7 @@ public class JsonBuilder { // NOSONAR singleton implementation
 	@SafeVarargs
 	protected static JsonBuilder initializeInstance(final OptionalLibrary<? extends JsonBuilder>... libraryDescriptors) {
 		return Libraries.instance(() -> {
-			JsonBuilder jsonBuilder = new JsonBuilder();
+			JsonBuilder jsonBuilder = BuiltInJsonBuilder.instance();
 			jsonBuilder.observability().jsonLibraryNotFound();
 			return jsonBuilder;
 		}, libraryDescriptors);
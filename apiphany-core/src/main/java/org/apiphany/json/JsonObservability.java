@@ -112,8 +112,7 @@ public class JsonObservability implements LoggerAdapter {
 	 * Logs a warning when a JSON library is not found in the classpath.
 	 */
 	public void jsonLibraryNotFound() {
-		warn("{}, JsonBuilder.toJson will only build JSONs like { \"identity\":\"<class-name>@<identity-hashcode>\" }!",
-				ErrorMessage.JSON_LIBRARY_NOT_FOUND);
+		warn("{}, JsonBuilder will use the built-in JSON reader/writer!", ErrorMessage.JSON_LIBRARY_NOT_FOUND);
 	}
 
 	/**
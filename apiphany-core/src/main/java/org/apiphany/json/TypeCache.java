@@ -0,0 +1,98 @@
+package org.apiphany.json;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Bounded thread-safe cache for values computed from a {@link Type}, used by the JSON builders to keep the readers and
+ * writers resolved for each type so that the type resolution and the (de)serializer lookups are not repeated on every
+ * call.
+ * <p>
+ * When the cache is full it is cleared before adding a new value. This keeps the lookups lock free while making sure
+ * that types from class loaders which are no longer used (and the values that reference them) are not kept forever.
+ *
+ * @param <V> the cached value type
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public final class TypeCache<V> {
+
+	/**
+	 * The default maximum number of cached values.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 512;
+
+	/**
+	 * The cached values.
+	 */
+	private final Map<Type, V> values = new ConcurrentHashMap<>();
+
+	/**
+	 * The maximum number of cached values.
+	 */
+	private final int maxSize;
+
+	/**
+	 * Constructs a type cache with the given maximum size.
+	 *
+	 * @param maxSize the maximum number of cached values
+	 */
+	public TypeCache(final int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize must be positive");
+		}
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Constructs a type cache with the {@link #DEFAULT_MAX_SIZE}.
+	 */
+	public TypeCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Returns the cached value for the given type, computing and caching it with the given factory if it is not cached.
+	 *
+	 * @param type the type
+	 * @param factory the function that computes the value for a type
+	 * @return the cached value
+	 */
+	public V get(final Type type, final Function<? super Type, ? extends V> factory) {
+		V value = values.get(type);
+		if (null != value) {
+			return value;
+		}
+		if (values.size() >= maxSize) {
+			values.clear();
+		}
+		return values.computeIfAbsent(type, factory);
+	}
+
+	/**
+	 * Removes all the cached values.
+	 */
+	public void clear() {
+		values.clear();
+	}
+
+	/**
+	 * Returns the number of cached values.
+	 *
+	 * @return the number of cached values
+	 */
+	public int size() {
+		return values.size();
+	}
+
+	/**
+	 * Returns the maximum number of cached values.
+	 *
+	 * @return the maximum number of cached values
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+}
@@ -0,0 +1,169 @@
+package org.apiphany.json.builtin;
+
+import java.io.InputStream;
+import java.lang.reflect.Type;
+
+import org.apiphany.json.JsonBuilder;
+import org.morphix.lang.JavaObjects;
+import org.morphix.reflection.GenericClass;
+
+/**
+ * Built-in JSON builder used when no JSON library (like Jackson) is present in the classpath. It serializes and
+ * de-serializes records, POJOs, maps, collections, arrays and scalar values with a small streaming JSON reader and
+ * writer which use binding plans cached per class, so applications which don't need a full JSON library can avoid
+ * having one in the classpath.
+ * <p>
+ * The binding is field based and supports the same annotations as the Jackson based builders:
+ * {@link org.apiphany.lang.annotation.FieldName}, {@link org.apiphany.lang.annotation.Ignored},
+ * {@link org.apiphany.lang.annotation.FieldOrder}, {@link org.apiphany.lang.annotation.AsValue},
+ * {@link org.apiphany.lang.annotation.Creator} and {@link org.apiphany.security.Sensitive}. Like the Jackson based
+ * builders {@code null} values are not serialized. Unknown properties are ignored when de-serializing.
+ * <p>
+ * Note: For indentation use: {@link #indentOutput(boolean)} with {@code true} to indent output and {@code false} to
+ * have a single line JSON string.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class BuiltInJsonBuilder extends JsonBuilder { // NOSONAR singleton implementation
+
+	/**
+	 * Singleton instance holder.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private static class InstanceHolder {
+
+		/**
+		 * Singleton instance.
+		 */
+		private static final BuiltInJsonBuilder INSTANCE = new BuiltInJsonBuilder();
+	}
+
+	/**
+	 * Hide constructor.
+	 */
+	protected BuiltInJsonBuilder() {
+		// empty
+	}
+
+	/**
+	 * Returns the singleton instance.
+	 *
+	 * @return the singleton instance
+	 */
+	public static BuiltInJsonBuilder instance() {
+		return InstanceHolder.INSTANCE;
+	}
+
+	/**
+	 * Transforms the parameter to a JSON String. If the object is null, returns null. If the object cannot be serialized,
+	 * returns the result of {@link #toIdentityJsonString(Object)}.
+	 *
+	 * @param <T> type of the object
+	 *
+	 * @param obj object to transform
+	 * @return JSON String if conversion is possible, <code>null</code> if parameter is <code>null</code>,
+	 * {@link #toIdentityJsonString(Object)} otherwise.
+	 */
+	@Override
+	public <T> String toJsonString(final T obj) {
+		return serialize(obj, o -> eol() + JsonWriter.write(o, isIndentOutput()));
+	}
+
+	/**
+	 * Returns an object from the JSON string. If the JSON string cannot be de-serialized, returns null.
+	 *
+	 * @param <T> type of the object
+	 *
+	 * @param json JSON string
+	 * @param cls class of the object
+	 * @return an object from the JSON string
+	 */
+	@Override
+	public <T> T fromJsonString(final String json, final Class<T> cls) {
+		return deserialize(json, cls, () -> JavaObjects.cast(JsonReader.read(json, cls)));
+	}
+
+	/**
+	 * Returns an object from the JSON string. If the JSON string cannot be de-serialized, returns null.
+	 *
+	 * @param <T> type of the object
+	 *
+	 * @param json JSON string
+	 * @param genericClass generic class wrapper for the type of the generic object
+	 * @return an object from the JSON string
+	 */
+	@Override
+	public <T> T fromJsonString(final String json, final GenericClass<T> genericClass) {
+		Type type = genericClass.getType();
+		return deserialize(json, type, () -> JavaObjects.cast(JsonReader.read(json, type)));
+	}
+
+	/**
+	 * Returns an object from the given byte array. If the byte array cannot be de-serialized, returns null.
+	 *
+	 * @param <T> type of the object
+	 *
+	 * @param json JSON byte array
+	 * @param cls class of the object
+	 * @return an object from the JSON string
+	 */
+	@Override
+	public <T> T fromJsonBytes(final byte[] json, final Class<T> cls) {
+		return deserialize(json, cls, () -> JavaObjects.cast(JsonReader.read(json, cls)));
+	}
+
+	/**
+	 * Returns an object from the JSON byte array. If the byte array cannot be de-serialized, returns null.
+	 *
+	 * @param <T> type of the object
+	 *
+	 * @param json JSON byte array
+	 * @param genericClass generic class wrapper for the type of the generic object
+	 * @return an object from the JSON string
+	 */
+	@Override
+	public <T> T fromJsonBytes(final byte[] json, final GenericClass<T> genericClass) {
+		Type type = genericClass.getType();
+		return deserialize(json, type, () -> JavaObjects.cast(JsonReader.read(json, type)));
+	}
+
+	/**
+	 * Returns an object from the given input stream. If the input stream cannot be de-serialized, returns null. The input
+	 * stream is closed after reading, like the Jackson based builders do.
+	 *
+	 * @param <T> type of the object
+	 *
+	 * @param json JSON input stream
+	 * @param cls class of the object
+	 * @return an object from the JSON string
+	 */
+	@Override
+	public <T> T fromJsonInputStream(final InputStream json, final Class<T> cls) {
+		return deserialize(json, cls, () -> {
+			try (InputStream inputStream = json) {
+				return JavaObjects.cast(JsonReader.read(inputStream, cls));
+			}
+		});
+	}
+
+	/**
+	 * Returns an object from the given input stream. If the input stream cannot be de-serialized, returns null. The input
+	 * stream is closed after reading, like the Jackson based builders do.
+	 *
+	 * @param <T> type of the object
+	 *
+	 * @param json JSON input stream
+	 * @param genericClass generic class wrapper for the type of the generic object
+	 * @return an object from the JSON string
+	 */
+	@Override
+	public <T> T fromJsonInputStream(final InputStream json, final GenericClass<T> genericClass) {
+		Type type = genericClass.getType();
+		return deserialize(json, type, () -> {
+			try (InputStream inputStream = json) {
+				return JavaObjects.cast(JsonReader.read(inputStream, type));
+			}
+		});
+	}
+}
@@ -0,0 +1,602 @@
+package org.apiphany.json.builtin;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apiphany.lang.annotation.AsValue;
+import org.apiphany.lang.annotation.Creator;
+import org.apiphany.lang.annotation.FieldName;
+import org.apiphany.lang.annotation.FieldOrder;
+import org.apiphany.lang.annotation.Ignored;
+import org.apiphany.security.Sensitive;
+import org.morphix.lang.Unchecked;
+import org.morphix.reflection.Fields;
+import org.morphix.reflection.predicates.MemberPredicates;
+
+/**
+ * Compiled binding plan used by the built-in JSON reader and writer for one class. The plan resolves only once per
+ * class the JSON properties (the non-static, non-transient fields of the class hierarchy) with their names, order and
+ * sensitivity together with the way instances are created, so reading and writing objects becomes a loop over the
+ * pre-computed properties.
+ * <p>
+ * The following annotations are supported, on fields or on their getter methods: {@link FieldName}, {@link Ignored}
+ * and {@link Sensitive}, on types: {@link FieldOrder}, on methods or fields: {@link AsValue} and on constructors or
+ * static factory methods: {@link Creator}. Records are created with their canonical constructor and classes without a
+ * creator with their no-argument constructor.
+ * <p>
+ * The plans are cached per class with a {@link ClassValue} so they don't prevent the classes from being unloaded.
+ * Instances are immutable and thread-safe.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+final class JsonBinding {
+
+	/**
+	 * The compiled plans cache.
+	 */
+	private static final ClassValue<JsonBinding> BINDINGS = new ClassValue<>() {
+
+		@Override
+		protected JsonBinding computeValue(final Class<?> cls) {
+			return new JsonBinding(cls);
+		}
+	};
+
+	/**
+	 * The getter method name prefixes.
+	 */
+	private static final String[] GETTER_PREFIXES = { "get", "is" };
+
+	/**
+	 * The names of the static factory methods used to create scalar values from strings.
+	 */
+	private static final String[] STRING_FACTORY_NAMES = { "fromString", "valueOf", "parse", "of" };
+
+	/**
+	 * The bound class.
+	 */
+	private final Class<?> type;
+
+	/**
+	 * The properties in serialization order.
+	 */
+	private final Property[] properties;
+
+	/**
+	 * The properties by their JSON names.
+	 */
+	private final Map<String, Property> propertiesByName;
+
+	/**
+	 * The member annotated with {@link AsValue}, can be {@code null}.
+	 */
+	private final AccessibleObject asValue;
+
+	/**
+	 * The creator (constructor or static factory method), can be {@code null}.
+	 */
+	private final Executable creator;
+
+	/**
+	 * The JSON names of the creator parameters, {@code null} if the creator is a delegating creator.
+	 */
+	private final String[] creatorParameterNames;
+
+	/**
+	 * The no-argument constructor, can be {@code null}.
+	 */
+	private final Constructor<?> defaultConstructor;
+
+	/**
+	 * The constructor or static factory method which creates instances from a single string, can be {@code null}.
+	 */
+	private final Executable stringCreator;
+
+	/**
+	 * The enum constants by name and by {@link AsValue} value, empty if the class is not an enum.
+	 */
+	private final Map<String, Object> enumConstants;
+
+	/**
+	 * Compiles the plan for the given class.
+	 *
+	 * @param cls the class
+	 */
+	private JsonBinding(final Class<?> cls) {
+		this.type = cls;
+		this.asValue = findAsValue(cls);
+		this.properties = isJdkType(cls) ? new Property[0] : properties(cls);
+		Map<String, Property> byName = HashMap.newHashMap(properties.length);
+		for (Property property : properties) {
+			byName.putIfAbsent(property.name(), property);
+		}
+		this.propertiesByName = Collections.unmodifiableMap(byName);
+		Executable creatorExecutable = findCreator(cls);
+		this.creator = creatorExecutable;
+		this.creatorParameterNames = null != creatorExecutable ? creatorParameterNames(creatorExecutable) : null;
+		this.defaultConstructor = findDefaultConstructor(cls);
+		this.stringCreator = findStringCreator(cls);
+		this.enumConstants = enumConstants(cls);
+	}
+
+	/**
+	 * Returns the compiled plan for the given class, the plan is compiled on the first call for every class.
+	 *
+	 * @param cls the class
+	 * @return the compiled plan
+	 */
+	static JsonBinding of(final Class<?> cls) {
+		return BINDINGS.get(cls);
+	}
+
+	/**
+	 * Returns the bound class.
+	 *
+	 * @return the bound class
+	 */
+	Class<?> type() {
+		return type;
+	}
+
+	/**
+	 * Returns the properties in serialization order.
+	 *
+	 * @return the properties
+	 */
+	Property[] properties() {
+		return properties;
+	}
+
+	/**
+	 * Returns the property with the given JSON name.
+	 *
+	 * @param name the JSON property name
+	 * @return the property, or {@code null} if the class has no such property
+	 */
+	Property property(final String name) {
+		return propertiesByName.get(name);
+	}
+
+	/**
+	 * Returns true if the objects of the bound class are serialized as the value of a member annotated with
+	 * {@link AsValue}.
+	 *
+	 * @return true if the class has an {@link AsValue} member
+	 */
+	boolean hasAsValue() {
+		return null != asValue;
+	}
+
+	/**
+	 * Returns the value of the {@link AsValue} member of the given object.
+	 *
+	 * @param obj the object
+	 * @return the value to serialize instead of the object
+	 */
+	Object asValue(final Object obj) {
+		try {
+			return switch (asValue) {
+				case Method method -> method.invoke(obj);
+				case Field field -> field.get(obj);
+				default -> throw new IllegalStateException("Unsupported @AsValue member: " + asValue);
+			};
+		} catch (ReflectiveOperationException e) {
+			return Unchecked.reThrow(e);
+		}
+	}
+
+	/**
+	 * Returns the creator (constructor or static factory method), can be {@code null}.
+	 *
+	 * @return the creator
+	 */
+	Executable creator() {
+		return creator;
+	}
+
+	/**
+	 * Returns true if the creator receives the whole JSON value as its single argument instead of the JSON properties.
+	 *
+	 * @return true if the creator is a delegating creator
+	 */
+	boolean isDelegatingCreator() {
+		return null != creator && null == creatorParameterNames;
+	}
+
+	/**
+	 * Returns the JSON names of the creator parameters.
+	 *
+	 * @return the creator parameter names, {@code null} if there is no creator or the creator is a delegating creator
+	 */
+	String[] creatorParameterNames() {
+		return creatorParameterNames;
+	}
+
+	/**
+	 * Returns the constructor or static factory method which creates instances from a single string, can be
+	 * {@code null}.
+	 *
+	 * @return the string creator
+	 */
+	Executable stringCreator() {
+		return stringCreator;
+	}
+
+	/**
+	 * Returns the enum constant with the given name or {@link AsValue} value, the name is matched case insensitive if no
+	 * exact match is found.
+	 *
+	 * @param value the enum constant name or value
+	 * @return the enum constant, or {@code null} if no constant matches
+	 */
+	Object enumConstant(final String value) {
+		Object constant = enumConstants.get(value);
+		if (null != constant) {
+			return constant;
+		}
+		for (Map.Entry<String, Object> entry : enumConstants.entrySet()) {
+			if (entry.getKey().equalsIgnoreCase(value)) {
+				return entry.getValue();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Creates a new instance with the given creator and arguments.
+	 *
+	 * @param executable the constructor or static factory method
+	 * @param args the arguments
+	 * @return the new instance
+	 */
+	static Object create(final Executable executable, final Object... args) {
+		try {
+			return switch (executable) {
+				case Constructor<?> constructor -> constructor.newInstance(args);
+				case Method method -> method.invoke(null, args);
+				default -> throw new IllegalStateException("Unsupported creator: " + executable);
+			};
+		} catch (ReflectiveOperationException e) {
+			return Unchecked.reThrow(e);
+		}
+	}
+
+	/**
+	 * Creates a new instance with the no-argument constructor.
+	 *
+	 * @return the new instance
+	 * @throws IllegalStateException if the class has no no-argument constructor
+	 */
+	Object newInstance() {
+		if (null == defaultConstructor) {
+			throw new IllegalStateException("Cannot create instance of " + type.getName() + ", no creator or default constructor found");
+		}
+		return create(defaultConstructor);
+	}
+
+	/**
+	 * Returns true if the class belongs to the JDK, the fields of such classes are never bound.
+	 *
+	 * @param cls the class
+	 * @return true if the class belongs to the JDK
+	 */
+	static boolean isJdkType(final Class<?> cls) {
+		String name = cls.getName();
+		return cls.isPrimitive() || cls.isArray() || name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.")
+				|| name.startsWith("sun.");
+	}
+
+	/**
+	 * Returns the properties of the given class in serialization order.
+	 *
+	 * @param cls the class
+	 * @return the properties
+	 */
+	private static Property[] properties(final Class<?> cls) {
+		List<Field> fields = Fields.getAllDeclaredInHierarchy(cls, MemberPredicates.isNotStatic());
+		Map<String, Property> properties = LinkedHashMap.newLinkedHashMap(fields.size());
+		for (Field field : fields) {
+			if (field.isSynthetic() || Modifier.isTransient(field.getModifiers()) || field.isAnnotationPresent(AsValue.class)
+					|| !field.trySetAccessible()) {
+				continue;
+			}
+			FieldName fieldName = annotation(field, FieldName.class);
+			String name = null != fieldName ? fieldName.value() : field.getName();
+			Sensitive sensitive = annotation(field, Sensitive.class);
+			boolean ignored = null != annotation(field, Ignored.class);
+			boolean hidden = null != sensitive && Sensitive.Visibility.HIDDEN == sensitive.visibility();
+			boolean redacted = null != sensitive && Sensitive.Visibility.REDACTED == sensitive.visibility();
+			properties.putIfAbsent(name, new Property(name, field, !ignored && !hidden, redacted));
+		}
+		FieldOrder fieldOrder = cls.getAnnotation(FieldOrder.class);
+		if (null == fieldOrder) {
+			return properties.values().toArray(Property[]::new);
+		}
+		List<Property> ordered = new ArrayList<>(properties.size());
+		for (String name : fieldOrder.value()) {
+			Property property = properties.remove(name);
+			if (null != property) {
+				ordered.add(property);
+			}
+		}
+		ordered.addAll(properties.values());
+		return ordered.toArray(Property[]::new);
+	}
+
+	/**
+	 * Returns the annotation of the given type from the given field, the annotation is searched on the field first and
+	 * then on its getter method.
+	 *
+	 * @param <A> the annotation type
+	 *
+	 * @param field the field
+	 * @param annotationClass the annotation class
+	 * @return the annotation, or {@code null} if neither the field nor its getter is annotated
+	 */
+	private static <A extends Annotation> A annotation(final Field field, final Class<A> annotationClass) {
+		A annotation = field.getAnnotation(annotationClass);
+		if (null != annotation) {
+			return annotation;
+		}
+		String name = field.getName();
+		String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+		for (String prefix : GETTER_PREFIXES) {
+			try {
+				Method method = field.getDeclaringClass().getDeclaredMethod(prefix + capitalized);
+				if (!Modifier.isStatic(method.getModifiers())) {
+					return method.getAnnotation(annotationClass);
+				}
+			} catch (NoSuchMethodException e) {
+				// try the next prefix
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the member annotated with {@link AsValue} from the given class.
+	 *
+	 * @param cls the class
+	 * @return the member annotated with {@link AsValue}, or {@code null} if none is found
+	 */
+	private static AccessibleObject findAsValue(final Class<?> cls) {
+		if (isJdkType(cls)) {
+			return null;
+		}
+		for (Class<?> current = cls; null != current && Object.class != current; current = current.getSuperclass()) {
+			for (Method method : current.getDeclaredMethods()) {
+				if (method.isAnnotationPresent(AsValue.class) && 0 == method.getParameterCount() && method.trySetAccessible()) {
+					return method;
+				}
+			}
+			for (Field field : current.getDeclaredFields()) {
+				if (field.isAnnotationPresent(AsValue.class) && field.trySetAccessible()) {
+					return field;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the creator of the given class: the constructor or static factory method annotated with {@link Creator} or
+	 * the canonical constructor for records.
+	 *
+	 * @param cls the class
+	 * @return the creator, or {@code null} if the class has no creator
+	 */
+	private static Executable findCreator(final Class<?> cls) {
+		if (isJdkType(cls)) {
+			return null;
+		}
+		for (Constructor<?> constructor : cls.getDeclaredConstructors()) {
+			if (constructor.isAnnotationPresent(Creator.class) && constructor.trySetAccessible()) {
+				return constructor;
+			}
+		}
+		for (Method method : cls.getDeclaredMethods()) {
+			if (method.isAnnotationPresent(Creator.class) && Modifier.isStatic(method.getModifiers())
+					&& cls.isAssignableFrom(method.getReturnType()) && method.trySetAccessible()) {
+				return method;
+			}
+		}
+		if (cls.isRecord()) {
+			Class<?>[] parameterTypes = Arrays.stream(cls.getRecordComponents())
+					.map(RecordComponent::getType)
+					.toArray(Class<?>[]::new);
+			try {
+				Constructor<?> constructor = cls.getDeclaredConstructor(parameterTypes);
+				return constructor.trySetAccessible() ? constructor : null;
+			} catch (NoSuchMethodException e) {
+				return null;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the JSON names of the given creator parameters. The names are taken from the {@link FieldName} annotations
+	 * on the parameters, from the record components for canonical record constructors or from the parameter names when
+	 * the code was compiled with {@code -parameters}.
+	 *
+	 * @param creator the creator
+	 * @return the creator parameter names, {@code null} if the creator is a delegating creator
+	 */
+	private String[] creatorParameterNames(final Executable creator) {
+		Parameter[] parameters = creator.getParameters();
+		RecordComponent[] recordComponents = type.isRecord() && creator instanceof Constructor<?> ? type.getRecordComponents() : null;
+		if (null == recordComponents && 1 == parameters.length && !parameters[0].isAnnotationPresent(FieldName.class)) {
+			return null; // NOSONAR null means delegating creator
+		}
+		String[] names = new String[parameters.length];
+		for (int i = 0; i < parameters.length; ++i) {
+			FieldName fieldName = parameters[i].getAnnotation(FieldName.class);
+			if (null != fieldName) {
+				names[i] = fieldName.value();
+			} else if (null != recordComponents) {
+				names[i] = propertyName(recordComponents[i].getName());
+			} else {
+				names[i] = parameters[i].getName();
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * Returns the JSON name of the property bound to the field with the given name.
+	 *
+	 * @param fieldName the field name
+	 * @return the JSON property name
+	 */
+	private String propertyName(final String fieldName) {
+		for (Property property : properties) {
+			if (property.field().getName().equals(fieldName)) {
+				return property.name();
+			}
+		}
+		return fieldName;
+	}
+
+	/**
+	 * Returns the accessible no-argument constructor of the given class.
+	 *
+	 * @param cls the class
+	 * @return the no-argument constructor, or {@code null} if the class has none or it is not accessible
+	 */
+	private static Constructor<?> findDefaultConstructor(final Class<?> cls) {
+		if (cls.isInterface() || Modifier.isAbstract(cls.getModifiers()) || cls.isEnum() || cls.isRecord() || cls.isPrimitive()
+				|| cls.isArray()) {
+			return null;
+		}
+		try {
+			Constructor<?> constructor = cls.getDeclaredConstructor();
+			if (isJdkType(cls) && !Modifier.isPublic(constructor.getModifiers())) {
+				return null;
+			}
+			return constructor.trySetAccessible() ? constructor : null;
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the public constructor or static factory method which creates instances of the given class from a single
+	 * string (or {@link CharSequence}).
+	 *
+	 * @param cls the class
+	 * @return the string creator, or {@code null} if the class has none
+	 */
+	private static Executable findStringCreator(final Class<?> cls) {
+		if (cls.isInterface() || cls.isEnum() || cls.isPrimitive() || cls.isArray()) {
+			return null;
+		}
+		for (String name : STRING_FACTORY_NAMES) {
+			for (Class<?> parameterType : List.of(String.class, CharSequence.class)) {
+				try {
+					Method method = cls.getMethod(name, parameterType);
+					if (Modifier.isStatic(method.getModifiers()) && cls.isAssignableFrom(method.getReturnType())) {
+						return method;
+					}
+				} catch (NoSuchMethodException e) {
+					// try the next factory method
+				}
+			}
+		}
+		if (Modifier.isAbstract(cls.getModifiers())) {
+			return null;
+		}
+		try {
+			return cls.getConstructor(String.class);
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the enum constants of the given class by name and by {@link AsValue} value.
+	 *
+	 * @param cls the class
+	 * @return the enum constants, empty if the class is not an enum
+	 */
+	private Map<String, Object> enumConstants(final Class<?> cls) {
+		if (!cls.isEnum()) {
+			return Collections.emptyMap();
+		}
+		Object[] constants = cls.getEnumConstants();
+		Map<String, Object> result = LinkedHashMap.newLinkedHashMap(constants.length * 2);
+		for (Object constant : constants) {
+			result.put(((Enum<?>) constant).name(), constant);
+		}
+		if (null != asValue) {
+			for (Object constant : constants) {
+				result.putIfAbsent(String.valueOf(asValue(constant)), constant);
+			}
+		}
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * A compiled property.
+	 *
+	 * @param name the JSON property name
+	 * @param field the field
+	 * @param serializable true if the property is written when serializing
+	 * @param redacted true if the property value is written as redacted when serializing
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	record Property(String name, Field field, boolean serializable, boolean redacted) {
+
+		/**
+		 * Returns the property generic type.
+		 *
+		 * @return the property generic type
+		 */
+		Type genericType() {
+			return field.getGenericType();
+		}
+
+		/**
+		 * Returns the property value from the given object.
+		 *
+		 * @param obj the object
+		 * @return the property value
+		 */
+		Object get(final Object obj) {
+			try {
+				return field.get(obj);
+			} catch (IllegalAccessException e) {
+				return Unchecked.reThrow(e);
+			}
+		}
+
+		/**
+		 * Sets the property value on the given object.
+		 *
+		 * @param obj the object
+		 * @param value the property value
+		 */
+		void set(final Object obj, final Object value) {
+			try {
+				field.set(obj, value);
+			} catch (IllegalAccessException e) {
+				Unchecked.reThrow(e);
+			}
+		}
+	}
+}
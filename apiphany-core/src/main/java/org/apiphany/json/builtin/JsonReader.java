@@ -0,0 +1,1063 @@
+package org.apiphany.json.builtin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Executable;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streaming JSON reader used by the {@link BuiltInJsonBuilder}. The JSON text is tokenized from a character buffer
+ * (refilled from the input stream when reading streams) and bound directly to the target type using its
+ * {@link JsonBinding}, so no intermediate tree is built for typed reads.
+ * <p>
+ * Supported target types: {@link Object} (as {@link LinkedHashMap}, {@link ArrayList}, {@link String}, {@link Integer},
+ * {@link Long}, {@link BigInteger}, {@link Double} and {@link Boolean} values), primitives and their wrappers,
+ * {@link String}, {@link BigDecimal}, {@link BigInteger}, enums, collections, maps, arrays, {@code byte[]} (as Base64),
+ * {@link Optional}, records, classes with a {@link org.apiphany.lang.annotation.Creator} or a no-argument constructor and
+ * classes which can be created from a string (like {@link java.util.UUID} or {@link java.time.Instant}). Unknown
+ * properties are ignored. Instances are not thread-safe, a new reader is used for every de-serialization.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+final class JsonReader {
+
+	/**
+	 * The maximum nesting depth.
+	 */
+	static final int MAX_DEPTH = 1000;
+
+	/**
+	 * The buffer size used when reading streams.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * End of input marker.
+	 */
+	private static final int EOF = -1;
+
+	/**
+	 * The stream reader, {@code null} when reading strings.
+	 */
+	private final Reader reader;
+
+	/**
+	 * The character buffer.
+	 */
+	private final char[] buffer;
+
+	/**
+	 * The current position in the buffer.
+	 */
+	private int position;
+
+	/**
+	 * The number of valid characters in the buffer.
+	 */
+	private int limit;
+
+	/**
+	 * The number of characters consumed before the current buffer, used for error messages.
+	 */
+	private long consumed;
+
+	/**
+	 * The current nesting depth.
+	 */
+	private int depth;
+
+	/**
+	 * Reusable builder for strings with escapes and for numbers.
+	 */
+	private final StringBuilder text = new StringBuilder(32);
+
+	/**
+	 * Constructs a reader over the given characters.
+	 *
+	 * @param chars the JSON characters
+	 */
+	private JsonReader(final char[] chars) {
+		this.reader = null;
+		this.buffer = chars;
+		this.limit = chars.length;
+	}
+
+	/**
+	 * Constructs a reader over the given stream.
+	 *
+	 * @param reader the stream reader
+	 */
+	private JsonReader(final Reader reader) {
+		this.reader = reader;
+		this.buffer = new char[BUFFER_SIZE];
+	}
+
+	/**
+	 * Reads a value of the given type from the given JSON string.
+	 *
+	 * @param json the JSON string
+	 * @param type the target type
+	 * @return the value
+	 * @throws IOException if the input cannot be read
+	 * @throws IllegalArgumentException if the input is not valid JSON or cannot be bound to the target type
+	 */
+	static Object read(final String json, final Type type) throws IOException {
+		return new JsonReader(json.toCharArray()).readDocument(type);
+	}
+
+	/**
+	 * Reads a value of the given type from the given UTF-8 JSON bytes.
+	 *
+	 * @param json the JSON bytes
+	 * @param type the target type
+	 * @return the value
+	 * @throws IOException if the input cannot be read
+	 * @throws IllegalArgumentException if the input is not valid JSON or cannot be bound to the target type
+	 */
+	static Object read(final byte[] json, final Type type) throws IOException {
+		return read(new String(json, StandardCharsets.UTF_8), type);
+	}
+
+	/**
+	 * Reads a value of the given type from the given UTF-8 JSON stream. The stream is not closed.
+	 *
+	 * @param json the JSON stream
+	 * @param type the target type
+	 * @return the value
+	 * @throws IOException if the input cannot be read
+	 * @throws IllegalArgumentException if the input is not valid JSON or cannot be bound to the target type
+	 */
+	static Object read(final InputStream json, final Type type) throws IOException {
+		return new JsonReader(new InputStreamReader(json, StandardCharsets.UTF_8)).readDocument(type);
+	}
+
+	/**
+	 * Reads the whole document as a value of the given type.
+	 *
+	 * @param type the target type
+	 * @return the value
+	 * @throws IOException if the input cannot be read
+	 */
+	private Object readDocument(final Type type) throws IOException {
+		if (EOF == peek()) {
+			throw error("No content to map due to end-of-input");
+		}
+		Object value = readValue(type);
+		if (EOF != peek()) {
+			throw error("Unexpected trailing content");
+		}
+		return value;
+	}
+
+	/**
+	 * Reads a value of the given type.
+	 *
+	 * @param type the target type
+	 * @return the value
+	 * @throws IOException if the input cannot be read
+	 */
+	private Object readValue(final Type type) throws IOException {
+		Class<?> cls = rawClass(type);
+		int ch = peek();
+		if (Optional.class == cls) {
+			return Optional.ofNullable(readValue(typeArgument(type, 0)));
+		}
+		if ('n' == ch) {
+			expectLiteral("null");
+			return defaultValue(cls);
+		}
+		if (Object.class == cls || Serializable.class == cls) {
+			return readUntyped();
+		}
+		if (!JsonBinding.isJdkType(cls) && JsonBinding.of(cls).isDelegatingCreator()) {
+			Executable creator = JsonBinding.of(cls).creator();
+			return JsonBinding.create(creator, readValue(resolve(creator.getGenericParameterTypes()[0], type)));
+		}
+		return switch (ch) {
+			case '{' -> Map.class.isAssignableFrom(cls) ? readMap(type, cls) : readObject(type, JsonBinding.of(cls));
+			case '[' -> readArrayValue(type, cls);
+			case '"' -> fromString(readString(), cls);
+			case 't', 'f' -> fromBoolean(readBoolean(), cls);
+			default -> fromNumber(readNumber(), cls);
+		};
+	}
+
+	/**
+	 * Reads a value without a target type.
+	 *
+	 * @return the value
+	 * @throws IOException if the input cannot be read
+	 */
+	private Object readUntyped() throws IOException {
+		return switch (peek()) {
+			case '{' -> readMap(Map.class, Map.class);
+			case '[' -> readCollection(List.class, List.class);
+			case '"' -> readString();
+			case 't', 'f' -> readBoolean();
+			case 'n' -> {
+				expectLiteral("null");
+				yield null;
+			}
+			default -> untypedNumber(readNumber());
+		};
+	}
+
+	/**
+	 * Reads a JSON object into a new instance created with the given binding.
+	 *
+	 * @param type the target type
+	 * @param binding the target class binding
+	 * @return the new instance
+	 * @throws IOException if the input cannot be read
+	 */
+	private Object readObject(final Type type, final JsonBinding binding) throws IOException {
+		Class<?> cls = binding.type();
+		if (JsonBinding.isJdkType(cls) || cls.isInterface() || Modifier.isAbstract(cls.getModifiers())) {
+			throw error("Cannot de-serialize a JSON object to " + type.getTypeName());
+		}
+		String[] parameterNames = binding.creatorParameterNames();
+		Object[] args = null != parameterNames ? new Object[parameterNames.length] : null;
+		Object instance = null == args ? binding.newInstance() : null;
+		Map<JsonBinding.Property, Object> pending = null;
+		enter();
+		next();
+		if (!consumeIf('}')) {
+			do {
+				String name = readName();
+				int index = null != args ? indexOf(parameterNames, name) : -1;
+				JsonBinding.Property property = binding.property(name);
+				if (index >= 0) {
+					args[index] = readValue(resolve(binding.creator().getGenericParameterTypes()[index], type));
+				} else if (null == property) {
+					skipValue();
+				} else if (null != instance) {
+					property.set(instance, readValue(resolve(property.genericType(), type)));
+				} else {
+					if (null == pending) {
+						pending = new LinkedHashMap<>();
+					}
+					pending.put(property, readValue(resolve(property.genericType(), type)));
+				}
+			} while (consumeIf(','));
+			expect('}');
+		}
+		--depth;
+		if (null == args) {
+			return instance;
+		}
+		Class<?>[] parameterTypes = binding.creator().getParameterTypes();
+		for (int i = 0; i < args.length; ++i) {
+			if (null == args[i]) {
+				args[i] = defaultValue(parameterTypes[i]);
+			}
+		}
+		instance = JsonBinding.create(binding.creator(), args);
+		if (null != pending && !cls.isRecord()) {
+			for (Map.Entry<JsonBinding.Property, Object> entry : pending.entrySet()) {
+				entry.getKey().set(instance, entry.getValue());
+			}
+		}
+		return instance;
+	}
+
+	/**
+	 * Reads a JSON object into a new map.
+	 *
+	 * @param type the target type
+	 * @param cls the target class
+	 * @return the new map
+	 * @throws IOException if the input cannot be read
+	 */
+	@SuppressWarnings("unchecked")
+	private Object readMap(final Type type, final Class<?> cls) throws IOException {
+		Map<Object, Object> map = (Map<Object, Object>) newMap(cls);
+		Type keyType = typeArgument(type, 0);
+		Class<?> keyClass = rawClass(keyType);
+		Type valueType = typeArgument(type, 1);
+		enter();
+		next();
+		if (!consumeIf('}')) {
+			do {
+				String name = readName();
+				Object key = String.class == keyClass || Object.class == keyClass ? name : fromString(name, keyClass);
+				map.put(key, readValue(valueType));
+			} while (consumeIf(','));
+			expect('}');
+		}
+		--depth;
+		return map;
+	}
+
+	/**
+	 * Reads a JSON array into an array or a collection of the given type.
+	 *
+	 * @param type the target type
+	 * @param cls the target class
+	 * @return the array or the collection
+	 * @throws IOException if the input cannot be read
+	 */
+	private Object readArrayValue(final Type type, final Class<?> cls) throws IOException {
+		if (cls.isArray()) {
+			Type componentType = type instanceof GenericArrayType arrayType ? arrayType.getGenericComponentType() : cls.getComponentType();
+			List<?> elements = (List<?>) readCollection(ParameterizedTypes.listOf(componentType), List.class);
+			Object array = Array.newInstance(cls.getComponentType(), elements.size());
+			for (int i = 0; i < elements.size(); ++i) {
+				Array.set(array, i, elements.get(i));
+			}
+			return array;
+		}
+		if (Collection.class.isAssignableFrom(cls) || Iterable.class == cls) {
+			return readCollection(type, cls);
+		}
+		throw error("Cannot de-serialize a JSON array to " + type.getTypeName());
+	}
+
+	/**
+	 * Reads a JSON array into a new collection.
+	 *
+	 * @param type the target type
+	 * @param cls the target class
+	 * @return the new collection
+	 * @throws IOException if the input cannot be read
+	 */
+	@SuppressWarnings("unchecked")
+	private Object readCollection(final Type type, final Class<?> cls) throws IOException {
+		Collection<Object> collection = (Collection<Object>) newCollection(cls);
+		Type elementType = typeArgument(type, 0);
+		enter();
+		next();
+		if (!consumeIf(']')) {
+			do {
+				collection.add(readValue(elementType));
+			} while (consumeIf(','));
+			expect(']');
+		}
+		--depth;
+		return collection;
+	}
+
+	/**
+	 * Skips the next value.
+	 *
+	 * @throws IOException if the input cannot be read
+	 */
+	private void skipValue() throws IOException {
+		switch (peek()) {
+			case '{' -> {
+				enter();
+				next();
+				if (!consumeIf('}')) {
+					do {
+						readName();
+						skipValue();
+					} while (consumeIf(','));
+					expect('}');
+				}
+				--depth;
+			}
+			case '[' -> {
+				enter();
+				next();
+				if (!consumeIf(']')) {
+					do {
+						skipValue();
+					} while (consumeIf(','));
+					expect(']');
+				}
+				--depth;
+			}
+			default -> readUntyped();
+		}
+	}
+
+	/**
+	 * Reads a property name followed by the name separator.
+	 *
+	 * @return the property name
+	 * @throws IOException if the input cannot be read
+	 */
+	private String readName() throws IOException {
+		if ('"' != peek()) {
+			throw error("Expected a property name");
+		}
+		String name = readString();
+		expect(':');
+		return name;
+	}
+
+	/**
+	 * Reads a JSON string, the current character must be the opening quote.
+	 *
+	 * @return the string
+	 * @throws IOException if the input cannot be read
+	 */
+	private String readString() throws IOException {
+		++position;
+		int start = position;
+		while (position < limit) {
+			char ch = buffer[position];
+			if ('"' == ch) {
+				String result = new String(buffer, start, position - start);
+				++position;
+				return result;
+			}
+			if ('\\' == ch || ch < 0x20) {
+				break;
+			}
+			++position;
+		}
+		text.setLength(0);
+		text.append(buffer, start, position - start);
+		while (true) {
+			int ch = read();
+			switch (ch) {
+				case EOF -> throw error("Unexpected end-of-input in a string");
+				case '"' -> {
+					return text.toString();
+				}
+				case '\\' -> text.append(readEscape());
+				default -> {
+					if (ch < 0x20) {
+						throw error("Illegal unquoted control character in a string");
+					}
+					text.append((char) ch);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads an escaped character, the back slash was already consumed.
+	 *
+	 * @return the escaped character
+	 * @throws IOException if the input cannot be read
+	 */
+	private char readEscape() throws IOException {
+		int ch = read();
+		return switch (ch) {
+			case '"', '\\', '/' -> (char) ch;
+			case 'b' -> '\b';
+			case 'f' -> '\f';
+			case 'n' -> '\n';
+			case 'r' -> '\r';
+			case 't' -> '\t';
+			case 'u' -> {
+				int value = 0;
+				for (int i = 0; i < 4; ++i) {
+					int digit = Character.digit(read(), 16);
+					if (digit < 0) {
+						throw error("Invalid unicode escape");
+					}
+					value = (value << 4) | digit;
+				}
+				yield (char) value;
+			}
+			default -> throw error("Invalid escape character");
+		};
+	}
+
+	/**
+	 * Reads a JSON number.
+	 *
+	 * @return the number text
+	 * @throws IOException if the input cannot be read
+	 */
+	private String readNumber() throws IOException {
+		text.setLength(0);
+		while (true) {
+			int ch = peekRaw();
+			if (ch >= '0' && ch <= '9' || '-' == ch || '+' == ch || '.' == ch || 'e' == ch || 'E' == ch) {
+				text.append((char) ch);
+				++position;
+			} else {
+				break;
+			}
+		}
+		if (text.isEmpty()) {
+			throw error("Unexpected character");
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Reads a JSON boolean.
+	 *
+	 * @return the boolean value
+	 * @throws IOException if the input cannot be read
+	 */
+	private Boolean readBoolean() throws IOException {
+		if ('t' == peek()) {
+			expectLiteral("true");
+			return Boolean.TRUE;
+		}
+		expectLiteral("false");
+		return Boolean.FALSE;
+	}
+
+	/**
+	 * Consumes the given literal.
+	 *
+	 * @param literal the expected literal
+	 * @throws IOException if the input cannot be read
+	 */
+	private void expectLiteral(final String literal) throws IOException {
+		for (int i = 0; i < literal.length(); ++i) {
+			if (read() != literal.charAt(i)) {
+				throw error("Unrecognized token, expected '" + literal + "'");
+			}
+		}
+		int ch = peekRaw();
+		if (Character.isLetterOrDigit(ch)) {
+			throw error("Unrecognized token, expected '" + literal + "'");
+		}
+	}
+
+	/**
+	 * Converts a string to the given class.
+	 *
+	 * @param value the string value
+	 * @param cls the target class
+	 * @return the converted value
+	 */
+	private Object fromString(final String value, final Class<?> cls) {
+		if (String.class == cls || CharSequence.class == cls || Object.class == cls) {
+			return value;
+		}
+		if (char.class == cls || Character.class == cls) {
+			if (1 != value.length()) {
+				throw error("Cannot de-serialize '" + value + "' to a character");
+			}
+			return value.charAt(0);
+		}
+		if (byte[].class == cls) {
+			return Base64.getDecoder().decode(value);
+		}
+		if (cls.isEnum()) {
+			Object constant = JsonBinding.of(cls).enumConstant(value);
+			if (null == constant) {
+				throw error("Cannot de-serialize '" + value + "' to " + cls.getName() + ", not one of the enum values");
+			}
+			return constant;
+		}
+		if (isNumberOrBoolean(cls)) {
+			if (value.isEmpty()) {
+				return defaultValue(cls);
+			}
+			return boolean.class == cls || Boolean.class == cls ? Boolean.valueOf(value) : fromNumber(value, cls);
+		}
+		if (Date.class == cls) {
+			return new Date(Long.parseLong(value));
+		}
+		Executable stringCreator = JsonBinding.of(cls).stringCreator();
+		if (null == stringCreator) {
+			throw error("Cannot de-serialize a JSON string to " + cls.getName());
+		}
+		return JsonBinding.create(stringCreator, value);
+	}
+
+	/**
+	 * Converts a boolean to the given class.
+	 *
+	 * @param value the boolean value
+	 * @param cls the target class
+	 * @return the converted value
+	 */
+	private Object fromBoolean(final Boolean value, final Class<?> cls) {
+		if (boolean.class == cls || Boolean.class == cls) {
+			return value;
+		}
+		if (String.class == cls || CharSequence.class == cls) {
+			return value.toString();
+		}
+		throw error("Cannot de-serialize a JSON boolean to " + cls.getName());
+	}
+
+	/**
+	 * Converts a number to the given class.
+	 *
+	 * @param value the number text
+	 * @param cls the target class
+	 * @return the converted value
+	 */
+	private Object fromNumber(final String value, final Class<?> cls) {
+		try {
+			if (int.class == cls || Integer.class == cls) {
+				return isIntegral(value) ? Integer.valueOf(value) : (int) Double.parseDouble(value);
+			}
+			if (long.class == cls || Long.class == cls) {
+				return isIntegral(value) ? Long.valueOf(value) : (long) Double.parseDouble(value);
+			}
+			if (double.class == cls || Double.class == cls) {
+				return Double.valueOf(value);
+			}
+			if (float.class == cls || Float.class == cls) {
+				return Float.valueOf(value);
+			}
+			if (short.class == cls || Short.class == cls) {
+				return Short.valueOf(value);
+			}
+			if (byte.class == cls || Byte.class == cls) {
+				return Byte.valueOf(value);
+			}
+			if (BigDecimal.class == cls) {
+				return new BigDecimal(value);
+			}
+			if (BigInteger.class == cls) {
+				return new BigInteger(value);
+			}
+			if (Number.class == cls || Object.class == cls) {
+				return untypedNumber(value);
+			}
+			if (String.class == cls || CharSequence.class == cls) {
+				return value;
+			}
+			if (Date.class == cls) {
+				return new Date(Long.parseLong(value));
+			}
+		} catch (NumberFormatException e) {
+			throw error("Invalid number '" + value + "' for " + cls.getName());
+		}
+		if (cls.isEnum() && isIntegral(value)) {
+			Object[] constants = cls.getEnumConstants();
+			int index = Integer.parseInt(value);
+			if (index >= 0 && index < constants.length) {
+				return constants[index];
+			}
+		}
+		throw error("Cannot de-serialize a JSON number to " + cls.getName());
+	}
+
+	/**
+	 * Converts a number to the smallest fitting type: {@link Integer}, {@link Long}, {@link BigInteger} for integral
+	 * numbers and {@link Double} for floating point numbers.
+	 *
+	 * @param value the number text
+	 * @return the number
+	 */
+	private Object untypedNumber(final String value) {
+		try {
+			if (!isIntegral(value)) {
+				return Double.valueOf(value);
+			}
+			if (value.length() <= 9) {
+				return Integer.valueOf(value);
+			}
+			if (value.length() <= 18) {
+				long longValue = Long.parseLong(value);
+				return longValue == (int) longValue ? Integer.valueOf((int) longValue) : Long.valueOf(longValue);
+			}
+			BigInteger bigValue = new BigInteger(value);
+			return bigValue.bitLength() < Long.SIZE ? Long.valueOf(bigValue.longValue()) : bigValue;
+		} catch (NumberFormatException e) {
+			throw error("Invalid number '" + value + "'");
+		}
+	}
+
+	/**
+	 * Returns true if the given number text is an integral number.
+	 *
+	 * @param value the number text
+	 * @return true if the number has no fraction and no exponent
+	 */
+	private static boolean isIntegral(final String value) {
+		for (int i = 0; i < value.length(); ++i) {
+			char ch = value.charAt(i);
+			if ('.' == ch || 'e' == ch || 'E' == ch) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns true if the given class is a primitive, a primitive wrapper or a JDK number.
+	 *
+	 * @param cls the class
+	 * @return true if the class is a number or a boolean type
+	 */
+	private static boolean isNumberOrBoolean(final Class<?> cls) {
+		return cls.isPrimitive() || Boolean.class == cls || Number.class.isAssignableFrom(cls) && JsonBinding.isJdkType(cls);
+	}
+
+	/**
+	 * Returns the default value of the given class: the zero value for primitives, an empty {@link Optional} for
+	 * optionals and {@code null} otherwise.
+	 *
+	 * @param cls the class
+	 * @return the default value
+	 */
+	private static Object defaultValue(final Class<?> cls) {
+		if (Optional.class == cls) {
+			return Optional.empty();
+		}
+		return cls.isPrimitive() ? Array.get(Array.newInstance(cls, 1), 0) : null;
+	}
+
+	/**
+	 * Returns a new map for the given map class.
+	 *
+	 * @param cls the map class
+	 * @return a new map
+	 */
+	private static Map<?, ?> newMap(final Class<?> cls) {
+		if (cls.isAssignableFrom(LinkedHashMap.class)) {
+			return new LinkedHashMap<>();
+		}
+		if (cls.isAssignableFrom(TreeMap.class)) {
+			return new TreeMap<>();
+		}
+		if (cls.isAssignableFrom(ConcurrentHashMap.class)) {
+			return new ConcurrentHashMap<>();
+		}
+		return (Map<?, ?>) JsonBinding.of(cls).newInstance();
+	}
+
+	/**
+	 * Returns a new collection for the given collection class.
+	 *
+	 * @param cls the collection class
+	 * @return a new collection
+	 */
+	private static Collection<?> newCollection(final Class<?> cls) {
+		if (cls.isAssignableFrom(ArrayList.class)) {
+			return new ArrayList<>();
+		}
+		if (cls.isAssignableFrom(LinkedHashSet.class)) {
+			return new LinkedHashSet<>();
+		}
+		if (cls.isAssignableFrom(TreeSet.class)) {
+			return new TreeSet<>();
+		}
+		if (cls.isAssignableFrom(ArrayDeque.class)) {
+			return new ArrayDeque<>();
+		}
+		return (Collection<?>) JsonBinding.of(cls).newInstance();
+	}
+
+	/**
+	 * Returns the index of the given name in the given names.
+	 *
+	 * @param names the names
+	 * @param name the name to search
+	 * @return the index or -1 if not found
+	 */
+	private static int indexOf(final String[] names, final String name) {
+		for (int i = 0; i < names.length; ++i) {
+			if (names[i].equals(name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the raw class of the given type.
+	 *
+	 * @param type the type
+	 * @return the raw class
+	 */
+	static Class<?> rawClass(final Type type) {
+		return switch (type) {
+			case Class<?> cls -> cls;
+			case ParameterizedType parameterizedType -> rawClass(parameterizedType.getRawType());
+			case GenericArrayType arrayType -> Array.newInstance(rawClass(arrayType.getGenericComponentType()), 0).getClass();
+			case WildcardType wildcardType -> rawClass(wildcardType.getUpperBounds()[0]);
+			case TypeVariable<?> typeVariable -> rawClass(typeVariable.getBounds()[0]);
+			default -> Object.class;
+		};
+	}
+
+	/**
+	 * Returns the type argument with the given index of the given type.
+	 *
+	 * @param type the type
+	 * @param index the type argument index
+	 * @return the type argument, {@link Object} if the type is not parameterized
+	 */
+	private static Type typeArgument(final Type type, final int index) {
+		if (type instanceof ParameterizedType parameterizedType) {
+			Type[] arguments = parameterizedType.getActualTypeArguments();
+			return index < arguments.length ? arguments[index] : Object.class;
+		}
+		return Object.class;
+	}
+
+	/**
+	 * Resolves the type variables in the given member type using the type arguments of the given owner type.
+	 *
+	 * @param memberType the type of a field or parameter declared in the owner class hierarchy
+	 * @param owner the owner type
+	 * @return the resolved type
+	 */
+	static Type resolve(final Type memberType, final Type owner) {
+		return switch (memberType) {
+			case Class<?> cls -> cls;
+			case TypeVariable<?> typeVariable -> resolveVariable(typeVariable, owner);
+			case ParameterizedType parameterizedType -> {
+				Type[] arguments = parameterizedType.getActualTypeArguments();
+				Type[] resolved = new Type[arguments.length];
+				for (int i = 0; i < arguments.length; ++i) {
+					resolved[i] = resolve(arguments[i], owner);
+				}
+				yield Arrays.equals(arguments, resolved) ? parameterizedType : ParameterizedTypes.of(parameterizedType, resolved);
+			}
+			case GenericArrayType arrayType -> {
+				Type componentType = resolve(arrayType.getGenericComponentType(), owner);
+				yield componentType instanceof Class<?> cls ? Array.newInstance(cls, 0).getClass() : arrayType;
+			}
+			case WildcardType wildcardType -> resolve(wildcardType.getUpperBounds()[0], owner);
+			default -> memberType;
+		};
+	}
+
+	/**
+	 * Resolves a type variable against the owner type by walking the owner generic super classes.
+	 *
+	 * @param typeVariable the type variable
+	 * @param owner the owner type
+	 * @return the resolved type, the variable bound if it cannot be resolved
+	 */
+	private static Type resolveVariable(final TypeVariable<?> typeVariable, final Type owner) {
+		if (typeVariable.getGenericDeclaration() instanceof Class<?> declaringClass) {
+			Type current = owner;
+			while (null != current && Object.class != current) {
+				Class<?> currentClass = rawClass(current);
+				if (declaringClass == currentClass) {
+					if (current instanceof ParameterizedType parameterizedType) {
+						TypeVariable<?>[] variables = declaringClass.getTypeParameters();
+						for (int i = 0; i < variables.length; ++i) {
+							if (variables[i].getName().equals(typeVariable.getName())) {
+								return parameterizedType.getActualTypeArguments()[i];
+							}
+						}
+					}
+					break;
+				}
+				Type superclass = currentClass.getGenericSuperclass();
+				current = null != superclass ? resolve(superclass, current) : null;
+			}
+		}
+		return rawClass(typeVariable.getBounds()[0]);
+	}
+
+	/**
+	 * Returns the next non whitespace character without consuming it.
+	 *
+	 * @return the next non whitespace character or {@link #EOF}
+	 * @throws IOException if the input cannot be read
+	 */
+	private int peek() throws IOException {
+		while (true) {
+			if (position >= limit && !fill()) {
+				return EOF;
+			}
+			char ch = buffer[position];
+			if (' ' != ch && '\n' != ch && '\r' != ch && '\t' != ch) {
+				return ch;
+			}
+			++position;
+		}
+	}
+
+	/**
+	 * Returns the next character without skipping whitespace and without consuming it.
+	 *
+	 * @return the next character or {@link #EOF}
+	 * @throws IOException if the input cannot be read
+	 */
+	private int peekRaw() throws IOException {
+		if (position >= limit && !fill()) {
+			return EOF;
+		}
+		return buffer[position];
+	}
+
+	/**
+	 * Consumes and returns the next character without skipping whitespace.
+	 *
+	 * @return the next character or {@link #EOF}
+	 * @throws IOException if the input cannot be read
+	 */
+	private int read() throws IOException {
+		if (position >= limit && !fill()) {
+			return EOF;
+		}
+		return buffer[position++];
+	}
+
+	/**
+	 * Consumes the next non whitespace character.
+	 *
+	 * @throws IOException if the input cannot be read
+	 */
+	private void next() throws IOException {
+		peek();
+		++position;
+	}
+
+	/**
+	 * Consumes the next non whitespace character if it is the given character.
+	 *
+	 * @param expected the expected character
+	 * @return true if the character was consumed
+	 * @throws IOException if the input cannot be read
+	 */
+	private boolean consumeIf(final char expected) throws IOException {
+		if (expected == peek()) {
+			++position;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Consumes the next non whitespace character which must be the given character.
+	 *
+	 * @param expected the expected character
+	 * @throws IOException if the input cannot be read
+	 */
+	private void expect(final char expected) throws IOException {
+		if (!consumeIf(expected)) {
+			throw error("Expected '" + expected + "'");
+		}
+	}
+
+	/**
+	 * Increments the nesting depth.
+	 */
+	private void enter() {
+		if (++depth > MAX_DEPTH) {
+			throw error("JSON nesting depth is greater than " + MAX_DEPTH);
+		}
+	}
+
+	/**
+	 * Fills the buffer from the stream reader.
+	 *
+	 * @return true if more characters are available
+	 * @throws IOException if the input cannot be read
+	 */
+	private boolean fill() throws IOException {
+		if (null == reader) {
+			return false;
+		}
+		if (position < limit) {
+			return true;
+		}
+		int count = reader.read(buffer, 0, buffer.length);
+		if (count <= 0) {
+			return false;
+		}
+		consumed += limit;
+		position = 0;
+		limit = count;
+		return true;
+	}
+
+	/**
+	 * Returns a parse exception with the current position.
+	 *
+	 * @param message the error message
+	 * @return a parse exception
+	 */
+	private IllegalArgumentException error(final String message) {
+		return new IllegalArgumentException(message + " at position " + (consumed + position));
+	}
+
+	/**
+	 * Simple {@link ParameterizedType} implementation used for resolved types.
+	 *
+	 * @param rawType the raw type
+	 * @param actualTypeArguments the type arguments
+	 * @param ownerType the owner type
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record ParameterizedTypes(Type rawType, Type[] actualTypeArguments, Type ownerType) implements ParameterizedType {
+
+		/**
+		 * Returns a parameterized type with the raw type and owner of the given type and the given type arguments.
+		 *
+		 * @param type the parameterized type
+		 * @param arguments the type arguments
+		 * @return a parameterized type
+		 */
+		static ParameterizedType of(final ParameterizedType type, final Type[] arguments) {
+			return new ParameterizedTypes(type.getRawType(), arguments, type.getOwnerType());
+		}
+
+		/**
+		 * Returns the {@code List<elementType>} type.
+		 *
+		 * @param elementType the element type
+		 * @return the list type
+		 */
+		static ParameterizedType listOf(final Type elementType) {
+			return new ParameterizedTypes(List.class, new Type[] { elementType }, null);
+		}
+
+		@Override
+		public Type[] getActualTypeArguments() {
+			return actualTypeArguments.clone();
+		}
+
+		@Override
+		public Type getRawType() {
+			return rawType;
+		}
+
+		@Override
+		public Type getOwnerType() {
+			return ownerType;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof ParameterizedType that
+					&& Objects.equals(rawType, that.getRawType())
+					&& Objects.equals(ownerType, that.getOwnerType())
+					&& Arrays.equals(actualTypeArguments, that.getActualTypeArguments());
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(actualTypeArguments) ^ Objects.hashCode(ownerType) ^ Objects.hashCode(rawType);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder(rawType.getTypeName()).append('<');
+			for (int i = 0; i < actualTypeArguments.length; ++i) {
+				sb.append(i > 0 ? ", " : "").append(actualTypeArguments[i].getTypeName());
+			}
+			return sb.append('>').toString();
+		}
+	}
+}
@@ -0,0 +1,393 @@
+package org.apiphany.json.builtin;
+
+import java.lang.reflect.Array;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apiphany.lang.Strings;
+import org.apiphany.security.Sensitive;
+
+/**
+ * Streaming JSON writer used by the {@link BuiltInJsonBuilder}. Objects are written directly into a single
+ * {@link StringBuilder} using their {@link JsonBinding} so no intermediate tree is built.
+ * <p>
+ * The output follows the configuration of the Jackson based builders: {@code null} properties and {@code null} map
+ * values are not written, {@link Sensitive} properties are hidden or redacted and when indentation is enabled the output
+ * has the same layout as the Jackson default pretty printer. Instances are not thread-safe, a new writer is used for
+ * every serialization.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+final class JsonWriter {
+
+	/**
+	 * The maximum nesting depth, deeper objects (usually cyclic references) fail the serialization.
+	 */
+	static final int MAX_DEPTH = 1000;
+
+	/**
+	 * The indentation for one object nesting level.
+	 */
+	private static final String INDENT = "  ";
+
+	/**
+	 * The hexadecimal digits used for escaping control characters.
+	 */
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	/**
+	 * The output.
+	 */
+	private final StringBuilder out = new StringBuilder(128);
+
+	/**
+	 * Indent output flag.
+	 */
+	private final boolean indentOutput;
+
+	/**
+	 * The current nesting depth.
+	 */
+	private int depth;
+
+	/**
+	 * The current object nesting level, used for indentation.
+	 */
+	private int level;
+
+	/**
+	 * Constructs a writer.
+	 *
+	 * @param indentOutput indent output flag
+	 */
+	private JsonWriter(final boolean indentOutput) {
+		this.indentOutput = indentOutput;
+	}
+
+	/**
+	 * Writes the given value as a JSON string.
+	 *
+	 * @param value the value to write
+	 * @param indentOutput indent output flag
+	 * @return the JSON string
+	 * @throws IllegalStateException if the value nesting depth is greater than {@link #MAX_DEPTH}
+	 */
+	static String write(final Object value, final boolean indentOutput) {
+		JsonWriter writer = new JsonWriter(indentOutput);
+		writer.writeValue(value);
+		return writer.out.toString();
+	}
+
+	/**
+	 * Writes the given value.
+	 *
+	 * @param value the value to write
+	 */
+	private void writeValue(final Object value) {
+		switch (value) {
+			case null -> out.append("null");
+			case CharSequence chars -> writeString(chars);
+			case Character ch -> writeString(String.valueOf(ch));
+			case Boolean bool -> out.append(bool.booleanValue());
+			case Double number when number.isNaN() || number.isInfinite() -> writeString(number.toString());
+			case Float number when number.isNaN() || number.isInfinite() -> writeString(number.toString());
+			case Number number -> out.append(number);
+			case Enum<?> constant -> writeEnum(constant);
+			case byte[] bytes -> writeString(Base64.getEncoder().encodeToString(bytes));
+			case Optional<?> optional -> writeValue(optional.orElse(null));
+			case Date date -> out.append(date.getTime());
+			case Path path -> writeString(path.toString());
+			case Map<?, ?> map -> writeMap(map);
+			case Iterable<?> iterable -> writeIterable(iterable);
+			default -> writeOther(value);
+		}
+	}
+
+	/**
+	 * Writes an enum constant, as its {@link org.apiphany.lang.annotation.AsValue} value if present or as its name
+	 * otherwise.
+	 *
+	 * @param constant the enum constant
+	 */
+	private void writeEnum(final Enum<?> constant) {
+		JsonBinding binding = JsonBinding.of(constant.getDeclaringClass());
+		if (binding.hasAsValue()) {
+			writeValue(binding.asValue(constant));
+		} else {
+			writeString(constant.name());
+		}
+	}
+
+	/**
+	 * Writes arrays, JDK values as strings and all the other objects with their {@link JsonBinding}.
+	 *
+	 * @param value the value to write
+	 */
+	private void writeOther(final Object value) {
+		Class<?> cls = value.getClass();
+		if (cls.isArray()) {
+			writeArray(value);
+			return;
+		}
+		if (JsonBinding.isJdkType(cls)) {
+			writeString(value.toString());
+			return;
+		}
+		JsonBinding binding = JsonBinding.of(cls);
+		if (binding.hasAsValue()) {
+			writeValue(binding.asValue(value));
+			return;
+		}
+		writeObject(value, binding);
+	}
+
+	/**
+	 * Writes an object with its binding.
+	 *
+	 * @param value the object
+	 * @param binding the object binding
+	 */
+	private void writeObject(final Object value, final JsonBinding binding) {
+		startObject();
+		boolean first = true;
+		for (JsonBinding.Property property : binding.properties()) {
+			if (!property.serializable()) {
+				continue;
+			}
+			Object propertyValue = property.get(value);
+			if (null == propertyValue) {
+				continue;
+			}
+			first = writeName(property.name(), first);
+			if (property.redacted()) {
+				writeRedacted(propertyValue);
+			} else {
+				writeValue(propertyValue);
+			}
+		}
+		endObject(first);
+	}
+
+	/**
+	 * Writes a map as a JSON object, the entries with {@code null} values are not written.
+	 *
+	 * @param map the map
+	 */
+	private void writeMap(final Map<?, ?> map) {
+		startObject();
+		boolean first = true;
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			Object entryValue = entry.getValue();
+			if (null == entryValue) {
+				continue;
+			}
+			first = writeName(keyName(entry.getKey()), first);
+			writeValue(entryValue);
+		}
+		endObject(first);
+	}
+
+	/**
+	 * Writes an iterable as a JSON array.
+	 *
+	 * @param iterable the iterable
+	 */
+	private void writeIterable(final Iterable<?> iterable) {
+		Iterator<?> iterator = iterable.iterator();
+		startArray();
+		boolean first = true;
+		while (iterator.hasNext()) {
+			first = writeElementSeparator(first);
+			writeValue(iterator.next());
+		}
+		endArray();
+	}
+
+	/**
+	 * Writes an array (of objects or primitives) as a JSON array.
+	 *
+	 * @param array the array
+	 */
+	private void writeArray(final Object array) {
+		int length = Array.getLength(array);
+		startArray();
+		for (int i = 0; i < length; ++i) {
+			writeElementSeparator(0 == i);
+			writeValue(Array.get(array, i));
+		}
+		endArray();
+	}
+
+	/**
+	 * Writes a redacted value, collections and arrays are written as an array with one redacted value and maps as an
+	 * object with one redacted property.
+	 *
+	 * @param value the value to redact
+	 */
+	private void writeRedacted(final Object value) {
+		if (value instanceof Iterable<?> || value.getClass().isArray() && !(value instanceof byte[])) {
+			startArray();
+			writeElementSeparator(true);
+			writeString(Sensitive.Value.REDACTED);
+			endArray();
+		} else if (value instanceof Map<?, ?>) {
+			startObject();
+			writeName(Sensitive.Field.SERIALIZED_NAME, true);
+			writeString(Sensitive.Value.REDACTED);
+			endObject(false);
+		} else {
+			writeString(Sensitive.Value.REDACTED);
+		}
+	}
+
+	/**
+	 * Starts a JSON object.
+	 */
+	private void startObject() {
+		enter();
+		++level;
+		out.append('{');
+	}
+
+	/**
+	 * Ends a JSON object.
+	 *
+	 * @param empty true if no property was written
+	 */
+	private void endObject(final boolean empty) {
+		--level;
+		if (indentOutput) {
+			if (empty) {
+				out.append(' ');
+			} else {
+				newLine();
+			}
+		}
+		out.append('}');
+		--depth;
+	}
+
+	/**
+	 * Starts a JSON array.
+	 */
+	private void startArray() {
+		enter();
+		out.append('[');
+	}
+
+	/**
+	 * Ends a JSON array.
+	 */
+	private void endArray() {
+		if (indentOutput) {
+			out.append(' ');
+		}
+		out.append(']');
+		--depth;
+	}
+
+	/**
+	 * Increments the nesting depth.
+	 *
+	 * @throws IllegalStateException if the nesting depth is greater than {@link #MAX_DEPTH}
+	 */
+	private void enter() {
+		if (++depth > MAX_DEPTH) {
+			throw new IllegalStateException("JSON nesting depth is greater than " + MAX_DEPTH + " (cyclic reference?)");
+		}
+	}
+
+	/**
+	 * Writes a property name preceded by the properties separator if needed.
+	 *
+	 * @param name the property name
+	 * @param first true if this is the first property of the object
+	 * @return false, so that the result can be used as the next first flag
+	 */
+	private boolean writeName(final String name, final boolean first) {
+		if (!first) {
+			out.append(',');
+		}
+		if (indentOutput) {
+			newLine();
+		}
+		writeString(name);
+		out.append(indentOutput ? " : " : ":");
+		return false;
+	}
+
+	/**
+	 * Writes the array elements separator if needed.
+	 *
+	 * @param first true if this is the first element of the array
+	 * @return false, so that the result can be used as the next first flag
+	 */
+	private boolean writeElementSeparator(final boolean first) {
+		if (!first) {
+			out.append(',');
+		}
+		if (indentOutput) {
+			out.append(' ');
+		}
+		return false;
+	}
+
+	/**
+	 * Writes a new line followed by the indentation for the current object nesting level.
+	 */
+	private void newLine() {
+		out.append(Strings.EOL);
+		for (int i = 0; i < level; ++i) {
+			out.append(INDENT);
+		}
+	}
+
+	/**
+	 * Writes a JSON string escaping the quotes, the back slashes and the control characters.
+	 *
+	 * @param chars the characters to write
+	 */
+	private void writeString(final CharSequence chars) {
+		out.append('"');
+		int length = chars.length();
+		int start = 0;
+		for (int i = 0; i < length; ++i) {
+			char ch = chars.charAt(i);
+			if (ch >= 0x20 && ch != '"' && ch != '\\') {
+				continue;
+			}
+			out.append(chars, start, i);
+			start = i + 1;
+			switch (ch) {
+				case '"' -> out.append("\\\"");
+				case '\\' -> out.append("\\\\");
+				case '\n' -> out.append("\\n");
+				case '\r' -> out.append("\\r");
+				case '\t' -> out.append("\\t");
+				case '\b' -> out.append("\\b");
+				case '\f' -> out.append("\\f");
+				default -> out.append("\\u00").append(HEX_DIGITS[ch >> 4]).append(HEX_DIGITS[ch & 0xF]);
+			}
+		}
+		out.append(chars, start, length);
+		out.append('"');
+	}
+
+	/**
+	 * Returns the JSON property name for the given map key.
+	 *
+	 * @param key the map key
+	 * @return the JSON property name
+	 */
+	private static String keyName(final Object key) {
+		return switch (key) {
+			case null -> "null";
+			case Enum<?> constant -> constant.name();
+			default -> key.toString();
+		};
+	}
+}
@@ -0,0 +1,131 @@
+package org.apiphany.json.jackson2;
+
+import java.util.List;
+
+import org.apiphany.io.ContentType;
+import org.morphix.lang.JavaObjects;
+import org.morphix.runtime.OptionalLibrary;
+
+/**
+ * Binary data formats supported through the Jackson 2 data format modules. Each data format is available only when the
+ * Jackson 2 library and its data format module are present in the classpath.
+ * <p>
+ * WARNING: This enum should not have any dependencies on Jackson-specific classes to avoid class loading issues when the
+ * libraries are not present in the classpath, the JSON factory of each data format is created by class name.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public enum Jackson2DataFormat {
+
+	/**
+	 * CBOR (Concise Binary Object Representation) data format, needs the {@code jackson-dataformat-cbor} library.
+	 *
+	 * @see <a href="https://www.rfc-editor.org/rfc/rfc8949">RFC 8949: Concise Binary Object Representation (CBOR)</a>
+	 */
+	CBOR(ContentType.APPLICATION_CBOR, "com.fasterxml.jackson.dataformat.cbor.CBORFactory"),
+
+	/**
+	 * Smile (binary JSON) data format, needs the {@code jackson-dataformat-smile} library.
+	 *
+	 * @see <a href="https://github.com/FasterXML/smile-format-specification">Smile Format Specification</a>
+	 */
+	SMILE(ContentType.APPLICATION_X_JACKSON_SMILE, "com.fasterxml.jackson.dataformat.smile.SmileFactory"),
+
+	/**
+	 * MessagePack data format, needs the {@code org.msgpack:jackson-dataformat-msgpack} library.
+	 *
+	 * @see <a href="https://msgpack.org/">MessagePack</a>
+	 */
+	MESSAGE_PACK(ContentType.APPLICATION_MSGPACK, "org.msgpack.jackson.dataformat.MessagePackFactory");
+
+	/**
+	 * Jackson 2 JSON library ObjectMapper class name.
+	 */
+	private static final String JACKSON_2_OBJECT_MAPPER_CLASS_NAME = "com.fasterxml.jackson.databind.ObjectMapper";
+
+	/**
+	 * The content type of the data format.
+	 */
+	private final ContentType contentType;
+
+	/**
+	 * The Jackson 2 JSON factory class name of the data format.
+	 */
+	private final String factoryClassName;
+
+	/**
+	 * Library descriptor that shows if the data format library is present in the classpath.
+	 */
+	private final OptionalLibrary<Jackson2DataFormatHttpContentConverter<?>> library;
+
+	/**
+	 * The content converter, created on first use.
+	 */
+	private volatile Jackson2DataFormatHttpContentConverter<?> contentConverter; // NOSONAR lazily created singleton
+
+	/**
+	 * Constructs a data format constant.
+	 *
+	 * @param contentType the content type of the data format
+	 * @param factoryClassName the Jackson 2 JSON factory class name of the data format
+	 */
+	Jackson2DataFormat(final ContentType contentType, final String factoryClassName) {
+		this.contentType = contentType;
+		this.factoryClassName = factoryClassName;
+		this.library = OptionalLibrary.of(
+				List.of(JACKSON_2_OBJECT_MAPPER_CLASS_NAME, factoryClassName),
+				JavaObjects.cast(Jackson2DataFormatHttpContentConverter.class),
+				() -> new Jackson2DataFormatHttpContentConverter<>(this)); // NOSONAR lambda to avoid direct reference to class
+	}
+
+	/**
+	 * Returns the content type of the data format.
+	 *
+	 * @return the content type of the data format
+	 */
+	public ContentType getContentType() {
+		return contentType;
+	}
+
+	/**
+	 * Returns the Jackson 2 JSON factory class name of the data format.
+	 *
+	 * @return the JSON factory class name
+	 */
+	public String getFactoryClassName() {
+		return factoryClassName;
+	}
+
+	/**
+	 * Checks if the Jackson 2 library and the data format library are present in the classpath.
+	 *
+	 * @return {@code true} if the data format libraries are present, {@code false} otherwise
+	 */
+	public boolean isPresent() {
+		return library.isPresent();
+	}
+
+	/**
+	 * Returns the content converter for this data format, the converter is created on first use.
+	 *
+	 * @return the content converter for this data format
+	 * @throws IllegalStateException if the data format libraries are not present in the classpath
+	 */
+	public Jackson2DataFormatHttpContentConverter<?> getContentConverter() { // NOSONAR the converter can have any generic type
+		Jackson2DataFormatHttpContentConverter<?> converter = contentConverter;
+		if (null == converter) {
+			synchronized (this) {
+				converter = contentConverter;
+				if (null == converter) {
+					if (!isPresent()) {
+						throw new IllegalStateException("The " + name() + " data format library is not present in the classpath: "
+								+ factoryClassName);
+					}
+					converter = library.getSpecificInstance();
+					contentConverter = converter;
+				}
+			}
+		}
+		return converter;
+	}
+}
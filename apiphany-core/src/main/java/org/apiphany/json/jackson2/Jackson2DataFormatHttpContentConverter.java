@@ -0,0 +1,182 @@
+package org.apiphany.json.jackson2;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apiphany.ApiMessage;
+import org.apiphany.ApiMimeType;
+import org.apiphany.client.ContentConverter;
+import org.apiphany.client.http.HttpContentConverter;
+import org.apiphany.header.HeaderValues;
+import org.morphix.convert.ObjectConverterException;
+import org.morphix.reflection.GenericClass;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+/**
+ * A {@link ContentConverter} implementation that converts binary content in one of the {@link Jackson2DataFormat}s to
+ * objects of type {@code T} and objects to binary content. This converter uses a {@link Jackson2JsonBuilder} created with
+ * the data format {@link JsonFactory} so the objects are (de)serialized with the same modules and configuration as the
+ * JSON ones.
+ *
+ * @param <T> the type of the object to which the binary content will be converted.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class Jackson2DataFormatHttpContentConverter<T> implements HttpContentConverter<T> {
+
+	/**
+	 * The data format.
+	 */
+	private final Jackson2DataFormat dataFormat;
+
+	/**
+	 * The JSON builder using the data format JSON factory.
+	 */
+	private final Jackson2JsonBuilder jsonBuilder;
+
+	/**
+	 * Constructs a new {@link Jackson2DataFormatHttpContentConverter} for the given data format.
+	 *
+	 * @param dataFormat the data format
+	 */
+	public Jackson2DataFormatHttpContentConverter(final Jackson2DataFormat dataFormat) {
+		this.dataFormat = dataFormat;
+		this.jsonBuilder = Jackson2JsonBuilder.custom(newJsonFactory(dataFormat));
+	}
+
+	/**
+	 * Converts the given binary content to an instance of the specified class.
+	 *
+	 * @param obj the object to convert, which must be a {@code byte[]} or an {@link InputStream}
+	 * @param mimeType the mime type
+	 * @param targetClass the target class to which the content will be de-serialized
+	 * @return the de-serialized object of type {@code T}
+	 * @throws UnsupportedOperationException if the input object is not a {@code byte[]} or an {@link InputStream}
+	 * @see ContentConverter#from(Object, ApiMimeType, Class)
+	 */
+	@Override
+	public T from(final Object obj, final ApiMimeType mimeType, final Class<T> targetClass) {
+		T result = switch (obj) {
+			case null -> null;
+			case byte[] bytes -> jsonBuilder.fromJsonBytes(bytes, targetClass);
+			case InputStream inputStream -> jsonBuilder.fromJsonInputStream(inputStream, targetClass);
+			default -> throw unsupportedInputType(obj);
+		};
+		if (null == result && null != obj) {
+			throw new ObjectConverterException("Error converting " + dataFormat + " response to " + targetClass.getName());
+		}
+		return result;
+	}
+
+	/**
+	 * Converts the given binary content to an instance of the specified generic class.
+	 *
+	 * @param obj the object to convert, which must be a {@code byte[]} or an {@link InputStream}
+	 * @param mimeType the mime type
+	 * @param targetGenericClass the target generic class to which the content will be de-serialized
+	 * @return the de-serialized object of type {@code T}
+	 * @throws UnsupportedOperationException if the input object is not a {@code byte[]} or an {@link InputStream}
+	 * @see ContentConverter#from(Object, ApiMimeType, GenericClass)
+	 */
+	@Override
+	public T from(final Object obj, final ApiMimeType mimeType, final GenericClass<T> targetGenericClass) {
+		T result = switch (obj) {
+			case null -> null;
+			case byte[] bytes -> jsonBuilder.fromJsonBytes(bytes, targetGenericClass);
+			case InputStream inputStream -> jsonBuilder.fromJsonInputStream(inputStream, targetGenericClass);
+			default -> throw unsupportedInputType(obj);
+		};
+		if (null == result && null != obj) {
+			throw new ObjectConverterException("Error converting " + dataFormat + " response to "
+					+ targetGenericClass.getType().getTypeName());
+		}
+		return result;
+	}
+
+	/**
+	 * Serializes the given object to binary content in this converter data format.
+	 *
+	 * @param obj the object to serialize
+	 * @return the serialized content, or {@code null} if the object is {@code null}
+	 * @throws IllegalStateException if the object cannot be serialized
+	 */
+	public byte[] toBytes(final Object obj) {
+		if (null == obj) {
+			return null; // NOSONAR null means no body
+		}
+		try {
+			return jsonBuilder.writerFor(obj.getClass()).writeValueAsBytes(obj);
+		} catch (IOException e) {
+			throw new IllegalStateException("Error converting " + obj.getClass().getName() + " to " + dataFormat, e);
+		}
+	}
+
+	/**
+	 * Determines whether this converter can handle the content of the given {@link ApiMessage} based on the provided
+	 * headers. This converter supports content with the content type of its data format.
+	 *
+	 * @param <U> the type of the content in the {@link ApiMessage}
+	 * @param <V> the type of the headers
+	 *
+	 * @param message the {@link ApiMessage} containing the content to convert
+	 * @param mimeType the content type
+	 * @param headers the headers that may influence the conversion
+	 * @param chain chain of header values extractor that will be used to get a specific header list
+	 * @return true if the content type is the data format content type, false otherwise
+	 * @see ContentConverter#isConvertible(ApiMessage, ApiMimeType, Object, HeaderValues)
+	 */
+	@Override
+	public <U, V> boolean isConvertible(final ApiMessage<U> message, final ApiMimeType mimeType, final V headers, final HeaderValues chain) {
+		if (null != mimeType) {
+			return dataFormat.getContentType() == mimeType.contentType();
+		}
+		return false;
+	}
+
+	/**
+	 * Returns true since this converter decides only based on the content type.
+	 *
+	 * @return true
+	 * @see ContentConverter#isContentTypeBased()
+	 */
+	@Override
+	public boolean isContentTypeBased() {
+		return true;
+	}
+
+	/**
+	 * Returns the data format.
+	 *
+	 * @return the data format
+	 */
+	public Jackson2DataFormat getDataFormat() {
+		return dataFormat;
+	}
+
+	/**
+	 * Creates the JSON factory of the given data format by class name so that this class can be loaded even if the other
+	 * data format libraries are not present in the classpath.
+	 *
+	 * @param dataFormat the data format
+	 * @return a new JSON factory for the data format
+	 */
+	private static JsonFactory newJsonFactory(final Jackson2DataFormat dataFormat) {
+		try {
+			Class<?> factoryClass = Class.forName(dataFormat.getFactoryClassName());
+			return (JsonFactory) factoryClass.getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Error creating the JSON factory for " + dataFormat, e);
+		}
+	}
+
+	/**
+	 * Returns the exception thrown when the input object type is not supported.
+	 *
+	 * @param obj the input object
+	 * @return the exception thrown when the input object type is not supported
+	 */
+	private UnsupportedOperationException unsupportedInputType(final Object obj) {
+		return new UnsupportedOperationException("Unsupported " + dataFormat + " input type: " + obj.getClass().getName());
+	}
+}
@@ -13,18 +13,24 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.apiphany.json.JsonBuilder;
+import org.apiphany.json.TypeCache;
 import org.morphix.reflection.GenericClass;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
@@ -108,6 +114,36 @@ public class Jackson2JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 */
 	protected final AnnotationIntrospector defaultAnnotationIntrospector;
 
+	/**
+	 * The object readers cached by type.
+	 */
+	private final TypeCache<ObjectReader> readers = new TypeCache<>();
+
+	/**
+	 * The object writers cached by type.
+	 */
+	private final TypeCache<ObjectWriter> writers = new TypeCache<>();
+
+	/**
+	 * The deserialization configuration the cached readers were created with.
+	 */
+	private volatile DeserializationConfig readersConfig;
+
+	/**
+	 * The deserialization context the cached readers were created with.
+	 */
+	private volatile DeserializationContext readersContext;
+
+	/**
+	 * The serialization configuration the cached writers were created with.
+	 */
+	private volatile SerializationConfig writersConfig;
+
+	/**
+	 * The serializer factory the cached writers were created with.
+	 */
+	private volatile SerializerFactory writersFactory;
+
 	/**
 	 * Hide constructor.
 	 *
@@ -269,7 +305,7 @@ public class Jackson2JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	@Override
 	public <T> String toJsonString(final T obj) {
 		return serialize(obj, o -> {
-			ObjectWriter objectWriter = objectMapper.writerFor(o.getClass());
+			ObjectWriter objectWriter = writerFor(o.getClass());
 			return eol() + objectWriter.writeValueAsString(o);
 		});
 	}
@@ -285,7 +321,7 @@ public class Jackson2JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 */
 	@Override
 	public <T> T fromJsonString(final String json, final Class<T> cls) {
-		return deserialize(json, cls, () -> objectMapper.readValue(json, cls));
+		return deserialize(json, cls, () -> readerFor(cls).readValue(json));
 	}
 
 	/**
@@ -299,13 +335,8 @@ public class Jackson2JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 */
 	@Override
 	public <T> T fromJsonString(final String json, final GenericClass<T> genericClass) {
-		TypeReference<T> typeReference = new TypeReference<>() {
-			@Override
-			public Type getType() {
-				return genericClass.getType();
-			}
-		};
-		return fromJsonString(json, typeReference);
+		Type type = genericClass.getType();
+		return deserialize(json, type, () -> readerFor(type).readValue(json));
 	}
 
 	/**
@@ -318,7 +349,7 @@ public class Jackson2JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 * @return an object from the JSON string
 	 */
 	public <T> T fromJsonString(final String json, final TypeReference<T> typeReference) {
-		return deserialize(json, typeReference.getType(), () -> objectMapper.readValue(json, typeReference));
+		return deserialize(json, typeReference.getType(), () -> readerFor(typeReference.getType()).readValue(json));
 	}
 
 	/**
@@ -332,7 +363,7 @@ public class Jackson2JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 */
 	@Override
 	public <T> T fromJsonBytes(final byte[] json, final Class<T> cls) {
-		return deserialize(json, cls, () -> objectMapper.readValue(json, cls));
+		return deserialize(json, cls, () -> readerFor(cls).readValue(json));
 	}
 
 	/**
@@ -346,13 +377,8 @@ public class Jackson2JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 */
 	@Override
 	public <T> T fromJsonBytes(final byte[] json, final GenericClass<T> genericClass) {
-		TypeReference<T> typeReference = new TypeReference<>() {
-			@Override
-			public Type getType() {
-				return genericClass.getType();
-			}
-		};
-		return fromJsonBytes(json, typeReference);
+		Type type = genericClass.getType();
+		return deserialize(json, type, () -> readerFor(type).readValue(json));
 	}
 
 	/**
@@ -365,7 +391,7 @@ public class Jackson2JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 * @return an object from the JSON string
 	 */
 	public <T> T fromJsonBytes(final byte[] json, final TypeReference<T> typeReference) {
-		return deserialize(json, typeReference.getType(), () -> objectMapper.readValue(json, typeReference));
+		return deserialize(json, typeReference.getType(), () -> readerFor(typeReference.getType()).readValue(json));
 	}
 
 	/**
@@ -379,7 +405,7 @@ public class Jackson2JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 */
 	@Override
 	public <T> T fromJsonInputStream(final InputStream json, final Class<T> cls) {
-		return deserialize(json, cls, () -> objectMapper.readValue(json, cls));
+		return deserialize(json, cls, () -> readerFor(cls).readValue(json));
 	}
 
 	/**
@@ -393,13 +419,8 @@ public class Jackson2JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 */
 	@Override
 	public <T> T fromJsonInputStream(final InputStream json, final GenericClass<T> genericClass) {
-		TypeReference<T> typeReference = new TypeReference<>() {
-			@Override
-			public Type getType() {
-				return genericClass.getType();
-			}
-		};
-		return fromJsonInputStream(json, typeReference);
+		Type type = genericClass.getType();
+		return deserialize(json, type, () -> readerFor(type).readValue(json));
 	}
 
 	/**
@@ -412,7 +433,47 @@ public class Jackson2JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 * @return an object from the JSON string
 	 */
 	public <T> T fromJsonInputStream(final InputStream json, final TypeReference<T> typeReference) {
-		return deserialize(json, typeReference.getType(), () -> objectMapper.readValue(json, typeReference));
+		return deserialize(json, typeReference.getType(), () -> readerFor(typeReference.getType()).readValue(json));
+	}
+
+	/**
+	 * Returns the cached {@link ObjectReader} for the given type. The cached readers are discarded when the configuration
+	 * of the underlying {@link ObjectMapper} changes since a reader keeps the configuration it was created with.
+	 *
+	 * @param type the type to read
+	 * @return the object reader for the given type
+	 */
+	protected ObjectReader readerFor(final Type type) {
+		DeserializationConfig config = objectMapper.getDeserializationConfig();
+		DeserializationContext context = objectMapper.getDeserializationContext();
+		if (config != readersConfig || context != readersContext) {
+			readers.clear();
+			readersConfig = config;
+			readersContext = context;
+		}
+		return readers.get(type, t -> t instanceof Class<?> cls
+				? objectMapper.readerFor(cls)
+				: objectMapper.readerFor(objectMapper.constructType(t)));
+	}
+
+	/**
+	 * Returns the cached {@link ObjectWriter} for the given type. The cached writers are discarded when the configuration
+	 * of the underlying {@link ObjectMapper} changes since a writer keeps the configuration it was created with.
+	 *
+	 * @param type the type to write
+	 * @return the object writer for the given type
+	 */
+	protected ObjectWriter writerFor(final Type type) {
+		SerializationConfig config = objectMapper.getSerializationConfig();
+		SerializerFactory factory = objectMapper.getSerializerFactory();
+		if (config != writersConfig || factory != writersFactory) {
+			writers.clear();
+			writersConfig = config;
+			writersFactory = factory;
+		}
+		return writers.get(type, t -> t instanceof Class<?> cls
+				? objectMapper.writerFor(cls)
+				: objectMapper.writerFor(objectMapper.constructType(t)));
 	}
 
 	/**
@@ -89,4 +89,15 @@ public class Jackson2JsonHttpContentConverter<T> implements HttpContentConverter
 		}
 		return false;
 	}
+
+	/**
+	 * Returns true since this converter decides only based on the content type.
+	 *
+	 * @return true
+	 * @see ContentConverter#isContentTypeBased()
+	 */
+	@Override
+	public boolean isContentTypeBased() {
+		return true;
+	}
 }
@@ -10,6 +10,7 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.apiphany.json.JsonBuilder;
+import org.apiphany.json.TypeCache;
 import org.morphix.lang.function.Consumers;
 import org.morphix.reflection.GenericClass;
 
@@ -20,6 +21,7 @@ import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.AnnotationIntrospector;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.ObjectWriter;
 import tools.jackson.databind.PropertyNamingStrategies;
 import tools.jackson.databind.SerializationFeature;
@@ -102,6 +104,16 @@ public class Jackson3JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 */
 	protected final AnnotationIntrospector defaultAnnotationIntrospector;
 
+	/**
+	 * The object readers cached by type.
+	 */
+	private final TypeCache<ObjectReader> readers = new TypeCache<>();
+
+	/**
+	 * The object writers cached by type.
+	 */
+	private final TypeCache<ObjectWriter> writers = new TypeCache<>();
+
 	/**
 	 * Constructor with extra configurations:
 	 * <ul>
@@ -280,7 +292,7 @@ public class Jackson3JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	@Override
 	public <T> String toJsonString(final T obj) {
 		return serialize(obj, o -> {
-			ObjectWriter objectWriter = jsonMapper.writerFor(o.getClass());
+			ObjectWriter objectWriter = writerFor(o.getClass());
 			return eol() + objectWriter.writeValueAsString(o);
 		});
 	}
@@ -296,7 +308,7 @@ public class Jackson3JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 */
 	@Override
 	public <T> T fromJsonString(final String json, final Class<T> cls) {
-		return deserialize(json, cls, () -> jsonMapper.readValue(json, cls));
+		return deserialize(json, cls, () -> readerFor(cls).readValue(json));
 	}
 
 	/**
@@ -310,13 +322,8 @@ public class Jackson3JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 */
 	@Override
 	public <T> T fromJsonString(final String json, final GenericClass<T> genericClass) {
-		TypeReference<T> typeReference = new TypeReference<>() {
-			@Override
-			public Type getType() {
-				return genericClass.getType();
-			}
-		};
-		return fromJsonString(json, typeReference);
+		Type type = genericClass.getType();
+		return deserialize(json, type, () -> readerFor(type).readValue(json));
 	}
 
 	/**
@@ -329,7 +336,7 @@ public class Jackson3JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 * @return an object from the JSON string
 	 */
 	public <T> T fromJsonString(final String json, final TypeReference<T> typeReference) {
-		return deserialize(json, typeReference.getType(), () -> jsonMapper.readValue(json, typeReference));
+		return deserialize(json, typeReference.getType(), () -> readerFor(typeReference.getType()).readValue(json));
 	}
 
 	/**
@@ -343,7 +350,7 @@ public class Jackson3JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 */
 	@Override
 	public <T> T fromJsonBytes(final byte[] json, final Class<T> cls) {
-		return deserialize(json, cls, () -> jsonMapper.readValue(json, cls));
+		return deserialize(json, cls, () -> readerFor(cls).readValue(json));
 	}
 
 	/**
@@ -357,13 +364,8 @@ public class Jackson3JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 */
 	@Override
 	public <T> T fromJsonBytes(final byte[] json, final GenericClass<T> genericClass) {
-		TypeReference<T> typeReference = new TypeReference<>() {
-			@Override
-			public Type getType() {
-				return genericClass.getType();
-			}
-		};
-		return fromJsonBytes(json, typeReference);
+		Type type = genericClass.getType();
+		return deserialize(json, type, () -> readerFor(type).readValue(json));
 	}
 
 	/**
@@ -376,7 +378,7 @@ public class Jackson3JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 * @return an object from the JSON string
 	 */
 	public <T> T fromJsonBytes(final byte[] json, final TypeReference<T> typeReference) {
-		return deserialize(json, typeReference.getType(), () -> jsonMapper.readValue(json, typeReference));
+		return deserialize(json, typeReference.getType(), () -> readerFor(typeReference.getType()).readValue(json));
 	}
 
 	/**
@@ -390,7 +392,7 @@ public class Jackson3JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 */
 	@Override
 	public <T> T fromJsonInputStream(final InputStream json, final Class<T> cls) {
-		return deserialize(json, cls, () -> jsonMapper.readValue(json, cls));
+		return deserialize(json, cls, () -> readerFor(cls).readValue(json));
 	}
 
 	/**
@@ -404,13 +406,8 @@ public class Jackson3JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 */
 	@Override
 	public <T> T fromJsonInputStream(final InputStream json, final GenericClass<T> genericClass) {
-		TypeReference<T> typeReference = new TypeReference<>() {
-			@Override
-			public Type getType() {
-				return genericClass.getType();
-			}
-		};
-		return fromJsonInputStream(json, typeReference);
+		Type type = genericClass.getType();
+		return deserialize(json, type, () -> readerFor(type).readValue(json));
 	}
 
 	/**
@@ -423,7 +420,33 @@ public class Jackson3JsonBuilder extends JsonBuilder { // NOSONAR singleton impl
 	 * @return an object from the JSON string
 	 */
 	public <T> T fromJsonInputStream(final InputStream json, final TypeReference<T> typeReference) {
-		return deserialize(json, typeReference.getType(), () -> jsonMapper.readValue(json, typeReference));
+		return deserialize(json, typeReference.getType(), () -> readerFor(typeReference.getType()).readValue(json));
+	}
+
+	/**
+	 * Returns the cached {@link ObjectReader} for the given type. The underlying {@link JsonMapper} is immutable so the
+	 * cached readers never need to be discarded.
+	 *
+	 * @param type the type to read
+	 * @return the object reader for the given type
+	 */
+	protected ObjectReader readerFor(final Type type) {
+		return readers.get(type, t -> t instanceof Class<?> cls
+				? jsonMapper.readerFor(cls)
+				: jsonMapper.readerFor(jsonMapper.constructType(t)));
+	}
+
+	/**
+	 * Returns the cached {@link ObjectWriter} for the given type. The underlying {@link JsonMapper} is immutable so the
+	 * cached writers never need to be discarded.
+	 *
+	 * @param type the type to write
+	 * @return the object writer for the given type
+	 */
+	protected ObjectWriter writerFor(final Type type) {
+		return writers.get(type, t -> t instanceof Class<?> cls
+				? jsonMapper.writerFor(cls)
+				: jsonMapper.writerFor(jsonMapper.constructType(t)));
 	}
 
 	/**
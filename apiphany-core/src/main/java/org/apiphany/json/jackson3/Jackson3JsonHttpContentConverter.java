@@ -90,4 +90,15 @@ public class Jackson3JsonHttpContentConverter<T> implements HttpContentConverter
 		}
 		return false;
 	}
+
+	/**
+	 * Returns true since this converter decides only based on the content type.
+	 *
+	 * @return true
+	 * @see ContentConverter#isContentTypeBased()
+	 */
+	@Override
+	public boolean isContentTypeBased() {
+		return true;
+	}
 }
@@ -7,6 +7,7 @@ import org.apiphany.ApiRequest;
 import org.apiphany.ApiResponse;
 import org.apiphany.client.ClientProperties;
 import org.apiphany.client.ExchangeClient;
+import org.apiphany.io.BodyFingerprint;
 import org.apiphany.lang.Strings;
 import org.morphix.lang.Messages;
 import org.morphix.lang.Nullables;
@@ -82,6 +83,19 @@ public class ExchangeLogger {
 			.append(Strings.EOL).append(LOG_SEPARATOR)
 			.toString();
 
+	/**
+	 * The log message format for streamed bodies.
+	 */
+	private static final String LOG_MESSAGE_STREAMED_BODY = new StringBuilder()
+			.append(Strings.EOL).append(LOG_SEPARATOR)
+			.append(Strings.EOL).append("CLIENT: {}")
+			.append(Strings.EOL).append("[STREAMED RESPONSE]")
+			.append(Strings.EOL).append("METHOD: {}")
+			.append(Strings.EOL).append("URL: {}")
+			.append(Strings.EOL).append("BODY: {}")
+			.append(Strings.EOL).append(LOG_SEPARATOR)
+			.toString();
+
 	/**
 	 * Logs all information for a successful HTTP request.
 	 *
@@ -152,6 +166,35 @@ public class ExchangeLogger {
 		loggingFunction.log("{}", Nullables.apply(apiResponse, ApiResponse::getErrorMessage), exception);
 	}
 
+	/**
+	 * Logs the length and hash of a streamed response body once the stream was consumed. Streamed bodies are consumed
+	 * after the exchange was logged, so their fingerprint can only be logged separately.
+	 *
+	 * @param <T> the type of the request body
+	 *
+	 * @param loggingFunction the logging function used to output the log message
+	 * @param exchangeClientClass the class of the exchange client that received the body
+	 * @param apiRequest the API request object
+	 * @param body the streamed body
+	 * @param fingerprint the fingerprint computed while the body was consumed
+	 */
+	public static <T> void logStreamedBody(
+			final LoggingFunction loggingFunction,
+			final Class<?> exchangeClientClass,
+			final ApiRequest<T> apiRequest,
+			final Object body,
+			final BodyFingerprint fingerprint) {
+		String logMessage = Messages.message(
+				LOG_MESSAGE_STREAMED_BODY,
+				exchangeClientClass,
+				apiRequest.getMethod(),
+				apiRequest.getUrl(),
+				Logging.describeInput(body, fingerprint, LoggingFormat.DEFAULT,
+						Logging.Include.LENGTH,
+						Logging.Include.HASH));
+		loggingFunction.log(logMessage);
+	}
+
 	/**
 	 * Describes the body of a request or response based on the logging configuration of the exchange client.
 	 *
@@ -176,7 +219,7 @@ public class ExchangeLogger {
 		if (bodyLoggingMode == Logging.Mode.NONE) {
 			return "<omitted>";
 		}
-		return Logging.describeInput(body, LoggingFormat.DEFAULT,
+		return Logging.describeInput(body, apiMessage.getBodyFingerprint(), LoggingFormat.DEFAULT,
 				Logging.Include.LENGTH,
 				Logging.Include.HASH);
 	}
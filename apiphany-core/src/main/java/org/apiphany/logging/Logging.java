@@ -5,8 +5,10 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.BooleanSupplier;
 
+import org.apiphany.io.BodyFingerprint;
 import org.apiphany.lang.Strings;
 import org.apiphany.security.MessageDigestAlgorithm;
+import org.morphix.lang.Nullables;
 import org.morphix.reflection.Constructors;
 
 /**
@@ -48,7 +50,8 @@ public interface Logging {
 
 		/**
 		 * Includes the length of the input value in the diagnostic description. For strings, this is the number of characters;
-		 * for byte arrays, this is the number of bytes. For other types, this information is unavailable.
+		 * for byte arrays and complete body fingerprints, this is the number of bytes. For other types, this information is
+		 * unavailable.
 		 */
 		LENGTH {
 			@Override
@@ -56,6 +59,7 @@ public interface Logging {
 				return String.valueOf(switch (obj) {
 					case String string -> string.length();
 					case byte[] bytes -> bytes.length;
+					case BodyFingerprint fingerprint when fingerprint.isComplete() -> fingerprint.length();
 					default -> Default.UNAVAILABLE;
 				});
 			}
@@ -63,7 +67,8 @@ public interface Logging {
 
 		/**
 		 * Includes a hash of the input value in the diagnostic description. For strings and byte arrays, this is a truncated
-		 * SHA-256 hash. For other types, this is the identity hash code of the object.
+		 * SHA-256 hash, for complete body fingerprints this is the truncated fingerprint hash and for incomplete ones this
+		 * information is unavailable. For other types, this is the identity hash code of the object.
 		 */
 		HASH {
 			@Override
@@ -72,6 +77,7 @@ public interface Logging {
 				return switch (obj) {
 					case String string -> sha256.hash(string, Default.HASH_BYTES);
 					case byte[] bytes -> sha256.hash(bytes, Default.HASH_BYTES);
+					case BodyFingerprint fingerprint -> Nullables.nonNullOrDefault(fingerprint.hash(Default.HASH_BYTES), Default.UNAVAILABLE);
 					default -> Integer.toHexString(System.identityHashCode(obj));
 				};
 			}
@@ -207,6 +213,27 @@ public interface Logging {
 		};
 	}
 
+	/**
+	 * Builds a safe diagnostic description for an input value using the fingerprint computed while the input was streamed
+	 * instead of the input value itself. The description has the type of the input value and the information extracted
+	 * from the fingerprint.
+	 *
+	 * @param obj the input value to describe
+	 * @param fingerprint the fingerprint of the input value
+	 * @param format the logging format
+	 * @param includes the types of information to include in the description
+	 * @return a safe diagnostic description of the input value
+	 */
+	static String describeInput(final Object obj, final BodyFingerprint fingerprint, final LoggingFormat format, final Include... includes) {
+		if (null == obj || null == fingerprint) {
+			return describeInput(obj, format, includes);
+		}
+		// currently only custom format is supported, but this allows for future extension to other formats if needed
+		return switch (format) {
+			default -> Custom.describeInput(obj.getClass().getTypeName(), fingerprint, Include.of(includes));
+		};
+	}
+
 	/**
 	 * Provides a custom implementation for building safe diagnostic descriptions of input values. This implementation
 	 * constructs a description that includes the class name of the input value and the specified types of information
@@ -227,8 +254,20 @@ public interface Logging {
 			if (null == obj) {
 				return Objects.toString(obj);
 			}
+			return describeInput(obj.getClass().getTypeName(), obj, includes);
+		}
+
+		/**
+		 * Builds a safe diagnostic description with the given type name and the information extracted from the given value.
+		 *
+		 * @param typeName the type name to describe
+		 * @param obj the value from which the information is extracted
+		 * @param includes the list of Include instances specifying the types of information to include in the description
+		 * @return a safe diagnostic description
+		 */
+		static String describeInput(final String typeName, final Object obj, final List<Include> includes) {
 			StringBuilder sb = new StringBuilder();
-			sb.append(obj.getClass().getTypeName());
+			sb.append(typeName);
 			sb.append("(");
 			boolean first = true;
 			int length = includes.size();
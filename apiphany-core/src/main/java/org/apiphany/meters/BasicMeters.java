@@ -3,12 +3,14 @@ package org.apiphany.meters;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import org.apiphany.io.PayloadSize;
 import org.apiphany.lang.Strings;
 import org.apiphany.lang.builder.PropertyNameBuilder;
 import org.morphix.lang.Nullables;
@@ -65,6 +67,26 @@ public record BasicMeters(
 		 */
 		public static final String ERROR = "error";
 
+		/**
+		 * The metric name for the exchange latency tagged with {@link Tag} keys.
+		 */
+		public static final String EXCHANGE = "exchange";
+
+		/**
+		 * The metric name for the request body size in bytes.
+		 */
+		public static final String REQUEST_BYTES = "request.bytes";
+
+		/**
+		 * The metric name for the raw response body size in bytes, as received before decoding the content encoding.
+		 */
+		public static final String RESPONSE_BYTES = "response.bytes";
+
+		/**
+		 * The metric name for the response body size in bytes after decoding the content encoding.
+		 */
+		public static final String DECODED_RESPONSE_BYTES = "response.decoded.bytes";
+
 		/**
 		 * Hide constructor.
 		 */
@@ -73,6 +95,56 @@ public record BasicMeters(
 		}
 	}
 
+	/**
+	 * Namespace for metric tag keys and values. All the tag values used by the library have a bounded cardinality so that
+	 * the number of time series in a meter registry stays bounded.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public static class Tag {
+
+		/**
+		 * The tag key for the URI template.
+		 */
+		public static final String URI = "uri";
+
+		/**
+		 * The tag key for the request method.
+		 */
+		public static final String METHOD = "method";
+
+		/**
+		 * The tag key for the status class (for example {@code 2xx}, {@code 4xx}).
+		 */
+		public static final String STATUS = "status";
+
+		/**
+		 * The tag value used when the actual value is not available.
+		 */
+		public static final String UNKNOWN = "UNKNOWN";
+
+		/**
+		 * Hide constructor.
+		 */
+		private Tag() {
+			throw Constructors.unsupportedOperationException();
+		}
+
+		/**
+		 * Returns the status class tag value for the given status code, for example {@code 2xx} for {@code 200} or
+		 * {@link #UNKNOWN} if the status code is not a valid 3 digit status code.
+		 *
+		 * @param statusCode the status code
+		 * @return the status class tag value
+		 */
+		public static String statusClass(final int statusCode) {
+			if (statusCode < 100 || statusCode > 599) {
+				return UNKNOWN;
+			}
+			return (statusCode / 100) + "xx";
+		}
+	}
+
 	/**
 	 * The default instance of {@link BasicMeters} that does not publish any metrics.
 	 */
@@ -198,6 +270,99 @@ public record BasicMeters(
 		}
 	}
 
+	/**
+	 * Wraps the supplier code with metrics, recording latency, requests, and errors. Additionally, when these meters are
+	 * published (they are not {@link BasicMeter}s), it records the latency on the {@link Name#EXCHANGE} timer tagged with
+	 * the tags computed from the result by the given tags function. The tags function must return tags with bounded
+	 * cardinality (see {@link Tag}) otherwise the meter registry will grow with every distinct tag value.
+	 *
+	 * @param <T> the return type of the supplier.
+	 *
+	 * @param supplier the code to wrap with metrics.
+	 * @param isSuccess the predicate to determine if the result of the supplier is considered a success
+	 * @param onError the function to handle errors and provide a fallback value.
+	 * @param tagsFunction the function computing the exchange timer tags from the result
+	 * @return the result of the supplier on success, or the result of the error handler on failure.
+	 */
+	public <T> T wrap(final Supplier<T> supplier, final Predicate<T> isSuccess, final Function<? super Exception, T> onError,
+			final Function<? super T, List<String>> tagsFunction) {
+		if (!isPublished()) {
+			return wrap(supplier, isSuccess, onError);
+		}
+		long startTime = System.nanoTime();
+		T result = wrap(supplier, isSuccess, onError);
+		Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+		MeterTimer exchangeTimer = factory().timer(exchangeTimerName(), tagsFunction.apply(result));
+		Nullables.whenNotNull(exchangeTimer, timer -> timer.record(duration));
+		return result;
+	}
+
+	/**
+	 * Records the known sizes of the given payload size on the {@link Name#REQUEST_BYTES}, {@link Name#RESPONSE_BYTES}
+	 * and {@link Name#DECODED_RESPONSE_BYTES} summaries tagged with the given tags, only when these meters are published.
+	 * The summary names have the same prefix as the latency timer. The tags must have bounded cardinality (see
+	 * {@link Tag}).
+	 *
+	 * @param payloadSize the payload size to record
+	 * @param tags the summary tags
+	 */
+	public void record(final PayloadSize payloadSize, final List<String> tags) {
+		if (null == payloadSize || !isPublished()) {
+			return;
+		}
+		record(Name.REQUEST_BYTES, payloadSize.request(), tags);
+		record(Name.RESPONSE_BYTES, payloadSize.response(), tags);
+		record(Name.DECODED_RESPONSE_BYTES, payloadSize.decodedResponse(), tags);
+	}
+
+	/**
+	 * Records the given size on the summary with the given name if the size is known.
+	 *
+	 * @param name the summary name without prefix
+	 * @param size the size to record
+	 * @param tags the summary tags
+	 */
+	private void record(final String name, final long size, final List<String> tags) {
+		if (!PayloadSize.isKnown(size)) {
+			return;
+		}
+		MeterSummary summary = factory().summary(prefix(), name, tags);
+		Nullables.whenNotNull(summary, s -> s.record(size));
+	}
+
+	/**
+	 * Returns the prefix of these meters which is derived from the latency timer name.
+	 *
+	 * @return the prefix of these meters
+	 */
+	private String prefix() {
+		String latencyName = latency().getName();
+		String latencySuffix = PropertyNameBuilder.DELIMITER + Name.LATENCY;
+		return latencyName.endsWith(latencySuffix)
+				? latencyName.substring(0, latencyName.length() - latencySuffix.length())
+				: latencyName;
+	}
+
+	/**
+	 * Returns true if these meters are published to a metrics service, false if they are only basic in memory meters.
+	 *
+	 * @return true if these meters are published to a metrics service
+	 */
+	public boolean isPublished() {
+		return null != factory() && !(latency() instanceof BasicMeter);
+	}
+
+	/**
+	 * Returns the name of the tagged exchange timer which is derived from the latency timer name. A different name than the
+	 * latency timer is needed because some registries (like Prometheus) require all meters with the same name to have the
+	 * same tag keys.
+	 *
+	 * @return the name of the tagged exchange timer
+	 */
+	private String exchangeTimerName() {
+		return String.join(PropertyNameBuilder.DELIMITER, latency().getName(), Name.EXCHANGE);
+	}
+
 	/**
 	 * Constructs a {@link BasicMeters} object with all meters having the given prefix and tags.
 	 *
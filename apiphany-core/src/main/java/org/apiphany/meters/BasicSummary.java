@@ -0,0 +1,74 @@
+package org.apiphany.meters;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A basic summary implementation that does not send values to any metrics service. This is useful when metrics need to
+ * be disabled or not available.
+ * <p>
+ * This summary only holds the number of recorded amounts and their total, both can be recorded concurrently from multiple
+ * threads.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class BasicSummary extends BasicMeter implements MeterSummary {
+
+	/**
+	 * The number of recorded amounts.
+	 */
+	private final LongAdder count = new LongAdder();
+
+	/**
+	 * The sum of all recorded amounts.
+	 */
+	private final DoubleAdder total = new DoubleAdder();
+
+	/**
+	 * Private constructor to enforce use of factory method.
+	 */
+	private BasicSummary(final String name) {
+		super(name);
+	}
+
+	/**
+	 * Creates a new basic summary instance with the specified name.
+	 *
+	 * @param name the name for the summary
+	 * @return a new basic summary instance
+	 * @throws NullPointerException if name is null
+	 */
+	public static BasicSummary of(final String name) {
+		Objects.requireNonNull(name);
+		return new BasicSummary(name);
+	}
+
+	/**
+	 * @see MeterSummary#record(double)
+	 */
+	@Override
+	public void record(final double amount) {
+		if (amount < 0) {
+			return;
+		}
+		this.count.increment();
+		this.total.add(amount);
+	}
+
+	/**
+	 * @see MeterSummary#count()
+	 */
+	@Override
+	public long count() {
+		return count.sum();
+	}
+
+	/**
+	 * @see MeterSummary#totalAmount()
+	 */
+	@Override
+	public double totalAmount() {
+		return total.sum();
+	}
+}
@@ -9,10 +9,10 @@ import org.morphix.runtime.Libraries;
 import org.morphix.runtime.OptionalLibrary;
 
 /**
- * Factory for creating {@link MeterCounter} and {@link MeterTimer} instances with optional tags.
+ * Factory for creating {@link MeterCounter}, {@link MeterTimer} and {@link MeterSummary} instances with optional tags.
  * <p>
  * This abstraction decouples application code from the underlying meter implementations (e.g. {@code BasicCounter},
- * {@code BasicTimer}) and provides a convenient way to attach tags to meters.
+ * {@code BasicTimer}, {@code BasicSummary}) and provides a convenient way to attach tags to meters.
  * <p>
  * Tags are provided in a generic form ({@code Iterable<T>} or {@code T...}), allowing flexibility in the types used to
  * represent them. The default implementation ignores tags, but they are accepted for API compatibility and future
@@ -128,6 +128,39 @@ public class MeterFactory {
 		return counter(String.join(PropertyNameBuilder.DELIMITER, prefix, name), tags);
 	}
 
+	/**
+	 * Creates a new {@link MeterSummary} with the given {@code name} and {@code tags}.
+	 * <p>
+	 * Tags are accepted as a generic {@link Iterable}, but may be ignored by the underlying implementation.
+	 *
+	 * @param <T> the tag element type
+	 * @param <U> an iterable of tags
+	 *
+	 * @param name the meter name (must not be {@code null})
+	 * @param tags the tags to associate with the meter (can be ignored)
+	 * @return a new summary instance
+	 */
+	public <T, U extends Iterable<T>> MeterSummary summary(final String name, final U tags) {
+		return BasicSummary.of(name);
+	}
+
+	/**
+	 * Creates a new {@link MeterSummary} with the given {@code prefix}, {@code name} and {@code tags}.
+	 * <p>
+	 * Tags are accepted as a generic {@link Iterable}, but may be ignored by the underlying implementation.
+	 *
+	 * @param <T> the tag element type
+	 * @param <U> an iterable of tags
+	 *
+	 * @param prefix the prefix for the meter name
+	 * @param name the meter name (must not be {@code null})
+	 * @param tags the tags to associate with the meter (can be ignored)
+	 * @return a new summary instance
+	 */
+	public <T, U extends Iterable<T>> MeterSummary summary(final String prefix, final String name, final U tags) {
+		return summary(String.join(PropertyNameBuilder.DELIMITER, prefix, name), tags);
+	}
+
 	/**
 	 * Creates a new {@link MeterTimer} with the given {@code name} and {@code tags}.
 	 * <p>
@@ -160,6 +193,22 @@ public class MeterFactory {
 		return counter(name, List.of(tags));
 	}
 
+	/**
+	 * Creates a new {@link MeterSummary} with the given {@code name} and {@code tags}.
+	 * <p>
+	 * Tags are accepted as varargs for convenience, and internally converted to a {@link List}.
+	 *
+	 * @param <T> the tag element type
+	 *
+	 * @param name the meter name (must not be {@code null})
+	 * @param tags the tags to associate with the meter (can be ignored)
+	 * @return a new summary instance
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> MeterSummary summary(final String name, final T... tags) {
+		return summary(name, List.of(tags));
+	}
+
 	/**
 	 * Returns true if the tags object is empty, false otherwise.
 	 *
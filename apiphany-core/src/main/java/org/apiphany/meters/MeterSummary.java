@@ -0,0 +1,56 @@
+package org.apiphany.meters;
+
+/**
+ * A specialized {@link Meter} that tracks the distribution of recorded amounts.
+ * <p>
+ * Summaries are used to record values that are not durations, typically sizes, to analyze their count, total and
+ * distribution (depending on the underlying implementation).
+ * <p>
+ * Typical use cases include tracking the:
+ * <ul>
+ * <li>Request payload sizes</li>
+ * <li>Response payload sizes</li>
+ * <li>Number of items in a batch</li>
+ * </ul>
+ *
+ * <h2>Usage example:</h2>
+ *
+ * <pre>{@code
+ * MeterSummary responseSize = registry.summary("response.bytes");
+ *
+ * // record an amount
+ * responseSize.record(1024);
+ *
+ * // retrieve the statistics
+ * long count = responseSize.count();
+ * double total = responseSize.totalAmount();
+ * }</pre>
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public interface MeterSummary extends Meter {
+
+	/**
+	 * Records the given {@code amount}.
+	 * <p>
+	 * The amount must be non-negative. Passing a negative amount may result in the amount being ignored, an exception or
+	 * undefined behavior depending on the underlying implementation.
+	 *
+	 * @param amount the non-negative amount to record
+	 */
+	void record(double amount);
+
+	/**
+	 * Returns the number of recorded amounts.
+	 *
+	 * @return the number of recorded amounts
+	 */
+	long count();
+
+	/**
+	 * Returns the sum of all recorded amounts.
+	 *
+	 * @return the sum of all recorded amounts
+	 */
+	double totalAmount();
+}
@@ -0,0 +1,196 @@
+package org.apiphany.meters.micrometer;
+
+import java.net.http.HttpClient;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.apiphany.client.http.JavaNetHttpClientStats;
+import org.apiphany.client.http.JavaNetHttpClientStats.RouteStats;
+import org.apiphany.client.http.JavaNetHttpExchangeClient;
+import org.apiphany.lang.builder.PropertyNameBuilder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Registers the exchange statistics of a {@link JavaNetHttpExchangeClient} (see {@link JavaNetHttpClientStats}) as
+ * Micrometer meters. The Java HTTP client does not expose its connection pool, so the active exchanges per route are the
+ * closest equivalent of the leased connections of a pooling client.
+ * <p>
+ * The following metrics will be published:
+ *
+ * <pre>
+ * 	java.net.httpclient.${clientName}.exchanges.active
+ * 	java.net.httpclient.${clientName}.route.exchanges.active{route=${route}}
+ * 	java.net.httpclient.${clientName}.route.responses{route=${route},version=${version}}
+ * 	java.net.httpclient.${clientName}.route.failures{route=${route}}
+ * </pre>
+ *
+ * where {@code ${clientName}} is the parameter given when constructing the binder, {@code ${route}} is the target
+ * {@code scheme://host:port} and {@code ${version}} is the negotiated HTTP version ({@code http_1_1} or {@code http_2}).
+ * The per route meters are registered for the routes already seen when binding and for every new route after that.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class JavaNetHttpClientMetricsBinder implements MeterBinder {
+
+	/**
+	 * Constants for metric name prefixes.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public static class MetricPrefix {
+
+		/**
+		 * The base metric prefix for all Java HTTP client metrics.
+		 */
+		public static final String HTTP_CLIENT = "java.net.httpclient";
+
+		/**
+		 * The metric prefix for route-specific statistics.
+		 */
+		public static final String ROUTE = "route";
+
+		/**
+		 * Private constructor to prevent instantiation.
+		 */
+		private MetricPrefix() {
+			// empty
+		}
+	}
+
+	/**
+	 * The tag key for the route.
+	 */
+	public static final String ROUTE_TAG = "route";
+
+	/**
+	 * The tag key for the HTTP version.
+	 */
+	public static final String VERSION_TAG = "version";
+
+	/**
+	 * The exchange statistics being monitored.
+	 */
+	private final JavaNetHttpClientStats stats;
+
+	/**
+	 * Tags for metrics.
+	 */
+	private final Iterable<Tag> tags;
+
+	/**
+	 * The name of the HTTP client being monitored.
+	 */
+	private final String clientName;
+
+	/**
+	 * Constructs a new metrics binder for the given exchange statistics.
+	 *
+	 * @param stats the exchange statistics to monitor
+	 * @param clientName the name of the HTTP client (used in metric names)
+	 * @param tags metric tags
+	 */
+	private JavaNetHttpClientMetricsBinder(final JavaNetHttpClientStats stats, final String clientName, final String... tags) {
+		this.stats = Objects.requireNonNull(stats, "stats cannot be null");
+		this.clientName = clientName;
+		this.tags = Tags.of(tags);
+	}
+
+	/**
+	 * Creates a new metrics binder for the given exchange statistics.
+	 *
+	 * @param stats the exchange statistics to monitor
+	 * @param clientName the name of the HTTP client (used in metric names)
+	 * @param tags metric tags
+	 * @return a new metrics binder
+	 */
+	public static JavaNetHttpClientMetricsBinder of(final JavaNetHttpClientStats stats, final String clientName, final String... tags) {
+		return new JavaNetHttpClientMetricsBinder(stats, clientName, tags);
+	}
+
+	/**
+	 * Creates a new metrics binder for the given exchange client.
+	 *
+	 * @param exchangeClient the exchange client to monitor
+	 * @param clientName the name of the HTTP client (used in metric names)
+	 * @param tags metric tags
+	 * @return a new metrics binder
+	 */
+	public static JavaNetHttpClientMetricsBinder of(final JavaNetHttpExchangeClient exchangeClient, final String clientName,
+			final String... tags) {
+		return of(exchangeClient.getStats(), clientName, tags);
+	}
+
+	/**
+	 * Binds the metrics to the specified meter registry.
+	 *
+	 * @param registry the meter registry to bind metrics to
+	 */
+	@Override
+	public void bindTo(final MeterRegistry registry) {
+		// java.net.httpclient.${clientName}.exchanges.active
+		Gauge.builder(metricName(MetricPrefix.HTTP_CLIENT, clientName, "exchanges", "active"),
+				stats,
+				JavaNetHttpClientStats::getActive)
+				.description("The number of exchanges in progress for all routes.")
+				.tags(tags)
+				.register(registry);
+
+		stats.onNewRoute(routeStats -> registerRouteMetrics(registry, routeStats));
+		stats.getRoutes().forEach(routeStats -> registerRouteMetrics(registry, routeStats));
+	}
+
+	/**
+	 * Registers all per route metrics for the given route statistics with the meter registry. Registering the same route
+	 * more than once is harmless since the registry returns the existing meters.
+	 *
+	 * @param registry the meter registry to register metrics with
+	 * @param routeStats the route statistics
+	 */
+	private void registerRouteMetrics(final MeterRegistry registry, final RouteStats routeStats) {
+		Tags routeTags = Tags.concat(tags, ROUTE_TAG, routeStats.getRoute());
+
+		// java.net.httpclient.${clientName}.route.exchanges.active
+		Gauge.builder(metricName(MetricPrefix.HTTP_CLIENT, clientName, MetricPrefix.ROUTE, "exchanges", "active"),
+				routeStats,
+				RouteStats::getActive)
+				.description("The number of exchanges in progress for the route.")
+				.tags(routeTags)
+				.register(registry);
+
+		// java.net.httpclient.${clientName}.route.responses
+		for (HttpClient.Version version : HttpClient.Version.values()) {
+			FunctionCounter.builder(metricName(MetricPrefix.HTTP_CLIENT, clientName, MetricPrefix.ROUTE, "responses"),
+					routeStats,
+					rs -> rs.getResponses(version))
+					.description("The number of responses received for the route per negotiated HTTP version.")
+					.tags(routeTags.and(VERSION_TAG, version.name().toLowerCase(Locale.ROOT)))
+					.register(registry);
+		}
+
+		// java.net.httpclient.${clientName}.route.failures
+		FunctionCounter.builder(metricName(MetricPrefix.HTTP_CLIENT, clientName, MetricPrefix.ROUTE, "failures"),
+				routeStats,
+				RouteStats::getFailures)
+				.description("The number of exchanges for the route that failed without a response.")
+				.tags(routeTags)
+				.register(registry);
+	}
+
+	/**
+	 * Builds a metric name from the given path components.
+	 *
+	 * @param paths the components of the metric name
+	 * @return the constructed metric name
+	 */
+	private static String metricName(final String... paths) {
+		return PropertyNameBuilder.builder()
+				.path(paths)
+				.build();
+	}
+}
@@ -6,10 +6,12 @@ import java.util.stream.StreamSupport;
 
 import org.apiphany.meters.MeterCounter;
 import org.apiphany.meters.MeterFactory;
+import org.apiphany.meters.MeterSummary;
 import org.apiphany.meters.MeterTimer;
 import org.morphix.lang.JavaObjects;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tags;
@@ -19,8 +21,8 @@ import io.micrometer.core.instrument.Timer;
  * A {@link MeterFactory} implementation that creates meters backed by Micrometer.
  * <p>
  * This class adapts the {@code org.apiphany.meters} abstraction to Micrometer's {@link MeterRegistry}, producing
- * {@link MicrometerCounter} and {@link MicrometerTimer} instances that wrap Micrometer {@link Counter} and
- * {@link Timer} meters.
+ * {@link MicrometerCounter}, {@link MicrometerTimer} and {@link MicrometerSummary} instances that wrap Micrometer
+ * {@link Counter}, {@link Timer} and {@link DistributionSummary} meters.
  * <p>
  * By default, the factory uses the global Micrometer registry ({@link Metrics#globalRegistry}), but a custom
  * {@link MeterRegistry} may be provided via the constructor.
@@ -93,6 +95,18 @@ public class MicrometerFactory extends MeterFactory {
 		return MicrometerCounter.of(counter);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Creates a Micrometer-backed {@link MeterSummary} by delegating to {@link MeterRegistry#summary(String, Iterable)}
+	 * using the provided name and tags.
+	 */
+	@Override
+	public <T, U extends Iterable<T>> MeterSummary summary(final String name, final U tags) {
+		DistributionSummary summary = meterRegistry.summary(name, toTags(tags));
+		return MicrometerSummary.of(summary);
+	}
+
 	/**
 	 * @see MeterFactory#isEmpty(Iterable)
 	 */
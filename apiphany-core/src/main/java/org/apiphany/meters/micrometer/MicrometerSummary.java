@@ -0,0 +1,98 @@
+package org.apiphany.meters.micrometer;
+
+import java.util.Objects;
+
+import org.apiphany.meters.Meter;
+import org.apiphany.meters.MeterSummary;
+import org.morphix.lang.JavaObjects;
+
+import io.micrometer.core.instrument.DistributionSummary;
+
+/**
+ * A {@link MeterSummary} implementation that delegates to a Micrometer {@link DistributionSummary}.
+ * <p>
+ * This class acts as an adapter between the {@code org.apiphany.meters} API and Micrometer's instrumentation library.
+ * It allows code written against the {@link MeterSummary} abstraction to be backed by a real Micrometer
+ * {@link DistributionSummary}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class MicrometerSummary implements MeterSummary {
+
+	/**
+	 * The Micrometer distribution summary.
+	 */
+	private final DistributionSummary summary;
+
+	/**
+	 * Creates a new {@code MicrometerSummary} that wraps the given Micrometer {@link DistributionSummary}.
+	 *
+	 * @param summary the underlying Micrometer distribution summary (must not be {@code null})
+	 */
+	protected MicrometerSummary(final DistributionSummary summary) {
+		this.summary = Objects.requireNonNull(summary);
+	}
+
+	/**
+	 * Factory method for creating a new {@code MicrometerSummary} that wraps the given Micrometer
+	 * {@link DistributionSummary}.
+	 *
+	 * @param summary the underlying Micrometer distribution summary (must not be {@code null})
+	 * @return a new {@code MicrometerSummary} instance
+	 */
+	public static MicrometerSummary of(final DistributionSummary summary) {
+		return new MicrometerSummary(summary);
+	}
+
+	/**
+	 * @see MeterSummary#record(double)
+	 */
+	@Override
+	public void record(final double amount) {
+		summary.record(amount);
+	}
+
+	/**
+	 * @see MeterSummary#count()
+	 */
+	@Override
+	public long count() {
+		return summary.count();
+	}
+
+	/**
+	 * @see MeterSummary#totalAmount()
+	 */
+	@Override
+	public double totalAmount() {
+		return summary.totalAmount();
+	}
+
+	/**
+	 * Returns the Micrometer distribution summary.
+	 *
+	 * @return the Micrometer distribution summary
+	 */
+	public DistributionSummary getSummary() {
+		return summary;
+	}
+
+	/**
+	 * @see Meter#getName()
+	 */
+	@Override
+	public String getName() {
+		return summary.getId().getName();
+	}
+
+	/**
+	 * @see Meter#unwrap(Class)
+	 */
+	@Override
+	public <T> T unwrap(final Class<T> cls) {
+		if (DistributionSummary.class.isAssignableFrom(cls)) {
+			return JavaObjects.cast(summary);
+		}
+		throw new IllegalArgumentException("The meter class " + summary.getClass() + " is not of type " + cls);
+	}
+}
@@ -1,11 +1,11 @@
 package org.apiphany.multipart;
 
 import java.nio.charset.StandardCharsets;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.apiphany.ApiMessage;
+import org.apiphany.header.HeaderMap;
 import org.apiphany.header.Headers;
 import org.apiphany.http.HttpHeader;
 import org.apiphany.http.HttpHeaderValues;
@@ -100,7 +100,7 @@ public class MultipartPart<T> extends ApiMessage<T> implements BinaryRepresentab
 	 * @return the filename of this multipart part, or {@code null} if not found
 	 */
 	public static <T> MultipartPart<T> ofField(final String name, final T value) {
-		Map<String, List<String>> headers = new LinkedHashMap<>();
+		Map<String, List<String>> headers = new HeaderMap();
 		Headers.addTo(headers, HttpHeader.CONTENT_DISPOSITION, HttpHeaderValues.FORM_DATA + "; name=\"" + name + "\"");
 		return new MultipartPart<>(headers, value);
 	}
@@ -121,7 +121,7 @@ public class MultipartPart<T> extends ApiMessage<T> implements BinaryRepresentab
 	 * @return a new {@code MultipartPart} instance representing the file upload
 	 */
 	public static <T> MultipartPart<T> ofFile(final String name, final String filename, final String contentType, final T data) {
-		Map<String, List<String>> headers = new LinkedHashMap<>();
+		Map<String, List<String>> headers = new HeaderMap();
 		String disposition = HttpHeaderValues.FORM_DATA + "; name=\"" + name + "\"";
 		if (Strings.isNotBlank(filename)) {
 			disposition += "; filename=\"" + filename + "\"";
@@ -26,15 +26,8 @@ public enum MultiValueStrategy {
 	MULTI(Value.MULTI, "") {
 
 		@Override
-		public <T, U> ParameterFunction apply(final T name, final List<U> elements) {
-			if (Lists.isEmpty(elements)) {
-				return ParameterFunction.ignored();
-			}
-			return map -> {
-				String parameterName = String.valueOf(name);
-				List<String> parameterValues = RequestParameter.toValues(elements);
-				ParameterFunction.insertInto(map, parameterName, parameterValues);
-			};
+		public void insertInto(final Map<String, List<String>> map, final String name, final List<String> values) {
+			ParameterFunction.insertInto(map, name, values);
 		}
 	},
 
@@ -176,11 +169,19 @@ public enum MultiValueStrategy {
 		if (Lists.isEmpty(elements)) {
 			return ParameterFunction.ignored();
 		}
-		return map -> {
-			String parameterName = String.valueOf(name);
-			String parameterValue = String.join(separator, RequestParameter.toValues(elements));
-			ParameterFunction.insertInto(map, parameterName, parameterValue);
-		};
+		return map -> insertInto(map, String.valueOf(name), RequestParameter.toValues(elements));
+	}
+
+	/**
+	 * Inserts the given parameter values into the given map using this multi-value encoding, without creating a
+	 * {@link ParameterFunction}.
+	 *
+	 * @param map the map to insert the parameter into
+	 * @param name the parameter name
+	 * @param values the parameter values, must not be empty
+	 */
+	public void insertInto(final Map<String, List<String>> map, final String name, final List<String> values) {
+		ParameterFunction.insertInto(map, name, String.join(separator, values));
 	}
 
 	/**
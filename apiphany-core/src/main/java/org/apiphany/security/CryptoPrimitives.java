@@ -0,0 +1,184 @@
+package org.apiphany.security;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyAgreement;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.morphix.reflection.Constructors;
+
+/**
+ * Per thread cache of JCA instances ({@link MessageDigest}, {@link Mac}, {@link Signature}, {@link KeyAgreement} and
+ * {@link Cipher}) keyed by algorithm name.
+ * <p>
+ * Looking up an instance through the security providers on every operation is expensive and these instances are not
+ * thread safe, so every thread keeps its own instance for each algorithm. The returned instances are owned by the
+ * current thread, they must be used right away and must not be kept or handed to other threads, a later call for the
+ * same algorithm on the same thread returns the same instance. Except for {@link #mac(String, byte[])} the callers must
+ * initialize the instances before using them, which also resets any previous state.
+ * <p>
+ * The cached {@link Mac}, {@link Signature}, {@link KeyAgreement} and {@link Cipher} instances keep the key they were
+ * last initialized with (the private key for a signature initialized for signing) until they are initialized with
+ * another key, until {@link #clear()} is called on the same thread or until the thread ends. Threads which handled
+ * long lived secrets and stay alive afterwards (for example pooled threads) should call {@link #clear()} when they are
+ * done with them. The cached {@link MessageDigest} instances are reset before being returned and keep no data.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public final class CryptoPrimitives {
+
+	/**
+	 * The message digests cached by each thread.
+	 */
+	private static final ThreadLocal<Map<String, MessageDigest>> MESSAGE_DIGESTS = ThreadLocal.withInitial(HashMap::new);
+
+	/**
+	 * The MACs cached by each thread.
+	 */
+	private static final ThreadLocal<Map<String, Mac>> MACS = ThreadLocal.withInitial(HashMap::new);
+
+	/**
+	 * The signatures cached by each thread.
+	 */
+	private static final ThreadLocal<Map<String, Signature>> SIGNATURES = ThreadLocal.withInitial(HashMap::new);
+
+	/**
+	 * The key agreements cached by each thread.
+	 */
+	private static final ThreadLocal<Map<String, KeyAgreement>> KEY_AGREEMENTS = ThreadLocal.withInitial(HashMap::new);
+
+	/**
+	 * The ciphers cached by each thread.
+	 */
+	private static final ThreadLocal<Map<String, Cipher>> CIPHERS = ThreadLocal.withInitial(HashMap::new);
+
+	/**
+	 * Hide constructor.
+	 */
+	private CryptoPrimitives() {
+		throw Constructors.unsupportedOperationException();
+	}
+
+	/**
+	 * Returns the current thread {@link MessageDigest} for the given algorithm, reset and ready to use.
+	 *
+	 * @param algorithm the message digest algorithm name
+	 * @return the current thread message digest
+	 * @throws GeneralSecurityException if the algorithm is not supported
+	 */
+	public static MessageDigest messageDigest(final String algorithm) throws GeneralSecurityException {
+		MessageDigest messageDigest = get(MESSAGE_DIGESTS, algorithm, MessageDigest::getInstance);
+		messageDigest.reset();
+		return messageDigest;
+	}
+
+	/**
+	 * Returns the current thread {@link Mac} for the given algorithm initialized with the given key and ready to use. The
+	 * MAC is initialized again on every call and keeps the given key until the next call, see {@link #clear()}.
+	 *
+	 * @param algorithm the MAC algorithm name
+	 * @param key the raw key
+	 * @return the current thread MAC
+	 * @throws GeneralSecurityException if the algorithm is not supported or the key is invalid
+	 */
+	public static Mac mac(final String algorithm, final byte[] key) throws GeneralSecurityException {
+		Mac mac = get(MACS, algorithm, Mac::getInstance);
+		mac.init(new SecretKeySpec(key, algorithm));
+		return mac;
+	}
+
+	/**
+	 * Returns the current thread {@link Signature} for the given algorithm, it must be initialized for signing or
+	 * verifying before use and it keeps the key it was initialized with, see {@link #clear()}.
+	 *
+	 * @param algorithm the signature algorithm name
+	 * @return the current thread signature
+	 * @throws GeneralSecurityException if the algorithm is not supported
+	 */
+	public static Signature signature(final String algorithm) throws GeneralSecurityException {
+		return get(SIGNATURES, algorithm, Signature::getInstance);
+	}
+
+	/**
+	 * Returns the current thread {@link KeyAgreement} for the given algorithm, it must be initialized before use and it
+	 * keeps the key it was initialized with, see {@link #clear()}.
+	 *
+	 * @param algorithm the key agreement algorithm name
+	 * @return the current thread key agreement
+	 * @throws GeneralSecurityException if the algorithm is not supported
+	 */
+	public static KeyAgreement keyAgreement(final String algorithm) throws GeneralSecurityException {
+		return get(KEY_AGREEMENTS, algorithm, KeyAgreement::getInstance);
+	}
+
+	/**
+	 * Returns the current thread {@link Cipher} for the given transformation, it must be initialized before use and it
+	 * keeps the key it was initialized with, see {@link #clear()}.
+	 *
+	 * @param transformation the cipher transformation
+	 * @return the current thread cipher
+	 * @throws GeneralSecurityException if the transformation is not supported
+	 */
+	public static Cipher cipher(final String transformation) throws GeneralSecurityException {
+		return get(CIPHERS, transformation, Cipher::getInstance);
+	}
+
+	/**
+	 * Removes all the instances cached by the current thread, together with the keys they were last initialized with.
+	 */
+	public static void clear() {
+		MESSAGE_DIGESTS.remove();
+		MACS.remove();
+		SIGNATURES.remove();
+		KEY_AGREEMENTS.remove();
+		CIPHERS.remove();
+	}
+
+	/**
+	 * Returns the instance cached by the current thread for the given algorithm, creating it if needed.
+	 *
+	 * @param <T> instance type
+	 *
+	 * @param cache the thread local cache
+	 * @param algorithm the algorithm name
+	 * @param factory the instance factory
+	 * @return the current thread instance
+	 * @throws GeneralSecurityException if the instance cannot be created
+	 */
+	private static <T> T get(final ThreadLocal<Map<String, T>> cache, final String algorithm, final InstanceFactory<T> factory)
+			throws GeneralSecurityException {
+		Map<String, T> instances = cache.get();
+		T instance = instances.get(algorithm);
+		if (null == instance) {
+			instance = factory.newInstance(algorithm);
+			instances.put(algorithm, instance);
+		}
+		return instance;
+	}
+
+	/**
+	 * Factory for JCA instances.
+	 *
+	 * @param <T> instance type
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	@FunctionalInterface
+	private interface InstanceFactory<T> {
+
+		/**
+		 * Returns a new instance for the given algorithm.
+		 *
+		 * @param algorithm the algorithm name
+		 * @return a new instance
+		 * @throws GeneralSecurityException if the algorithm is not supported
+		 */
+		T newInstance(String algorithm) throws GeneralSecurityException;
+	}
+}
@@ -4,9 +4,6 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.util.Map;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-
 import org.apiphany.lang.Hex;
 import org.morphix.lang.Enums;
 
@@ -112,6 +109,12 @@ public enum MessageDigestAlgorithm {
 	 */
 	private final int digestLength;
 
+	/**
+	 * The prototype message digest which is cloned to create new instances, {@code null} until first needed. The prototype
+	 * itself is never updated so its clones always start from the initial state.
+	 */
+	private volatile MessageDigest prototype;
+
 	/**
 	 * Constructs a new MessageDigestAlgorithm enum constant.
 	 *
@@ -123,7 +126,8 @@ public enum MessageDigestAlgorithm {
 	}
 
 	/**
-	 * Applies the algorithm on the given input.
+	 * Applies the algorithm on the given input, the message digest is reused by the current thread, see
+	 * {@link CryptoPrimitives}.
 	 *
 	 * @param input the input to digest
 	 * @return the digested input
@@ -135,6 +139,44 @@ public enum MessageDigestAlgorithm {
 		return digest(input, value());
 	}
 
+	/**
+	 * Returns a new {@link MessageDigest} instance for this algorithm. The instance is cloned from a cached prototype when
+	 * the provider implementation supports it, which is much cheaper than {@link MessageDigest#getInstance(String)}.
+	 * <p>
+	 * The returned instance is owned by the caller, it is the instance to use when the digest is fed incrementally,
+	 * possibly from different threads.
+	 *
+	 * @return a new message digest
+	 */
+	public MessageDigest newMessageDigest() {
+		if (this == NONE) {
+			throw new SecurityException("Digest algorithm '" + this + "' does not support digesting.");
+		}
+		MessageDigest localPrototype = prototype;
+		if (null == localPrototype) {
+			localPrototype = newMessageDigestInstance();
+			prototype = localPrototype;
+		}
+		try {
+			return (MessageDigest) localPrototype.clone();
+		} catch (CloneNotSupportedException e) {
+			return newMessageDigestInstance();
+		}
+	}
+
+	/**
+	 * Returns a new {@link MessageDigest} instance for this algorithm from the security providers.
+	 *
+	 * @return a new message digest
+	 */
+	private MessageDigest newMessageDigestInstance() {
+		try {
+			return MessageDigest.getInstance(value());
+		} catch (Exception e) {
+			throw new SecurityException("Error creating message digest for algorithm: " + this, e);
+		}
+	}
+
 	/**
 	 * Applies the algorithm on the given input using the {@link #sanitizedValue()} as the algorithm.
 	 * <p>
@@ -151,7 +193,8 @@ public enum MessageDigestAlgorithm {
 	}
 
 	/**
-	 * Applies the algorithm on the given input.
+	 * Applies the algorithm on the given input, the message digest is reused by the current thread, see
+	 * {@link CryptoPrimitives}.
 	 *
 	 * @param input the input to digest
 	 * @param algorithm digest algorithm
@@ -159,8 +202,7 @@ public enum MessageDigestAlgorithm {
 	 */
 	public static byte[] digest(final byte[] input, final String algorithm) {
 		try {
-			MessageDigest digest = MessageDigest.getInstance(algorithm);
-			return digest.digest(input);
+			return CryptoPrimitives.messageDigest(algorithm).digest(input);
 		} catch (Exception e) {
 			throw new SecurityException("Error digesting input", e);
 		}
@@ -211,7 +253,8 @@ public enum MessageDigestAlgorithm {
 	}
 
 	/**
-	 * Computes the HMAC given a key and data.
+	 * Computes the HMAC given a key and data. The {@link javax.crypto.Mac} is reused by the current thread and initialized
+	 * with the given key on every call, see {@link CryptoPrimitives#mac(String, byte[])}.
 	 *
 	 * @param key the key
 	 * @param data the data
@@ -220,9 +263,7 @@ public enum MessageDigestAlgorithm {
 	public byte[] hmac(final byte[] key, final byte[] data) {
 		String algorithm = hmacAlgorithmName();
 		try {
-			Mac mac = Mac.getInstance(algorithm);
-			mac.init(new SecretKeySpec(key, algorithm));
-			return mac.doFinal(data);
+			return CryptoPrimitives.mac(algorithm, key).doFinal(data);
 		} catch (Exception e) {
 			throw new SecurityException("Error computing HMAC", e);
 		}
@@ -265,7 +306,17 @@ public enum MessageDigestAlgorithm {
 	 * @return first length bytes as hexadecimal
 	 */
 	public String hash(final byte[] value, final int digestBytes) {
-		byte[] digest = digest(value);
+		return hashString(digest(value), digestBytes);
+	}
+
+	/**
+	 * Returns the first bytes of the given digest as a hexadecimal string.
+	 *
+	 * @param digest the digest
+	 * @param digestBytes number of bytes in the resulting hash string
+	 * @return first length bytes as hexadecimal
+	 */
+	public static String hashString(final byte[] digest, final int digestBytes) {
 		int len = Math.min(digestBytes, digest.length);
 		StringBuilder builder = new StringBuilder(len * 2);
 		for (int i = 0; i < len; ++i) {
@@ -1,8 +1,6 @@
 package org.apiphany.security;
 
 import java.security.GeneralSecurityException;
-import java.security.InvalidAlgorithmParameterException;
-import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.Signature;
@@ -68,19 +66,18 @@ public final class Signer {
 	}
 
 	/**
-	 * Creates a configured {@link Signature} instance for the given JWS algorithm.
+	 * Returns the current thread {@link Signature} instance for the given JWS algorithm, see {@link CryptoPrimitives}.
 	 * <p>
 	 * For RSA-PSS algorithms, the appropriate {@link PSSParameterSpec} is applied.
 	 * </p>
 	 *
 	 * @param jwsAlgorithm the JWS algorithm
 	 * @return a configured {@link Signature} instance
-	 * @throws NoSuchAlgorithmException if the algorithm is not supported
-	 * @throws InvalidAlgorithmParameterException if the parameters cannot be set
+	 * @throws GeneralSecurityException if the algorithm is not supported or the parameters cannot be set
 	 */
-	private static Signature getSignature(final JwsAlgorithm jwsAlgorithm) throws NoSuchAlgorithmException, InvalidAlgorithmParameterException {
+	private static Signature getSignature(final JwsAlgorithm jwsAlgorithm) throws GeneralSecurityException {
 		JcaSignatureAlgorithm jcaAlgorithm = jwsAlgorithm.jcaAlgorithm();
-		Signature signature = Signature.getInstance(jcaAlgorithm.value());
+		Signature signature = CryptoPrimitives.signature(jcaAlgorithm.value());
 		PSSParameterSpec parameterSpec = jwsAlgorithm.pssParameterSpec();
 		if (null != parameterSpec) {
 			signature.setParameter(parameterSpec);
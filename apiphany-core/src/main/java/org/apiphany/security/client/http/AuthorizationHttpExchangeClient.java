@@ -1,11 +1,17 @@
 package org.apiphany.security.client.http;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import org.apiphany.ApiRequest;
 import org.apiphany.client.http.HttpExchangeClient;
-import org.apiphany.header.Headers;
+import org.apiphany.header.HeaderMap;
 import org.apiphany.http.HttpHeader;
+import org.apiphany.lang.Strings;
 import org.apiphany.security.AuthorizationHeaderProvider;
 import org.apiphany.security.client.AuthenticatedExchangeClient;
+import org.morphix.lang.collections.Lists;
 
 /**
  * Authenticated HTTP exchange client that adds an Authorization header to each request.
@@ -15,11 +21,43 @@ import org.apiphany.security.client.AuthenticatedExchangeClient;
 public interface AuthorizationHttpExchangeClient extends HttpExchangeClient, AuthenticatedExchangeClient, AuthorizationHeaderProvider {
 
 	/**
+	 * Adds the Authorization header values to the request. The values are always copied in a list owned by the request
+	 * headers, so the list returned by {@link #getAuthorizationHeaderValues()} is never shared with the request. When the
+	 * request headers are a {@link HeaderMap} without an Authorization header the values are added to the compact list
+	 * created by the map, otherwise the values are appended to a copy of the existing values.
+	 *
 	 * @see AuthenticatedExchangeClient#authenticate(ApiRequest)
 	 */
 	@Override
 	default <T> void authenticate(final ApiRequest<T> apiRequest) {
+		List<String> headerValues = getAuthorizationHeaderValues();
+		if (Lists.isEmpty(headerValues)) {
+			return;
+		}
+		Map<String, List<String>> headers = apiRequest.getHeaders();
+		List<String> existingValues = headers.get(HttpHeader.AUTHORIZATION.value());
+		if (null == existingValues && headers instanceof HeaderMap headerMap) {
+			headerMap.getOrCreate(HttpHeader.AUTHORIZATION).addAll(headerValues);
+			return;
+		}
+		int existingSize = null != existingValues ? existingValues.size() : 0;
+		List<String> values = new ArrayList<>(existingSize + headerValues.size());
+		if (null != existingValues) {
+			values.addAll(existingValues);
+		}
+		values.addAll(headerValues);
+		headers.put(HttpHeader.AUTHORIZATION.value(), values);
+	}
+
+	/**
+	 * Returns the Authorization header values added to each request, by default a list with the value returned by
+	 * {@link #getAuthorizationHeader()} or an empty list if the value is blank. The returned list is copied in the request
+	 * headers and never modified, so implementations can return the same immutable list for every request.
+	 *
+	 * @return the Authorization header values
+	 */
+	default List<String> getAuthorizationHeaderValues() {
 		String headerValue = getAuthorizationHeader();
-		Headers.addTo(apiRequest.getHeaders(), HttpHeader.AUTHORIZATION, headerValue);
+		return Strings.isBlank(headerValue) ? List.of() : List.of(headerValue);
 	}
 }
@@ -0,0 +1,160 @@
+package org.apiphany.security.http;
+
+import org.morphix.reflection.Constructors;
+
+/**
+ * Utility methods for the challenges of the {@code WWW-Authenticate} and {@code Proxy-Authenticate} headers as defined in
+ * RFC 9110 section 11.6.1. A header value contains one or more comma separated challenges, each challenge has the form
+ * {@code auth-scheme [ 1*SP ( token68 / #auth-param ) ]} where an {@code auth-param} is
+ * {@code token BWS "=" BWS ( token / quoted-string )}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public final class AuthenticationChallenges {
+
+	/**
+	 * The characters allowed in a token besides letters and digits.
+	 */
+	private static final String TOKEN_SYMBOLS = "!#$%&'*+-.^_`|~";
+
+	/**
+	 * Hide constructor.
+	 */
+	private AuthenticationChallenges() {
+		throw Constructors.unsupportedOperationException();
+	}
+
+	/**
+	 * Returns the value of the given auth-param from the first challenge with the given authentication scheme in the given
+	 * header value. The scheme and the parameter name are compared case insensitive, the value is returned as sent with
+	 * the quotes and the escapes of a quoted-string removed.
+	 *
+	 * @param header the {@code WWW-Authenticate} or {@code Proxy-Authenticate} header value
+	 * @param scheme the authentication scheme of the challenge
+	 * @param name the auth-param name
+	 * @return the auth-param value, {@code null} if the header has no such challenge or parameter
+	 */
+	public static String getParameter(final String header, final HttpAuthenticationScheme scheme, final String name) {
+		if (null == header) {
+			return null;
+		}
+		int length = header.length();
+		String currentScheme = null;
+		int index = 0;
+		while (index < length) {
+			index = skipSeparators(header, index);
+			if (index >= length) {
+				break;
+			}
+			int tokenEnd = tokenEnd(header, index);
+			if (tokenEnd == index) {
+				++index;
+				continue;
+			}
+			String token = header.substring(index, tokenEnd);
+			int equalsIndex = skipWhitespace(header, tokenEnd);
+			if (equalsIndex >= length || '=' != header.charAt(equalsIndex)) {
+				currentScheme = token;
+				index = tokenEnd;
+				continue;
+			}
+			int valueIndex = skipWhitespace(header, equalsIndex + 1);
+			if (valueIndex >= length || '=' == header.charAt(valueIndex) || ',' == header.charAt(valueIndex)) {
+				// token68 padding
+				index = valueIndex;
+				continue;
+			}
+			String value;
+			if ('"' == header.charAt(valueIndex)) {
+				StringBuilder quoted = new StringBuilder();
+				index = readQuotedString(header, valueIndex + 1, quoted);
+				value = quoted.toString();
+			} else {
+				index = Math.max(tokenEnd(header, valueIndex), valueIndex + 1);
+				value = header.substring(valueIndex, index);
+			}
+			if (scheme.value().equalsIgnoreCase(currentScheme) && name.equalsIgnoreCase(token)) {
+				return value;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Reads a quoted-string content starting after the opening quote into the given builder.
+	 *
+	 * @param header the header value
+	 * @param start the index after the opening quote
+	 * @param value the builder receiving the unescaped content
+	 * @return the index after the closing quote
+	 */
+	private static int readQuotedString(final String header, final int start, final StringBuilder value) {
+		int index = start;
+		while (index < header.length()) {
+			char c = header.charAt(index++);
+			if ('"' == c) {
+				break;
+			}
+			if ('\\' == c && index < header.length()) {
+				c = header.charAt(index++);
+			}
+			value.append(c);
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the index of the first character which is not whitespace, comma or equals sign starting at the given index.
+	 *
+	 * @param header the header value
+	 * @param start the start index
+	 * @return the index of the first non separator character
+	 */
+	private static int skipSeparators(final String header, final int start) {
+		int index = start;
+		while (index < header.length() && " \t,=".indexOf(header.charAt(index)) >= 0) {
+			++index;
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the index of the first character which is not whitespace starting at the given index.
+	 *
+	 * @param header the header value
+	 * @param start the start index
+	 * @return the index of the first non whitespace character
+	 */
+	private static int skipWhitespace(final String header, final int start) {
+		int index = start;
+		while (index < header.length() && (' ' == header.charAt(index) || '\t' == header.charAt(index))) {
+			++index;
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the end index of the token starting at the given index.
+	 *
+	 * @param header the header value
+	 * @param start the start index
+	 * @return the end index of the token, equal to the start index if there is no token
+	 */
+	private static int tokenEnd(final String header, final int start) {
+		int index = start;
+		while (index < header.length() && isTokenChar(header.charAt(index))) {
+			++index;
+		}
+		return index;
+	}
+
+	/**
+	 * Returns true if the given character is allowed in a token.
+	 *
+	 * @param c the character
+	 * @return true if the given character is allowed in a token
+	 */
+	private static boolean isTokenChar(final char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || TOKEN_SYMBOLS.indexOf(c) >= 0;
+	}
+}
@@ -9,6 +9,8 @@ import java.security.spec.KeySpec;
 
 import javax.crypto.KeyAgreement;
 
+import org.apiphany.security.CryptoPrimitives;
+
 /**
  * Marker interface for key-related classes and provides utility methods for key management.
  * <p>
@@ -72,7 +74,7 @@ public interface Keys {
 	 */
 	static byte[] generateSecret(final String algorithm, final PublicKey publicKey, final PrivateKey privateKey) {
 		try {
-			KeyAgreement ka = KeyAgreement.getInstance(algorithm);
+			KeyAgreement ka = CryptoPrimitives.keyAgreement(algorithm);
 			ka.init(privateKey);
 			ka.doPhase(publicKey, true);
 			return ka.generateSecret();
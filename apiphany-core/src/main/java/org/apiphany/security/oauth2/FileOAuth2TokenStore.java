@@ -0,0 +1,273 @@
+package org.apiphany.security.oauth2;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Objects;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apiphany.json.JsonBuilder;
+import org.apiphany.logging.Slf4jLoggerAdapter;
+import org.apiphany.security.AuthenticationToken;
+import org.apiphany.security.CryptoPrimitives;
+import org.apiphany.security.MessageDigestAlgorithm;
+import org.morphix.lang.function.LoggerAdapter;
+
+/**
+ * File based {@link OAuth2TokenStore} which keeps every token in its own file in a directory, encrypted with AES-GCM.
+ * <p>
+ * Each file contains a random 12 bytes IV followed by the encrypted JSON representation of the token and the 16 bytes
+ * authentication tag. The provider name is used as additional authenticated data, so a token file cannot be used for
+ * another provider, and the file name is derived from a hash of the provider name so that it is always a valid file
+ * name. Tokens are written to a temporary file which is then moved over the existing file, so readers never see partial
+ * files.
+ * <p>
+ * The same key must be used by all the instances sharing the directory and it must be kept outside the directory, for
+ * example in a secret manager. Files that cannot be read or decrypted (for example after a key rotation) are ignored and
+ * replaced on the next successful refresh.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class FileOAuth2TokenStore implements OAuth2TokenStore {
+
+	/**
+	 * The class logger.
+	 */
+	private static final LoggerAdapter LOGGER = Slf4jLoggerAdapter.of(FileOAuth2TokenStore.class);
+
+	/**
+	 * The key algorithm.
+	 */
+	public static final String KEY_ALGORITHM = "AES";
+
+	/**
+	 * The cipher transformation.
+	 */
+	public static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+	/**
+	 * The IV length in bytes, recommended for GCM.
+	 */
+	public static final int IV_LENGTH = 12;
+
+	/**
+	 * The authentication tag length in bits.
+	 */
+	public static final int TAG_LENGTH = 128;
+
+	/**
+	 * The token file extension.
+	 */
+	public static final String FILE_EXTENSION = ".token";
+
+	/**
+	 * The number of hash bytes used in the token file names.
+	 */
+	private static final int FILE_NAME_HASH_BYTES = 16;
+
+	/**
+	 * The secure random used to generate the IVs.
+	 */
+	private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+	/**
+	 * The directory where the token files are stored.
+	 */
+	private final Path directory;
+
+	/**
+	 * The AES key.
+	 */
+	private final SecretKey key;
+
+	/**
+	 * Constructs a new file token store.
+	 *
+	 * @param directory the directory where the token files are stored, created if missing
+	 * @param key the AES key
+	 */
+	protected FileOAuth2TokenStore(final Path directory, final SecretKey key) {
+		this.directory = Objects.requireNonNull(directory, "directory cannot be null");
+		this.key = Objects.requireNonNull(key, "key cannot be null");
+		if (!KEY_ALGORITHM.equals(key.getAlgorithm())) {
+			throw new IllegalArgumentException("Token store key must be an " + KEY_ALGORITHM + " key, got: " + key.getAlgorithm());
+		}
+	}
+
+	/**
+	 * Creates a new file token store.
+	 *
+	 * @param directory the directory where the token files are stored, created if missing
+	 * @param key the AES key
+	 * @return a new file token store
+	 */
+	public static FileOAuth2TokenStore of(final Path directory, final SecretKey key) {
+		return new FileOAuth2TokenStore(directory, key);
+	}
+
+	/**
+	 * Creates a new file token store with the given raw AES key.
+	 *
+	 * @param directory the directory where the token files are stored, created if missing
+	 * @param key the raw AES key, must be 16, 24 or 32 bytes long
+	 * @return a new file token store
+	 */
+	public static FileOAuth2TokenStore of(final Path directory, final byte[] key) {
+		Objects.requireNonNull(key, "key cannot be null");
+		if (16 != key.length && 24 != key.length && 32 != key.length) {
+			throw new IllegalArgumentException("Token store key must be 16, 24 or 32 bytes long, got: " + key.length);
+		}
+		return of(directory, new SecretKeySpec(key, KEY_ALGORITHM));
+	}
+
+	/**
+	 * Generates a new random 256 bits AES key.
+	 *
+	 * @return a new AES key
+	 */
+	public static SecretKey generateKey() {
+		try {
+			KeyGenerator keyGenerator = KeyGenerator.getInstance(KEY_ALGORITHM);
+			keyGenerator.init(256, SECURE_RANDOM);
+			return keyGenerator.generateKey();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Cannot generate " + KEY_ALGORITHM + " key", e);
+		}
+	}
+
+	/**
+	 * @see OAuth2TokenStore#load(String)
+	 */
+	@Override
+	public AuthenticationToken load(final String name) {
+		Path file = getFile(name);
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try {
+			byte[] json = decrypt(name, Files.readAllBytes(file));
+			return JsonBuilder.fromJson(json, AuthenticationToken.class);
+		} catch (Exception e) {
+			LOGGER.warn("[{}] Cannot load stored token from: {}, a new token will be requested.", name, file, e);
+			return null;
+		}
+	}
+
+	/**
+	 * @see OAuth2TokenStore#save(String, AuthenticationToken)
+	 */
+	@Override
+	public void save(final String name, final AuthenticationToken token) {
+		Path file = getFile(name);
+		Path tempFile = null;
+		try {
+			byte[] content = encrypt(name, JsonBuilder.toJson(token).getBytes(StandardCharsets.UTF_8));
+			Files.createDirectories(directory);
+			tempFile = Files.createTempFile(directory, file.getFileName().toString(), null);
+			Files.write(tempFile, content);
+			move(tempFile, file);
+		} catch (Exception e) {
+			LOGGER.warn("[{}] Cannot store token in: {}", name, file, e);
+			deleteIfExists(tempFile);
+		}
+	}
+
+	/**
+	 * Returns the token file for the given provider name.
+	 *
+	 * @param name the provider name
+	 * @return the token file
+	 */
+	protected Path getFile(final String name) {
+		return directory.resolve(MessageDigestAlgorithm.SHA256.hash(name, FILE_NAME_HASH_BYTES) + FILE_EXTENSION);
+	}
+
+	/**
+	 * Encrypts the given plain text, the result is the IV followed by the cipher text.
+	 *
+	 * @param name the provider name used as additional authenticated data
+	 * @param plainText the plain text
+	 * @return the IV followed by the cipher text
+	 * @throws GeneralSecurityException on encryption errors
+	 */
+	protected byte[] encrypt(final String name, final byte[] plainText) throws GeneralSecurityException {
+		byte[] iv = new byte[IV_LENGTH];
+		SECURE_RANDOM.nextBytes(iv);
+		Cipher cipher = CryptoPrimitives.cipher(TRANSFORMATION);
+		cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH, iv));
+		cipher.updateAAD(name.getBytes(StandardCharsets.UTF_8));
+		ByteBuffer output = ByteBuffer.allocate(IV_LENGTH + cipher.getOutputSize(plainText.length));
+		output.put(iv);
+		cipher.doFinal(ByteBuffer.wrap(plainText), output);
+		return output.array();
+	}
+
+	/**
+	 * Decrypts the given content which must be the IV followed by the cipher text.
+	 *
+	 * @param name the provider name used as additional authenticated data
+	 * @param content the IV followed by the cipher text
+	 * @return the plain text
+	 * @throws GeneralSecurityException on decryption errors, including tampered content or a wrong key
+	 */
+	protected byte[] decrypt(final String name, final byte[] content) throws GeneralSecurityException {
+		if (content.length < IV_LENGTH + TAG_LENGTH / Byte.SIZE) {
+			throw new GeneralSecurityException("Token file is too short: " + content.length + " bytes");
+		}
+		Cipher cipher = CryptoPrimitives.cipher(TRANSFORMATION);
+		cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH, content, 0, IV_LENGTH));
+		cipher.updateAAD(name.getBytes(StandardCharsets.UTF_8));
+		return cipher.doFinal(content, IV_LENGTH, content.length - IV_LENGTH);
+	}
+
+	/**
+	 * Moves the source file over the target file, atomically if the file system supports it.
+	 *
+	 * @param source the source file
+	 * @param target the target file
+	 * @throws IOException on move errors
+	 */
+	private static void move(final Path source, final Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Deletes the given file if it exists, ignoring errors.
+	 *
+	 * @param file the file to delete
+	 */
+	private static void deleteIfExists(final Path file) {
+		if (null == file) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(file);
+		} catch (Exception e) {
+			LOGGER.debug("Cannot delete temporary token file: {}", file, e);
+		}
+	}
+
+	/**
+	 * Returns the directory where the token files are stored.
+	 *
+	 * @return the directory
+	 */
+	public Path getDirectory() {
+		return directory;
+	}
+}
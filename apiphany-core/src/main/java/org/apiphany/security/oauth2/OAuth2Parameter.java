@@ -148,7 +148,19 @@ public enum OAuth2Parameter {
 	/**
 	 * The interval parameter (RFC 8628 Section 3.2). Specifies the polling interval for Device Authorization Flow.
 	 */
-	INTERVAL("interval");
+	INTERVAL("interval"),
+
+	/**
+	 * The audience parameter (RFC 8693 Section 2.1). Specifies the logical name of the target service where the token is
+	 * intended to be used.
+	 */
+	AUDIENCE("audience"),
+
+	/**
+	 * The resource parameter (RFC 8707 Section 2). Specifies the URI of the target service where the token is intended to
+	 * be used.
+	 */
+	RESOURCE("resource");
 
 	/**
 	 * Name space for sensible default values for these parameters.
@@ -0,0 +1,42 @@
+package org.apiphany.security.oauth2;
+
+import org.apiphany.security.AuthenticationToken;
+import org.apiphany.security.AuthenticationTokenProvider;
+
+/**
+ * {@link AuthenticationTokenProvider} which can also request tokens for given scopes, audience and resource, see
+ * {@link OAuth2TokenKey}. Token clients implementing this interface let an {@link OAuth2TokenProvider} serve tokens for
+ * many downstream APIs with a single client registration, see
+ * {@link OAuth2TokenProvider#getAuthenticationToken(OAuth2TokenKey)}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public interface OAuth2ScopedTokenClient extends AuthenticationTokenProvider {
+
+	/**
+	 * Requests a new token for the given token key.
+	 *
+	 * @param tokenKey the token key
+	 * @return the authentication token
+	 */
+	AuthenticationToken getAuthenticationToken(OAuth2TokenKey tokenKey);
+
+	/**
+	 * Requests a new token for the registration default token key.
+	 *
+	 * @see AuthenticationTokenProvider#getAuthenticationToken()
+	 */
+	@Override
+	default AuthenticationToken getAuthenticationToken() {
+		return getAuthenticationToken(OAuth2TokenKey.DEFAULT);
+	}
+
+	/**
+	 * Prepares the next token request, for example by signing its client assertion in the background. The
+	 * {@link OAuth2TokenProvider} calls it shortly before a scheduled token refresh, the default implementation does
+	 * nothing.
+	 */
+	default void prepareTokenRequest() {
+		// empty
+	}
+}
@@ -0,0 +1,115 @@
+package org.apiphany.security.oauth2;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.apiphany.lang.Strings;
+
+/**
+ * Identifies a token of an OAuth2 client registration by the requested scopes, audience and resource (RFC 8707), so
+ * that one registration can serve tokens for many downstream APIs. The scopes are kept sorted so that the same scopes
+ * given in any order identify the same token.
+ *
+ * @param scopes the requested scopes, never {@code null}
+ * @param audience the requested audience, can be {@code null}
+ * @param resource the requested resource indicator, can be {@code null}
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public record OAuth2TokenKey(SortedSet<String> scopes, String audience, String resource) {
+
+	/**
+	 * The key of the registration default token, meaning no scopes, audience or resource are requested explicitly.
+	 */
+	public static final OAuth2TokenKey DEFAULT = new OAuth2TokenKey(null, null, null);
+
+	/**
+	 * The scopes separator in the {@code scope} parameter (RFC 6749).
+	 */
+	public static final String SCOPE_SEPARATOR = " ";
+
+	/**
+	 * Constructs a new token key.
+	 *
+	 * @param scopes the requested scopes, can be {@code null}
+	 * @param audience the requested audience, can be {@code null}
+	 * @param resource the requested resource indicator, can be {@code null}
+	 */
+	public OAuth2TokenKey {
+		scopes = Collections.unmodifiableSortedSet(sorted(scopes));
+		audience = Strings.isBlank(audience) ? null : audience;
+		resource = Strings.isBlank(resource) ? null : resource;
+	}
+
+	/**
+	 * Returns a token key for the given scopes, audience and resource.
+	 *
+	 * @param scopes the requested scopes, can be {@code null}
+	 * @param audience the requested audience, can be {@code null}
+	 * @param resource the requested resource indicator, can be {@code null}
+	 * @return a token key
+	 */
+	public static OAuth2TokenKey of(final Set<String> scopes, final String audience, final String resource) {
+		return new OAuth2TokenKey(sorted(scopes), audience, resource);
+	}
+
+	/**
+	 * Returns a token key for the given scopes.
+	 *
+	 * @param scopes the requested scopes
+	 * @return a token key
+	 */
+	public static OAuth2TokenKey ofScopes(final String... scopes) {
+		return new OAuth2TokenKey(null == scopes ? null : sorted(Arrays.asList(scopes)), null, null);
+	}
+
+	/**
+	 * Returns a token key for the given audience.
+	 *
+	 * @param audience the requested audience
+	 * @return a token key
+	 */
+	public static OAuth2TokenKey ofAudience(final String audience) {
+		return of(null, audience, null);
+	}
+
+	/**
+	 * Returns the given scopes sorted, without blank scopes and without the surrounding white spaces.
+	 *
+	 * @param scopes the scopes, can be {@code null}
+	 * @return the sorted scopes
+	 */
+	private static SortedSet<String> sorted(final Iterable<String> scopes) {
+		SortedSet<String> sortedScopes = new TreeSet<>();
+		if (null != scopes) {
+			for (String scope : scopes) {
+				if (Strings.isNotBlank(scope)) {
+					sortedScopes.add(scope.strip());
+				}
+			}
+		}
+		return sortedScopes;
+	}
+
+	/**
+	 * Returns the value of the {@code scope} parameter, the scopes separated by spaces or {@code null} if no scopes are
+	 * requested.
+	 *
+	 * @return the value of the scope parameter
+	 */
+	public String scope() {
+		return scopes.isEmpty() ? null : String.join(SCOPE_SEPARATOR, scopes);
+	}
+
+	/**
+	 * Returns true if this key identifies the registration default token.
+	 *
+	 * @return true if no scopes, audience or resource are requested explicitly
+	 */
+	public boolean isDefault() {
+		return scopes.isEmpty() && null == audience && null == resource;
+	}
+}
@@ -2,8 +2,17 @@ package org.apiphany.security.oauth2;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -34,6 +43,28 @@ import org.morphix.lang.thread.ReschedulingTask;
  * exponential delay strategy by default which is configurable via {@link OAuth2TokenProviderProperties} or completely
  * overridden via {@link Builder#failureRetryDelayStrategy}.
  * <p>
+ * Reading the token is lock free. When the background refresh is late or failed and the current token is past its
+ * expiration minus the error margin, {@link #getAuthenticationToken()} refreshes the token on demand: a single caller does
+ * the refresh while the other callers either keep using the old token if it did not actually expire yet or wait for the
+ * refresh (bounded by {@link OAuth2TokenProviderProperties#getRefreshWaitTimeout()}).
+ * <p>
+ * An optional {@link OAuth2TokenStore} can be configured via {@link Builder#tokenStore(OAuth2TokenStore)}, in which case
+ * the provider reuses the stored token on startup if it is still valid and stores every token retrieved by a refresh.
+ * <p>
+ * By default the provider requests its first token when it is created. With {@link Builder#lazyInitialization(boolean)}
+ * the first token is requested by {@link #initialize()} or by the first {@link #getAuthenticationToken()} call, and
+ * {@link #getReadiness()} completes when the provider has its first token.
+ * <p>
+ * When the token client is an {@link OAuth2ScopedTokenClient}, {@link #getAuthenticationToken(OAuth2TokenKey)} serves
+ * tokens for other scopes, audiences or resources of the same registration. Scoped tokens are kept in a least recently
+ * used cache bounded by {@link OAuth2TokenProviderProperties#getMaxScopedTokens()}, while the scheduler is enabled they
+ * are refreshed on the same scheduler as the registration default token, they are also refreshed on demand when they
+ * are past their expiration minus the error margin and they are not saved in the token store. Evicting a scoped token
+ * from the cache cancels its scheduled refresh.
+ * <p>
+ * Such token clients are also asked to prepare the next token request {@link #TOKEN_REQUEST_PREPARATION_LEAD} before a
+ * scheduled refresh, see {@link OAuth2ScopedTokenClient#prepareTokenRequest()}.
+ * <p>
  * TODO: implement refresh token functionality<br/>
  *
  * @author Radu Sebastian LAZIN
@@ -45,11 +76,26 @@ public class OAuth2TokenProvider implements AuthenticationTokenProvider, AutoClo
 	 */
 	private static final LoggerAdapter LOGGER = Slf4jLoggerAdapter.of(OAuth2TokenProvider.class);
 
+	/**
+	 * How long before a scheduled token refresh the token client is asked to prepare the token request.
+	 */
+	public static final Duration TOKEN_REQUEST_PREPARATION_LEAD = Duration.ofSeconds(10);
+
+	/**
+	 * The scheduler running the token refreshes.
+	 */
+	private final ScopedResource<ScheduledExecutorService> tokenRefreshScheduler;
+
 	/**
 	 * The self rescheduling task that handles the token refresh scheduling.
 	 */
 	private final ReschedulingTask selfReschedulingTask;
 
+	/**
+	 * The scheduled preparation of the next token request, see {@link OAuth2ScopedTokenClient#prepareTokenRequest()}.
+	 */
+	private volatile ScheduledFuture<?> tokenRequestPreparation;
+
 	/**
 	 * The OAuth2 resolved registration for this provider.
 	 */
@@ -66,9 +112,24 @@ public class OAuth2TokenProvider implements AuthenticationTokenProvider, AutoClo
 	private final AuthenticationTokenProvider tokenClient;
 
 	/**
-	 * The authentication token.
+	 * The authentication token, volatile so that it can be read without locking.
+	 */
+	private volatile AuthenticationToken authenticationToken;
+
+	/**
+	 * The lock making sure only one token refresh (scheduled or on demand) runs at a time.
+	 */
+	private final ReentrantLock refreshLock = new ReentrantLock();
+
+	/**
+	 * The number of token refreshes done so far, used to detect that a refresh happened while waiting for the lock.
 	 */
-	private AuthenticationToken authenticationToken;
+	private volatile long refreshCount;
+
+	/**
+	 * The instant of the last failed token refresh, used to avoid hammering the token endpoint with on demand refreshes.
+	 */
+	private volatile Instant lastRefreshFailure = Instant.MIN;
 
 	/**
 	 * Supplies the default token expiration.
@@ -83,7 +144,51 @@ public class OAuth2TokenProvider implements AuthenticationTokenProvider, AutoClo
 	/**
 	 * Number of consecutive token refresh failures.
 	 */
-	private int consecutiveRefreshFailures;
+	private volatile int consecutiveRefreshFailures;
+
+	/**
+	 * The token store.
+	 */
+	private final OAuth2TokenStore tokenStore;
+
+	/**
+	 * The refresh jitter used when the properties have no refresh jitter.
+	 */
+	private final Duration defaultRefreshJitter;
+
+	/**
+	 * The refresh count seen by the last scheduled refresh, used to skip the scheduled refresh when the token was already
+	 * refreshed (on demand or on invalidation) or restored from the token store since then. Only accessed while holding
+	 * the refresh lock.
+	 */
+	private long scheduledRefreshCount = -1;
+
+	/**
+	 * Flag indicating that the scheduler was enabled for the first time.
+	 */
+	private final AtomicBoolean initialized = new AtomicBoolean(false);
+
+	/**
+	 * Completes when the provider has its first token.
+	 */
+	private final CompletableFuture<Void> readiness = new CompletableFuture<>();
+
+	/**
+	 * The scoped tokens in least recently used order, guarded by the map itself.
+	 */
+	private final Map<OAuth2TokenKey, ScopedToken> scopedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<OAuth2TokenKey, ScopedToken> eldest) {
+			if (size() <= getProperties().getMaxScopedTokens()) {
+				return false;
+			}
+			evict(eldest.getValue());
+			return true;
+		}
+	};
 
 	/**
 	 * Creates a new authentication token provider.
@@ -94,6 +199,8 @@ public class OAuth2TokenProvider implements AuthenticationTokenProvider, AutoClo
 		this.properties = builder.properties;
 		this.registration = builder.registration;
 		this.defaultExpirationSupplier = builder.defaultExpirationSupplier;
+		this.tokenStore = builder.tokenStore;
+		this.defaultRefreshJitter = builder.defaultRefreshJitter;
 
 		if (null == registration) {
 			LOGGER.warn("[{}] No registration provided, token retrieval will be disabled.", getName());
@@ -102,33 +209,48 @@ public class OAuth2TokenProvider implements AuthenticationTokenProvider, AutoClo
 			OAuth2TokenClientSupplier supplier = builder.tokenClientSupplier;
 			this.tokenClient = supplier.get(registration.getClientRegistration(), registration.getProviderDetails());
 		}
+		this.tokenRefreshScheduler = newTokenRefreshScheduler(builder);
 		this.selfReschedulingTask = newReschedulingTask(builder);
 		this.failureRetryDelay = Nullables.nonNullOrDefault(builder.failureRetryDelayStrategy, () -> ExponentialDelayStrategy.of(
 				properties.getMinRefreshInterval(), properties.getMaxRefreshInterval(), properties.getFailureRetryDelayMultiplier()));
 
 		if (null != tokenClient) {
-			enable();
+			restoreAuthenticationToken();
+			if (!builder.lazyInitialization) {
+				initialize();
+			}
 		} else {
 			LOGGER.warn("[{}] No token client provided, token retrieval will be disabled.", getName());
+			readiness.completeExceptionally(new AuthenticationException("No token client provided for: " + getName()));
 		}
 	}
 
+	/**
+	 * Returns the token refresh scheduler given in the builder or the shared default refresh scheduler, see
+	 * {@link Builder#tokenRefreshScheduler(ScopedResource)}.
+	 *
+	 * @param builder the OAuth2 token provider builder
+	 * @return the token refresh scheduler
+	 */
+	@SuppressWarnings("resource")
+	private static ScopedResource<ScheduledExecutorService> newTokenRefreshScheduler(final Builder builder) {
+		return Nullables.nonNullOrDefault(builder.tokenRefreshScheduler,
+				() -> ScopedResource.managed(ReschedulingTask.Default.scheduler()));
+	}
+
 	/**
 	 * Builds a new self rescheduling task for this token provider.
 	 *
 	 * @param builder the OAuth2 token provider builder
 	 * @return a new self rescheduling task for this token provider
 	 */
-	@SuppressWarnings("resource")
 	private ReschedulingTask newReschedulingTask(final Builder builder) {
-		ScopedResource<ScheduledExecutorService> scheduler = Nullables.nonNullOrDefault(builder.tokenRefreshScheduler,
-				() -> ScopedResource.managed(ReschedulingTask.Default.scheduler()));
 		return ReschedulingTask.builder()
 				.name(getName())
-				.task(this::updateAuthenticationToken)
-				.nextDelay(this::getNextUpdateDelay)
+				.task(this::refreshAuthenticationToken)
+				.nextDelay(this::getNextScheduledUpdateDelay)
 				.minDelay(properties.getMinRefreshInterval())
-				.scheduler(scheduler)
+				.scheduler(tokenRefreshScheduler)
 				.taskCancelRetry(Retry.of(WaitCounter.of(properties.getMaxTaskCloseAttempts(), properties.getCloseTaskRetryInterval())))
 				.terminationTimeout(properties.getSchedulerTerminationTimeout())
 				.executionWrapper(builder.updateTokenWrapperFunction.apply(getName()))
@@ -151,6 +273,11 @@ public class OAuth2TokenProvider implements AuthenticationTokenProvider, AutoClo
 	@Override
 	public void close() throws Exception {
 		selfReschedulingTask.close();
+		cancel(tokenRequestPreparation);
+		synchronized (scopedTokens) {
+			scopedTokens.values().forEach(OAuth2TokenProvider::evict);
+			scopedTokens.clear();
+		}
 		if (getTokenClient() instanceof AutoCloseable closeable) {
 			closeable.close();
 		}
@@ -192,11 +319,12 @@ public class OAuth2TokenProvider implements AuthenticationTokenProvider, AutoClo
 	 * @return the expiration date
 	 */
 	protected Instant getTokenExpiration() {
-		if (null == authenticationToken) {
+		AuthenticationToken token = authenticationToken;
+		if (null == token) {
 			LOGGER.warn("[{}] No authentication token available, using default expiration.", getName());
 			return getDefaultTokenExpiration();
 		}
-		Instant expiration = authenticationToken.getExpiration();
+		Instant expiration = token.getExpiration();
 		if (null == expiration) {
 			LOGGER.warn("[{}] No expiration date in authentication token, using default expiration.", getName());
 			return getDefaultTokenExpiration();
@@ -205,13 +333,278 @@ public class OAuth2TokenProvider implements AuthenticationTokenProvider, AutoClo
 	}
 
 	/**
-	 * Returns the authentication token. If the current token is expired, it tries to retrieve a new one.
+	 * Returns the authentication token. If the current token is past its expiration minus the error margin (the background
+	 * refresh is late or failed), it tries to retrieve a new one on demand, see
+	 * {@link #refreshOnDemand(AuthenticationToken, long)}.
 	 *
 	 * @return the authentication token
 	 */
 	@Override
 	public AuthenticationToken getAuthenticationToken() {
-		return AuthenticationTokenProvider.valid(authenticationToken);
+		if (null != tokenClient && !initialized.get()) {
+			initialize();
+		}
+		// the refresh count must be read before the token, the refresh count is incremented after the token is set
+		long observedRefreshCount = refreshCount;
+		AuthenticationToken token = authenticationToken;
+		if (null == tokenClient || !isRefreshNeeded(token)) {
+			return AuthenticationTokenProvider.valid(token);
+		}
+		return AuthenticationTokenProvider.valid(refreshOnDemand(token, observedRefreshCount));
+	}
+
+	/**
+	 * Returns the authentication token for the given token key. The registration default token is returned for a
+	 * {@code null} or default key, see {@link #getAuthenticationToken()}. Other keys need a token client implementing
+	 * {@link OAuth2ScopedTokenClient}, their tokens are requested on first use, refreshed in the background while the
+	 * scheduler is enabled and refreshed on demand when they are past their expiration minus the error margin. Only one
+	 * caller refreshes a scoped token, the other callers keep using the old token if it did not actually expire yet or
+	 * wait for the refresh (bounded by the configured refresh wait timeout).
+	 *
+	 * @param tokenKey the token key
+	 * @return the authentication token for the given key
+	 */
+	public AuthenticationToken getAuthenticationToken(final OAuth2TokenKey tokenKey) {
+		if (null == tokenKey || tokenKey.isDefault()) {
+			return getAuthenticationToken();
+		}
+		if (!(tokenClient instanceof OAuth2ScopedTokenClient scopedTokenClient)) {
+			throw new AuthenticationException("Token client does not support scoped tokens for: " + getName());
+		}
+		ScopedToken scopedToken;
+		synchronized (scopedTokens) {
+			scopedToken = scopedTokens.computeIfAbsent(tokenKey, ScopedToken::new);
+		}
+		AuthenticationToken token = scopedToken.token;
+		if (!isRefreshNeeded(token)) {
+			return token;
+		}
+		return AuthenticationTokenProvider.valid(refreshOnDemand(scopedToken, token, scopedTokenClient));
+	}
+
+	/**
+	 * Refreshes the given stale scoped token on demand, see {@link #getAuthenticationToken(OAuth2TokenKey)}.
+	 *
+	 * @param scopedToken the scoped token entry
+	 * @param staleToken the stale token
+	 * @param scopedTokenClient the token client
+	 * @return the current scoped token after the refresh
+	 */
+	private AuthenticationToken refreshOnDemand(final ScopedToken scopedToken, final AuthenticationToken staleToken,
+			final OAuth2ScopedTokenClient scopedTokenClient) {
+		if (Instant.now().isBefore(scopedToken.lastRefreshFailure.plus(getProperties().getMinRefreshInterval()))) {
+			return staleToken;
+		}
+		ReentrantLock lock = scopedToken.lock;
+		boolean usable = null != staleToken && !staleToken.isExpired();
+		if (!(usable ? lock.tryLock() : tryLock(lock, getProperties().getRefreshWaitTimeout()))) {
+			return Nullables.nonNullOrDefault(scopedToken.token, staleToken);
+		}
+		try {
+			if (scopedToken.token == staleToken) {
+				updateScopedToken(scopedToken, scopedTokenClient);
+			}
+			return scopedToken.token;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Updates the given scoped token and schedules its next refresh, must be called while holding the scoped token lock.
+	 *
+	 * @param scopedToken the scoped token entry
+	 * @param scopedTokenClient the token client
+	 */
+	private void updateScopedToken(final ScopedToken scopedToken, final OAuth2ScopedTokenClient scopedTokenClient) {
+		LOGGER.debug("[{}] Scoped token is stale, requesting new token for: {}", getName(), scopedToken.tokenKey);
+		Instant expiration = Instant.now();
+		try {
+			AuthenticationToken token = validate(scopedTokenClient.getAuthenticationToken(scopedToken.tokenKey));
+			token.setExpiration(expiration.plusSeconds(token.getExpiresIn()));
+			scopedToken.token = token;
+			scopedToken.consecutiveRefreshFailures = 0;
+			LOGGER.debug("[{}] Successfully retrieved new token for: {}", getName(), scopedToken.tokenKey);
+		} catch (Exception e) {
+			scopedToken.lastRefreshFailure = Instant.now();
+			++scopedToken.consecutiveRefreshFailures;
+			LOGGER.error("[{}] Error retrieving new token for: {}. Consecutive failures: {}",
+					getName(), scopedToken.tokenKey, scopedToken.consecutiveRefreshFailures, e);
+		} finally {
+			++scopedToken.refreshCount;
+		}
+		scheduleScopedTokenRefresh(scopedToken, scopedTokenClient);
+	}
+
+	/**
+	 * Schedules the next refresh of the given scoped token on the token refresh scheduler, replacing the already scheduled
+	 * refresh. Nothing is scheduled when the scheduler is disabled or when the scoped token was evicted. Must be called
+	 * while holding the scoped token lock.
+	 *
+	 * @param scopedToken the scoped token entry
+	 * @param scopedTokenClient the token client
+	 */
+	private void scheduleScopedTokenRefresh(final ScopedToken scopedToken, final OAuth2ScopedTokenClient scopedTokenClient) {
+		cancel(scopedToken.scheduledRefresh);
+		scopedToken.scheduledRefresh = null;
+		if (scopedToken.evicted || isSchedulerDisabled()) {
+			return;
+		}
+		Duration delay = scopedToken.consecutiveRefreshFailures > 0
+				? getFailureRetryDelay(scopedToken.consecutiveRefreshFailures)
+				: getUpdateDelay(scopedToken.token.getExpiration());
+		long observedRefreshCount = scopedToken.refreshCount;
+		ScheduledFuture<?> scheduledRefresh = schedule(
+				() -> refreshScopedToken(scopedToken, scopedTokenClient, observedRefreshCount), delay);
+		scopedToken.scheduledRefresh = scheduledRefresh;
+		if (scopedToken.evicted) {
+			cancel(scheduledRefresh);
+		}
+	}
+
+	/**
+	 * Refreshes the given scoped token, this is the scheduled scoped token refresh. The refresh is skipped if the scoped
+	 * token was evicted or refreshed since the refresh was scheduled.
+	 *
+	 * @param scopedToken the scoped token entry
+	 * @param scopedTokenClient the token client
+	 * @param observedRefreshCount the scoped token refresh count observed when the refresh was scheduled
+	 */
+	private void refreshScopedToken(final ScopedToken scopedToken, final OAuth2ScopedTokenClient scopedTokenClient,
+			final long observedRefreshCount) {
+		scopedToken.lock.lock();
+		try {
+			if (!scopedToken.evicted && observedRefreshCount == scopedToken.refreshCount) {
+				updateScopedToken(scopedToken, scopedTokenClient);
+			}
+		} finally {
+			scopedToken.lock.unlock();
+		}
+	}
+
+	/**
+	 * Marks the given scoped token as evicted and cancels its scheduled refresh.
+	 *
+	 * @param scopedToken the scoped token entry
+	 */
+	private static void evict(final ScopedToken scopedToken) {
+		scopedToken.evicted = true;
+		cancel(scopedToken.scheduledRefresh);
+	}
+
+	/**
+	 * Returns the number of scoped tokens currently kept by this provider.
+	 *
+	 * @return the number of scoped tokens
+	 */
+	public int getScopedTokenCount() {
+		synchronized (scopedTokens) {
+			return scopedTokens.size();
+		}
+	}
+
+	/**
+	 * Refreshes the given stale token on demand. Only one caller refreshes the token, the other callers return the stale
+	 * token right away if it did not actually expire yet, otherwise they wait for the ongoing refresh at most the configured
+	 * refresh wait timeout. No refresh is done if a refresh happened since the stale token was read or if the last refresh
+	 * failed less than the minimum refresh interval ago.
+	 *
+	 * @param staleToken the stale token
+	 * @param observedRefreshCount the refresh count observed before reading the stale token
+	 * @return the current token after the refresh
+	 */
+	private AuthenticationToken refreshOnDemand(final AuthenticationToken staleToken, final long observedRefreshCount) {
+		if (Instant.now().isBefore(lastRefreshFailure.plus(getProperties().getMinRefreshInterval()))) {
+			return staleToken;
+		}
+		boolean usable = null != staleToken && !staleToken.isExpired();
+		if (!(usable ? refreshLock.tryLock() : tryLock(getProperties().getRefreshWaitTimeout()))) {
+			return Nullables.nonNullOrDefault(authenticationToken, staleToken);
+		}
+		try {
+			if (observedRefreshCount == refreshCount) {
+				LOGGER.debug("[{}] Token is stale, refreshing on demand.", getName());
+				updateAuthenticationToken();
+			}
+			return authenticationToken;
+		} finally {
+			refreshLock.unlock();
+		}
+	}
+
+	/**
+	 * Invalidates the given token because it was rejected by a resource server (for example with a {@code 401} and an
+	 * {@code invalid_token} error) and refreshes it. Concurrent invalidations of the same token are coalesced: only the
+	 * first caller refreshes the token, the others wait for that refresh (bounded by the configured refresh wait timeout)
+	 * and reuse its result. No refresh is done if the token was already replaced or if the last refresh failed less than
+	 * the minimum refresh interval ago.
+	 *
+	 * @param rejectedToken the token rejected by the resource server
+	 * @return true if a token different from the rejected one is available after the call, false otherwise
+	 */
+	public boolean invalidateAuthenticationToken(final AuthenticationToken rejectedToken) {
+		if (null == tokenClient) {
+			return false;
+		}
+		AuthenticationToken token = authenticationToken;
+		if (token != rejectedToken) {
+			return null != token;
+		}
+		if (!tryLock(getProperties().getRefreshWaitTimeout())) {
+			return false;
+		}
+		try {
+			if (authenticationToken == rejectedToken
+					&& !Instant.now().isBefore(lastRefreshFailure.plus(getProperties().getMinRefreshInterval()))) {
+				LOGGER.debug("[{}] Token was rejected, refreshing.", getName());
+				updateAuthenticationToken();
+			}
+			token = authenticationToken;
+			return null != token && token != rejectedToken;
+		} finally {
+			refreshLock.unlock();
+		}
+	}
+
+	/**
+	 * Tries to acquire the refresh lock waiting at most the given timeout.
+	 *
+	 * @param timeout the maximum time to wait
+	 * @return true if the lock was acquired
+	 */
+	private boolean tryLock(final Duration timeout) {
+		return tryLock(refreshLock, timeout);
+	}
+
+	/**
+	 * Tries to acquire the given lock waiting at most the given timeout.
+	 *
+	 * @param lock the lock to acquire
+	 * @param timeout the maximum time to wait
+	 * @return true if the lock was acquired
+	 */
+	private static boolean tryLock(final ReentrantLock lock, final Duration timeout) {
+		try {
+			return lock.tryLock(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * Returns true if the given token needs to be refreshed, meaning it is missing or it is past its expiration minus the
+	 * error margin. Tokens without an expiration never need to be refreshed on demand.
+	 *
+	 * @param token the token to check
+	 * @return true if the token needs to be refreshed
+	 */
+	protected boolean isRefreshNeeded(final AuthenticationToken token) {
+		if (null == token) {
+			return true;
+		}
+		Instant expiration = token.getExpiration();
+		return null != expiration && !Instant.now().isBefore(expiration.minus(getProperties().getExpirationErrorMargin()));
 	}
 
 	/**
@@ -221,10 +614,51 @@ public class OAuth2TokenProvider implements AuthenticationTokenProvider, AutoClo
 	 */
 	protected void setAuthenticationToken(final AuthenticationToken authenticationToken) {
 		this.authenticationToken = authenticationToken;
+		if (null != authenticationToken) {
+			readiness.complete(null);
+		}
+	}
+
+	/**
+	 * Restores the authentication token from the token store if the stored token is still valid, meaning it has an
+	 * expiration and it does not need a refresh yet.
+	 */
+	private void restoreAuthenticationToken() {
+		AuthenticationToken token = tokenStore.load(getName());
+		if (null == token) {
+			return;
+		}
+		if (null == token.getExpiration() || isRefreshNeeded(token)) {
+			LOGGER.debug("[{}] Stored token is expired, requesting new token.", getName());
+			return;
+		}
+		setAuthenticationToken(token);
+		LOGGER.debug("[{}] Reusing stored token which expires at: {}", getName(), token.getExpiration());
+	}
+
+	/**
+	 * Refreshes the authentication token, this is the scheduled task. The refresh lock makes sure it does not run at the
+	 * same time as an on demand refresh. The run is skipped if the token was refreshed or restored from the token store
+	 * since the last scheduled run and it does not need a refresh yet, in which case the task is rescheduled based on the
+	 * current token expiration.
+	 */
+	private void refreshAuthenticationToken() {
+		refreshLock.lock();
+		try {
+			boolean refreshedElsewhere = scheduledRefreshCount != refreshCount;
+			if (refreshedElsewhere && !isRefreshNeeded(authenticationToken)) {
+				LOGGER.debug("[{}] Token was already refreshed, skipping scheduled refresh.", getName());
+			} else {
+				updateAuthenticationToken();
+			}
+			scheduledRefreshCount = refreshCount;
+		} finally {
+			refreshLock.unlock();
+		}
 	}
 
 	/**
-	 * Updates the authentication token.
+	 * Updates the authentication token, must be called while holding the refresh lock.
 	 */
 	private void updateAuthenticationToken() {
 		String clientRegistrationName = getClientRegistrationName();
@@ -236,10 +670,27 @@ public class OAuth2TokenProvider implements AuthenticationTokenProvider, AutoClo
 			setAuthenticationToken(token);
 			consecutiveRefreshFailures = 0;
 			LOGGER.debug("[{}] Successfully retrieved new token.", clientRegistrationName);
+			storeAuthenticationToken(token);
 		} catch (Exception e) {
-			++consecutiveRefreshFailures;
+			lastRefreshFailure = Instant.now();
+			++consecutiveRefreshFailures; // NOSONAR only updated while holding the refresh lock
 			LOGGER.error("[{}] Error retrieving new token. Consecutive failures: {}",
 					clientRegistrationName, consecutiveRefreshFailures, e);
+		} finally {
+			++refreshCount; // NOSONAR only updated while holding the refresh lock
+		}
+	}
+
+	/**
+	 * Stores the given token in the token store, errors are only logged since the token is already in use.
+	 *
+	 * @param token the token to store
+	 */
+	private void storeAuthenticationToken(final AuthenticationToken token) {
+		try {
+			tokenStore.save(getName(), token);
+		} catch (Exception e) {
+			LOGGER.warn("[{}] Error storing token.", getName(), e);
 		}
 	}
 
@@ -249,7 +700,16 @@ public class OAuth2TokenProvider implements AuthenticationTokenProvider, AutoClo
 	 * @return the authentication token
 	 */
 	private AuthenticationToken getAuthenticationTokenFromClient() {
-		AuthenticationToken token = getTokenClient().getAuthenticationToken();
+		return validate(getTokenClient().getAuthenticationToken());
+	}
+
+	/**
+	 * Validates the token received from the client.
+	 *
+	 * @param token the token received from the client
+	 * @return the given token
+	 */
+	private static AuthenticationToken validate(final AuthenticationToken token) {
 		if (null == token) {
 			throw new AuthenticationException("Received null token from token client");
 		}
@@ -260,26 +720,122 @@ public class OAuth2TokenProvider implements AuthenticationTokenProvider, AutoClo
 		return token;
 	}
 
+	/**
+	 * Returns the delay until the next scheduled token update, see {@link #getNextUpdateDelay()}, and schedules the
+	 * preparation of the token request for that update.
+	 *
+	 * @return the delay until the next token update
+	 */
+	private Duration getNextScheduledUpdateDelay() {
+		Duration delay = getNextUpdateDelay();
+		if (tokenClient instanceof OAuth2ScopedTokenClient scopedTokenClient) {
+			cancel(tokenRequestPreparation);
+			tokenRequestPreparation = schedule(() -> prepareTokenRequest(scopedTokenClient),
+					delay.minus(TOKEN_REQUEST_PREPARATION_LEAD));
+		}
+		return delay;
+	}
+
+	/**
+	 * Prepares the next token request of the given token client, errors are only logged since the token request does not
+	 * depend on the preparation.
+	 *
+	 * @param scopedTokenClient the token client
+	 */
+	private void prepareTokenRequest(final OAuth2ScopedTokenClient scopedTokenClient) {
+		try {
+			scopedTokenClient.prepareTokenRequest();
+		} catch (Exception e) {
+			LOGGER.warn("[{}] Error preparing the token request.", getName(), e);
+		}
+	}
+
+	/**
+	 * Schedules the given task on the token refresh scheduler, a negative delay runs the task right away.
+	 *
+	 * @param task the task to schedule
+	 * @param delay the delay
+	 * @return the scheduled task or {@code null} if the scheduler rejected it
+	 */
+	private ScheduledFuture<?> schedule(final Runnable task, final Duration delay) {
+		try {
+			return tokenRefreshScheduler.unwrap().schedule(task, Math.max(delay.toMillis(), 0), TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			LOGGER.debug("[{}] Token refresh scheduler rejected the task.", getName(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * Cancels the given scheduled task if it exists.
+	 *
+	 * @param scheduledTask the scheduled task, can be {@code null}
+	 */
+	private static void cancel(final ScheduledFuture<?> scheduledTask) {
+		if (null != scheduledTask) {
+			scheduledTask.cancel(false);
+		}
+	}
+
 	/**
 	 * Returns the delay until the next token update.
 	 * <p>
 	 * If there were consecutive refresh failures, the delay is computed using the configured failure retry delay strategy.
-	 * Otherwise, the delay is calculated as the time until token expiration minus the error margin defined in
-	 * {@link OAuth2TokenProviderProperties} and clamped to at least the minimum refresh interval.
+	 * Otherwise, the delay is calculated as the time until token expiration minus the error margin and minus a random
+	 * jitter (up to the refresh jitter) defined in {@link OAuth2TokenProviderProperties} and clamped to at least the
+	 * minimum refresh interval.
 	 *
 	 * @return the delay until the next token update
 	 */
 	private Duration getNextUpdateDelay() {
 		if (consecutiveRefreshFailures > 0) {
-			long delay = failureRetryDelay.delay(consecutiveRefreshFailures - 1);
-			return Duration.of(delay, failureRetryDelay.chronoUnit());
+			return getFailureRetryDelay(consecutiveRefreshFailures);
 		}
-		Instant expiration = getTokenExpiration().minus(getProperties().getExpirationErrorMargin());
+		return getUpdateDelay(getTokenExpiration());
+	}
+
+	/**
+	 * Returns the delay until the next update of a token after the given number of consecutive refresh failures, computed
+	 * using the configured failure retry delay strategy.
+	 *
+	 * @param failures the number of consecutive refresh failures, must be positive
+	 * @return the delay until the next token update
+	 */
+	private Duration getFailureRetryDelay(final int failures) {
+		long delay = failureRetryDelay.delay(failures - 1);
+		return Duration.of(delay, failureRetryDelay.chronoUnit());
+	}
+
+	/**
+	 * Returns the delay until the update of a token with the given expiration, see {@link #getNextUpdateDelay()}.
+	 *
+	 * @param tokenExpiration the token expiration
+	 * @return the delay until the token update
+	 */
+	private Duration getUpdateDelay(final Instant tokenExpiration) {
+		Instant expiration = tokenExpiration.minus(getProperties().getExpirationErrorMargin());
 		Instant scheduled = Comparables.max(expiration, Instant.now());
-		Duration delay = Duration.between(Instant.now(), scheduled);
+		Duration delay = Duration.between(Instant.now(), scheduled).minus(getRefreshJitter());
 		return Comparables.max(delay, getProperties().getMinRefreshInterval());
 	}
 
+	/**
+	 * Returns a random jitter between zero and the configured refresh jitter, the default refresh jitter given in the
+	 * builder is used when the properties have no refresh jitter.
+	 *
+	 * @return a random refresh jitter
+	 */
+	private Duration getRefreshJitter() {
+		Duration refreshJitter = getProperties().getRefreshJitter();
+		if (null == refreshJitter || !refreshJitter.isPositive()) {
+			refreshJitter = defaultRefreshJitter;
+		}
+		if (!refreshJitter.isPositive()) {
+			return Duration.ZERO;
+		}
+		return Duration.ofMillis(ThreadLocalRandom.current().nextLong(refreshJitter.toMillis() + 1));
+	}
+
 	/**
 	 * Returns true if the scheduler is enabled, false otherwise.
 	 *
@@ -298,6 +854,41 @@ public class OAuth2TokenProvider implements AuthenticationTokenProvider, AutoClo
 		return !isSchedulerEnabled();
 	}
 
+	/**
+	 * Initializes the provider by enabling the scheduler which requests the first token (unless a valid token was restored
+	 * from the token store). Only the first call has an effect, so calling it on a provider that was already initialized
+	 * does not enable a scheduler disabled with {@link #disable()}.
+	 *
+	 * @return true if this call initialized the provider, false if it was already initialized or it has no token client
+	 */
+	public boolean initialize() {
+		if (null == tokenClient || !initialized.compareAndSet(false, true)) {
+			return false;
+		}
+		enable();
+		return true;
+	}
+
+	/**
+	 * Returns true if the provider was initialized, see {@link #initialize()}.
+	 *
+	 * @return true if the provider was initialized
+	 */
+	public boolean isInitialized() {
+		return initialized.get();
+	}
+
+	/**
+	 * Returns a future which completes when the provider has its first token. The future completes exceptionally if the
+	 * provider has no token client, since such a provider can never have a token. Completing the returned future has no
+	 * effect on the provider.
+	 *
+	 * @return a future which completes when the provider has its first token
+	 */
+	public CompletableFuture<Void> getReadiness() {
+		return readiness.copy();
+	}
+
 	/**
 	 * Enables the scheduler if it is not already enabled.
 	 *
@@ -316,6 +907,15 @@ public class OAuth2TokenProvider implements AuthenticationTokenProvider, AutoClo
 		return selfReschedulingTask.disable();
 	}
 
+	/**
+	 * Returns the token store.
+	 *
+	 * @return the token store
+	 */
+	public OAuth2TokenStore getTokenStore() {
+		return tokenStore;
+	}
+
 	/**
 	 * Returns the client that actually does the token requests.
 	 *
@@ -352,13 +952,72 @@ public class OAuth2TokenProvider implements AuthenticationTokenProvider, AutoClo
 		return properties;
 	}
 
+	/**
+	 * A token for a {@link OAuth2TokenKey} other than the default one.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private static class ScopedToken {
+
+		/**
+		 * The token key.
+		 */
+		private final OAuth2TokenKey tokenKey;
+
+		/**
+		 * The lock making sure only one refresh of this token runs at a time.
+		 */
+		private final ReentrantLock lock = new ReentrantLock();
+
+		/**
+		 * The current token, volatile so that it can be read without locking.
+		 */
+		private volatile AuthenticationToken token;
+
+		/**
+		 * The instant of the last failed refresh of this token.
+		 */
+		private volatile Instant lastRefreshFailure = Instant.MIN;
+
+		/**
+		 * Number of consecutive refresh failures of this token, only accessed while holding the lock.
+		 */
+		private int consecutiveRefreshFailures;
+
+		/**
+		 * The number of refreshes of this token, only accessed while holding the lock.
+		 */
+		private long refreshCount;
+
+		/**
+		 * The scheduled refresh of this token, can be {@code null}.
+		 */
+		private volatile ScheduledFuture<?> scheduledRefresh;
+
+		/**
+		 * True if this token was evicted from the scoped tokens cache.
+		 */
+		private volatile boolean evicted;
+
+		/**
+		 * Constructs a new scoped token entry.
+		 *
+		 * @param tokenKey the token key
+		 */
+		ScopedToken(final OAuth2TokenKey tokenKey) {
+			this.tokenKey = tokenKey;
+		}
+	}
+
 	/**
 	 * OAuth2 token provider builder.
 	 * <p>
 	 * This class uses the builder pattern for construction. The following default values are used:
 	 * <ul>
 	 * <li>If no properties are provided, default properties are used</li>
-	 * <li>If no scheduler is provided, a virtual-thread scheduler is created and owned by the provider</li>
+	 * <li>If no scheduler is provided, a {@link ReschedulingTask.Default#scheduler()} scheduler is created and owned by the
+	 * provider, the providers created by an {@link OAuth2TokenProviderRegistry} are given the bounded refresh scheduler
+	 * shared by the registry instead (see {@link OAuth2TokenProviderRegistry.Builder#tokenRefreshThreads(int)})</li>
 	 * <li>If no token client supplier is provided, a supplier that always supplies a {@code null} authentication token
 	 * provider is used</li>
 	 * <li>If no default expiration supplier is provided, the current instant supplier is used</li>
@@ -411,6 +1070,21 @@ public class OAuth2TokenProvider implements AuthenticationTokenProvider, AutoClo
 		 */
 		private DelayStrategy failureRetryDelayStrategy;
 
+		/**
+		 * The token store.
+		 */
+		private OAuth2TokenStore tokenStore = OAuth2TokenStore.none();
+
+		/**
+		 * Flag indicating that the first token is requested on initialization instead of on construction.
+		 */
+		private boolean lazyInitialization;
+
+		/**
+		 * The refresh jitter used when the properties have no refresh jitter.
+		 */
+		private Duration defaultRefreshJitter = Duration.ZERO;
+
 		/**
 		 * Hidden constructor.
 		 */
@@ -534,6 +1208,43 @@ public class OAuth2TokenProvider implements AuthenticationTokenProvider, AutoClo
 			return this;
 		}
 
+		/**
+		 * Sets the token store used to reuse tokens between restarts.
+		 *
+		 * @param tokenStore the token store
+		 * @return the builder
+		 */
+		public Builder tokenStore(final OAuth2TokenStore tokenStore) {
+			this.tokenStore = Objects.requireNonNull(tokenStore, "Token store cannot be null");
+			return this;
+		}
+
+		/**
+		 * Sets the lazy initialization flag. When true, the provider does not request its first token when it is built but
+		 * on {@link OAuth2TokenProvider#initialize()} or on the first {@link OAuth2TokenProvider#getAuthenticationToken()}
+		 * call.
+		 *
+		 * @param lazyInitialization true to request the first token lazily
+		 * @return the builder
+		 */
+		public Builder lazyInitialization(final boolean lazyInitialization) {
+			this.lazyInitialization = lazyInitialization;
+			return this;
+		}
+
+		/**
+		 * Sets the refresh jitter used when the provider properties have no refresh jitter (see
+		 * {@link OAuth2TokenProviderProperties#setRefreshJitter(Duration)}), the token provider registry uses it to spread
+		 * the refreshes of the providers it creates.
+		 *
+		 * @param defaultRefreshJitter the default refresh jitter
+		 * @return the builder
+		 */
+		public Builder defaultRefreshJitter(final Duration defaultRefreshJitter) {
+			this.defaultRefreshJitter = Objects.requireNonNull(defaultRefreshJitter, "Default refresh jitter cannot be null");
+			return this;
+		}
+
 		/**
 		 * Builds the OAuth2 token provider.
 		 *
@@ -0,0 +1,37 @@
+package org.apiphany.security.oauth2;
+
+/**
+ * Initialization policy for the token providers created by an {@link OAuth2TokenProviderRegistry}, meaning when the
+ * providers request their first token.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public enum OAuth2TokenProviderInitialization {
+
+	/**
+	 * Each provider requests its first token when it is created, one after the other, so the registry construction takes
+	 * the sum of all the token requests durations. This is the default.
+	 */
+	EAGER,
+
+	/**
+	 * All the providers request their first tokens concurrently on a bounded pool after they are created, the registry
+	 * construction waits for them at most the initialization timeout, the ones still in progress complete in the
+	 * background.
+	 */
+	EAGER_PARALLEL,
+
+	/**
+	 * Each provider requests its first token on the first {@link OAuth2TokenProvider#getAuthenticationToken()} call.
+	 */
+	LAZY;
+
+	/**
+	 * Returns true if the providers must be created without requesting their first token.
+	 *
+	 * @return true if the providers are initialized after creation
+	 */
+	public boolean isDeferred() {
+		return EAGER != this;
+	}
+}
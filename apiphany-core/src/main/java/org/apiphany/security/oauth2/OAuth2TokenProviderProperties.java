@@ -58,6 +58,22 @@ public class OAuth2TokenProviderProperties {
 		 */
 		public static final Duration SCHEDULER_TERMINATION_TIMEOUT = Duration.ZERO;
 
+		/**
+		 * The maximum random amount subtracted from the scheduled refresh time of a token - 0 seconds (no jitter). The
+		 * providers created by a {@link OAuth2TokenProviderRegistry} use the registry refresh jitter instead.
+		 */
+		public static final Duration REFRESH_JITTER = Duration.ZERO;
+
+		/**
+		 * The maximum time to wait for an on demand token refresh done by another caller - 10 seconds.
+		 */
+		public static final Duration REFRESH_WAIT_TIMEOUT = Duration.ofSeconds(10);
+
+		/**
+		 * The maximum number of scoped tokens kept by a provider - 64 tokens.
+		 */
+		public static final int MAX_SCOPED_TOKENS = 64;
+
 		/**
 		 * Hide constructor.
 		 */
@@ -105,6 +121,29 @@ public class OAuth2TokenProviderProperties {
 	 */
 	private Duration schedulerTerminationTimeout = Default.SCHEDULER_TERMINATION_TIMEOUT;
 
+	/**
+	 * The maximum random amount subtracted from the scheduled refresh time of a token, so that tokens issued at the same
+	 * time (for example by providers sharing a scheduler in a {@link OAuth2TokenProviderRegistry}) are not all refreshed at
+	 * the same instant. The token is always refreshed earlier, never later than:
+	 *
+	 * <pre>
+	 * token.expiration - expirationErrorMargin
+	 * </pre>
+	 */
+	private Duration refreshJitter = Default.REFRESH_JITTER;
+
+	/**
+	 * The maximum time a caller waits for an on demand token refresh done by another caller when the current token already
+	 * expired. Callers never wait when the current token is stale but not yet expired, they keep using it.
+	 */
+	private Duration refreshWaitTimeout = Default.REFRESH_WAIT_TIMEOUT;
+
+	/**
+	 * The maximum number of scoped tokens (see {@link OAuth2TokenKey}) kept by the provider, when the limit is reached the
+	 * least recently used scoped token is dropped.
+	 */
+	private Integer maxScopedTokens = Default.MAX_SCOPED_TOKENS;
+
 	/**
 	 * Default constructor.
 	 */
@@ -246,4 +285,58 @@ public class OAuth2TokenProviderProperties {
 	public void setSchedulerTerminationTimeout(final Duration schedulerTerminationTimeout) {
 		this.schedulerTerminationTimeout = schedulerTerminationTimeout;
 	}
+
+	/**
+	 * Returns the refresh jitter.
+	 *
+	 * @return the refresh jitter
+	 */
+	public Duration getRefreshJitter() {
+		return refreshJitter;
+	}
+
+	/**
+	 * Sets the refresh jitter.
+	 *
+	 * @param refreshJitter the refresh jitter to set
+	 */
+	public void setRefreshJitter(final Duration refreshJitter) {
+		this.refreshJitter = refreshJitter;
+	}
+
+	/**
+	 * Returns the refresh wait timeout.
+	 *
+	 * @return the refresh wait timeout
+	 */
+	public Duration getRefreshWaitTimeout() {
+		return refreshWaitTimeout;
+	}
+
+	/**
+	 * Sets the refresh wait timeout.
+	 *
+	 * @param refreshWaitTimeout the refresh wait timeout to set
+	 */
+	public void setRefreshWaitTimeout(final Duration refreshWaitTimeout) {
+		this.refreshWaitTimeout = refreshWaitTimeout;
+	}
+
+	/**
+	 * Returns the maximum number of scoped tokens.
+	 *
+	 * @return the maximum number of scoped tokens
+	 */
+	public Integer getMaxScopedTokens() {
+		return maxScopedTokens;
+	}
+
+	/**
+	 * Sets the maximum number of scoped tokens.
+	 *
+	 * @param maxScopedTokens the maximum number of scoped tokens to set
+	 */
+	public void setMaxScopedTokens(final Integer maxScopedTokens) {
+		this.maxScopedTokens = maxScopedTokens;
+	}
 }
@@ -1,9 +1,19 @@
 package org.apiphany.security.oauth2;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -12,6 +22,7 @@ import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
 import org.apiphany.logging.Slf4jLoggerAdapter;
+import org.morphix.lang.Nullables;
 import org.morphix.lang.function.Consumers;
 import org.morphix.lang.function.LoggerAdapter;
 import org.morphix.lang.function.Predicates;
@@ -25,6 +36,19 @@ import org.morphix.lang.resource.ScopedResource;
  * When constructing the token provider registry prefer using the builder method for more complex configurations, as it
  * provides a more fluent API and better readability when multiple optional parameters are involved, such as the
  * provider name converter, provider name filter, and created provider customizer.
+ * <p>
+ * All the token providers created by the registry share a single token refresh scheduler instead of each provider
+ * creating its own, this keeps the thread count constant no matter how many client registrations there are. The default
+ * shared scheduler is a delay queue timer backed by a small bounded pool of daemon threads (see
+ * {@link Builder#tokenRefreshThreads(int)}) which is shut down when the registry is closed. To avoid refreshing tokens
+ * issued at the same time all at once, the providers without a refresh jitter in their properties (see
+ * {@link OAuth2TokenProviderProperties#setRefreshJitter(java.time.Duration)}) use the registry refresh jitter (see
+ * {@link Builder#refreshJitter(Duration)}) which is {@link #DEFAULT_REFRESH_JITTER} by default.
+ * <p>
+ * The providers request their first token according to the {@link OAuth2TokenProviderInitialization} policy set with
+ * {@link Builder#initialization(OAuth2TokenProviderInitialization)}: one after the other when created (the default),
+ * concurrently with a deadline or lazily on first use. The {@link #getReadiness()} future completes when all the required
+ * providers (see {@link Builder#requiredProviderFilter(Predicate)}) have their first token.
  *
  * @author Radu Sebastian LAZIN
  */
@@ -35,6 +59,39 @@ public class OAuth2TokenProviderRegistry implements AutoCloseable {
 	 */
 	private static final LoggerAdapter LOGGER = Slf4jLoggerAdapter.of(OAuth2TokenProviderRegistry.class);
 
+	/**
+	 * The default number of threads of the shared token refresh scheduler.
+	 */
+	public static final int DEFAULT_TOKEN_REFRESH_THREADS = 2;
+
+	/**
+	 * The name prefix of the shared token refresh scheduler threads.
+	 */
+	public static final String TOKEN_REFRESH_THREAD_NAME_PREFIX = "oauth2-token-refresh-";
+
+	/**
+	 * The default maximum random amount subtracted from the scheduled refresh time of the tokens of the created providers.
+	 */
+	public static final Duration DEFAULT_REFRESH_JITTER = Duration.ofSeconds(30);
+
+	/**
+	 * The default number of threads requesting the first tokens with
+	 * {@link OAuth2TokenProviderInitialization#EAGER_PARALLEL}.
+	 */
+	public static final int DEFAULT_INITIALIZATION_THREADS = 4;
+
+	/**
+	 * The default maximum time the registry construction waits for the first tokens with
+	 * {@link OAuth2TokenProviderInitialization#EAGER_PARALLEL}.
+	 */
+	public static final Duration DEFAULT_INITIALIZATION_TIMEOUT = Duration.ofSeconds(30);
+
+	/**
+	 * The name prefix of the threads requesting the first tokens with
+	 * {@link OAuth2TokenProviderInitialization#EAGER_PARALLEL}.
+	 */
+	public static final String INITIALIZATION_THREAD_NAME_PREFIX = "oauth2-token-init-";
+
 	/**
 	 * The registered providers map.
 	 */
@@ -50,6 +107,17 @@ public class OAuth2TokenProviderRegistry implements AutoCloseable {
 	 */
 	private final OAuth2Registry oAuth2Registry;
 
+	/**
+	 * The token refresh scheduler shared by all the token providers created by this registry, created on the first
+	 * provider when not given in the builder.
+	 */
+	private ScopedResource<ScheduledExecutorService> tokenRefreshScheduler;
+
+	/**
+	 * Completes when all the required providers created by this registry have their first token.
+	 */
+	private final CompletableFuture<Void> readiness;
+
 	/**
 	 * Constructor with builder.
 	 *
@@ -57,9 +125,62 @@ public class OAuth2TokenProviderRegistry implements AutoCloseable {
 	 */
 	private OAuth2TokenProviderRegistry(final Builder builder) {
 		this.oAuth2Registry = Objects.requireNonNull(builder.oAuth2Registry, "OAuth2 registry cannot be null");
+		this.tokenRefreshScheduler = builder.tokenRefreshScheduler;
 		for (OAuth2ResolvedRegistration registration : oAuth2Registry.entries()) {
 			addProvider(registration, builder);
 		}
+		if (OAuth2TokenProviderInitialization.EAGER_PARALLEL == builder.initialization) {
+			initializeProviders(builder.initializationThreads, builder.initializationTimeout);
+		}
+		this.readiness = newReadiness(builder.requiredProviderFilter);
+	}
+
+	/**
+	 * Initializes all the providers concurrently on a new bounded pool and waits at most the given timeout for them, the
+	 * initializations still in progress after the timeout complete in the background.
+	 *
+	 * @param threads the maximum number of threads
+	 * @param timeout the maximum time to wait
+	 */
+	private void initializeProviders(final int threads, final Duration timeout) {
+		List<OAuth2TokenProvider> providersToInitialize = getProviders();
+		if (providersToInitialize.isEmpty()) {
+			return;
+		}
+		ThreadFactory threadFactory = Thread.ofPlatform()
+				.name(INITIALIZATION_THREAD_NAME_PREFIX, 0)
+				.daemon(true)
+				.factory();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, providersToInitialize.size()), threadFactory);
+		try {
+			CompletableFuture<?>[] initializations = providersToInitialize.stream()
+					.map(provider -> CompletableFuture.runAsync(provider::initialize, executor))
+					.toArray(CompletableFuture[]::new);
+			CompletableFuture.allOf(initializations).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			LOGGER.warn("OAuth2 token providers initialization did not finish in {}, continuing in the background.", timeout);
+		} catch (ExecutionException e) {
+			LOGGER.error("Error initializing OAuth2 token providers.", e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.warn("Interrupted while waiting for the OAuth2 token providers initialization, continuing in the background.");
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Returns a future which completes when all the required providers have their first token.
+	 *
+	 * @param requiredProviderFilter the filter selecting the required providers by name
+	 * @return the readiness future
+	 */
+	private CompletableFuture<Void> newReadiness(final Predicate<String> requiredProviderFilter) {
+		CompletableFuture<?>[] requiredReadiness = providers.entrySet().stream()
+				.filter(entry -> requiredProviderFilter.test(entry.getKey()))
+				.map(entry -> entry.getValue().unwrap().getReadiness())
+				.toArray(CompletableFuture[]::new);
+		return CompletableFuture.allOf(requiredReadiness);
 	}
 
 	/**
@@ -67,7 +188,8 @@ public class OAuth2TokenProviderRegistry implements AutoCloseable {
 	 * configuration. This method will use the builder's provider name converter to determine the provider name and the
 	 * provider name filter to determine whether to include the provider in the registry. If the provider is included, it
 	 * will use the builder's provider customizer to customize the token provider specification and then create the provider
-	 * using the underlying OAuth2 registry. After the provider is created, the builder's provider post construct consumer
+	 * using the underlying OAuth2 registry. The provider uses the shared token refresh scheduler unless the customizer sets
+	 * another one. After the provider is created, the builder's provider post construct consumer
 	 * will be called with the provider name and the created provider instance.
 	 *
 	 * @param registration the resolved client registration to build the token provider for
@@ -79,7 +201,12 @@ public class OAuth2TokenProviderRegistry implements AutoCloseable {
 		String clientRegistrationName = registration.getClientRegistrationName();
 		String providerName = builder.providerNameConverter.apply(clientRegistrationName);
 		if (builder.providerNameFilter.test(providerName)) {
-			OAuth2TokenProvider.Builder providerBuilder = OAuth2TokenProvider.builder().registration(registration);
+			OAuth2TokenProvider.Builder providerBuilder = OAuth2TokenProvider.builder()
+					.registration(registration)
+					.tokenRefreshScheduler(ScopedResource.unmanaged(getTokenRefreshScheduler(builder)))
+					.tokenStore(builder.tokenStore)
+					.lazyInitialization(builder.initialization.isDeferred())
+					.defaultRefreshJitter(builder.refreshJitter);
 			builder.providerBuilderCustomizer.accept(providerBuilder);
 			OAuth2TokenProvider provider = providerBuilder.build();
 			addProvider(providerName, ScopedResource.managed(provider));
@@ -90,6 +217,39 @@ public class OAuth2TokenProviderRegistry implements AutoCloseable {
 		}
 	}
 
+	/**
+	 * Returns the shared token refresh scheduler, creating it if needed.
+	 *
+	 * @param builder the builder containing the number of threads for the shared token refresh scheduler
+	 * @return the shared token refresh scheduler
+	 */
+	@SuppressWarnings("resource")
+	private ScheduledExecutorService getTokenRefreshScheduler(final Builder builder) {
+		if (null == tokenRefreshScheduler) {
+			tokenRefreshScheduler = ScopedResource.managed(newTokenRefreshScheduler(builder.tokenRefreshThreads));
+		}
+		return tokenRefreshScheduler.unwrap();
+	}
+
+	/**
+	 * Creates a new token refresh scheduler with the given number of daemon threads. The scheduler removes cancelled
+	 * refresh tasks right away and drops the pending ones on shutdown since they belong to closed providers.
+	 *
+	 * @param threads the number of threads
+	 * @return a new token refresh scheduler
+	 */
+	public static ScheduledExecutorService newTokenRefreshScheduler(final int threads) {
+		ThreadFactory threadFactory = Thread.ofPlatform()
+				.name(TOKEN_REFRESH_THREAD_NAME_PREFIX, 0)
+				.daemon(true)
+				.factory();
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(threads, threadFactory);
+		scheduler.setRemoveOnCancelPolicy(true);
+		scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+		scheduler.setContinueExistingPeriodicTasksAfterShutdownPolicy(false);
+		return scheduler;
+	}
+
 	/**
 	 * Creates a new builder for constructing an OAuth2 token provider registry.
 	 *
@@ -244,7 +404,30 @@ public class OAuth2TokenProviderRegistry implements AutoCloseable {
 	}
 
 	/**
-	 * Closes all registered OAuth2 token providers.
+	 * Returns the token refresh scheduler shared by the token providers created by this registry.
+	 *
+	 * @return the shared token refresh scheduler, null if no provider was created by this registry
+	 */
+	@SuppressWarnings("resource")
+	public ScheduledExecutorService getTokenRefreshScheduler() {
+		return Nullables.apply(tokenRefreshScheduler, ScopedResource::unwrap);
+	}
+
+	/**
+	 * Returns a future which completes when all the required providers created by this registry have their first token,
+	 * it completes exceptionally if a required provider can never have a token. Providers added later with
+	 * {@link #addProvider(String, ScopedResource)} are not taken into account. Completing the returned future has no effect
+	 * on the registry.
+	 *
+	 * @return a future which completes when the required providers have their first token
+	 */
+	public CompletableFuture<Void> getReadiness() {
+		return readiness.copy();
+	}
+
+	/**
+	 * Closes all registered OAuth2 token providers and then the shared token refresh scheduler if it is managed by this
+	 * registry.
 	 *
 	 * @see AutoCloseable#close()
 	 */
@@ -259,6 +442,9 @@ public class OAuth2TokenProviderRegistry implements AutoCloseable {
 			ScopedResource<OAuth2TokenProvider> provider = entry.getValue();
 			provider.closeIfManaged(e -> LOGGER.error("Error closing OAuth2 token provider: {} when closing registry.", entry.getKey(), e));
 		}
+		if (null != tokenRefreshScheduler) {
+			tokenRefreshScheduler.closeIfManaged(e -> LOGGER.error("Error closing the shared token refresh scheduler when closing registry.", e));
+		}
 	}
 
 	/**
@@ -312,6 +498,47 @@ public class OAuth2TokenProviderRegistry implements AutoCloseable {
 		 */
 		private BiConsumer<String, OAuth2TokenProvider> providerPostConstruct = Consumers.noBiConsumer();
 
+		/**
+		 * The token refresh scheduler shared by all the created providers. This is an optional field and if not set, the
+		 * registry creates and manages its own scheduler with {@link #tokenRefreshThreads} threads.
+		 */
+		private ScopedResource<ScheduledExecutorService> tokenRefreshScheduler;
+
+		/**
+		 * The number of threads of the shared token refresh scheduler created by the registry.
+		 */
+		private int tokenRefreshThreads = DEFAULT_TOKEN_REFRESH_THREADS;
+
+		/**
+		 * The token store shared by all the created providers.
+		 */
+		private OAuth2TokenStore tokenStore = OAuth2TokenStore.none();
+
+		/**
+		 * The initialization policy of the created providers.
+		 */
+		private OAuth2TokenProviderInitialization initialization = OAuth2TokenProviderInitialization.EAGER;
+
+		/**
+		 * The maximum number of threads requesting the first tokens in parallel.
+		 */
+		private int initializationThreads = DEFAULT_INITIALIZATION_THREADS;
+
+		/**
+		 * The maximum time the registry construction waits for the first tokens requested in parallel.
+		 */
+		private Duration initializationTimeout = DEFAULT_INITIALIZATION_TIMEOUT;
+
+		/**
+		 * The refresh jitter of the created providers which have no refresh jitter in their properties.
+		 */
+		private Duration refreshJitter = DEFAULT_REFRESH_JITTER;
+
+		/**
+		 * A predicate selecting by name the providers that must have a token for the registry to be ready.
+		 */
+		private Predicate<String> requiredProviderFilter = Predicates.acceptAll();
+
 		/**
 		 * Default constructor.
 		 */
@@ -400,6 +627,126 @@ public class OAuth2TokenProviderRegistry implements AutoCloseable {
 			return this;
 		}
 
+		/**
+		 * Sets the token refresh scheduler shared by all the created providers. The caller will be responsible for shutting
+		 * down the scheduler.
+		 *
+		 * @param tokenRefreshScheduler the shared token refresh scheduler
+		 * @return this builder instance for chaining
+		 */
+		@SuppressWarnings("resource")
+		public Builder tokenRefreshScheduler(final ScheduledExecutorService tokenRefreshScheduler) {
+			return tokenRefreshScheduler(ScopedResource.unmanaged(tokenRefreshScheduler));
+		}
+
+		/**
+		 * Sets the token refresh scheduler resource shared by all the created providers. If the scheduler is managed, the
+		 * registry will be responsible for shutting it down otherwise the caller will be responsible.
+		 *
+		 * @param tokenRefreshScheduler the shared token refresh scheduler
+		 * @return this builder instance for chaining
+		 */
+		public Builder tokenRefreshScheduler(final ScopedResource<ScheduledExecutorService> tokenRefreshScheduler) {
+			this.tokenRefreshScheduler = Objects.requireNonNull(tokenRefreshScheduler, "Token refresh scheduler cannot be null");
+			return this;
+		}
+
+		/**
+		 * Sets the number of threads of the shared token refresh scheduler created by the registry, ignored when a scheduler
+		 * is set with {@link #tokenRefreshScheduler(ScopedResource)}. The threads only do the token requests, so a few threads
+		 * are enough for a large number of providers.
+		 *
+		 * @param tokenRefreshThreads the number of threads, must be positive
+		 * @return this builder instance for chaining
+		 */
+		public Builder tokenRefreshThreads(final int tokenRefreshThreads) {
+			if (tokenRefreshThreads <= 0) {
+				throw new IllegalArgumentException("Token refresh threads must be positive, got: " + tokenRefreshThreads);
+			}
+			this.tokenRefreshThreads = tokenRefreshThreads;
+			return this;
+		}
+
+		/**
+		 * Sets the token store shared by all the created providers, so that restarted instances reuse the stored tokens that
+		 * are still valid instead of requesting new ones.
+		 *
+		 * @param tokenStore the token store
+		 * @return this builder instance for chaining
+		 */
+		public Builder tokenStore(final OAuth2TokenStore tokenStore) {
+			this.tokenStore = Objects.requireNonNull(tokenStore, "Token store cannot be null");
+			return this;
+		}
+
+		/**
+		 * Sets the initialization policy of the created providers, see {@link OAuth2TokenProviderInitialization}.
+		 *
+		 * @param initialization the initialization policy
+		 * @return this builder instance for chaining
+		 */
+		public Builder initialization(final OAuth2TokenProviderInitialization initialization) {
+			this.initialization = Objects.requireNonNull(initialization, "Initialization policy cannot be null");
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of threads requesting the first tokens with
+		 * {@link OAuth2TokenProviderInitialization#EAGER_PARALLEL}, the threads are only used during the registry
+		 * construction.
+		 *
+		 * @param initializationThreads the number of threads, must be positive
+		 * @return this builder instance for chaining
+		 */
+		public Builder initializationThreads(final int initializationThreads) {
+			if (initializationThreads <= 0) {
+				throw new IllegalArgumentException("Initialization threads must be positive, got: " + initializationThreads);
+			}
+			this.initializationThreads = initializationThreads;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum time the registry construction waits for the first tokens with
+		 * {@link OAuth2TokenProviderInitialization#EAGER_PARALLEL}.
+		 *
+		 * @param initializationTimeout the initialization timeout
+		 * @return this builder instance for chaining
+		 */
+		public Builder initializationTimeout(final Duration initializationTimeout) {
+			this.initializationTimeout = Objects.requireNonNull(initializationTimeout, "Initialization timeout cannot be null");
+			return this;
+		}
+
+		/**
+		 * Sets the refresh jitter of the created providers which have no refresh jitter in their properties, so that the
+		 * tokens requested at the same time are not all refreshed at the same instant. Use {@link Duration#ZERO} to disable
+		 * the jitter.
+		 *
+		 * @param refreshJitter the refresh jitter, must not be negative
+		 * @return this builder instance for chaining
+		 */
+		public Builder refreshJitter(final Duration refreshJitter) {
+			Objects.requireNonNull(refreshJitter, "Refresh jitter cannot be null");
+			if (refreshJitter.isNegative()) {
+				throw new IllegalArgumentException("Refresh jitter cannot be negative, got: " + refreshJitter);
+			}
+			this.refreshJitter = refreshJitter;
+			return this;
+		}
+
+		/**
+		 * Sets the predicate selecting by name the providers that must have their first token for the registry readiness
+		 * future to complete, all the providers are required by default.
+		 *
+		 * @param requiredProviderFilter the required provider filter
+		 * @return this builder instance for chaining
+		 */
+		public Builder requiredProviderFilter(final Predicate<String> requiredProviderFilter) {
+			this.requiredProviderFilter = Objects.requireNonNull(requiredProviderFilter, "Required provider filter cannot be null");
+			return this;
+		}
+
 		/**
 		 * Builds the OAuth2 token provider registry based on the provided configuration. This method will create token
 		 * providers for all client registrations in the underlying OAuth2 registry that pass the provider name filter and will
@@ -0,0 +1,71 @@
+package org.apiphany.security.oauth2;
+
+import org.apiphany.security.AuthenticationToken;
+
+/**
+ * Persistent store for OAuth2 tokens. The {@link OAuth2TokenProvider} loads the stored token on startup and reuses it
+ * if it is still valid instead of requesting a new one, and saves every token retrieved by a successful refresh. This
+ * way restarted instances do not need to request new tokens from the authorization server.
+ * <p>
+ * Tokens are stored under the provider name, which is the client registration name. Implementations must be thread
+ * safe and should not throw exceptions, errors should be logged and reported as missing tokens instead since the
+ * provider can always request a new token.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public interface OAuth2TokenStore {
+
+	/**
+	 * Loads the token stored under the given name.
+	 *
+	 * @param name the provider name
+	 * @return the stored token, {@code null} if there is no token stored under the given name
+	 */
+	AuthenticationToken load(String name);
+
+	/**
+	 * Stores the given token under the given name replacing any previously stored token.
+	 *
+	 * @param name the provider name
+	 * @param token the token to store
+	 */
+	void save(String name, AuthenticationToken token);
+
+	/**
+	 * Returns a store which stores nothing, used when no store is configured.
+	 *
+	 * @return a store which stores nothing
+	 */
+	static OAuth2TokenStore none() {
+		return NoTokenStore.INSTANCE;
+	}
+
+	/**
+	 * Token store which stores nothing.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	enum NoTokenStore implements OAuth2TokenStore {
+
+		/**
+		 * Singleton instance.
+		 */
+		INSTANCE;
+
+		/**
+		 * @see OAuth2TokenStore#load(String)
+		 */
+		@Override
+		public AuthenticationToken load(final String name) {
+			return null;
+		}
+
+		/**
+		 * @see OAuth2TokenStore#save(String, AuthenticationToken)
+		 */
+		@Override
+		public void save(final String name, final AuthenticationToken token) {
+			// empty
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package org.apiphany.security.oauth2.client;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A signed JWT client assertion used with {@code client_secret_jwt} and {@code private_key_jwt} client authentication
+ * methods.
+ *
+ * @param value the compact serialized signed JWT
+ * @param expiration the {@code exp} claim of the JWT
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public record ClientAssertion(String value, Instant expiration) {
+
+	/**
+	 * Returns true if the assertion can still be sent at the given time, meaning that it doesn't expire in less than the
+	 * given margin.
+	 *
+	 * @param now the current time
+	 * @param expirationMargin the minimum remaining validity
+	 * @return true if the assertion can still be sent
+	 */
+	public boolean isUsable(final Instant now, final Duration expirationMargin) {
+		return now.plus(expirationMargin).isBefore(expiration);
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "ClientAssertion[expiration=" + expiration + "]";
+	}
+}
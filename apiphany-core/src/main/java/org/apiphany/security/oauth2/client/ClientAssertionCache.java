@@ -0,0 +1,293 @@
+package org.apiphany.security.oauth2.client;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.apiphany.logging.Slf4jLoggerAdapter;
+import org.apiphany.security.oauth2.ClientAuthenticationMethod;
+import org.morphix.lang.function.LoggerAdapter;
+
+/**
+ * Cache for the signed JWT client assertions of an {@link OAuth2ApiClient}, signing an assertion (especially with RSA)
+ * is the most expensive part of a {@code private_key_jwt} token request.
+ * <p>
+ * The cache has one entry for each {@link ClientAuthenticationMethod} so it is bounded by design and it works in one of
+ * two modes:
+ * <ul>
+ * <li>single use (see {@link #singleUse()} and {@link #singleUse(Executor)}) - every assertion is sent only once so
+ * authorization servers that enforce {@code jti} uniqueness accept all of them, when a pre-sign executor is given the
+ * next assertion is signed in the background by {@link #preSign()} which is called shortly before the next token request
+ * is expected (the {@link OAuth2ApiClient} calls it when its token provider is about to refresh the token), pre-signed
+ * assertions which are about to expire are discarded</li>
+ * <li>reusable (see {@link #reusable(Duration)}) - the same assertion is sent until it is about to expire, only for
+ * authorization servers that don't enforce {@code jti} uniqueness</li>
+ * </ul>
+ * The default cache used by {@link OAuth2ApiClient} is {@link #singleUse()} which signs a new assertion for every token
+ * request.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class ClientAssertionCache {
+
+	/**
+	 * The class logger.
+	 */
+	private static final LoggerAdapter LOGGER = Slf4jLoggerAdapter.of(ClientAssertionCache.class);
+
+	/**
+	 * The default minimum remaining validity of an assertion for it to be sent.
+	 */
+	public static final Duration DEFAULT_EXPIRATION_MARGIN = Duration.ofSeconds(30);
+
+	/**
+	 * True if the assertions can be sent more than once.
+	 */
+	private final boolean reusable;
+
+	/**
+	 * The minimum remaining validity of an assertion for it to be sent.
+	 */
+	private final Duration expirationMargin;
+
+	/**
+	 * The executor used to pre-sign the next assertion, {@code null} if assertions are not pre-signed.
+	 */
+	private final Executor preSignExecutor;
+
+	/**
+	 * The cache entries for each client authentication method.
+	 */
+	private final Map<ClientAuthenticationMethod, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new client assertion cache.
+	 *
+	 * @param reusable true if the assertions can be sent more than once
+	 * @param expirationMargin the minimum remaining validity of an assertion for it to be sent
+	 * @param preSignExecutor the executor used to pre-sign the next assertion, can be {@code null}
+	 */
+	protected ClientAssertionCache(final boolean reusable, final Duration expirationMargin, final Executor preSignExecutor) {
+		this.reusable = reusable;
+		this.expirationMargin = Objects.requireNonNull(expirationMargin, "expirationMargin cannot be null");
+		this.preSignExecutor = preSignExecutor;
+	}
+
+	/**
+	 * Returns a cache which signs a new assertion every time, this is the default.
+	 *
+	 * @return a single use client assertion cache
+	 */
+	public static ClientAssertionCache singleUse() {
+		return new ClientAssertionCache(false, DEFAULT_EXPIRATION_MARGIN, null);
+	}
+
+	/**
+	 * Returns a cache which sends every assertion only once and pre-signs the next assertion on the given executor when
+	 * {@link #preSign()} is called.
+	 *
+	 * @param preSignExecutor the executor used to pre-sign the next assertion
+	 * @return a single use pre-signing client assertion cache
+	 */
+	public static ClientAssertionCache singleUse(final Executor preSignExecutor) {
+		return new ClientAssertionCache(false, DEFAULT_EXPIRATION_MARGIN,
+				Objects.requireNonNull(preSignExecutor, "preSignExecutor cannot be null"));
+	}
+
+	/**
+	 * Returns a cache which sends the same assertion until it expires in less than the given margin. Use it only with
+	 * authorization servers that don't enforce {@code jti} uniqueness.
+	 *
+	 * @param expirationMargin the minimum remaining validity of an assertion for it to be sent, it must be smaller than
+	 *     {@link OAuth2ApiClient#CLIENT_ASSERTION_EXPIRATION}
+	 * @return a reusable client assertion cache
+	 */
+	public static ClientAssertionCache reusable(final Duration expirationMargin) {
+		Objects.requireNonNull(expirationMargin, "expirationMargin cannot be null");
+		if (expirationMargin.isNegative() || expirationMargin.compareTo(OAuth2ApiClient.CLIENT_ASSERTION_EXPIRATION) >= 0) {
+			throw new IllegalArgumentException("expirationMargin must be between zero and the client assertion expiration "
+					+ OAuth2ApiClient.CLIENT_ASSERTION_EXPIRATION + " (exclusive), got: " + expirationMargin);
+		}
+		return new ClientAssertionCache(true, expirationMargin, null);
+	}
+
+	/**
+	 * Returns the assertion to send for the given client authentication method, signing a new one with the given factory
+	 * if none can be used. The factory is also kept to pre-sign the next assertion for this method, see
+	 * {@link #preSign()}.
+	 *
+	 * @param method the client authentication method
+	 * @param factory the factory which signs a new assertion
+	 * @return the assertion to send
+	 */
+	public String get(final ClientAuthenticationMethod method, final Supplier<ClientAssertion> factory) {
+		Entry entry = entries.computeIfAbsent(method, m -> new Entry());
+		if (reusable) {
+			return getReusable(entry, factory).value();
+		}
+		entry.factory = factory;
+		ClientAssertion assertion = takePreSigned(entry);
+		if (null == assertion) {
+			assertion = factory.get();
+		}
+		return assertion.value();
+	}
+
+	/**
+	 * Starts signing the next assertion in the background for every client authentication method used so far, unless one
+	 * is already signed or being signed. Call it shortly before the next token request is expected: a pre-signed
+	 * assertion is only handed out while it doesn't expire in less than the expiration margin. Does nothing if the cache
+	 * doesn't pre-sign assertions.
+	 */
+	public void preSign() {
+		if (null == preSignExecutor) {
+			return;
+		}
+		entries.forEach((method, entry) -> {
+			Supplier<ClientAssertion> factory = entry.factory;
+			if (null != factory) {
+				preSign(entry, method, factory);
+			}
+		});
+	}
+
+	/**
+	 * Returns the cached assertion if it can still be sent, otherwise a new signed assertion which replaces it.
+	 *
+	 * @param entry the cache entry
+	 * @param factory the factory which signs a new assertion
+	 * @return the assertion to send
+	 */
+	private ClientAssertion getReusable(final Entry entry, final Supplier<ClientAssertion> factory) {
+		ClientAssertion assertion = entry.current;
+		if (isUsable(assertion)) {
+			return assertion;
+		}
+		synchronized (entry) {
+			assertion = entry.current;
+			if (!isUsable(assertion)) {
+				assertion = factory.get();
+				entry.current = assertion;
+			}
+			return assertion;
+		}
+	}
+
+	/**
+	 * Removes and returns the pre-signed assertion, waiting for it if it is still being signed. Returns {@code null} when
+	 * there is no pre-signed assertion, when pre-signing failed or when the pre-signed assertion is about to expire.
+	 *
+	 * @param entry the cache entry
+	 * @return the pre-signed assertion or {@code null}
+	 */
+	private ClientAssertion takePreSigned(final Entry entry) {
+		CompletableFuture<ClientAssertion> next;
+		synchronized (entry) {
+			next = entry.next;
+			entry.next = null;
+		}
+		if (null == next) {
+			return null;
+		}
+		try {
+			ClientAssertion assertion = next.join();
+			return isUsable(assertion) ? assertion : null;
+		} catch (Exception e) {
+			LOGGER.debug("Client assertion pre-signing failed, signing a new one.", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Starts signing the next assertion in the background if it isn't already.
+	 *
+	 * @param entry the cache entry
+	 * @param method the client authentication method
+	 * @param factory the factory which signs a new assertion
+	 */
+	private void preSign(final Entry entry, final ClientAuthenticationMethod method, final Supplier<ClientAssertion> factory) {
+		synchronized (entry) {
+			if (null != entry.next) {
+				return;
+			}
+			try {
+				entry.next = CompletableFuture.supplyAsync(factory, preSignExecutor);
+			} catch (RejectedExecutionException e) {
+				LOGGER.debug("Client assertion pre-signing rejected for: {}", method, e);
+			}
+		}
+	}
+
+	/**
+	 * Returns true if the given assertion exists and doesn't expire in less than the expiration margin.
+	 *
+	 * @param assertion the assertion
+	 * @return true if the assertion can be sent
+	 */
+	private boolean isUsable(final ClientAssertion assertion) {
+		return null != assertion && assertion.isUsable(Instant.now(), expirationMargin);
+	}
+
+	/**
+	 * Removes all the cached and pre-signed assertions, for example after the signing key changed.
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Returns true if the assertions can be sent more than once.
+	 *
+	 * @return true if the assertions can be sent more than once
+	 */
+	public boolean isReusable() {
+		return reusable;
+	}
+
+	/**
+	 * Returns the minimum remaining validity of an assertion for it to be sent.
+	 *
+	 * @return the expiration margin
+	 */
+	public Duration getExpirationMargin() {
+		return expirationMargin;
+	}
+
+	/**
+	 * Returns true if the next assertion is signed in the background.
+	 *
+	 * @return true if assertions are pre-signed
+	 */
+	public boolean isPreSigning() {
+		return null != preSignExecutor;
+	}
+
+	/**
+	 * Cache entry for one client authentication method.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private static class Entry {
+
+		/**
+		 * The current assertion for reusable caches.
+		 */
+		private volatile ClientAssertion current;
+
+		/**
+		 * The next assertion being signed or already signed for pre-signing caches.
+		 */
+		private CompletableFuture<ClientAssertion> next;
+
+		/**
+		 * The factory which signs a new assertion for single use caches, used to pre-sign the next assertion.
+		 */
+		private volatile Supplier<ClientAssertion> factory;
+	}
+}
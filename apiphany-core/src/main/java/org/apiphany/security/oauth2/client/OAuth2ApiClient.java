@@ -9,9 +9,11 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 import org.apiphany.ApiClient;
+import org.apiphany.ParameterFunction;
 import org.apiphany.RequestParameters;
 import org.apiphany.client.ExchangeClient;
 import org.apiphany.client.ExchangeClientBuilder;
@@ -21,7 +23,6 @@ import org.apiphany.json.JsonBuilder;
 import org.apiphany.lang.Strings;
 import org.apiphany.security.AuthenticationException;
 import org.apiphany.security.AuthenticationToken;
-import org.apiphany.security.AuthenticationTokenProvider;
 import org.apiphany.security.JwsAlgorithm;
 import org.apiphany.security.MessageDigestAlgorithm;
 import org.apiphany.security.Signer;
@@ -31,6 +32,8 @@ import org.apiphany.security.oauth2.ClientAuthenticationMethod;
 import org.apiphany.security.oauth2.OAuth2ClientRegistration;
 import org.apiphany.security.oauth2.OAuth2Parameter;
 import org.apiphany.security.oauth2.OAuth2ProviderDetails;
+import org.apiphany.security.oauth2.OAuth2ScopedTokenClient;
+import org.apiphany.security.oauth2.OAuth2TokenKey;
 import org.morphix.lang.resource.ScopedResource;
 
 /**
@@ -41,13 +44,18 @@ import org.morphix.lang.resource.ScopedResource;
  *
  * @author Radu Sebastian LAZIN
  */
-public class OAuth2ApiClient extends ApiClient implements AuthenticationTokenProvider {
+public class OAuth2ApiClient extends ApiClient implements OAuth2ScopedTokenClient {
 
 	/**
 	 * The base64 no padding URL encoder.
 	 */
 	private static final Base64.Encoder BASE64_URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
 
+	/**
+	 * The validity of the client assertions.
+	 */
+	public static final Duration CLIENT_ASSERTION_EXPIRATION = Duration.ofMinutes(5);
+
 	/**
 	 * Configuration for the OAuth2 client registration.
 	 */
@@ -68,6 +76,12 @@ public class OAuth2ApiClient extends ApiClient implements AuthenticationTokenPro
 	 */
 	private JwsAlgorithm signingAlgorithm;
 
+	/**
+	 * The client assertion cache used with {@link ClientAuthenticationMethod#CLIENT_SECRET_JWT} and
+	 * {@link ClientAuthenticationMethod#PRIVATE_KEY_JWT}.
+	 */
+	private ClientAssertionCache clientAssertionCache = ClientAssertionCache.singleUse();
+
 	/**
 	 * Constructs a new OAuth2 API client with the specified configurations.
 	 *
@@ -165,6 +179,27 @@ public class OAuth2ApiClient extends ApiClient implements AuthenticationTokenPro
 		return getAuthenticationToken(clientRegistration.getClientAuthenticationMethod());
 	}
 
+	/**
+	 * Retrieves an authentication token for the given scopes, audience and resource.
+	 *
+	 * @see OAuth2ScopedTokenClient#getAuthenticationToken(OAuth2TokenKey)
+	 */
+	@Override
+	public AuthenticationToken getAuthenticationToken(final OAuth2TokenKey tokenKey) {
+		return getAuthenticationToken(clientRegistration.getClientAuthenticationMethod(), tokenKey);
+	}
+
+	/**
+	 * Pre-signs the next client assertion when the client assertion cache pre-signs assertions.
+	 *
+	 * @see OAuth2ScopedTokenClient#prepareTokenRequest()
+	 * @see ClientAssertionCache#preSign()
+	 */
+	@Override
+	public void prepareTokenRequest() {
+		clientAssertionCache.preSign();
+	}
+
 	/**
 	 * Retrieves a standard authentication token.
 	 *
@@ -172,29 +207,58 @@ public class OAuth2ApiClient extends ApiClient implements AuthenticationTokenPro
 	 * @return the authentication token, or null if the request fails
 	 */
 	public AuthenticationToken getAuthenticationToken(final ClientAuthenticationMethod method) {
+		return getAuthenticationToken(method, OAuth2TokenKey.DEFAULT);
+	}
+
+	/**
+	 * Retrieves an authentication token for the given scopes, audience and resource.
+	 *
+	 * @param method OAuth2 client authentication method
+	 * @param tokenKey the token key
+	 * @return the authentication token, or null if the request fails
+	 */
+	public AuthenticationToken getAuthenticationToken(final ClientAuthenticationMethod method, final OAuth2TokenKey tokenKey) {
 		AuthorizationGrantType grantType = clientRegistration.getAuthorizationGrantType();
 		if (AuthorizationGrantType.CLIENT_CREDENTIALS != grantType) {
 			throw new UnsupportedOperationException("Unsupported authorization grant type: " + grantType);
 		}
+		ParameterFunction tokenKeyParameters = tokenKeyParameters(null == tokenKey ? OAuth2TokenKey.DEFAULT : tokenKey);
 		return switch (method) {
 			case null -> throw new IllegalArgumentException("Client authentication method must not be null in client registration");
-			case CLIENT_SECRET_BASIC -> getTokenWithClientSecretBasic();
-			case CLIENT_SECRET_POST -> getTokenWithClientSecretPost();
-			case CLIENT_SECRET_JWT -> getTokenWithClientSecretJwt();
-			case PRIVATE_KEY_JWT -> getTokenWithPrivateKeyJwt();
+			case CLIENT_SECRET_BASIC -> getTokenWithClientSecretBasic(tokenKeyParameters);
+			case CLIENT_SECRET_POST -> getTokenWithClientSecretPost(tokenKeyParameters);
+			case CLIENT_SECRET_JWT -> getTokenWithClientSecretJwt(tokenKeyParameters);
+			case PRIVATE_KEY_JWT -> getTokenWithPrivateKeyJwt(tokenKeyParameters);
 			default -> throw new UnsupportedOperationException("Unsupported client authentication method: " + method);
 		};
 	}
 
+	/**
+	 * Returns the parameters function which adds the {@code scope}, {@code audience} and {@code resource} parameters for
+	 * the given token key, parameters without value are not added.
+	 *
+	 * @param tokenKey the token key
+	 * @return the token key parameters function
+	 */
+	private static ParameterFunction tokenKeyParameters(final OAuth2TokenKey tokenKey) {
+		return map -> {
+			parameter(OAuth2Parameter.SCOPE, tokenKey.scope()).putInto(map);
+			parameter(OAuth2Parameter.AUDIENCE, tokenKey.audience()).putInto(map);
+			parameter(OAuth2Parameter.RESOURCE, tokenKey.resource()).putInto(map);
+		};
+	}
+
 	/**
 	 * Returns the authentication token with {@link ClientAuthenticationMethod#CLIENT_SECRET_BASIC} method.
 	 *
+	 * @param tokenKeyParameters the token key parameters function
 	 * @return the authentication token with `client_secret_basic` method
 	 */
-	private AuthenticationToken getTokenWithClientSecretBasic() {
+	private AuthenticationToken getTokenWithClientSecretBasic(final ParameterFunction tokenKeyParameters) {
 		var params = RequestParameters.of(
 				parameter(OAuth2Parameter.GRANT_TYPE, clientRegistration.getAuthorizationGrantType()),
-				parameter(OAuth2Parameter.EXPIRES_IN, OAuth2Parameter.Default.EXPIRES_IN.toSeconds()));
+				parameter(OAuth2Parameter.EXPIRES_IN, OAuth2Parameter.Default.EXPIRES_IN.toSeconds()),
+				parameter(tokenKeyParameters));
 
 		return client()
 				.http()
@@ -210,14 +274,16 @@ public class OAuth2ApiClient extends ApiClient implements AuthenticationTokenPro
 	/**
 	 * Returns the authentication token with {@link ClientAuthenticationMethod#CLIENT_SECRET_POST} method.
 	 *
+	 * @param tokenKeyParameters the token key parameters function
 	 * @return the authentication token with `client_secret_post` method
 	 */
-	private AuthenticationToken getTokenWithClientSecretPost() {
+	private AuthenticationToken getTokenWithClientSecretPost(final ParameterFunction tokenKeyParameters) {
 		var params = RequestParameters.of(
 				parameter(OAuth2Parameter.GRANT_TYPE, clientRegistration.getAuthorizationGrantType()),
 				parameter(OAuth2Parameter.EXPIRES_IN, OAuth2Parameter.Default.EXPIRES_IN.toSeconds()),
 				parameter(OAuth2Parameter.CLIENT_ID, clientRegistration.getClientId()),
-				parameter(OAuth2Parameter.CLIENT_SECRET, clientRegistration.getClientSecret()));
+				parameter(OAuth2Parameter.CLIENT_SECRET, clientRegistration.getClientSecret()),
+				parameter(tokenKeyParameters));
 
 		return client()
 				.http()
@@ -232,19 +298,23 @@ public class OAuth2ApiClient extends ApiClient implements AuthenticationTokenPro
 	/**
 	 * Returns the authentication token with {@link ClientAuthenticationMethod#CLIENT_SECRET_JWT}.
 	 *
+	 * @param tokenKeyParameters the token key parameters function
 	 * @return the authentication token with `client_secret_jwt` method
 	 */
-	private AuthenticationToken getTokenWithClientSecretJwt() {
-		String clientAssertion = buildClientAssertionHmac(
-				clientRegistration.getClientId(),
-				providerDetails.getTokenUri(),
-				clientRegistration.getClientSecret());
+	private AuthenticationToken getTokenWithClientSecretJwt(final ParameterFunction tokenKeyParameters) {
+		String clientAssertion = clientAssertionCache.get(ClientAuthenticationMethod.CLIENT_SECRET_JWT,
+				() -> buildClientAssertionHmac(
+						clientRegistration.getClientId(),
+						providerDetails.getTokenUri(),
+						clientRegistration.getClientSecret(),
+						Instant.now()));
 
 		var params = RequestParameters.of(
 				parameter(OAuth2Parameter.GRANT_TYPE, clientRegistration.getAuthorizationGrantType()),
 				parameter(OAuth2Parameter.CLIENT_ASSERTION_TYPE, "urn:ietf:params:oauth:client-assertion-type:jwt-bearer"),
 				parameter(OAuth2Parameter.CLIENT_ASSERTION, clientAssertion),
-				parameter(OAuth2Parameter.EXPIRES_IN, OAuth2Parameter.Default.EXPIRES_IN.toSeconds()));
+				parameter(OAuth2Parameter.EXPIRES_IN, OAuth2Parameter.Default.EXPIRES_IN.toSeconds()),
+				parameter(tokenKeyParameters));
 
 		return client()
 				.http()
@@ -259,21 +329,25 @@ public class OAuth2ApiClient extends ApiClient implements AuthenticationTokenPro
 	/**
 	 * Returns the authentication token with {@link ClientAuthenticationMethod#PRIVATE_KEY_JWT}.
 	 *
+	 * @param tokenKeyParameters the token key parameters function
 	 * @return the authentication token with `private_key_jwt`.
 	 */
-	private AuthenticationToken getTokenWithPrivateKeyJwt() {
+	private AuthenticationToken getTokenWithPrivateKeyJwt(final ParameterFunction tokenKeyParameters) {
 		// build a JWT signed with client private key (RSA or EC)
-		String clientAssertion = buildClientAssertionPrivateKey(
-				clientRegistration.getClientId(),
-				providerDetails.getTokenUri(),
-				privateKey,
-				signingAlgorithm);
+		String clientAssertion = clientAssertionCache.get(ClientAuthenticationMethod.PRIVATE_KEY_JWT,
+				() -> buildClientAssertionPrivateKey(
+						clientRegistration.getClientId(),
+						providerDetails.getTokenUri(),
+						privateKey,
+						signingAlgorithm,
+						Instant.now()));
 
 		var params = RequestParameters.of(
 				parameter(OAuth2Parameter.GRANT_TYPE, clientRegistration.getAuthorizationGrantType()),
 				parameter(OAuth2Parameter.CLIENT_ASSERTION_TYPE, "urn:ietf:params:oauth:client-assertion-type:jwt-bearer"),
 				parameter(OAuth2Parameter.CLIENT_ASSERTION, clientAssertion),
-				parameter(OAuth2Parameter.EXPIRES_IN, OAuth2Parameter.Default.EXPIRES_IN.toSeconds()));
+				parameter(OAuth2Parameter.EXPIRES_IN, OAuth2Parameter.Default.EXPIRES_IN.toSeconds()),
+				parameter(tokenKeyParameters));
 
 		return client()
 				.http()
@@ -294,8 +368,22 @@ public class OAuth2ApiClient extends ApiClient implements AuthenticationTokenPro
 	 * @return the client assertion HMAC
 	 */
 	public static String buildClientAssertionHmac(final String clientId, final String tokenEndpoint, final String clientSecret) {
+		return buildClientAssertionHmac(clientId, tokenEndpoint, clientSecret, Instant.now()).value();
+	}
+
+	/**
+	 * Returns the client assertion HMAC issued at the given time.
+	 *
+	 * @param clientId the client ID
+	 * @param tokenEndpoint the token end point
+	 * @param clientSecret the client secret
+	 * @param issuedAt the issue time
+	 * @return the client assertion HMAC
+	 */
+	public static ClientAssertion buildClientAssertionHmac(final String clientId, final String tokenEndpoint, final String clientSecret,
+			final Instant issuedAt) {
 		Map<String, Object> header = Map.of("alg", "HS256", "typ", "JWT");
-		Map<String, Object> claims = defaultClaims(clientId, tokenEndpoint);
+		Map<String, Object> claims = defaultClaims(clientId, tokenEndpoint, issuedAt);
 
 		String headerJson = Strings.removeAllWhitespace(JsonBuilder.toJson(header));
 		String payloadJson = Strings.removeAllWhitespace(JsonBuilder.toJson(claims));
@@ -308,7 +396,7 @@ public class OAuth2ApiClient extends ApiClient implements AuthenticationTokenPro
 		byte[] signature = MessageDigestAlgorithm.SHA256.hmac(clientSecret.getBytes(charset), signingInput.getBytes(charset));
 		String signatureB64 = BASE64_URL_ENCODER.encodeToString(signature);
 
-		return String.join(".", signingInput, signatureB64);
+		return new ClientAssertion(String.join(".", signingInput, signatureB64), expiration(issuedAt));
 	}
 
 	/**
@@ -322,8 +410,23 @@ public class OAuth2ApiClient extends ApiClient implements AuthenticationTokenPro
 	 */
 	public static String buildClientAssertionPrivateKey(final String clientId, final String tokenEndpoint, final PrivateKey privateKey,
 			final JwsAlgorithm algorithm) {
+		return buildClientAssertionPrivateKey(clientId, tokenEndpoint, privateKey, algorithm, Instant.now()).value();
+	}
+
+	/**
+	 * Returns the client assertion private key issued at the given time.
+	 *
+	 * @param clientId the client ID
+	 * @param tokenEndpoint the token end point
+	 * @param privateKey the private key
+	 * @param algorithm the algorithm to sign with
+	 * @param issuedAt the issue time
+	 * @return the client assertion private key
+	 */
+	public static ClientAssertion buildClientAssertionPrivateKey(final String clientId, final String tokenEndpoint,
+			final PrivateKey privateKey, final JwsAlgorithm algorithm, final Instant issuedAt) {
 		Map<String, Object> header = Map.of("alg", algorithm, "typ", "JWT");
-		Map<String, Object> claims = defaultClaims(clientId, tokenEndpoint);
+		Map<String, Object> claims = defaultClaims(clientId, tokenEndpoint, issuedAt);
 
 		String headerJson = Strings.removeAllWhitespace(JsonBuilder.toJson(header));
 		String payloadJson = Strings.removeAllWhitespace(JsonBuilder.toJson(claims));
@@ -336,7 +439,7 @@ public class OAuth2ApiClient extends ApiClient implements AuthenticationTokenPro
 		byte[] signature = Signer.sign(privateKey, algorithm, signingInput.getBytes(charset));
 		String signatureB64 = BASE64_URL_ENCODER.encodeToString(signature);
 
-		return String.join(".", signingInput, signatureB64);
+		return new ClientAssertion(String.join(".", signingInput, signatureB64), expiration(issuedAt));
 	}
 
 	/**
@@ -344,18 +447,47 @@ public class OAuth2ApiClient extends ApiClient implements AuthenticationTokenPro
 	 *
 	 * @param clientId the client ID
 	 * @param tokenEndpoint the token end point
+	 * @param issuedAt the issue time
 	 * @return the JWT default claims map
 	 */
-	private static Map<String, Object> defaultClaims(final String clientId, final String tokenEndpoint) {
-		Duration defaultExpiration = Duration.ofMinutes(5);
-		Instant now = Instant.now();
+	private static Map<String, Object> defaultClaims(final String clientId, final String tokenEndpoint, final Instant issuedAt) {
 		return Map.of(
 				"iss", clientId,
 				"sub", clientId,
 				"aud", tokenEndpoint,
 				"jti", UUID.randomUUID().toString(),
-				"iat", now.getEpochSecond(),
-				"exp", now.plusSeconds(defaultExpiration.toSeconds()).getEpochSecond());
+				"iat", issuedAt.getEpochSecond(),
+				"exp", expiration(issuedAt).getEpochSecond());
+	}
+
+	/**
+	 * Returns the expiration of a client assertion issued at the given time, truncated to seconds as in the JWT
+	 * {@code exp} claim.
+	 *
+	 * @param issuedAt the issue time
+	 * @return the client assertion expiration
+	 */
+	private static Instant expiration(final Instant issuedAt) {
+		return Instant.ofEpochSecond(issuedAt.plus(CLIENT_ASSERTION_EXPIRATION).getEpochSecond());
+	}
+
+	/**
+	 * Sets the client assertion cache used with {@link ClientAuthenticationMethod#CLIENT_SECRET_JWT} and
+	 * {@link ClientAuthenticationMethod#PRIVATE_KEY_JWT}, by default a new assertion is signed for every token request.
+	 *
+	 * @param clientAssertionCache the client assertion cache
+	 */
+	public void setClientAssertionCache(final ClientAssertionCache clientAssertionCache) {
+		this.clientAssertionCache = Objects.requireNonNull(clientAssertionCache, "clientAssertionCache cannot be null");
+	}
+
+	/**
+	 * Returns the client assertion cache.
+	 *
+	 * @return the client assertion cache
+	 */
+	public ClientAssertionCache getClientAssertionCache() {
+		return clientAssertionCache;
 	}
 
 	/**
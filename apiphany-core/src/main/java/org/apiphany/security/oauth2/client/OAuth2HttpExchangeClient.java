@@ -219,6 +219,31 @@ public class OAuth2HttpExchangeClient extends TokenHttpExchangeClient {
 		return super.getAuthenticationToken();
 	}
 
+	/**
+	 * Returns true when this client has a token provider which can replace a rejected token.
+	 *
+	 * @see TokenHttpExchangeClient#canReplay()
+	 */
+	@Override
+	protected boolean canReplay() {
+		return null != tokenProvider;
+	}
+
+	/**
+	 * Invalidates the rejected token in the token provider which refreshes it, concurrent invalidations of the same token
+	 * result in a single refresh.
+	 *
+	 * @see TokenHttpExchangeClient#invalidateAuthenticationToken(AuthenticationToken)
+	 * @see OAuth2TokenProvider#invalidateAuthenticationToken(AuthenticationToken)
+	 */
+	@Override
+	protected boolean invalidateAuthenticationToken(final AuthenticationToken rejectedToken) {
+		if (null != tokenProvider) {
+			return tokenProvider.invalidateAuthenticationToken(rejectedToken);
+		}
+		return super.invalidateAuthenticationToken(rejectedToken);
+	}
+
 	/**
 	 * Returns the client that retrieves the tokens.
 	 *
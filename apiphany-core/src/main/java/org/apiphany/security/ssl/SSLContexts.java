@@ -2,20 +2,33 @@ package org.apiphany.security.ssl;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
 
 import org.apiphany.io.ResourceLocation;
 import org.apiphany.lang.Strings;
 import org.apiphany.logging.Slf4jLoggerAdapter;
+import org.apiphany.security.MessageDigestAlgorithm;
 import org.morphix.lang.JavaArrays;
 import org.morphix.lang.Nullables;
 import org.morphix.lang.function.LoggerAdapter;
@@ -33,6 +46,19 @@ public final class SSLContexts {
 	 */
 	private static final LoggerAdapter LOGGER = Slf4jLoggerAdapter.of(SSLContexts.class);
 
+	/**
+	 * The maximum number of shared SSL contexts, when the limit is reached new SSL contexts are created without sharing
+	 * them until contexts are removed with {@link #invalidateShared(SSLProperties)} or {@link #clearShared()}.
+	 */
+	public static final int MAX_SHARED_CONTEXTS = 64;
+
+	/**
+	 * The process wide shared SSL contexts, keyed by the normalized SSL properties. Only the latest context is kept for
+	 * each key, a context is replaced when the last modified time or the size of its external key store or trust store
+	 * change.
+	 */
+	private static final Map<SharedKey, SharedContext> SHARED_CONTEXTS = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates a new SSL context based on the provided properties.
 	 *
@@ -43,12 +69,87 @@ public final class SSLContexts {
 		try {
 			SSLContext sslContext = SSLContext.getInstance(sslProperties.getProtocol().value());
 			SSLContexts.initialize(sslContext, sslProperties.getKeystore(), sslProperties.getTruststore());
+			configureSessions(sslContext, sslProperties.getSessionCacheSize(), sslProperties.getSessionTimeout());
 			return sslContext;
 		} catch (Exception e) {
 			throw new SecurityException("Error initializing SSL context", e);
 		}
 	}
 
+	/**
+	 * Returns the SSL context for the given properties. When {@link SSLProperties#isShared()} is true, the same SSL context
+	 * is returned for all equal properties (protocol, store location, type, algorithm, password and session settings) as
+	 * long as the external key store and trust store files are not modified, so the stores are loaded only once and TLS
+	 * sessions can be resumed across all the clients using it. Class path stores are considered unchanged. Otherwise, or
+	 * when {@link #MAX_SHARED_CONTEXTS} is reached, a new SSL context is created, see {@link #create(SSLProperties)}.
+	 *
+	 * @param sslProperties SSL properties
+	 * @return the shared SSL context or a new one if sharing is disabled
+	 */
+	public static SSLContext shared(final SSLProperties sslProperties) {
+		if (null == sslProperties || !sslProperties.isShared()) {
+			return create(sslProperties);
+		}
+		SharedKey key = SharedKey.of(sslProperties);
+		StoreStamp keystoreStamp = StoreStamp.of(sslProperties.getKeystore());
+		StoreStamp truststoreStamp = StoreStamp.of(sslProperties.getTruststore());
+		SharedContext sharedContext = SHARED_CONTEXTS.get(key);
+		if (null == sharedContext || sharedContext.isStale(keystoreStamp, truststoreStamp)) {
+			if (null == sharedContext && SHARED_CONTEXTS.size() >= MAX_SHARED_CONTEXTS) {
+				LOGGER.debug("Maximum number of shared SSL contexts reached ({}), creating an SSL context which is not shared.",
+						MAX_SHARED_CONTEXTS);
+				return create(sslProperties);
+			}
+			sharedContext = SHARED_CONTEXTS.compute(key, (k, existing) -> {
+				if (null != existing && !existing.isStale(keystoreStamp, truststoreStamp)) {
+					return existing;
+				}
+				return new SharedContext(keystoreStamp, truststoreStamp);
+			});
+		}
+		return sharedContext.sslContext(sslProperties);
+	}
+
+	/**
+	 * Removes the shared SSL context for the given properties, the next {@link #shared(SSLProperties)} call with equal
+	 * properties creates a new one. The clients already using the shared SSL context keep using it.
+	 *
+	 * @param sslProperties SSL properties
+	 */
+	public static void invalidateShared(final SSLProperties sslProperties) {
+		if (null != sslProperties) {
+			SHARED_CONTEXTS.remove(SharedKey.of(sslProperties));
+		}
+	}
+
+	/**
+	 * Removes all the shared SSL contexts, the next {@link #shared(SSLProperties)} calls create new ones. The clients
+	 * already using a shared SSL context keep using it.
+	 */
+	public static void clearShared() {
+		SHARED_CONTEXTS.clear();
+	}
+
+	/**
+	 * Configures the client TLS session cache of the given SSL context, {@code null} values keep the JDK defaults.
+	 *
+	 * @param sslContext the initialized SSL context
+	 * @param sessionCacheSize the maximum number of cached sessions
+	 * @param sessionTimeout the cached session timeout
+	 */
+	public static void configureSessions(final SSLContext sslContext, final Integer sessionCacheSize, final Duration sessionTimeout) {
+		SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+		if (null == sessionContext) {
+			return;
+		}
+		if (null != sessionCacheSize) {
+			sessionContext.setSessionCacheSize(sessionCacheSize);
+		}
+		if (null != sessionTimeout) {
+			sessionContext.setSessionTimeout(Math.toIntExact(sessionTimeout.toSeconds()));
+		}
+	}
+
 	/**
 	 * Initializes a {@link SSLContext}.
 	 *
@@ -217,6 +318,184 @@ public final class SSLContexts {
 		throw Constructors.unsupportedOperationException();
 	}
 
+	/**
+	 * The key of a shared SSL context.
+	 *
+	 * @param protocol the SSL protocol
+	 * @param keystore the normalized key store
+	 * @param truststore the normalized trust store
+	 * @param sessionCacheSize the session cache size
+	 * @param sessionTimeout the session timeout
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record SharedKey(SSLProtocol protocol, StoreKey keystore, StoreKey truststore, Integer sessionCacheSize,
+			Duration sessionTimeout) {
+
+		/**
+		 * Returns the shared key for the given SSL properties.
+		 *
+		 * @param sslProperties the SSL properties
+		 * @return the shared key
+		 */
+		static SharedKey of(final SSLProperties sslProperties) {
+			return new SharedKey(sslProperties.getProtocol(), StoreKey.of(sslProperties.getKeystore()),
+					StoreKey.of(sslProperties.getTruststore()), sslProperties.getSessionCacheSize(), sslProperties.getSessionTimeout());
+		}
+	}
+
+	/**
+	 * The normalized store information part of a shared SSL context key, the password is kept only as a SHA-256 hash.
+	 *
+	 * @param location the store location
+	 * @param type the upper case store type
+	 * @param algorithm the factory algorithm
+	 * @param external true if the store is loaded from the file system
+	 * @param passwordHash the password hash
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record StoreKey(String location, String type, String algorithm, boolean external, String passwordHash) {
+
+		/**
+		 * Returns the store key for the given store information, {@code null} if no store is configured.
+		 *
+		 * @param storeInfo the store information
+		 * @return the store key
+		 */
+		static StoreKey of(final StoreInfo storeInfo) {
+			if (null == storeInfo || Strings.isEmpty(storeInfo.getLocation())) {
+				return null;
+			}
+			return new StoreKey(storeInfo.getLocation().strip(),
+					Nullables.apply(storeInfo.getType(), type -> type.strip().toUpperCase(Locale.ROOT)),
+					storeInfo.getAlgorithm(),
+					storeInfo.isExternal(),
+					passwordHash(storeInfo.getPassword()));
+		}
+
+		/**
+		 * Returns the SHA-256 hash of the given password.
+		 *
+		 * @param password the password
+		 * @return the password hash, {@code null} for no password
+		 */
+		private static String passwordHash(final char[] password) {
+			if (null == password || password.length == 0) {
+				return null;
+			}
+			ByteBuffer buffer = StandardCharsets.UTF_8.encode(CharBuffer.wrap(password));
+			byte[] bytes = new byte[buffer.remaining()];
+			buffer.get(bytes);
+			try {
+				return HexFormat.of().formatHex(MessageDigestAlgorithm.SHA256.digest(bytes));
+			} finally {
+				Arrays.fill(bytes, (byte) 0);
+				Arrays.fill(buffer.array(), (byte) 0);
+			}
+		}
+	}
+
+	/**
+	 * The last modified time and size of an external store file, used to detect that a shared SSL context is stale without
+	 * reading the store.
+	 *
+	 * @param lastModified the last modified time in milliseconds
+	 * @param size the file size in bytes
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private record StoreStamp(long lastModified, long size) {
+
+		/**
+		 * Returns the stamp of the given store, {@code null} if no store is configured or the store is loaded from the class
+		 * path since class path resources don't change.
+		 *
+		 * @param storeInfo the store information
+		 * @return the store stamp
+		 */
+		static StoreStamp of(final StoreInfo storeInfo) {
+			if (null == storeInfo || !storeInfo.isExternal() || Strings.isEmpty(storeInfo.getLocation())) {
+				return null;
+			}
+			Path path = Path.of(storeInfo.getLocation());
+			try {
+				return new StoreStamp(Files.getLastModifiedTime(path).toMillis(), Files.size(path));
+			} catch (IOException e) {
+				throw new SecurityException("Error loading key store: " + storeInfo.getLocation(), e);
+			}
+		}
+	}
+
+	/**
+	 * A shared SSL context with the stamps of its stores. The SSL context is created on first use outside of the shared
+	 * contexts map so that loading the stores doesn't block the other map updates.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private static final class SharedContext {
+
+		/**
+		 * The key store stamp.
+		 */
+		private final StoreStamp keystoreStamp;
+
+		/**
+		 * The trust store stamp.
+		 */
+		private final StoreStamp truststoreStamp;
+
+		/**
+		 * The SSL context, {@code null} until created.
+		 */
+		private volatile SSLContext sslContext;
+
+		/**
+		 * Constructs the object.
+		 *
+		 * @param keystoreStamp the key store stamp
+		 * @param truststoreStamp the trust store stamp
+		 */
+		private SharedContext(final StoreStamp keystoreStamp, final StoreStamp truststoreStamp) {
+			this.keystoreStamp = keystoreStamp;
+			this.truststoreStamp = truststoreStamp;
+		}
+
+		/**
+		 * Returns true if the given stamps are different from the stamps of this context.
+		 *
+		 * @param keystoreStamp the current key store stamp
+		 * @param truststoreStamp the current trust store stamp
+		 * @return true if the stores changed since this context was created
+		 */
+		private boolean isStale(final StoreStamp keystoreStamp, final StoreStamp truststoreStamp) {
+			return !Objects.equals(this.keystoreStamp, keystoreStamp) || !Objects.equals(this.truststoreStamp, truststoreStamp);
+		}
+
+		/**
+		 * Returns the SSL context, creating it from the given properties on first call.
+		 *
+		 * @param sslProperties the SSL properties
+		 * @return the SSL context
+		 */
+		private SSLContext sslContext(final SSLProperties sslProperties) {
+			SSLContext result = sslContext;
+			if (null == result) {
+				synchronized (this) {
+					result = sslContext;
+					if (null == result) {
+						LOGGER.debug("Creating shared SSL context for key store: {}, trust store: {}",
+								Nullables.apply(sslProperties.getKeystore(), StoreInfo::getDisplayLocation),
+								Nullables.apply(sslProperties.getTruststore(), StoreInfo::getDisplayLocation));
+						result = create(sslProperties);
+						sslContext = result;
+					}
+				}
+			}
+			return result;
+		}
+	}
+
 	/**
 	 * Returns a new {@link SSLContextBuilder} for fluently building {@link SSLContext} instances.
 	 *
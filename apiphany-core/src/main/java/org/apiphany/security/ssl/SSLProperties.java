@@ -1,5 +1,7 @@
 package org.apiphany.security.ssl;
 
+import java.time.Duration;
+
 import org.apiphany.client.ClientProperties;
 import org.apiphany.json.JsonBuilder;
 import org.apiphany.lang.Strings;
@@ -30,6 +32,10 @@ import org.morphix.lang.Nullables;
  * </pre>
  *
  * This would set the SSL protocol to TLS 1.2 and similarly for key store and trust store configurations.
+ * <p>
+ * By default the SSL contexts are shared, all clients configured with equal properties and the same key store and
+ * trust store contents use the same {@link javax.net.ssl.SSLContext} so the stores are loaded only once and the TLS
+ * sessions can be resumed across clients, see {@link SSLContexts#shared(SSLProperties)}.
  *
  * @author Radu Sebastian LAZIN
  */
@@ -56,6 +62,23 @@ public class SSLProperties {
 	 */
 	private StoreInfo truststore = new StoreInfo();
 
+	/**
+	 * Flag indicating whether the SSL context is shared with all the clients having the same SSL properties. Defaults to
+	 * {@code true}.
+	 */
+	private boolean shared = true;
+
+	/**
+	 * The maximum number of client TLS sessions cached for resumption, {@code null} to use the JDK default and {@code 0} for
+	 * no limit.
+	 */
+	private Integer sessionCacheSize;
+
+	/**
+	 * The time after which a cached client TLS session can no longer be resumed, {@code null} to use the JDK default.
+	 */
+	private Duration sessionTimeout;
+
 	/**
 	 * Default constructor.
 	 */
@@ -156,4 +179,58 @@ public class SSLProperties {
 	public void setProtocol(final SSLProtocol protocol) {
 		this.protocol = protocol;
 	}
+
+	/**
+	 * Returns true if the SSL context is shared with all the clients having the same SSL properties.
+	 *
+	 * @return true if the SSL context is shared
+	 */
+	public boolean isShared() {
+		return shared;
+	}
+
+	/**
+	 * Sets whether the SSL context is shared with all the clients having the same SSL properties.
+	 *
+	 * @param shared true to share the SSL context
+	 */
+	public void setShared(final boolean shared) {
+		this.shared = shared;
+	}
+
+	/**
+	 * Gets the maximum number of cached client TLS sessions.
+	 *
+	 * @return the session cache size, {@code null} if the JDK default is used
+	 */
+	public Integer getSessionCacheSize() {
+		return sessionCacheSize;
+	}
+
+	/**
+	 * Sets the maximum number of cached client TLS sessions.
+	 *
+	 * @param sessionCacheSize the session cache size, {@code null} to use the JDK default and {@code 0} for no limit
+	 */
+	public void setSessionCacheSize(final Integer sessionCacheSize) {
+		this.sessionCacheSize = sessionCacheSize;
+	}
+
+	/**
+	 * Gets the cached client TLS session timeout.
+	 *
+	 * @return the session timeout, {@code null} if the JDK default is used
+	 */
+	public Duration getSessionTimeout() {
+		return sessionTimeout;
+	}
+
+	/**
+	 * Sets the cached client TLS session timeout.
+	 *
+	 * @param sessionTimeout the session timeout, {@code null} to use the JDK default
+	 */
+	public void setSessionTimeout(final Duration sessionTimeout) {
+		this.sessionTimeout = sessionTimeout;
+	}
 }
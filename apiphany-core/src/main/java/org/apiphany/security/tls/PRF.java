@@ -4,9 +4,9 @@ import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 
 import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 
 import org.apiphany.lang.Bytes;
+import org.apiphany.security.CryptoPrimitives;
 import org.apiphany.security.MessageDigestAlgorithm;
 
 /**
@@ -92,8 +92,7 @@ public interface PRF {
 	 * @throws GeneralSecurityException if cryptographic operations fail
 	 */
 	static byte[] pHash(final byte[] secret, final byte[] seed, final int length, final String algorithm) throws GeneralSecurityException {
-		Mac mac = Mac.getInstance(algorithm);
-		mac.init(new SecretKeySpec(secret, algorithm));
+		Mac mac = CryptoPrimitives.mac(algorithm, secret);
 
 		byte[] a = seed;
 		byte[] result = new byte[length];
@@ -1,30 +1,78 @@
 package org.apiphany.security.token.client;
 
+import java.io.InputStream;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Supplier;
 
+import org.apiphany.ApiRequest;
+import org.apiphany.ApiResponse;
 import org.apiphany.client.DecoratingExchangeClient;
 import org.apiphany.client.ExchangeClient;
 import org.apiphany.header.HeaderValues;
+import org.apiphany.header.Headers;
+import org.apiphany.http.HttpHeader;
+import org.apiphany.http.HttpStatus;
+import org.apiphany.logging.Slf4jLoggerAdapter;
+import org.apiphany.meters.MeterCounter;
+import org.apiphany.meters.MeterFactory;
 import org.apiphany.security.AuthenticationToken;
 import org.apiphany.security.AuthenticationTokenProvider;
 import org.apiphany.security.AuthenticationType;
 import org.apiphany.security.AuthorizationHeaderProvider;
+import org.apiphany.security.client.AuthenticatedExchangeClient;
 import org.apiphany.security.client.http.AuthorizationHttpExchangeClient;
+import org.apiphany.security.http.AuthenticationChallenges;
 import org.apiphany.security.http.HttpAuthenticationScheme;
 import org.apiphany.security.token.TokenProperties;
 import org.morphix.lang.Nullables;
+import org.morphix.lang.function.LoggerAdapter;
 import org.morphix.lang.resource.ScopedResource;
 
 /**
  * Authorizes all requests with the provided token and authorization scheme in the client properties. Base class for all
  * clients that need to add authorization/authentication headers to the request. It delegates all calls to the
  * underlying exchange client.
+ * <p>
+ * When a request is rejected with {@code 401 Unauthorized} and a {@code WWW-Authenticate} challenge containing the
+ * {@code invalid_token} error (RFC 6750), the rejected token is invalidated (see
+ * {@link #invalidateAuthenticationToken(AuthenticationToken)}) and, if a new token is available, the request is replayed
+ * exactly once with the new token. Only clients that can replace their token replay requests (see {@link #canReplay()}),
+ * requests with an {@link InputStream} body cannot be replayed and streamed requests are not replayed. The replayed
+ * requests are counted by the {@link #REPLAY_METER_NAME} counter tagged with the client name.
  *
  * @author Radu Sebastian LAZIN
  */
 public class TokenHttpExchangeClient extends DecoratingExchangeClient implements AuthorizationHttpExchangeClient, AuthenticationTokenProvider {
 
+	/**
+	 * The class logger.
+	 */
+	private static final LoggerAdapter LOGGER = Slf4jLoggerAdapter.of(TokenHttpExchangeClient.class);
+
+	/**
+	 * The bearer token error signaling an expired, revoked or otherwise invalid token (RFC 6750).
+	 */
+	public static final String INVALID_TOKEN_ERROR = "invalid_token";
+
+	/**
+	 * The {@code WWW-Authenticate} challenge parameter holding the bearer token error (RFC 6750).
+	 */
+	public static final String ERROR_PARAMETER = "error";
+
+	/**
+	 * The name of the counter for the requests replayed after their token was rejected.
+	 */
+	public static final String REPLAY_METER_NAME = "apiphany.token.replay";
+
+	/**
+	 * The tag key for the client name on the replay counter.
+	 */
+	public static final String CLIENT_TAG = "client";
+
 	/**
 	 * The authentication token.
 	 */
@@ -40,6 +88,17 @@ public class TokenHttpExchangeClient extends DecoratingExchangeClient implements
 	 */
 	private Supplier<Instant> defaultExpirationSupplier;
 
+	/**
+	 * The counter for the requests replayed after the token was rejected.
+	 */
+	private MeterCounter replayCounter;
+
+	/**
+	 * The Authorization header rendered for the last token, rendered again only when the token or the authentication
+	 * scheme change.
+	 */
+	private volatile AuthorizationHeader authorizationHeader;
+
 	/**
 	 * Initialize the client with the given exchange client delegate.
 	 *
@@ -49,6 +108,7 @@ public class TokenHttpExchangeClient extends DecoratingExchangeClient implements
 		super(exchangeClient);
 
 		this.defaultExpirationSupplier = Instant::now;
+		setMeterFactory(MeterFactory.instance());
 		initialize();
 	}
 
@@ -88,13 +148,149 @@ public class TokenHttpExchangeClient extends DecoratingExchangeClient implements
 		return AuthenticationType.TOKEN;
 	}
 
+	/**
+	 * Exchanges the request and replays it once with a new token if the token was rejected, see
+	 * {@link #isTokenRejected(ApiResponse)}.
+	 *
+	 * @see AuthenticatedExchangeClient#exchange(ApiRequest)
+	 */
+	@Override
+	public <T, U> ApiResponse<U> exchange(final ApiRequest<T> apiRequest) {
+		if (!canReplay() || !isReplayable(apiRequest)) {
+			return AuthorizationHttpExchangeClient.super.exchange(apiRequest);
+		}
+		List<String> existingAuthorization = apiRequest.getHeaders().get(HttpHeader.AUTHORIZATION.value());
+		List<String> authorization = null != existingAuthorization ? new ArrayList<>(existingAuthorization) : null;
+		AuthenticationToken token = getAuthenticationToken();
+		ApiResponse<U> apiResponse = AuthorizationHttpExchangeClient.super.exchange(apiRequest);
+		if (!isTokenRejected(apiResponse) || !invalidateAuthenticationToken(token)) {
+			return apiResponse;
+		}
+		replayCounter.increment();
+		LOGGER.debug("[{}] Token was rejected, replaying request with a new token.", getName());
+		restoreAuthorization(apiRequest.getHeaders(), authorization);
+		return AuthorizationHttpExchangeClient.super.exchange(apiRequest);
+	}
+
+	/**
+	 * Returns true if this client can replace a rejected token, meaning that requests rejected because of their token can
+	 * be replayed. The token of this client is static so this method returns false and the requests are exchanged without
+	 * any overhead, subclasses overriding {@link #invalidateAuthenticationToken(AuthenticationToken)} should override this
+	 * method too.
+	 *
+	 * @return true if rejected requests can be replayed with a new token
+	 */
+	protected boolean canReplay() {
+		return false;
+	}
+
+	/**
+	 * Returns true if the given request can be replayed, requests with an {@link InputStream} body can only be sent once
+	 * and streamed requests are not replayed.
+	 *
+	 * @param <T> request body type
+	 *
+	 * @param apiRequest the API request
+	 * @return true if the request can be replayed
+	 */
+	protected <T> boolean isReplayable(final ApiRequest<T> apiRequest) {
+		return !apiRequest.isStream() && !(apiRequest.getBody() instanceof InputStream);
+	}
+
+	/**
+	 * Returns true if the response signals that the token used for the request was rejected, meaning the status is
+	 * {@code 401 Unauthorized} and the {@link #ERROR_PARAMETER} of a {@code WWW-Authenticate} challenge with the
+	 * authentication scheme of this client is the {@link #INVALID_TOKEN_ERROR} error (RFC 6750 section 3).
+	 *
+	 * @param <U> response body type
+	 *
+	 * @param apiResponse the API response
+	 * @return true if the token was rejected
+	 */
+	protected <U> boolean isTokenRejected(final ApiResponse<U> apiResponse) {
+		if (null == apiResponse || HttpStatus.UNAUTHORIZED.getCode() != apiResponse.getStatusCode()) {
+			return false;
+		}
+		for (String challenge : Headers.get(HttpHeader.WWW_AUTHENTICATE, apiResponse.getHeaders())) {
+			String error = AuthenticationChallenges.getParameter(challenge, getAuthenticationScheme(), ERROR_PARAMETER);
+			if (INVALID_TOKEN_ERROR.equals(error)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Invalidates the given token because it was rejected by the server and returns true if a new token is available so
+	 * that the request can be replayed. The token of this client is static so it cannot be replaced and this method always
+	 * returns false, subclasses that can refresh tokens should override it.
+	 *
+	 * @param rejectedToken the rejected token
+	 * @return true if a new token is available, false otherwise
+	 */
+	protected boolean invalidateAuthenticationToken(final AuthenticationToken rejectedToken) {
+		return false;
+	}
+
+	/**
+	 * Restores the Authorization header of the request before a replay, so that only the new token is added to the
+	 * request. All the other headers are left as they are.
+	 *
+	 * @param headers the request headers
+	 * @param authorization the Authorization header values before the first exchange, null if the header was missing
+	 */
+	private static void restoreAuthorization(final Map<String, List<String>> headers, final List<String> authorization) {
+		if (null == authorization) {
+			headers.remove(HttpHeader.AUTHORIZATION.value());
+		} else {
+			headers.put(HttpHeader.AUTHORIZATION.value(), authorization);
+		}
+	}
+
+	/**
+	 * Returns the counter for the requests replayed after their token was rejected.
+	 *
+	 * @return the replay counter
+	 */
+	public MeterCounter getReplayCounter() {
+		return replayCounter;
+	}
+
+	/**
+	 * Sets the meter factory used to create the replay counter, see {@link #REPLAY_METER_NAME}.
+	 *
+	 * @param meterFactory the meter factory
+	 */
+	public void setMeterFactory(final MeterFactory meterFactory) {
+		Objects.requireNonNull(meterFactory, "Meter factory cannot be null");
+		this.replayCounter = meterFactory.counter(REPLAY_METER_NAME, CLIENT_TAG, getName());
+	}
+
 	/**
 	 * @see AuthorizationHeaderProvider#getAuthorizationHeader()
 	 */
 	@Override
 	public String getAuthorizationHeader() {
+		return getAuthorizationHeaderValues().getFirst();
+	}
+
+	/**
+	 * Returns the Authorization header values for the current token. The header value is rendered once for each token,
+	 * the same immutable list is returned until the token, its access token or the authentication scheme change.
+	 *
+	 * @see AuthorizationHttpExchangeClient#getAuthorizationHeaderValues()
+	 */
+	@Override
+	public List<String> getAuthorizationHeaderValues() {
 		AuthenticationToken token = getAuthenticationToken();
-		return HeaderValues.value(getAuthenticationScheme(), token.getAccessToken());
+		String accessToken = token.getAccessToken();
+		HttpAuthenticationScheme scheme = getAuthenticationScheme();
+		AuthorizationHeader header = authorizationHeader;
+		if (null == header || !header.isRenderedFrom(token, accessToken, scheme)) {
+			header = new AuthorizationHeader(token, accessToken, scheme);
+			authorizationHeader = header;
+		}
+		return header.values;
 	}
 
 	/**
@@ -162,4 +358,58 @@ public class TokenHttpExchangeClient extends DecoratingExchangeClient implements
 	public void setAuthenticationScheme(final HttpAuthenticationScheme authenticationScheme) {
 		this.authenticationScheme = authenticationScheme;
 	}
+
+	/**
+	 * Authorization header rendered for a token, the token is compared by identity since tokens are replaced on refresh.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	private static final class AuthorizationHeader {
+
+		/**
+		 * The token the header was rendered from.
+		 */
+		private final AuthenticationToken token;
+
+		/**
+		 * The access token the header was rendered from.
+		 */
+		private final String accessToken;
+
+		/**
+		 * The authentication scheme the header was rendered with.
+		 */
+		private final HttpAuthenticationScheme scheme;
+
+		/**
+		 * The immutable header values.
+		 */
+		private final List<String> values;
+
+		/**
+		 * Renders the Authorization header for the given token.
+		 *
+		 * @param token the token
+		 * @param accessToken the access token of the token
+		 * @param scheme the authentication scheme
+		 */
+		private AuthorizationHeader(final AuthenticationToken token, final String accessToken, final HttpAuthenticationScheme scheme) {
+			this.token = token;
+			this.accessToken = accessToken;
+			this.scheme = scheme;
+			this.values = List.of(HeaderValues.value(scheme, accessToken));
+		}
+
+		/**
+		 * Returns true if this header was rendered from the given values.
+		 *
+		 * @param token the token
+		 * @param accessToken the access token of the token
+		 * @param scheme the authentication scheme
+		 * @return true if this header was rendered from the given values
+		 */
+		private boolean isRenderedFrom(final AuthenticationToken token, final String accessToken, final HttpAuthenticationScheme scheme) {
+			return this.token == token && this.accessToken == accessToken && this.scheme == scheme; // NOSONAR identity on purpose
+		}
+	}
 }
@@ -0,0 +1,57 @@
+package org.apiphany.tracing;
+
+/**
+ * Head-based sampler, decides once per trace, when the root span is created, if the trace is recorded or not. Unsampled
+ * traces are still propagated to downstream services (with the sampled flag off) so that the whole trace gets the same
+ * decision, but their spans record nothing locally.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+@FunctionalInterface
+public interface Sampler {
+
+	/**
+	 * Sampler that records all traces.
+	 */
+	Sampler ALWAYS = traceId -> true;
+
+	/**
+	 * Sampler that records no traces.
+	 */
+	Sampler NEVER = traceId -> false;
+
+	/**
+	 * Returns true if the trace with the given identifier should be recorded.
+	 *
+	 * @param traceId the trace identifier
+	 * @return true if the trace is sampled
+	 */
+	boolean isSampled(String traceId);
+
+	/**
+	 * Returns a sampler that records the given ratio of traces. The decision is derived from the lower 64 bits of the trace
+	 * identifier, so the same trace identifier always gets the same decision with the same ratio, which keeps the decision
+	 * consistent between services using the same ratio even when the sampled flag is not propagated.
+	 *
+	 * @param ratio the ratio of traces to record, between {@code 0.0} and {@code 1.0}
+	 * @return a ratio based sampler
+	 * @throws IllegalArgumentException if the ratio is not between {@code 0.0} and {@code 1.0}
+	 */
+	static Sampler ratio(final double ratio) {
+		if (ratio < 0.0 || ratio > 1.0) {
+			throw new IllegalArgumentException("Sampling ratio must be between 0.0 and 1.0, got: " + ratio);
+		}
+		if (ratio == 0.0) {
+			return NEVER;
+		}
+		if (ratio == 1.0) {
+			return ALWAYS;
+		}
+		long upperBound = (long) (ratio * Long.MAX_VALUE);
+		return traceId -> {
+			int length = traceId.length();
+			long lowBits = Long.parseUnsignedLong(traceId, Math.max(0, length - TraceContext.SPAN_ID_LENGTH), length, 16);
+			return (lowBits >>> 1) < upperBound;
+		};
+	}
+}
@@ -0,0 +1,261 @@
+package org.apiphany.tracing;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apiphany.lang.Strings;
+import org.morphix.reflection.Constructors;
+
+/**
+ * A span represents a single timed operation in a trace, for example a client exchange or a retry attempt of an
+ * exchange.
+ * <p>
+ * Only sampled spans record anything: unsampled spans keep just their {@link TraceContext} so that the context can be
+ * propagated downstream, tags and errors are ignored and no timing is done, making them almost free. Spans are not
+ * thread safe, a span is meant to be used by the thread that started it.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class Span {
+
+	/**
+	 * Namespace for the tag keys used on exchange spans.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	public static class Tag {
+
+		/**
+		 * The request method tag key.
+		 */
+		public static final String METHOD = "http.request.method";
+
+		/**
+		 * The URL template tag key.
+		 */
+		public static final String URL_TEMPLATE = "url.template";
+
+		/**
+		 * The response status code tag key.
+		 */
+		public static final String STATUS_CODE = "http.response.status_code";
+
+		/**
+		 * The attempt number tag key, retries have attempt numbers greater than 1.
+		 */
+		public static final String ATTEMPT = "attempt";
+
+		/**
+		 * Private constructor to prevent instantiation.
+		 */
+		private Tag() {
+			throw Constructors.unsupportedOperationException();
+		}
+	}
+
+	/**
+	 * The no-op span, returned when tracing is disabled. It has no context, so it is never propagated.
+	 */
+	public static final Span NOOP = new Span(null, null, null);
+
+	/**
+	 * The tracer that started this span.
+	 */
+	private final Tracer tracer;
+
+	/**
+	 * The span name.
+	 */
+	private final String name;
+
+	/**
+	 * The trace context of this span.
+	 */
+	private final TraceContext context;
+
+	/**
+	 * The wall clock start time, only set for sampled spans.
+	 */
+	private final Instant startTime;
+
+	/**
+	 * The monotonic start time in nanoseconds, only set for sampled spans.
+	 */
+	private final long startNanos;
+
+	/**
+	 * The span duration, set when the span ends.
+	 */
+	private Duration duration;
+
+	/**
+	 * The span tags, created on the first tag.
+	 */
+	private Map<String, String> tags;
+
+	/**
+	 * The error that ended this span, if any.
+	 */
+	private Throwable error;
+
+	/**
+	 * Constructs a span.
+	 *
+	 * @param tracer the tracer that started the span
+	 * @param name the span name
+	 * @param context the trace context of the span
+	 */
+	protected Span(final Tracer tracer, final String name, final TraceContext context) {
+		this.tracer = tracer;
+		this.name = name;
+		this.context = context;
+		boolean recording = isRecording();
+		this.startTime = recording ? Instant.now() : null;
+		this.startNanos = recording ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Returns true if this span records data, meaning it has a context and the trace is sampled.
+	 *
+	 * @return true if this span records data
+	 */
+	public boolean isRecording() {
+		return null != context && context.sampled();
+	}
+
+	/**
+	 * Adds a tag to this span. Tags with {@code null} values and tags on spans that are not recording are ignored.
+	 *
+	 * @param key the tag key
+	 * @param value the tag value
+	 * @return this span
+	 */
+	public Span tag(final String key, final Object value) {
+		if (!isRecording() || null == value) {
+			return this;
+		}
+		if (null == tags) {
+			tags = new LinkedHashMap<>();
+		}
+		tags.put(key, Strings.safeToString(value));
+		return this;
+	}
+
+	/**
+	 * Marks this span as failed with the given error. The error is ignored on spans that are not recording.
+	 *
+	 * @param error the error
+	 * @return this span
+	 */
+	public Span error(final Throwable error) {
+		if (isRecording()) {
+			this.error = error;
+		}
+		return this;
+	}
+
+	/**
+	 * Ends this span and hands it to the tracer's {@link SpanHandler}. Only the first call has an effect and only sampled
+	 * spans are handed over.
+	 */
+	public void end() {
+		if (!isRecording() || isEnded()) {
+			return;
+		}
+		this.duration = Duration.ofNanos(System.nanoTime() - startNanos);
+		tracer.getSpanHandler().onEnd(this);
+	}
+
+	/**
+	 * Makes this span the current span on the calling thread until the returned scope is closed. The no-op span does not
+	 * change the current span.
+	 *
+	 * @return the scope which restores the previous current span when closed
+	 */
+	public Tracer.Scope makeCurrent() {
+		return Tracer.scope(this);
+	}
+
+	/**
+	 * Returns true if the span ended.
+	 *
+	 * @return true if the span ended
+	 */
+	public boolean isEnded() {
+		return null != duration;
+	}
+
+	/**
+	 * Returns the tracer that started this span.
+	 *
+	 * @return the tracer
+	 */
+	public Tracer getTracer() {
+		return tracer;
+	}
+
+	/**
+	 * Returns the span name.
+	 *
+	 * @return the span name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the trace context, {@code null} for the {@link #NOOP} span.
+	 *
+	 * @return the trace context
+	 */
+	public TraceContext getContext() {
+		return context;
+	}
+
+	/**
+	 * Returns the wall clock start time, {@code null} for spans that are not recording.
+	 *
+	 * @return the start time
+	 */
+	public Instant getStartTime() {
+		return startTime;
+	}
+
+	/**
+	 * Returns the span duration, {@code null} if the span did not end or is not recording.
+	 *
+	 * @return the span duration
+	 */
+	public Duration getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Returns the span tags.
+	 *
+	 * @return the span tags
+	 */
+	public Map<String, String> getTags() {
+		return null != tags ? Collections.unmodifiableMap(tags) : Collections.emptyMap();
+	}
+
+	/**
+	 * Returns the error that ended this span, {@code null} if none.
+	 *
+	 * @return the error
+	 */
+	public Throwable getError() {
+		return error;
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "Span{name=" + name + ", context=" + context + ", duration=" + duration + ", tags=" + getTags() + "}";
+	}
+}
@@ -0,0 +1,25 @@
+package org.apiphany.tracing;
+
+/**
+ * Handles finished spans, for example by logging them or by exporting them to a tracing backend. The handler is only
+ * called for sampled spans.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+@FunctionalInterface
+public interface SpanHandler {
+
+	/**
+	 * Span handler that ignores all finished spans.
+	 */
+	SpanHandler NOOP = span -> {
+		// empty
+	};
+
+	/**
+	 * Called when a sampled span ends.
+	 *
+	 * @param span the finished span
+	 */
+	void onEnd(Span span);
+}
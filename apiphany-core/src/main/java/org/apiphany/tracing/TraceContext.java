@@ -0,0 +1,246 @@
+package org.apiphany.tracing;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apiphany.lang.Strings;
+
+/**
+ * Immutable trace context, the data that is propagated from one service to another for a span. The identifiers are
+ * lower case hexadecimal strings as defined by the W3C Trace Context specification: a 128-bit (32 characters) trace
+ * identifier and a 64-bit (16 characters) span identifier.
+ * <p>
+ * The sampling decision is taken once when the root context is created (head-based sampling) and it is inherited by all
+ * child contexts, so that the whole trace is either recorded or not.
+ *
+ * @param traceId the trace identifier (32 lower case hexadecimal characters)
+ * @param spanId the span identifier (16 lower case hexadecimal characters)
+ * @param parentSpanId the parent span identifier, {@code null} for root spans
+ * @param sampled the sampling decision
+ * @param traceState the W3C trace state, vendor specific key/value pairs, can be {@code null}
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public record TraceContext(String traceId, String spanId, String parentSpanId, boolean sampled, String traceState) {
+
+	/**
+	 * The W3C trace parent version supported.
+	 */
+	public static final String VERSION = "00";
+
+	/**
+	 * The length of the trace identifier in hexadecimal characters.
+	 */
+	public static final int TRACE_ID_LENGTH = 32;
+
+	/**
+	 * The length of the span identifier in hexadecimal characters.
+	 */
+	public static final int SPAN_ID_LENGTH = 16;
+
+	/**
+	 * The W3C trace parent length: {@code version-traceId-spanId-flags}.
+	 */
+	private static final int TRACE_PARENT_LENGTH = 2 + 1 + TRACE_ID_LENGTH + 1 + SPAN_ID_LENGTH + 1 + 2;
+
+	/**
+	 * The W3C sampled flag.
+	 */
+	private static final String SAMPLED_FLAGS = "01";
+
+	/**
+	 * The W3C not sampled flag.
+	 */
+	private static final String NOT_SAMPLED_FLAGS = "00";
+
+	/**
+	 * Lower case hexadecimal characters.
+	 */
+	private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+	/**
+	 * Canonical constructor with validation.
+	 *
+	 * @param traceId the trace identifier (32 lower case hexadecimal characters)
+	 * @param spanId the span identifier (16 lower case hexadecimal characters)
+	 * @param parentSpanId the parent span identifier, {@code null} for root spans
+	 * @param sampled the sampling decision
+	 * @param traceState the W3C trace state, can be {@code null}
+	 */
+	public TraceContext {
+		Objects.requireNonNull(traceId, "traceId cannot be null");
+		Objects.requireNonNull(spanId, "spanId cannot be null");
+	}
+
+	/**
+	 * Creates a new root trace context with new trace and span identifiers.
+	 *
+	 * @param sampler the sampler taking the sampling decision for the new trace
+	 * @return a new root trace context
+	 */
+	public static TraceContext root(final Sampler sampler) {
+		String traceId = newTraceId();
+		return new TraceContext(traceId, newSpanId(), null, sampler.isSampled(traceId), null);
+	}
+
+	/**
+	 * Creates a child trace context which has the same trace identifier, sampling decision and trace state, a new span
+	 * identifier and this context span identifier as parent span identifier.
+	 *
+	 * @return a child trace context
+	 */
+	public TraceContext child() {
+		return new TraceContext(traceId, newSpanId(), spanId, sampled, traceState);
+	}
+
+	/**
+	 * Returns the W3C {@code traceparent} header value for this context.
+	 *
+	 * @return the trace parent header value
+	 */
+	public String toTraceParent() {
+		return new StringBuilder(TRACE_PARENT_LENGTH)
+				.append(VERSION).append('-')
+				.append(traceId).append('-')
+				.append(spanId).append('-')
+				.append(sampled ? SAMPLED_FLAGS : NOT_SAMPLED_FLAGS)
+				.toString();
+	}
+
+	/**
+	 * Parses a W3C {@code traceparent} header value. The returned context is the remote parent context, so a child context
+	 * should be created from it for the local span. Invalid values return {@code null}, as the specification requires that
+	 * an invalid trace parent is ignored and a new trace is started.
+	 *
+	 * @param traceParent the trace parent header value
+	 * @param traceState the trace state header value, can be {@code null}
+	 * @return the parsed trace context, or {@code null} if the value is not valid
+	 */
+	public static TraceContext fromTraceParent(final String traceParent, final String traceState) {
+		if (null == traceParent || traceParent.length() < TRACE_PARENT_LENGTH) {
+			return null;
+		}
+		int traceIdStart = 3;
+		int spanIdStart = traceIdStart + TRACE_ID_LENGTH + 1;
+		int flagsStart = spanIdStart + SPAN_ID_LENGTH + 1;
+		if (traceParent.charAt(2) != '-' || traceParent.charAt(spanIdStart - 1) != '-' || traceParent.charAt(flagsStart - 1) != '-') {
+			return null;
+		}
+		String traceId = traceParent.substring(traceIdStart, traceIdStart + TRACE_ID_LENGTH);
+		String spanId = traceParent.substring(spanIdStart, spanIdStart + SPAN_ID_LENGTH);
+		String flags = traceParent.substring(flagsStart, flagsStart + 2);
+		if (!isValidId(traceId, TRACE_ID_LENGTH) || !isValidId(spanId, SPAN_ID_LENGTH) || !isHex(flags)) {
+			return null;
+		}
+		boolean sampled = (Character.digit(flags.charAt(1), 16) & 1) == 1;
+		return new TraceContext(traceId, spanId, null, sampled, Strings.isNotEmpty(traceState) ? traceState : null);
+	}
+
+	/**
+	 * Returns a trace context continuing the given trace and span identifiers, for example the ones found in the logging
+	 * MDC. A 64-bit trace identifier is left padded with zeros to 128-bit. The returned context is meant to be used as a
+	 * parent context.
+	 *
+	 * @param traceId the trace identifier (16 or 32 hexadecimal characters)
+	 * @param spanId the span identifier (16 hexadecimal characters)
+	 * @param sampler the sampler taking the sampling decision since it is not known
+	 * @return the trace context, or {@code null} if the identifiers are not valid
+	 */
+	public static TraceContext of(final String traceId, final String spanId, final Sampler sampler) {
+		if (null == traceId || null == spanId) {
+			return null;
+		}
+		String fullTraceId = traceId.length() == SPAN_ID_LENGTH ? "0".repeat(SPAN_ID_LENGTH) + traceId : traceId;
+		String normalizedTraceId = fullTraceId.toLowerCase(Locale.ROOT);
+		String normalizedSpanId = spanId.toLowerCase(Locale.ROOT);
+		if (!isValidId(normalizedTraceId, TRACE_ID_LENGTH) || !isValidId(normalizedSpanId, SPAN_ID_LENGTH)) {
+			return null;
+		}
+		return new TraceContext(normalizedTraceId, normalizedSpanId, null, sampler.isSampled(normalizedTraceId), null);
+	}
+
+	/**
+	 * Returns a new random trace identifier.
+	 *
+	 * @return a new trace identifier
+	 */
+	public static String newTraceId() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long high;
+		long low;
+		do {
+			high = random.nextLong();
+			low = random.nextLong();
+		} while (0 == high && 0 == low);
+		char[] chars = new char[TRACE_ID_LENGTH];
+		writeHex(high, chars, 0);
+		writeHex(low, chars, SPAN_ID_LENGTH);
+		return new String(chars);
+	}
+
+	/**
+	 * Returns a new random span identifier.
+	 *
+	 * @return a new span identifier
+	 */
+	public static String newSpanId() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long id;
+		do {
+			id = random.nextLong();
+		} while (0 == id);
+		char[] chars = new char[SPAN_ID_LENGTH];
+		writeHex(id, chars, 0);
+		return new String(chars);
+	}
+
+	/**
+	 * Writes the 16 hexadecimal characters of the given value in the given array starting at the given offset.
+	 *
+	 * @param value the value to write
+	 * @param chars the destination array
+	 * @param offset the offset in the destination array
+	 */
+	private static void writeHex(final long value, final char[] chars, final int offset) {
+		for (int i = SPAN_ID_LENGTH - 1; i >= 0; --i) {
+			chars[offset + i] = HEX_CHARS[(int) (value >>> ((SPAN_ID_LENGTH - 1 - i) << 2)) & 0xF];
+		}
+	}
+
+	/**
+	 * Returns true if the given identifier has the given length, contains only lower case hexadecimal characters and is
+	 * not all zeros (which is an invalid identifier).
+	 *
+	 * @param id the identifier
+	 * @param length the expected length
+	 * @return true if the identifier is valid
+	 */
+	private static boolean isValidId(final String id, final int length) {
+		if (id.length() != length || !isHex(id)) {
+			return false;
+		}
+		for (int i = 0; i < length; ++i) {
+			if (id.charAt(i) != '0') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns true if the given string contains only lower case hexadecimal characters.
+	 *
+	 * @param value the string to check
+	 * @return true if the string is lower case hexadecimal
+	 */
+	private static boolean isHex(final String value) {
+		for (int i = 0; i < value.length(); ++i) {
+			char c = value.charAt(i);
+			if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
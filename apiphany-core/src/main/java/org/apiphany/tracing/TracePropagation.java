@@ -0,0 +1,68 @@
+package org.apiphany.tracing;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apiphany.header.Header;
+import org.apiphany.header.Headers;
+import org.apiphany.http.TracingHeader;
+
+/**
+ * The formats in which a {@link TraceContext} can be propagated to downstream services as request headers.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public enum TracePropagation {
+
+	/**
+	 * W3C Trace Context propagation: {@code traceparent} and, when present, {@code tracestate}.
+	 */
+	W3C {
+		@Override
+		public Map<String, List<String>> headers(final TraceContext context) {
+			if (null == context) {
+				return Collections.emptyMap();
+			}
+			if (null == context.traceState()) {
+				return Headers.of(Header.of(TracingHeader.W3C_TRACEPARENT, context.toTraceParent()));
+			}
+			return Headers.of(
+					Header.of(TracingHeader.W3C_TRACEPARENT, context.toTraceParent()),
+					Header.of(TracingHeader.W3C_TRACESTATE, context.traceState()));
+		}
+	},
+
+	/**
+	 * B3 multi header propagation: {@code X-B3-TraceId}, {@code X-B3-SpanId}, {@code X-B3-Sampled} and, for child spans,
+	 * {@code X-B3-ParentSpanId}.
+	 */
+	B3 {
+		@Override
+		public Map<String, List<String>> headers(final TraceContext context) {
+			if (null == context) {
+				return Collections.emptyMap();
+			}
+			String sampled = context.sampled() ? "1" : "0";
+			if (null == context.parentSpanId()) {
+				return Headers.of(
+						Header.of(TracingHeader.B3_TRACE_ID, context.traceId()),
+						Header.of(TracingHeader.B3_SPAN_ID, context.spanId()),
+						Header.of(TracingHeader.B3_SAMPLED, sampled));
+			}
+			return Headers.of(
+					Header.of(TracingHeader.B3_TRACE_ID, context.traceId()),
+					Header.of(TracingHeader.B3_SPAN_ID, context.spanId()),
+					Header.of(TracingHeader.B3_PARENT_SPAN_ID, context.parentSpanId()),
+					Header.of(TracingHeader.B3_SAMPLED, sampled));
+		}
+	};
+
+	/**
+	 * Returns the headers propagating the given trace context.
+	 *
+	 * @param context the trace context
+	 * @return the propagation headers, empty if the context is {@code null}
+	 */
+	public abstract Map<String, List<String>> headers(TraceContext context);
+}
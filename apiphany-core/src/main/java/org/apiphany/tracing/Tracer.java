@@ -0,0 +1,252 @@
+package org.apiphany.tracing;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.slf4j.MDC;
+
+/**
+ * Lightweight tracer which starts {@link Span}s, keeps the current span per thread and propagates the current span's
+ * {@link TraceContext} as request headers in the configured {@link TracePropagation} format.
+ * <p>
+ * New spans are children of the current span when there is one, this way nested exchanges (for example token fetches
+ * done while exchanging a request) end up in the same trace. Otherwise, the tracer continues the trace found in the
+ * logging MDC under {@link #MDC_TRACE_ID} and {@link #MDC_SPAN_ID} (if valid) or starts a new trace, the
+ * {@link Sampler} deciding if the new trace is recorded.
+ * <p>
+ * The {@link #NOOP} tracer never starts spans on its own, which is the default so that tracing costs nothing unless
+ * configured.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class Tracer {
+
+	/**
+	 * The MDC key for the trace identifier.
+	 */
+	public static final String MDC_TRACE_ID = "traceId";
+
+	/**
+	 * The MDC key for the span identifier.
+	 */
+	public static final String MDC_SPAN_ID = "spanId";
+
+	/**
+	 * The no-op tracer.
+	 */
+	public static final Tracer NOOP = new Tracer(Sampler.NEVER, TracePropagation.W3C, SpanHandler.NOOP, false);
+
+	/**
+	 * The current span on each thread. The value is always restored or removed when the {@link Scope} is closed.
+	 */
+	private static final ThreadLocal<Span> CURRENT_SPAN = new ThreadLocal<>(); // NOSONAR see JavaDoc
+
+	/**
+	 * A scope during which a span is the current span, closing the scope restores the previous current span.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	@FunctionalInterface
+	public interface Scope extends AutoCloseable {
+
+		/**
+		 * The no-op scope.
+		 */
+		Scope NOOP = () -> {
+			// empty
+		};
+
+		/**
+		 * @see AutoCloseable#close()
+		 */
+		@Override
+		void close();
+	}
+
+	/**
+	 * The head-based sampler.
+	 */
+	private final Sampler sampler;
+
+	/**
+	 * The propagation format.
+	 */
+	private final TracePropagation propagation;
+
+	/**
+	 * The handler for finished sampled spans.
+	 */
+	private final SpanHandler spanHandler;
+
+	/**
+	 * Flag indicating if this tracer starts new traces.
+	 */
+	private final boolean enabled;
+
+	/**
+	 * Constructs a tracer.
+	 *
+	 * @param sampler the head-based sampler
+	 * @param propagation the propagation format
+	 * @param spanHandler the handler for finished sampled spans
+	 * @param enabled true if the tracer starts new traces
+	 */
+	private Tracer(final Sampler sampler, final TracePropagation propagation, final SpanHandler spanHandler, final boolean enabled) {
+		this.sampler = Objects.requireNonNull(sampler, "sampler cannot be null");
+		this.propagation = Objects.requireNonNull(propagation, "propagation cannot be null");
+		this.spanHandler = Objects.requireNonNull(spanHandler, "spanHandler cannot be null");
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Creates a new tracer.
+	 *
+	 * @param sampler the head-based sampler
+	 * @param propagation the propagation format
+	 * @param spanHandler the handler for finished sampled spans
+	 * @return a new tracer
+	 */
+	public static Tracer of(final Sampler sampler, final TracePropagation propagation, final SpanHandler spanHandler) {
+		return new Tracer(sampler, propagation, spanHandler, true);
+	}
+
+	/**
+	 * Creates a new tracer which only propagates the trace context, finished spans are ignored.
+	 *
+	 * @param sampler the head-based sampler
+	 * @param propagation the propagation format
+	 * @return a new tracer
+	 */
+	public static Tracer of(final Sampler sampler, final TracePropagation propagation) {
+		return of(sampler, propagation, SpanHandler.NOOP);
+	}
+
+	/**
+	 * Starts a new span with the given name. The span is a child of the current span if there is one, in which case the
+	 * current span's tracer is used so that the whole trace is handled by the same tracer. The returned span is not made
+	 * current, use {@link Span#makeCurrent()} for that.
+	 *
+	 * @param name the span name
+	 * @return a new span, or {@link Span#NOOP} if this tracer is disabled and there is no current span
+	 */
+	public Span startSpan(final String name) {
+		return startSpan(name, null);
+	}
+
+	/**
+	 * Starts a new span the same way {@link #startSpan(String)} does, but the span name is only built when the span is
+	 * recording. This way unsampled exchanges don't pay for building span names, unsampled spans have a {@code null}
+	 * name.
+	 *
+	 * @param nameSupplier the span name supplier, only called for recording spans
+	 * @return a new span, or {@link Span#NOOP} if this tracer is disabled and there is no current span
+	 */
+	public Span startSpan(final Supplier<String> nameSupplier) {
+		return startSpan(null, nameSupplier);
+	}
+
+	/**
+	 * Starts a new span with the given name or with the name returned by the given supplier if the span is recording.
+	 *
+	 * @param name the span name
+	 * @param nameSupplier the span name supplier, {@code null} to use the given name
+	 * @return a new span, or {@link Span#NOOP} if this tracer is disabled and there is no current span
+	 */
+	private Span startSpan(final String name, final Supplier<String> nameSupplier) {
+		Span parent = currentSpan();
+		Tracer spanTracer;
+		TraceContext context;
+		if (null != parent) {
+			spanTracer = parent.getTracer();
+			context = parent.getContext().child();
+		} else if (!enabled) {
+			return Span.NOOP;
+		} else {
+			spanTracer = this;
+			TraceContext mdcContext = TraceContext.of(MDC.get(MDC_TRACE_ID), MDC.get(MDC_SPAN_ID), sampler);
+			context = null != mdcContext ? mdcContext.child() : TraceContext.root(sampler);
+		}
+		String spanName = null != nameSupplier && context.sampled() ? nameSupplier.get() : name;
+		return new Span(spanTracer, spanName, context);
+	}
+
+	/**
+	 * Returns the propagation headers for the given span.
+	 *
+	 * @param span the span
+	 * @return the propagation headers, empty if the span has no context
+	 */
+	public Map<String, List<String>> headers(final Span span) {
+		return null != span ? propagation.headers(span.getContext()) : Collections.emptyMap();
+	}
+
+	/**
+	 * Returns the current span on the calling thread.
+	 *
+	 * @return the current span, {@code null} if none
+	 */
+	public static Span currentSpan() {
+		return CURRENT_SPAN.get();
+	}
+
+	/**
+	 * Makes the given span the current span on the calling thread until the returned scope is closed. This is useful to
+	 * carry the current span to another thread. A {@code null} span leaves the current span unchanged.
+	 *
+	 * @param span the span
+	 * @return the scope which restores the previous current span when closed
+	 */
+	public static Scope scope(final Span span) {
+		if (null == span || null == span.getContext()) {
+			return Scope.NOOP;
+		}
+		Span previous = CURRENT_SPAN.get();
+		CURRENT_SPAN.set(span);
+		return () -> {
+			if (null == previous) {
+				CURRENT_SPAN.remove();
+			} else {
+				CURRENT_SPAN.set(previous);
+			}
+		};
+	}
+
+	/**
+	 * Returns true if this tracer starts new traces.
+	 *
+	 * @return true if this tracer is enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Returns the sampler.
+	 *
+	 * @return the sampler
+	 */
+	public Sampler getSampler() {
+		return sampler;
+	}
+
+	/**
+	 * Returns the propagation format.
+	 *
+	 * @return the propagation format
+	 */
+	public TracePropagation getPropagation() {
+		return propagation;
+	}
+
+	/**
+	 * Returns the handler for finished sampled spans.
+	 *
+	 * @return the span handler
+	 */
+	public SpanHandler getSpanHandler() {
+		return spanHandler;
+	}
+}
@@ -569,6 +569,71 @@ class ApiClientFluentAdapterTest {
 
 			assertThat(e.getMessage(), equalTo("url cannot be null or empty"));
 		}
+
+		@Test
+		void shouldPopulateUrlAndUrlTemplateWhenSettingUrlTemplate() {
+			String urlTemplate = URL + "/" + USERS + "/{id}";
+			ApiClientFluentAdapter request = ApiClientFluentAdapter.of(apiClient)
+					.urlTemplate(urlTemplate, 123);
+
+			assertThat(request.getUrl(), equalTo(URL + "/" + USERS + "/123"));
+			assertThat(request.getUrlTemplate(), equalTo(urlTemplate));
+			assertTrue(request.hasUrlTemplate());
+		}
+
+		@Test
+		void shouldEncodeUriVariablesWhenSettingUrlTemplateAndEncodingIsTrue() {
+			String urlTemplate = URL + "/" + USERS + "/{id}";
+			ApiClientFluentAdapter request = ApiClientFluentAdapter.of(apiClient)
+					.urlEncoded()
+					.urlTemplate(urlTemplate, "name@example.com");
+
+			assertThat(request.getUrl(), equalTo(URL + "/" + USERS + "/name%40example.com"));
+			assertThat(request.getUrlTemplate(), equalTo(urlTemplate));
+		}
+
+		@SuppressWarnings("resource")
+		@Test
+		void shouldPopulateUrlAndUrlTemplateWhenSettingPathTemplate() {
+			doReturn(URL + "/").when(apiClient).getBaseUrl();
+
+			ApiClientFluentAdapter request = ApiClientFluentAdapter.of(apiClient)
+					.pathTemplate("/" + API + "/" + USERS + "/{id}/", 123);
+
+			assertThat(request.getUrl(), equalTo(URL + "/" + API + "/" + USERS + "/123"));
+			assertThat(request.getUrlTemplate(), equalTo(URL + "/" + API + "/" + USERS + "/{id}"));
+		}
+
+		@Test
+		void shouldResetUrlTemplateWhenSettingUrl() {
+			ApiClientFluentAdapter request = ApiClientFluentAdapter.of(apiClient)
+					.urlTemplate(URL + "/{id}", 1)
+					.url(URL);
+
+			assertThat(request.getUrlTemplate(), nullValue());
+			assertFalse(request.hasUrlTemplate());
+		}
+
+		@Test
+		void shouldPopulateUrlTemplateWhenBuildingWithAnApiRequest() {
+			String urlTemplate = URL + "/" + USERS + "/{id}";
+			ApiClientFluentAdapter request = ApiClientFluentAdapter.of(apiClient)
+					.urlTemplate(urlTemplate, 1);
+
+			ApiClientFluentAdapter result = ApiClientFluentAdapter.of(apiClient)
+					.apiRequest(request);
+
+			assertThat(result.getUrl(), equalTo(URL + "/" + USERS + "/1"));
+			assertThat(result.getUrlTemplate(), equalTo(urlTemplate));
+		}
+
+		@Test
+		void shouldThrowExceptionIfUrlTemplateIsEmpty() {
+			ApiClientFluentAdapter request = ApiClientFluentAdapter.of(apiClient);
+			IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> request.urlTemplate(""));
+
+			assertThat(e.getMessage(), equalTo("urlTemplate cannot be null or empty"));
+		}
 	}
 
 	@Nested
@@ -142,6 +142,16 @@ class ApiClientGenericTypesTest {
 				+ typeObjectField.getName()));
 	}
 
+	@Test
+	void shouldThrowExceptionOnEveryConstructionIfGenericClassIsNotParameterized() {
+		DummyExchangeClient exchangeClient = assertDoesNotThrow(DummyExchangeClient::new);
+
+		assertThrows(IllegalArgumentException.class, () -> new BadApiClient(BASE_URL, exchangeClient));
+		assertThrows(IllegalArgumentException.class, () -> new BadApiClient(BASE_URL, exchangeClient));
+
+		exchangeClient.close();
+	}
+
 	static class DummyExchangeClient implements ExchangeClient {
 
 		@Override
@@ -17,6 +17,7 @@ import java.util.List;
 
 import org.apiphany.client.ExchangeClient;
 import org.apiphany.client.http.HttpExchangeClient;
+import org.apiphany.http.HttpMethod;
 import org.apiphany.http.HttpStatus;
 import org.apiphany.meters.BasicMeters;
 import org.apiphany.meters.MeterCounter;
@@ -328,4 +329,44 @@ class ApiClientMetersTest {
 		verify(latency, times(RETRY_COUNT)).record(any(Duration.class));
 		verify(errors, times(RETRY_COUNT)).increment();
 	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void shouldReturnExchangeTagsWithUrlTemplateMethodAndStatusClass() {
+		ExchangeClient exchangeClient = mock(ExchangeClient.class);
+		doReturn(AuthenticationType.OAUTH2).when(exchangeClient).getAuthenticationType();
+		ApiClient api = ApiClient.of(BASE_URL, exchangeClient);
+
+		ApiClientFluentAdapter request = api.client()
+				.method(HttpMethod.GET)
+				.pathTemplate(PATH_TEST + "/{id}", 123);
+		ApiResponse<Object> response = ApiResponse.builder()
+				.status(HttpStatus.NOT_FOUND)
+				.build();
+
+		List<String> tags = api.exchangeTags(request, response);
+
+		assertThat(tags, equalTo(List.of(
+				BasicMeters.Tag.URI, BASE_URL + "/" + PATH_TEST + "/{id}",
+				BasicMeters.Tag.METHOD, HttpMethod.GET.value(),
+				BasicMeters.Tag.STATUS, "4xx")));
+	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void shouldReturnExchangeTagsWithUnknownValuesWhenInformationIsMissing() {
+		ExchangeClient exchangeClient = mock(ExchangeClient.class);
+		doReturn(AuthenticationType.OAUTH2).when(exchangeClient).getAuthenticationType();
+		ApiClient api = ApiClient.of(BASE_URL, exchangeClient);
+
+		ApiClientFluentAdapter request = api.client()
+				.path(PATH_TEST);
+
+		List<String> tags = api.exchangeTags(request, null);
+
+		assertThat(tags, equalTo(List.of(
+				BasicMeters.Tag.URI, BasicMeters.Tag.UNKNOWN,
+				BasicMeters.Tag.METHOD, BasicMeters.Tag.UNKNOWN,
+				BasicMeters.Tag.STATUS, BasicMeters.Tag.UNKNOWN)));
+	}
 }
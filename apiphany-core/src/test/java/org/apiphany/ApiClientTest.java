@@ -485,4 +485,50 @@ class ApiClientTest {
 
 		assertThat(result, notNullValue());
 	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void shouldBuildRequestTemplatesWithTheBaseUrl() {
+		HttpExchangeClient exchangeClient = mock(HttpExchangeClient.class);
+		doReturn(AuthenticationType.NONE).when(exchangeClient).getAuthenticationType();
+
+		ApiClient api = ApiClient.of(BASE_URL, exchangeClient);
+
+		ApiRequestTemplate<TestDto> template = api.requestTemplate(ApiRequestTemplate.builder(TestDto.class), "/" + PATH_TEST)
+				.build();
+
+		assertThat(template.getUrlTemplate(), equalTo(BASE_URL + "/" + PATH_TEST));
+	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void shouldBuildRequestTemplatesWithTheBaseUrlFromExchangeClientProperties() {
+		HttpExchangeClient exchangeClient = mock(HttpExchangeClient.class);
+		doReturn(AuthenticationType.NONE).when(exchangeClient).getAuthenticationType();
+		ClientProperties clientProperties = new ClientProperties();
+		clientProperties.setBaseUrl(DIFFERENT_BASE_URL);
+		doReturn(clientProperties).when(exchangeClient).getClientProperties();
+
+		ApiClient api = ApiClient.of(BASE_URL, exchangeClient);
+
+		ApiRequestTemplate<TestDto> template = api.requestTemplate(ApiRequestTemplate.builder(TestDto.class), PATH_TEST)
+				.build();
+
+		assertThat(api.resolveBaseUrl(), equalTo(DIFFERENT_BASE_URL));
+		assertThat(template.getUrlTemplate(), equalTo(DIFFERENT_BASE_URL + "/" + PATH_TEST));
+	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void shouldBuildRequestTemplatesWithThePathAsUrlWhenThereIsNoBaseUrl() {
+		HttpExchangeClient exchangeClient = mock(HttpExchangeClient.class);
+		doReturn(AuthenticationType.NONE).when(exchangeClient).getAuthenticationType();
+
+		ApiClient api = ApiClient.of(ApiClient.EMPTY_BASE_URL, exchangeClient);
+
+		ApiRequestTemplate<TestDto> template = api.requestTemplate(ApiRequestTemplate.builder(TestDto.class),
+				BASE_URL + "/" + PATH_TEST).build();
+
+		assertThat(template.getUrlTemplate(), equalTo(BASE_URL + "/" + PATH_TEST));
+	}
 }
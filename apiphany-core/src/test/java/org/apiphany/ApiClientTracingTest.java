@@ -0,0 +1,186 @@
+package org.apiphany;
+
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apiphany.client.ExchangeClient;
+import org.apiphany.security.AuthenticationType;
+import org.apiphany.tracing.Sampler;
+import org.apiphany.tracing.Span;
+import org.apiphany.tracing.TracePropagation;
+import org.apiphany.tracing.Tracer;
+import org.junit.jupiter.api.Test;
+import org.morphix.lang.retry.Retry;
+import org.morphix.lang.retry.WaitCounter;
+
+/**
+ * Test class for {@link ApiClient} tracing.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class ApiClientTracingTest {
+
+	private static final String BASE_URL = "http://localhost";
+	private static final int RETRY_COUNT = 3;
+
+	@Test
+	@SuppressWarnings("resource")
+	void shouldUseNoopTracerByDefault() {
+		ExchangeClient exchangeClient = mock(ExchangeClient.class);
+		doReturn(AuthenticationType.OAUTH2).when(exchangeClient).getAuthenticationType();
+
+		ApiClient api = ApiClient.of(BASE_URL, exchangeClient);
+
+		assertThat(api.getTracer(), sameInstance(Tracer.NOOP));
+	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void shouldSetNoopTracerWhenSettingNullTracer() {
+		ExchangeClient exchangeClient = mock(ExchangeClient.class);
+		doReturn(AuthenticationType.OAUTH2).when(exchangeClient).getAuthenticationType();
+
+		ApiClient api = ApiClient.of(BASE_URL, exchangeClient);
+		api.setTracer(null);
+
+		assertThat(api.getTracer(), sameInstance(Tracer.NOOP));
+	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void shouldNotHaveACurrentSpanDuringExchangeWithNoopTracer() {
+		ExchangeClient exchangeClient = mock(ExchangeClient.class);
+		doReturn(AuthenticationType.OAUTH2).when(exchangeClient).getAuthenticationType();
+
+		ApiClient api = ApiClient.of(BASE_URL, exchangeClient);
+
+		ApiRequest<?> request = mock(ApiRequest.class);
+		doReturn(AuthenticationType.OAUTH2).when(request).getAuthenticationType();
+
+		List<Span> currentSpans = new ArrayList<>();
+		ApiResponse<?> response = mock(ApiResponse.class);
+		doReturn(true).when(response).isSuccessful();
+		doAnswer(invocation -> {
+			currentSpans.add(Tracer.currentSpan());
+			return response;
+		}).when(exchangeClient).exchange(request);
+
+		api.exchange(request);
+
+		assertThat(currentSpans, hasSize(1));
+		assertThat(currentSpans.getFirst(), nullValue());
+		assertThat(Tracer.currentSpan(), nullValue());
+	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void shouldRecordExchangeSpanWithAChildSpanForEachAttempt() {
+		ExchangeClient exchangeClient = mock(ExchangeClient.class);
+		doReturn(AuthenticationType.OAUTH2).when(exchangeClient).getAuthenticationType();
+
+		List<Span> spans = new ArrayList<>();
+		ApiClient api = ApiClient.of(BASE_URL, exchangeClient);
+		api.setTracer(Tracer.of(Sampler.ALWAYS, TracePropagation.W3C, spans::add));
+		api.setRetry(Retry.of(WaitCounter.of(RETRY_COUNT, Duration.ofMillis(1))));
+
+		ApiRequest<?> request = mock(ApiRequest.class);
+		doReturn(AuthenticationType.OAUTH2).when(request).getAuthenticationType();
+
+		List<Span> currentSpans = new ArrayList<>();
+		ApiResponse<?> response = mock(ApiResponse.class);
+		doReturn(false).when(response).isSuccessful();
+		doAnswer(invocation -> {
+			currentSpans.add(Tracer.currentSpan());
+			return response;
+		}).when(exchangeClient).exchange(request);
+
+		api.exchange(request);
+
+		assertThat(spans, hasSize(RETRY_COUNT + 1));
+		Span exchangeSpan = spans.getLast();
+		assertThat(exchangeSpan.getContext().parentSpanId(), nullValue());
+		assertThat(exchangeSpan.getDuration(), notNullValue());
+		for (int i = 0; i < RETRY_COUNT; ++i) {
+			Span attemptSpan = spans.get(i);
+			assertThat(attemptSpan, sameInstance(currentSpans.get(i)));
+			assertThat(attemptSpan.getContext().traceId(), equalTo(exchangeSpan.getContext().traceId()));
+			assertThat(attemptSpan.getContext().parentSpanId(), equalTo(exchangeSpan.getContext().spanId()));
+			assertThat(attemptSpan.getTags().get(Span.Tag.ATTEMPT), equalTo(String.valueOf(i + 1)));
+		}
+		assertThat(Tracer.currentSpan(), nullValue());
+	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void shouldPropagateButNotRecordUnsampledExchanges() {
+		ExchangeClient exchangeClient = mock(ExchangeClient.class);
+		doReturn(AuthenticationType.OAUTH2).when(exchangeClient).getAuthenticationType();
+
+		List<Span> spans = new ArrayList<>();
+		ApiClient api = ApiClient.of(BASE_URL, exchangeClient);
+		api.setTracer(Tracer.of(Sampler.NEVER, TracePropagation.W3C, spans::add));
+		api.setRetry(Retry.of(WaitCounter.of(RETRY_COUNT, Duration.ofMillis(1))));
+
+		ApiRequest<?> request = mock(ApiRequest.class);
+		doReturn(AuthenticationType.OAUTH2).when(request).getAuthenticationType();
+
+		List<Span> currentSpans = new ArrayList<>();
+		ApiResponse<?> response = mock(ApiResponse.class);
+		doReturn(false).when(response).isSuccessful();
+		doAnswer(invocation -> {
+			currentSpans.add(Tracer.currentSpan());
+			return response;
+		}).when(exchangeClient).exchange(request);
+
+		api.exchange(request);
+
+		assertThat(spans, hasSize(0));
+		assertThat(currentSpans, hasSize(RETRY_COUNT));
+		for (Span currentSpan : currentSpans) {
+			assertThat(currentSpan, sameInstance(currentSpans.getFirst()));
+			assertThat(currentSpan.isRecording(), equalTo(false));
+			assertThat(currentSpan.getContext().sampled(), equalTo(false));
+		}
+	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void shouldEndExchangeAndAttemptSpansWithTheErrorWhenTheExchangeThrows() {
+		ExchangeClient exchangeClient = mock(ExchangeClient.class);
+		doReturn(AuthenticationType.OAUTH2).when(exchangeClient).getAuthenticationType();
+
+		List<Span> spans = new ArrayList<>();
+		ApiClient api = ApiClient.of(BASE_URL, exchangeClient);
+		api.setTracer(Tracer.of(Sampler.ALWAYS, TracePropagation.W3C, spans::add));
+
+		ApiRequest<?> request = mock(ApiRequest.class);
+		doReturn(AuthenticationType.OAUTH2).when(request).getAuthenticationType();
+
+		Error error = new Error("Exchange failed");
+		doThrow(error).when(exchangeClient).exchange(request);
+
+		Error result = assertThrows(Error.class, () -> api.exchange(request));
+
+		assertThat(result, sameInstance(error));
+		assertThat(spans, hasSize(2));
+		for (Span span : spans) {
+			assertThat(span.isEnded(), equalTo(true));
+			assertThat(span.getError(), sameInstance(error));
+		}
+		assertThat(spans.getFirst().getContext().parentSpanId(), equalTo(spans.getLast().getContext().spanId()));
+		assertThat(Tracer.currentSpan(), nullValue());
+	}
+}
@@ -0,0 +1,205 @@
+package org.apiphany;
+
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.apiphany.client.http.HttpExchangeClient;
+import org.apiphany.http.HttpHeader;
+import org.apiphany.http.HttpMethod;
+import org.apiphany.http.HttpStatus;
+import org.apiphany.io.ContentType;
+import org.apiphany.security.AuthenticationType;
+import org.apiphany.utils.TestDto;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.morphix.lang.JavaObjects;
+import org.morphix.lang.retry.Retry;
+import org.morphix.reflection.GenericClass;
+
+/**
+ * Test class for {@link ApiRequestTemplate}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class ApiRequestTemplateTest {
+
+	private static final String BASE_URL = "http://localhost";
+	private static final String USERS_PATH = "/users/{id}";
+	private static final String USERS_TEMPLATE = BASE_URL + USERS_PATH;
+	private static final String ID1 = "someTestId1";
+	private static final String ID2 = "someTestId2";
+	private static final int COUNT1 = 666;
+	private static final String PARAM_NAME = "name";
+	private static final String APIPHANY = "Apiphany";
+
+	private static final ApiRequestTemplate<TestDto> GET_TEST_DTO = ApiRequestTemplate.builder(TestDto.class)
+			.method(HttpMethod.GET)
+			.pathTemplate(BASE_URL + "/", USERS_PATH)
+			.header(HttpHeader.ACCEPT, ContentType.APPLICATION_JSON)
+			.header(HttpHeader.USER_AGENT, APIPHANY)
+			.build();
+
+	@Test
+	void shouldBindTheUriVariables() {
+		ApiRequest<TestDto> request = GET_TEST_DTO.bind(ID1);
+
+		assertThat(request.getUrl(), equalTo(BASE_URL + "/users/" + ID1));
+		assertThat(request.getUrlTemplate(), equalTo(USERS_TEMPLATE));
+		assertThat(request.getMethod(), equalTo(HttpMethod.GET));
+		assertThat(request.getClassResponseType(), equalTo(TestDto.class));
+		assertThat(request.getCharset(), equalTo(StandardCharsets.UTF_8));
+		assertThat(request.getParams(), nullValue());
+		assertThat(request.getBody(), nullValue());
+		assertThat(request.getAuthenticationType(), nullValue());
+		assertThat(request.getHeaderValues(HttpHeader.ACCEPT), equalTo(List.of(ContentType.APPLICATION_JSON.toString())));
+		assertThat(request.getHeaderValues(HttpHeader.USER_AGENT), equalTo(List.of(APIPHANY)));
+		assertFalse(request.isUrlEncoded());
+		assertFalse(request.isStream());
+	}
+
+	@Test
+	void shouldCreateANewRequestOnEachBind() {
+		ApiRequest<TestDto> request1 = GET_TEST_DTO.bind(ID1);
+		ApiRequest<TestDto> request2 = GET_TEST_DTO.bind(ID2);
+
+		request1.addHeader(HttpHeader.USER_AGENT, "Other");
+
+		assertThat(request1, not(sameInstance(request2)));
+		assertThat(request2.getUrl(), equalTo(BASE_URL + "/users/" + ID2));
+		assertThat(request2.getHeaderValues(HttpHeader.USER_AGENT), equalTo(List.of(APIPHANY)));
+		assertThat(GET_TEST_DTO.getHeaders().get(HttpHeader.USER_AGENT.value()), equalTo(List.of(APIPHANY)));
+	}
+
+	@Test
+	void shouldNotAllowModificationsOfTheStaticHeaders() {
+		Map<String, List<String>> headers = GET_TEST_DTO.getHeaders();
+		List<String> values = headers.get(HttpHeader.USER_AGENT.value());
+
+		assertThrows(UnsupportedOperationException.class, () -> headers.remove(HttpHeader.USER_AGENT.value()));
+		assertThrows(UnsupportedOperationException.class, () -> values.add("Other"));
+	}
+
+	@Test
+	void shouldBindTheBodyAndTheRequestParameters() {
+		ApiRequestTemplate<TestDto> template = ApiRequestTemplate.builder(TestDto.class)
+				.method(HttpMethod.POST)
+				.urlTemplate(USERS_TEMPLATE)
+				.build();
+		TestDto body = TestDto.of(ID1, COUNT1);
+		Map<String, List<String>> params = Map.of(PARAM_NAME, List.of(APIPHANY));
+
+		ApiRequest<TestDto> request = template.newRequest(body, params, ID1);
+
+		assertThat(request.getBody(), equalTo(body));
+		assertThat(request.getParams(), sameInstance(params));
+		assertThat(request.getMethod(), equalTo(HttpMethod.POST));
+	}
+
+	@Test
+	void shouldEncodeTheUriVariablesAndRequestParametersWhenUrlEncoded() {
+		ApiRequestTemplate<TestDto> template = ApiRequestTemplate.builder(TestDto.class)
+				.urlTemplate(USERS_TEMPLATE)
+				.urlEncoded()
+				.build();
+
+		ApiRequest<TestDto> request = template.bindParams(Map.of(PARAM_NAME, List.of("a b")), "hello world");
+
+		assertThat(request.getUrl(), equalTo(BASE_URL + "/users/hello%20world"));
+		assertThat(request.getParams(), equalTo(Map.of(PARAM_NAME, List.of("a+b"))));
+		assertTrue(request.isUrlEncoded());
+	}
+
+	@Test
+	void shouldKeepTheResolvedSettings() {
+		Retry retry = Retry.defaultRetry();
+		GenericClass<List<TestDto>> responseType = new GenericClass<>() {
+			// empty
+		};
+		ApiRequestTemplate<List<TestDto>> template = ApiRequestTemplate.builder(responseType)
+				.urlTemplate(USERS_TEMPLATE)
+				.retry(retry)
+				.authenticationType(AuthenticationType.SESSION)
+				.stream()
+				.build();
+
+		ApiRequest<List<TestDto>> request = template.bind(ID1);
+
+		assertThat(request.getRetry(), sameInstance(retry));
+		assertThat(request.getAuthenticationType(), equalTo(AuthenticationType.SESSION));
+		assertThat(request.getGenericResponseType(), sameInstance(responseType));
+		assertThat(request.getClassResponseType(), nullValue());
+		assertTrue(request.isStream());
+	}
+
+	@Test
+	void shouldThrowExceptionOnBuildWhenTheUrlTemplateIsMissing() {
+		ApiRequestTemplate.Builder<TestDto> builder = ApiRequestTemplate.builder(TestDto.class);
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, builder::build);
+
+		assertThat(e.getMessage(), equalTo("URI template cannot be null or empty"));
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "resource" })
+	void shouldRetrieveWithTheApiClientUsingTheDefaultAuthenticationType() {
+		HttpExchangeClient exchangeClient = mock(HttpExchangeClient.class);
+		doReturn(AuthenticationType.NONE).when(exchangeClient).getAuthenticationType();
+
+		TestDto expected = TestDto.of(ID1, COUNT1);
+		ApiResponse<TestDto> response = ApiResponse.create(expected)
+				.status(HttpStatus.OK)
+				.exchangeClient(exchangeClient)
+				.build();
+		doReturn(response).when(exchangeClient).exchange(any(ApiRequest.class));
+
+		ApiClient api = ApiClient.of(BASE_URL, exchangeClient);
+
+		TestDto result = api.retrieve(GET_TEST_DTO, ID1).orNull();
+
+		assertThat(result, equalTo(expected));
+
+		ArgumentCaptor<?> requestCaptor = ArgumentCaptor.forClass(ApiRequest.class);
+		verify(exchangeClient).exchange(JavaObjects.cast(requestCaptor.capture()));
+
+		ApiRequest<TestDto> request = JavaObjects.cast(requestCaptor.getValue());
+
+		assertThat(request.getUrl(), equalTo(BASE_URL + "/users/" + ID1));
+		assertThat(request.getAuthenticationType(), equalTo(AuthenticationType.NONE));
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "resource" })
+	void shouldReturnErrorResponseWhenTheResponseBodyHasTheWrongTypeOnRetrieve() {
+		HttpExchangeClient exchangeClient = mock(HttpExchangeClient.class);
+		doReturn(AuthenticationType.NONE).when(exchangeClient).getAuthenticationType();
+
+		ApiResponse<String> response = ApiResponse.create(APIPHANY)
+				.status(HttpStatus.OK)
+				.exchangeClient(exchangeClient)
+				.build();
+		doReturn(response).when(exchangeClient).exchange(any(ApiRequest.class));
+
+		ApiClient api = ApiClient.of(BASE_URL, exchangeClient);
+
+		ApiResponse<TestDto> result = api.retrieve(GET_TEST_DTO, ID1);
+
+		assertTrue(result.hasException());
+		assertThat(result.getException().getMessage(), equalTo("Received response body of type: " + String.class
+				+ " but expected type was: " + TestDto.class));
+	}
+}
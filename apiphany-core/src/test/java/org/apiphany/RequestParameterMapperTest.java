@@ -0,0 +1,124 @@
+package org.apiphany;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apiphany.openapi.ParameterStyle;
+import org.apiphany.openapi.QueryParam;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link RequestParameterMapper}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class RequestParameterMapperTest {
+
+	private static final String NAME = "John";
+	private static final String PREFIX = "x-";
+
+	@Test
+	void shouldReturnTheSameMapperForTheSameClass() {
+		RequestParameterMapper mapper1 = RequestParameterMapper.of(A.class);
+		RequestParameterMapper mapper2 = RequestParameterMapper.of(A.class);
+
+		assertThat(mapper1, sameInstance(mapper2));
+	}
+
+	@Test
+	void shouldCompileOnlyTheNonStaticFields() {
+		RequestParameterMapper mapper = RequestParameterMapper.of(A.class);
+
+		assertThat(mapper.size(), equalTo(2));
+	}
+
+	@Test
+	void shouldMapTheFieldsFromTheWholeClassHierarchy() {
+		B b = new B();
+		b.name = NAME;
+		b.numbers = List.of(1, 2);
+		b.active = true;
+
+		Map<String, List<String>> params = RequestParameterMapper.of(B.class).map(b, String::valueOf);
+
+		assertThat(params.size(), equalTo(3));
+		assertThat(params, hasEntry("name", List.of(NAME)));
+		assertThat(params, hasEntry("numbers", List.of("1", "2")));
+		assertThat(params, hasEntry("active", List.of("true")));
+	}
+
+	@Test
+	void shouldNotMapNullOrEmptyValues() {
+		A a = new A();
+		a.numbers = List.of();
+
+		Map<String, List<String>> params = RequestParameterMapper.of(A.class).map(a, String::valueOf);
+
+		assertThat(params, anEmptyMap());
+	}
+
+	@Test
+	void shouldApplyTheNameConverter() {
+		A a = new A();
+		a.name = NAME;
+
+		Map<String, List<String>> params = RequestParameterMapper.of(A.class).map(a, name -> PREFIX + name);
+
+		assertThat(params, equalTo(Map.of(PREFIX + "name", List.of(NAME))));
+	}
+
+	@Test
+	void shouldUseTheStrategyFromTheGetterAnnotation() {
+		C c = new C();
+		c.numbers = List.of(1, 2, 3);
+
+		Map<String, List<String>> params = RequestParameterMapper.of(C.class).map(c, String::valueOf);
+
+		assertThat(params, equalTo(Map.of("numbers", List.of("1|2|3"))));
+	}
+
+	@Test
+	void shouldNotMapTheSyntheticFields() {
+		D d = new D();
+		d.name = NAME;
+
+		Map<String, List<String>> params = RequestParameterMapper.of(D.class).map(d, String::valueOf);
+
+		assertThat(params, equalTo(Map.of("name", List.of(NAME))));
+	}
+
+	static class A {
+
+		static final String CONSTANT = "constant";
+
+		String name;
+
+		List<Integer> numbers;
+	}
+
+	static class B extends A {
+
+		private Boolean active;
+	}
+
+	static class C {
+
+		private List<Integer> numbers;
+
+		@QueryParam(style = ParameterStyle.PIPE_DELIMITED)
+		public List<Integer> getNumbers() {
+			return numbers;
+		}
+	}
+
+	class D {
+
+		String name;
+	}
+}
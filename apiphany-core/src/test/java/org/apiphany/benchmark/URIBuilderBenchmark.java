@@ -0,0 +1,109 @@
+package org.apiphany.benchmark;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apiphany.http.URIBuilder;
+import org.apiphany.http.URIEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for {@link URIBuilder} and {@link URIEncoder}.
+ *
+ * <ul>
+ * <li>URI building by concatenating the URL with the joined request parameters</li>
+ * <li>URI building in a single pass with {@link URIBuilder}</li>
+ * <li>Path encoding with {@link URLEncoder} and replacing {@code +} with {@code %20}</li>
+ * <li>Path encoding with {@link URIEncoder#encodePath(String, Charset)}</li>
+ * </ul>
+ *
+ * <pre>
+ * mvn jmh:benchmark -Pbenchmark -Djmh.benchmarks=org.apiphany.benchmark.URIBuilderBenchmark
+ * </pre>
+ *
+ * Must be run from the current module folder (apiphany-core).
+ *
+ * @author Radu Sebastian LAZIN
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class URIBuilderBenchmark {
+
+	private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+	private String url;
+	private Map<String, List<String>> params;
+	private String plainSegment;
+	private String segment;
+
+	@Setup
+	public void setup() {
+		url = "http://localhost:8080/api/v1/users/12345/orders";
+		params = new LinkedHashMap<>();
+		for (int i = 1; i <= 5; ++i) {
+			params.put("param" + i, List.of("value" + i));
+		}
+		params.put("tags", List.of("a", "b", "c"));
+		plainSegment = "order-12345_v1.json";
+		segment = "John Doe & Sons/caf\u00E9";
+	}
+
+	@Benchmark
+	public URI concatenate() {
+		List<String> paramList = new ArrayList<>();
+		params.forEach((key, values) -> {
+			for (String value : values) {
+				paramList.add(String.join("=", key, value));
+			}
+		});
+		String query = String.join("&", paramList);
+		return URI.create(url + (query.isEmpty() ? "" : "?" + query));
+	}
+
+	@Benchmark
+	public URI singlePass() {
+		return URIBuilder.of(url)
+				.params(params)
+				.build();
+	}
+
+	@Benchmark
+	public String urlEncoderPlain() {
+		return URLEncoder.encode(plainSegment, CHARSET).replace("+", "%20");
+	}
+
+	@Benchmark
+	public String percentEncoderPlain() {
+		return URIEncoder.encodePath(plainSegment, CHARSET);
+	}
+
+	@Benchmark
+	public String urlEncoder() {
+		return URLEncoder.encode(segment, CHARSET).replace("+", "%20");
+	}
+
+	@Benchmark
+	public String percentEncoder() {
+		return URIEncoder.encodePath(segment, CHARSET);
+	}
+}
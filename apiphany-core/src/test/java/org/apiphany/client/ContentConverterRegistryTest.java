@@ -0,0 +1,201 @@
+package org.apiphany.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.apiphany.header.HeaderValues;
+import org.apiphany.io.ContentType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ContentConverterRegistry}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class ContentConverterRegistryTest {
+
+	private static final int HIGH_PRIORITY = 10;
+
+	private final HeaderValues chain = new HeaderValues();
+
+	@Test
+	void shouldOrderTheConvertersByPriorityThenByRegistrationOrder() {
+		ContentConverter<?> converter1 = converter(ContentType.APPLICATION_JSON, true);
+		ContentConverter<?> converter2 = converter(ContentType.APPLICATION_JSON, true);
+		ContentConverter<?> converter3 = converter(ContentType.APPLICATION_JSON, true);
+
+		ContentConverterRegistry registry = new ContentConverterRegistry()
+				.register(converter1)
+				.register(converter2)
+				.register(converter3, HIGH_PRIORITY);
+
+		assertThat(registry.getContentConverters(), equalTo(List.of(converter3, converter1, converter2)));
+	}
+
+	@Test
+	void shouldFindTheFirstConvertibleConverter() {
+		ContentConverter<?> textConverter = converter(ContentType.TEXT_PLAIN, true);
+		ContentConverter<?> jsonConverter = converter(ContentType.APPLICATION_JSON, true);
+		ContentConverterRegistry registry = new ContentConverterRegistry()
+				.register(textConverter)
+				.register(jsonConverter);
+
+		ContentConverter<Object> result = registry.find(null, ContentType.APPLICATION_JSON, null, chain);
+
+		assertThat(result, sameInstance(jsonConverter));
+	}
+
+	@Test
+	void shouldCacheTheConverterWhenAllConvertersAreContentTypeBased() {
+		ContentConverter<?> textConverter = converter(ContentType.TEXT_PLAIN, true);
+		ContentConverter<?> jsonConverter = converter(ContentType.APPLICATION_JSON, true);
+		ContentConverterRegistry registry = new ContentConverterRegistry()
+				.register(textConverter)
+				.register(jsonConverter);
+
+		registry.find(null, ContentType.APPLICATION_JSON, null, chain);
+		ContentConverter<Object> result = registry.find(null, ContentType.APPLICATION_JSON, null, chain);
+
+		assertThat(result, sameInstance(jsonConverter));
+		verify(textConverter).isConvertible(any(), any(), any(), any());
+		verify(jsonConverter).isConvertible(any(), any(), any(), any());
+	}
+
+	@Test
+	void shouldCacheTheMissingConverterWhenAllConvertersAreContentTypeBased() {
+		ContentConverter<?> textConverter = converter(ContentType.TEXT_PLAIN, true);
+		ContentConverterRegistry registry = new ContentConverterRegistry()
+				.register(textConverter);
+
+		registry.find(null, ContentType.APPLICATION_JSON, null, chain);
+		ContentConverter<Object> result = registry.find(null, ContentType.APPLICATION_JSON, null, chain);
+
+		assertThat(result, nullValue());
+		verify(textConverter).isConvertible(any(), any(), any(), any());
+	}
+
+	@Test
+	void shouldNotCacheTheConverterWhenAConverterCheckedBeforeIsNotContentTypeBased() {
+		ContentConverter<?> headerConverter = converter(ContentType.TEXT_PLAIN, false);
+		ContentConverter<?> jsonConverter = converter(ContentType.APPLICATION_JSON, true);
+		ContentConverterRegistry registry = new ContentConverterRegistry()
+				.register(headerConverter)
+				.register(jsonConverter);
+
+		registry.find(null, ContentType.APPLICATION_JSON, null, chain);
+		ContentConverter<Object> result = registry.find(null, ContentType.APPLICATION_JSON, null, chain);
+
+		assertThat(result, sameInstance(jsonConverter));
+		verify(headerConverter, times(2)).isConvertible(any(), any(), any(), any());
+		verify(jsonConverter, times(2)).isConvertible(any(), any(), any(), any());
+	}
+
+	@Test
+	void shouldDiscardTheCachedConvertersWhenRegisteringAConverter() {
+		ContentConverter<?> jsonConverter1 = converter(ContentType.APPLICATION_JSON, true);
+		ContentConverter<?> jsonConverter2 = converter(ContentType.APPLICATION_JSON, true);
+		ContentConverterRegistry registry = new ContentConverterRegistry()
+				.register(jsonConverter1);
+
+		registry.find(null, ContentType.APPLICATION_JSON, null, chain);
+		registry.register(jsonConverter2, HIGH_PRIORITY);
+		ContentConverter<Object> result = registry.find(null, ContentType.APPLICATION_JSON, null, chain);
+
+		assertThat(result, sameInstance(jsonConverter2));
+	}
+
+	@Test
+	void shouldReturnNullWhenMimeTypeIsNullAndNoConverterMatches() {
+		ContentConverterRegistry registry = new ContentConverterRegistry()
+				.register(converter(ContentType.APPLICATION_JSON, true));
+
+		ContentConverter<Object> result = registry.find(null, null, null, chain);
+
+		assertThat(result, nullValue());
+	}
+
+	@Test
+	void shouldRegisterTheConvertersFromProviders() {
+		ContentConverter<?> jsonConverter = converter(ContentType.APPLICATION_JSON, true);
+		ContentConverterProvider provider = () -> jsonConverter;
+
+		ContentConverterRegistry registry = new ContentConverterRegistry()
+				.registerAll(List.of(provider));
+
+		assertThat(registry.getContentConverters(), equalTo(List.of(jsonConverter)));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenRegisteringNullConverter() {
+		ContentConverterRegistry registry = new ContentConverterRegistry();
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> registry.register(null));
+
+		assertThat(e.getMessage(), equalTo("converter cannot be null"));
+	}
+
+	@Test
+	void shouldReturnAnUnmodifiableListOfConverters() {
+		ContentConverterRegistry registry = new ContentConverterRegistry();
+		List<ContentConverter<?>> converters = registry.getContentConverters();
+		ContentConverter<?> converter = converter(ContentType.APPLICATION_JSON, true);
+
+		assertThrows(UnsupportedOperationException.class, () -> converters.add(converter));
+		assertThat(registry.isEmpty(), equalTo(true));
+	}
+
+	@Test
+	void shouldRegisterTheConvertersAddedToTheListView() {
+		ContentConverter<?> converter1 = converter(ContentType.APPLICATION_JSON, true);
+		ContentConverter<?> converter2 = converter(ContentType.APPLICATION_JSON, true);
+		ContentConverterRegistry registry = new ContentConverterRegistry()
+				.register(converter1);
+		List<ContentConverter<?>> converters = registry.asList();
+
+		converters.add(converter2);
+
+		assertThat(registry.getContentConverters(), equalTo(List.of(converter1, converter2)));
+		assertThat(converters, equalTo(List.of(converter1, converter2)));
+	}
+
+	@Test
+	void shouldNotSupportRemovingConvertersFromTheListView() {
+		ContentConverter<?> converter = converter(ContentType.APPLICATION_JSON, true);
+		ContentConverterRegistry registry = new ContentConverterRegistry()
+				.register(converter);
+		List<ContentConverter<?>> converters = registry.asList();
+
+		assertThrows(UnsupportedOperationException.class, () -> converters.remove(converter));
+		assertThat(registry.getContentConverters(), equalTo(List.of(converter)));
+	}
+
+	@Test
+	void shouldDiscoverTheProvidersOnlyOnceForEachClassLoader() {
+		ClassLoader classLoader = ContentConverterRegistryTest.class.getClassLoader();
+
+		List<ContentConverterProvider> providers1 = ContentConverterRegistry.discoverProviders(classLoader);
+		List<ContentConverterProvider> providers2 = ContentConverterRegistry.discoverProviders(classLoader);
+
+		assertThat(providers2, sameInstance(providers1));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ContentConverter<?> converter(final ContentType contentType, final boolean contentTypeBased) {
+		ContentConverter<Object> converter = mock(ContentConverter.class);
+		doReturn(contentTypeBased).when(converter).isContentTypeBased();
+		doReturn(false).when(converter).isConvertible(any(), any(), any(), any());
+		doReturn(true).when(converter).isConvertible(any(), eq(contentType), any(), any());
+		return converter;
+	}
+}
@@ -0,0 +1,105 @@
+package org.apiphany.client.http;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import org.apiphany.io.BodyFingerprint;
+import org.apiphany.security.MessageDigestAlgorithm;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link FingerprintingBodyPublisher}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class FingerprintingBodyPublisherTest {
+
+	private static final byte[] PART1 = "Some published ".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] PART2 = "message body".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] BYTES = "Some published message body".getBytes(StandardCharsets.UTF_8);
+	private static final int HASH_BYTES = 8;
+
+	@Test
+	void shouldFingerprintAllPublishedBuffersAndPassThemThrough() {
+		FingerprintingBodyPublisher publisher = FingerprintingBodyPublisher.of(BodyPublishers.ofByteArrays(List.of(PART1, PART2)));
+
+		byte[] result = collect(publisher);
+
+		BodyFingerprint fingerprint = publisher.getFingerprint();
+		assertThat(result, equalTo(BYTES));
+		assertThat(fingerprint.isComplete(), equalTo(true));
+		assertThat(fingerprint.length(), equalTo((long) BYTES.length));
+		assertThat(fingerprint.hash(HASH_BYTES), equalTo(MessageDigestAlgorithm.SHA256.hash(BYTES, HASH_BYTES)));
+	}
+
+	@Test
+	void shouldRestartTheFingerprintWhenSubscribedAgain() {
+		FingerprintingBodyPublisher publisher = new FingerprintingBodyPublisher(
+				BodyPublishers.ofByteArrays(List.of(PART1, PART2)), BodyFingerprint.sha256());
+		publisher.subscribe(new CollectingSubscriber(1));
+		assertThat(publisher.getFingerprint().isComplete(), equalTo(false));
+
+		byte[] result = collect(publisher);
+
+		BodyFingerprint fingerprint = publisher.getFingerprint();
+		assertThat(result, equalTo(BYTES));
+		assertThat(fingerprint.length(), equalTo((long) BYTES.length));
+		assertThat(fingerprint.hash(HASH_BYTES), equalTo(MessageDigestAlgorithm.SHA256.hash(BYTES, HASH_BYTES)));
+	}
+
+	@Test
+	void shouldDelegateContentLength() {
+		BodyPublisher delegate = BodyPublishers.ofByteArray(BYTES);
+		FingerprintingBodyPublisher publisher = FingerprintingBodyPublisher.of(delegate);
+
+		assertThat(publisher.contentLength(), equalTo((long) BYTES.length));
+		assertThat(publisher.getDelegate(), sameInstance(delegate));
+	}
+
+	private static byte[] collect(final BodyPublisher publisher) {
+		CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+		publisher.subscribe(subscriber);
+		return subscriber.output.toByteArray();
+	}
+
+	static class CollectingSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+		private final long requested;
+		private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		CollectingSubscriber(final long requested) {
+			this.requested = requested;
+		}
+
+		@Override
+		public void onSubscribe(final Flow.Subscription subscription) {
+			subscription.request(requested);
+		}
+
+		@Override
+		public void onNext(final ByteBuffer item) {
+			byte[] bytes = new byte[item.remaining()];
+			item.get(bytes);
+			output.writeBytes(bytes);
+		}
+
+		@Override
+		public void onError(final Throwable throwable) {
+			// empty
+		}
+
+		@Override
+		public void onComplete() {
+			// empty
+		}
+	}
+}
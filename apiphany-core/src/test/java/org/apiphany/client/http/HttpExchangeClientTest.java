@@ -19,9 +19,14 @@ import org.apiphany.header.HeaderValues;
 import org.apiphany.header.Headers;
 import org.apiphany.http.HttpHeader;
 import org.apiphany.http.HttpMethod;
+import org.apiphany.http.TracingHeader;
 import org.apiphany.security.AuthenticationType;
 import org.apiphany.security.Sensitive;
 import org.apiphany.security.http.DefaultHttpSensitivity;
+import org.apiphany.tracing.Sampler;
+import org.apiphany.tracing.Span;
+import org.apiphany.tracing.TracePropagation;
+import org.apiphany.tracing.Tracer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -144,6 +149,23 @@ class HttpExchangeClientTest {
 		}
 	}
 
+	@Test
+	void shouldReturnTracingHeadersForTheCurrentSpanInsteadOfTheValuesInMDC() throws Exception {
+		HttpExchangeClient client = new DummyHttpExchangeClient();
+		client.close();
+
+		Span span = Tracer.of(Sampler.ALWAYS, TracePropagation.W3C).startSpan("span");
+		try (Tracer.Scope scope = span.makeCurrent()) {
+			MDC.put("traceId", "some-trace-id");
+			MDC.put("spanId", "some-span-id");
+			Map<String, List<String>> tracingHeaders = client.getTracingHeaders();
+
+			assertThat(tracingHeaders, equalTo(Map.of(TracingHeader.Name.TRACEPARENT, List.of(span.getContext().toTraceParent()))));
+		} finally {
+			MDC.clear();
+		}
+	}
+
 	@Test
 	void shouldReturnEmptyCommonHeadersByDefault() throws Exception {
 		HttpExchangeClient client = new DummyHttpExchangeClient();
@@ -0,0 +1,80 @@
+package org.apiphany.client.http;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link JavaNetHttpClientStats}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class JavaNetHttpClientStatsTest {
+
+	private static final URI HTTPS_URI = URI.create("https://example.com/api/users");
+	private static final URI HTTP_URI = URI.create("http://example.com:8080/api");
+
+	@Test
+	void shouldBuildRouteWithDefaultPorts() {
+		assertThat(JavaNetHttpClientStats.routeOf(HTTPS_URI), equalTo("https://example.com:443"));
+		assertThat(JavaNetHttpClientStats.routeOf(URI.create("http://example.com/api")), equalTo("http://example.com:80"));
+	}
+
+	@Test
+	void shouldBuildRouteWithExplicitPort() {
+		assertThat(JavaNetHttpClientStats.routeOf(HTTP_URI), equalTo("http://example.com:8080"));
+	}
+
+	@Test
+	void shouldReturnTheSameRouteStatsForTheSameRoute() {
+		JavaNetHttpClientStats stats = new JavaNetHttpClientStats();
+
+		JavaNetHttpClientStats.RouteStats routeStats1 = stats.route(HTTPS_URI);
+		JavaNetHttpClientStats.RouteStats routeStats2 = stats.route(URI.create("https://example.com:443/other"));
+
+		assertThat(routeStats1, sameInstance(routeStats2));
+		assertThat(stats.getRoutes(), hasSize(1));
+	}
+
+	@Test
+	void shouldNotifyListenersOnlyForNewRoutes() {
+		JavaNetHttpClientStats stats = new JavaNetHttpClientStats();
+		List<String> routes = new ArrayList<>();
+		stats.onNewRoute(routeStats -> routes.add(routeStats.getRoute()));
+
+		stats.route(HTTPS_URI);
+		stats.route(HTTPS_URI);
+		stats.route(HTTP_URI);
+
+		assertThat(routes, equalTo(List.of("https://example.com:443", "http://example.com:8080")));
+	}
+
+	@Test
+	void shouldTrackActiveExchangesResponsesAndFailures() {
+		JavaNetHttpClientStats stats = new JavaNetHttpClientStats();
+		JavaNetHttpClientStats.RouteStats routeStats = stats.route(HTTPS_URI);
+
+		routeStats.started();
+		routeStats.started();
+		routeStats.started();
+
+		assertThat(stats.getActive(), equalTo(3));
+
+		routeStats.finished(HttpClient.Version.HTTP_2);
+		routeStats.finished(HttpClient.Version.HTTP_1_1);
+		routeStats.finished(null);
+
+		assertThat(stats.getActive(), equalTo(0));
+		assertThat(routeStats.getResponses(HttpClient.Version.HTTP_2), equalTo(1L));
+		assertThat(routeStats.getResponses(HttpClient.Version.HTTP_1_1), equalTo(1L));
+		assertThat(routeStats.getFailures(), equalTo(1L));
+	}
+}
@@ -43,6 +43,7 @@ import org.apiphany.Status;
 import org.apiphany.client.ClientCustomization;
 import org.apiphany.client.ClientProperties;
 import org.apiphany.header.Header;
+import org.apiphany.header.HeaderMap;
 import org.apiphany.header.Headers;
 import org.apiphany.http.ContentEncoding;
 import org.apiphany.http.HttpException;
@@ -52,6 +53,7 @@ import org.apiphany.http.HttpStatus;
 import org.apiphany.io.ByteBufferSubscriber;
 import org.apiphany.io.ContentType;
 import org.apiphany.io.InputStreamSupplier;
+import org.apiphany.io.PayloadSize;
 import org.apiphany.io.gzip.GZip;
 import org.apiphany.json.JsonBuilder;
 import org.apiphany.lang.Strings;
@@ -362,6 +364,34 @@ class JavaNetHttpExchangeClientTest {
 			assertThat(apiResponse.getHeaders().get("Content-Type"), equalTo(List.of("application/json")));
 		}
 
+		@Test
+		void shouldBuildResponseWithReadOnlyCaseInsensitiveHeaders() throws Exception {
+			JavaNetHttpExchangeClient exchangeClient = new JavaNetHttpExchangeClient();
+			exchangeClient.close();
+
+			ApiClientFluentAdapter request = ApiClientFluentAdapter.of(apiClient)
+					.url(URL)
+					.method(HttpMethod.GET)
+					.responseType(String.class);
+
+			Map<String, List<String>> headers = Map.of(
+					"Content-Type", List.of("application/json"));
+
+			HttpResponse<?> httpResponse = mock(HttpResponse.class);
+			doReturn(HttpStatus.OK.value()).when(httpResponse).statusCode();
+			doReturn(STRING).when(httpResponse).body();
+			doReturn(HttpHeaders.of(headers, (v1, v2) -> true)).when(httpResponse).headers();
+
+			ApiResponse<?> apiResponse = exchangeClient.buildResponse(request, httpResponse);
+			Map<String, List<String>> responseHeaders = apiResponse.getHeaders();
+			List<String> contentType = responseHeaders.get("content-type");
+
+			assertInstanceOf(HeaderMap.class, responseHeaders);
+			assertThat(contentType, equalTo(List.of("application/json")));
+			assertThrows(UnsupportedOperationException.class, () -> contentType.add(STRING));
+			assertThrows(UnsupportedOperationException.class, () -> responseHeaders.remove("Content-Type"));
+		}
+
 		@Test
 		void shouldBuildResponseFromApiRequestAndHttpResponseWhenBodyIsNull() throws Exception {
 			JavaNetHttpExchangeClient exchangeClient = new JavaNetHttpExchangeClient();
@@ -877,6 +907,44 @@ class JavaNetHttpExchangeClientTest {
 
 			assertThat(exception.getMessage(), equalTo("Failed to decode content with encoding: gzip"));
 		}
+
+		@Test
+		void shouldSetRawAndDecodedPayloadSizesOnResponse() throws Exception {
+			JavaNetHttpExchangeClient exchangeClient = new JavaNetHttpExchangeClient();
+			exchangeClient.close();
+
+			ApiClientFluentAdapter request = ApiClientFluentAdapter.of(apiClient)
+					.url(URL)
+					.method(HttpMethod.POST)
+					.body(STRING)
+					.responseType(String.class);
+
+			Map<String, List<String>> headers = Map.of(
+					HttpHeader.CONTENT_ENCODING.value(), List.of(ContentEncoding.GZIP.value()));
+			byte[] decodedBody = STRING.getBytes(StandardCharsets.UTF_8);
+			byte[] rawBody = GZip.compress(decodedBody);
+
+			HttpResponse<?> httpResponse = mock(HttpResponse.class);
+			doReturn(HttpStatus.OK.value()).when(httpResponse).statusCode();
+			doReturn(rawBody).when(httpResponse).body();
+			doReturn(HttpHeaders.of(headers, (v1, v2) -> true)).when(httpResponse).headers();
+			doReturn(exchangeClient.buildRequest(request)).when(httpResponse).request();
+
+			ApiResponse<?> apiResponse = exchangeClient.buildResponse(request, httpResponse);
+			PayloadSize payloadSize = apiResponse.getPayloadSize();
+
+			assertThat(apiResponse.getBody(), equalTo(STRING));
+			assertThat(payloadSize.request(), equalTo((long) decodedBody.length));
+			assertThat(payloadSize.response(), equalTo((long) rawBody.length));
+			assertThat(payloadSize.decodedResponse(), equalTo((long) decodedBody.length));
+		}
+
+		@Test
+		void shouldReturnUnknownRequestBodySizeWhenRequestIsNull() {
+			long requestBodySize = JavaNetHttpExchangeClient.getRequestBodySize(null);
+
+			assertThat(requestBodySize, equalTo(PayloadSize.UNKNOWN));
+		}
 	}
 
 	@Nested
@@ -930,6 +998,35 @@ class JavaNetHttpExchangeClientTest {
 			assertThat(exception.getMessage(), equalTo(HttpException.message(null, EXPECTED_CONNECTION_ERROR)));
 		}
 
+		@Test
+		@SuppressWarnings({ "resource", "unchecked" })
+		void shouldTrackResponsesAndFailuresInStatsOnSendRequest() throws Exception {
+			HttpClient httpClient = mock(HttpClient.class);
+
+			JavaNetHttpExchangeClient exchangeClient = new JavaNetHttpExchangeClient(ClientProperties.defaults(), httpClient);
+			exchangeClient.close();
+
+			ApiClientFluentAdapter request = ApiClientFluentAdapter.of(apiClient)
+					.url(URL)
+					.method(HttpMethod.GET)
+					.responseType(String.class);
+			HttpRequest httpRequest = exchangeClient.buildRequest(request);
+
+			HttpResponse<?> mockedHttpResponse = mock(HttpResponse.class);
+			doReturn(Version.HTTP_2).when(mockedHttpResponse).version();
+			doReturn(mockedHttpResponse)
+					.doThrow(new RuntimeException(EXPECTED_CONNECTION_ERROR))
+					.when(httpClient).send(any(HttpRequest.class), any(BodyHandler.class));
+
+			exchangeClient.sendRequest(request, httpRequest);
+			assertThrows(HttpException.class, () -> exchangeClient.sendRequest(request, httpRequest));
+
+			JavaNetHttpClientStats.RouteStats routeStats = exchangeClient.getStats().route(httpRequest.uri());
+			assertThat(routeStats.getActive(), equalTo(0));
+			assertThat(routeStats.getResponses(Version.HTTP_2), equalTo(1L));
+			assertThat(routeStats.getFailures(), equalTo(1L));
+		}
+
 		@Test
 		@SuppressWarnings({ "resource", "unchecked" })
 		void shouldExchangeApiRequestAndReturnApiResponse() throws Exception {
@@ -0,0 +1,241 @@
+package org.apiphany.header;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apiphany.http.HttpHeader;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link HeaderMap}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class HeaderMapTest {
+
+	private static final String CUSTOM_HEADER = "X-Custom-Header";
+	private static final String VALUE1 = "value1";
+	private static final String VALUE2 = "value2";
+	private static final String VALUE3 = "value3";
+
+	@Test
+	void shouldGetHeadersIgnoringTheCase() {
+		HeaderMap headers = new HeaderMap();
+		headers.add(HttpHeader.CONTENT_TYPE, VALUE1);
+		headers.add(CUSTOM_HEADER, VALUE2);
+
+		assertThat(headers.get("content-type"), equalTo(List.of(VALUE1)));
+		assertThat(headers.get("CONTENT-TYPE"), equalTo(List.of(VALUE1)));
+		assertThat(headers.get(HttpHeader.CONTENT_TYPE.value()), equalTo(List.of(VALUE1)));
+		assertThat(headers.get("x-custom-header"), equalTo(List.of(VALUE2)));
+		assertTrue(headers.containsKey("X-CUSTOM-HEADER"));
+	}
+
+	@Test
+	void shouldMergeTheValuesOfHeadersWithTheSameNameIgnoringTheCase() {
+		HeaderMap headers = new HeaderMap();
+		headers.add(CUSTOM_HEADER, VALUE1);
+		headers.add("x-custom-header", VALUE2);
+
+		assertThat(headers.size(), equalTo(1));
+		assertThat(headers.get(CUSTOM_HEADER), equalTo(List.of(VALUE1, VALUE2)));
+	}
+
+	@Test
+	void shouldKeepTheHeaderNameAsFirstAddedInInsertionOrder() {
+		HeaderMap headers = new HeaderMap();
+		headers.add(CUSTOM_HEADER, VALUE1);
+		headers.add(HttpHeader.ACCEPT, VALUE2);
+		headers.add("x-custom-header", VALUE3);
+
+		assertThat(new ArrayList<>(headers.keySet()), equalTo(List.of(CUSTOM_HEADER, HttpHeader.ACCEPT.value())));
+	}
+
+	@Test
+	void shouldReturnNullForMissingHeaders() {
+		HeaderMap headers = new HeaderMap();
+
+		assertThat(headers.get(CUSTOM_HEADER), nullValue());
+		assertThat(headers.get(null), nullValue());
+		assertFalse(headers.containsKey(null));
+		assertThat(headers.getOrDefault(CUSTOM_HEADER, List.of()), equalTo(List.of()));
+	}
+
+	@Test
+	void shouldReplaceTheValuesOnPut() {
+		HeaderMap headers = new HeaderMap();
+		headers.add(CUSTOM_HEADER, VALUE1);
+
+		List<String> oldValues = headers.put("x-custom-header", List.of(VALUE2));
+
+		assertThat(oldValues, equalTo(List.of(VALUE1)));
+		assertThat(headers.get(CUSTOM_HEADER), equalTo(List.of(VALUE2)));
+		assertThat(headers.keySet().iterator().next(), equalTo(CUSTOM_HEADER));
+	}
+
+	@Test
+	void shouldRemoveHeadersIgnoringTheCase() {
+		HeaderMap headers = new HeaderMap();
+		headers.add(CUSTOM_HEADER, VALUE1);
+
+		List<String> removed = headers.remove("X-CUSTOM-HEADER");
+
+		assertThat(removed, equalTo(List.of(VALUE1)));
+		assertTrue(headers.isEmpty());
+	}
+
+	@Test
+	void shouldRemoveHeadersWithTheEntrySetIterator() {
+		HeaderMap headers = new HeaderMap();
+		headers.add(CUSTOM_HEADER, VALUE1);
+		headers.add(HttpHeader.ACCEPT, VALUE2);
+
+		Iterator<Map.Entry<String, List<String>>> iterator = headers.entrySet().iterator();
+		iterator.next();
+		iterator.remove();
+
+		assertThat(headers.size(), equalTo(1));
+		assertFalse(headers.containsKey(CUSTOM_HEADER));
+	}
+
+	@Test
+	void shouldAddRemoveAndSetValues() {
+		HeaderMap headers = new HeaderMap();
+		List<String> values = headers.getOrCreate(CUSTOM_HEADER);
+
+		values.add(VALUE1);
+		values.add(VALUE2);
+		values.add(0, VALUE3);
+		values.add(VALUE1);
+		values.add(VALUE2);
+		values.remove(0);
+		values.set(1, VALUE3);
+
+		assertThat(values, equalTo(List.of(VALUE1, VALUE3, VALUE1, VALUE2)));
+	}
+
+	@Test
+	void shouldKeepASingleValue() {
+		HeaderMap headers = new HeaderMap();
+		List<String> values = headers.getOrCreate(CUSTOM_HEADER);
+
+		values.add(VALUE1);
+		values.set(0, VALUE2);
+
+		assertThat(values, equalTo(List.of(VALUE2)));
+
+		values.remove(0);
+
+		assertTrue(values.isEmpty());
+		assertThrows(IndexOutOfBoundsException.class, () -> values.get(0));
+	}
+
+	@Test
+	void shouldBeEqualToAMapWithTheSameHeaders() {
+		HeaderMap headers = new HeaderMap();
+		headers.add(CUSTOM_HEADER, VALUE1);
+		headers.add(HttpHeader.ACCEPT, VALUE2);
+
+		Map<String, List<String>> expected = new LinkedHashMap<>();
+		expected.put(CUSTOM_HEADER, List.of(VALUE1));
+		expected.put(HttpHeader.ACCEPT.value(), List.of(VALUE2));
+
+		assertThat(headers, equalTo(expected));
+		assertThat(headers.hashCode(), equalTo(expected.hashCode()));
+	}
+
+	@Test
+	void shouldCopyAndMergeTheGivenHeaders() {
+		Map<String, List<String>> source = new LinkedHashMap<>();
+		source.put(CUSTOM_HEADER, List.of(VALUE1));
+		source.put("x-custom-header", List.of(VALUE2));
+
+		HeaderMap headers = new HeaderMap(source);
+
+		assertThat(headers.size(), equalTo(1));
+		assertThat(headers.get(CUSTOM_HEADER), equalTo(List.of(VALUE1, VALUE2)));
+	}
+
+	@Test
+	void shouldNotAllowModificationsWhenReadOnly() {
+		HeaderMap headers = new HeaderMap();
+		headers.add(CUSTOM_HEADER, VALUE1);
+		headers.readOnly();
+		List<String> newValues = List.of(VALUE2);
+
+		assertThrows(UnsupportedOperationException.class, () -> headers.put(CUSTOM_HEADER, newValues));
+		assertThrows(UnsupportedOperationException.class, () -> headers.remove(CUSTOM_HEADER));
+		assertThrows(UnsupportedOperationException.class, headers::clear);
+		assertThrows(UnsupportedOperationException.class, () -> headers.add(HttpHeader.ACCEPT, VALUE2));
+		assertThat(headers.get(CUSTOM_HEADER), equalTo(List.of(VALUE1)));
+	}
+
+	@Test
+	void shouldNotAllowModificationsOfTheValuesWhenReadOnly() {
+		HeaderMap headers = new HeaderMap();
+		headers.add(CUSTOM_HEADER, VALUE1);
+		headers.readOnly();
+		List<String> values = headers.get(CUSTOM_HEADER);
+
+		assertThrows(UnsupportedOperationException.class, () -> values.add(VALUE2));
+		assertThrows(UnsupportedOperationException.class, () -> values.set(0, VALUE2));
+		assertThrows(UnsupportedOperationException.class, values::clear);
+		assertThrows(UnsupportedOperationException.class, () -> headers.add(CUSTOM_HEADER, VALUE2));
+		assertThat(headers.get(CUSTOM_HEADER), equalTo(List.of(VALUE1)));
+	}
+
+	@Test
+	void shouldCopyTheValuesOnPut() {
+		HeaderMap headers = new HeaderMap();
+		List<String> values = new ArrayList<>(List.of(VALUE1));
+
+		headers.put(CUSTOM_HEADER, values);
+		values.add(VALUE2);
+		headers.get(CUSTOM_HEADER).add(VALUE3);
+
+		assertThat(headers.get(CUSTOM_HEADER), equalTo(List.of(VALUE1, VALUE3)));
+		assertThat(values, equalTo(List.of(VALUE1, VALUE2)));
+	}
+
+	@Test
+	void shouldAllowAddingValuesAfterPuttingImmutableLists() {
+		HeaderMap headers = new HeaderMap();
+		headers.putAll(Map.of(CUSTOM_HEADER, List.of(VALUE1)));
+
+		headers.add(CUSTOM_HEADER, VALUE2);
+
+		assertThat(headers.get(CUSTOM_HEADER), equalTo(List.of(VALUE1, VALUE2)));
+	}
+
+	@Test
+	void shouldReturnTheValuesOwnedByTheMapOnComputeIfAbsent() {
+		HeaderMap headers = new HeaderMap();
+
+		headers.computeIfAbsent(CUSTOM_HEADER, name -> new ArrayList<>()).add(VALUE1);
+		headers.computeIfAbsent("x-custom-header", name -> new ArrayList<>()).add(VALUE2);
+
+		assertThat(headers.get(CUSTOM_HEADER), equalTo(List.of(VALUE1, VALUE2)));
+	}
+
+	@Test
+	void shouldBeFoundByHeadersWithoutScanning() {
+		HeaderMap headers = new HeaderMap();
+		headers.add(HttpHeader.CONTENT_TYPE, VALUE1);
+
+		assertTrue(Headers.isCaseInsensitive(headers));
+		assertThat(Headers.get("content-type", headers), equalTo(List.of(VALUE1)));
+		assertThat(Headers.get(CUSTOM_HEADER, headers), equalTo(List.of()));
+		assertTrue(Headers.contains(HttpHeader.CONTENT_TYPE, headers));
+		assertFalse(Headers.contains(CUSTOM_HEADER, headers));
+	}
+}
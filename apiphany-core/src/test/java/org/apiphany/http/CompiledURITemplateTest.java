@@ -0,0 +1,97 @@
+package org.apiphany.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link CompiledURITemplate}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class CompiledURITemplateTest {
+
+	private static final String URL = "http://localhost/api";
+	private static final String USERS_TEMPLATE = URL + "/users/{id}/orders/{orderId}";
+
+	@Test
+	void shouldExpandTemplateVariablesInOrder() {
+		CompiledURITemplate template = URITemplate.compile(USERS_TEMPLATE);
+
+		assertThat(template.expand(123, "abc"), equalTo(URL + "/users/123/orders/abc"));
+		assertThat(template.expand(456, "def"), equalTo(URL + "/users/456/orders/def"));
+		assertThat(template.getVariableCount(), equalTo(2));
+		assertThat(template.getTemplate(), equalTo(USERS_TEMPLATE));
+	}
+
+	@Test
+	void shouldExpandTheSameWayAsURITemplate() {
+		CompiledURITemplate template = CompiledURITemplate.of(USERS_TEMPLATE);
+
+		assertThat(template.expand(StandardCharsets.UTF_8, "hello world", "name@example.com"),
+				equalTo(URITemplate.expand(USERS_TEMPLATE, StandardCharsets.UTF_8, "hello world", "name@example.com")));
+	}
+
+	@Test
+	void shouldExpandTemplateEndingWithALiteral() {
+		CompiledURITemplate template = CompiledURITemplate.of(URL + "/users/{id}/orders");
+
+		assertThat(template.expand(1), equalTo(URL + "/users/1/orders"));
+	}
+
+	@Test
+	void shouldReturnTheTemplateWhenItHasNoVariables() {
+		CompiledURITemplate template = CompiledURITemplate.of(URL);
+
+		assertThat(template.expand(), sameInstance(URL));
+		assertThat(template.getVariableCount(), equalTo(0));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenThereAreNotEnoughValues() {
+		CompiledURITemplate template = CompiledURITemplate.of(USERS_TEMPLATE);
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> template.expand(123));
+
+		assertThat(e.getMessage(), equalTo("Not enough values to expand URI template: " + USERS_TEMPLATE));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenThereAreTooManyValues() {
+		CompiledURITemplate template = CompiledURITemplate.of(USERS_TEMPLATE);
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> template.expand(1, 2, 3));
+
+		assertThat(e.getMessage(), equalTo("Too many values (3) to expand URI template: " + USERS_TEMPLATE));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenAValueIsNull() {
+		CompiledURITemplate template = CompiledURITemplate.of(USERS_TEMPLATE);
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> template.expand(1, null));
+
+		assertThat(e.getMessage(), equalTo("Value for variable {orderId} cannot be null"));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenTheTemplateIsMalformed() {
+		String malformed = URL + "/users/{id";
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> CompiledURITemplate.of(malformed));
+
+		assertThat(e.getMessage(), equalTo("Unclosed variable at index " + malformed.indexOf('{') + " in URI template: " + malformed));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenTheTemplateIsEmpty() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> CompiledURITemplate.of(""));
+
+		assertThat(e.getMessage(), equalTo("URI template cannot be null or empty"));
+	}
+}
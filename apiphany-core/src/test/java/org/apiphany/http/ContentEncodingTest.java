@@ -4,6 +4,7 @@ import static org.apiphany.test.Assertions.assertDefaultConstructorThrows;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -200,6 +201,29 @@ class ContentEncodingTest {
 					ContentEncoding.DEFLATE,
 					ContentEncoding.GZIP)));
 		}
+
+		@Test
+		void shouldReturnTheSameListWhenParsingTheSameSingleValue() {
+			List<ContentEncoding> result1 = ContentEncoding.parseAll(List.of("gzip, br"));
+			List<ContentEncoding> result2 = ContentEncoding.parseAll(List.of("gzip, br"));
+
+			assertThat(result1, equalTo(List.of(ContentEncoding.GZIP, ContentEncoding.BR)));
+			assertThat(result1, sameInstance(result2));
+		}
+
+		@Test
+		void shouldSkipEmptyAndBlankValuesWhenParsingCommaSeparatedValues() {
+			List<ContentEncoding> result = ContentEncoding.parseAll(List.of(",gzip,, \t,deflate ,"));
+
+			assertThat(result, equalTo(List.of(ContentEncoding.GZIP, ContentEncoding.DEFLATE)));
+		}
+
+		@Test
+		void shouldReturnAnUnmodifiableList() {
+			List<ContentEncoding> result = ContentEncoding.parseAll(List.of("gzip", "deflate"));
+
+			assertThrows(UnsupportedOperationException.class, () -> result.add(ContentEncoding.BR));
+		}
 	}
 
 	@Nested
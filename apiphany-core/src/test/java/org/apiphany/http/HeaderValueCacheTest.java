@@ -0,0 +1,86 @@
+package org.apiphany.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link HeaderValueCache}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class HeaderValueCacheTest {
+
+	private static final String HEADER_VALUE = "application/json";
+
+	@Test
+	void shouldParseTheValueOnlyOnceForTheSameHeaderValue() {
+		HeaderValueCache<Object> cache = new HeaderValueCache<>();
+		AtomicInteger count = new AtomicInteger();
+		Function<String, Object> parser = value -> new Object[] { value, count.incrementAndGet() };
+
+		Object value1 = cache.get(HEADER_VALUE, parser);
+		Object value2 = cache.get(HEADER_VALUE, parser);
+
+		assertThat(value1, sameInstance(value2));
+		assertThat(count.get(), equalTo(1));
+	}
+
+	@Test
+	void shouldNotCacheNullValues() {
+		HeaderValueCache<String> cache = new HeaderValueCache<>();
+
+		String value = cache.get(HEADER_VALUE, headerValue -> null);
+
+		assertThat(value, nullValue());
+		assertThat(cache.size(), equalTo(0));
+	}
+
+	@Test
+	void shouldNotCacheValuesRejectedByThePredicate() {
+		HeaderValueCache<String> cache = new HeaderValueCache<>(HeaderValueCache.DEFAULT_MAX_SIZE, value -> false);
+
+		String value = cache.get(HEADER_VALUE, Function.identity());
+
+		assertThat(value, equalTo(HEADER_VALUE));
+		assertThat(cache.size(), equalTo(0));
+	}
+
+	@Test
+	void shouldNotCacheHeaderValuesLongerThanTheMaximumKeyLength() {
+		HeaderValueCache<String> cache = new HeaderValueCache<>();
+		String headerValue = "a".repeat(HeaderValueCache.MAX_KEY_LENGTH + 1);
+
+		String value = cache.get(headerValue, Function.identity());
+
+		assertThat(value, equalTo(headerValue));
+		assertThat(cache.size(), equalTo(0));
+	}
+
+	@Test
+	void shouldClearTheCacheWhenFull() {
+		HeaderValueCache<String> cache = new HeaderValueCache<>(2, value -> true);
+
+		cache.get("gzip", Function.identity());
+		cache.get("br", Function.identity());
+		cache.get("zstd", Function.identity());
+
+		assertThat(cache.size(), equalTo(1));
+	}
+
+	@Test
+	void shouldRemoveAllValuesOnClear() {
+		HeaderValueCache<String> cache = new HeaderValueCache<>();
+		cache.get(HEADER_VALUE, Function.identity());
+
+		cache.clear();
+
+		assertThat(cache.size(), equalTo(0));
+	}
+}
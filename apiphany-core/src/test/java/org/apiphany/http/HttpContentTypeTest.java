@@ -3,7 +3,9 @@ package org.apiphany.http;
 import static org.apiphany.test.Assertions.assertDefaultConstructorThrows;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -217,6 +219,41 @@ class HttpContentTypeTest {
 			assertNull(ct.getBoundary());
 			assertNull(ct.boundary());
 		}
+
+		@Test
+		void shouldIgnoreEmptyParametersAndParametersWithSpaceBeforeEqualSign() {
+			HttpContentType ct = HttpContentType.parse("text/plain;; charset =ISO-8859-1; ;charset=UTF-8;");
+
+			assertThat(ct.getContentType(), equalTo(ContentType.TEXT_PLAIN));
+			assertThat(ct.getCharset(), equalTo(StandardCharsets.UTF_8));
+			assertNull(ct.getBoundary());
+		}
+
+		@Test
+		void shouldKeepEverythingAfterTheFirstEqualSignInTheParameterValue() {
+			HttpContentType ct = HttpContentType.parse("multipart/form-data; boundary=a=b");
+
+			assertThat(ct.getBoundary(), equalTo("a=b"));
+		}
+
+		@Test
+		void shouldReturnTheSameInstanceWhenParsingTheSameValue() {
+			HttpContentType ct1 = HttpContentType.parse(APPLICATION_JSON_CHARSET_ISO_8859_1);
+			HttpContentType ct2 = HttpContentType.parse(APPLICATION_JSON_CHARSET_ISO_8859_1);
+
+			assertThat(ct1, sameInstance(ct2));
+		}
+
+		@Test
+		void shouldNotCacheValuesWithBoundary() {
+			String value = "multipart/form-data; boundary=SomeBoundary";
+
+			HttpContentType ct1 = HttpContentType.parse(value);
+			HttpContentType ct2 = HttpContentType.parse(value);
+
+			assertThat(ct1, equalTo(ct2));
+			assertThat(ct1, not(sameInstance(ct2)));
+		}
 	}
 
 	@Nested
@@ -0,0 +1,91 @@
+package org.apiphany.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link URIBuilder}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class URIBuilderTest {
+
+	private static final String URL = "http://localhost/api";
+
+	@Test
+	void shouldBuildTheUriWithTheQueryParametersAsTheyAre() {
+		Map<String, List<String>> params = new LinkedHashMap<>();
+		params.put("a", List.of("1", "2"));
+		params.put("b", List.of("3"));
+
+		URI uri = URIBuilder.of(URL)
+				.params(params)
+				.build();
+
+		assertThat(uri, equalTo(URI.create(URL + "?a=1&a=2&b=3")));
+	}
+
+	@Test
+	void shouldBuildTheUriWithoutQueryWhenThereAreNoParameters() {
+		Map<String, List<String>> params = Map.of("a", List.of());
+
+		assertThat(URIBuilder.of(URL).params(null).build(), equalTo(URI.create(URL)));
+		assertThat(URIBuilder.of(URL).params(Map.of()).build(), equalTo(URI.create(URL)));
+		assertThat(URIBuilder.of(URL).params(params).build(), equalTo(URI.create(URL)));
+	}
+
+	@Test
+	void shouldEncodeThePathSegmentsAndParametersWhenCharsetIsGiven() {
+		URI uri = URIBuilder.of(URL)
+				.path("users")
+				.path("John Doe", StandardCharsets.UTF_8)
+				.param("first name", "John Doe", StandardCharsets.UTF_8)
+				.param("x", "a&b", StandardCharsets.UTF_8)
+				.build();
+
+		assertThat(uri.toString(), equalTo(URL + "/users/John%20Doe?first%20name=John+Doe&x=a%26b"));
+	}
+
+	@Test
+	void shouldNotAddAnotherPathSeparator() {
+		String result = URIBuilder.of(URL + "/")
+				.path("users")
+				.toString();
+
+		assertThat(result, equalTo(URL + "/users"));
+	}
+
+	@Test
+	void shouldAppendTheParametersToAnExistingQuery() {
+		URI uri = URIBuilder.of(URL + "?a=1")
+				.param("b", "2")
+				.build();
+
+		assertThat(uri, equalTo(URI.create(URL + "?a=1&b=2")));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenAddingPathSegmentsAfterTheQuery() {
+		URIBuilder builder = URIBuilder.of(URL).param("a", "1");
+
+		IllegalStateException e = assertThrows(IllegalStateException.class, () -> builder.path("users"));
+
+		assertThat(e.getMessage(), equalTo("Path segments cannot be added after the query"));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenUrlIsEmpty() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> URIBuilder.of(""));
+
+		assertThat(e.getMessage(), equalTo("url cannot be null or empty"));
+	}
+}
@@ -0,0 +1,78 @@
+package org.apiphany.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test class for {@link URIEncoder}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class URIEncoderTest {
+
+	private static final String UNRESERVED = "AZaz09-._~";
+
+	@Test
+	void shouldReturnTheSameStringWhenNoEncodingIsNeeded() {
+		assertThat(URIEncoder.encodePath(UNRESERVED, StandardCharsets.UTF_8), sameInstance(UNRESERVED));
+		assertThat(URIEncoder.encodeParamValue(UNRESERVED, StandardCharsets.UTF_8), sameInstance(UNRESERVED));
+	}
+
+	@Test
+	void shouldEncodeSpacesAsPercent20InPaths() {
+		assertThat(URIEncoder.encodePath("hello world", StandardCharsets.UTF_8), equalTo("hello%20world"));
+		assertThat(URIEncoder.encodeParamName("hello world", StandardCharsets.UTF_8), equalTo("hello%20world"));
+	}
+
+	@Test
+	void shouldEncodeSpacesAsPlusInParameterValues() {
+		assertThat(URIEncoder.encodeParamValue("hello world", StandardCharsets.UTF_8), equalTo("hello+world"));
+	}
+
+	@Test
+	void shouldEncodeReservedCharacters() {
+		String result = URIEncoder.encodePath("a+b&c=d/e?f#g@h*", StandardCharsets.UTF_8);
+
+		assertThat(result, equalTo("a%2Bb%26c%3Dd%2Fe%3Ff%23g%40h%2A"));
+	}
+
+	@Test
+	void shouldEncodeNonAsciiCharactersWithTheGivenCharset() {
+		assertThat(URIEncoder.encodePath("caf\u00E9 \u20AC", StandardCharsets.UTF_8), equalTo("caf%C3%A9%20%E2%82%AC"));
+		assertThat(URIEncoder.encodePath("caf\u00E9", StandardCharsets.ISO_8859_1), equalTo("caf%E9"));
+	}
+
+	@Test
+	void shouldEncodeSurrogatePairsTogether() {
+		String result = URIEncoder.encodePath("\uD83D\uDE00x", StandardCharsets.UTF_8);
+
+		assertThat(result, equalTo("%F0%9F%98%80x"));
+	}
+
+	@Test
+	void shouldAppendTheEncodedStringToTheGivenStringBuilder() {
+		StringBuilder sb = new StringBuilder("/users/");
+
+		URIEncoder.encodePath(sb, "John Doe", StandardCharsets.UTF_8).append('?');
+		URIEncoder.encodeParamName(sb, "first name", StandardCharsets.UTF_8).append('=');
+		URIEncoder.encodeParamValue(sb, "John Doe", StandardCharsets.UTF_8);
+
+		assertThat(sb.toString(), equalTo("/users/John%20Doe?first%20name=John+Doe"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "hello world", "a+b&c=d", "caf\u00E9 \u20AC", "\uD83D\uDE00", "100%", "~*!'()" })
+	void shouldBeDecodedToTheOriginalString(final String string) {
+		String encoded = URIEncoder.encodeParamValue(string, StandardCharsets.UTF_8);
+
+		assertThat(URLDecoder.decode(encoded, StandardCharsets.UTF_8), equalTo(string));
+	}
+}
@@ -0,0 +1,85 @@
+package org.apiphany.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link URITemplate}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class URITemplateTest {
+
+	private static final String URL = "http://localhost/api";
+	private static final String USERS_TEMPLATE = URL + "/users/{id}/orders/{orderId}";
+
+	@Test
+	void shouldExpandTemplateVariablesInOrder() {
+		String result = URITemplate.expand(USERS_TEMPLATE, 123, "abc");
+
+		assertThat(result, equalTo(URL + "/users/123/orders/abc"));
+	}
+
+	@Test
+	void shouldReturnTheTemplateWhenItHasNoVariables() {
+		String result = URITemplate.expand(URL);
+
+		assertThat(result, equalTo(URL));
+	}
+
+	@Test
+	void shouldEncodeValuesWhenCharsetIsGiven() {
+		String result = URITemplate.expand(USERS_TEMPLATE, StandardCharsets.UTF_8, "hello world", "name@example.com");
+
+		assertThat(result, equalTo(URL + "/users/hello%20world/orders/name%40example.com"));
+	}
+
+	@Test
+	void shouldNotEncodeValuesWhenCharsetIsNotGiven() {
+		String result = URITemplate.expand(USERS_TEMPLATE, "hello world", "name@example.com");
+
+		assertThat(result, equalTo(URL + "/users/hello world/orders/name@example.com"));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenThereAreNotEnoughValues() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> URITemplate.expand(USERS_TEMPLATE, 123));
+
+		assertThat(e.getMessage(), equalTo("Not enough values to expand URI template: " + USERS_TEMPLATE));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenThereAreTooManyValues() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> URITemplate.expand(USERS_TEMPLATE, 1, 2, 3));
+
+		assertThat(e.getMessage(), equalTo("Too many values (3) to expand URI template: " + USERS_TEMPLATE));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenAValueIsNull() {
+		Object[] values = { 123, null };
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> URITemplate.expand(USERS_TEMPLATE, values));
+
+		assertThat(e.getMessage(), equalTo("Value for variable {orderId} cannot be null"));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenVariableIsNotClosed() {
+		String template = URL + "/users/{id";
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> URITemplate.expand(template, 1));
+
+		assertThat(e.getMessage(), equalTo("Unclosed variable at index " + template.indexOf('{') + " in URI template: " + template));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenTemplateIsEmpty() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> URITemplate.expand(""));
+
+		assertThat(e.getMessage(), equalTo("URI template cannot be null or empty"));
+	}
+}
@@ -0,0 +1,97 @@
+package org.apiphany.io;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.apiphany.security.MessageDigestAlgorithm;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link BodyFingerprint}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class BodyFingerprintTest {
+
+	private static final String MESSAGE = "Some message body";
+	private static final byte[] BYTES = MESSAGE.getBytes(StandardCharsets.UTF_8);
+	private static final int HASH_BYTES = 8;
+
+	@Test
+	void shouldComputeTheSameHashAsTheMaterializedBody() {
+		BodyFingerprint fingerprint = BodyFingerprint.sha256();
+
+		fingerprint.update(BYTES, 0, 4);
+		fingerprint.update(BYTES[4]);
+		fingerprint.update(ByteBuffer.wrap(BYTES, 5, BYTES.length - 5));
+		fingerprint.complete();
+
+		assertThat(fingerprint.isComplete(), equalTo(true));
+		assertThat(fingerprint.length(), equalTo((long) BYTES.length));
+		assertThat(fingerprint.hash(HASH_BYTES), equalTo(MessageDigestAlgorithm.SHA256.hash(BYTES, HASH_BYTES)));
+	}
+
+	@Test
+	void shouldReturnNullHashWhenNotComplete() {
+		BodyFingerprint fingerprint = BodyFingerprint.sha256();
+
+		fingerprint.update(BYTES, 0, BYTES.length);
+
+		assertThat(fingerprint.isComplete(), equalTo(false));
+		assertThat(fingerprint.hash(HASH_BYTES), nullValue());
+	}
+
+	@Test
+	void shouldNotChangeTheBufferPositionOnUpdate() {
+		BodyFingerprint fingerprint = BodyFingerprint.sha256();
+		ByteBuffer buffer = ByteBuffer.wrap(BYTES);
+
+		fingerprint.update(buffer);
+
+		assertThat(buffer.position(), equalTo(0));
+		assertThat(fingerprint.length(), equalTo((long) BYTES.length));
+	}
+
+	@Test
+	void shouldIgnoreUpdatesAfterCompletion() {
+		BodyFingerprint fingerprint = BodyFingerprint.sha256();
+		fingerprint.update(BYTES, 0, BYTES.length);
+		fingerprint.complete();
+
+		fingerprint.update(BYTES, 0, BYTES.length);
+		fingerprint.update(1);
+		fingerprint.update(ByteBuffer.wrap(BYTES));
+		fingerprint.reset();
+		fingerprint.complete();
+
+		assertThat(fingerprint.length(), equalTo((long) BYTES.length));
+		assertThat(fingerprint.hash(HASH_BYTES), equalTo(MessageDigestAlgorithm.SHA256.hash(BYTES, HASH_BYTES)));
+	}
+
+	@Test
+	void shouldDiscardTheBytesSeenSoFarOnReset() {
+		BodyFingerprint fingerprint = BodyFingerprint.of(MessageDigestAlgorithm.SHA512);
+		fingerprint.update(BYTES, 0, 3);
+
+		fingerprint.reset();
+		fingerprint.update(BYTES, 0, BYTES.length);
+		fingerprint.complete();
+
+		assertThat(fingerprint.length(), equalTo((long) BYTES.length));
+		assertThat(fingerprint.hash(HASH_BYTES), equalTo(MessageDigestAlgorithm.SHA512.hash(BYTES, HASH_BYTES)));
+	}
+
+	@Test
+	void shouldComputeTheHashOfAnEmptyBody() {
+		BodyFingerprint fingerprint = BodyFingerprint.sha256();
+
+		fingerprint.complete();
+
+		assertThat(fingerprint.length(), equalTo(0L));
+		assertThat(fingerprint.hash(HASH_BYTES), equalTo(MessageDigestAlgorithm.SHA256.hash(new byte[0], HASH_BYTES)));
+	}
+}
@@ -0,0 +1,120 @@
+package org.apiphany.io;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apiphany.security.MessageDigestAlgorithm;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link FingerprintingInputStream}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class FingerprintingInputStreamTest {
+
+	private static final byte[] BYTES = "Some streamed message body".getBytes(StandardCharsets.UTF_8);
+	private static final int HASH_BYTES = 8;
+
+	@Test
+	void shouldFingerprintAllBytesReadWhenTheEndOfStreamIsReached() throws IOException {
+		FingerprintingInputStream inputStream = FingerprintingInputStream.of(new ByteArrayInputStream(BYTES));
+
+		byte[] result = inputStream.readAllBytes();
+
+		BodyFingerprint fingerprint = inputStream.getFingerprint();
+		assertThat(result, equalTo(BYTES));
+		assertThat(fingerprint.isComplete(), equalTo(true));
+		assertThat(fingerprint.length(), equalTo((long) BYTES.length));
+		assertThat(fingerprint.hash(HASH_BYTES), equalTo(MessageDigestAlgorithm.SHA256.hash(BYTES, HASH_BYTES)));
+	}
+
+	@Test
+	void shouldFingerprintSingleBytesRead() throws IOException {
+		FingerprintingInputStream inputStream = FingerprintingInputStream.of(new ByteArrayInputStream(BYTES));
+
+		while (-1 != inputStream.read()) {
+			// read everything
+		}
+
+		assertThat(inputStream.getFingerprint().hash(HASH_BYTES), equalTo(MessageDigestAlgorithm.SHA256.hash(BYTES, HASH_BYTES)));
+	}
+
+	@Test
+	void shouldCallTheEndCallbackOnceWithTheCompleteFingerprintWhenTheEndOfStreamIsReached() throws IOException {
+		List<BodyFingerprint> fingerprints = new ArrayList<>();
+		FingerprintingInputStream inputStream = FingerprintingInputStream.of(new ByteArrayInputStream(BYTES), fingerprints::add);
+
+		inputStream.readAllBytes();
+		inputStream.read();
+		inputStream.close();
+
+		assertThat(fingerprints, hasSize(1));
+		assertThat(fingerprints.getFirst().isComplete(), equalTo(true));
+		assertThat(fingerprints.getFirst().hash(HASH_BYTES), equalTo(MessageDigestAlgorithm.SHA256.hash(BYTES, HASH_BYTES)));
+	}
+
+	@Test
+	void shouldCallTheEndCallbackWithTheIncompleteFingerprintWhenTheStreamIsClosedBeforeTheEnd() throws IOException {
+		List<BodyFingerprint> fingerprints = new ArrayList<>();
+		FingerprintingInputStream inputStream = FingerprintingInputStream.of(new ByteArrayInputStream(BYTES), fingerprints::add);
+
+		inputStream.read(new byte[1]);
+		inputStream.close();
+
+		assertThat(fingerprints, hasSize(1));
+		assertThat(fingerprints.getFirst().isComplete(), equalTo(false));
+		assertThat(fingerprints.getFirst().length(), equalTo(1L));
+	}
+
+	@Test
+	void shouldNotCompleteTheFingerprintBeforeTheEndOfStream() throws IOException {
+		FingerprintingInputStream inputStream = FingerprintingInputStream.of(new ByteArrayInputStream(BYTES));
+
+		int count = inputStream.read(new byte[BYTES.length]);
+
+		assertThat(count, equalTo(BYTES.length));
+		assertThat(inputStream.getFingerprint().isComplete(), equalTo(false));
+		assertThat(inputStream.getFingerprint().length(), equalTo((long) BYTES.length));
+	}
+
+	@Test
+	void shouldFingerprintSkippedBytes() throws IOException {
+		FingerprintingInputStream inputStream = FingerprintingInputStream.of(new ByteArrayInputStream(BYTES));
+
+		long skipped = inputStream.skip(5);
+		inputStream.readAllBytes();
+
+		assertThat(skipped, equalTo(5L));
+		assertThat(inputStream.getFingerprint().hash(HASH_BYTES), equalTo(MessageDigestAlgorithm.SHA256.hash(BYTES, HASH_BYTES)));
+	}
+
+	@Test
+	void shouldReturnZeroWhenSkippingNonPositiveCount() throws IOException {
+		FingerprintingInputStream inputStream = FingerprintingInputStream.of(new ByteArrayInputStream(BYTES));
+
+		long skipped = inputStream.skip(0);
+
+		assertThat(skipped, equalTo(0L));
+		assertThat(inputStream.getFingerprint().length(), equalTo(0L));
+	}
+
+	@Test
+	void shouldNotSupportMarkAndReset() {
+		FingerprintingInputStream inputStream = FingerprintingInputStream.of(new ByteArrayInputStream(BYTES));
+		inputStream.mark(10);
+
+		IOException e = assertThrows(IOException.class, inputStream::reset);
+
+		assertThat(inputStream.markSupported(), equalTo(false));
+		assertThat(e.getMessage(), equalTo("mark/reset not supported"));
+	}
+}
@@ -0,0 +1,58 @@
+package org.apiphany.io;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link PayloadSize}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class PayloadSizeTest {
+
+	private static final byte[] BYTES = new byte[] { 1, 2, 3 };
+
+	@Test
+	void shouldReturnTheByteArrayLengthAsSize() {
+		long size = PayloadSize.sizeOf(BYTES);
+
+		assertThat(size, equalTo((long) BYTES.length));
+	}
+
+	@Test
+	void shouldReturnZeroAsSizeForNullBody() {
+		long size = PayloadSize.sizeOf(null);
+
+		assertThat(size, equalTo(0L));
+	}
+
+	@Test
+	void shouldReturnUnknownAsSizeForInputStreams() {
+		long size = PayloadSize.sizeOf(new ByteArrayInputStream(BYTES));
+
+		assertThat(size, equalTo(PayloadSize.UNKNOWN));
+	}
+
+	@Test
+	void shouldBuildPayloadSizeFromRawAndDecodedBodies() {
+		PayloadSize payloadSize = PayloadSize.of(7, BYTES, new byte[10]);
+
+		assertThat(payloadSize.request(), equalTo(7L));
+		assertThat(payloadSize.response(), equalTo(3L));
+		assertThat(payloadSize.decodedResponse(), equalTo(10L));
+	}
+
+	@Test
+	void shouldHaveAllSizesUnknownOnNone() {
+		assertFalse(PayloadSize.isKnown(PayloadSize.NONE.request()));
+		assertFalse(PayloadSize.isKnown(PayloadSize.NONE.response()));
+		assertFalse(PayloadSize.isKnown(PayloadSize.NONE.decodedResponse()));
+		assertTrue(PayloadSize.isKnown(0));
+	}
+}
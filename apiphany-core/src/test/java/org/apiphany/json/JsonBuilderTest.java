@@ -3,6 +3,7 @@ package org.apiphany.json;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.ByteArrayInputStream;
@@ -12,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
+import org.apiphany.json.builtin.BuiltInJsonBuilder;
 import org.apiphany.lang.Strings;
 import org.apiphany.lang.annotation.Creator;
 import org.apiphany.lang.annotation.FieldName;
@@ -337,10 +339,10 @@ class JsonBuilderTest {
 		}
 
 		@Test
-		void shouldReturnAJsonBuilderInstanceIfNoLibraryInfoIsProvided() {
+		void shouldReturnTheBuiltInJsonBuilderInstanceIfNoLibraryInfoIsProvided() {
 			JsonBuilder instance = JsonBuilder.initializeInstance((OptionalLibrary<? extends JsonBuilder>[]) null);
 
-			assertThat(instance.getClass(), equalTo(JsonBuilder.class));
+			assertThat(instance, sameInstance(BuiltInJsonBuilder.instance()));
 		}
 	}
 
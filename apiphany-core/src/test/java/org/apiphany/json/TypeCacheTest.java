@@ -0,0 +1,77 @@
+package org.apiphany.json;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.morphix.reflection.GenericClass;
+
+/**
+ * Test class for {@link TypeCache}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class TypeCacheTest {
+
+	@Test
+	void shouldComputeTheValueOnlyOnceForTheSameType() {
+		TypeCache<Object> cache = new TypeCache<>();
+		AtomicInteger count = new AtomicInteger();
+
+		Object value1 = cache.get(String.class, type -> new Object[] { type, count.incrementAndGet() });
+		Object value2 = cache.get(String.class, type -> new Object[] { type, count.incrementAndGet() });
+
+		assertThat(value1, sameInstance(value2));
+		assertThat(count.get(), equalTo(1));
+	}
+
+	@Test
+	void shouldCacheEqualParameterizedTypesOnce() {
+		TypeCache<String> cache = new TypeCache<>();
+		Type type1 = new GenericClass<List<String>>() {
+			// empty
+		}.getType();
+		Type type2 = new GenericClass<List<String>>() {
+			// empty
+		}.getType();
+
+		cache.get(type1, Type::getTypeName);
+		cache.get(type2, Type::getTypeName);
+
+		assertThat(cache.size(), equalTo(1));
+	}
+
+	@Test
+	void shouldClearTheCacheWhenFull() {
+		TypeCache<String> cache = new TypeCache<>(2);
+
+		cache.get(String.class, Type::getTypeName);
+		cache.get(Integer.class, Type::getTypeName);
+		cache.get(Long.class, Type::getTypeName);
+
+		assertThat(cache.size(), equalTo(1));
+	}
+
+	@Test
+	void shouldRemoveAllValuesOnClear() {
+		TypeCache<String> cache = new TypeCache<>();
+		cache.get(String.class, Type::getTypeName);
+
+		cache.clear();
+
+		assertThat(cache.size(), equalTo(0));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenMaxSizeIsNotPositive() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new TypeCache<>(0));
+
+		assertThat(e.getMessage(), equalTo("maxSize must be positive"));
+	}
+}
@@ -0,0 +1,112 @@
+package org.apiphany.json.builtin;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apiphany.lang.Strings;
+import org.junit.jupiter.api.Test;
+import org.morphix.reflection.GenericClass;
+
+/**
+ * Test class for {@link BuiltInJsonBuilder}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class BuiltInJsonBuilderTest {
+
+	private static final String NAME = "John";
+	private static final int AGE = 30;
+	private static final String JSON = "{\"name\":\"John\",\"age\":30}";
+
+	private static final GenericClass<List<Person>> PERSON_LIST = new GenericClass<>() {
+		// empty
+	};
+
+	record Person(String name, int age) {
+		// empty
+	}
+
+	private final BuiltInJsonBuilder jsonBuilder = new BuiltInJsonBuilder();
+
+	@Test
+	void shouldReturnTheSameInstance() {
+		assertThat(BuiltInJsonBuilder.instance(), sameInstance(BuiltInJsonBuilder.instance()));
+	}
+
+	@Test
+	void shouldSerializeObjects() {
+		jsonBuilder.indentOutput(false);
+
+		String json = jsonBuilder.toJsonString(new Person(NAME, AGE));
+
+		assertThat(json, equalTo(JSON));
+	}
+
+	@Test
+	void shouldSerializeObjectsWithIndentation() {
+		jsonBuilder.indentOutput(true);
+
+		String json = jsonBuilder.toJsonString(new Person(NAME, AGE));
+
+		assertThat(json, equalTo(Strings.EOL + "{" + Strings.EOL + "  \"name\" : \"John\"," + Strings.EOL + "  \"age\" : 30"
+				+ Strings.EOL + "}"));
+	}
+
+	@Test
+	void shouldReturnNullWhenSerializingNull() {
+		String json = jsonBuilder.toJsonString(null);
+
+		assertThat(json, nullValue());
+	}
+
+	@Test
+	void shouldDeserializeStrings() {
+		Person person = jsonBuilder.fromJsonString(JSON, Person.class);
+		List<Person> persons = jsonBuilder.fromJsonString("[" + JSON + "]", PERSON_LIST);
+
+		assertThat(person, equalTo(new Person(NAME, AGE)));
+		assertThat(persons, equalTo(List.of(new Person(NAME, AGE))));
+	}
+
+	@Test
+	void shouldDeserializeBytes() {
+		byte[] json = JSON.getBytes(StandardCharsets.UTF_8);
+		byte[] jsonList = ("[" + JSON + "]").getBytes(StandardCharsets.UTF_8);
+
+		Person person = jsonBuilder.fromJsonBytes(json, Person.class);
+		List<Person> persons = jsonBuilder.fromJsonBytes(jsonList, PERSON_LIST);
+
+		assertThat(person, equalTo(new Person(NAME, AGE)));
+		assertThat(persons, equalTo(List.of(new Person(NAME, AGE))));
+	}
+
+	@Test
+	void shouldDeserializeAndCloseInputStreams() throws Exception {
+		InputStream json = spy(new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)));
+		InputStream jsonList = spy(new ByteArrayInputStream(("[" + JSON + "]").getBytes(StandardCharsets.UTF_8)));
+
+		Person person = jsonBuilder.fromJsonInputStream(json, Person.class);
+		List<Person> persons = jsonBuilder.fromJsonInputStream(jsonList, PERSON_LIST);
+
+		assertThat(person, equalTo(new Person(NAME, AGE)));
+		assertThat(persons, equalTo(List.of(new Person(NAME, AGE))));
+		verify(json).close();
+		verify(jsonList).close();
+	}
+
+	@Test
+	void shouldReturnNullOnInvalidJson() {
+		Person person = jsonBuilder.fromJsonString("{\"name\":", Person.class);
+
+		assertThat(person, nullValue());
+	}
+}
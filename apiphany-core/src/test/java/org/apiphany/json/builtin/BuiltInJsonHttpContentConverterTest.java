@@ -0,0 +1,128 @@
+package org.apiphany.json.builtin;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apiphany.ApiMimeType;
+import org.apiphany.io.ContentType;
+import org.junit.jupiter.api.Test;
+import org.morphix.convert.ObjectConverterException;
+import org.morphix.reflection.GenericClass;
+
+/**
+ * Test class for {@link BuiltInJsonHttpContentConverter}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class BuiltInJsonHttpContentConverterTest {
+
+	private static final String JSON_STRING = "{\"name\":\"John\",\"age\":30}";
+
+	static class Person {
+
+		public String name;
+		public int age;
+	}
+
+	@Test
+	void shouldConvertJsonStringToObject() {
+		var converter = new BuiltInJsonHttpContentConverter<Person>();
+
+		Person result = converter.from(JSON_STRING, null, Person.class);
+
+		assertThat(result.name, equalTo("John"));
+		assertThat(result.age, equalTo(30));
+	}
+
+	@Test
+	void shouldConvertJsonStringToGenericObject() {
+		Object json = "[" + JSON_STRING + "]";
+		var converter = new BuiltInJsonHttpContentConverter<List<Person>>();
+
+		List<Person> result = converter.from(json, null, new GenericClass<List<Person>>() {
+			// empty
+		});
+
+		assertThat(result.getFirst().name, equalTo("John"));
+		assertThat(result.getFirst().age, equalTo(30));
+	}
+
+	@Test
+	void shouldConvertJsonBytesToObject() {
+		var converter = new BuiltInJsonHttpContentConverter<Person>();
+
+		Person result = converter.from(JSON_STRING.getBytes(StandardCharsets.UTF_8), null, Person.class);
+
+		assertThat(result.name, equalTo("John"));
+		assertThat(result.age, equalTo(30));
+	}
+
+	@Test
+	void shouldConvertJsonInputStreamToObject() {
+		var converter = new BuiltInJsonHttpContentConverter<Person>();
+		InputStream inputStream = new ByteArrayInputStream(JSON_STRING.getBytes(StandardCharsets.UTF_8));
+
+		Person result = converter.from(inputStream, null, Person.class);
+
+		assertThat(result.name, equalTo("John"));
+		assertThat(result.age, equalTo(30));
+	}
+
+	@Test
+	void shouldThrowExceptionOnConvertWrongJsonStringToObject() {
+		var converter = new BuiltInJsonHttpContentConverter<Person>();
+
+		ObjectConverterException e = assertThrows(ObjectConverterException.class, () -> converter.from("x", null, Person.class));
+
+		assertThat(e.getMessage(), equalTo("Error converting JSON response to " + Person.class.getName()));
+	}
+
+	@Test
+	void shouldThrowExceptionOnConvertWrongConvertJsonStringToGenericObject() {
+		var converter = new BuiltInJsonHttpContentConverter<List<Person>>();
+
+		GenericClass<List<Person>> genericClass = new GenericClass<>() {
+			// empty
+		};
+		ObjectConverterException e = assertThrows(ObjectConverterException.class, () -> converter.from("x", null, genericClass));
+
+		assertThat(e.getMessage(), equalTo("Error converting JSON response to " + genericClass.getType().getTypeName()));
+	}
+
+	@Test
+	void shouldReturnTrueIfObjectIsConvertible() {
+		var converter = new BuiltInJsonHttpContentConverter<String>();
+		ApiMimeType mimeType = ContentType.APPLICATION_JSON;
+
+		boolean result = converter.isConvertible(null, mimeType, null, null);
+
+		assertTrue(result);
+	}
+
+	@Test
+	void shouldReturnFalseIfObjectIsNotConvertible() {
+		var converter = new BuiltInJsonHttpContentConverter<String>();
+		ApiMimeType mimeType = ContentType.TEXT_PLAIN;
+
+		boolean result = converter.isConvertible(null, mimeType, null, null);
+
+		assertFalse(result);
+	}
+
+	@Test
+	void shouldReturnFalseIfMimeTypeIsNull() {
+		var converter = new BuiltInJsonHttpContentConverter<String>();
+
+		boolean result = converter.isConvertible(null, null, null, null);
+
+		assertFalse(result);
+	}
+}
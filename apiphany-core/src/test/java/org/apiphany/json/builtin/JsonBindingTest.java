@@ -0,0 +1,177 @@
+package org.apiphany.json.builtin;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.apiphany.lang.annotation.AsValue;
+import org.apiphany.lang.annotation.Creator;
+import org.apiphany.lang.annotation.FieldName;
+import org.apiphany.lang.annotation.FieldOrder;
+import org.apiphany.lang.annotation.Ignored;
+import org.apiphany.security.Sensitive;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link JsonBinding}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class JsonBindingTest {
+
+	enum Code {
+
+		A("a-code");
+
+		private final String value;
+
+		Code(final String value) {
+			this.value = value;
+		}
+
+		@AsValue
+		public String value() {
+			return value;
+		}
+	}
+
+	record Person(@FieldName("full_name") String name, int age) {
+		// empty
+	}
+
+	static class Base {
+
+		String id;
+	}
+
+	@FieldOrder({ "age", "id" })
+	static class Account extends Base {
+
+		static final String CONSTANT = "constant";
+
+		String name;
+
+		int age;
+
+		transient String cached;
+
+		@Ignored
+		String ignored;
+
+		@Sensitive
+		String password;
+
+		private String token;
+
+		@Sensitive(visibility = Sensitive.Visibility.REDACTED)
+		public String getToken() {
+			return token;
+		}
+	}
+
+	static class Token {
+
+		private final String value;
+
+		private Token(final String value) {
+			this.value = value;
+		}
+
+		@Creator
+		static Token of(final String value) {
+			return new Token(value);
+		}
+	}
+
+	static class NoDefaultConstructor {
+
+		NoDefaultConstructor(final String value) {
+			// empty
+		}
+	}
+
+	@Test
+	void shouldReturnTheSameBindingForTheSameClass() {
+		JsonBinding binding1 = JsonBinding.of(Account.class);
+		JsonBinding binding2 = JsonBinding.of(Account.class);
+
+		assertThat(binding1, sameInstance(binding2));
+		assertThat(binding1.type(), equalTo(Account.class));
+	}
+
+	@Test
+	void shouldBindNonStaticNonTransientFieldsInFieldOrder() {
+		JsonBinding binding = JsonBinding.of(Account.class);
+
+		String[] names = Arrays.stream(binding.properties()).map(JsonBinding.Property::name).toArray(String[]::new);
+
+		assertThat(names[0], equalTo("age"));
+		assertThat(names[1], equalTo("id"));
+		assertThat(binding.property("cached"), nullValue());
+		assertThat(binding.property(Account.CONSTANT), nullValue());
+	}
+
+	@Test
+	void shouldReadTheAnnotationsFromFieldsAndGetters() {
+		JsonBinding binding = JsonBinding.of(Account.class);
+
+		assertTrue(binding.property("name").serializable());
+		assertFalse(binding.property("ignored").serializable());
+		assertFalse(binding.property("password").serializable());
+		assertTrue(binding.property("token").serializable());
+		assertTrue(binding.property("token").redacted());
+	}
+
+	@Test
+	void shouldUseTheCanonicalConstructorForRecords() {
+		JsonBinding binding = JsonBinding.of(Person.class);
+
+		assertThat(binding.creatorParameterNames(), arrayContaining("full_name", "age"));
+		assertFalse(binding.isDelegatingCreator());
+	}
+
+	@Test
+	void shouldFindDelegatingCreators() {
+		JsonBinding binding = JsonBinding.of(Token.class);
+
+		assertTrue(binding.isDelegatingCreator());
+		assertThat(((Token) JsonBinding.create(binding.creator(), "abc")).value, equalTo("abc"));
+	}
+
+	@Test
+	void shouldFindEnumConstantsByNameAndValue() {
+		JsonBinding binding = JsonBinding.of(Code.class);
+
+		assertThat(binding.enumConstant("A"), equalTo(Code.A));
+		assertThat(binding.enumConstant("a"), equalTo(Code.A));
+		assertThat(binding.enumConstant("a-code"), equalTo(Code.A));
+		assertThat(binding.enumConstant("b"), nullValue());
+	}
+
+	@Test
+	void shouldFindStringCreatorsForJdkTypes() {
+		UUID id = UUID.randomUUID();
+		JsonBinding binding = JsonBinding.of(UUID.class);
+
+		assertThat(binding.properties().length, equalTo(0));
+		assertThat(JsonBinding.create(binding.stringCreator(), id.toString()), equalTo(id));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenCreatingInstanceWithoutDefaultConstructor() {
+		JsonBinding binding = JsonBinding.of(NoDefaultConstructor.class);
+
+		IllegalStateException e = assertThrows(IllegalStateException.class, binding::newInstance);
+
+		assertThat(e.getMessage(), equalTo("Cannot create instance of " + NoDefaultConstructor.class.getName()
+				+ ", no creator or default constructor found"));
+	}
+}
@@ -0,0 +1,232 @@
+package org.apiphany.json.builtin;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apiphany.lang.annotation.AsValue;
+import org.apiphany.lang.annotation.Creator;
+import org.apiphany.lang.annotation.FieldName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.morphix.reflection.GenericClass;
+
+/**
+ * Test class for {@link JsonReader}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class JsonReaderTest {
+
+	private static final String NAME = "John";
+	private static final int AGE = 30;
+	private static final String PERSON_JSON = "{\"name\":\"John\",\"age\":30}";
+
+	enum Color {
+		RED
+	}
+
+	enum Code {
+
+		A("a-code");
+
+		private final String value;
+
+		Code(final String value) {
+			this.value = value;
+		}
+
+		@AsValue
+		public String value() {
+			return value;
+		}
+	}
+
+	record Person(String name, int age) {
+		// empty
+	}
+
+	record NamedPerson(@FieldName("full_name") String name, Optional<String> nickname) {
+		// empty
+	}
+
+	static class PersonBean {
+
+		String name;
+		int age;
+		Color color;
+		List<Person> friends;
+		Map<String, Integer> scores;
+		Set<String> tags;
+		byte[] data;
+		UUID id;
+		Instant createdAt;
+		BigDecimal amount;
+	}
+
+	static class Page<T> {
+
+		List<T> items;
+		long total;
+	}
+
+	static class PersonPage extends Page<Person> {
+		// empty
+	}
+
+	static class ErrorResponse {
+
+		private final String error;
+		private final String description;
+
+		@Creator
+		ErrorResponse(@FieldName("error") final String error, @FieldName("error_description") final String description) {
+			this.error = error;
+			this.description = description;
+		}
+	}
+
+	static class Token {
+
+		private final String value;
+
+		private Token(final String value) {
+			this.value = value;
+		}
+
+		@Creator
+		static Token of(final String value) {
+			return new Token(value);
+		}
+	}
+
+	@Test
+	void shouldReadRecords() throws Exception {
+		Object result = JsonReader.read(PERSON_JSON, Person.class);
+
+		assertThat(result, equalTo(new Person(NAME, AGE)));
+	}
+
+	@Test
+	void shouldReadRecordsWithFieldNamesAndMissingOptionals() throws Exception {
+		Object result = JsonReader.read("{\"full_name\":\"John\"}", NamedPerson.class);
+
+		assertThat(result, equalTo(new NamedPerson(NAME, Optional.empty())));
+	}
+
+	@Test
+	void shouldReadPojos() throws Exception {
+		UUID id = UUID.randomUUID();
+		String json = "{ \"name\" : \"John\", \"age\" : 30, \"color\" : \"red\", \"friends\" : [ " + PERSON_JSON + " ],"
+				+ " \"scores\" : { \"math\" : 10 }, \"tags\" : [ \"a\", \"a\" ], \"data\" : \"AQID\", \"id\" : \"" + id + "\","
+				+ " \"createdAt\" : \"2024-01-02T03:04:05Z\", \"amount\" : 12.50, \"unknown\" : { \"a\" : [ 1, null ] } }";
+
+		PersonBean result = (PersonBean) JsonReader.read(json, PersonBean.class);
+
+		assertThat(result.name, equalTo(NAME));
+		assertThat(result.age, equalTo(AGE));
+		assertThat(result.color, equalTo(Color.RED));
+		assertThat(result.friends, equalTo(List.of(new Person(NAME, AGE))));
+		assertThat(result.scores, equalTo(Map.of("math", 10)));
+		assertThat(result.tags, equalTo(Set.of("a")));
+		assertThat(result.data, equalTo(new byte[] { 1, 2, 3 }));
+		assertThat(result.id, equalTo(id));
+		assertThat(result.createdAt, equalTo(Instant.parse("2024-01-02T03:04:05Z")));
+		assertThat(result.amount, equalTo(new BigDecimal("12.50")));
+	}
+
+	@Test
+	void shouldReadGenericTypes() throws Exception {
+		GenericClass<Map<String, List<Person>>> type = new GenericClass<>() {
+			// empty
+		};
+
+		Object result = JsonReader.read("{\"people\":[" + PERSON_JSON + "]}", type.getType());
+
+		assertThat(result, equalTo(Map.of("people", List.of(new Person(NAME, AGE)))));
+	}
+
+	@Test
+	void shouldResolveTypeVariablesFromSuperClasses() throws Exception {
+		PersonPage result = (PersonPage) JsonReader.read("{\"items\":[" + PERSON_JSON + "],\"total\":1}", PersonPage.class);
+
+		assertThat(result.items, equalTo(List.of(new Person(NAME, AGE))));
+		assertThat(result.total, equalTo(1L));
+	}
+
+	@Test
+	void shouldReadWithCreators() throws Exception {
+		ErrorResponse errorResponse = (ErrorResponse) JsonReader.read("{\"error_description\":\"d\",\"error\":\"e\"}",
+				ErrorResponse.class);
+		Token token = (Token) JsonReader.read("\"abc\"", Token.class);
+
+		assertThat(errorResponse.error, equalTo("e"));
+		assertThat(errorResponse.description, equalTo("d"));
+		assertThat(token.value, equalTo("abc"));
+	}
+
+	@Test
+	void shouldReadUntypedValues() throws Exception {
+		Object result = JsonReader.read("[1, 12345678901, 123456789012345678901234, 2.5, true, null, \"s\\u0041\\t\", {}]",
+				Object.class);
+
+		assertThat(result, equalTo(Arrays.asList(1, 12345678901L, new BigInteger("123456789012345678901234"), 2.5,
+				true, null, "sA\t", Map.of())));
+	}
+
+	@Test
+	void shouldReadScalars() throws Exception {
+		assertThat(JsonReader.read("null", int.class), equalTo(0));
+		assertThat(JsonReader.read("\"42\"", int.class), equalTo(42));
+		assertThat(JsonReader.read("\"a-code\"", Code.class), equalTo(Code.A));
+		assertThat(JsonReader.read("[1,2]", int[].class), equalTo(new int[] { 1, 2 }));
+		assertThat(JsonReader.read("null", String.class), nullValue());
+	}
+
+	@Test
+	void shouldReadFromInputStreamsLargerThanTheBuffer() throws Exception {
+		StringBuilder json = new StringBuilder("[");
+		for (int i = 0; i < 5000; ++i) {
+			json.append(i > 0 ? "," : "").append("\"value\\\"").append(i).append('"');
+		}
+		json.append(']');
+
+		Object result = JsonReader.read(new ByteArrayInputStream(json.toString().getBytes(StandardCharsets.UTF_8)), List.class);
+
+		assertThat(result, is(instanceOf(List.class)));
+		assertThat(((List<?>) result).size(), equalTo(5000));
+		assertThat(((List<?>) result).getLast(), equalTo("value\"4999"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "", "{", "[1,]", "{\"a\":1}x", "tru", "{\"a\" 1}", "\"abc", "{\"a\":1,}" })
+	void shouldThrowExceptionOnInvalidJson(final String json) {
+		assertThrows(IllegalArgumentException.class, () -> JsonReader.read(json, Object.class));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenTheNestingDepthIsTooBig() {
+		String json = "[".repeat(JsonReader.MAX_DEPTH + 1) + "]".repeat(JsonReader.MAX_DEPTH + 1);
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> JsonReader.read(json, Object.class));
+
+		assertThat(e.getMessage(), equalTo("JSON nesting depth is greater than " + JsonReader.MAX_DEPTH + " at position "
+				+ JsonReader.MAX_DEPTH));
+	}
+}
@@ -0,0 +1,182 @@
+package org.apiphany.json.builtin;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.apiphany.lang.Strings;
+import org.apiphany.lang.annotation.AsValue;
+import org.apiphany.lang.annotation.FieldName;
+import org.apiphany.lang.annotation.FieldOrder;
+import org.apiphany.lang.annotation.Ignored;
+import org.apiphany.security.Sensitive;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link JsonWriter}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class JsonWriterTest {
+
+	private static final String NAME = "John";
+	private static final int AGE = 30;
+
+	enum Color {
+		RED
+	}
+
+	enum Code {
+
+		A("a-code");
+
+		private final String value;
+
+		Code(final String value) {
+			this.value = value;
+		}
+
+		@AsValue
+		public String value() {
+			return value;
+		}
+	}
+
+	record Person(String name, int age) {
+		// empty
+	}
+
+	@FieldOrder({ "age", "name" })
+	static class OrderedPerson {
+
+		String name = NAME;
+		int age = AGE;
+	}
+
+	static class Account {
+
+		@FieldName("user_name")
+		String userName = NAME;
+
+		@Ignored
+		String ignored = "ignored";
+
+		@Sensitive
+		String password = "password";
+
+		@Sensitive(visibility = Sensitive.Visibility.REDACTED)
+		String token = "token";
+
+		@Sensitive(visibility = Sensitive.Visibility.REDACTED)
+		List<String> roles = List.of("admin");
+
+		@Sensitive(visibility = Sensitive.Visibility.REDACTED)
+		Map<String, String> claims = Map.of("sub", NAME);
+
+		transient String cached = "cached";
+
+		String nullValue;
+	}
+
+	static class Node {
+
+		Node next;
+	}
+
+	@Test
+	void shouldWriteScalars() {
+		UUID id = UUID.randomUUID();
+
+		assertThat(JsonWriter.write("a\"b\\c\n\u0001", false), equalTo("\"a\\\"b\\\\c\\n\\u0001\""));
+		assertThat(JsonWriter.write(AGE, false), equalTo("30"));
+		assertThat(JsonWriter.write(new BigDecimal("12.50"), false), equalTo("12.50"));
+		assertThat(JsonWriter.write(true, false), equalTo("true"));
+		assertThat(JsonWriter.write(Double.NaN, false), equalTo("\"NaN\""));
+		assertThat(JsonWriter.write(Color.RED, false), equalTo("\"RED\""));
+		assertThat(JsonWriter.write(Code.A, false), equalTo("\"a-code\""));
+		assertThat(JsonWriter.write(new byte[] { 1, 2, 3 }, false), equalTo("\"AQID\""));
+		assertThat(JsonWriter.write(Optional.empty(), false), equalTo("null"));
+		assertThat(JsonWriter.write(id, false), equalTo("\"" + id + "\""));
+	}
+
+	@Test
+	void shouldWriteRecords() {
+		String json = JsonWriter.write(new Person(NAME, AGE), false);
+
+		assertThat(json, equalTo("{\"name\":\"John\",\"age\":30}"));
+	}
+
+	@Test
+	void shouldWriteCollectionsArraysAndMapsWithoutNullMapValues() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("list", List.of(1, 2));
+		map.put("array", new int[] { 3 });
+		map.put("null", null);
+		map.put("nested", Map.of());
+
+		String json = JsonWriter.write(map, false);
+
+		assertThat(json, equalTo("{\"list\":[1,2],\"array\":[3],\"nested\":{}}"));
+	}
+
+	@Test
+	void shouldWritePropertiesInFieldOrder() {
+		String json = JsonWriter.write(new OrderedPerson(), false);
+
+		assertThat(json, equalTo("{\"age\":30,\"name\":\"John\"}"));
+	}
+
+	@Test
+	void shouldHandleAnnotatedProperties() {
+		String json = JsonWriter.write(new Account(), false);
+
+		assertThat(json, equalTo("{\"user_name\":\"John\",\"token\":\"-REDACTED-\",\"roles\":[\"-REDACTED-\"],"
+				+ "\"claims\":{\"redacted\":\"-REDACTED-\"}}"));
+	}
+
+	@Test
+	void shouldIndentOutputLikeTheJacksonDefaultPrettyPrinter() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("people", List.of(new Person(NAME, AGE)));
+		map.put("empty", Map.of());
+		map.put("none", List.of());
+
+		String json = JsonWriter.write(map, true);
+
+		String expected = String.join(Strings.EOL,
+				"{",
+				"  \"people\" : [ {",
+				"    \"name\" : \"John\",",
+				"    \"age\" : 30",
+				"  } ],",
+				"  \"empty\" : { },",
+				"  \"none\" : [ ]",
+				"}");
+		assertThat(json, equalTo(expected));
+	}
+
+	@Test
+	void shouldThrowExceptionOnCyclicReferences() {
+		Node node = new Node();
+		node.next = node;
+
+		IllegalStateException e = assertThrows(IllegalStateException.class, () -> JsonWriter.write(node, false));
+
+		assertThat(e.getMessage(), equalTo("JSON nesting depth is greater than " + JsonWriter.MAX_DEPTH + " (cyclic reference?)"));
+	}
+
+	@Test
+	void shouldWriteNullCollectionElements() {
+		String json = JsonWriter.write(Arrays.asList("a", null), false);
+
+		assertThat(json, equalTo("[\"a\",null]"));
+	}
+}
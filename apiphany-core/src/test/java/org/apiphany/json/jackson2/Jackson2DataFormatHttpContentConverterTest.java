@@ -0,0 +1,139 @@
+package org.apiphany.json.jackson2;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import org.apiphany.ApiMimeType;
+import org.apiphany.io.ContentType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.morphix.convert.ObjectConverterException;
+import org.morphix.reflection.GenericClass;
+
+/**
+ * Test class for {@link Jackson2DataFormatHttpContentConverter}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class Jackson2DataFormatHttpContentConverterTest {
+
+	private static final String NAME = "John";
+	private static final int AGE = 30;
+
+	static class Person {
+
+		public String name;
+		public int age;
+	}
+
+	@ParameterizedTest
+	@EnumSource(Jackson2DataFormat.class)
+	void shouldConvertObjectToBytesAndBack(final Jackson2DataFormat dataFormat) {
+		var converter = new Jackson2DataFormatHttpContentConverter<Person>(dataFormat);
+
+		byte[] bytes = converter.toBytes(person());
+		Person result = converter.from(bytes, dataFormat.getContentType(), Person.class);
+
+		assertThat(result.name, equalTo(NAME));
+		assertThat(result.age, equalTo(AGE));
+	}
+
+	@ParameterizedTest
+	@EnumSource(Jackson2DataFormat.class)
+	void shouldConvertInputStreamToGenericObject(final Jackson2DataFormat dataFormat) {
+		var converter = new Jackson2DataFormatHttpContentConverter<List<Person>>(dataFormat);
+		byte[] bytes = converter.toBytes(List.of(person()));
+
+		List<Person> result = converter.from(new ByteArrayInputStream(bytes), dataFormat.getContentType(),
+				new GenericClass<List<Person>>() {
+					// empty
+				});
+
+		assertThat(result.getFirst().name, equalTo(NAME));
+		assertThat(result.getFirst().age, equalTo(AGE));
+	}
+
+	@Test
+	void shouldReturnNullWhenConvertingNullObject() {
+		var converter = new Jackson2DataFormatHttpContentConverter<Person>(Jackson2DataFormat.CBOR);
+
+		Person result = converter.from(null, ContentType.APPLICATION_CBOR, Person.class);
+
+		assertThat(result, nullValue());
+	}
+
+	@Test
+	void shouldReturnNullWhenSerializingNullObject() {
+		var converter = new Jackson2DataFormatHttpContentConverter<Person>(Jackson2DataFormat.CBOR);
+
+		byte[] result = converter.toBytes(null);
+
+		assertThat(result, nullValue());
+	}
+
+	@Test
+	void shouldThrowExceptionOnConvertWrongBytesToObject() {
+		var converter = new Jackson2DataFormatHttpContentConverter<Person>(Jackson2DataFormat.CBOR);
+		byte[] bytes = new byte[] { (byte) 0xFF };
+
+		ObjectConverterException e = assertThrows(ObjectConverterException.class,
+				() -> converter.from(bytes, ContentType.APPLICATION_CBOR, Person.class));
+
+		assertThat(e.getMessage(), equalTo("Error converting CBOR response to " + Person.class.getName()));
+	}
+
+	@Test
+	void shouldThrowExceptionOnConvertUnsupportedInputType() {
+		var converter = new Jackson2DataFormatHttpContentConverter<Person>(Jackson2DataFormat.CBOR);
+
+		UnsupportedOperationException e = assertThrows(UnsupportedOperationException.class,
+				() -> converter.from("x", ContentType.APPLICATION_CBOR, Person.class));
+
+		assertThat(e.getMessage(), equalTo("Unsupported CBOR input type: " + String.class.getName()));
+	}
+
+	@ParameterizedTest
+	@EnumSource(Jackson2DataFormat.class)
+	void shouldReturnTrueIfObjectIsConvertible(final Jackson2DataFormat dataFormat) {
+		var converter = new Jackson2DataFormatHttpContentConverter<String>(dataFormat);
+		ApiMimeType mimeType = dataFormat.getContentType();
+
+		boolean result = converter.isConvertible(null, mimeType, null, null);
+
+		assertTrue(result);
+	}
+
+	@Test
+	void shouldReturnFalseIfObjectIsNotConvertible() {
+		var converter = new Jackson2DataFormatHttpContentConverter<String>(Jackson2DataFormat.CBOR);
+		ApiMimeType mimeType = ContentType.APPLICATION_JSON;
+
+		boolean result = converter.isConvertible(null, mimeType, null, null);
+
+		assertFalse(result);
+	}
+
+	@Test
+	void shouldReturnFalseIfMimeTypeIsNull() {
+		var converter = new Jackson2DataFormatHttpContentConverter<String>(Jackson2DataFormat.CBOR);
+
+		boolean result = converter.isConvertible(null, null, null, null);
+
+		assertFalse(result);
+	}
+
+	private static Person person() {
+		Person person = new Person();
+		person.name = NAME;
+		person.age = AGE;
+		return person;
+	}
+}
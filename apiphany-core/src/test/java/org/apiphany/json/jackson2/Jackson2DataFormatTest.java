@@ -0,0 +1,33 @@
+package org.apiphany.json.jackson2;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Test class for {@link Jackson2DataFormat}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class Jackson2DataFormatTest {
+
+	@ParameterizedTest
+	@EnumSource(Jackson2DataFormat.class)
+	void shouldBePresentWhenTheDataFormatLibraryIsInTheClasspath(final Jackson2DataFormat dataFormat) {
+		// all data format libraries are present in the test classpath
+		assertThat(dataFormat.isPresent(), equalTo(true));
+	}
+
+	@ParameterizedTest
+	@EnumSource(Jackson2DataFormat.class)
+	void shouldReturnTheSameContentConverter(final Jackson2DataFormat dataFormat) {
+		Jackson2DataFormatHttpContentConverter<?> converter1 = dataFormat.getContentConverter();
+		Jackson2DataFormatHttpContentConverter<?> converter2 = dataFormat.getContentConverter();
+
+		assertThat(converter1, sameInstance(converter2));
+		assertThat(converter1.getDataFormat(), equalTo(dataFormat));
+	}
+}
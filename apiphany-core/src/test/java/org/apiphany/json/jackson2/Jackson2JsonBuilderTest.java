@@ -16,6 +16,7 @@ import static org.mockito.Mockito.verify;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -38,6 +39,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.AnnotationIntrospector;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationConfig;
@@ -340,6 +342,58 @@ class Jackson2JsonBuilderTest {
 		}
 	}
 
+	@Nested
+	class TypeCacheTests {
+
+		@Test
+		void shouldCacheTheReadersByType() {
+			Type type = new GenericClass<List<B>>() {
+				// empty
+			}.getType();
+
+			ObjectReader reader1 = jsonBuilder.readerFor(type);
+			ObjectReader reader2 = jsonBuilder.readerFor(type);
+
+			assertThat(reader1, sameInstance(reader2));
+		}
+
+		@Test
+		void shouldCacheTheWritersByType() {
+			ObjectWriter writer1 = jsonBuilder.writerFor(B.class);
+			ObjectWriter writer2 = jsonBuilder.writerFor(B.class);
+
+			assertThat(writer1, sameInstance(writer2));
+		}
+
+		@Test
+		void shouldReadGenericListsWithTheCachedReaders() {
+			String json = "[{\"customerId\":\"" + CUSTOMER_ID1 + "\"},{\"customerId\":\"" + CUSTOMER_ID2 + "\"}]";
+			GenericClass<List<B>> genericClass = new GenericClass<>() {
+				// empty
+			};
+
+			List<B> result1 = jsonBuilder.fromJsonString(json, genericClass);
+			List<B> result2 = jsonBuilder.fromJsonBytes(json.getBytes(), genericClass);
+
+			assertThat(result1.get(1).getCustomerId(), equalTo(CUSTOMER_ID2));
+			assertThat(result2.get(0).getCustomerId(), equalTo(CUSTOMER_ID1));
+		}
+
+		@Test
+		void shouldDiscardTheCachedReadersWhenTheObjectMapperConfigurationChanges() {
+			Jackson2JsonBuilder jacksonJsonBuilder = new Jackson2JsonBuilder();
+			ObjectReader reader1 = jacksonJsonBuilder.readerFor(B.class);
+
+			jacksonJsonBuilder.getObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.KEBAB_CASE);
+			ObjectReader reader2 = jacksonJsonBuilder.readerFor(B.class);
+
+			B b = jacksonJsonBuilder.fromJsonString("{\"customer-id\":\"" + CUSTOMER_ID1 + "\"}", B.class);
+
+			assertThat(reader1, not(sameInstance(reader2)));
+			assertThat(b.getCustomerId(), equalTo(CUSTOMER_ID1));
+		}
+	}
+
 	@Nested
 	class FromJsonStringTests {
 
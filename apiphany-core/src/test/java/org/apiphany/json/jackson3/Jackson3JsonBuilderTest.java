@@ -16,6 +16,7 @@ import static org.mockito.Mockito.verify;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Type;
 import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -40,6 +41,7 @@ import tools.jackson.core.exc.JacksonIOException;
 import tools.jackson.core.json.JsonFactory;
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.AnnotationIntrospector;
+import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.ObjectWriter;
 import tools.jackson.databind.PropertyNamingStrategies;
 import tools.jackson.databind.SerializationFeature;
@@ -345,6 +347,44 @@ class Jackson3JsonBuilderTest extends Jackson3Test {
 		}
 	}
 
+	@Nested
+	class TypeCacheTests {
+
+		@Test
+		void shouldCacheTheReadersByType() {
+			Type type = new GenericClass<List<B>>() {
+				// empty
+			}.getType();
+
+			ObjectReader reader1 = jsonBuilder.readerFor(type);
+			ObjectReader reader2 = jsonBuilder.readerFor(type);
+
+			assertThat(reader1, sameInstance(reader2));
+		}
+
+		@Test
+		void shouldCacheTheWritersByType() {
+			ObjectWriter writer1 = jsonBuilder.writerFor(B.class);
+			ObjectWriter writer2 = jsonBuilder.writerFor(B.class);
+
+			assertThat(writer1, sameInstance(writer2));
+		}
+
+		@Test
+		void shouldReadGenericListsWithTheCachedReaders() {
+			String json = "[{\"customerId\":\"" + CUSTOMER_ID1 + "\"},{\"customerId\":\"" + CUSTOMER_ID2 + "\"}]";
+			GenericClass<List<B>> genericClass = new GenericClass<>() {
+				// empty
+			};
+
+			List<B> result1 = jsonBuilder.fromJsonString(json, genericClass);
+			List<B> result2 = jsonBuilder.fromJsonBytes(json.getBytes(), genericClass);
+
+			assertThat(result1.get(1).getCustomerId(), equalTo(CUSTOMER_ID2));
+			assertThat(result2.get(0).getCustomerId(), equalTo(CUSTOMER_ID1));
+		}
+	}
+
 	@Nested
 	class FromJsonStringTests {
 
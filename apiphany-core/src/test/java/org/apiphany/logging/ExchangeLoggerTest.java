@@ -4,7 +4,12 @@ import static org.apiphany.test.Assertions.assertDefaultConstructorThrows;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -17,7 +22,10 @@ import org.apiphany.client.ClientProperties;
 import org.apiphany.client.ExchangeClient;
 import org.apiphany.http.HttpMethod;
 import org.apiphany.http.HttpStatus;
+import org.apiphany.io.BodyFingerprint;
+import org.apiphany.io.FingerprintingInputStream;
 import org.apiphany.lang.Strings;
+import org.apiphany.security.MessageDigestAlgorithm;
 import org.junit.jupiter.api.Test;
 import org.morphix.lang.Temporals;
 import org.morphix.lang.function.LoggingFunction;
@@ -72,6 +80,49 @@ class ExchangeLoggerTest {
 				Logging.Include.HASH)));
 	}
 
+	@Test
+	@SuppressWarnings("resource")
+	void shouldLogBodyFingerprintWhenBodyLoggingModeIsMetadataAndTheFingerprintIsSet() {
+		RecordingLoggingFunction loggingFunction = new RecordingLoggingFunction();
+		ExchangeClient exchangeClient = new DummyExchangeClient(Logging.Mode.METADATA);
+		ApiRequest<String> request = request("request-body");
+		byte[] streamedBytes = "streamed-request-body".getBytes(StandardCharsets.UTF_8);
+		BodyFingerprint fingerprint = BodyFingerprint.sha256();
+		fingerprint.update(streamedBytes, 0, streamedBytes.length);
+		fingerprint.complete();
+		request.setBodyFingerprint(fingerprint);
+		ApiResponse<String> response = response("response-body");
+
+		ExchangeLogger.logSuccess(loggingFunction, getClass(), exchangeClient, request, response, Duration.ofSeconds(1));
+
+		LogCall call = loggingFunction.calls.getFirst();
+		String hash = MessageDigestAlgorithm.SHA256.hash(streamedBytes, Logging.Include.Default.HASH_BYTES);
+		assertThat(call.format, containsString("BODY: " + String.class.getTypeName()
+				+ "(length=" + streamedBytes.length + ", hash=" + hash + ")"));
+	}
+
+	@Test
+	void shouldLogTheStreamedBodyFingerprintWhenTheStreamIsConsumed() throws IOException {
+		RecordingLoggingFunction loggingFunction = new RecordingLoggingFunction();
+		ApiRequest<String> request = request(null);
+		byte[] streamedBytes = "streamed-response-body".getBytes(StandardCharsets.UTF_8);
+		InputStream body = new ByteArrayInputStream(streamedBytes);
+
+		try (FingerprintingInputStream inputStream = FingerprintingInputStream.of(body,
+				fingerprint -> ExchangeLogger.logStreamedBody(loggingFunction, getClass(), request, body, fingerprint))) {
+			assertThat(loggingFunction.calls, hasSize(0));
+
+			inputStream.readAllBytes();
+		}
+
+		String hash = MessageDigestAlgorithm.SHA256.hash(streamedBytes, Logging.Include.Default.HASH_BYTES);
+		assertThat(loggingFunction.calls, hasSize(1));
+		LogCall call = loggingFunction.calls.getFirst();
+		assertThat(call.format, containsString("URL: " + request.getUrl()));
+		assertThat(call.format, containsString("BODY: " + ByteArrayInputStream.class.getTypeName()
+				+ "(length=" + streamedBytes.length + ", hash=" + hash + ")"));
+	}
+
 	@Test
 	@SuppressWarnings("resource")
 	void shouldLogOmittedWhenBodyLoggingModeIsNone() {
@@ -5,9 +5,12 @@ import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.apiphany.io.BodyFingerprint;
 import org.apiphany.lang.Strings;
 import org.apiphany.security.MessageDigestAlgorithm;
 import org.apiphany.test.Assertions;
@@ -69,6 +72,27 @@ class LoggingTest {
 			assertThat(result, equalTo(MessageDigestAlgorithm.SHA256.hash(input, Logging.Include.Default.HASH_BYTES)));
 		}
 
+		@Test
+		void shouldReturnLengthAndHashForCompleteBodyFingerprint() {
+			byte[] input = "abc".getBytes(StandardCharsets.UTF_8);
+			BodyFingerprint fingerprint = BodyFingerprint.sha256();
+			fingerprint.update(input, 0, input.length);
+			fingerprint.complete();
+
+			assertThat(Logging.Include.LENGTH.getValue(fingerprint), equalTo("3"));
+			assertThat(Logging.Include.HASH.getValue(fingerprint),
+					equalTo(MessageDigestAlgorithm.SHA256.hash(input, Logging.Include.Default.HASH_BYTES)));
+		}
+
+		@Test
+		void shouldReturnUnavailableLengthAndHashForIncompleteBodyFingerprint() {
+			BodyFingerprint fingerprint = BodyFingerprint.sha256();
+			fingerprint.update(1);
+
+			assertThat(Logging.Include.LENGTH.getValue(fingerprint), equalTo(Logging.Include.Default.UNAVAILABLE));
+			assertThat(Logging.Include.HASH.getValue(fingerprint), equalTo(Logging.Include.Default.UNAVAILABLE));
+		}
+
 		@Test
 		void shouldReturnIdentityHashForObject() {
 			Object input = new Object();
@@ -188,6 +212,30 @@ class LoggingTest {
 			assertThat(result, equalTo(String.class.getTypeName() + "(hash=" + hash + ")"));
 		}
 
+		@Test
+		void shouldDescribeInputWithTheTypeOfTheInputAndTheFingerprintValues() {
+			byte[] bytes = "abc".getBytes(StandardCharsets.UTF_8);
+			InputStream input = new ByteArrayInputStream(bytes);
+			BodyFingerprint fingerprint = BodyFingerprint.sha256();
+			fingerprint.update(bytes, 0, bytes.length);
+			fingerprint.complete();
+			String hash = MessageDigestAlgorithm.SHA256.hash(bytes, Logging.Include.Default.HASH_BYTES);
+
+			String result = Logging.describeInput(input, fingerprint, LoggingFormat.CUSTOM, Logging.Include.LENGTH, Logging.Include.HASH);
+
+			assertThat(result, equalTo(ByteArrayInputStream.class.getTypeName() + "(length=3, hash=" + hash + ")"));
+		}
+
+		@Test
+		void shouldDescribeInputWithoutFingerprintWhenFingerprintIsNull() {
+			String input = "abc";
+			String hash = MessageDigestAlgorithm.SHA256.hash(input, Logging.Include.Default.HASH_BYTES);
+
+			String result = Logging.describeInput(input, null, LoggingFormat.CUSTOM, Logging.Include.LENGTH, Logging.Include.HASH);
+
+			assertThat(result, equalTo(String.class.getTypeName() + "(length=3, hash=" + hash + ")"));
+		}
+
 		@Test
 		void shouldFallbackToCustomFormatWhenFormatIsNotCustom() {
 			String input = "abc";
@@ -9,6 +9,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -20,17 +21,21 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.apiphany.io.PayloadSize;
 import org.apiphany.lang.builder.PropertyNameBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.morphix.lang.JavaObjects;
+import org.morphix.lang.function.Predicates;
 import org.morphix.lang.thread.Threads;
 import org.morphix.reflection.Constructors;
 import org.morphix.reflection.Methods;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
@@ -633,6 +638,92 @@ class BasicMetersTest {
 		assertThat(retries.count(), equalTo(0.0));
 	}
 
+	@Test
+	void shouldThrowExceptionOnCallingTagConstructor() {
+		UnsupportedOperationException unsupportedOperationException = assertDefaultConstructorThrows(BasicMeters.Tag.class);
+		assertThat(unsupportedOperationException.getMessage(), equalTo(Constructors.MESSAGE_THIS_CLASS_SHOULD_NOT_BE_INSTANTIATED));
+	}
+
+	@Test
+	void shouldReturnStatusClassForValidStatusCodes() {
+		assertThat(BasicMeters.Tag.statusClass(100), equalTo("1xx"));
+		assertThat(BasicMeters.Tag.statusClass(200), equalTo("2xx"));
+		assertThat(BasicMeters.Tag.statusClass(404), equalTo("4xx"));
+		assertThat(BasicMeters.Tag.statusClass(599), equalTo("5xx"));
+	}
+
+	@Test
+	void shouldReturnUnknownStatusClassForInvalidStatusCodes() {
+		assertThat(BasicMeters.Tag.statusClass(-1), equalTo(BasicMeters.Tag.UNKNOWN));
+		assertThat(BasicMeters.Tag.statusClass(99), equalTo(BasicMeters.Tag.UNKNOWN));
+		assertThat(BasicMeters.Tag.statusClass(600), equalTo(BasicMeters.Tag.UNKNOWN));
+	}
+
+	@Test
+	void shouldRecordExchangeTimerWithTagsWhenWrappingWithTagsFunction() {
+		String prefix = METRICS_PREFIX + ".exchange-tags";
+		BasicMeters meters = BasicMeters.of(prefix);
+		List<String> tags = List.of(BasicMeters.Tag.URI, "/users/{id}", BasicMeters.Tag.STATUS, "2xx");
+
+		String result = meters.wrap(() -> SOME_STRING, Predicates.alwaysTrue(), e -> null, r -> tags);
+
+		assertThat(result, equalTo(SOME_STRING));
+
+		String exchangeTimerName = prefix + "." + BasicMeters.Name.LATENCY + "." + BasicMeters.Name.EXCHANGE;
+		Timer exchange = Metrics.globalRegistry.get(exchangeTimerName).tags(Tags.of(tags.toArray(String[]::new))).timer();
+		assertThat(exchange.count(), equalTo(1L));
+
+		Counter requests = Metrics.globalRegistry.get(prefix + "." + BasicMeters.Name.REQUEST).counter();
+		assertThat(requests.count(), equalTo(1.0));
+	}
+
+	@Test
+	void shouldNotRecordExchangeTimerWhenWrappingWithTagsFunctionAndMetersAreNotPublished() {
+		@SuppressWarnings("unchecked")
+		Function<String, List<String>> tagsFunction = mock(Function.class);
+
+		String result = BasicMeters.DEFAULT.wrap(() -> SOME_STRING, Predicates.alwaysTrue(), e -> null, tagsFunction);
+
+		assertThat(result, equalTo(SOME_STRING));
+		assertFalse(BasicMeters.DEFAULT.isPublished());
+		verifyNoInteractions(tagsFunction);
+	}
+
+	@Test
+	void shouldRecordKnownPayloadSizesWithTagsWhenMetersArePublished() {
+		String prefix = METRICS_PREFIX + ".payload-size";
+		BasicMeters meters = BasicMeters.of(prefix);
+		List<String> tags = List.of(BasicMeters.Tag.URI, "/users/{id}", BasicMeters.Tag.STATUS, "2xx");
+		Tags micrometerTags = Tags.of(tags.toArray(String[]::new));
+
+		meters.record(new PayloadSize(10, 20, PayloadSize.UNKNOWN), tags);
+
+		DistributionSummary requestBytes = Metrics.globalRegistry.get(prefix + "." + BasicMeters.Name.REQUEST_BYTES)
+				.tags(micrometerTags).summary();
+		DistributionSummary responseBytes = Metrics.globalRegistry.get(prefix + "." + BasicMeters.Name.RESPONSE_BYTES)
+				.tags(micrometerTags).summary();
+		DistributionSummary decodedResponseBytes = Metrics.globalRegistry.find(prefix + "." + BasicMeters.Name.DECODED_RESPONSE_BYTES)
+				.summary();
+
+		assertThat(requestBytes.totalAmount(), equalTo(10.0));
+		assertThat(responseBytes.totalAmount(), equalTo(20.0));
+		assertThat(decodedResponseBytes, nullValue());
+	}
+
+	@Test
+	void shouldNotRecordPayloadSizesWhenMetersAreNotPublished() {
+		MeterFactory factory = mock(MeterFactory.class);
+		BasicMeters meters = new BasicMeters(factory,
+				BasicTimer.of(BasicMeters.Name.LATENCY),
+				BasicCounter.of(BasicMeters.Name.REQUEST),
+				BasicCounter.of(BasicMeters.Name.RETRY),
+				BasicCounter.of(BasicMeters.Name.ERROR));
+
+		meters.record(new PayloadSize(10, 20, 30), List.of());
+
+		verifyNoInteractions(factory);
+	}
+
 	private Integer foo() {
 		return 0;
 	}
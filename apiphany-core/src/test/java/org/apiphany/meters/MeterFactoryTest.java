@@ -11,6 +11,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
 import org.morphix.runtime.OptionalLibrary;
@@ -104,6 +106,60 @@ class MeterFactoryTest {
 		assertThat(basicCounter.getName(), equalTo(NAME));
 	}
 
+	@Test
+	void shouldCreateSummaryWithPrefix() {
+		MeterFactory factory = new MeterFactory();
+
+		MeterSummary summary = factory.summary(PREFIX, NAME, List.of("tagName", "tagValue"));
+		BasicSummary basicSummary = summary.unwrap(BasicSummary.class);
+
+		assertThat(basicSummary.getName(), equalTo(PREFIX + "." + NAME));
+		assertThat(basicSummary.count(), equalTo(0L));
+		assertThat(basicSummary.totalAmount(), equalTo(0.0));
+	}
+
+	@Test
+	void shouldCreateSummaryWithTagsArray() {
+		MeterFactory factory = new MeterFactory();
+
+		MeterSummary summary = factory.summary(NAME, "tagName", "tagValue");
+		BasicSummary basicSummary = summary.unwrap(BasicSummary.class);
+
+		assertThat(basicSummary.getName(), equalTo(NAME));
+	}
+
+	@Test
+	void shouldRecordOnlyNonNegativeAmountsOnBasicSummary() {
+		MeterSummary summary = new MeterFactory().summary(NAME, Collections.emptyList());
+
+		summary.record(10);
+		summary.record(-1);
+		summary.record(5);
+
+		assertThat(summary.count(), equalTo(2L));
+		assertThat(summary.totalAmount(), equalTo(15.0));
+	}
+
+	@Test
+	void shouldRecordAllAmountsConcurrentlyOnBasicSummary() {
+		MeterSummary summary = new MeterFactory().summary(NAME, Collections.emptyList());
+		int threads = 8;
+		int amountsPerThread = 10_000;
+
+		try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+			for (int i = 0; i < threads; ++i) {
+				executor.submit(() -> {
+					for (int j = 0; j < amountsPerThread; ++j) {
+						summary.record(1);
+					}
+				});
+			}
+		}
+
+		assertThat(summary.count(), equalTo((long) threads * amountsPerThread));
+		assertThat(summary.totalAmount(), equalTo((double) threads * amountsPerThread));
+	}
+
 	@Test
 	void shouldReturnNewMeterFactoryInstanceOnInitialize() {
 		MeterFactory meterFactory = MeterFactory.initializeInstance();
@@ -0,0 +1,52 @@
+package org.apiphany.meters.micrometer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+
+import org.apiphany.client.http.JavaNetHttpClientStats;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Test class for {@link JavaNetHttpClientMetricsBinder}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class JavaNetHttpClientMetricsBinderTest {
+
+	private static final String CLIENT_NAME = "test-client";
+	private static final String PREFIX = JavaNetHttpClientMetricsBinder.MetricPrefix.HTTP_CLIENT + "." + CLIENT_NAME;
+	private static final URI EXISTING_ROUTE_URI = URI.create("https://example.com/api");
+	private static final URI NEW_ROUTE_URI = URI.create("https://other.example.com/api");
+
+	@Test
+	void shouldRegisterTotalAndPerRouteMetricsForExistingAndNewRoutes() {
+		JavaNetHttpClientStats stats = new JavaNetHttpClientStats();
+		JavaNetHttpClientStats.RouteStats existingRoute = stats.route(EXISTING_ROUTE_URI);
+		existingRoute.started();
+
+		MeterRegistry registry = new SimpleMeterRegistry();
+		JavaNetHttpClientMetricsBinder.of(stats, CLIENT_NAME, "tagKey", "tagValue").bindTo(registry);
+
+		JavaNetHttpClientStats.RouteStats newRoute = stats.route(NEW_ROUTE_URI);
+		newRoute.started();
+		newRoute.finished(HttpClient.Version.HTTP_2);
+
+		double active = registry.get(PREFIX + ".exchanges.active").tag("tagKey", "tagValue").gauge().value();
+		double existingRouteActive = registry.get(PREFIX + ".route.exchanges.active")
+				.tag(JavaNetHttpClientMetricsBinder.ROUTE_TAG, "https://example.com:443").gauge().value();
+		double newRouteHttp2Responses = registry.get(PREFIX + ".route.responses")
+				.tag(JavaNetHttpClientMetricsBinder.ROUTE_TAG, "https://other.example.com:443")
+				.tag(JavaNetHttpClientMetricsBinder.VERSION_TAG, "http_2")
+				.functionCounter().count();
+
+		assertThat(active, equalTo(1.0));
+		assertThat(existingRouteActive, equalTo(1.0));
+		assertThat(newRouteHttp2Responses, equalTo(1.0));
+	}
+}
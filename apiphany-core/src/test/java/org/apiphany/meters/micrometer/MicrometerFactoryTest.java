@@ -13,10 +13,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
+import org.apiphany.meters.MeterSummary;
 import org.junit.jupiter.api.Test;
 
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Test class for {@link MicrometerFactory}.
@@ -25,6 +28,8 @@ import io.micrometer.core.instrument.Tags;
  */
 class MicrometerFactoryTest {
 
+	private static final String SUMMARY_NAME = "summary.name";
+
 	@Test
 	void shouldReturnTrueOnEmptyMicrometerTags() {
 		boolean empty = MicrometerFactory.isEmpty(Tags.empty());
@@ -104,4 +109,18 @@ class MicrometerFactoryTest {
 		assertThat(tag.getValue(), equalTo(list.get(1).toString()));
 		assertFalse(tagsIterator.hasNext());
 	}
+
+	@Test
+	void shouldCreateMicrometerSummaryWithTags() {
+		MicrometerFactory factory = new MicrometerFactory(new SimpleMeterRegistry());
+
+		MeterSummary summary = factory.summary(SUMMARY_NAME, List.of("tagName", "tagValue"));
+		summary.record(42);
+
+		DistributionSummary micrometerSummary = summary.unwrap(DistributionSummary.class);
+		assertThat(summary.getName(), equalTo(SUMMARY_NAME));
+		assertThat(micrometerSummary.getId().getTag("tagName"), equalTo("tagValue"));
+		assertThat(summary.count(), equalTo(1L));
+		assertThat(summary.totalAmount(), equalTo(42.0));
+	}
 }
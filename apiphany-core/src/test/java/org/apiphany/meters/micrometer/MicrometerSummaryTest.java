@@ -0,0 +1,62 @@
+package org.apiphany.meters.micrometer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Test class for {@link MicrometerSummary}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class MicrometerSummaryTest {
+
+	private static final String SUMMARY_NAME = "summary.name";
+
+	@Test
+	void shouldUnwrapADistributionSummaryObject() {
+		DistributionSummary summary = Metrics.globalRegistry.summary(SUMMARY_NAME);
+		MicrometerSummary micrometerSummary = MicrometerSummary.of(summary);
+
+		DistributionSummary unwrapped = micrometerSummary.unwrap(DistributionSummary.class);
+
+		assertThat(unwrapped, equalTo(micrometerSummary.getSummary()));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenUnwrappingANonDistributionSummaryObject() {
+		DistributionSummary summary = Metrics.globalRegistry.summary(SUMMARY_NAME);
+		MicrometerSummary micrometerSummary = MicrometerSummary.of(summary);
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> micrometerSummary.unwrap(Integer.class));
+
+		assertThat(e.getMessage(), equalTo("The meter class " + summary.getClass() + " is not of type " + Integer.class));
+	}
+
+	@Test
+	void shouldCallMicrometerInternalRecordOnRecord() {
+		DistributionSummary summary = mock(DistributionSummary.class);
+		MicrometerSummary micrometerSummary = MicrometerSummary.of(summary);
+
+		micrometerSummary.record(42);
+
+		verify(summary).record(42);
+	}
+
+	@Test
+	void shouldCallMicrometerInternalTotalAmountOnTotalAmount() {
+		DistributionSummary summary = mock(DistributionSummary.class);
+		MicrometerSummary micrometerSummary = MicrometerSummary.of(summary);
+
+		micrometerSummary.totalAmount();
+
+		verify(summary).totalAmount();
+	}
+}
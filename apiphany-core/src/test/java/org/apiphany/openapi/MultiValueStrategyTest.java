@@ -195,6 +195,30 @@ class MultiValueStrategyTest {
 		assertThat(map.isEmpty(), equalTo(true));
 	}
 
+	@ParameterizedTest
+	@MethodSource("provideNonMultiStrategies")
+	@SuppressWarnings("unused")
+	void shouldInsertTheJoinedValuesIntoTheMap(final MultiValueStrategy strategy, final String style, final String separator) {
+		List<String> values = List.of(VALUE1, VALUE2);
+		Map<String, List<String>> map = new HashMap<>();
+
+		strategy.insertInto(map, TEST_PARAM, values);
+
+		assertThat(map.size(), equalTo(1));
+		assertThat(map.get(TEST_PARAM), equalTo(List.of(String.join(separator, values))));
+	}
+
+	@Test
+	void shouldInsertAllTheValuesIntoTheMapWithMulti() {
+		List<String> values = List.of(VALUE1, VALUE2);
+		Map<String, List<String>> map = new HashMap<>();
+
+		MultiValueStrategy.MULTI.insertInto(map, TEST_PARAM, values);
+
+		assertThat(map.size(), equalTo(1));
+		assertThat(map.get(TEST_PARAM), equalTo(values));
+	}
+
 	@Test
 	void shouldThrowExceptionWhenTryingToCallValuesConstructor() {
 		UnsupportedOperationException exception = assertDefaultConstructorThrows(MultiValueStrategy.Value.class);
@@ -0,0 +1,162 @@
+package org.apiphany.security;
+
+import static org.apiphany.test.Assertions.assertDefaultConstructorThrows;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyAgreement;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.morphix.reflection.Constructors;
+
+/**
+ * Test class for {@link CryptoPrimitives}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class CryptoPrimitivesTest {
+
+	private static final String HMAC_SHA256 = "HmacSHA256";
+	private static final byte[] DATA = "data".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] KEY_1 = "key-1".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] KEY_2 = "key-2".getBytes(StandardCharsets.UTF_8);
+
+	@AfterEach
+	void tearDown() {
+		CryptoPrimitives.clear();
+	}
+
+	@Test
+	void shouldThrowExceptionOnCallingConstructor() {
+		UnsupportedOperationException unsupportedOperationException = assertDefaultConstructorThrows(CryptoPrimitives.class);
+		assertThat(unsupportedOperationException.getMessage(), equalTo(Constructors.MESSAGE_THIS_CLASS_SHOULD_NOT_BE_INSTANTIATED));
+	}
+
+	@Test
+	void shouldReturnTheSameMessageDigestOnTheSameThread() throws Exception {
+		MessageDigest md1 = CryptoPrimitives.messageDigest("SHA-256");
+		MessageDigest md2 = CryptoPrimitives.messageDigest("SHA-256");
+
+		assertThat(md1, sameInstance(md2));
+	}
+
+	@Test
+	void shouldReturnAResetMessageDigest() throws Exception {
+		byte[] expected = MessageDigest.getInstance("SHA-256").digest(DATA);
+
+		CryptoPrimitives.messageDigest("SHA-256").update(KEY_1);
+		byte[] result = CryptoPrimitives.messageDigest("SHA-256").digest(DATA);
+
+		assertThat(result, equalTo(expected));
+	}
+
+	@Test
+	void shouldReturnDifferentMessageDigestsOnDifferentThreads() throws Exception {
+		MessageDigest md1 = CryptoPrimitives.messageDigest("SHA-256");
+		MessageDigest md2 = CompletableFuture.supplyAsync(() -> {
+			try {
+				return CryptoPrimitives.messageDigest("SHA-256");
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}).get(5, TimeUnit.SECONDS);
+
+		assertThat(md1, not(sameInstance(md2)));
+	}
+
+	@Test
+	void shouldReturnNewInstancesAfterClear() throws Exception {
+		MessageDigest md1 = CryptoPrimitives.messageDigest("SHA-256");
+
+		CryptoPrimitives.clear();
+		MessageDigest md2 = CryptoPrimitives.messageDigest("SHA-256");
+
+		assertThat(md1, not(sameInstance(md2)));
+	}
+
+	@Test
+	void shouldComputeTheMacWithTheSameKeyMultipleTimes() throws Exception {
+		byte[] expected = newMac(KEY_1).doFinal(DATA);
+
+		Mac mac1 = CryptoPrimitives.mac(HMAC_SHA256, KEY_1);
+		byte[] result1 = mac1.doFinal(DATA);
+		Mac mac2 = CryptoPrimitives.mac(HMAC_SHA256, KEY_1);
+		byte[] result2 = mac2.doFinal(DATA);
+
+		assertThat(mac1, sameInstance(mac2));
+		assertThat(result1, equalTo(expected));
+		assertThat(result2, equalTo(expected));
+	}
+
+	@Test
+	void shouldComputeTheMacWithTheNewKeyWhenTheKeyChanges() throws Exception {
+		byte[] expected = newMac(KEY_2).doFinal(DATA);
+
+		CryptoPrimitives.mac(HMAC_SHA256, KEY_1).doFinal(DATA);
+		byte[] result = CryptoPrimitives.mac(HMAC_SHA256, KEY_2).doFinal(DATA);
+
+		assertThat(result, equalTo(expected));
+	}
+
+	@Test
+	void shouldNotBeAffectedByChangesToTheKeyAfterTheMacWasInitialized() throws Exception {
+		byte[] key = KEY_1.clone();
+		byte[] expected = newMac(KEY_2).doFinal(DATA);
+
+		CryptoPrimitives.mac(HMAC_SHA256, key).doFinal(DATA);
+		System.arraycopy(KEY_2, 0, key, 0, key.length);
+		byte[] result = CryptoPrimitives.mac(HMAC_SHA256, key).doFinal(DATA);
+
+		assertThat(result, equalTo(expected));
+	}
+
+	@Test
+	void shouldResetTheMacStartedWithTheSameKey() throws Exception {
+		byte[] expected = newMac(KEY_1).doFinal(DATA);
+
+		CryptoPrimitives.mac(HMAC_SHA256, KEY_1).update(KEY_2);
+		byte[] result = CryptoPrimitives.mac(HMAC_SHA256, KEY_1).doFinal(DATA);
+
+		assertThat(result, equalTo(expected));
+	}
+
+	@Test
+	void shouldReturnTheSameSignatureKeyAgreementAndCipherOnTheSameThread() throws Exception {
+		Signature signature = CryptoPrimitives.signature("SHA256withRSA");
+		KeyAgreement keyAgreement = CryptoPrimitives.keyAgreement("X25519");
+		Cipher cipher = CryptoPrimitives.cipher("AES/GCM/NoPadding");
+
+		assertThat(CryptoPrimitives.signature("SHA256withRSA"), sameInstance(signature));
+		assertThat(CryptoPrimitives.keyAgreement("X25519"), sameInstance(keyAgreement));
+		assertThat(CryptoPrimitives.cipher("AES/GCM/NoPadding"), sameInstance(cipher));
+	}
+
+	@Test
+	void shouldThrowExceptionForUnsupportedAlgorithm() {
+		assertThrows(NoSuchAlgorithmException.class, () -> CryptoPrimitives.messageDigest("$invalid$"));
+		assertThrows(NoSuchAlgorithmException.class, () -> CryptoPrimitives.mac("$invalid$", KEY_1));
+		assertThrows(NoSuchAlgorithmException.class, () -> CryptoPrimitives.signature("$invalid$"));
+		assertThrows(NoSuchAlgorithmException.class, () -> CryptoPrimitives.keyAgreement("$invalid$"));
+		assertThrows(NoSuchAlgorithmException.class, () -> CryptoPrimitives.cipher("$invalid$"));
+	}
+
+	private static Mac newMac(final byte[] key) throws Exception {
+		Mac mac = Mac.getInstance(HMAC_SHA256);
+		mac.init(new SecretKeySpec(key, HMAC_SHA256));
+		return mac;
+	}
+}
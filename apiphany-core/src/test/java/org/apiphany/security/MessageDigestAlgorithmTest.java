@@ -2,7 +2,9 @@ package org.apiphany.security;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -136,6 +138,49 @@ class MessageDigestAlgorithmTest {
 		assertThat(result, equalTo(expected));
 	}
 
+	@Test
+	void shouldReturnTheSameDigestOnRepeatedCalls() throws NoSuchAlgorithmException {
+		MessageDigestAlgorithm mda = MessageDigestAlgorithm.SHA256;
+		byte[] bytes = MESSAGE.getBytes(StandardCharsets.UTF_8);
+		byte[] expected = MessageDigest.getInstance(mda.value()).digest(bytes);
+
+		byte[] result1 = mda.digest(bytes);
+		byte[] result2 = mda.digest(bytes);
+
+		assertThat(result1, equalTo(expected));
+		assertThat(result2, equalTo(expected));
+	}
+
+	@Test
+	void shouldReturnNewMessageDigestInstances() {
+		MessageDigestAlgorithm mda = MessageDigestAlgorithm.SHA256;
+
+		MessageDigest md1 = mda.newMessageDigest();
+		MessageDigest md2 = mda.newMessageDigest();
+		md1.update(MESSAGE.getBytes(StandardCharsets.UTF_8));
+
+		assertThat(md1, not(sameInstance(md2)));
+		assertThat(md2.digest(), equalTo(mda.digest(new byte[0])));
+	}
+
+	@Test
+	void shouldThrowExceptionOnNewMessageDigestForNoneDigestAlgorithm() {
+		MessageDigestAlgorithm mda = MessageDigestAlgorithm.NONE;
+
+		SecurityException e = assertThrows(SecurityException.class, mda::newMessageDigest);
+
+		assertThat(e.getMessage(), equalTo("Digest algorithm '" + mda + "' does not support digesting."));
+	}
+
+	@Test
+	void shouldReturnHashStringFromDigest() {
+		byte[] digest = new byte[] { 0x01, (byte) 0xAB, 0x7F, 0x10 };
+
+		String result = MessageDigestAlgorithm.hashString(digest, 3);
+
+		assertThat(result, equalTo("01AB7F"));
+	}
+
 	@ParameterizedTest
 	@EnumSource(names = { "GOST3411", "GOST3411_2012_256", "GOST3411_2012_512", "SM3" })
 	void shouldReturnHmacAlgorithmNameForGOSTAndSM3(final MessageDigestAlgorithm mda) {
@@ -0,0 +1,75 @@
+package org.apiphany.security.http;
+
+import static org.apiphany.test.Assertions.assertDefaultConstructorThrows;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.morphix.reflection.Constructors;
+
+/**
+ * Test class for {@link AuthenticationChallenges}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class AuthenticationChallengesTest {
+
+	private static final String ERROR = "error";
+
+	@Test
+	void shouldThrowExceptionOnCallingConstructor() {
+		UnsupportedOperationException e = assertDefaultConstructorThrows(AuthenticationChallenges.class);
+
+		assertThat(e.getMessage(), equalTo(Constructors.MESSAGE_THIS_CLASS_SHOULD_NOT_BE_INSTANTIATED));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"Bearer error=\"invalid_token\"",
+			"Bearer error=invalid_token",
+			"bearer ERROR = \"invalid_token\"",
+			"Bearer realm=\"example\", error=\"invalid_token\", error_description=\"The token expired\"",
+			"Basic realm=\"example\", Bearer error=\"invalid_token\"",
+			"Negotiate YII+/abc==, Bearer error=\"invalid_token\"",
+			"Basic error=\"invalid_request\", Bearer realm=\"a, b\", error=\"invalid_token\""
+	})
+	void shouldReturnTheErrorOfTheBearerChallenge(final String header) {
+		String result = AuthenticationChallenges.getParameter(header, HttpAuthenticationScheme.BEARER, ERROR);
+
+		assertThat(result, equalTo("invalid_token"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"",
+			"Bearer",
+			"Bearer realm=\"example\"",
+			"Bearer error_description=\"invalid_token\"",
+			"Basic error=\"invalid_token\"",
+			"Bearer realm=\"error=invalid_token\""
+	})
+	void shouldReturnNullWhenTheBearerChallengeHasNoError(final String header) {
+		String result = AuthenticationChallenges.getParameter(header, HttpAuthenticationScheme.BEARER, ERROR);
+
+		assertThat(result, nullValue());
+	}
+
+	@Test
+	void shouldReturnNullForNullHeader() {
+		String result = AuthenticationChallenges.getParameter(null, HttpAuthenticationScheme.BEARER, ERROR);
+
+		assertThat(result, nullValue());
+	}
+
+	@Test
+	void shouldUnescapeQuotedStringValues() {
+		String header = "Bearer error_description=\"The \\\"token\\\" expired\"";
+
+		String result = AuthenticationChallenges.getParameter(header, HttpAuthenticationScheme.BEARER, "error_description");
+
+		assertThat(result, equalTo("The \"token\" expired"));
+	}
+}
@@ -0,0 +1,159 @@
+package org.apiphany.security.oauth2;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import javax.crypto.SecretKey;
+
+import org.apiphany.security.AuthenticationToken;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class for {@link FileOAuth2TokenStore}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class FileOAuth2TokenStoreTest {
+
+	private static final String NAME = "my-registration";
+	private static final String OTHER_NAME = "my-other-registration";
+	private static final String ACCESS_TOKEN = "some-access-token";
+	private static final long EXPIRES_IN = 300;
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	void shouldLoadTheSavedToken() {
+		FileOAuth2TokenStore tokenStore = FileOAuth2TokenStore.of(directory, FileOAuth2TokenStore.generateKey());
+		AuthenticationToken token = createToken();
+
+		tokenStore.save(NAME, token);
+		AuthenticationToken result = tokenStore.load(NAME);
+
+		assertNotNull(result);
+		assertThat(result.getAccessToken(), equalTo(ACCESS_TOKEN));
+		assertThat(result.getExpiresIn(), equalTo(EXPIRES_IN));
+		assertThat(result.getExpiration(), equalTo(token.getExpiration()));
+	}
+
+	@Test
+	void shouldReplaceThePreviouslySavedToken() {
+		FileOAuth2TokenStore tokenStore = FileOAuth2TokenStore.of(directory, FileOAuth2TokenStore.generateKey());
+		AuthenticationToken newToken = createToken();
+		newToken.setAccessToken("new-access-token");
+
+		tokenStore.save(NAME, createToken());
+		tokenStore.save(NAME, newToken);
+		AuthenticationToken result = tokenStore.load(NAME);
+
+		assertThat(result.getAccessToken(), equalTo("new-access-token"));
+	}
+
+	@Test
+	void shouldReturnNullWhenNoTokenWasSaved() {
+		FileOAuth2TokenStore tokenStore = FileOAuth2TokenStore.of(directory, FileOAuth2TokenStore.generateKey());
+
+		tokenStore.save(NAME, createToken());
+
+		assertNull(tokenStore.load(OTHER_NAME));
+	}
+
+	@Test
+	void shouldNotStoreTheTokenInPlainText() throws Exception {
+		FileOAuth2TokenStore tokenStore = FileOAuth2TokenStore.of(directory, FileOAuth2TokenStore.generateKey());
+
+		tokenStore.save(NAME, createToken());
+
+		String content = new String(Files.readAllBytes(tokenStore.getFile(NAME)), StandardCharsets.ISO_8859_1);
+		assertFalse(content.contains(ACCESS_TOKEN));
+	}
+
+	@Test
+	void shouldReturnNullWhenTheTokenWasSavedWithAnotherKey() {
+		FileOAuth2TokenStore.of(directory, FileOAuth2TokenStore.generateKey()).save(NAME, createToken());
+		FileOAuth2TokenStore tokenStore = FileOAuth2TokenStore.of(directory, FileOAuth2TokenStore.generateKey());
+
+		assertNull(tokenStore.load(NAME));
+	}
+
+	@Test
+	void shouldReturnNullWhenTheTokenFileWasTamperedWith() throws Exception {
+		FileOAuth2TokenStore tokenStore = FileOAuth2TokenStore.of(directory, FileOAuth2TokenStore.generateKey());
+		tokenStore.save(NAME, createToken());
+		Path file = tokenStore.getFile(NAME);
+		byte[] content = Files.readAllBytes(file);
+		content[content.length - 1] ^= 1;
+		Files.write(file, content);
+
+		assertNull(tokenStore.load(NAME));
+	}
+
+	@Test
+	void shouldNotDecryptTheContentForAnotherName() throws Exception {
+		FileOAuth2TokenStore tokenStore = FileOAuth2TokenStore.of(directory, FileOAuth2TokenStore.generateKey());
+		byte[] content = tokenStore.encrypt(NAME, ACCESS_TOKEN.getBytes(StandardCharsets.UTF_8));
+
+		assertThat(new String(tokenStore.decrypt(NAME, content), StandardCharsets.UTF_8), equalTo(ACCESS_TOKEN));
+		assertThrows(GeneralSecurityException.class, () -> tokenStore.decrypt(OTHER_NAME, content));
+	}
+
+	@Test
+	void shouldCreateTheDirectoryWhenSavingIfItIsMissing() {
+		Path missingDirectory = directory.resolve("tokens");
+		FileOAuth2TokenStore tokenStore = FileOAuth2TokenStore.of(missingDirectory, FileOAuth2TokenStore.generateKey());
+
+		tokenStore.save(NAME, createToken());
+
+		assertTrue(Files.isRegularFile(tokenStore.getFile(NAME)));
+		assertNotNull(tokenStore.load(NAME));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenTheRawKeyHasAnInvalidLength() {
+		byte[] key = new byte[10];
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> FileOAuth2TokenStore.of(directory, key));
+
+		assertThat(e.getMessage(), equalTo("Token store key must be 16, 24 or 32 bytes long, got: 10"));
+	}
+
+	@Test
+	void shouldLoadTheTokenSavedWithTheSameRawKey() {
+		byte[] key = FileOAuth2TokenStore.generateKey().getEncoded();
+		FileOAuth2TokenStore.of(directory, key).save(NAME, createToken());
+
+		AuthenticationToken result = FileOAuth2TokenStore.of(directory, key).load(NAME);
+
+		assertThat(result.getAccessToken(), equalTo(ACCESS_TOKEN));
+	}
+
+	@Test
+	void shouldGenerateA256BitsAesKey() {
+		SecretKey key = FileOAuth2TokenStore.generateKey();
+
+		assertThat(key.getAlgorithm(), equalTo(FileOAuth2TokenStore.KEY_ALGORITHM));
+		assertThat(key.getEncoded().length, equalTo(32));
+	}
+
+	private static AuthenticationToken createToken() {
+		AuthenticationToken token = new AuthenticationToken();
+		token.setAccessToken(ACCESS_TOKEN);
+		token.setExpiresIn(EXPIRES_IN);
+		token.setExpiration(Instant.now().plusSeconds(EXPIRES_IN).truncatedTo(ChronoUnit.MILLIS));
+		return token;
+	}
+}
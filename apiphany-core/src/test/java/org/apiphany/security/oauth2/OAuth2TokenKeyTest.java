@@ -0,0 +1,66 @@
+package org.apiphany.security.oauth2;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link OAuth2TokenKey}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class OAuth2TokenKeyTest {
+
+	@Test
+	void shouldBeEqualForTheSameScopesInAnyOrder() {
+		OAuth2TokenKey key1 = OAuth2TokenKey.ofScopes("write", "read");
+		OAuth2TokenKey key2 = OAuth2TokenKey.ofScopes("read", "write");
+
+		assertThat(key1, equalTo(key2));
+		assertThat(key1.hashCode(), equalTo(key2.hashCode()));
+		assertThat(key1.scope(), equalTo("read write"));
+	}
+
+	@Test
+	void shouldDropBlankScopesAndStripScopes() {
+		OAuth2TokenKey key = OAuth2TokenKey.ofScopes(" read ", "", null, "  ");
+
+		assertThat(key.scope(), equalTo("read"));
+	}
+
+	@Test
+	void shouldNormalizeBlankAudienceAndResourceToNull() {
+		OAuth2TokenKey key = OAuth2TokenKey.of(null, " ", "");
+
+		assertThat(key.audience(), nullValue());
+		assertThat(key.resource(), nullValue());
+		assertThat(key, equalTo(OAuth2TokenKey.DEFAULT));
+	}
+
+	@Test
+	void shouldBeDefaultWhenNothingIsRequested() {
+		assertTrue(OAuth2TokenKey.DEFAULT.isDefault());
+		assertThat(OAuth2TokenKey.DEFAULT.scope(), nullValue());
+		assertTrue(OAuth2TokenKey.ofScopes().isDefault());
+	}
+
+	@Test
+	void shouldNotBeDefaultWhenAudienceOrResourceIsRequested() {
+		assertFalse(OAuth2TokenKey.ofAudience("api").isDefault());
+		assertFalse(OAuth2TokenKey.of(Set.of(), null, "https://api.example.com").isDefault());
+	}
+
+	@Test
+	void shouldReturnUnmodifiableScopes() {
+		OAuth2TokenKey key = OAuth2TokenKey.ofScopes("read");
+
+		assertThrows(UnsupportedOperationException.class, () -> key.scopes().add("write"));
+	}
+}
@@ -43,6 +43,9 @@ class OAuth2TokenProviderPropertiesTest {
 		assertThat(properties.getMaxTaskCloseAttempts(), equalTo(OAuth2TokenProviderProperties.Default.MAX_TASK_CLOSE_ATTEMPTS));
 		assertThat(properties.getCloseTaskRetryInterval(), equalTo(OAuth2TokenProviderProperties.Default.CLOSE_TASK_RETRY_INTERVAL));
 		assertThat(properties.getSchedulerTerminationTimeout(), equalTo(OAuth2TokenProviderProperties.Default.SCHEDULER_TERMINATION_TIMEOUT));
+		assertThat(properties.getRefreshJitter(), equalTo(OAuth2TokenProviderProperties.Default.REFRESH_JITTER));
+		assertThat(properties.getRefreshWaitTimeout(), equalTo(OAuth2TokenProviderProperties.Default.REFRESH_WAIT_TIMEOUT));
+		assertThat(properties.getMaxScopedTokens(), equalTo(OAuth2TokenProviderProperties.Default.MAX_SCOPED_TOKENS));
 	}
 
 	@Test
@@ -56,6 +59,9 @@ class OAuth2TokenProviderPropertiesTest {
 		properties.setMaxTaskCloseAttempts(5);
 		properties.setCloseTaskRetryInterval(Duration.ofSeconds(10));
 		properties.setSchedulerTerminationTimeout(Duration.ofSeconds(20));
+		properties.setRefreshJitter(Duration.ofSeconds(30));
+		properties.setRefreshWaitTimeout(Duration.ofSeconds(40));
+		properties.setMaxScopedTokens(16);
 
 		assertThat(properties.getExpirationErrorMargin(), equalTo(Duration.ofSeconds(120)));
 		assertThat(properties.getMinRefreshInterval(), equalTo(Duration.ofSeconds(300)));
@@ -64,6 +70,9 @@ class OAuth2TokenProviderPropertiesTest {
 		assertThat(properties.getMaxTaskCloseAttempts(), equalTo(5));
 		assertThat(properties.getCloseTaskRetryInterval(), equalTo(Duration.ofSeconds(10)));
 		assertThat(properties.getSchedulerTerminationTimeout(), equalTo(Duration.ofSeconds(20)));
+		assertThat(properties.getRefreshJitter(), equalTo(Duration.ofSeconds(30)));
+		assertThat(properties.getRefreshWaitTimeout(), equalTo(Duration.ofSeconds(40)));
+		assertThat(properties.getMaxScopedTokens(), equalTo(16));
 	}
 
 	@Test
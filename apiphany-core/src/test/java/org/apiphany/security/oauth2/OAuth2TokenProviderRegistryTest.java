@@ -4,24 +4,40 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -55,8 +71,10 @@ class OAuth2TokenProviderRegistryTest {
 
 	private static final int THREADS = 200;
 	private static final int CLOSE_COUNT = 10;
+	private static final int TOKEN_REFRESH_THREADS = 3;
 
 	private static final long EXPIRES_IN = 300;
+	private static final int JITTER_PROVIDERS = 10;
 	private static final Instant DEFAULT_EXPIRATION = Instant.now();
 	private static final String TOKEN = Strings.fromFile("/security/oauth2/access-token.txt");
 
@@ -723,6 +741,321 @@ class OAuth2TokenProviderRegistryTest {
 		}
 	}
 
+	@Nested
+	class SharedTokenRefreshSchedulerTests {
+
+		@Test
+		@SuppressWarnings({ "resource", "unchecked" })
+		void shouldShareTheTokenRefreshSchedulerBetweenAllCreatedProviders() throws Exception {
+			OAuth2Registry mockRegistry = mock(OAuth2Registry.class);
+			OAuth2ResolvedRegistration registration1 = mock(OAuth2ResolvedRegistration.class);
+			doReturn(CLIENT_REGISTRATION_1).when(registration1).getClientRegistrationName();
+			OAuth2ResolvedRegistration registration2 = mock(OAuth2ResolvedRegistration.class);
+			doReturn(CLIENT_REGISTRATION_2).when(registration2).getClientRegistrationName();
+			doReturn(List.of(registration1, registration2)).when(mockRegistry).entries();
+
+			AuthenticationTokenProvider tokenClient = mock(AuthenticationTokenProvider.class);
+			doReturn(createToken()).when(tokenClient).getAuthenticationToken();
+
+			ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+			ScheduledFuture<?> scheduledFuture = mock(ScheduledFuture.class);
+			doReturn(true).when(scheduledFuture).cancel(false);
+			doReturn(scheduledFuture).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+			OAuth2TokenProviderRegistry registry = OAuth2TokenProviderRegistry.builder()
+					.oAuth2Registry(mockRegistry)
+					.customizeProviderBuilder(builder -> builder.tokenClientSupplier((cr, pd) -> tokenClient))
+					.tokenRefreshScheduler(ScopedResource.managed(scheduler))
+					.build();
+
+			assertThat(registry.getTokenRefreshScheduler(), sameInstance(scheduler));
+			verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+			registry.close();
+
+			verify(scheduler).close();
+		}
+
+		@Test
+		void shouldSpreadTheRefreshesOfTheCreatedProvidersWithTheDefaultRefreshJitter() throws Exception {
+			List<Long> delays = scheduleRefreshes(OAuth2TokenProviderRegistry.builder());
+
+			assertThat(delays, hasSize(JITTER_PROVIDERS));
+			assertThat(spread(delays), greaterThan(1000L));
+		}
+
+		@Test
+		void shouldNotSpreadTheRefreshesOfTheCreatedProvidersWhenTheRefreshJitterIsDisabled() throws Exception {
+			List<Long> delays = scheduleRefreshes(OAuth2TokenProviderRegistry.builder().refreshJitter(Duration.ZERO));
+
+			assertThat(delays, hasSize(JITTER_PROVIDERS));
+			assertThat(spread(delays), lessThan(1000L));
+		}
+
+		@Test
+		void shouldThrowExceptionWhenRefreshJitterIsNegative() {
+			OAuth2TokenProviderRegistry.Builder builder = OAuth2TokenProviderRegistry.builder();
+			Duration refreshJitter = Duration.ofSeconds(-1);
+
+			IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> builder.refreshJitter(refreshJitter));
+
+			assertThat(e.getMessage(), equalTo("Refresh jitter cannot be negative, got: " + refreshJitter));
+		}
+
+		@SuppressWarnings({ "resource", "unchecked" })
+		private static List<Long> scheduleRefreshes(final OAuth2TokenProviderRegistry.Builder builder) throws Exception {
+			OAuth2Registry mockRegistry = mock(OAuth2Registry.class);
+			List<OAuth2ResolvedRegistration> registrations = new ArrayList<>();
+			for (int i = 0; i < JITTER_PROVIDERS; ++i) {
+				OAuth2ResolvedRegistration registration = mock(OAuth2ResolvedRegistration.class);
+				doReturn(CLIENT_REGISTRATION_1 + i).when(registration).getClientRegistrationName();
+				registrations.add(registration);
+			}
+			doReturn(registrations).when(mockRegistry).entries();
+
+			AuthenticationTokenProvider tokenClient = mock(AuthenticationTokenProvider.class);
+			doReturn(createToken()).when(tokenClient).getAuthenticationToken();
+
+			List<Long> delays = new CopyOnWriteArrayList<>();
+			ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+			ScheduledFuture<?> scheduledFuture = mock(ScheduledFuture.class);
+			doReturn(true).when(scheduledFuture).cancel(false);
+			doAnswer(invocation -> {
+				TimeUnit unit = invocation.getArgument(2);
+				delays.add(unit.toMillis(invocation.getArgument(1)));
+				return scheduledFuture;
+			}).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+			try (OAuth2TokenProviderRegistry registry = builder
+					.oAuth2Registry(mockRegistry)
+					.customizeProviderBuilder(providerBuilder -> providerBuilder.tokenClientSupplier((cr, pd) -> tokenClient))
+					.tokenRefreshScheduler(scheduler)
+					.build()) {
+				return delays;
+			}
+		}
+
+		private static long spread(final List<Long> delays) {
+			return delays.stream().mapToLong(Long::longValue).max().orElseThrow()
+					- delays.stream().mapToLong(Long::longValue).min().orElseThrow();
+		}
+
+		@Test
+		void shouldShareTheTokenStoreBetweenAllCreatedProviders() throws Exception {
+			OAuth2Registry mockRegistry = mock(OAuth2Registry.class);
+			OAuth2ResolvedRegistration registration1 = mock(OAuth2ResolvedRegistration.class);
+			doReturn(CLIENT_REGISTRATION_1).when(registration1).getClientRegistrationName();
+			OAuth2ResolvedRegistration registration2 = mock(OAuth2ResolvedRegistration.class);
+			doReturn(CLIENT_REGISTRATION_2).when(registration2).getClientRegistrationName();
+			doReturn(List.of(registration1, registration2)).when(mockRegistry).entries();
+
+			OAuth2TokenStore tokenStore = mock(OAuth2TokenStore.class);
+
+			try (OAuth2TokenProviderRegistry registry = OAuth2TokenProviderRegistry.builder()
+					.oAuth2Registry(mockRegistry)
+					.tokenStore(tokenStore)
+					.build()) {
+				assertThat(registry.getProviders(), hasSize(2));
+				for (OAuth2TokenProvider provider : registry.getProviders()) {
+					assertThat(provider.getTokenStore(), sameInstance(tokenStore));
+				}
+			}
+		}
+
+		@Test
+		@SuppressWarnings("resource")
+		void shouldNotCloseUnmanagedTokenRefreshSchedulerWhenRegistryIsClosed() throws Exception {
+			OAuth2Registry mockRegistry = mock(OAuth2Registry.class);
+			OAuth2ResolvedRegistration registration = mock(OAuth2ResolvedRegistration.class);
+			doReturn(CLIENT_REGISTRATION_NAME).when(registration).getClientRegistrationName();
+			doReturn(List.of(registration)).when(mockRegistry).entries();
+
+			ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+			OAuth2TokenProviderRegistry registry = OAuth2TokenProviderRegistry.builder()
+					.oAuth2Registry(mockRegistry)
+					.tokenRefreshScheduler(scheduler)
+					.build();
+
+			registry.close();
+
+			verify(scheduler, never()).close();
+		}
+
+		@Test
+		@SuppressWarnings("resource")
+		void shouldCreateTheSharedTokenRefreshSchedulerAndShutItDownWhenRegistryIsClosed() throws Exception {
+			OAuth2Registry mockRegistry = mock(OAuth2Registry.class);
+			OAuth2ResolvedRegistration registration = mock(OAuth2ResolvedRegistration.class);
+			doReturn(CLIENT_REGISTRATION_NAME).when(registration).getClientRegistrationName();
+			doReturn(List.of(registration)).when(mockRegistry).entries();
+
+			OAuth2TokenProviderRegistry registry = OAuth2TokenProviderRegistry.builder()
+					.oAuth2Registry(mockRegistry)
+					.tokenRefreshThreads(TOKEN_REFRESH_THREADS)
+					.build();
+
+			ScheduledExecutorService scheduler = registry.getTokenRefreshScheduler();
+			ScheduledThreadPoolExecutor executor = (ScheduledThreadPoolExecutor) scheduler;
+			assertThat(executor.getCorePoolSize(), equalTo(TOKEN_REFRESH_THREADS));
+			assertThat(executor.getRemoveOnCancelPolicy(), equalTo(true));
+
+			registry.close();
+
+			assertThat(scheduler.isShutdown(), equalTo(true));
+		}
+
+		@Test
+		@SuppressWarnings("resource")
+		void shouldNotCreateTheSharedTokenRefreshSchedulerWhenNoProviderIsCreated() throws Exception {
+			OAuth2Registry mockRegistry = mock(OAuth2Registry.class);
+
+			OAuth2TokenProviderRegistry registry = OAuth2TokenProviderRegistry.of(mockRegistry);
+			registry.close();
+
+			assertThat(registry.getTokenRefreshScheduler(), nullValue());
+		}
+
+		@Test
+		void shouldThrowExceptionWhenTokenRefreshThreadsIsNotPositive() {
+			OAuth2TokenProviderRegistry.Builder builder = OAuth2TokenProviderRegistry.builder();
+
+			IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> builder.tokenRefreshThreads(0));
+
+			assertThat(e.getMessage(), equalTo("Token refresh threads must be positive, got: 0"));
+		}
+
+		@Test
+		void shouldNameTheSharedTokenRefreshSchedulerThreads() throws Exception {
+			ScheduledExecutorService scheduler = OAuth2TokenProviderRegistry.newTokenRefreshScheduler(1);
+			try {
+				Thread thread = scheduler.submit(Thread::currentThread).get();
+
+				assertThat(thread.getName(), startsWith(OAuth2TokenProviderRegistry.TOKEN_REFRESH_THREAD_NAME_PREFIX));
+				assertThat(thread.isDaemon(), equalTo(true));
+			} finally {
+				scheduler.shutdownNow();
+			}
+		}
+	}
+
+	@Nested
+	class InitializationTests {
+
+		@Test
+		void shouldRequestTheFirstTokensInParallelOnTheInitializationThreads() throws Exception {
+			OAuth2Registry mockRegistry = newRegistry(CLIENT_REGISTRATION_1, CLIENT_REGISTRATION_2);
+			List<String> threadNames = new CopyOnWriteArrayList<>();
+			AuthenticationTokenProvider tokenClient = mock(AuthenticationTokenProvider.class);
+			doAnswer(invocation -> {
+				threadNames.add(Thread.currentThread().getName());
+				return createToken();
+			}).when(tokenClient).getAuthenticationToken();
+
+			try (OAuth2TokenProviderRegistry registry = OAuth2TokenProviderRegistry.builder()
+					.oAuth2Registry(mockRegistry)
+					.customizeProviderBuilder(builder -> builder.tokenClientSupplier((cr, pd) -> tokenClient))
+					.initialization(OAuth2TokenProviderInitialization.EAGER_PARALLEL)
+					.initializationThreads(2)
+					.build()) {
+				assertThat(registry.getReadiness().isDone(), equalTo(true));
+				for (OAuth2TokenProvider provider : registry.getProviders()) {
+					assertThat(provider.isInitialized(), equalTo(true));
+				}
+			}
+
+			assertThat(threadNames, hasSize(2));
+			assertThat(threadNames, everyItem(startsWith(OAuth2TokenProviderRegistry.INITIALIZATION_THREAD_NAME_PREFIX)));
+		}
+
+		@Test
+		void shouldContinueTheInitializationInTheBackgroundAfterTheTimeout() throws Exception {
+			OAuth2Registry mockRegistry = newRegistry(CLIENT_REGISTRATION_NAME);
+			CountDownLatch tokenLatch = new CountDownLatch(1);
+			AuthenticationTokenProvider tokenClient = mock(AuthenticationTokenProvider.class);
+			doAnswer(invocation -> {
+				tokenLatch.await(5, TimeUnit.SECONDS);
+				return createToken();
+			}).when(tokenClient).getAuthenticationToken();
+
+			try (OAuth2TokenProviderRegistry registry = OAuth2TokenProviderRegistry.builder()
+					.oAuth2Registry(mockRegistry)
+					.customizeProviderBuilder(builder -> builder.tokenClientSupplier((cr, pd) -> tokenClient))
+					.initialization(OAuth2TokenProviderInitialization.EAGER_PARALLEL)
+					.initializationTimeout(Duration.ofMillis(50))
+					.build()) {
+				CompletableFuture<Void> readiness = registry.getReadiness();
+				assertThat(readiness.isDone(), equalTo(false));
+
+				tokenLatch.countDown();
+
+				readiness.get(5, TimeUnit.SECONDS);
+				assertThat(readiness.isCompletedExceptionally(), equalTo(false));
+			}
+		}
+
+		@Test
+		void shouldRequestTheFirstTokenOnFirstUseWhenInitializationIsLazy() throws Exception {
+			OAuth2Registry mockRegistry = newRegistry(CLIENT_REGISTRATION_NAME);
+			AuthenticationTokenProvider tokenClient = mock(AuthenticationTokenProvider.class);
+			doReturn(createToken()).when(tokenClient).getAuthenticationToken();
+
+			try (OAuth2TokenProviderRegistry registry = OAuth2TokenProviderRegistry.builder()
+					.oAuth2Registry(mockRegistry)
+					.customizeProviderBuilder(builder -> builder.tokenClientSupplier((cr, pd) -> tokenClient))
+					.initialization(OAuth2TokenProviderInitialization.LAZY)
+					.build()) {
+				verify(tokenClient, never()).getAuthenticationToken();
+				assertThat(registry.getReadiness().isDone(), equalTo(false));
+
+				registry.getProvider(CLIENT_REGISTRATION_NAME).getAuthenticationToken();
+
+				verify(tokenClient).getAuthenticationToken();
+				assertThat(registry.getReadiness().isDone(), equalTo(true));
+			}
+		}
+
+		@Test
+		void shouldOnlyWaitForTheRequiredProvidersToBeReady() throws Exception {
+			OAuth2Registry mockRegistry = newRegistry(CLIENT_REGISTRATION_1, CLIENT_REGISTRATION_2);
+			AuthenticationTokenProvider tokenClient = mock(AuthenticationTokenProvider.class);
+			doReturn(createToken()).when(tokenClient).getAuthenticationToken();
+
+			try (OAuth2TokenProviderRegistry registry = OAuth2TokenProviderRegistry.builder()
+					.oAuth2Registry(mockRegistry)
+					.customizeProviderBuilder(builder -> builder.tokenClientSupplier((cr, pd) -> tokenClient))
+					.initialization(OAuth2TokenProviderInitialization.LAZY)
+					.requiredProviderFilter(CLIENT_REGISTRATION_1::equals)
+					.build()) {
+				registry.getProvider(CLIENT_REGISTRATION_1).getAuthenticationToken();
+
+				assertThat(registry.getReadiness().isDone(), equalTo(true));
+				assertThat(registry.getProvider(CLIENT_REGISTRATION_2).isInitialized(), equalTo(false));
+			}
+		}
+
+		@Test
+		void shouldThrowExceptionWhenInitializationThreadsIsNotPositive() {
+			OAuth2TokenProviderRegistry.Builder builder = OAuth2TokenProviderRegistry.builder();
+
+			IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> builder.initializationThreads(0));
+
+			assertThat(e.getMessage(), equalTo("Initialization threads must be positive, got: 0"));
+		}
+
+		private static OAuth2Registry newRegistry(final String... clientRegistrationNames) {
+			OAuth2Registry mockRegistry = mock(OAuth2Registry.class);
+			List<OAuth2ResolvedRegistration> registrations = new ArrayList<>();
+			for (String clientRegistrationName : clientRegistrationNames) {
+				OAuth2ResolvedRegistration registration = mock(OAuth2ResolvedRegistration.class);
+				doReturn(clientRegistrationName).when(registration).getClientRegistrationName();
+				registrations.add(registration);
+			}
+			doReturn(registrations).when(mockRegistry).entries();
+			return mockRegistry;
+		}
+	}
+
 	private static String nameConverter(final String clientRegistrationName) {
 		return "prefix" + clientRegistrationName + "Suffix";
 	}
@@ -1,8 +1,13 @@
 package org.apiphany.security.oauth2;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.everyItem;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -27,7 +32,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -44,6 +51,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.morphix.lang.Holder;
@@ -78,6 +86,9 @@ class OAuth2TokenProviderTest {
 
 	private static final AtomicInteger COUNTER = new AtomicInteger(0);
 
+	private static final int CONCURRENT_CALLERS = 8;
+	private static final Duration REFRESH_DURATION = Duration.ofMillis(100);
+
 	@Mock
 	private AuthenticationTokenProvider tokenClient;
 
@@ -361,6 +372,49 @@ class OAuth2TokenProviderTest {
 		verify(scheduledExecutorService).schedule(any(Runnable.class), eq(minRefreshInterval.toMillis()), eq(TimeUnit.MILLISECONDS));
 	}
 
+	@Test
+	@SuppressWarnings("resource")
+	void shouldScheduleNewTokenRetrievalEarlierWithConfiguredRefreshJitter() {
+		doReturn(Map.of(CLIENT_REGISTRATION_NAME, clientRegistration)).when(oAuth2Properties).getRegistration();
+		doReturn(clientRegistration).when(oAuth2Properties).getClientRegistration(CLIENT_REGISTRATION_NAME);
+		doReturn(true).when(clientRegistration).hasClientId();
+		doReturn(true).when(clientRegistration).hasClientSecret();
+		doReturn(Map.of(PROVIDER_NAME, providerDetails)).when(oAuth2Properties).getProvider();
+		doReturn(providerDetails).when(oAuth2Properties).getProviderDetails(clientRegistration);
+
+		Duration expiresIn = Duration.ofHours(1);
+		Duration refreshJitter = Duration.ofMinutes(1);
+		AuthenticationToken authenticationToken = mock(AuthenticationToken.class);
+		doReturn(Instant.now().plus(expiresIn)).when(authenticationToken).getExpiration();
+		doReturn(EXPIRES_IN).when(authenticationToken).getExpiresIn();
+		doReturn(authenticationToken).when(tokenClient).getAuthenticationToken();
+
+		List<Long> delays = Collections.synchronizedList(new ArrayList<>());
+		ScheduledExecutorService scheduledExecutorService = mock(ScheduledExecutorService.class);
+		ScheduledFuture<?> scheduledFuture = mock(ScheduledFuture.class);
+		doReturn(true).when(scheduledFuture).cancel(false);
+		doAnswer(answer -> {
+			delays.add(answer.getArgument(1));
+			return scheduledFuture;
+		}).when(scheduledExecutorService).schedule(any(Runnable.class), anyLong(), any());
+
+		OAuth2TokenProviderProperties properties = new OAuth2TokenProviderProperties();
+		properties.setRefreshJitter(refreshJitter);
+
+		tokenProvider = OAuth2TokenProvider.builder()
+				.properties(properties)
+				.registration(oAuth2Properties, CLIENT_REGISTRATION_NAME)
+				.tokenRefreshScheduler(ScopedResource.managed(scheduledExecutorService))
+				.tokenClientSupplier((cr, pd) -> tokenClient)
+				.build();
+
+		Duration maxDelay = expiresIn.minus(properties.getExpirationErrorMargin());
+		Duration minDelay = maxDelay.minus(refreshJitter).minusSeconds(1);
+		assertThat(delays, hasSize(1));
+		assertThat(delays.getFirst(), lessThanOrEqualTo(maxDelay.toMillis()));
+		assertThat(delays.getFirst(), greaterThanOrEqualTo(minDelay.toMillis()));
+	}
+
 	@Test
 	@SuppressWarnings("resource")
 	void shouldInitializeSchedulerAndUseBoundedExponentialBackoffForRefreshFailures() {
@@ -967,6 +1021,511 @@ class OAuth2TokenProviderTest {
 		verify(tokenClient, times(retrievals)).getAuthenticationToken();
 	}
 
+	@Test
+	void shouldNotRefreshTokenOnDemandWhenTokenIsFresh() {
+		doReturn(createToken(Duration.ofHours(1))).when(tokenClient).getAuthenticationToken();
+		tokenProvider = newTokenProviderWithMockedScheduler(OAuth2TokenProviderProperties.defaults());
+
+		AuthenticationToken token1 = tokenProvider.getAuthenticationToken();
+		AuthenticationToken token2 = tokenProvider.getAuthenticationToken();
+
+		assertThat(token1, sameInstance(token2));
+		verify(tokenClient).getAuthenticationToken();
+	}
+
+	@Test
+	void shouldRefreshTokenOnDemandWhenTokenIsExpired() {
+		AuthenticationToken freshToken = createToken(Duration.ofHours(1));
+		doReturn(freshToken).when(tokenClient).getAuthenticationToken();
+		tokenProvider = newTokenProviderWithMockedScheduler(OAuth2TokenProviderProperties.defaults());
+		tokenProvider.setAuthenticationToken(createExpiredToken());
+
+		AuthenticationToken token = tokenProvider.getAuthenticationToken();
+
+		assertThat(token, sameInstance(freshToken));
+		verify(tokenClient, times(2)).getAuthenticationToken();
+	}
+
+	@Test
+	void shouldRefreshTokenOnDemandWhenTokenIsWithinTheExpirationErrorMargin() {
+		AuthenticationToken freshToken = createToken(Duration.ofHours(1));
+		doReturn(freshToken).when(tokenClient).getAuthenticationToken();
+		tokenProvider = newTokenProviderWithMockedScheduler(OAuth2TokenProviderProperties.defaults());
+		AuthenticationToken staleToken = createToken(Duration.ofHours(1));
+		staleToken.setExpiration(Instant.now().plus(OAuth2TokenProviderProperties.Default.EXPIRATION_ERROR_MARGIN).minusSeconds(1));
+		tokenProvider.setAuthenticationToken(staleToken);
+
+		AuthenticationToken token = tokenProvider.getAuthenticationToken();
+
+		assertThat(token, sameInstance(freshToken));
+		verify(tokenClient, times(2)).getAuthenticationToken();
+	}
+
+	@Test
+	void shouldNotRefreshTokenOnDemandRightAfterAFailedRefresh() {
+		doThrow(new RuntimeException("BOOM! Error getting token")).when(tokenClient).getAuthenticationToken();
+		OAuth2TokenProviderProperties properties = OAuth2TokenProviderProperties.defaults();
+		properties.setMinRefreshInterval(Duration.ofMinutes(1));
+		tokenProvider = newTokenProviderWithMockedScheduler(properties);
+
+		AuthenticationException e = assertThrows(AuthenticationException.class, tokenProvider::getAuthenticationToken);
+
+		assertThat(e.getMessage(), equalTo("Missing authentication token"));
+		verify(tokenClient).getAuthenticationToken();
+	}
+
+	@Test
+	@Timeout(5)
+	void shouldRefreshTokenOnDemandOnlyOnceForConcurrentCallers() throws Exception {
+		AuthenticationToken freshToken = createToken(Duration.ofHours(1));
+		doAnswer(answer -> {
+			Thread.sleep(REFRESH_DURATION.toMillis());
+			return freshToken;
+		}).when(tokenClient).getAuthenticationToken();
+		tokenProvider = newTokenProviderWithMockedScheduler(OAuth2TokenProviderProperties.defaults());
+		tokenProvider.setAuthenticationToken(createExpiredToken());
+
+		CountDownLatch startLatch = new CountDownLatch(1);
+		List<AuthenticationToken> tokens = Collections.synchronizedList(new ArrayList<>());
+		try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CALLERS)) {
+			for (int i = 0; i < CONCURRENT_CALLERS; ++i) {
+				executor.execute(() -> {
+					Threads.safeWait(startLatch, Duration.ofSeconds(3));
+					tokens.add(tokenProvider.getAuthenticationToken());
+				});
+			}
+			startLatch.countDown();
+		}
+
+		assertThat(tokens, hasSize(CONCURRENT_CALLERS));
+		assertThat(tokens, everyItem(sameInstance(freshToken)));
+		verify(tokenClient, times(2)).getAuthenticationToken();
+	}
+
+	@Test
+	void shouldRefreshTokenWhenTheCurrentTokenIsInvalidated() {
+		AuthenticationToken rejectedToken = createToken(Duration.ofHours(1));
+		AuthenticationToken freshToken = createToken(Duration.ofHours(1));
+		doReturn(rejectedToken, freshToken).when(tokenClient).getAuthenticationToken();
+		tokenProvider = newTokenProviderWithMockedScheduler(OAuth2TokenProviderProperties.defaults());
+
+		boolean result = tokenProvider.invalidateAuthenticationToken(tokenProvider.getAuthenticationToken());
+
+		assertTrue(result);
+		assertThat(tokenProvider.getAuthenticationToken(), sameInstance(freshToken));
+		verify(tokenClient, times(2)).getAuthenticationToken();
+	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void shouldSkipTheScheduledRefreshWhenTheTokenWasRefreshedSinceTheLastScheduledRefresh() {
+		AuthenticationToken rejectedToken = createToken(Duration.ofHours(1));
+		AuthenticationToken freshToken = createToken(Duration.ofHours(1));
+		AuthenticationToken scheduledToken = createToken(Duration.ofHours(1));
+		doReturn(rejectedToken, freshToken, scheduledToken).when(tokenClient).getAuthenticationToken();
+
+		List<Runnable> scheduledTasks = Collections.synchronizedList(new ArrayList<>());
+		ScheduledExecutorService scheduledExecutorService = mock(ScheduledExecutorService.class);
+		ScheduledFuture<?> scheduledFuture = mock(ScheduledFuture.class);
+		doReturn(true).when(scheduledFuture).cancel(false);
+		doAnswer(answer -> {
+			scheduledTasks.add(answer.getArgument(0));
+			return scheduledFuture;
+		}).when(scheduledExecutorService).schedule(any(Runnable.class), anyLong(), any());
+
+		tokenProvider = newTokenProviderBuilderWithMockedScheduler(OAuth2TokenProviderProperties.defaults())
+				.tokenRefreshScheduler(ScopedResource.managed(scheduledExecutorService))
+				.build();
+		tokenProvider.invalidateAuthenticationToken(tokenProvider.getAuthenticationToken());
+
+		scheduledTasks.getLast().run();
+
+		assertThat(tokenProvider.getAuthenticationToken(), sameInstance(freshToken));
+		verify(tokenClient, times(2)).getAuthenticationToken();
+
+		scheduledTasks.getLast().run();
+
+		assertThat(tokenProvider.getAuthenticationToken(), sameInstance(scheduledToken));
+		verify(tokenClient, times(3)).getAuthenticationToken();
+	}
+
+	@Test
+	void shouldNotRefreshTokenWhenTheInvalidatedTokenWasAlreadyReplaced() {
+		AuthenticationToken currentToken = createToken(Duration.ofHours(1));
+		doReturn(currentToken).when(tokenClient).getAuthenticationToken();
+		tokenProvider = newTokenProviderWithMockedScheduler(OAuth2TokenProviderProperties.defaults());
+
+		boolean result = tokenProvider.invalidateAuthenticationToken(createToken(Duration.ofHours(1)));
+
+		assertTrue(result);
+		assertThat(tokenProvider.getAuthenticationToken(), sameInstance(currentToken));
+		verify(tokenClient).getAuthenticationToken();
+	}
+
+	@Test
+	void shouldReturnFalseOnInvalidateWhenTheRefreshFails() {
+		AuthenticationToken rejectedToken = createToken(Duration.ofHours(1));
+		doReturn(rejectedToken).doThrow(new RuntimeException("BOOM! Error getting token")).when(tokenClient).getAuthenticationToken();
+		tokenProvider = newTokenProviderWithMockedScheduler(OAuth2TokenProviderProperties.defaults());
+
+		boolean result = tokenProvider.invalidateAuthenticationToken(rejectedToken);
+
+		assertFalse(result);
+		verify(tokenClient, times(2)).getAuthenticationToken();
+	}
+
+	@Test
+	@Timeout(5)
+	void shouldRefreshTokenOnlyOnceForConcurrentInvalidationsOfTheSameToken() throws Exception {
+		AuthenticationToken rejectedToken = createToken(Duration.ofHours(1));
+		AuthenticationToken freshToken = createToken(Duration.ofHours(1));
+		doReturn(rejectedToken).doAnswer(answer -> {
+			Thread.sleep(REFRESH_DURATION.toMillis());
+			return freshToken;
+		}).when(tokenClient).getAuthenticationToken();
+		tokenProvider = newTokenProviderWithMockedScheduler(OAuth2TokenProviderProperties.defaults());
+
+		CountDownLatch startLatch = new CountDownLatch(1);
+		List<Boolean> results = Collections.synchronizedList(new ArrayList<>());
+		try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CALLERS)) {
+			for (int i = 0; i < CONCURRENT_CALLERS; ++i) {
+				executor.execute(() -> {
+					Threads.safeWait(startLatch, Duration.ofSeconds(3));
+					results.add(tokenProvider.invalidateAuthenticationToken(rejectedToken));
+				});
+			}
+			startLatch.countDown();
+		}
+
+		assertThat(results, hasSize(CONCURRENT_CALLERS));
+		assertThat(results, everyItem(equalTo(true)));
+		assertThat(tokenProvider.getAuthenticationToken(), sameInstance(freshToken));
+		verify(tokenClient, times(2)).getAuthenticationToken();
+	}
+
+	@Test
+	void shouldReuseTheStoredTokenWhenItIsStillValid() {
+		AuthenticationToken storedToken = createToken(Duration.ofHours(1));
+		storedToken.setExpiration(Instant.now().plus(Duration.ofHours(1)));
+		OAuth2TokenStore tokenStore = mock(OAuth2TokenStore.class);
+		doReturn(storedToken).when(tokenStore).load(CLIENT_REGISTRATION_NAME);
+		tokenProvider = newTokenProviderBuilderWithMockedScheduler(OAuth2TokenProviderProperties.defaults())
+				.tokenStore(tokenStore)
+				.build();
+
+		AuthenticationToken token = tokenProvider.getAuthenticationToken();
+
+		assertThat(token, sameInstance(storedToken));
+		verify(tokenClient, never()).getAuthenticationToken();
+		verify(tokenStore, never()).save(any(), any());
+	}
+
+	@Test
+	void shouldRequestAndStoreANewTokenWhenTheStoredTokenIsExpired() {
+		AuthenticationToken freshToken = createToken(Duration.ofHours(1));
+		doReturn(freshToken).when(tokenClient).getAuthenticationToken();
+		OAuth2TokenStore tokenStore = mock(OAuth2TokenStore.class);
+		doReturn(createExpiredToken()).when(tokenStore).load(CLIENT_REGISTRATION_NAME);
+		tokenProvider = newTokenProviderBuilderWithMockedScheduler(OAuth2TokenProviderProperties.defaults())
+				.tokenStore(tokenStore)
+				.build();
+
+		AuthenticationToken token = tokenProvider.getAuthenticationToken();
+
+		assertThat(token, sameInstance(freshToken));
+		verify(tokenClient).getAuthenticationToken();
+		verify(tokenStore).save(CLIENT_REGISTRATION_NAME, freshToken);
+	}
+
+	@Test
+	void shouldUseTheRetrievedTokenWhenStoringItFails() {
+		AuthenticationToken freshToken = createToken(Duration.ofHours(1));
+		doReturn(freshToken).when(tokenClient).getAuthenticationToken();
+		OAuth2TokenStore tokenStore = mock(OAuth2TokenStore.class);
+		doThrow(new IllegalStateException("BOOM! Error storing token")).when(tokenStore).save(CLIENT_REGISTRATION_NAME, freshToken);
+		tokenProvider = newTokenProviderBuilderWithMockedScheduler(OAuth2TokenProviderProperties.defaults())
+				.tokenStore(tokenStore)
+				.build();
+
+		AuthenticationToken token = tokenProvider.getAuthenticationToken();
+
+		assertThat(token, sameInstance(freshToken));
+		verify(tokenClient).getAuthenticationToken();
+	}
+
+	@Test
+	void shouldRequestTheFirstTokenOnFirstUseWhenInitializationIsLazy() {
+		AuthenticationToken token = createToken(Duration.ofHours(1));
+		doReturn(token).when(tokenClient).getAuthenticationToken();
+		tokenProvider = newTokenProviderBuilderWithMockedScheduler(OAuth2TokenProviderProperties.defaults())
+				.lazyInitialization(true)
+				.build();
+
+		assertFalse(tokenProvider.isInitialized());
+		assertFalse(tokenProvider.getReadiness().isDone());
+		verify(tokenClient, never()).getAuthenticationToken();
+
+		AuthenticationToken result = tokenProvider.getAuthenticationToken();
+
+		assertThat(result, sameInstance(token));
+		assertTrue(tokenProvider.isInitialized());
+		assertTrue(tokenProvider.getReadiness().isDone());
+		verify(tokenClient).getAuthenticationToken();
+	}
+
+	@Test
+	void shouldInitializeOnlyOnce() {
+		doReturn(createToken(Duration.ofHours(1))).when(tokenClient).getAuthenticationToken();
+		tokenProvider = newTokenProviderBuilderWithMockedScheduler(OAuth2TokenProviderProperties.defaults())
+				.lazyInitialization(true)
+				.build();
+
+		assertTrue(tokenProvider.initialize());
+		assertFalse(tokenProvider.initialize());
+		verify(tokenClient).getAuthenticationToken();
+	}
+
+	@Test
+	void shouldCompleteTheReadinessWhenTheFirstTokenIsRetrievedOnConstruction() {
+		doReturn(createToken(Duration.ofHours(1))).when(tokenClient).getAuthenticationToken();
+		tokenProvider = newTokenProviderWithMockedScheduler(OAuth2TokenProviderProperties.defaults());
+
+		CompletableFuture<Void> readiness = tokenProvider.getReadiness();
+
+		assertTrue(tokenProvider.isInitialized());
+		assertTrue(readiness.isDone());
+		assertFalse(readiness.isCompletedExceptionally());
+	}
+
+	@Test
+	void shouldCompleteTheReadinessExceptionallyWhenThereIsNoTokenClient() {
+		tokenProvider = OAuth2TokenProvider.builder().build();
+
+		CompletableFuture<Void> readiness = tokenProvider.getReadiness();
+
+		assertFalse(tokenProvider.initialize());
+		assertTrue(readiness.isCompletedExceptionally());
+	}
+
+	@Test
+	void shouldRequestTheScopedTokenOnFirstUseAndReuseIt() {
+		OAuth2ScopedTokenClient scopedTokenClient = mock(OAuth2ScopedTokenClient.class);
+		OAuth2TokenKey tokenKey = OAuth2TokenKey.ofScopes("read", "write");
+		AuthenticationToken scopedToken = createToken(Duration.ofHours(1));
+		doReturn(scopedToken).when(scopedTokenClient).getAuthenticationToken(tokenKey);
+		tokenProvider = newTokenProviderBuilderWithMockedScheduler(OAuth2TokenProviderProperties.defaults())
+				.tokenClientSupplier((cr, pd) -> scopedTokenClient)
+				.build();
+
+		AuthenticationToken token1 = tokenProvider.getAuthenticationToken(tokenKey);
+		AuthenticationToken token2 = tokenProvider.getAuthenticationToken(OAuth2TokenKey.ofScopes("write", "read"));
+
+		assertThat(token1, sameInstance(scopedToken));
+		assertThat(token2, sameInstance(scopedToken));
+		assertThat(tokenProvider.getScopedTokenCount(), equalTo(1));
+		verify(scopedTokenClient).getAuthenticationToken(tokenKey);
+	}
+
+	@Test
+	void shouldReturnTheDefaultTokenForTheDefaultTokenKey() {
+		AuthenticationToken token = createToken(Duration.ofHours(1));
+		doReturn(token).when(tokenClient).getAuthenticationToken();
+		tokenProvider = newTokenProviderWithMockedScheduler(OAuth2TokenProviderProperties.defaults());
+
+		AuthenticationToken result = tokenProvider.getAuthenticationToken(OAuth2TokenKey.DEFAULT);
+
+		assertThat(result, sameInstance(token));
+		assertThat(tokenProvider.getScopedTokenCount(), equalTo(0));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenTheTokenClientDoesNotSupportScopedTokens() {
+		tokenProvider = newTokenProviderWithMockedScheduler(OAuth2TokenProviderProperties.defaults());
+		OAuth2TokenKey tokenKey = OAuth2TokenKey.ofAudience("api");
+
+		AuthenticationException e = assertThrows(AuthenticationException.class, () -> tokenProvider.getAuthenticationToken(tokenKey));
+
+		assertThat(e.getMessage(), equalTo("Token client does not support scoped tokens for: " + CLIENT_REGISTRATION_NAME));
+	}
+
+	@Test
+	void shouldRefreshTheScopedTokenWhenItIsStale() {
+		OAuth2ScopedTokenClient scopedTokenClient = mock(OAuth2ScopedTokenClient.class);
+		OAuth2TokenKey tokenKey = OAuth2TokenKey.ofAudience("api");
+		AuthenticationToken staleToken = createToken(Duration.ofSeconds(1));
+		AuthenticationToken freshToken = createToken(Duration.ofHours(1));
+		doReturn(staleToken).doReturn(freshToken).when(scopedTokenClient).getAuthenticationToken(tokenKey);
+		tokenProvider = newTokenProviderBuilderWithMockedScheduler(OAuth2TokenProviderProperties.defaults())
+				.tokenClientSupplier((cr, pd) -> scopedTokenClient)
+				.build();
+
+		AuthenticationToken token1 = tokenProvider.getAuthenticationToken(tokenKey);
+		AuthenticationToken token2 = tokenProvider.getAuthenticationToken(tokenKey);
+
+		assertThat(token1, sameInstance(staleToken));
+		assertThat(token2, sameInstance(freshToken));
+		verify(scopedTokenClient, times(2)).getAuthenticationToken(tokenKey);
+	}
+
+	@Test
+	void shouldDropTheLeastRecentlyUsedScopedTokenWhenTheLimitIsReached() {
+		OAuth2ScopedTokenClient scopedTokenClient = mock(OAuth2ScopedTokenClient.class);
+		OAuth2TokenKey tokenKey1 = OAuth2TokenKey.ofScopes("read");
+		OAuth2TokenKey tokenKey2 = OAuth2TokenKey.ofScopes("write");
+		doAnswer(answer -> createToken(Duration.ofHours(1))).when(scopedTokenClient).getAuthenticationToken(any(OAuth2TokenKey.class));
+		OAuth2TokenProviderProperties properties = OAuth2TokenProviderProperties.defaults();
+		properties.setMaxScopedTokens(1);
+		tokenProvider = newTokenProviderBuilderWithMockedScheduler(properties)
+				.tokenClientSupplier((cr, pd) -> scopedTokenClient)
+				.build();
+
+		tokenProvider.getAuthenticationToken(tokenKey1);
+		tokenProvider.getAuthenticationToken(tokenKey2);
+		tokenProvider.getAuthenticationToken(tokenKey1);
+
+		assertThat(tokenProvider.getScopedTokenCount(), equalTo(1));
+		verify(scopedTokenClient, times(2)).getAuthenticationToken(tokenKey1);
+		verify(scopedTokenClient).getAuthenticationToken(tokenKey2);
+	}
+
+	@Test
+	void shouldRefreshTheScopedTokenOnTheTokenRefreshScheduler() {
+		OAuth2ScopedTokenClient scopedTokenClient = mock(OAuth2ScopedTokenClient.class);
+		OAuth2TokenKey tokenKey = OAuth2TokenKey.ofAudience("api");
+		AuthenticationToken token1 = createToken(Duration.ofHours(1));
+		AuthenticationToken token2 = createToken(Duration.ofHours(1));
+		doReturn(token1).doReturn(token2).when(scopedTokenClient).getAuthenticationToken(tokenKey);
+		ScheduledExecutorService scheduledExecutorService = mock(ScheduledExecutorService.class);
+		doAnswer(invocation -> mock(ScheduledFuture.class))
+				.when(scheduledExecutorService).schedule(any(Runnable.class), anyLong(), any());
+		tokenProvider = newTokenProviderBuilder(OAuth2TokenProviderProperties.defaults(), scheduledExecutorService)
+				.tokenClientSupplier((cr, pd) -> scopedTokenClient)
+				.build();
+
+		AuthenticationToken result1 = tokenProvider.getAuthenticationToken(tokenKey);
+
+		ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+		ArgumentCaptor<Long> delays = ArgumentCaptor.forClass(Long.class);
+		verify(scheduledExecutorService, atLeast(2)).schedule(tasks.capture(), delays.capture(), eq(TimeUnit.MILLISECONDS));
+		Runnable scopedRefresh = tasks.getAllValues().getLast();
+		long refreshDelay = Duration.ofHours(1).minus(AuthenticationToken.EXPIRATION_ERROR_MARGIN).toMillis();
+		assertThat(delays.getAllValues().getLast(), lessThanOrEqualTo(refreshDelay));
+		assertThat(delays.getAllValues().getLast(), greaterThanOrEqualTo(refreshDelay - 1000));
+
+		scopedRefresh.run();
+		AuthenticationToken result2 = tokenProvider.getAuthenticationToken(tokenKey);
+
+		assertThat(result1, sameInstance(token1));
+		assertThat(result2, sameInstance(token2));
+		verify(scopedTokenClient, times(2)).getAuthenticationToken(tokenKey);
+	}
+
+	@Test
+	void shouldCancelTheScheduledScopedTokenRefreshWhenTheScopedTokenIsEvicted() {
+		OAuth2ScopedTokenClient scopedTokenClient = mock(OAuth2ScopedTokenClient.class);
+		OAuth2TokenKey tokenKey1 = OAuth2TokenKey.ofScopes("read");
+		OAuth2TokenKey tokenKey2 = OAuth2TokenKey.ofScopes("write");
+		doAnswer(answer -> createToken(Duration.ofHours(1))).when(scopedTokenClient).getAuthenticationToken(any(OAuth2TokenKey.class));
+		List<Runnable> tasks = new ArrayList<>();
+		List<ScheduledFuture<?>> scheduledFutures = new ArrayList<>();
+		ScheduledExecutorService scheduledExecutorService = mock(ScheduledExecutorService.class);
+		doAnswer(invocation -> {
+			ScheduledFuture<?> scheduledFuture = mock(ScheduledFuture.class);
+			tasks.add(invocation.getArgument(0));
+			scheduledFutures.add(scheduledFuture);
+			return scheduledFuture;
+		}).when(scheduledExecutorService).schedule(any(Runnable.class), anyLong(), any());
+		OAuth2TokenProviderProperties properties = OAuth2TokenProviderProperties.defaults();
+		properties.setMaxScopedTokens(1);
+		tokenProvider = newTokenProviderBuilder(properties, scheduledExecutorService)
+				.tokenClientSupplier((cr, pd) -> scopedTokenClient)
+				.build();
+
+		tokenProvider.getAuthenticationToken(tokenKey1);
+		Runnable scopedRefresh1 = tasks.getLast();
+		ScheduledFuture<?> scheduledRefresh1 = scheduledFutures.getLast();
+		tokenProvider.getAuthenticationToken(tokenKey2);
+		scopedRefresh1.run();
+
+		verify(scheduledRefresh1).cancel(false);
+		verify(scopedTokenClient).getAuthenticationToken(tokenKey1);
+		assertThat(tokenProvider.getScopedTokenCount(), equalTo(1));
+	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void shouldPrepareTheTokenRequestShortlyBeforeTheScheduledRefresh() {
+		OAuth2ScopedTokenClient scopedTokenClient = mock(OAuth2ScopedTokenClient.class);
+		doReturn(createToken(Duration.ofHours(1))).when(scopedTokenClient).getAuthenticationToken();
+		doReturn(Map.of(CLIENT_REGISTRATION_NAME, clientRegistration)).when(oAuth2Properties).getRegistration();
+		doReturn(clientRegistration).when(oAuth2Properties).getClientRegistration(CLIENT_REGISTRATION_NAME);
+		doReturn(true).when(clientRegistration).hasClientId();
+		doReturn(true).when(clientRegistration).hasClientSecret();
+		doReturn(Map.of(PROVIDER_NAME, providerDetails)).when(oAuth2Properties).getProvider();
+		doReturn(providerDetails).when(oAuth2Properties).getProviderDetails(clientRegistration);
+
+		ScheduledExecutorService scheduledExecutorService = mock(ScheduledExecutorService.class);
+		ScheduledFuture<?> scheduledFuture = mock(ScheduledFuture.class);
+		doReturn(scheduledFuture).when(scheduledExecutorService).schedule(any(Runnable.class), anyLong(), any());
+
+		tokenProvider = OAuth2TokenProvider.builder()
+				.registration(oAuth2Properties, CLIENT_REGISTRATION_NAME)
+				.tokenRefreshScheduler(ScopedResource.managed(scheduledExecutorService))
+				.tokenClientSupplier((cr, pd) -> scopedTokenClient)
+				.build();
+
+		ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+		ArgumentCaptor<Long> delays = ArgumentCaptor.forClass(Long.class);
+		verify(scheduledExecutorService, atLeast(2)).schedule(tasks.capture(), delays.capture(), eq(TimeUnit.MILLISECONDS));
+		long refreshDelay = Duration.ofHours(1).minus(AuthenticationToken.EXPIRATION_ERROR_MARGIN).toMillis();
+		long preparationDelay = refreshDelay - OAuth2TokenProvider.TOKEN_REQUEST_PREPARATION_LEAD.toMillis();
+		int preparation = delays.getAllValues().indexOf(delays.getAllValues().stream()
+				.filter(delay -> delay <= preparationDelay && delay > preparationDelay - 1000)
+				.findFirst()
+				.orElseThrow());
+
+		verify(scopedTokenClient, never()).prepareTokenRequest();
+		tasks.getAllValues().get(preparation).run();
+
+		verify(scopedTokenClient).prepareTokenRequest();
+	}
+
+	private OAuth2TokenProvider newTokenProviderWithMockedScheduler(final OAuth2TokenProviderProperties properties) {
+		return newTokenProviderBuilderWithMockedScheduler(properties).build();
+	}
+
+	private OAuth2TokenProvider.Builder newTokenProviderBuilderWithMockedScheduler(final OAuth2TokenProviderProperties properties) {
+		ScheduledExecutorService scheduledExecutorService = mock(ScheduledExecutorService.class);
+		ScheduledFuture<?> scheduledFuture = mock(ScheduledFuture.class);
+		doReturn(true).when(scheduledFuture).cancel(false);
+		doReturn(scheduledFuture).when(scheduledExecutorService).schedule(any(Runnable.class), anyLong(), any());
+
+		return newTokenProviderBuilder(properties, scheduledExecutorService);
+	}
+
+	@SuppressWarnings("resource")
+	private OAuth2TokenProvider.Builder newTokenProviderBuilder(final OAuth2TokenProviderProperties properties,
+			final ScheduledExecutorService scheduledExecutorService) {
+		doReturn(Map.of(CLIENT_REGISTRATION_NAME, clientRegistration)).when(oAuth2Properties).getRegistration();
+		doReturn(clientRegistration).when(oAuth2Properties).getClientRegistration(CLIENT_REGISTRATION_NAME);
+		doReturn(true).when(clientRegistration).hasClientId();
+		doReturn(true).when(clientRegistration).hasClientSecret();
+		doReturn(Map.of(PROVIDER_NAME, providerDetails)).when(oAuth2Properties).getProvider();
+		doReturn(providerDetails).when(oAuth2Properties).getProviderDetails(clientRegistration);
+
+		return OAuth2TokenProvider.builder()
+				.properties(properties)
+				.registration(oAuth2Properties, CLIENT_REGISTRATION_NAME)
+				.tokenRefreshScheduler(ScopedResource.managed(scheduledExecutorService))
+				.tokenClientSupplier((cr, pd) -> tokenClient);
+	}
+
+	private static AuthenticationToken createExpiredToken() {
+		AuthenticationToken authenticationToken = createToken(Duration.ofSeconds(EXPIRES_IN));
+		authenticationToken.setExpiration(Instant.now().minusSeconds(1));
+		return authenticationToken;
+	}
+
 	private static AuthenticationToken createToken() {
 		AuthenticationToken authenticationToken = createToken(Duration.ofSeconds(EXPIRES_IN));
 		authenticationToken.setExpiration(DEFAULT_EXPIRATION.plusSeconds(EXPIRES_IN));
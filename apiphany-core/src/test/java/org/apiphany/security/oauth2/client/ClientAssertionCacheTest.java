@@ -0,0 +1,239 @@
+package org.apiphany.security.oauth2.client;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apiphany.security.oauth2.ClientAuthenticationMethod;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ClientAssertionCache}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class ClientAssertionCacheTest {
+
+	private static final ClientAuthenticationMethod METHOD = ClientAuthenticationMethod.PRIVATE_KEY_JWT;
+	private static final Duration VALIDITY = Duration.ofMinutes(5);
+
+	private final AtomicInteger signCount = new AtomicInteger();
+
+	@Test
+	void shouldSignANewAssertionEveryTimeByDefault() {
+		ClientAssertionCache cache = ClientAssertionCache.singleUse();
+
+		String assertion1 = cache.get(METHOD, factory(VALIDITY));
+		String assertion2 = cache.get(METHOD, factory(VALIDITY));
+
+		assertThat(assertion1, not(equalTo(assertion2)));
+		assertThat(signCount.get(), equalTo(2));
+		assertThat(cache.isReusable(), equalTo(false));
+		assertThat(cache.isPreSigning(), equalTo(false));
+	}
+
+	@Test
+	void shouldReuseTheAssertionUntilItIsAboutToExpire() {
+		ClientAssertionCache cache = ClientAssertionCache.reusable(Duration.ofSeconds(30));
+
+		String assertion1 = cache.get(METHOD, factory(VALIDITY));
+		String assertion2 = cache.get(METHOD, factory(VALIDITY));
+
+		assertThat(assertion1, equalTo(assertion2));
+		assertThat(signCount.get(), equalTo(1));
+		assertThat(cache.isReusable(), equalTo(true));
+	}
+
+	@Test
+	void shouldSignANewAssertionWhenTheReusableAssertionIsAboutToExpire() {
+		ClientAssertionCache cache = ClientAssertionCache.reusable(Duration.ofSeconds(30));
+
+		String assertion1 = cache.get(METHOD, factory(Duration.ofSeconds(10)));
+		String assertion2 = cache.get(METHOD, factory(VALIDITY));
+
+		assertThat(assertion1, not(equalTo(assertion2)));
+		assertThat(signCount.get(), equalTo(2));
+	}
+
+	@Test
+	void shouldKeepOneReusableAssertionForEachMethod() {
+		ClientAssertionCache cache = ClientAssertionCache.reusable(Duration.ofSeconds(30));
+
+		String assertion1 = cache.get(ClientAuthenticationMethod.PRIVATE_KEY_JWT, factory(VALIDITY));
+		String assertion2 = cache.get(ClientAuthenticationMethod.CLIENT_SECRET_JWT, factory(VALIDITY));
+
+		assertThat(assertion1, not(equalTo(assertion2)));
+		assertThat(signCount.get(), equalTo(2));
+	}
+
+	@Test
+	void shouldSignANewAssertionAfterClear() {
+		ClientAssertionCache cache = ClientAssertionCache.reusable(Duration.ofSeconds(30));
+
+		String assertion1 = cache.get(METHOD, factory(VALIDITY));
+		cache.clear();
+		String assertion2 = cache.get(METHOD, factory(VALIDITY));
+
+		assertThat(assertion1, not(equalTo(assertion2)));
+	}
+
+	@Test
+	void shouldNotPreSignWhenTheAssertionIsHandedOut() {
+		List<Runnable> tasks = new ArrayList<>();
+		ClientAssertionCache cache = ClientAssertionCache.singleUse(tasks::add);
+
+		cache.get(METHOD, factory(VALIDITY));
+		cache.get(METHOD, factory(VALIDITY));
+
+		assertThat(tasks.size(), equalTo(0));
+		assertThat(signCount.get(), equalTo(2));
+		assertThat(cache.isPreSigning(), equalTo(true));
+	}
+
+	@Test
+	void shouldHandOutThePreSignedAssertionOnlyOnce() {
+		List<Runnable> tasks = new ArrayList<>();
+		ClientAssertionCache cache = ClientAssertionCache.singleUse(tasks::add);
+
+		String assertion1 = cache.get(METHOD, factory(VALIDITY));
+		cache.preSign();
+		assertThat(tasks.size(), equalTo(1));
+		tasks.removeFirst().run();
+		assertThat(signCount.get(), equalTo(2));
+
+		String assertion2 = cache.get(METHOD, factory(VALIDITY));
+		assertThat(signCount.get(), equalTo(2));
+
+		String assertion3 = cache.get(METHOD, factory(VALIDITY));
+
+		assertThat(tasks.size(), equalTo(0));
+		assertThat(signCount.get(), equalTo(3));
+		assertThat(assertion1, not(equalTo(assertion2)));
+		assertThat(assertion2, not(equalTo(assertion3)));
+		assertThat(assertion1, not(equalTo(assertion3)));
+	}
+
+	@Test
+	void shouldPreSignOnlyOnceUntilThePreSignedAssertionIsHandedOut() {
+		List<Runnable> tasks = new ArrayList<>();
+		ClientAssertionCache cache = ClientAssertionCache.singleUse(tasks::add);
+
+		cache.get(METHOD, factory(VALIDITY));
+		cache.preSign();
+		cache.preSign();
+
+		assertThat(tasks.size(), equalTo(1));
+	}
+
+	@Test
+	void shouldPreSignOnlyForTheMethodsUsedSoFar() {
+		List<Runnable> tasks = new ArrayList<>();
+		ClientAssertionCache cache = ClientAssertionCache.singleUse(tasks::add);
+
+		cache.preSign();
+		assertThat(tasks.size(), equalTo(0));
+
+		cache.get(ClientAuthenticationMethod.PRIVATE_KEY_JWT, factory(VALIDITY));
+		cache.get(ClientAuthenticationMethod.CLIENT_SECRET_JWT, factory(VALIDITY));
+		cache.preSign();
+
+		assertThat(tasks.size(), equalTo(2));
+	}
+
+	@Test
+	void shouldNotPreSignWhenTheCacheIsNotPreSigning() {
+		ClientAssertionCache cache = ClientAssertionCache.singleUse();
+
+		cache.get(METHOD, factory(VALIDITY));
+		cache.preSign();
+		cache.get(METHOD, factory(VALIDITY));
+
+		assertThat(signCount.get(), equalTo(2));
+	}
+
+	@Test
+	void shouldDiscardThePreSignedAssertionWhenItIsAboutToExpire() {
+		List<Runnable> tasks = new ArrayList<>();
+		ClientAssertionCache cache = ClientAssertionCache.singleUse(tasks::add);
+
+		cache.get(METHOD, factory(Duration.ofSeconds(10)));
+		cache.preSign();
+		tasks.removeFirst().run();
+		cache.get(METHOD, factory(VALIDITY));
+
+		assertThat(signCount.get(), equalTo(3));
+	}
+
+	@Test
+	void shouldSignANewAssertionWhenPreSigningFailed() {
+		List<Runnable> tasks = new ArrayList<>();
+		ClientAssertionCache cache = ClientAssertionCache.singleUse(tasks::add);
+
+		cache.get(METHOD, () -> {
+			if (signCount.incrementAndGet() > 1) {
+				throw new SecurityException("Signing failed");
+			}
+			return new ClientAssertion("assertion", Instant.now().plus(VALIDITY));
+		});
+		cache.preSign();
+		tasks.removeFirst().run();
+		String assertion = cache.get(METHOD, factory(VALIDITY));
+
+		assertThat(assertion, equalTo("assertion-3"));
+	}
+
+	@Test
+	void shouldSignTheAssertionOnTheCallerWhenPreSigningIsRejected() {
+		Executor executor = task -> {
+			throw new RejectedExecutionException("Rejected");
+		};
+		ClientAssertionCache cache = ClientAssertionCache.singleUse(executor);
+
+		String assertion1 = cache.get(METHOD, factory(VALIDITY));
+		cache.preSign();
+		String assertion2 = cache.get(METHOD, factory(VALIDITY));
+
+		assertThat(assertion1, not(equalTo(assertion2)));
+		assertThat(signCount.get(), equalTo(2));
+	}
+
+	@Test
+	void shouldNotPreSignAfterClear() {
+		List<Runnable> tasks = new ArrayList<>();
+		ClientAssertionCache cache = ClientAssertionCache.singleUse(tasks::add);
+
+		cache.get(METHOD, factory(VALIDITY));
+		cache.clear();
+		cache.preSign();
+
+		assertThat(tasks.size(), equalTo(0));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenTheReusableExpirationMarginIsNotSmallerThanTheAssertionExpiration() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> ClientAssertionCache.reusable(OAuth2ApiClient.CLIENT_ASSERTION_EXPIRATION));
+
+		assertThat(e.getMessage(), equalTo("expirationMargin must be between zero and the client assertion expiration "
+				+ OAuth2ApiClient.CLIENT_ASSERTION_EXPIRATION + " (exclusive), got: " + OAuth2ApiClient.CLIENT_ASSERTION_EXPIRATION));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenTheReusableExpirationMarginIsNegative() {
+		assertThrows(IllegalArgumentException.class, () -> ClientAssertionCache.reusable(Duration.ofSeconds(-1)));
+	}
+
+	private Supplier<ClientAssertion> factory(final Duration validity) {
+		return () -> new ClientAssertion("assertion-" + signCount.incrementAndGet(), Instant.now().plus(validity));
+	}
+}
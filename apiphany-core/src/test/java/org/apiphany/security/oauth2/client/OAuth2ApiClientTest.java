@@ -1,18 +1,25 @@
 package org.apiphany.security.oauth2.client;
 
 import static org.apiphany.ParameterFunction.parameter;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 
+import java.nio.charset.StandardCharsets;
 import java.security.interfaces.RSAPrivateKey;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apiphany.ApiClient;
 import org.apiphany.ApiRequest;
@@ -41,6 +48,7 @@ import org.apiphany.security.oauth2.ClientAuthenticationMethod;
 import org.apiphany.security.oauth2.OAuth2ClientRegistration;
 import org.apiphany.security.oauth2.OAuth2Parameter;
 import org.apiphany.security.oauth2.OAuth2ProviderDetails;
+import org.apiphany.security.oauth2.OAuth2TokenKey;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -323,6 +331,104 @@ class OAuth2ApiClientTest {
 		assertThat(capturedRequest.getMethod(), equalTo(HttpMethod.POST));
 	}
 
+	@Test
+	@SuppressWarnings({ "resource", "unchecked" })
+	void shouldReuseTheClientAssertionWhenTheClientAssertionCacheIsReusable() {
+		doReturn(AuthenticationType.NONE).when(exchangeClient).getAuthenticationType();
+		doReturn(MAIN_EXCHANGE_CLIENT).when(exchangeClient).getName();
+		doReturn(exchangeClient).when(exchangeClient).as(HttpExchangeClient.class);
+		doReturn(HttpMethod.POST).when(exchangeClient).post();
+
+		AuthenticationToken expectedToken = new AuthenticationToken();
+		expectedToken.setExpiresIn(300);
+		ApiResponse<AuthenticationToken> apiResponse = ApiResponse.create(expectedToken).status(HttpStatus.OK).build();
+
+		ArgumentCaptor<ApiRequest<String>> requestCaptor = ArgumentCaptor.forClass(ApiRequest.class);
+		doReturn(apiResponse).when(exchangeClient).exchange(requestCaptor.capture());
+
+		String clientRegistrationJsonString = Strings.fromFile("security/oauth2/oauth2-client-registration-pk.json");
+		clientRegistration = JsonBuilder.fromJson(clientRegistrationJsonString, OAuth2ClientRegistration.class);
+
+		RSAPrivateKey privateKey = RSAKeys.loadPEMPrivateKey("security/oauth2/rsa_private.pem");
+		JwsAlgorithm jwsAlgorithm = JwsAlgorithm.fromString("RS256");
+
+		oAuth2ApiClient = new OAuth2ApiClient(clientRegistration, providerDetails, privateKey, jwsAlgorithm, exchangeClient);
+		oAuth2ApiClient.setClientAssertionCache(ClientAssertionCache.reusable(ClientAssertionCache.DEFAULT_EXPIRATION_MARGIN));
+
+		oAuth2ApiClient.getAuthenticationToken(ClientAuthenticationMethod.PRIVATE_KEY_JWT);
+		oAuth2ApiClient.getAuthenticationToken(ClientAuthenticationMethod.PRIVATE_KEY_JWT);
+
+		List<ApiRequest<String>> capturedRequests = requestCaptor.getAllValues();
+		assertThat(capturedRequests, hasSize(2));
+		List<String> assertion1 = RequestParameters.from(capturedRequests.get(0).getBody()).get(OAuth2Parameter.CLIENT_ASSERTION.value());
+		List<String> assertion2 = RequestParameters.from(capturedRequests.get(1).getBody()).get(OAuth2Parameter.CLIENT_ASSERTION.value());
+		assertThat(assertion1, equalTo(assertion2));
+	}
+
+	@Test
+	@SuppressWarnings({ "resource", "unchecked" })
+	void shouldSendTheTokenKeyParameters() {
+		doReturn(AuthenticationType.NONE).when(exchangeClient).getAuthenticationType();
+		doReturn(MAIN_EXCHANGE_CLIENT).when(exchangeClient).getName();
+		doReturn(exchangeClient).when(exchangeClient).as(HttpExchangeClient.class);
+		doReturn(HttpMethod.POST).when(exchangeClient).post();
+
+		AuthenticationToken expectedToken = new AuthenticationToken();
+		expectedToken.setExpiresIn(300);
+		ApiResponse<AuthenticationToken> apiResponse = ApiResponse.create(expectedToken).status(HttpStatus.OK).build();
+
+		ArgumentCaptor<ApiRequest<String>> requestCaptor = ArgumentCaptor.forClass(ApiRequest.class);
+		doReturn(apiResponse).when(exchangeClient).exchange(requestCaptor.capture());
+
+		oAuth2ApiClient = new OAuth2ApiClient(clientRegistration, providerDetails, exchangeClient);
+
+		OAuth2TokenKey tokenKey = OAuth2TokenKey.of(Set.of("write", "read"), "orders-api", "https://orders.example.com");
+		oAuth2ApiClient.getAuthenticationToken(ClientAuthenticationMethod.CLIENT_SECRET_POST, tokenKey);
+
+		Map<String, List<String>> bodyParams = RequestParameters.from(requestCaptor.getValue().getBody());
+
+		assertThat(bodyParams.get(OAuth2Parameter.SCOPE.value()), equalTo(List.of("read write")));
+		assertThat(bodyParams.get(OAuth2Parameter.AUDIENCE.value()), equalTo(List.of("orders-api")));
+		assertThat(bodyParams.get(OAuth2Parameter.RESOURCE.value()), equalTo(List.of("https://orders.example.com")));
+	}
+
+	@Test
+	@SuppressWarnings({ "resource", "unchecked" })
+	void shouldNotSendTheTokenKeyParametersForTheDefaultTokenKey() {
+		doReturn(AuthenticationType.NONE).when(exchangeClient).getAuthenticationType();
+		doReturn(MAIN_EXCHANGE_CLIENT).when(exchangeClient).getName();
+		doReturn(exchangeClient).when(exchangeClient).as(HttpExchangeClient.class);
+		doReturn(HttpMethod.POST).when(exchangeClient).post();
+
+		AuthenticationToken expectedToken = new AuthenticationToken();
+		expectedToken.setExpiresIn(300);
+		ApiResponse<AuthenticationToken> apiResponse = ApiResponse.create(expectedToken).status(HttpStatus.OK).build();
+
+		ArgumentCaptor<ApiRequest<String>> requestCaptor = ArgumentCaptor.forClass(ApiRequest.class);
+		doReturn(apiResponse).when(exchangeClient).exchange(requestCaptor.capture());
+
+		oAuth2ApiClient = new OAuth2ApiClient(clientRegistration, providerDetails, exchangeClient);
+
+		oAuth2ApiClient.getAuthenticationToken(ClientAuthenticationMethod.CLIENT_SECRET_POST);
+
+		Map<String, List<String>> bodyParams = RequestParameters.from(requestCaptor.getValue().getBody());
+
+		assertThat(bodyParams.get(OAuth2Parameter.SCOPE.value()), nullValue());
+		assertThat(bodyParams.get(OAuth2Parameter.AUDIENCE.value()), nullValue());
+		assertThat(bodyParams.get(OAuth2Parameter.RESOURCE.value()), nullValue());
+	}
+
+	@Test
+	void shouldReturnClientAssertionWithExpirationMatchingTheExpClaim() {
+		Instant issuedAt = Instant.parse("2026-01-01T10:00:00.500Z");
+
+		ClientAssertion assertion = OAuth2ApiClient.buildClientAssertionHmac("client-id", "https://localhost/token", "secret", issuedAt);
+
+		String payload = new String(Base64.getUrlDecoder().decode(assertion.value().split("\\.")[1]), StandardCharsets.UTF_8);
+		assertThat(assertion.expiration(), equalTo(Instant.parse("2026-01-01T10:05:00Z")));
+		assertThat(payload, containsString("\"exp\":" + assertion.expiration().getEpochSecond()));
+	}
+
 	@Test
 	@SuppressWarnings({ "resource", "unchecked" })
 	void shouldReturnAuthenticationWithClientSecretPK() {
@@ -2,6 +2,7 @@ package org.apiphany.security.oauth2.client;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -9,17 +10,22 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
 import java.util.Map;
 
+import org.apiphany.ApiRequest;
 import org.apiphany.ApiResponse;
 import org.apiphany.client.ClientProperties;
 import org.apiphany.client.http.HttpExchangeClient;
 import org.apiphany.client.http.JavaNetHttpExchangeClient;
+import org.apiphany.http.HttpHeader;
 import org.apiphany.http.HttpStatus;
 import org.apiphany.json.JsonBuilder;
 import org.apiphany.lang.Strings;
+import org.apiphany.meters.micrometer.MicrometerFactory;
 import org.apiphany.security.AuthenticationException;
 import org.apiphany.security.AuthenticationToken;
 import org.apiphany.security.AuthenticationType;
@@ -33,6 +39,8 @@ import org.junit.jupiter.api.Test;
 import org.morphix.lang.JavaObjects;
 import org.morphix.lang.resource.ScopedResource;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Test class for {@link OAuth2HttpExchangeClient}.
  *
@@ -111,6 +119,44 @@ class OAuth2HttpExchangeClientTest {
 		}
 	}
 
+	@Test
+	@SuppressWarnings("resource")
+	void shouldRefreshTheTokenAndReplayTheRequestOnceWhenTheTokenIsRejected() throws Exception {
+		JavaNetHttpExchangeClient tokenExchangeClient = mock(JavaNetHttpExchangeClient.class);
+		doReturn(AuthenticationType.NONE).when(tokenExchangeClient).getAuthenticationType();
+		doReturn(TOKEN_EXCHANGE_CLIENT).when(tokenExchangeClient).getName();
+
+		AuthenticationToken rejectedToken = new AuthenticationToken();
+		rejectedToken.setAccessToken("rejected-token");
+		rejectedToken.setExpiresIn(300);
+		AuthenticationToken newToken = new AuthenticationToken();
+		newToken.setAccessToken("new-token");
+		newToken.setExpiresIn(300);
+		doReturn(ApiResponse.create(rejectedToken).status(HttpStatus.OK).build(), ApiResponse.create(newToken).status(HttpStatus.OK).build())
+				.when(tokenExchangeClient).exchange(any());
+
+		ApiResponse<Object> rejectedResponse = ApiResponse.create((Object) null)
+				.status(HttpStatus.UNAUTHORIZED)
+				.headers(Map.of(HttpHeader.WWW_AUTHENTICATE.value(), List.of("Bearer error=\"invalid_token\"")))
+				.build();
+		ApiResponse<Object> successfulResponse = ApiResponse.create(new Object()).status(HttpStatus.OK).build();
+		JavaNetHttpExchangeClient exchangeClient = mock(JavaNetHttpExchangeClient.class);
+		doReturn(clientProperties).when(exchangeClient).getClientProperties();
+		doReturn(AuthenticationType.NONE).when(exchangeClient).getAuthenticationType();
+		doReturn(MAIN_EXCHANGE_CLIENT).when(exchangeClient).getName();
+		doReturn(rejectedResponse, successfulResponse).when(exchangeClient).exchange(any());
+
+		try (OAuth2HttpExchangeClient client = new OAuth2HttpExchangeClient(exchangeClient, tokenExchangeClient, MY_SIMPLE_APP)) {
+			client.setMeterFactory(new MicrometerFactory(new SimpleMeterRegistry()));
+			ApiResponse<Object> apiResponse = client.exchange(new ApiRequest<>());
+
+			assertThat(apiResponse, sameInstance(successfulResponse));
+			assertThat(client.getReplayCounter().count(), equalTo(1.0));
+			assertThat(client.getAuthenticationToken(), sameInstance(newToken));
+		}
+		verify(exchangeClient, times(2)).exchange(any());
+	}
+
 	@Test
 	@SuppressWarnings("resource")
 	void shouldNotCloseAnyUnmanagedClient() throws Exception {
@@ -1,19 +1,25 @@
 package org.apiphany.security.ssl;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.UnrecoverableKeyException;
+import java.time.Duration;
 
 import javax.net.ssl.SSLContext;
 
@@ -21,7 +27,9 @@ import org.apiphany.io.ResourceLocation;
 import org.apiphany.json.JsonBuilder;
 import org.apiphany.lang.Strings;
 import org.apiphany.test.Assertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.morphix.reflection.Constructors;
@@ -41,6 +49,14 @@ class SSLContextsTest {
 
 	private static final String SSL_PROPERTIES_JSON = Strings.fromFile("security/ssl/ssl-properties.json");
 
+	@TempDir
+	private Path directory;
+
+	@AfterEach
+	void tearDown() {
+		SSLContexts.clearShared();
+	}
+
 	@Test
 	void shouldCreateSSLContextSuccessfully() {
 		SSLProperties sslProperties = JsonBuilder.fromJson(SSL_PROPERTIES_JSON, SSLProperties.class);
@@ -195,10 +211,125 @@ class SSLContextsTest {
 		assertNull(keyStore);
 	}
 
+	@Test
+	void shouldReturnTheSameSharedSSLContextForEqualProperties() {
+		SSLProperties sslProperties1 = JsonBuilder.fromJson(SSL_PROPERTIES_JSON, SSLProperties.class);
+		SSLProperties sslProperties2 = JsonBuilder.fromJson(SSL_PROPERTIES_JSON, SSLProperties.class);
+		sslProperties2.getKeystore().setType(KEYSTORE_TYPE.toLowerCase());
+
+		SSLContext sslContext1 = SSLContexts.shared(sslProperties1);
+		SSLContext sslContext2 = SSLContexts.shared(sslProperties2);
+
+		assertThat(sslContext1, sameInstance(sslContext2));
+	}
+
+	@Test
+	void shouldReturnDifferentSharedSSLContextsForDifferentProperties() {
+		SSLProperties sslProperties1 = JsonBuilder.fromJson(SSL_PROPERTIES_JSON, SSLProperties.class);
+		SSLProperties sslProperties2 = JsonBuilder.fromJson(SSL_PROPERTIES_JSON, SSLProperties.class);
+		sslProperties2.setSessionCacheSize(10);
+
+		SSLContext sslContext1 = SSLContexts.shared(sslProperties1);
+		SSLContext sslContext2 = SSLContexts.shared(sslProperties2);
+
+		assertThat(sslContext1, not(sameInstance(sslContext2)));
+	}
+
+	@Test
+	void shouldReturnDifferentSharedSSLContextsForDifferentPasswords() {
+		SSLProperties sslProperties1 = JsonBuilder.fromJson(SSL_PROPERTIES_JSON, SSLProperties.class);
+		SSLProperties sslProperties2 = JsonBuilder.fromJson(SSL_PROPERTIES_JSON, SSLProperties.class);
+		sslProperties2.getTruststore().setPassword(null);
+
+		SSLContext sslContext1 = SSLContexts.shared(sslProperties1);
+		SSLContext sslContext2 = SSLContexts.shared(sslProperties2);
+
+		assertThat(sslContext1, not(sameInstance(sslContext2)));
+	}
+
+	@Test
+	void shouldCreateANewSSLContextWhenSharingIsDisabled() {
+		SSLProperties sslProperties = JsonBuilder.fromJson(SSL_PROPERTIES_JSON, SSLProperties.class);
+		sslProperties.setShared(false);
+
+		SSLContext sslContext1 = SSLContexts.shared(sslProperties);
+		SSLContext sslContext2 = SSLContexts.shared(sslProperties);
+
+		assertThat(sslContext1, not(sameInstance(sslContext2)));
+	}
+
+	@Test
+	void shouldCreateANewSharedSSLContextAfterClear() {
+		SSLProperties sslProperties = JsonBuilder.fromJson(SSL_PROPERTIES_JSON, SSLProperties.class);
+
+		SSLContext sslContext1 = SSLContexts.shared(sslProperties);
+		SSLContexts.clearShared();
+		SSLContext sslContext2 = SSLContexts.shared(sslProperties);
+
+		assertThat(sslContext1, not(sameInstance(sslContext2)));
+	}
+
+	@Test
+	void shouldCreateANewSharedSSLContextAfterInvalidate() {
+		SSLProperties sslProperties = JsonBuilder.fromJson(SSL_PROPERTIES_JSON, SSLProperties.class);
+
+		SSLContext sslContext1 = SSLContexts.shared(sslProperties);
+		SSLContexts.invalidateShared(sslProperties);
+		SSLContext sslContext2 = SSLContexts.shared(sslProperties);
+
+		assertThat(sslContext1, not(sameInstance(sslContext2)));
+	}
+
+	@Test
+	void shouldReturnTheSameSharedSSLContextWhileTheExternalKeyStoreIsNotModified() throws IOException {
+		SSLProperties sslProperties = externalKeyStoreProperties();
+
+		SSLContext sslContext1 = SSLContexts.shared(sslProperties);
+		SSLContext sslContext2 = SSLContexts.shared(sslProperties);
+
+		assertThat(sslContext1, sameInstance(sslContext2));
+	}
+
+	@Test
+	void shouldCreateANewSharedSSLContextWhenTheExternalKeyStoreIsModified() throws IOException {
+		SSLProperties sslProperties = externalKeyStoreProperties();
+		Path keystore = Path.of(sslProperties.getKeystore().getLocation());
+
+		SSLContext sslContext1 = SSLContexts.shared(sslProperties);
+		Files.setLastModifiedTime(keystore, FileTime.fromMillis(Files.getLastModifiedTime(keystore).toMillis() + 1000));
+		SSLContext sslContext2 = SSLContexts.shared(sslProperties);
+
+		assertThat(sslContext1, not(sameInstance(sslContext2)));
+	}
+
+	@Test
+	void shouldConfigureTheClientSessionCache() {
+		SSLProperties sslProperties = JsonBuilder.fromJson(SSL_PROPERTIES_JSON, SSLProperties.class);
+		sslProperties.setSessionCacheSize(100);
+		sslProperties.setSessionTimeout(Duration.ofMinutes(30));
+
+		SSLContext sslContext = SSLContexts.create(sslProperties);
+
+		assertThat(sslContext.getClientSessionContext().getSessionCacheSize(), equalTo(100));
+		assertThat(sslContext.getClientSessionContext().getSessionTimeout(), equalTo(1800));
+	}
+
 	@Test
 	void shouldThrowExceptionWhenTryingToInstantiateClass() {
 		UnsupportedOperationException exception = Assertions.assertDefaultConstructorThrows(SSLContexts.class);
 
 		assertThat(exception.getMessage(), equalTo(Constructors.MESSAGE_THIS_CLASS_SHOULD_NOT_BE_INSTANTIATED));
 	}
+
+	private SSLProperties externalKeyStoreProperties() throws IOException {
+		SSLProperties sslProperties = JsonBuilder.fromJson(SSL_PROPERTIES_JSON, SSLProperties.class);
+		StoreInfo keystore = sslProperties.getKeystore();
+		Path keystorePath = directory.resolve("keystore.jks");
+		try (InputStream input = ResourceLocation.CLASS_PATH.open(keystore.getLocation())) {
+			Files.copy(input, keystorePath);
+		}
+		keystore.setLocation(keystorePath.toString());
+		keystore.setExternal(true);
+		return sslProperties;
+	}
 }
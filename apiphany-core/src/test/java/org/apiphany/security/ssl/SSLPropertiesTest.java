@@ -1,6 +1,7 @@
 package org.apiphany.security.ssl;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import org.apiphany.json.JsonBuilder;
@@ -35,6 +36,15 @@ class SSLPropertiesTest {
 		assertThat(result1.toString(), equalTo(result2.toString()));
 	}
 
+	@Test
+	void shouldShareTheSSLContextAndUseTheJdkSessionDefaultsByDefault() {
+		SSLProperties properties = new SSLProperties();
+
+		assertThat(properties.isShared(), equalTo(true));
+		assertThat(properties.getSessionCacheSize(), nullValue());
+		assertThat(properties.getSessionTimeout(), nullValue());
+	}
+
 	@Nested
 	class IsEmptyTests {
 
@@ -1,21 +1,35 @@
 package org.apiphany.security.token.client;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.apiphany.ApiRequest;
+import org.apiphany.ApiResponse;
 import org.apiphany.client.ClientProperties;
 import org.apiphany.client.ExchangeClient;
 import org.apiphany.header.HeaderValues;
 import org.apiphany.header.Headers;
 import org.apiphany.http.HttpHeader;
+import org.apiphany.http.HttpStatus;
 import org.apiphany.lang.Strings;
+import org.apiphany.meters.micrometer.MicrometerFactory;
 import org.apiphany.security.AuthenticationException;
 import org.apiphany.security.AuthenticationToken;
 import org.apiphany.security.AuthenticationType;
@@ -24,8 +38,13 @@ import org.apiphany.security.token.TokenProperties;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.morphix.lang.JavaObjects;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Test class for {@link TokenHttpExchangeClient}.
@@ -41,6 +60,14 @@ class TokenHttpExchangeClientTest {
 
 	private static final String TOKEN = Strings.fromFile("security/oauth2/access-token.txt");
 
+	private static final String NEW_TOKEN = "new-access-token";
+
+	private static final String ACCEPT_VALUE = "application/json";
+
+	private static final String OTHER_AUTHORIZATION_VALUE = "Basic other";
+
+	private static final String INVALID_TOKEN_CHALLENGE = "Bearer error=\"invalid_token\", error_description=\"The access token expired\"";
+
 	@Mock
 	private ExchangeClient exchangeClient;
 
@@ -173,6 +200,95 @@ class TokenHttpExchangeClientTest {
 		assertThat(authorizationHeader, equalTo(HeaderValues.value(HttpAuthenticationScheme.BASIC, TOKEN)));
 	}
 
+	@Test
+	void shouldRenderTheAuthorizationHeaderOncePerToken() {
+		exchangeClientSetup(clientProperties);
+		client = new TokenHttpExchangeClient(exchangeClient);
+		client.setAuthenticationToken(createToken(TOKEN));
+		client.setAuthenticationScheme(HttpAuthenticationScheme.BEARER);
+
+		List<String> values1 = client.getAuthorizationHeaderValues();
+		List<String> values2 = client.getAuthorizationHeaderValues();
+
+		assertThat(values1, sameInstance(values2));
+		assertThat(values1, equalTo(List.of(HeaderValues.value(HttpAuthenticationScheme.BEARER, TOKEN))));
+		assertThat(client.getAuthorizationHeader(), equalTo(HeaderValues.value(HttpAuthenticationScheme.BEARER, TOKEN)));
+	}
+
+	@Test
+	void shouldRenderTheAuthorizationHeaderAgainWhenTheTokenChanges() {
+		exchangeClientSetup(clientProperties);
+		client = new TokenHttpExchangeClient(exchangeClient);
+		client.setAuthenticationToken(createToken(TOKEN));
+		client.setAuthenticationScheme(HttpAuthenticationScheme.BEARER);
+		client.getAuthorizationHeaderValues();
+
+		client.setAuthenticationToken(createToken(NEW_TOKEN));
+
+		assertThat(client.getAuthorizationHeaderValues(), equalTo(List.of(HeaderValues.value(HttpAuthenticationScheme.BEARER, NEW_TOKEN))));
+	}
+
+	@Test
+	void shouldRenderTheAuthorizationHeaderAgainWhenTheAuthenticationSchemeChanges() {
+		exchangeClientSetup(clientProperties);
+		client = new TokenHttpExchangeClient(exchangeClient);
+		client.setAuthenticationToken(createToken(TOKEN));
+		client.setAuthenticationScheme(HttpAuthenticationScheme.BEARER);
+		client.getAuthorizationHeaderValues();
+
+		client.setAuthenticationScheme(HttpAuthenticationScheme.BASIC);
+
+		assertThat(client.getAuthorizationHeaderValues(), equalTo(List.of(HeaderValues.value(HttpAuthenticationScheme.BASIC, TOKEN))));
+	}
+
+	@Test
+	void shouldAddTheRenderedAuthorizationHeaderValuesToTheRequest() {
+		exchangeClientSetup(clientProperties);
+		client = new TokenHttpExchangeClient(exchangeClient);
+		client.setAuthenticationToken(createToken(TOKEN));
+		client.setAuthenticationScheme(HttpAuthenticationScheme.BEARER);
+		ApiRequest<Object> apiRequest = new ApiRequest<>();
+
+		client.authenticate(apiRequest);
+
+		List<String> values = apiRequest.getHeaders().get(HttpHeader.AUTHORIZATION.value());
+		assertThat(values, equalTo(client.getAuthorizationHeaderValues()));
+		assertThat(values, not(sameInstance(client.getAuthorizationHeaderValues())));
+	}
+
+	@Test
+	void shouldAllowAddingAuthorizationHeaderValuesAfterAuthentication() {
+		exchangeClientSetup(clientProperties);
+		client = new TokenHttpExchangeClient(exchangeClient);
+		client.setAuthenticationToken(createToken(TOKEN));
+		client.setAuthenticationScheme(HttpAuthenticationScheme.BEARER);
+		ApiRequest<Object> apiRequest = new ApiRequest<>();
+		client.authenticate(apiRequest);
+
+		apiRequest.addHeader(HttpHeader.AUTHORIZATION, OTHER_AUTHORIZATION_VALUE);
+
+		String expected = HeaderValues.value(HttpAuthenticationScheme.BEARER, TOKEN);
+		assertThat(apiRequest.getHeaderValues(HttpHeader.AUTHORIZATION), equalTo(List.of(expected, OTHER_AUTHORIZATION_VALUE)));
+		assertThat(client.getAuthorizationHeaderValues(), equalTo(List.of(expected)));
+	}
+
+	@Test
+	void shouldAppendTheAuthorizationHeaderValuesToTheExistingValuesWithoutChangingThem() {
+		exchangeClientSetup(clientProperties);
+		client = new TokenHttpExchangeClient(exchangeClient);
+		client.setAuthenticationToken(createToken(TOKEN));
+		client.setAuthenticationScheme(HttpAuthenticationScheme.BEARER);
+		ApiRequest<Object> apiRequest = new ApiRequest<>();
+		client.authenticate(apiRequest);
+		List<String> values = client.getAuthorizationHeaderValues();
+
+		client.authenticate(apiRequest);
+
+		String expected = HeaderValues.value(HttpAuthenticationScheme.BEARER, TOKEN);
+		assertThat(apiRequest.getHeaders().get(HttpHeader.AUTHORIZATION.value()), equalTo(List.of(expected, expected)));
+		assertThat(values, equalTo(List.of(expected)));
+	}
+
 	@Test
 	void shouldThrowExceptionWhenRequestingTokenIfTokenWasNotInitialized() {
 		exchangeClientSetup(null);
@@ -198,4 +314,201 @@ class TokenHttpExchangeClientTest {
 		String expectedMessage = "Missing authentication token";
 		assertThat(e.getMessage(), equalTo(expectedMessage));
 	}
+
+	@Test
+	void shouldNotReplayTheRequestWhenTheStaticTokenIsRejected() {
+		exchangeClientSetup(clientProperties);
+		client = new TokenHttpExchangeClient(exchangeClient);
+		client.setMeterFactory(new MicrometerFactory(new SimpleMeterRegistry()));
+		client.setAuthenticationToken(createToken(TOKEN));
+		client.setAuthenticationScheme(HttpAuthenticationScheme.BEARER);
+		ApiResponse<Object> rejectedResponse = createUnauthorizedResponse(INVALID_TOKEN_CHALLENGE);
+		doReturn(rejectedResponse).when(exchangeClient).exchange(any());
+
+		ApiResponse<Object> apiResponse = client.exchange(new ApiRequest<>());
+
+		assertThat(apiResponse, sameInstance(rejectedResponse));
+		assertThat(client.getReplayCounter().count(), equalTo(0.0));
+		verify(exchangeClient).exchange(any());
+	}
+
+	@Test
+	void shouldReplayTheRequestOnceWithTheNewTokenWhenTheTokenIsRejected() {
+		exchangeClientSetup(clientProperties);
+		client = new RefreshingTokenHttpExchangeClient(exchangeClient, createToken(NEW_TOKEN));
+		client.setAuthenticationToken(createToken(TOKEN));
+		client.setAuthenticationScheme(HttpAuthenticationScheme.BEARER);
+		ApiResponse<Object> rejectedResponse = createUnauthorizedResponse(INVALID_TOKEN_CHALLENGE);
+		ApiResponse<Object> successfulResponse = ApiResponse.create(new Object()).status(HttpStatus.OK).build();
+		List<List<String>> authorizationHeaders = new ArrayList<>();
+		doAnswer(invocation -> {
+			ApiRequest<?> apiRequest = invocation.getArgument(0);
+			authorizationHeaders.add(new ArrayList<>(Headers.get(HttpHeader.AUTHORIZATION, apiRequest.getHeaders())));
+			return authorizationHeaders.size() == 1 ? rejectedResponse : successfulResponse;
+		}).when(exchangeClient).exchange(any());
+
+		ApiResponse<Object> apiResponse = client.exchange(new ApiRequest<>());
+
+		assertThat(apiResponse, sameInstance(successfulResponse));
+		assertThat(client.getReplayCounter().count(), equalTo(1.0));
+		assertThat(authorizationHeaders, equalTo(List.of(
+				List.of(HeaderValues.value(HttpAuthenticationScheme.BEARER, TOKEN)),
+				List.of(HeaderValues.value(HttpAuthenticationScheme.BEARER, NEW_TOKEN)))));
+	}
+
+	@Test
+	void shouldKeepTheHeadersAddedByTheExchangeWhenReplayingTheRequest() {
+		exchangeClientSetup(clientProperties);
+		client = new RefreshingTokenHttpExchangeClient(exchangeClient, createToken(NEW_TOKEN));
+		client.setAuthenticationToken(createToken(TOKEN));
+		client.setAuthenticationScheme(HttpAuthenticationScheme.BEARER);
+		ApiResponse<Object> rejectedResponse = createUnauthorizedResponse(INVALID_TOKEN_CHALLENGE);
+		ApiResponse<Object> successfulResponse = ApiResponse.create(new Object()).status(HttpStatus.OK).build();
+		doAnswer(invocation -> {
+			ApiRequest<?> apiRequest = invocation.getArgument(0);
+			if (!apiRequest.containsHeader(HttpHeader.ACCEPT)) {
+				apiRequest.addHeader(HttpHeader.ACCEPT, ACCEPT_VALUE);
+				return rejectedResponse;
+			}
+			return successfulResponse;
+		}).when(exchangeClient).exchange(any());
+		ApiRequest<Object> apiRequest = new ApiRequest<>();
+
+		ApiResponse<Object> apiResponse = client.exchange(apiRequest);
+
+		assertThat(apiResponse, sameInstance(successfulResponse));
+		assertThat(apiRequest.getHeaderValues(HttpHeader.ACCEPT), equalTo(List.of(ACCEPT_VALUE)));
+		assertThat(apiRequest.getHeaderValues(HttpHeader.AUTHORIZATION),
+				equalTo(List.of(HeaderValues.value(HttpAuthenticationScheme.BEARER, NEW_TOKEN))));
+	}
+
+	@Test
+	void shouldReplayTheRequestOnlyOnceWhenTheNewTokenIsRejectedToo() {
+		exchangeClientSetup(clientProperties);
+		client = new RefreshingTokenHttpExchangeClient(exchangeClient, createToken(NEW_TOKEN));
+		client.setAuthenticationToken(createToken(TOKEN));
+		client.setAuthenticationScheme(HttpAuthenticationScheme.BEARER);
+		ApiResponse<Object> rejectedResponse = createUnauthorizedResponse(INVALID_TOKEN_CHALLENGE);
+		doReturn(rejectedResponse).when(exchangeClient).exchange(any());
+
+		ApiResponse<Object> apiResponse = client.exchange(new ApiRequest<>());
+
+		assertThat(apiResponse, sameInstance(rejectedResponse));
+		assertThat(client.getReplayCounter().count(), equalTo(1.0));
+		verify(exchangeClient, times(2)).exchange(any());
+	}
+
+	@Test
+	void shouldNotReplayTheRequestWhenTheUnauthorizedResponseHasNoInvalidTokenError() {
+		exchangeClientSetup(clientProperties);
+		client = new RefreshingTokenHttpExchangeClient(exchangeClient, createToken(NEW_TOKEN));
+		client.setAuthenticationToken(createToken(TOKEN));
+		client.setAuthenticationScheme(HttpAuthenticationScheme.BEARER);
+		ApiResponse<Object> rejectedResponse = createUnauthorizedResponse("Bearer realm=\"example\"");
+		doReturn(rejectedResponse).when(exchangeClient).exchange(any());
+
+		ApiResponse<Object> apiResponse = client.exchange(new ApiRequest<>());
+
+		assertThat(apiResponse, sameInstance(rejectedResponse));
+		assertThat(client.getReplayCounter().count(), equalTo(0.0));
+		verify(exchangeClient).exchange(any());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"Bearer error=\"invalid_token_format\"",
+			"Bearer error=\"insufficient_scope\", error_description=\"Not an invalid_token\"",
+			"Bearer error=\"INVALID_TOKEN\"",
+			"Basic realm=\"example\", error=\"invalid_token\"",
+			"Bearer realm=\"invalid_token\""
+	})
+	void shouldNotReplayTheRequestWhenTheBearerChallengeErrorIsNotInvalidToken(final String challenge) {
+		exchangeClientSetup(clientProperties);
+		client = new RefreshingTokenHttpExchangeClient(exchangeClient, createToken(NEW_TOKEN));
+		client.setAuthenticationToken(createToken(TOKEN));
+		client.setAuthenticationScheme(HttpAuthenticationScheme.BEARER);
+		ApiResponse<Object> rejectedResponse = createUnauthorizedResponse(challenge);
+		doReturn(rejectedResponse).when(exchangeClient).exchange(any());
+
+		ApiResponse<Object> apiResponse = client.exchange(new ApiRequest<>());
+
+		assertThat(apiResponse, sameInstance(rejectedResponse));
+		assertThat(client.getReplayCounter().count(), equalTo(0.0));
+		verify(exchangeClient).exchange(any());
+	}
+
+	@Test
+	void shouldReplayTheRequestWhenTheBearerChallengeFollowsAnotherChallenge() {
+		exchangeClientSetup(clientProperties);
+		client = new RefreshingTokenHttpExchangeClient(exchangeClient, createToken(NEW_TOKEN));
+		client.setAuthenticationToken(createToken(TOKEN));
+		client.setAuthenticationScheme(HttpAuthenticationScheme.BEARER);
+		ApiResponse<Object> rejectedResponse = createUnauthorizedResponse("Basic realm=\"example\", Bearer error=invalid_token");
+		ApiResponse<Object> successfulResponse = ApiResponse.create(new Object()).status(HttpStatus.OK).build();
+		doReturn(rejectedResponse).doReturn(successfulResponse).when(exchangeClient).exchange(any());
+
+		ApiResponse<Object> apiResponse = client.exchange(new ApiRequest<>());
+
+		assertThat(apiResponse, sameInstance(successfulResponse));
+		assertThat(client.getReplayCounter().count(), equalTo(1.0));
+	}
+
+	@Test
+	void shouldNotReplayTheRequestWhenTheRequestBodyIsAnInputStream() {
+		exchangeClientSetup(clientProperties);
+		client = new RefreshingTokenHttpExchangeClient(exchangeClient, createToken(NEW_TOKEN));
+		client.setAuthenticationToken(createToken(TOKEN));
+		client.setAuthenticationScheme(HttpAuthenticationScheme.BEARER);
+		ApiResponse<Object> rejectedResponse = createUnauthorizedResponse(INVALID_TOKEN_CHALLENGE);
+		doReturn(rejectedResponse).when(exchangeClient).exchange(any());
+		ApiRequest<InputStream> apiRequest = JavaObjects.cast(mock(ApiRequest.class));
+		doReturn(new ByteArrayInputStream(new byte[] { 1 })).when(apiRequest).getBody();
+		doReturn(new LinkedHashMap<>()).when(apiRequest).getHeaders();
+
+		ApiResponse<Object> apiResponse = client.exchange(apiRequest);
+
+		assertThat(apiResponse, sameInstance(rejectedResponse));
+		assertThat(client.getReplayCounter().count(), equalTo(0.0));
+		verify(exchangeClient).exchange(any());
+	}
+
+	private static AuthenticationToken createToken(final String accessToken) {
+		AuthenticationToken authenticationToken = new AuthenticationToken();
+		authenticationToken.setAccessToken(accessToken);
+		return authenticationToken;
+	}
+
+	private static ApiResponse<Object> createUnauthorizedResponse(final String challenge) {
+		return ApiResponse.create((Object) null)
+				.status(HttpStatus.UNAUTHORIZED)
+				.headers(Map.of(HttpHeader.WWW_AUTHENTICATE.value(), List.of(challenge)))
+				.build();
+	}
+
+	/**
+	 * Token client which replaces a rejected token with the given new token.
+	 */
+	static class RefreshingTokenHttpExchangeClient extends TokenHttpExchangeClient {
+
+		private final AuthenticationToken newToken;
+
+		RefreshingTokenHttpExchangeClient(final ExchangeClient exchangeClient, final AuthenticationToken newToken) {
+			super(exchangeClient);
+			this.newToken = newToken;
+			setMeterFactory(new MicrometerFactory(new SimpleMeterRegistry()));
+		}
+
+		@Override
+		protected boolean canReplay() {
+			return true;
+		}
+
+		@Override
+		protected boolean invalidateAuthenticationToken(final AuthenticationToken rejectedToken) {
+			if (getAuthenticationToken() == rejectedToken) {
+				setAuthenticationToken(newToken);
+			}
+			return getAuthenticationToken() != rejectedToken;
+		}
+	}
 }
@@ -0,0 +1,54 @@
+package org.apiphany.tracing;
+
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link Sampler}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class SamplerTest {
+
+	private static final String LOW_TRACE_ID = "ffffffffffffffff0000000000000001";
+	private static final String HIGH_TRACE_ID = "0000000000000000fffffffffffffffe";
+
+	@Test
+	void shouldReturnConstantSamplersForEdgeRatios() {
+		assertThat(Sampler.ratio(0.0), sameInstance(Sampler.NEVER));
+		assertThat(Sampler.ratio(1.0), sameInstance(Sampler.ALWAYS));
+	}
+
+	@Test
+	void shouldDecideOnTheLowerBitsOfTheTraceId() {
+		Sampler sampler = Sampler.ratio(0.5);
+
+		assertThat(sampler.isSampled(LOW_TRACE_ID), equalTo(true));
+		assertThat(sampler.isSampled(HIGH_TRACE_ID), equalTo(false));
+	}
+
+	@Test
+	void shouldSampleApproximatelyTheGivenRatio() {
+		Sampler sampler = Sampler.ratio(0.25);
+		int total = 10_000;
+		int sampled = 0;
+		for (int i = 0; i < total; ++i) {
+			if (sampler.isSampled(TraceContext.newTraceId())) {
+				++sampled;
+			}
+		}
+
+		assertThat(sampled > 2_000 && sampled < 3_000, equalTo(true));
+	}
+
+	@Test
+	void shouldThrowExceptionOnInvalidRatio() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> Sampler.ratio(1.5));
+
+		assertThat(e.getMessage(), equalTo("Sampling ratio must be between 0.0 and 1.0, got: 1.5"));
+	}
+}
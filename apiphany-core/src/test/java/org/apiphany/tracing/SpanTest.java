@@ -0,0 +1,84 @@
+package org.apiphany.tracing;
+
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link Span}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class SpanTest {
+
+	private static final String SPAN_NAME = "GET /users/{id}";
+	private static final String TAG_KEY = "key";
+	private static final String TAG_VALUE = "value";
+
+	@Test
+	void shouldRecordTagsErrorAndDurationForSampledSpans() {
+		List<Span> spans = new ArrayList<>();
+		Tracer tracer = Tracer.of(Sampler.ALWAYS, TracePropagation.W3C, spans::add);
+		RuntimeException error = new RuntimeException();
+
+		Span span = tracer.startSpan(SPAN_NAME)
+				.tag(TAG_KEY, TAG_VALUE)
+				.error(error);
+		span.end();
+		span.end();
+
+		assertThat(spans, hasSize(1));
+		assertThat(spans.getFirst(), sameInstance(span));
+		assertThat(span.getName(), equalTo(SPAN_NAME));
+		assertThat(span.getTags(), equalTo(Map.of(TAG_KEY, TAG_VALUE)));
+		assertThat(span.getError(), sameInstance(error));
+		assertThat(span.getStartTime(), notNullValue());
+		assertThat(span.getDuration(), notNullValue());
+		assertThat(span.isEnded(), equalTo(true));
+	}
+
+	@Test
+	void shouldRecordNothingForUnsampledSpans() {
+		List<Span> spans = new ArrayList<>();
+		Tracer tracer = Tracer.of(Sampler.NEVER, TracePropagation.W3C, spans::add);
+
+		Span span = tracer.startSpan(SPAN_NAME)
+				.tag(TAG_KEY, TAG_VALUE)
+				.error(new RuntimeException());
+		span.end();
+
+		assertThat(spans, hasSize(0));
+		assertThat(span.getContext(), notNullValue());
+		assertThat(span.isRecording(), equalTo(false));
+		assertThat(span.getTags(), equalTo(Collections.emptyMap()));
+		assertThat(span.getError(), nullValue());
+		assertThat(span.getStartTime(), nullValue());
+		assertThat(span.getDuration(), nullValue());
+	}
+
+	@Test
+	void shouldIgnoreNullTagValues() {
+		Span span = Tracer.of(Sampler.ALWAYS, TracePropagation.W3C).startSpan(SPAN_NAME)
+				.tag(TAG_KEY, null);
+
+		assertThat(span.getTags(), equalTo(Collections.emptyMap()));
+	}
+
+	@Test
+	void shouldNotChangeTheCurrentSpanWithTheNoopSpan() {
+		try (Tracer.Scope scope = Span.NOOP.makeCurrent()) {
+			assertThat(scope, sameInstance(Tracer.Scope.NOOP));
+			assertThat(Tracer.currentSpan(), nullValue());
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package org.apiphany.tracing;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test class for {@link TraceContext}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class TraceContextTest {
+
+	private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+	private static final String SPAN_ID = "b7ad6b7169203331";
+	private static final String TRACE_PARENT = "00-" + TRACE_ID + "-" + SPAN_ID + "-01";
+	private static final String TRACE_STATE = "vendor1=value1";
+	private static final String HEX_PATTERN = "[0-9a-f]+";
+
+	@Test
+	void shouldCreateRootContextWithNewIdentifiers() {
+		TraceContext context = TraceContext.root(Sampler.ALWAYS);
+
+		assertThat(context.traceId().length(), equalTo(TraceContext.TRACE_ID_LENGTH));
+		assertThat(context.spanId().length(), equalTo(TraceContext.SPAN_ID_LENGTH));
+		assertThat(context.traceId().matches(HEX_PATTERN), equalTo(true));
+		assertThat(context.spanId().matches(HEX_PATTERN), equalTo(true));
+		assertThat(context.parentSpanId(), nullValue());
+		assertThat(context.sampled(), equalTo(true));
+	}
+
+	@Test
+	void shouldTakeTheSamplingDecisionFromTheSamplerForRootContexts() {
+		TraceContext context = TraceContext.root(Sampler.NEVER);
+
+		assertThat(context.sampled(), equalTo(false));
+	}
+
+	@Test
+	void shouldCreateChildContextInTheSameTrace() {
+		TraceContext parent = new TraceContext(TRACE_ID, SPAN_ID, null, false, TRACE_STATE);
+
+		TraceContext child = parent.child();
+
+		assertThat(child.traceId(), equalTo(TRACE_ID));
+		assertThat(child.spanId(), not(equalTo(SPAN_ID)));
+		assertThat(child.parentSpanId(), equalTo(SPAN_ID));
+		assertThat(child.sampled(), equalTo(false));
+		assertThat(child.traceState(), equalTo(TRACE_STATE));
+	}
+
+	@Test
+	void shouldBuildTraceParent() {
+		TraceContext context = new TraceContext(TRACE_ID, SPAN_ID, null, true, null);
+
+		assertThat(context.toTraceParent(), equalTo(TRACE_PARENT));
+	}
+
+	@Test
+	void shouldBuildTraceParentWhenNotSampled() {
+		TraceContext context = new TraceContext(TRACE_ID, SPAN_ID, null, false, null);
+
+		assertThat(context.toTraceParent(), equalTo("00-" + TRACE_ID + "-" + SPAN_ID + "-00"));
+	}
+
+	@Test
+	void shouldParseTraceParent() {
+		TraceContext context = TraceContext.fromTraceParent(TRACE_PARENT, TRACE_STATE);
+
+		assertThat(context, equalTo(new TraceContext(TRACE_ID, SPAN_ID, null, true, TRACE_STATE)));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"",
+			"00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331",
+			"00_0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01",
+			"00-00000000000000000000000000000000-b7ad6b7169203331-01",
+			"00-0af7651916cd43dd8448eb211c80319c-0000000000000000-01",
+			"00-0AF7651916CD43DD8448EB211C80319C-b7ad6b7169203331-01",
+			"00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-zz"
+	})
+	void shouldReturnNullOnInvalidTraceParent(final String traceParent) {
+		TraceContext context = TraceContext.fromTraceParent(traceParent, null);
+
+		assertThat(context, nullValue());
+	}
+
+	@Test
+	void shouldPad64BitTraceIdentifiers() {
+		TraceContext context = TraceContext.of("8448EB211C80319C", SPAN_ID, Sampler.ALWAYS);
+
+		assertThat(context.traceId(), equalTo("00000000000000008448eb211c80319c"));
+		assertThat(context.spanId(), equalTo(SPAN_ID));
+	}
+
+	@Test
+	void shouldReturnNullOnInvalidIdentifiers() {
+		TraceContext context = TraceContext.of("some-trace-id", "some-span-id", Sampler.ALWAYS);
+
+		assertThat(context, nullValue());
+	}
+
+	@Test
+	void shouldThrowExceptionWhenTraceIdIsNull() {
+		NullPointerException e = assertThrows(NullPointerException.class, () -> new TraceContext(null, SPAN_ID, null, true, null));
+
+		assertThat(e.getMessage(), equalTo("traceId cannot be null"));
+	}
+}
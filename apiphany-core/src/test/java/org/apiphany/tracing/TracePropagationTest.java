@@ -0,0 +1,77 @@
+package org.apiphany.tracing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apiphany.http.TracingHeader;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link TracePropagation}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class TracePropagationTest {
+
+	private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+	private static final String SPAN_ID = "b7ad6b7169203331";
+	private static final String PARENT_SPAN_ID = "00f067aa0ba902b7";
+	private static final String TRACE_STATE = "vendor1=value1";
+
+	@Test
+	void shouldReturnW3CHeaders() {
+		TraceContext context = new TraceContext(TRACE_ID, SPAN_ID, PARENT_SPAN_ID, true, null);
+
+		Map<String, List<String>> headers = TracePropagation.W3C.headers(context);
+
+		assertThat(headers, equalTo(Map.of(
+				TracingHeader.Name.TRACEPARENT, List.of(context.toTraceParent()))));
+	}
+
+	@Test
+	void shouldReturnW3CHeadersWithTraceState() {
+		TraceContext context = new TraceContext(TRACE_ID, SPAN_ID, null, true, TRACE_STATE);
+
+		Map<String, List<String>> headers = TracePropagation.W3C.headers(context);
+
+		assertThat(headers, equalTo(Map.of(
+				TracingHeader.Name.TRACEPARENT, List.of(context.toTraceParent()),
+				TracingHeader.Name.TRACESTATE, List.of(TRACE_STATE))));
+	}
+
+	@Test
+	void shouldReturnB3HeadersForRootContext() {
+		TraceContext context = new TraceContext(TRACE_ID, SPAN_ID, null, false, null);
+
+		Map<String, List<String>> headers = TracePropagation.B3.headers(context);
+
+		assertThat(headers, equalTo(Map.of(
+				TracingHeader.Name.X_B3_TRACE_ID, List.of(TRACE_ID),
+				TracingHeader.Name.X_B3_SPAN_ID, List.of(SPAN_ID),
+				TracingHeader.Name.X_B3_SAMPLED, List.of("0"))));
+	}
+
+	@Test
+	void shouldReturnB3HeadersForChildContext() {
+		TraceContext context = new TraceContext(TRACE_ID, SPAN_ID, PARENT_SPAN_ID, true, null);
+
+		Map<String, List<String>> headers = TracePropagation.B3.headers(context);
+
+		assertThat(headers, equalTo(Map.of(
+				TracingHeader.Name.X_B3_TRACE_ID, List.of(TRACE_ID),
+				TracingHeader.Name.X_B3_SPAN_ID, List.of(SPAN_ID),
+				TracingHeader.Name.X_B3_PARENT_SPAN_ID, List.of(PARENT_SPAN_ID),
+				TracingHeader.Name.X_B3_SAMPLED, List.of("1"))));
+	}
+
+	@Test
+	void shouldReturnEmptyHeadersForNullContext() {
+		for (TracePropagation propagation : TracePropagation.values()) {
+			assertThat(propagation.headers(null), equalTo(Collections.emptyMap()));
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package org.apiphany.tracing;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apiphany.http.TracingHeader;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+/**
+ * Test class for {@link Tracer}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class TracerTest {
+
+	private static final String SPAN_NAME = "GET /users/{id}";
+	private static final String MDC_TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+	private static final String MDC_SPAN_ID = "b7ad6b7169203331";
+
+	@Test
+	void shouldReturnNoopSpanFromNoopTracerWhenThereIsNoCurrentSpan() {
+		Span span = Tracer.NOOP.startSpan(SPAN_NAME);
+
+		assertThat(span, sameInstance(Span.NOOP));
+		assertThat(Tracer.NOOP.isEnabled(), equalTo(false));
+	}
+
+	@Test
+	void shouldNotBuildTheSpanNameForSpansThatAreNotRecording() {
+		AtomicInteger nameBuilds = new AtomicInteger();
+		Supplier<String> nameSupplier = () -> {
+			nameBuilds.incrementAndGet();
+			return SPAN_NAME;
+		};
+
+		Span noopSpan = Tracer.NOOP.startSpan(nameSupplier);
+		Span unsampledSpan = Tracer.of(Sampler.NEVER, TracePropagation.W3C).startSpan(nameSupplier);
+
+		assertThat(noopSpan, sameInstance(Span.NOOP));
+		assertThat(unsampledSpan.getContext(), not(nullValue()));
+		assertThat(unsampledSpan.getName(), nullValue());
+		assertThat(nameBuilds.get(), equalTo(0));
+	}
+
+	@Test
+	void shouldBuildTheSpanNameForRecordingSpans() {
+		Span span = Tracer.of(Sampler.ALWAYS, TracePropagation.W3C).startSpan(() -> SPAN_NAME);
+
+		assertThat(span.isRecording(), equalTo(true));
+		assertThat(span.getName(), equalTo(SPAN_NAME));
+	}
+
+	@Test
+	void shouldStartRootSpanWhenThereIsNoCurrentSpan() {
+		Tracer tracer = Tracer.of(Sampler.ALWAYS, TracePropagation.W3C);
+
+		Span span = tracer.startSpan(SPAN_NAME);
+
+		assertThat(span.getTracer(), sameInstance(tracer));
+		assertThat(span.getContext().parentSpanId(), nullValue());
+		assertThat(span.isRecording(), equalTo(true));
+	}
+
+	@Test
+	void shouldStartChildSpanOfTheCurrentSpanUsingTheCurrentSpanTracer() {
+		Tracer tracer = Tracer.of(Sampler.ALWAYS, TracePropagation.W3C);
+		Span parent = tracer.startSpan(SPAN_NAME);
+
+		Span child;
+		try (Tracer.Scope scope = parent.makeCurrent()) {
+			assertThat(Tracer.currentSpan(), sameInstance(parent));
+			child = Tracer.NOOP.startSpan(SPAN_NAME);
+		}
+
+		assertThat(Tracer.currentSpan(), nullValue());
+		assertThat(child.getTracer(), sameInstance(tracer));
+		assertThat(child.getContext().traceId(), equalTo(parent.getContext().traceId()));
+		assertThat(child.getContext().parentSpanId(), equalTo(parent.getContext().spanId()));
+	}
+
+	@Test
+	void shouldRestoreThePreviousCurrentSpanWhenClosingNestedScopes() {
+		Tracer tracer = Tracer.of(Sampler.ALWAYS, TracePropagation.W3C);
+		Span outer = tracer.startSpan(SPAN_NAME);
+
+		try (Tracer.Scope outerScope = outer.makeCurrent()) {
+			Span inner = tracer.startSpan(SPAN_NAME);
+			try (Tracer.Scope innerScope = inner.makeCurrent()) {
+				assertThat(Tracer.currentSpan(), sameInstance(inner));
+			}
+			assertThat(Tracer.currentSpan(), sameInstance(outer));
+		}
+		assertThat(Tracer.currentSpan(), nullValue());
+	}
+
+	@Test
+	void shouldContinueTheTraceFromTheMDC() {
+		Tracer tracer = Tracer.of(Sampler.ALWAYS, TracePropagation.W3C);
+
+		Span span;
+		try {
+			MDC.put(Tracer.MDC_TRACE_ID, MDC_TRACE_ID);
+			MDC.put(Tracer.MDC_SPAN_ID, MDC_SPAN_ID);
+			span = tracer.startSpan(SPAN_NAME);
+		} finally {
+			MDC.clear();
+		}
+
+		assertThat(span.getContext().traceId(), equalTo(MDC_TRACE_ID));
+		assertThat(span.getContext().parentSpanId(), equalTo(MDC_SPAN_ID));
+		assertThat(span.getContext().spanId(), not(equalTo(MDC_SPAN_ID)));
+	}
+
+	@Test
+	void shouldReturnThePropagationHeadersForTheSpan() {
+		Tracer tracer = Tracer.of(Sampler.ALWAYS, TracePropagation.W3C);
+		Span span = tracer.startSpan(SPAN_NAME);
+
+		Map<String, List<String>> headers = tracer.headers(span);
+
+		assertThat(headers, equalTo(Map.of(TracingHeader.Name.TRACEPARENT, List.of(span.getContext().toTraceParent()))));
+	}
+
+	@Test
+	void shouldReturnEmptyHeadersForNoopSpan() {
+		Tracer tracer = Tracer.of(Sampler.ALWAYS, TracePropagation.B3);
+
+		Map<String, List<String>> headers = tracer.headers(Span.NOOP);
+
+		assertThat(headers, equalTo(Collections.emptyMap()));
+	}
+}
@@ -4,7 +4,6 @@ import java.io.File;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.net.URI;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -35,6 +34,7 @@ import org.apache.hc.core5.http.io.entity.HttpEntities;
 import org.apiphany.ApiRequest;
 import org.apiphany.ApiResponse;
 import org.apiphany.client.ClientProperties;
+import org.apiphany.header.HeaderMap;
 import org.apiphany.header.Headers;
 import org.apiphany.http.ApacheHC5Clients;
 import org.apiphany.http.ApacheHC5Entities;
@@ -44,7 +44,10 @@ import org.apiphany.http.HttpException;
 import org.apiphany.http.HttpHeader;
 import org.apiphany.http.HttpMethod;
 import org.apiphany.http.HttpStatus;
+import org.apiphany.io.BodyFingerprint;
+import org.apiphany.io.FingerprintingInputStream;
 import org.apiphany.io.InputStreamSupplier;
+import org.apiphany.io.PayloadSize;
 import org.apiphany.json.JsonBuilder;
 import org.apiphany.lang.Strings;
 import org.morphix.lang.JavaObjects;
@@ -158,7 +161,9 @@ public class ApacheHC5HttpExchangeClient extends AbstractHttpExchangeClient {
 	 */
 	@SuppressWarnings("resource")
 	protected <U, T> ApiResponse<U> sendRequest(final ApiRequest<T> apiRequest, final HttpUriRequest httpUriRequest) {
-		HttpClientResponseHandler<ApiResponse<U>> responseHandler = httpResponse -> buildResponse(apiRequest, httpResponse);
+		long requestBodySize = getRequestBodySize(httpUriRequest);
+		HttpClientResponseHandler<ApiResponse<U>> responseHandler =
+				httpResponse -> buildResponse(apiRequest, httpResponse, requestBodySize);
 		return HttpException.ifThrows(() -> getHttpClient().execute(httpUriRequest, responseHandler));
 	}
 
@@ -220,6 +225,7 @@ public class ApacheHC5HttpExchangeClient extends AbstractHttpExchangeClient {
 			case File file -> HttpEntities.create(file, contentType);
 			case Serializable serializable -> HttpEntities.create(serializable, contentType);
 			case Object obj when isContentJson(apiRequest) -> HttpEntities.create(JsonBuilder.toJson(obj), contentType);
+			case Object obj when isContentDataFormat(apiRequest) -> HttpEntities.create(toDataFormatBytes(apiRequest, obj), contentType);
 			default -> HttpEntities.create(Strings.safeToString(body), contentType);
 		};
 	}
@@ -234,14 +240,36 @@ public class ApacheHC5HttpExchangeClient extends AbstractHttpExchangeClient {
 	 * @param response Apache HTTP response
 	 * @return API response object
 	 */
-	@SuppressWarnings("resource")
 	protected <T, U> ApiResponse<U> buildResponse(final ApiRequest<T> apiRequest, final ClassicHttpResponse response) {
+		return buildResponse(apiRequest, response, PayloadSize.UNKNOWN);
+	}
+
+	/**
+	 * Builds the API response object, the response also holds the payload sizes measured during the exchange.
+	 *
+	 * @param <T> request body type
+	 * @param <U> response body type
+	 *
+	 * @param apiRequest API request object
+	 * @param response Apache HTTP response
+	 * @param requestBodySize the request body size in bytes
+	 * @return API response object
+	 */
+	@SuppressWarnings("resource")
+	protected <T, U> ApiResponse<U> buildResponse(final ApiRequest<T> apiRequest, final ClassicHttpResponse response,
+			final long requestBodySize) {
 		HttpEntity httpEntity = response.getEntity();
 		HttpStatus httpStatus = HttpStatus.fromCode(response.getCode());
 		Map<String, List<String>> headers = Nullables.whenNotNull(response.getHeaders(), ApacheHC5HttpExchangeClient::toHttpHeadersMap);
 		ensureContentLengthWithinLimit(headers, getMaxResponseBodySize());
 
 		Object responseBody = getResponseBody(apiRequest, httpEntity);
+		BodyFingerprint bodyFingerprint = null;
+		if (responseBody instanceof InputStream inputStream && isBodyFingerprintEnabled()) {
+			FingerprintingInputStream fingerprintingInputStream = toFingerprintingInputStream(apiRequest, inputStream);
+			bodyFingerprint = fingerprintingInputStream.getFingerprint();
+			responseBody = fingerprintingInputStream;
+		}
 
 		List<String> encodings = getHeaderValues(HttpHeader.CONTENT_ENCODING, headers);
 		List<ContentEncoding> contentEncodings = ContentEncoding.parseAll(encodings);
@@ -250,7 +278,27 @@ public class ApacheHC5HttpExchangeClient extends AbstractHttpExchangeClient {
 		List<String> contentTypes = getHeaderValues(HttpHeader.CONTENT_TYPE, headers);
 		HttpContentType contentType = HttpContentType.parse(contentTypes);
 
-		return buildResponse(apiRequest, httpStatus, headers, contentType, decodedBody);
+		PayloadSize payloadSize = PayloadSize.of(requestBodySize, responseBody, decodedBody);
+		ApiResponse<U> apiResponse = buildResponse(apiRequest, httpStatus, headers, contentType, decodedBody, payloadSize);
+		Nullables.whenNotNull(bodyFingerprint, apiResponse::setBodyFingerprint);
+		return apiResponse;
+	}
+
+	/**
+	 * Returns the request body size in bytes as reported by the request entity, {@code 0} when the request has no entity
+	 * and {@link PayloadSize#UNKNOWN} when the size is not known in advance (for example for input streams).
+	 *
+	 * @param httpUriRequest HTTP URI request
+	 * @return the request body size in bytes
+	 */
+	@SuppressWarnings("resource")
+	protected static long getRequestBodySize(final HttpUriRequest httpUriRequest) {
+		HttpEntity httpEntity = httpUriRequest.getEntity();
+		if (null == httpEntity) {
+			return 0L;
+		}
+		long contentLength = httpEntity.getContentLength();
+		return PayloadSize.isKnown(contentLength) ? contentLength : PayloadSize.UNKNOWN;
 	}
 
 	/**
@@ -320,13 +368,13 @@ public class ApacheHC5HttpExchangeClient extends AbstractHttpExchangeClient {
 	}
 
 	/**
-	 * Transforms an array of {@link Header}s to a map of headers.
+	 * Transforms an array of {@link Header}s to a case-insensitive map of headers.
 	 *
 	 * @param headers source headers
 	 * @return HTTP headers
 	 */
 	public static Map<String, List<String>> toHttpHeadersMap(final Header[] headers) {
-		var httpHeaders = new HashMap<String, List<String>>();
+		var httpHeaders = new HeaderMap();
 		for (Header header : headers) {
 			Headers.addTo(httpHeaders, header.getName(), header.getValue());
 		}
@@ -1,13 +1,23 @@
 package org.apiphany.meters;
 
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.ToIntFunction;
+
 import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
 import org.apiphany.lang.builder.PropertyNameBuilder;
 
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.MeterBinder;
 import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
 
@@ -23,9 +33,23 @@ import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClient
  * 	httpcomponents.httpclient.${clientName}.pool.total.connections.leased
  * 	httpcomponents.httpclient.${clientName}.pool.total.pending
  * 	httpcomponents.httpclient.${clientName}.pool.route.max.default
+ * 	httpcomponents.httpclient.${clientName}.pool.route.max{route=${route},proxy=${proxy},secure=${secure}}
+ * 	httpcomponents.httpclient.${clientName}.pool.route.connections.available{route=${route},proxy=${proxy},secure=${secure}}
+ * 	httpcomponents.httpclient.${clientName}.pool.route.connections.leased{route=${route},proxy=${proxy},secure=${secure}}
+ * 	httpcomponents.httpclient.${clientName}.pool.route.pending{route=${route},proxy=${proxy},secure=${secure}}
+ * 	httpcomponents.httpclient.${clientName}.pool.route.wait{route=${route},proxy=${proxy},secure=${secure}}
  * </pre>
  *
- * where {@code ${clientName}} is the parameter given when constructing the binder.
+ * where {@code ${clientName}} is the parameter given when constructing the binder, {@code ${route}} is the target host
+ * of the route (for example {@code https://example.com:443}), {@code ${proxy}} is the first proxy host of the route or
+ * {@value #NO_PROXY} for direct routes and {@code ${secure}} is the route secure flag, so routes to the same target
+ * through different proxies or with different security have their own metrics.
+ * <p>
+ * The per route gauges are registered for the routes known by the pool when binding and for every new route seen when
+ * a connection is leased through a connection manager returned by {@link #instrument(HttpClientConnectionManager)},
+ * which also records the time spent waiting for a pooled connection on the {@code pool.route.wait} timer. The
+ * instrumented connection manager can be set on the HTTP client builder, for example with the HTTP client builder
+ * customizer in {@code ApacheHC5Clients.createClient}.
  *
  * @author Radu Sebastian LAZIN
  */
@@ -61,6 +85,26 @@ public class ConnectionManagerMetricsBinder implements MeterBinder {
 		}
 	}
 
+	/**
+	 * The tag key for the route target host.
+	 */
+	public static final String ROUTE_TAG = "route";
+
+	/**
+	 * The tag key for the route proxy host.
+	 */
+	public static final String PROXY_TAG = "proxy";
+
+	/**
+	 * The tag key for the route secure flag.
+	 */
+	public static final String SECURE_TAG = "secure";
+
+	/**
+	 * The proxy tag value for direct routes.
+	 */
+	public static final String NO_PROXY = "none";
+
 	/**
 	 * The connection pool control instance being monitored.
 	 */
@@ -76,6 +120,16 @@ public class ConnectionManagerMetricsBinder implements MeterBinder {
 	 */
 	private final String clientName;
 
+	/**
+	 * The pool wait timers for the routes for which the per route metrics were registered.
+	 */
+	private final ConcurrentMap<HttpRoute, Timer> routeWaitTimers = new ConcurrentHashMap<>();
+
+	/**
+	 * The registry this binder was bound to, {@code null} until {@link #bindTo(MeterRegistry)} is called.
+	 */
+	private volatile MeterRegistry registry;
+
 	/**
 	 * Constructs a new metrics binder for the given connection pool control.
 	 *
@@ -107,7 +161,53 @@ public class ConnectionManagerMetricsBinder implements MeterBinder {
 	 */
 	@Override
 	public void bindTo(final MeterRegistry registry) {
+		this.registry = registry;
 		registerTotalMetrics(registry);
+		Set<HttpRoute> routes = connPoolControl.getRoutes();
+		if (null != routes) {
+			routes.forEach(this::bindRoute);
+		}
+	}
+
+	/**
+	 * Registers the per route metrics for the given route if this binder was bound to a registry and the metrics for the
+	 * route were not already registered.
+	 *
+	 * @param route the route to register the metrics for
+	 * @return the pool wait timer for the route, {@code null} if this binder was not bound to a registry
+	 */
+	public Timer bindRoute(final HttpRoute route) {
+		MeterRegistry meterRegistry = this.registry;
+		if (null == meterRegistry || null == route) {
+			return null;
+		}
+		return routeWaitTimers.computeIfAbsent(route, r -> registerRouteMetrics(meterRegistry, r));
+	}
+
+	/**
+	 * Records the time spent waiting for a pooled connection for the given route. The per route metrics for the route are
+	 * registered if needed.
+	 *
+	 * @param route the route for which the connection was requested
+	 * @param duration the time spent waiting for the connection
+	 */
+	public void recordPoolWait(final HttpRoute route, final Duration duration) {
+		Timer waitTimer = bindRoute(route);
+		if (null != waitTimer) {
+			waitTimer.record(duration);
+		}
+	}
+
+	/**
+	 * Returns a connection manager that delegates to the given connection manager and records the time spent waiting for
+	 * pooled connections together with the per route metrics on this binder.
+	 *
+	 * @param connectionManager the connection manager to instrument, usually the one whose pool is monitored by this
+	 *     binder
+	 * @return an instrumented connection manager
+	 */
+	public HttpClientConnectionManager instrument(final HttpClientConnectionManager connectionManager) {
+		return new MeteredHttpClientConnectionManager(connectionManager, this);
 	}
 
 	/**
@@ -158,6 +258,80 @@ public class ConnectionManagerMetricsBinder implements MeterBinder {
 				.register(registry);
 	}
 
+	/**
+	 * Registers all per route pool metrics for the given route with the meter registry.
+	 *
+	 * @param registry the meter registry to register metrics with
+	 * @param route the route to register the metrics for
+	 * @return the pool wait timer for the route
+	 */
+	private Timer registerRouteMetrics(final MeterRegistry registry, final HttpRoute route) {
+		// httpcomponents.httpclient.${clientName}.pool.route.max
+		registerRouteGauge(registry, route, PoolStats::getMax,
+				"The configured maximum number of allowed persistent connections for the route.",
+				"max");
+
+		// httpcomponents.httpclient.${clientName}.pool.route.connections.available
+		registerRouteGauge(registry, route, PoolStats::getAvailable,
+				"The number of idle persistent connections for the route.",
+				"connections", "available");
+
+		// httpcomponents.httpclient.${clientName}.pool.route.connections.leased
+		registerRouteGauge(registry, route, PoolStats::getLeased,
+				"The number of persistent connections currently being used to execute requests for the route.",
+				"connections", "leased");
+
+		// httpcomponents.httpclient.${clientName}.pool.route.pending
+		registerRouteGauge(registry, route, PoolStats::getPending,
+				"The number of connection requests being blocked awaiting a free connection for the route.",
+				"pending");
+
+		// httpcomponents.httpclient.${clientName}.pool.route.wait
+		return Timer.builder(metricName(MetricPrefix.HTTP_CLIENT, clientName, MetricPrefix.POOL_ROUTE, "wait"))
+				.description("The time spent waiting for a pooled connection for the route.")
+				.tags(routeTags(route))
+				.register(registry);
+	}
+
+	/**
+	 * Registers a gauge reading the given pool statistic for the given route.
+	 *
+	 * @param registry the meter registry to register the gauge with
+	 * @param route the route to read the statistic for
+	 * @param statistic the pool statistic to read
+	 * @param description the gauge description
+	 * @param paths the gauge name components after the route pool prefix
+	 */
+	private void registerRouteGauge(final MeterRegistry registry, final HttpRoute route, final ToIntFunction<PoolStats> statistic,
+			final String description, final String... paths) {
+		String[] namePaths = new String[paths.length + 3];
+		namePaths[0] = MetricPrefix.HTTP_CLIENT;
+		namePaths[1] = clientName;
+		namePaths[2] = MetricPrefix.POOL_ROUTE;
+		System.arraycopy(paths, 0, namePaths, 3, paths.length);
+		Gauge.builder(metricName(namePaths),
+				connPoolControl,
+				cpc -> statistic.applyAsInt(cpc.getStats(route)))
+				.description(description)
+				.tags(routeTags(route))
+				.register(registry);
+	}
+
+	/**
+	 * Returns the binder tags together with the route tags for the given route. The route tags are the target host, the
+	 * proxy host and the secure flag of the route which have a bounded cardinality for a client.
+	 *
+	 * @param route the route
+	 * @return the tags for the route metrics
+	 */
+	private Tags routeTags(final HttpRoute route) {
+		HttpHost proxyHost = route.getProxyHost();
+		return Tags.concat(tags,
+				ROUTE_TAG, route.getTargetHost().toURI(),
+				PROXY_TAG, null != proxyHost ? proxyHost.toURI() : NO_PROXY,
+				SECURE_TAG, String.valueOf(route.isSecure()));
+	}
+
 	/**
 	 * Builds a metric name from the given path components.
 	 *
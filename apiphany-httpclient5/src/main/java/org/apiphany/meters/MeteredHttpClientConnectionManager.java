@@ -0,0 +1,123 @@
+package org.apiphany.meters;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * An {@link HttpClientConnectionManager} that delegates to another connection manager and records the time spent
+ * waiting for a pooled connection, per route, on a {@link ConnectionManagerMetricsBinder}.
+ * <p>
+ * The wait time is measured from the moment the lease request is made until the connection endpoint is returned (or
+ * the wait fails), so it includes the time the request was blocked because the pool for the route was exhausted.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+public class MeteredHttpClientConnectionManager implements HttpClientConnectionManager {
+
+	/**
+	 * The delegate connection manager.
+	 */
+	private final HttpClientConnectionManager delegate;
+
+	/**
+	 * The metrics binder recording the pool wait times.
+	 */
+	private final ConnectionManagerMetricsBinder metricsBinder;
+
+	/**
+	 * Constructs a new metered connection manager.
+	 *
+	 * @param delegate the delegate connection manager
+	 * @param metricsBinder the metrics binder recording the pool wait times
+	 */
+	public MeteredHttpClientConnectionManager(final HttpClientConnectionManager delegate, final ConnectionManagerMetricsBinder metricsBinder) {
+		this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+		this.metricsBinder = Objects.requireNonNull(metricsBinder, "metricsBinder cannot be null");
+	}
+
+	/**
+	 * @see HttpClientConnectionManager#lease(String, HttpRoute, Timeout, Object)
+	 */
+	@Override
+	public LeaseRequest lease(final String id, final HttpRoute route, final Timeout requestTimeout, final Object state) {
+		long startTime = System.nanoTime();
+		LeaseRequest leaseRequest = delegate.lease(id, route, requestTimeout, state);
+		return new LeaseRequest() {
+
+			@Override
+			public ConnectionEndpoint get(final Timeout timeout) throws InterruptedException, ExecutionException, TimeoutException {
+				try {
+					return leaseRequest.get(timeout);
+				} finally {
+					metricsBinder.recordPoolWait(route, Duration.ofNanos(System.nanoTime() - startTime));
+				}
+			}
+
+			@Override
+			public boolean cancel() {
+				return leaseRequest.cancel();
+			}
+		};
+	}
+
+	/**
+	 * @see HttpClientConnectionManager#release(ConnectionEndpoint, Object, TimeValue)
+	 */
+	@Override
+	public void release(final ConnectionEndpoint endpoint, final Object newState, final TimeValue validDuration) {
+		delegate.release(endpoint, newState, validDuration);
+	}
+
+	/**
+	 * @see HttpClientConnectionManager#connect(ConnectionEndpoint, TimeValue, HttpContext)
+	 */
+	@Override
+	public void connect(final ConnectionEndpoint endpoint, final TimeValue connectTimeout, final HttpContext context) throws IOException {
+		delegate.connect(endpoint, connectTimeout, context);
+	}
+
+	/**
+	 * @see HttpClientConnectionManager#upgrade(ConnectionEndpoint, HttpContext)
+	 */
+	@Override
+	public void upgrade(final ConnectionEndpoint endpoint, final HttpContext context) throws IOException {
+		delegate.upgrade(endpoint, context);
+	}
+
+	/**
+	 * @see HttpClientConnectionManager#close(CloseMode)
+	 */
+	@Override
+	public void close(final CloseMode closeMode) {
+		delegate.close(closeMode);
+	}
+
+	/**
+	 * @see HttpClientConnectionManager#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+
+	/**
+	 * Returns the delegate connection manager.
+	 *
+	 * @return the delegate connection manager
+	 */
+	public HttpClientConnectionManager getDelegate() {
+		return delegate;
+	}
+}
@@ -0,0 +1,121 @@
+package org.apiphany.meters;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Test class for {@link ConnectionManagerMetricsBinder}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class ConnectionManagerMetricsBinderTest {
+
+	private static final String CLIENT_NAME = "test-client";
+	private static final String PREFIX = ConnectionManagerMetricsBinder.MetricPrefix.HTTP_CLIENT + "." + CLIENT_NAME;
+	private static final HttpRoute ROUTE = new HttpRoute(new HttpHost("https", "example.com", 443));
+	private static final String ROUTE_TAG_VALUE = "https://example.com:443";
+	private static final HttpHost PROXY = new HttpHost("http", "proxy.example.com", 8080);
+	private static final HttpRoute PROXIED_ROUTE = new HttpRoute(ROUTE.getTargetHost(), null, PROXY, true);
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldRegisterPerRouteGaugesForKnownRoutes() {
+		ConnPoolControl<HttpRoute> connPoolControl = mock(ConnPoolControl.class);
+		doReturn(Set.of(ROUTE)).when(connPoolControl).getRoutes();
+		doReturn(new PoolStats(2, 1, 3, 5)).when(connPoolControl).getStats(ROUTE);
+		doReturn(new PoolStats(2, 1, 3, 20)).when(connPoolControl).getTotalStats();
+
+		MeterRegistry registry = new SimpleMeterRegistry();
+		ConnectionManagerMetricsBinder.of(connPoolControl, CLIENT_NAME).bindTo(registry);
+
+		double leased = registry.get(PREFIX + ".pool.route.connections.leased")
+				.tag(ConnectionManagerMetricsBinder.ROUTE_TAG, ROUTE_TAG_VALUE).gauge().value();
+		double pending = registry.get(PREFIX + ".pool.route.pending")
+				.tag(ConnectionManagerMetricsBinder.ROUTE_TAG, ROUTE_TAG_VALUE).gauge().value();
+		double available = registry.get(PREFIX + ".pool.route.connections.available")
+				.tag(ConnectionManagerMetricsBinder.ROUTE_TAG, ROUTE_TAG_VALUE).gauge().value();
+		double max = registry.get(PREFIX + ".pool.route.max")
+				.tag(ConnectionManagerMetricsBinder.ROUTE_TAG, ROUTE_TAG_VALUE).gauge().value();
+
+		assertThat(leased, equalTo(2.0));
+		assertThat(pending, equalTo(1.0));
+		assertThat(available, equalTo(3.0));
+		assertThat(max, equalTo(5.0));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldRegisterSeparatePerRouteGaugesForRoutesToTheSameTargetThroughDifferentProxies() {
+		ConnPoolControl<HttpRoute> connPoolControl = mock(ConnPoolControl.class);
+		doReturn(Set.of(ROUTE, PROXIED_ROUTE)).when(connPoolControl).getRoutes();
+		doReturn(new PoolStats(2, 0, 0, 5)).when(connPoolControl).getStats(ROUTE);
+		doReturn(new PoolStats(4, 0, 0, 10)).when(connPoolControl).getStats(PROXIED_ROUTE);
+		doReturn(new PoolStats(6, 0, 0, 20)).when(connPoolControl).getTotalStats();
+
+		MeterRegistry registry = new SimpleMeterRegistry();
+		ConnectionManagerMetricsBinder.of(connPoolControl, CLIENT_NAME).bindTo(registry);
+
+		Collection<Gauge> leasedGauges = registry.get(PREFIX + ".pool.route.connections.leased")
+				.tag(ConnectionManagerMetricsBinder.ROUTE_TAG, ROUTE_TAG_VALUE).gauges();
+		double directLeased = registry.get(PREFIX + ".pool.route.connections.leased")
+				.tag(ConnectionManagerMetricsBinder.PROXY_TAG, ConnectionManagerMetricsBinder.NO_PROXY)
+				.tag(ConnectionManagerMetricsBinder.SECURE_TAG, "false").gauge().value();
+		double proxiedLeased = registry.get(PREFIX + ".pool.route.connections.leased")
+				.tag(ConnectionManagerMetricsBinder.PROXY_TAG, PROXY.toURI())
+				.tag(ConnectionManagerMetricsBinder.SECURE_TAG, "true").gauge().value();
+
+		assertThat(leasedGauges, hasSize(2));
+		assertThat(directLeased, equalTo(2.0));
+		assertThat(proxiedLeased, equalTo(4.0));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldRecordPoolWaitAndRegisterNewRoutes() {
+		ConnPoolControl<HttpRoute> connPoolControl = mock(ConnPoolControl.class);
+
+		MeterRegistry registry = new SimpleMeterRegistry();
+		ConnectionManagerMetricsBinder binder = ConnectionManagerMetricsBinder.of(connPoolControl, CLIENT_NAME);
+		binder.bindTo(registry);
+
+		binder.recordPoolWait(ROUTE, Duration.ofMillis(10));
+		binder.recordPoolWait(ROUTE, Duration.ofMillis(20));
+
+		Timer wait = registry.get(PREFIX + ".pool.route.wait")
+				.tag(ConnectionManagerMetricsBinder.ROUTE_TAG, ROUTE_TAG_VALUE).timer();
+
+		assertThat(wait.count(), equalTo(2L));
+		assertThat(binder.bindRoute(ROUTE), sameInstance(wait));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldNotRegisterRouteMetricsWhenNotBound() {
+		ConnPoolControl<HttpRoute> connPoolControl = mock(ConnPoolControl.class);
+		ConnectionManagerMetricsBinder binder = ConnectionManagerMetricsBinder.of(connPoolControl, CLIENT_NAME);
+
+		binder.recordPoolWait(ROUTE, Duration.ofMillis(10));
+
+		assertThat(binder.bindRoute(ROUTE), nullValue());
+	}
+}
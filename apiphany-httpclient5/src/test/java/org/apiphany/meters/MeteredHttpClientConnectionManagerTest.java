@@ -0,0 +1,83 @@
+package org.apiphany.meters;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.TimeoutException;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Test class for {@link MeteredHttpClientConnectionManager}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class MeteredHttpClientConnectionManagerTest {
+
+	private static final String CLIENT_NAME = "test-client";
+	private static final String WAIT_TIMER_NAME = ConnectionManagerMetricsBinder.MetricPrefix.HTTP_CLIENT + "." + CLIENT_NAME
+			+ ".pool.route.wait";
+	private static final HttpRoute ROUTE = new HttpRoute(new HttpHost("https", "example.com", 443));
+	private static final String LEASE_ID = "lease-id";
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldRecordPoolWaitWhenLeaseSucceedsOrFails() throws Exception {
+		HttpClientConnectionManager delegate = mock(HttpClientConnectionManager.class);
+		LeaseRequest leaseRequest = mock(LeaseRequest.class);
+		ConnectionEndpoint endpoint = mock(ConnectionEndpoint.class);
+		doReturn(leaseRequest).when(delegate).lease(LEASE_ID, ROUTE, Timeout.ONE_MILLISECOND, null);
+		doReturn(endpoint).doThrow(new TimeoutException()).when(leaseRequest).get(any(Timeout.class));
+
+		MeterRegistry registry = new SimpleMeterRegistry();
+		ConnectionManagerMetricsBinder binder = ConnectionManagerMetricsBinder.of(mock(ConnPoolControl.class), CLIENT_NAME);
+		binder.bindTo(registry);
+		HttpClientConnectionManager connectionManager = binder.instrument(delegate);
+
+		ConnectionEndpoint result = connectionManager.lease(LEASE_ID, ROUTE, Timeout.ONE_MILLISECOND, null).get(Timeout.ONE_MILLISECOND);
+		LeaseRequest failingLeaseRequest = connectionManager.lease(LEASE_ID, ROUTE, Timeout.ONE_MILLISECOND, null);
+
+		assertThrows(TimeoutException.class, () -> failingLeaseRequest.get(Timeout.ONE_MILLISECOND));
+		assertThat(result, sameInstance(endpoint));
+		assertThat(registry.get(WAIT_TIMER_NAME).timer().count(), equalTo(2L));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldDelegateCancelAndClose() throws Exception {
+		HttpClientConnectionManager delegate = mock(HttpClientConnectionManager.class);
+		LeaseRequest leaseRequest = mock(LeaseRequest.class);
+		doReturn(leaseRequest).when(delegate).lease(LEASE_ID, ROUTE, Timeout.ONE_MILLISECOND, null);
+		doReturn(true).when(leaseRequest).cancel();
+		doThrow(new IllegalStateException()).when(delegate).close();
+
+		MeteredHttpClientConnectionManager connectionManager =
+				new MeteredHttpClientConnectionManager(delegate, ConnectionManagerMetricsBinder.of(mock(ConnPoolControl.class), CLIENT_NAME));
+
+		boolean cancelled = connectionManager.lease(LEASE_ID, ROUTE, Timeout.ONE_MILLISECOND, null).cancel();
+		connectionManager.close(CloseMode.GRACEFUL);
+
+		assertThat(cancelled, equalTo(true));
+		assertThat(connectionManager.getDelegate(), sameInstance(delegate));
+		assertThrows(IllegalStateException.class, connectionManager::close);
+		verify(delegate).close(CloseMode.GRACEFUL);
+	}
+}
@@ -0,0 +1,131 @@
+package org.apiphany.processor;
+
+import java.util.List;
+
+/**
+ * The compile time model of an API client generated from an {@code ApiInterface} interface. Every name and type in the
+ * model is already in its Java source form so that the {@link ApiClientSourceWriter} only needs to concatenate them.
+ *
+ * @param packageName the package of the interface and of the generated client, empty for the default package
+ * @param simpleName the simple name of the generated client
+ * @param interfaceName the canonical name of the interface
+ * @param isPublic flag indicating that the generated client is public
+ * @param operations the operations
+ *
+ * @author Radu Sebastian LAZIN
+ */
+record ApiClientModel(
+		String packageName,
+		String simpleName,
+		String interfaceName,
+		boolean isPublic,
+		List<Operation> operations) {
+
+	/**
+	 * Returns the fully qualified name of the generated client.
+	 *
+	 * @return the fully qualified name of the generated client
+	 */
+	String qualifiedName() {
+		return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+	}
+
+	/**
+	 * The way the response of an operation is returned to the caller.
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	enum ReturnKind {
+
+		/**
+		 * The response body is returned, {@code null} when the call fails.
+		 */
+		BODY,
+
+		/**
+		 * The full {@code ApiResponse} is returned.
+		 */
+		RESPONSE,
+
+		/**
+		 * Nothing is returned.
+		 */
+		VOID
+	}
+
+	/**
+	 * An operation, meaning an interface method and the request it makes.
+	 *
+	 * @param methodName the interface method name
+	 * @param returnType the interface method return type, {@code void} for no return
+	 * @param returnKind the way the response is returned
+	 * @param parameters the interface method parameters in declaration order
+	 * @param responseType the response type used in the request template type argument
+	 * @param responseTypeField the name of the generic class constant for generic response types, {@code null} for
+	 * non generic response types
+	 * @param templateField the name of the request template field
+	 * @param httpMethod the HTTP method constant name
+	 * @param path the path template
+	 * @param headers the static headers
+	 * @param meters the meters prefix, empty when the client meters are used
+	 * @param uriVariables the names of the parameters bound to the path variables in the order the variables appear in
+	 * the path template
+	 * @param requestParameters the request parameters
+	 * @param body the name of the body parameter, {@code null} when there is no body
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	record Operation(
+			String methodName,
+			String returnType,
+			ReturnKind returnKind,
+			List<Parameter> parameters,
+			String responseType,
+			String responseTypeField,
+			String templateField,
+			String httpMethod,
+			String path,
+			List<Header> headers,
+			String meters,
+			List<String> uriVariables,
+			List<RequestParameter> requestParameters,
+			String body) {
+		// empty
+	}
+
+	/**
+	 * An interface method parameter.
+	 *
+	 * @param type the parameter type, for variable arity parameters it ends with {@code ...}
+	 * @param name the parameter name
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	record Parameter(String type, String name) {
+		// empty
+	}
+
+	/**
+	 * A static header.
+	 *
+	 * @param name the header name
+	 * @param value the header value
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	record Header(String name, String value) {
+		// empty
+	}
+
+	/**
+	 * A request parameter bound to an interface method parameter.
+	 *
+	 * @param name the request parameter name
+	 * @param parameterName the interface method parameter name
+	 *
+	 * @author Radu Sebastian LAZIN
+	 */
+	record RequestParameter(String name, String parameterName) {
+		// empty
+	}
+}
@@ -0,0 +1,556 @@
+package org.apiphany.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import org.apiphany.processor.ApiClientModel.Header;
+import org.apiphany.processor.ApiClientModel.Operation;
+import org.apiphany.processor.ApiClientModel.Parameter;
+import org.apiphany.processor.ApiClientModel.RequestParameter;
+import org.apiphany.processor.ApiClientModel.ReturnKind;
+
+/**
+ * Annotation processor that generates an {@code org.apiphany.ApiClient} implementation for every interface annotated
+ * with {@code org.apiphany.client.annotation.ApiInterface}. Everything that the fluent syntax resolves on each call or
+ * that the {@code ApiClient} resolves with reflection is resolved here at compile time: the generic response types,
+ * the static request parts and the binding of the method parameters to path variables, request parameters and body.
+ * <p>
+ * The annotations are matched by name so the processor path only needs this artifact. All the problems found in the
+ * interfaces are reported as compilation errors on the offending elements and no client is generated for them.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+@SupportedAnnotationTypes({
+		ApiClientProcessor.API_INTERFACE,
+		ApiClientProcessor.API_OPERATION,
+		ApiClientProcessor.PATH_VARIABLE,
+		ApiClientProcessor.REQUEST_PARAM,
+		ApiClientProcessor.BODY
+})
+public class ApiClientProcessor extends AbstractProcessor {
+
+	/**
+	 * The {@code ApiInterface} annotation name.
+	 */
+	static final String API_INTERFACE = "org.apiphany.client.annotation.ApiInterface";
+
+	/**
+	 * The {@code ApiOperation} annotation name.
+	 */
+	static final String API_OPERATION = "org.apiphany.client.annotation.ApiOperation";
+
+	/**
+	 * The {@code PathVariable} annotation name.
+	 */
+	static final String PATH_VARIABLE = "org.apiphany.client.annotation.PathVariable";
+
+	/**
+	 * The {@code RequestParam} annotation name.
+	 */
+	static final String REQUEST_PARAM = "org.apiphany.client.annotation.RequestParam";
+
+	/**
+	 * The {@code Body} annotation name.
+	 */
+	static final String BODY = "org.apiphany.client.annotation.Body";
+
+	/**
+	 * The {@code ApiResponse} class name.
+	 */
+	static final String API_RESPONSE = "org.apiphany.ApiResponse";
+
+	/**
+	 * The suffix of the default generated client name.
+	 */
+	static final String CLIENT_SUFFIX = "Client";
+
+	/**
+	 * The response type used for operations that return nothing, any response body can be converted to a string.
+	 */
+	static final String VOID_RESPONSE_TYPE = "java.lang.String";
+
+	/**
+	 * Default constructor.
+	 */
+	public ApiClientProcessor() {
+		// empty
+	}
+
+	/**
+	 * Returns the latest supported source version since the processor only relies on the stable parts of the language
+	 * model.
+	 *
+	 * @return the latest supported source version
+	 * @see AbstractProcessor#getSupportedSourceVersion()
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/**
+	 * Generates the API clients for the annotated interfaces.
+	 *
+	 * @param annotations the annotation types requested to be processed
+	 * @param roundEnvironment the environment for information about the current and prior round
+	 * @return true, the API client annotations are claimed by this processor
+	 * @see AbstractProcessor#process(Set, RoundEnvironment)
+	 */
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+		for (TypeElement annotation : annotations) {
+			if (!annotation.getQualifiedName().contentEquals(API_INTERFACE)) {
+				continue;
+			}
+			for (Element element : roundEnvironment.getElementsAnnotatedWith(annotation)) {
+				ApiClientModel model = readModel(element);
+				if (null != model) {
+					writeSource(model, element);
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Reads the client model from the annotated element.
+	 *
+	 * @param element the annotated element
+	 * @return the client model or {@code null} if the element is not a valid API interface
+	 */
+	private ApiClientModel readModel(final Element element) {
+		if (ElementKind.INTERFACE != element.getKind()) {
+			error(element, "@ApiInterface can only be used on interfaces");
+			return null;
+		}
+		TypeElement apiInterface = (TypeElement) element;
+		if (!apiInterface.getTypeParameters().isEmpty()) {
+			error(apiInterface, "@ApiInterface interfaces cannot be generic");
+			return null;
+		}
+		if (NestingKind.LOCAL == apiInterface.getNestingKind() || apiInterface.getModifiers().contains(Modifier.PRIVATE)) {
+			error(apiInterface, "@ApiInterface interfaces cannot be local or private");
+			return null;
+		}
+		String simpleName = stringValue(annotation(apiInterface, API_INTERFACE), "name");
+		if (simpleName.isEmpty()) {
+			simpleName = defaultName(apiInterface);
+		} else if (!SourceVersion.isName(simpleName) || simpleName.contains(".")) {
+			error(apiInterface, "Invalid generated client name: " + simpleName);
+			return null;
+		}
+		Set<String> fieldNames = new HashSet<>();
+		List<Operation> operations = new ArrayList<>();
+		boolean valid = true;
+		for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(apiInterface))) {
+			if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+				continue;
+			}
+			Operation operation = readOperation(method, fieldNames);
+			if (null == operation) {
+				valid = false;
+			} else {
+				operations.add(operation);
+			}
+		}
+		if (!valid) {
+			return null;
+		}
+		String packageName = processingEnv.getElementUtils().getPackageOf(apiInterface).getQualifiedName().toString();
+		boolean isPublic = apiInterface.getModifiers().contains(Modifier.PUBLIC);
+		return new ApiClientModel(packageName, simpleName, apiInterface.getQualifiedName().toString(), isPublic, operations);
+	}
+
+	/**
+	 * Reads an operation from an abstract interface method.
+	 *
+	 * @param method the interface method
+	 * @param fieldNames the field names already used in the generated client
+	 * @return the operation or {@code null} if the method is not a valid operation
+	 */
+	private Operation readOperation(final ExecutableElement method, final Set<String> fieldNames) {
+		AnnotationMirror apiOperation = annotation(method, API_OPERATION);
+		if (null == apiOperation) {
+			error(method, "Methods of @ApiInterface interfaces must be annotated with @ApiOperation");
+			return null;
+		}
+		if (!method.getTypeParameters().isEmpty()) {
+			error(method, "@ApiOperation methods cannot be generic");
+			return null;
+		}
+		boolean valid = true;
+
+		TypeMirror returnType = method.getReturnType();
+		ReturnKind returnKind = ReturnKind.BODY;
+		TypeMirror responseType = returnType;
+		if (TypeKind.VOID == returnType.getKind()) {
+			returnKind = ReturnKind.VOID;
+			responseType = null;
+		} else if (returnType.getKind().isPrimitive()) {
+			error(method, "@ApiOperation methods cannot return primitive types, use the wrapper type instead");
+			return null;
+		} else if (isApiResponse(returnType)) {
+			List<? extends TypeMirror> typeArguments = ((DeclaredType) returnType).getTypeArguments();
+			if (typeArguments.isEmpty()) {
+				error(method, "The ApiResponse return type must have a type argument");
+				return null;
+			}
+			returnKind = ReturnKind.RESPONSE;
+			responseType = typeArguments.getFirst();
+		}
+		if (null != responseType && !isResolvable(responseType)) {
+			error(method, "The response type cannot contain type variables or wildcards: " + responseType);
+			return null;
+		}
+
+		String path = stringValue(apiOperation, "path");
+		List<Header> headers = new ArrayList<>();
+		for (String header : stringValues(apiOperation, "headers")) {
+			int separator = header.indexOf(':');
+			String name = separator > 0 ? header.substring(0, separator).trim() : "";
+			if (name.isEmpty()) {
+				error(method, "Invalid header: '" + header + "', the expected format is 'Name: value'");
+				valid = false;
+			} else {
+				headers.add(new Header(name, header.substring(separator + 1).trim()));
+			}
+		}
+
+		List<Parameter> parameters = new ArrayList<>();
+		Map<String, String> pathVariables = new LinkedHashMap<>();
+		List<RequestParameter> requestParameters = new ArrayList<>();
+		String body = null;
+		List<? extends VariableElement> methodParameters = method.getParameters();
+		for (int i = 0; i < methodParameters.size(); ++i) {
+			VariableElement parameter = methodParameters.get(i);
+			String parameterName = parameter.getSimpleName().toString();
+			parameters.add(new Parameter(parameterType(parameter, method.isVarArgs() && i == methodParameters.size() - 1),
+					parameterName));
+
+			AnnotationMirror pathVariable = annotation(parameter, PATH_VARIABLE);
+			AnnotationMirror requestParam = annotation(parameter, REQUEST_PARAM);
+			AnnotationMirror bodyAnnotation = annotation(parameter, BODY);
+			int annotationCount = (null != pathVariable ? 1 : 0) + (null != requestParam ? 1 : 0) + (null != bodyAnnotation ? 1 : 0);
+			if (1 != annotationCount) {
+				error(parameter, "@ApiOperation parameters must be annotated with one of @PathVariable, @RequestParam or @Body");
+				valid = false;
+			} else if (null != pathVariable) {
+				String variable = nameValue(pathVariable, parameterName);
+				if (null != pathVariables.putIfAbsent(variable, parameterName)) {
+					error(parameter, "Duplicate path variable: " + variable);
+					valid = false;
+				}
+			} else if (null != requestParam) {
+				requestParameters.add(new RequestParameter(nameValue(requestParam, parameterName), parameterName));
+			} else if (null != body) {
+				error(parameter, "Only one parameter can be annotated with @Body");
+				valid = false;
+			} else {
+				body = parameterName;
+			}
+		}
+
+		List<String> uriVariables = new ArrayList<>();
+		List<String> templateVariables = templateVariables(path);
+		if (null == templateVariables) {
+			error(method, "Invalid path template: " + path);
+			return null;
+		}
+		for (String variable : templateVariables) {
+			String parameterName = pathVariables.get(variable);
+			if (null == parameterName) {
+				error(method, "No @PathVariable parameter found for the path variable: " + variable);
+				valid = false;
+			} else {
+				uriVariables.add(parameterName);
+			}
+		}
+		for (String variable : pathVariables.keySet()) {
+			if (!templateVariables.contains(variable)) {
+				error(method, "The path variable: " + variable + " is not used in the path template: " + path);
+				valid = false;
+			}
+		}
+		if (!valid) {
+			return null;
+		}
+
+		String methodName = method.getSimpleName().toString();
+		boolean isGeneric = null != responseType && !processingEnv.getTypeUtils().isSameType(responseType,
+				processingEnv.getTypeUtils().erasure(responseType));
+		String responseTypeField = isGeneric ? uniqueName(constantName(methodName) + "_TYPE", fieldNames) : null;
+		return new Operation(
+				methodName,
+				returnType.toString(),
+				returnKind,
+				parameters,
+				null != responseType ? responseType.toString() : VOID_RESPONSE_TYPE,
+				responseTypeField,
+				uniqueName(methodName + "Template", fieldNames),
+				enumValue(apiOperation, "method"),
+				path,
+				headers,
+				stringValue(apiOperation, "meters"),
+				uriVariables,
+				requestParameters,
+				body);
+	}
+
+	/**
+	 * Writes the source of the client.
+	 *
+	 * @param model the client model
+	 * @param element the annotated interface
+	 */
+	private void writeSource(final ApiClientModel model, final Element element) {
+		boolean generatedAvailable = null != processingEnv.getElementUtils().getTypeElement(ApiClientSourceWriter.GENERATED);
+		ApiClientSourceWriter sourceWriter = new ApiClientSourceWriter(model,
+				value -> processingEnv.getElementUtils().getConstantExpression(value), generatedAvailable);
+		try {
+			JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(model.qualifiedName(), element);
+			try (Writer writer = sourceFile.openWriter()) {
+				writer.write(sourceWriter.write());
+			}
+		} catch (IOException e) {
+			error(element, "Error writing " + model.qualifiedName() + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Returns the variable names in the order they appear in the path template, the same variable can appear multiple
+	 * times.
+	 *
+	 * @param path the path template
+	 * @return the variable names or {@code null} if the path template is malformed
+	 */
+	static List<String> templateVariables(final String path) {
+		List<String> variables = new ArrayList<>();
+		int start = 0;
+		while (true) {
+			int open = path.indexOf('{', start);
+			int close = path.indexOf('}', start);
+			if (-1 == open) {
+				return -1 == close ? variables : null;
+			}
+			int nextOpen = path.indexOf('{', open + 1);
+			if (close < open + 2 || (-1 != nextOpen && nextOpen < close)) {
+				return null;
+			}
+			variables.add(path.substring(open + 1, close));
+			start = close + 1;
+		}
+	}
+
+	/**
+	 * Returns the default generated client name: the interface name prefixed with the enclosing type names separated by
+	 * {@code _} and suffixed with {@link #CLIENT_SUFFIX}.
+	 *
+	 * @param apiInterface the API interface
+	 * @return the default generated client name
+	 */
+	private static String defaultName(final TypeElement apiInterface) {
+		StringBuilder name = new StringBuilder(apiInterface.getSimpleName());
+		for (Element enclosing = apiInterface.getEnclosingElement(); enclosing instanceof TypeElement;
+				enclosing = enclosing.getEnclosingElement()) {
+			name.insert(0, enclosing.getSimpleName() + "_");
+		}
+		return name.append(CLIENT_SUFFIX).toString();
+	}
+
+	/**
+	 * Returns the constant name for the given camel case method name, example: {@code getUsers} becomes
+	 * {@code GET_USERS}.
+	 *
+	 * @param methodName the method name
+	 * @return the constant name
+	 */
+	static String constantName(final String methodName) {
+		StringBuilder name = new StringBuilder(methodName.length() + 4);
+		for (int i = 0; i < methodName.length(); ++i) {
+			char c = methodName.charAt(i);
+			if (Character.isUpperCase(c) && i > 0) {
+				name.append('_');
+			}
+			name.append(Character.toUpperCase(c));
+		}
+		return name.toString();
+	}
+
+	/**
+	 * Returns the given name if it was not used yet, otherwise the name suffixed with the first number that makes it
+	 * unique. The returned name is added to the used names.
+	 *
+	 * @param name the name
+	 * @param usedNames the used names
+	 * @return a unique name
+	 */
+	static String uniqueName(final String name, final Set<String> usedNames) {
+		String uniqueName = name;
+		for (int i = 2; !usedNames.add(uniqueName); ++i) {
+			uniqueName = name + i;
+		}
+		return uniqueName;
+	}
+
+	/**
+	 * Returns the source form of the parameter type.
+	 *
+	 * @param parameter the parameter
+	 * @param varArgs flag indicating that the parameter is a variable arity parameter
+	 * @return the source form of the parameter type
+	 */
+	private static String parameterType(final VariableElement parameter, final boolean varArgs) {
+		TypeMirror type = parameter.asType();
+		if (varArgs && type instanceof ArrayType arrayType) {
+			return arrayType.getComponentType() + "...";
+		}
+		return type.toString();
+	}
+
+	/**
+	 * Returns true if the type is an {@code ApiResponse}.
+	 *
+	 * @param type the type
+	 * @return true if the type is an {@code ApiResponse}
+	 */
+	private static boolean isApiResponse(final TypeMirror type) {
+		return type instanceof DeclaredType declaredType
+				&& ((TypeElement) declaredType.asElement()).getQualifiedName().contentEquals(API_RESPONSE);
+	}
+
+	/**
+	 * Returns true if the type can be written as a type argument of a constant, meaning it has no type variables and no
+	 * wildcards.
+	 *
+	 * @param type the type
+	 * @return true if the type can be written as a type argument of a constant
+	 */
+	private static boolean isResolvable(final TypeMirror type) {
+		return switch (type.getKind()) {
+			case TYPEVAR, WILDCARD, INTERSECTION, UNION -> false;
+			case ARRAY -> isResolvable(((ArrayType) type).getComponentType());
+			case DECLARED -> ((DeclaredType) type).getTypeArguments().stream().allMatch(ApiClientProcessor::isResolvable);
+			default -> true;
+		};
+	}
+
+	/**
+	 * Returns the annotation with the given name present on the element.
+	 *
+	 * @param element the element
+	 * @param annotationName the annotation name
+	 * @return the annotation or {@code null} if the annotation is not present
+	 */
+	private static AnnotationMirror annotation(final Element element, final String annotationName) {
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+				return annotation;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the value of the annotation attribute, including the default value if it is not set.
+	 *
+	 * @param annotation the annotation
+	 * @param attribute the attribute name
+	 * @return the attribute value
+	 */
+	private Object value(final AnnotationMirror annotation, final String attribute) {
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils()
+				.getElementValuesWithDefaults(annotation).entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+				return entry.getValue().getValue();
+			}
+		}
+		throw new IllegalArgumentException("Attribute " + attribute + " not found in " + annotation);
+	}
+
+	/**
+	 * Returns the string value of the annotation attribute.
+	 *
+	 * @param annotation the annotation
+	 * @param attribute the attribute name
+	 * @return the string value
+	 */
+	private String stringValue(final AnnotationMirror annotation, final String attribute) {
+		return (String) value(annotation, attribute);
+	}
+
+	/**
+	 * Returns the name given by the {@code value} attribute of the annotation or the default name if it is empty.
+	 *
+	 * @param annotation the annotation
+	 * @param defaultName the default name
+	 * @return the name
+	 */
+	private String nameValue(final AnnotationMirror annotation, final String defaultName) {
+		String name = stringValue(annotation, "value");
+		return name.isEmpty() ? defaultName : name;
+	}
+
+	/**
+	 * Returns the enum constant name of the annotation attribute.
+	 *
+	 * @param annotation the annotation
+	 * @param attribute the attribute name
+	 * @return the enum constant name
+	 */
+	private String enumValue(final AnnotationMirror annotation, final String attribute) {
+		return ((VariableElement) value(annotation, attribute)).getSimpleName().toString();
+	}
+
+	/**
+	 * Returns the string array values of the annotation attribute.
+	 *
+	 * @param annotation the annotation
+	 * @param attribute the attribute name
+	 * @return the string array values
+	 */
+	private List<String> stringValues(final AnnotationMirror annotation, final String attribute) {
+		List<?> values = (List<?>) value(annotation, attribute);
+		List<String> result = new ArrayList<>(values.size());
+		for (Object element : values) {
+			result.add((String) ((AnnotationValue) element).getValue());
+		}
+		return result;
+	}
+
+	/**
+	 * Reports an error on the given element.
+	 *
+	 * @param element the element
+	 * @param message the error message
+	 */
+	private void error(final Element element, final String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+}
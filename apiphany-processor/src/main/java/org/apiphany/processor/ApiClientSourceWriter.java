@@ -0,0 +1,270 @@
+package org.apiphany.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import javax.lang.model.util.Elements;
+
+import org.apiphany.processor.ApiClientModel.Header;
+import org.apiphany.processor.ApiClientModel.Operation;
+import org.apiphany.processor.ApiClientModel.Parameter;
+import org.apiphany.processor.ApiClientModel.RequestParameter;
+
+/**
+ * Writes the Java source of an API client from its {@link ApiClientModel}. All the referenced types are written with
+ * their fully qualified names so the generated source has no imports that could clash with the types of the
+ * interface.
+ * <p>
+ * The generated client:
+ * <ul>
+ * <li>declares a {@code GenericClass} constant for every generic response type, resolved when the class is
+ * initialized</li>
+ * <li>declares an {@code ApiRequestTemplate} field for every operation, built once when the client is created, the
+ * field initializers call {@code ApiClient.requestTemplate} which only depends on the state initialized by the
+ * {@code ApiClient} constructor</li>
+ * <li>implements every operation by binding the arguments to its template and retrieving the response</li>
+ * </ul>
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class ApiClientSourceWriter {
+
+	/**
+	 * The {@code ApiClient} class name.
+	 */
+	static final String API_CLIENT = "org.apiphany.ApiClient";
+
+	/**
+	 * The {@code ApiRequestTemplate} class name.
+	 */
+	static final String API_REQUEST_TEMPLATE = "org.apiphany.ApiRequestTemplate";
+
+	/**
+	 * The {@code GenericClass} class name.
+	 */
+	static final String GENERIC_CLASS = "org.morphix.reflection.GenericClass";
+
+	/**
+	 * The {@code Generated} annotation class name.
+	 */
+	static final String GENERATED = "javax.annotation.processing.Generated";
+
+	/**
+	 * The name of the request parameters local variable, suffixed when it clashes with a method parameter name.
+	 */
+	private static final String PARAMS = "params";
+
+	/**
+	 * The model to write.
+	 */
+	private final ApiClientModel model;
+
+	/**
+	 * Converts strings to Java string literals.
+	 */
+	private final Function<String, String> literals;
+
+	/**
+	 * Flag indicating that the {@link #GENERATED} annotation is available.
+	 */
+	private final boolean generatedAvailable;
+
+	/**
+	 * The source being written.
+	 */
+	private final StringBuilder source = new StringBuilder();
+
+	/**
+	 * Constructs the writer.
+	 *
+	 * @param model the model to write
+	 * @param literals function converting strings to Java string literals, see
+	 * {@link Elements#getConstantExpression(Object)}
+	 * @param generatedAvailable flag indicating that the {@link #GENERATED} annotation is available
+	 */
+	ApiClientSourceWriter(final ApiClientModel model, final Function<String, String> literals, final boolean generatedAvailable) {
+		this.model = model;
+		this.literals = literals;
+		this.generatedAvailable = generatedAvailable;
+	}
+
+	/**
+	 * Writes the source of the client.
+	 *
+	 * @return the Java source of the client
+	 */
+	String write() {
+		source.setLength(0);
+		if (!model.packageName().isEmpty()) {
+			line(0, "package " + model.packageName() + ";");
+			line(0, "");
+		}
+		line(0, "/**");
+		line(0, " * {@link " + API_CLIENT + "} implementation of {@link " + model.interfaceName() + "}.");
+		line(0, " */");
+		if (generatedAvailable) {
+			line(0, "@" + GENERATED + "(" + literals.apply(ApiClientProcessor.class.getName()) + ")");
+		}
+		line(0, "@SuppressWarnings(\"this-escape\")");
+		line(0, (model.isPublic() ? "public " : "") + "class " + model.simpleName() + " extends " + API_CLIENT
+				+ " implements " + model.interfaceName() + " {");
+		for (Operation operation : model.operations()) {
+			writeResponseType(operation);
+		}
+		for (Operation operation : model.operations()) {
+			writeTemplate(operation);
+		}
+		writeConstructor("Constructs the client with an exchange client managed by the caller.",
+				"org.apiphany.client.ExchangeClient exchangeClient", "exchangeClient", "the exchange client");
+		writeConstructor("Constructs the client with an exchange client with life cycle information.",
+				"org.morphix.lang.resource.ScopedResource<org.apiphany.client.ExchangeClient> clientResource",
+				"clientResource", "the scoped exchange client");
+		writeConstructor("Constructs the client with exchange clients built and managed by the client.",
+				"org.apiphany.client.ExchangeClientBuilder... exchangeClientBuilders",
+				"exchangeClientBuilders", "the exchange client builders");
+		for (Operation operation : model.operations()) {
+			writeMethod(operation);
+		}
+		line(0, "}");
+		return source.toString();
+	}
+
+	/**
+	 * Writes the generic class constant of the operation response type if the response type is generic.
+	 *
+	 * @param operation the operation
+	 */
+	private void writeResponseType(final Operation operation) {
+		if (null == operation.responseTypeField()) {
+			return;
+		}
+		line(0, "");
+		line(1, "private static final " + GENERIC_CLASS + "<" + operation.responseType() + "> " + operation.responseTypeField()
+				+ " = new " + GENERIC_CLASS + "<>() {");
+		line(2, "// empty");
+		line(1, "};");
+	}
+
+	/**
+	 * Writes the request template field of the operation.
+	 *
+	 * @param operation the operation
+	 */
+	private void writeTemplate(final Operation operation) {
+		String responseType = null != operation.responseTypeField()
+				? operation.responseTypeField()
+				: operation.responseType() + ".class";
+		line(0, "");
+		line(1, "private final " + API_REQUEST_TEMPLATE + "<" + operation.responseType() + "> " + operation.templateField()
+				+ " = requestTemplate(" + API_REQUEST_TEMPLATE + ".builder(" + responseType + "), "
+				+ literals.apply(operation.path()) + ")");
+		line(3, ".method(org.apiphany.http.HttpMethod." + operation.httpMethod() + ")");
+		for (Header header : operation.headers()) {
+			line(3, ".header(" + literals.apply(header.name()) + ", " + literals.apply(header.value()) + ")");
+		}
+		if (!operation.meters().isEmpty()) {
+			line(3, ".meters(org.apiphany.meters.BasicMeters.of(" + literals.apply(operation.meters()) + "))");
+		}
+		line(3, ".build();");
+	}
+
+	/**
+	 * Writes a constructor with a base URL and the given exchange client parameter.
+	 *
+	 * @param description the constructor description
+	 * @param parameter the exchange client parameter declaration
+	 * @param parameterName the exchange client parameter name
+	 * @param parameterDescription the exchange client parameter description
+	 */
+	private void writeConstructor(final String description, final String parameter, final String parameterName,
+			final String parameterDescription) {
+		line(0, "");
+		line(1, "/**");
+		line(1, " * " + description);
+		line(1, " *");
+		line(1, " * @param baseUrl base URL to which all paths will be appended");
+		line(1, " * @param " + parameterName + " " + parameterDescription);
+		line(1, " */");
+		line(1, "public " + model.simpleName() + "(final java.lang.String baseUrl, final " + parameter + ") {");
+		line(2, "super(baseUrl, " + parameterName + ");");
+		line(1, "}");
+	}
+
+	/**
+	 * Writes the implementation of the operation interface method.
+	 *
+	 * @param operation the operation
+	 */
+	private void writeMethod(final Operation operation) {
+		List<String> parameters = new ArrayList<>();
+		List<String> parameterNames = new ArrayList<>();
+		for (Parameter parameter : operation.parameters()) {
+			parameters.add("final " + parameter.type() + " " + parameter.name());
+			parameterNames.add(parameter.name());
+		}
+		line(0, "");
+		line(1, "@Override");
+		line(1, "public " + operation.returnType() + " " + operation.methodName() + "(" + String.join(", ", parameters) + ") {");
+
+		String params = "null";
+		if (!operation.requestParameters().isEmpty()) {
+			params = PARAMS;
+			for (int i = 2; parameterNames.contains(params); ++i) {
+				params = PARAMS + i;
+			}
+			line(2, "java.util.Map<java.lang.String, java.util.List<java.lang.String>> " + params
+					+ " = org.apiphany.RequestParameters.of(");
+			List<RequestParameter> requestParameters = operation.requestParameters();
+			for (int i = 0; i < requestParameters.size(); ++i) {
+				RequestParameter requestParameter = requestParameters.get(i);
+				line(4, "org.apiphany.ParameterFunction.parameter(" + literals.apply(requestParameter.name()) + ", "
+						+ requestParameter.parameterName() + ")" + (i < requestParameters.size() - 1 ? "," : ");"));
+			}
+		}
+		String request = "this." + operation.templateField() + "." + bind(operation, params);
+		switch (operation.returnKind()) {
+			case BODY -> line(2, "return retrieve(" + request + ").orNull();");
+			case RESPONSE -> line(2, "return retrieve(" + request + ");");
+			case VOID -> line(2, "retrieve(" + request + ");");
+		}
+		line(1, "}");
+	}
+
+	/**
+	 * Returns the template bind method call for the operation.
+	 *
+	 * @param operation the operation
+	 * @param params the request parameters expression
+	 * @return the template bind method call
+	 */
+	private static String bind(final Operation operation, final String params) {
+		List<String> arguments = new ArrayList<>();
+		String method;
+		if (null != operation.body()) {
+			method = "newRequest";
+			arguments.add(operation.body());
+			arguments.add(params);
+		} else if (!operation.requestParameters().isEmpty()) {
+			method = "bindParams";
+			arguments.add(params);
+		} else {
+			method = "bind";
+		}
+		arguments.addAll(operation.uriVariables());
+		return method + "(" + String.join(", ", arguments) + ")";
+	}
+
+	/**
+	 * Appends an indented line to the source.
+	 *
+	 * @param indent the number of tabs
+	 * @param text the line text
+	 */
+	private void line(final int indent, final String text) {
+		if (!text.isEmpty()) {
+			source.append("\t".repeat(indent)).append(text);
+		}
+		source.append('\n');
+	}
+}
@@ -0,0 +1,331 @@
+package org.apiphany.processor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.apiphany.ApiRequest;
+import org.apiphany.ApiResponse;
+import org.apiphany.client.ExchangeClient;
+import org.apiphany.http.HttpMethod;
+import org.apiphany.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.morphix.lang.JavaObjects;
+
+/**
+ * Test class for {@link ApiClientProcessor}.
+ *
+ * @author Radu Sebastian LAZIN
+ */
+class ApiClientProcessorTest {
+
+	private static final String BASE_URL = "http://localhost/api";
+	private static final String ID = "someId";
+	private static final String BODY = "someBody";
+
+	private static final String API_INTERFACE = "test.UserApi";
+	private static final String API_CLIENT = "test.UserApiClient";
+
+	private static final String API_INTERFACE_SOURCE = """
+			package test;
+
+			import java.util.List;
+
+			import org.apiphany.ApiResponse;
+			import org.apiphany.client.annotation.ApiInterface;
+			import org.apiphany.client.annotation.ApiOperation;
+			import org.apiphany.client.annotation.Body;
+			import org.apiphany.client.annotation.PathVariable;
+			import org.apiphany.client.annotation.RequestParam;
+			import org.apiphany.http.HttpMethod;
+
+			@ApiInterface
+			public interface UserApi {
+
+				@ApiOperation(path = "/users/{id}", headers = "Accept: application/json", meters = "users.get")
+				String getUser(@PathVariable String id);
+
+				@ApiOperation(path = "/users")
+				List<String> getUsers(@RequestParam("page") int page, @RequestParam("tag") List<String> tags);
+
+				@ApiOperation(method = HttpMethod.POST, path = "/users/{id}")
+				ApiResponse<String> updateUser(@PathVariable("id") String userId, @Body String user);
+
+				@ApiOperation(method = HttpMethod.DELETE, path = "/users/{id}")
+				void deleteUser(@PathVariable String id);
+
+				default String getUserOrDefault(final String id) {
+					String user = getUser(id);
+					return null != user ? user : "";
+				}
+			}
+			""";
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	void shouldGenerateApiClientForAnnotatedInterface() throws Exception {
+		Compilation compilation = compile(API_INTERFACE, API_INTERFACE_SOURCE);
+
+		assertThat(compilation.errors(), empty());
+
+		String source = compilation.generatedSource(API_CLIENT);
+
+		assertThat(source, containsString("public class UserApiClient extends org.apiphany.ApiClient implements test.UserApi {"));
+		assertThat(source, containsString("private static final org.morphix.reflection.GenericClass<java.util.List<java.lang.String>> "
+				+ "GET_USERS_TYPE = new org.morphix.reflection.GenericClass<>() {"));
+		assertThat(source, containsString(".header(\"Accept\", \"application/json\")"));
+		assertThat(source, containsString(".meters(org.apiphany.meters.BasicMeters.of(\"users.get\"))"));
+		assertThat(source, containsString("return retrieve(this.getUserTemplate.bind(id)).orNull();"));
+		assertThat(source, containsString("return retrieve(this.updateUserTemplate.newRequest(user, null, userId));"));
+		assertThat(source, containsString("retrieve(this.deleteUserTemplate.bind(id));"));
+	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void shouldCallTheExchangeClientWithTheBoundRequests() throws Exception {
+		Compilation compilation = compile(API_INTERFACE, API_INTERFACE_SOURCE);
+		CapturingExchangeClient exchangeClient = new CapturingExchangeClient();
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { compilation.classes().toUri().toURL() },
+				getClass().getClassLoader())) {
+			Class<?> clientClass = classLoader.loadClass(API_CLIENT);
+			Object client = clientClass.getConstructor(String.class, ExchangeClient.class).newInstance(BASE_URL, exchangeClient);
+
+			Object user = clientClass.getMethod("getUser", String.class).invoke(client, ID);
+
+			assertThat(user, equalTo(BODY));
+			assertThat(exchangeClient.request.getMethod(), equalTo(HttpMethod.GET));
+			assertThat(exchangeClient.request.getUrl(), equalTo(BASE_URL + "/users/" + ID));
+			assertThat(exchangeClient.request.getHeaders().get("Accept"), contains("application/json"));
+
+			clientClass.getMethod("getUsers", int.class, List.class).invoke(client, 2, List.of("a", "b"));
+
+			assertThat(exchangeClient.request.getUrl(), equalTo(BASE_URL + "/users"));
+			assertThat(exchangeClient.request.getParams().get("page"), contains("2"));
+			assertThat(exchangeClient.request.getParams().get("tag"), contains("a", "b"));
+
+			clientClass.getMethod("updateUser", String.class, String.class).invoke(client, ID, BODY);
+
+			assertThat(exchangeClient.request.getMethod(), equalTo(HttpMethod.POST));
+			assertThat(exchangeClient.request.getUrl(), equalTo(BASE_URL + "/users/" + ID));
+			assertThat(exchangeClient.request.getBody(), equalTo(BODY));
+		}
+	}
+
+	@ParameterizedTest
+	@MethodSource("provideInvalidOperations")
+	void shouldReportErrorsForInvalidOperations(final String operation, final String expectedError) throws Exception {
+		String source = """
+				package test;
+
+				import java.util.List;
+
+				import org.apiphany.ApiResponse;
+				import org.apiphany.client.annotation.*;
+
+				@ApiInterface
+				public interface UserApi {
+
+					%s
+				}
+				""".formatted(operation);
+
+		Compilation compilation = compile(API_INTERFACE, source);
+
+		assertThat(compilation.errors(), hasItem(expectedError));
+		assertFalse(Files.exists(compilation.generated().resolve("test/UserApiClient.java")));
+	}
+
+	private static Stream<Arguments> provideInvalidOperations() {
+		return Stream.of(
+				Arguments.of("String getUser();",
+						"Methods of @ApiInterface interfaces must be annotated with @ApiOperation"),
+				Arguments.of("@ApiOperation(path = \"/users\") int count();",
+						"@ApiOperation methods cannot return primitive types, use the wrapper type instead"),
+				Arguments.of("@ApiOperation(path = \"/users\") <T> T getUser();",
+						"@ApiOperation methods cannot be generic"),
+				Arguments.of("@ApiOperation(path = \"/users\") List<? extends String> getUsers();",
+						"The response type cannot contain type variables or wildcards: java.util.List<? extends java.lang.String>"),
+				Arguments.of("@SuppressWarnings(\"rawtypes\") @ApiOperation(path = \"/users\") ApiResponse getUsers();",
+						"The ApiResponse return type must have a type argument"),
+				Arguments.of("@ApiOperation(path = \"/users\", headers = \"Accept\") String getUsers();",
+						"Invalid header: 'Accept', the expected format is 'Name: value'"),
+				Arguments.of("@ApiOperation(path = \"/users/{id\") String getUser(@PathVariable String id);",
+						"Invalid path template: /users/{id"),
+				Arguments.of("@ApiOperation(path = \"/users/{id}\") String getUser(@PathVariable String userId);",
+						"No @PathVariable parameter found for the path variable: id"),
+				Arguments.of("@ApiOperation(path = \"/users\") String getUser(@PathVariable String id);",
+						"The path variable: id is not used in the path template: /users"),
+				Arguments.of("@ApiOperation(path = \"/users/{id}\") String getUser(@PathVariable String id, @PathVariable(\"id\") String other);",
+						"Duplicate path variable: id"),
+				Arguments.of("@ApiOperation(path = \"/users\") String getUser(String id);",
+						"@ApiOperation parameters must be annotated with one of @PathVariable, @RequestParam or @Body"),
+				Arguments.of("@ApiOperation(path = \"/users\") String addUser(@Body String user, @Body String other);",
+						"Only one parameter can be annotated with @Body"));
+	}
+
+	@Test
+	void shouldReportErrorWhenAnnotatingClasses() throws Exception {
+		String source = """
+				package test;
+
+				@org.apiphany.client.annotation.ApiInterface
+				public class UserApi {
+					// empty
+				}
+				""";
+
+		Compilation compilation = compile(API_INTERFACE, source);
+
+		assertThat(compilation.errors(), contains("@ApiInterface can only be used on interfaces"));
+	}
+
+	@Test
+	void shouldUseTheGivenNameAndTheEnclosingTypeNames() throws Exception {
+		String source = """
+				package test;
+
+				import org.apiphany.client.annotation.ApiInterface;
+				import org.apiphany.client.annotation.ApiOperation;
+
+				public class Apis {
+
+					@ApiInterface(name = "CustomClient")
+					public interface UserApi {
+
+						@ApiOperation(path = "/users")
+						String getUsers();
+					}
+
+					@ApiInterface
+					interface OrderApi {
+
+						@ApiOperation(path = "/orders")
+						String getOrders();
+					}
+				}
+				""";
+
+		Compilation compilation = compile("test.Apis", source);
+
+		assertThat(compilation.errors(), empty());
+		assertThat(compilation.generatedSource("test.CustomClient"),
+				containsString("public class CustomClient extends org.apiphany.ApiClient implements test.Apis.UserApi {"));
+		assertThat(compilation.generatedSource("test.Apis_OrderApiClient"),
+				containsString("\nclass Apis_OrderApiClient extends org.apiphany.ApiClient implements test.Apis.OrderApi {"));
+	}
+
+	@Test
+	void shouldReturnTheTemplateVariablesInOrder() {
+		assertThat(ApiClientProcessor.templateVariables("/users/{id}/roles/{role}/{id}"), contains("id", "role", "id"));
+		assertThat(ApiClientProcessor.templateVariables("/users"), empty());
+	}
+
+	@Test
+	void shouldReturnNullForMalformedTemplates() {
+		assertThat(ApiClientProcessor.templateVariables("/users/{id"), nullValue());
+		assertThat(ApiClientProcessor.templateVariables("/users/id}"), nullValue());
+		assertThat(ApiClientProcessor.templateVariables("/users/{}"), nullValue());
+		assertThat(ApiClientProcessor.templateVariables("/users/{{id}}"), nullValue());
+	}
+
+	@Test
+	void shouldBuildConstantNamesFromMethodNames() {
+		assertThat(ApiClientProcessor.constantName("getUsers"), equalTo("GET_USERS"));
+		assertThat(ApiClientProcessor.constantName("list"), equalTo("LIST"));
+	}
+
+	@Test
+	void shouldBuildUniqueNames() {
+		Set<String> usedNames = new HashSet<>();
+
+		assertThat(ApiClientProcessor.uniqueName("name", usedNames), equalTo("name"));
+		assertThat(ApiClientProcessor.uniqueName("name", usedNames), equalTo("name2"));
+		assertThat(ApiClientProcessor.uniqueName("name", usedNames), equalTo("name3"));
+		assertTrue(usedNames.containsAll(List.of("name", "name2", "name3")));
+	}
+
+	private Compilation compile(final String className, final String source) throws IOException {
+		Path sources = directory.resolve("sources");
+		Path generated = Files.createDirectories(directory.resolve("generated"));
+		Path classes = Files.createDirectories(directory.resolve("classes"));
+		Path sourceFile = sources.resolve(className.replace('.', '/') + ".java");
+		Files.createDirectories(sourceFile.getParent());
+		Files.writeString(sourceFile, source);
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+			List<String> options = List.of(
+					"-classpath", System.getProperty("java.class.path"),
+					"-d", classes.toString(),
+					"-s", generated.toString());
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+					fileManager.getJavaFileObjects(sourceFile));
+			task.setProcessors(List.of(new ApiClientProcessor()));
+			task.call();
+		}
+		List<String> errors = diagnostics.getDiagnostics().stream()
+				.filter(diagnostic -> Diagnostic.Kind.ERROR == diagnostic.getKind())
+				.map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+				.toList();
+		return new Compilation(errors, generated, classes);
+	}
+
+	record Compilation(List<String> errors, Path generated, Path classes) {
+
+		String generatedSource(final String className) throws IOException {
+			return Files.readString(generated.resolve(className.replace('.', '/') + ".java"));
+		}
+	}
+
+	static class CapturingExchangeClient implements ExchangeClient {
+
+		ApiRequest<?> request;
+
+		@Override
+		public <T, U> ApiResponse<U> exchange(final ApiRequest<T> apiRequest) {
+			this.request = apiRequest;
+			return ApiResponse.create(JavaObjects.<U>cast(BODY))
+					.status(HttpStatus.OK)
+					.exchangeClient(this)
+					.build();
+		}
+
+		@Override
+		public void close() {
+			// empty
+		}
+	}
+}
@@ -159,6 +159,7 @@ public abstract class AbstractSpringExchangeClient extends AbstractHttpExchangeC
 			case InputStreamSupplier inputStreamSupplier -> SpringHttpSupport.createHttpEntity(inputStreamSupplier.get(), headers);
 			case Supplier<?> supplier -> createHttpEntity(apiRequest, JavaObjects.cast(supplier.get()), headers);
 			case Object obj when isContentJson(apiRequest) -> SpringHttpSupport.createHttpEntity(JsonBuilder.toJson(obj), headers);
+			case Object obj when isContentDataFormat(apiRequest) -> SpringHttpSupport.createHttpEntity(toDataFormatBytes(apiRequest, obj), headers);
 			default -> SpringHttpSupport.createHttpEntity(Strings.safeToString(body), headers);
 		};
 		return JavaObjects.cast(httpEntity);
@@ -12,6 +12,7 @@ import org.apiphany.client.ContentConverter;
 import org.apiphany.client.ExchangeClientBuilder;
 import org.apiphany.client.http.JavaNetHttpExchangeClient;
 import org.apiphany.client.http.StringHttpContentConverter;
+import org.apiphany.json.builtin.BuiltInJsonHttpContentConverter;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -23,26 +24,28 @@ class JavaNetHttpExchangeClientConvertersTest {
 
 	@Test
 	@SuppressWarnings("resource")
-	void shouldNotHaveAnyJsonConverterRegisteredWhenNoJsonLibraryIsPresent() throws Exception {
+	void shouldRegisterTheBuiltInJsonConverterWhenNoJsonLibraryIsPresent() throws Exception {
 		List<ContentConverter<?>> converters;
 		try (ApiClient client = ApiClient.of(ApiClient.EMPTY_BASE_URL, ExchangeClientBuilder.create().withDefaultClient())) {
 			converters = client.client().getExchangeClient(JavaNetHttpExchangeClient.class).getContentConverters();
 		}
 
-		assertThat(converters, hasSize(1));
+		assertThat(converters, hasSize(2));
 		assertThat(converters.getFirst(), is(instanceOf(StringHttpContentConverter.class)));
+		assertThat(converters.getLast(), is(instanceOf(BuiltInJsonHttpContentConverter.class)));
 	}
 
 	@Test
 	@SuppressWarnings("resource")
-	void shouldRegisterJackson2ConverterWhenJackson2IsPresentWithTestClient() throws Exception {
+	void shouldRegisterTheBuiltInJsonConverterWhenNoJsonLibraryIsPresentWithTestClient() throws Exception {
 		List<ContentConverter<?>> converters;
 		try (TestClient client = new TestClient()) {
 			converters = client.client().getExchangeClient(JavaNetHttpExchangeClient.class).getContentConverters();
 		}
 
-		assertThat(converters, hasSize(1));
+		assertThat(converters, hasSize(2));
 		assertThat(converters.getFirst(), is(instanceOf(StringHttpContentConverter.class)));
+		assertThat(converters.getLast(), is(instanceOf(BuiltInJsonHttpContentConverter.class)));
 	}
 
 	static class TestClient extends ApiClient {
@@ -1,10 +1,16 @@
 package org.apiphany.tests.json;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.util.List;
+
 import org.apiphany.json.JsonBuilder;
+import org.apiphany.json.builtin.BuiltInJsonBuilder;
 import org.junit.jupiter.api.Test;
+import org.morphix.reflection.GenericClass;
 
 /**
  * Tests for {@link JsonBuilder}.
@@ -32,13 +38,33 @@ class JsonBuilderTest {
 		}
 	}
 
+	record TestRecord(String name, int value) {
+		// empty
+	}
+
+	@Test
+	void shouldUseTheBuiltInJsonBuilder() {
+		assertThat(JsonBuilder.runtime(), is(instanceOf(BuiltInJsonBuilder.class)));
+	}
+
 	@Test
-	void shouldCallToString() {
+	void shouldSerializeWithTheBuiltInJsonBuilder() {
 		TestDto dto = new TestDto("example", 42);
-		String expectedJson = "{ \"identity\":\"" + dto.getClass().getName() + "@" + Integer.toHexString(dto.hashCode()) + "\" }";
+		String expectedJson = JsonBuilder.runtime().eol() + "{\"name\":\"example\",\"value\":42}";
 
 		String json = JsonBuilder.toJson(dto);
 
 		assertThat(json, equalTo(expectedJson));
 	}
+
+	@Test
+	void shouldDeserializeWithTheBuiltInJsonBuilder() {
+		String json = "[{\"name\":\"example\",\"value\":42}]";
+
+		List<TestRecord> result = JsonBuilder.fromJson(json, new GenericClass<List<TestRecord>>() {
+			// empty
+		});
+
+		assertThat(result, equalTo(List.of(new TestRecord("example", 42))));
+	}
 }